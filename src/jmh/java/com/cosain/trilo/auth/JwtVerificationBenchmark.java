@@ -0,0 +1,65 @@
+package com.cosain.trilo.auth;
+
+import com.cosain.trilo.auth.application.token.UserPayload;
+import com.cosain.trilo.auth.infra.token.JwtProviderImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증이 필요한 요청 1건당 접근 토큰 검증 비용 비교
+ * <ul>
+ *     <li>legacy : 기존 방식 - 인터셉터/ArgumentResolver 에서 매번 파서를 새로 만들어 2번 파싱</li>
+ *     <li>parseOnce : 요청당 1번만 파싱 (검증 캐시 비활성화)</li>
+ *     <li>parseOnceWithCache : 요청당 1번 + 최근 검증된 토큰 캐시 적중</li>
+ * </ul>
+ * 실행 : ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET_KEY = "K".repeat(32);
+    private static final long ACCESS_TOKEN_EXPIRY = 60 * 60 * 1000L;
+
+    private Key key;
+    private String authorizationHeader;
+    private String token;
+    private JwtProviderImpl parseOnceProvider;
+    private JwtProviderImpl cachedProvider;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+        parseOnceProvider = new JwtProviderImpl(ACCESS_TOKEN_EXPIRY, ACCESS_TOKEN_EXPIRY, SECRET_KEY, 0);
+        cachedProvider = new JwtProviderImpl(ACCESS_TOKEN_EXPIRY, ACCESS_TOKEN_EXPIRY, SECRET_KEY, 10_000);
+        token = cachedProvider.createAccessToken(1L);
+        authorizationHeader = "Bearer " + token;
+        cachedProvider.verifyAccessToken(authorizationHeader);
+    }
+
+    @Benchmark
+    public UserPayload legacy() {
+        Claims validated = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        if (!"AccessToken".equals(validated.getSubject())) {
+            throw new IllegalStateException();
+        }
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return new UserPayload(claims.get("id", Long.class));
+    }
+
+    @Benchmark
+    public UserPayload parseOnce() {
+        return parseOnceProvider.verifyAccessToken(authorizationHeader);
+    }
+
+    @Benchmark
+    public UserPayload parseOnceWithCache() {
+        return cachedProvider.verifyAccessToken(authorizationHeader);
+    }
+}
@@ -0,0 +1,152 @@
+package com.cosain.trilo.common.logging.query;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 준비된 쿼리 1건(파라미터 바인딩 + 실행 + 10행 읽기)당 JDBC 계측 비용 비교 (H2 메모리 DB)
+ * <ul>
+ *     <li>raw : 계측 없음</li>
+ *     <li>legacyProxy : 기존 방식 - Connection/PreparedStatement 를 리플렉션 프록시로 감싸고, ThreadLocal&lt;Integer&gt; 로 쿼리 수만 셈</li>
+ *     <li>instrumented : 위임 래퍼 - 쿼리 수, 실행 시간, 읽은 행 수, 가장 느린 쿼리를 기본형 필드에 기록</li>
+ * </ul>
+ * 할당량까지 보려면 gc 프로파일러를 켜고 실행 : ./gradlew jmh (jmh { profilers = ['gc'] })
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JdbcInstrumentationBenchmark {
+
+    private static final String SQL = "SELECT id, name FROM bench WHERE id > ? ORDER BY id LIMIT 10";
+
+    private Connection connection;
+    private PreparedStatement raw;
+    private PreparedStatement legacyProxy;
+    private PreparedStatement instrumented;
+    private QueryCounter queryCounter;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:jdbc-instrumentation-benchmark;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS bench (id BIGINT PRIMARY KEY, name VARCHAR(20))");
+            statement.execute("DELETE FROM bench");
+            for (int i = 1; i <= 100; i++) {
+                statement.execute("INSERT INTO bench VALUES (" + i + ", 'name" + i + "')");
+            }
+        }
+        raw = connection.prepareStatement(SQL);
+
+        Connection legacyConnection = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class[]{Connection.class},
+                new LegacyConnectionProxyHandler(connection, new LegacyQueryCounter()));
+        legacyProxy = legacyConnection.prepareStatement(SQL);
+
+        queryCounter = new QueryCounter();
+        instrumented = new InstrumentedConnection(connection, queryCounter).prepareStatement(SQL);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void raw(Blackhole blackhole) throws SQLException {
+        executeAndRead(raw, blackhole);
+    }
+
+    @Benchmark
+    public void legacyProxy(Blackhole blackhole) throws SQLException {
+        executeAndRead(legacyProxy, blackhole);
+    }
+
+    @Benchmark
+    public void instrumented(Blackhole blackhole) throws SQLException {
+        executeAndRead(instrumented, blackhole);
+        // 요청이 끝날 때마다 초기화하는 것과 같게
+        queryCounter.resetCount();
+    }
+
+    private static void executeAndRead(PreparedStatement preparedStatement, Blackhole blackhole) throws SQLException {
+        preparedStatement.setLong(1, 40L);
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getLong(1));
+                blackhole.consume(resultSet.getString(2));
+            }
+        }
+    }
+
+    /**
+     * 기존 QueryCounter : 쿼리마다 Integer 를 박싱
+     */
+    static class LegacyQueryCounter {
+
+        private final ThreadLocal<Integer> count = ThreadLocal.withInitial(() -> 0);
+
+        void increaseCount() {
+            count.set(count.get() + 1);
+        }
+    }
+
+    /**
+     * 기존 ConnectionProxyHandler
+     */
+    static class LegacyConnectionProxyHandler implements InvocationHandler {
+
+        private final Connection connection;
+        private final LegacyQueryCounter queryCounter;
+
+        LegacyConnectionProxyHandler(Connection connection, LegacyQueryCounter queryCounter) {
+            this.connection = connection;
+            this.queryCounter = queryCounter;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object ret = method.invoke(connection, args);
+            if (ret instanceof PreparedStatement && method.getName().equals("prepareStatement")) {
+                return Proxy.newProxyInstance(
+                        PreparedStatement.class.getClassLoader(),
+                        new Class[]{PreparedStatement.class},
+                        new LegacyPreparedStatementProxyHandler((PreparedStatement) ret, queryCounter));
+            }
+            return ret;
+        }
+    }
+
+    /**
+     * 기존 PreparedStatementProxyHandler
+     */
+    static class LegacyPreparedStatementProxyHandler implements InvocationHandler {
+
+        private final PreparedStatement preparedStatement;
+        private final LegacyQueryCounter queryCounter;
+
+        LegacyPreparedStatementProxyHandler(PreparedStatement preparedStatement, LegacyQueryCounter queryCounter) {
+            this.preparedStatement = preparedStatement;
+            this.queryCounter = queryCounter;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().contains("execute")) {
+                queryCounter.increaseCount();
+            }
+            return method.invoke(preparedStatement, args);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.cosain.trilo.trip.domain.vo;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 순서값 계산 비용 비교
+ * <ul>
+ *     <li>longMid : 기존 정수 순서값의 중간값 계산 (ScheduleIndex.mid)</li>
+ *     <li>betweenRandom : 정수 간격이 1인 순서값들 사이의 무작위 위치에 끼워 넣을 때의 순서 키 계산 (ScheduleIndex.between)</li>
+ *     <li>betweenSameSpot : 같은 자리에 계속 끼워 넣어 순서 키가 길어지는 최악의 경우 (끼워 넣기 1번당 시간)</li>
+ *     <li>compare : 정수 값이 같고 길이 keyLength 의 순서 키를 가진 순서값끼리의 비교</li>
+ * </ul>
+ * 실행 : ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScheduleIndexBenchmark {
+
+    private static final int SAME_SPOT_INSERTS = 1_000;
+
+    /**
+     * 무작위 끼워 넣기에서 유지할 최대 순서값 수 (넘으면 무작위로 하나 지움)
+     */
+    private static final int MAX_RANDOM_INDEXES = 64;
+
+    private ScheduleIndex lower;
+    private ScheduleIndex upper;
+    private List<ScheduleIndex> randomIndexes;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        lower = ScheduleIndex.of(0L);
+        upper = ScheduleIndex.of(ScheduleIndex.DEFAULT_SEQUENCE_GAP);
+        random = new Random(42);
+        randomIndexes = new ArrayList<>();
+        for (long i = 0; i < 10; i++) {
+            randomIndexes.add(ScheduleIndex.of(i));
+        }
+    }
+
+    @Benchmark
+    public long longMid() {
+        return upper.mid(lower).getValue();
+    }
+
+    @Benchmark
+    public ScheduleIndex betweenRandom() {
+        int position = random.nextInt(randomIndexes.size() - 1);
+        ScheduleIndex inserted = randomIndexes.get(position).between(randomIndexes.get(position + 1));
+        randomIndexes.add(position + 1, inserted);
+        if (randomIndexes.size() > MAX_RANDOM_INDEXES) {
+            randomIndexes.remove(random.nextInt(randomIndexes.size()));
+        }
+        return inserted;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAME_SPOT_INSERTS)
+    public ScheduleIndex betweenSameSpot() {
+        ScheduleIndex first = ScheduleIndex.of(0L);
+        ScheduleIndex second = ScheduleIndex.of(1L);
+        for (int i = 0; i < SAME_SPOT_INSERTS; i++) {
+            second = first.between(second);
+        }
+        return second;
+    }
+
+    @Benchmark
+    public int compare(CompareState state) {
+        return state.left.compareTo(state.right);
+    }
+
+    @State(Scope.Thread)
+    public static class CompareState {
+
+        @Param({"0", "8", "64", "200"})
+        public int keyLength;
+
+        private ScheduleIndex left;
+        private ScheduleIndex right;
+
+        @Setup
+        public void setUp() {
+            left = ScheduleIndex.of(10L, "i".repeat(keyLength));
+            right = ScheduleIndex.of(10L, "i".repeat(keyLength) + "j");
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.cosain.trilo.auth.application.dto.LoginResult;
 import com.cosain.trilo.auth.application.dto.OAuthLoginParams;
 import com.cosain.trilo.auth.application.dto.ReIssueAccessTokenResult;
 import com.cosain.trilo.auth.application.token.JwtProvider;
+import com.cosain.trilo.auth.application.token.LogoutAccessTokenBlocklist;
 import com.cosain.trilo.auth.domain.LogoutAccessToken;
 import com.cosain.trilo.auth.domain.RefreshToken;
 import com.cosain.trilo.auth.domain.repository.TokenRepository;
@@ -26,6 +27,7 @@ public class AuthService {
     private final JwtProvider jwtProvider;
     private final OAuthProfileRequestService OAuthProfileRequestService;
     private final UserService userService;
+    private final LogoutAccessTokenBlocklist logoutAccessTokenBlocklist;
 
     @Transactional
     public ReIssueAccessTokenResult reissueAccessToken(String refreshToken){
@@ -56,15 +58,22 @@ public class AuthService {
     public void logout(String authHeaderValue, String refreshToken) {
         String accessToken = getAccessTokenFrom(authHeaderValue);
         Long remainExpiry = jwtProvider.getTokenRemainExpiry(accessToken);
-        tokenRepository.saveLogoutAccessToken(LogoutAccessToken.of(accessToken, remainExpiry));
-        tokenRepository.deleteRefreshTokenById(refreshToken);
+        tokenRepository.saveLogoutAccessTokenAndDeleteRefreshToken(LogoutAccessToken.of(accessToken, remainExpiry), refreshToken);
+        logoutAccessTokenBlocklist.register(accessToken);
     }
 
     private String getAccessTokenFrom(String authHeaderValue){
         return authHeaderValue.substring(7);
     }
 
-    @Transactional
+    /**
+     * 로그인은 단계별로 나누어 처리합니다. (트랜잭션을 걸지 않음)
+     * <ol>
+     *     <li>OAuth 제공자 프로필 조회 : 트랜잭션/DB 커넥션 없이 수행하여, 외부 API 왕복 동안 커넥션 풀을 점유하지 않습니다.</li>
+     *     <li>사용자 생성/갱신 : UserService 의 짧은 트랜잭션에서 수행합니다.</li>
+     *     <li>토큰 발급 및 재발급 토큰 저장(Redis)</li>
+     * </ol>
+     */
     public LoginResult login(OAuthLoginParams oAuthLoginParams){
 
         OAuthProfileDto oAuthProfileDto = getUserProfileResponse(oAuthLoginParams);
@@ -5,6 +5,14 @@ public interface JwtProvider {
     String createRefreshToken(Long userId);
     boolean isValidAccessToken(String authorizationHeader);
 
+    /**
+     * 인증 헤더의 접근 토큰을 검증하고, 토큰에 담긴 사용자 정보를 반환합니다.
+     * @param authorizationHeader 인증 헤더 값 (Bearer {token})
+     * @return 검증된 사용자 정보
+     * @throws com.cosain.trilo.common.exception.auth.AccessTokenNotValidException 토큰이 유효하지 않을 때
+     */
+    UserPayload verifyAccessToken(String authorizationHeader);
+
     boolean isValidRefreshToken(String token);
 
     UserPayload getPayload(String authorizationHeader);
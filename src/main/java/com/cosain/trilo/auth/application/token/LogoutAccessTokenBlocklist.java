@@ -0,0 +1,21 @@
+package com.cosain.trilo.auth.application.token;
+
+/**
+ * 로그아웃된 접근 토큰 차단 목록
+ */
+public interface LogoutAccessTokenBlocklist {
+
+    /**
+     * 접근 토큰이 로그아웃된 토큰인지 확인합니다.
+     * @param accessToken 접근 토큰 (Bearer 접두사 제외)
+     * @return 로그아웃된 토큰이면 true
+     */
+    boolean isLoggedOut(String accessToken);
+
+    /**
+     * 로그아웃된 접근 토큰을 차단 목록에 등록하고, 다른 서버 인스턴스에 전파합니다.
+     * (토큰 자체의 저장은 TokenRepository 에서 수행)
+     * @param accessToken 접근 토큰 (Bearer 접두사 제외)
+     */
+    void register(String accessToken);
+}
@@ -3,6 +3,8 @@ package com.cosain.trilo.auth.domain.repository;
 import com.cosain.trilo.auth.domain.LogoutAccessToken;
 import com.cosain.trilo.auth.domain.RefreshToken;
 
+import java.util.List;
+
 public interface TokenRepository {
 
     void saveLogoutAccessToken(LogoutAccessToken logoutAccessToken);
@@ -10,4 +12,6 @@ public interface TokenRepository {
     boolean existsLogoutAccessTokenById(String token);
     boolean existsRefreshTokenById(String token);
     void deleteRefreshTokenById(String token);
+    void saveLogoutAccessTokenAndDeleteRefreshToken(LogoutAccessToken logoutAccessToken, String refreshToken);
+    List<String> findAllLogoutAccessTokenIds();
 }
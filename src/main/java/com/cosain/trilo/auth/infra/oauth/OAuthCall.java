@@ -0,0 +1,27 @@
+package com.cosain.trilo.auth.infra.oauth;
+
+/**
+ * OAuth 제공자에게 보내는 요청 종류 (지표 태그로 사용)
+ */
+public enum OAuthCall {
+
+    /**
+     * 인가 코드 -> 접근 토큰 교환
+     */
+    TOKEN("token"),
+
+    /**
+     * 접근 토큰으로 사용자 프로필 조회
+     */
+    PROFILE("profile");
+
+    private final String tag;
+
+    OAuthCall(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+}
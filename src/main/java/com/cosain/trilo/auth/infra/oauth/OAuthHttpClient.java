@@ -0,0 +1,118 @@
+package com.cosain.trilo.auth.infra.oauth;
+
+import com.cosain.trilo.common.exception.auth.OAuthProviderUnavailableException;
+import com.cosain.trilo.user.domain.AuthProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * <p>OAuth 제공자 1곳에 대한 HTTP 클라이언트입니다.</p>
+ * <ul>
+ *     <li>제공자별 최대 동시 요청 수를 제한하여, 느린 제공자가 톰캣 스레드를 모두 붙잡지 않도록 합니다.</li>
+ *     <li>요청별(토큰 교환/프로필 조회) 응답 시간을 oauth.client.requests 히스토그램으로 기록합니다. (요청/결과별 Timer 는 생성 시 한 번만 등록)</li>
+ *     <li>시간 초과, 연결 실패, 제공자 5xx 응답은 OAuthProviderUnavailableException 으로 변환합니다.</li>
+ * </ul>
+ */
+@Slf4j
+public class OAuthHttpClient {
+
+    static final String METRIC_NAME = "oauth.client.requests";
+
+    private final AuthProvider authProvider;
+    private final RestTemplate restTemplate;
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+    private final Map<OAuthCall, Map<Outcome, Timer>> timers = new EnumMap<>(OAuthCall.class);
+
+    OAuthHttpClient(AuthProvider authProvider, RestTemplate restTemplate, OAuthHttpSettings settings, MeterRegistry meterRegistry) {
+        this.authProvider = authProvider;
+        this.restTemplate = restTemplate;
+        this.permits = new Semaphore(settings.maxConcurrency());
+        this.acquireTimeoutMillis = settings.acquireTimeout().toMillis();
+        for (OAuthCall call : OAuthCall.values()) {
+            Map<Outcome, Timer> timersByOutcome = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : Outcome.values()) {
+                timersByOutcome.put(outcome, Timer.builder(METRIC_NAME)
+                        .description("OAuth 제공자 요청 응답 시간")
+                        .tag("provider", authProvider.name())
+                        .tag("call", call.getTag())
+                        .tag("outcome", outcome.name())
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+            }
+            timers.put(call, timersByOutcome);
+        }
+    }
+
+    public <T> T post(OAuthCall call, String url, HttpEntity<?> request, Class<T> responseType) {
+        return execute(call, () -> restTemplate.postForObject(url, request, responseType));
+    }
+
+    public <T> T exchange(OAuthCall call, String url, HttpMethod method, HttpEntity<?> request, Class<T> responseType) {
+        return execute(call, () -> restTemplate.exchange(url, method, request, responseType).getBody());
+    }
+
+    private <T> T execute(OAuthCall call, Supplier<T> httpCall) {
+        if (!acquirePermit()) {
+            record(call, Outcome.REJECTED, 0);
+            log.warn("[{}] OAuth 동시 요청 수 초과로 요청 거절 : {}", authProvider, call);
+            throw new OAuthProviderUnavailableException(authProvider + " 동시 요청 수 초과");
+        }
+
+        long start = System.nanoTime();
+        Outcome outcome = Outcome.SUCCESS;
+        try {
+            return httpCall.get();
+        } catch (ResourceAccessException | HttpServerErrorException e) {
+            outcome = (e instanceof ResourceAccessException) ? Outcome.IO_ERROR : Outcome.SERVER_ERROR;
+            throw new OAuthProviderUnavailableException(authProvider + " 요청 실패 : " + call, e);
+        } catch (RestClientException e) {
+            outcome = Outcome.CLIENT_ERROR;
+            throw e;
+        } catch (RuntimeException e) {
+            outcome = Outcome.ERROR;
+            throw e;
+        } finally {
+            permits.release();
+            record(call, outcome, System.nanoTime() - start);
+        }
+    }
+
+    private boolean acquirePermit() {
+        try {
+            return permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void record(OAuthCall call, Outcome outcome, long elapsedNanos) {
+        timers.get(call).get(outcome).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 요청 결과 (지표의 outcome 태그)
+     */
+    private enum Outcome {
+        SUCCESS,
+        REJECTED,
+        IO_ERROR,
+        SERVER_ERROR,
+        CLIENT_ERROR,
+        ERROR
+    }
+}
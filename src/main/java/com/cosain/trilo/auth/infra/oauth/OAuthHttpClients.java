@@ -0,0 +1,102 @@
+package com.cosain.trilo.auth.infra.oauth;
+
+import com.cosain.trilo.user.domain.AuthProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactoryBuilder;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * <p>OAuth 제공자별 HTTP 클라이언트를 생성하고 보관합니다.</p>
+ * <p>모든 제공자가 하나의 커넥션 풀(keep-alive)과 SSLContext 를 공유하므로, 커넥션과 TLS 세션이 재사용되어
+ * 로그인마다 TCP/TLS 핸드셰이크를 반복하지 않습니다. 타임아웃과 동시 요청 수는 제공자별로 설정합니다.</p>
+ */
+@Component
+public class OAuthHttpClients implements DisposableBean {
+
+    private static final TimeValue VALIDATE_AFTER_INACTIVITY = TimeValue.ofSeconds(2);
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final List<CloseableHttpClient> httpClients = new ArrayList<>();
+    private final Map<AuthProvider, OAuthHttpClient> clients = new EnumMap<>(AuthProvider.class);
+
+    @Autowired
+    public OAuthHttpClients(Environment environment, MeterRegistry meterRegistry) {
+        this(Arrays.stream(AuthProvider.values())
+                        .collect(Collectors.toMap(Function.identity(), provider -> OAuthHttpSettings.of(environment, provider))),
+                meterRegistry);
+    }
+
+    public OAuthHttpClients(Map<AuthProvider, OAuthHttpSettings> settings, MeterRegistry meterRegistry) {
+        int maxConcurrency = settings.values().stream().mapToInt(OAuthHttpSettings::maxConcurrency).max().orElse(1);
+        int totalConcurrency = settings.values().stream().mapToInt(OAuthHttpSettings::maxConcurrency).sum();
+
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setSSLSocketFactory(SSLConnectionSocketFactoryBuilder.create()
+                        .setSslContext(SSLContexts.createSystemDefault())
+                        .build())
+                .setMaxConnTotal(Math.max(1, totalConcurrency))
+                .setMaxConnPerRoute(Math.max(1, maxConcurrency))
+                .setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY)
+                .build();
+
+        settings.forEach((provider, providerSettings) ->
+                clients.put(provider, new OAuthHttpClient(provider, createRestTemplate(providerSettings), providerSettings, meterRegistry)));
+    }
+
+    public OAuthHttpClient get(AuthProvider authProvider) {
+        OAuthHttpClient client = clients.get(authProvider);
+        if (client == null) {
+            throw new IllegalArgumentException("HTTP 설정이 없는 OAuth 제공자 : " + authProvider);
+        }
+        return client;
+    }
+
+    private RestTemplate createRestTemplate(OAuthHttpSettings settings) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(Timeout.of(settings.connectTimeout()))
+                .setResponseTimeout(Timeout.of(settings.readTimeout()))
+                .setConnectionRequestTimeout(Timeout.of(settings.acquireTimeout()))
+                .build();
+
+        // 커넥션 매니저는 제공자들이 공유하므로, 개별 클라이언트가 닫더라도 풀은 유지
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setConnectionManagerShared(true)
+                .setDefaultRequestConfig(requestConfig)
+                .build();
+        httpClients.add(httpClient);
+
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        for (CloseableHttpClient httpClient : httpClients) {
+            httpClient.close();
+        }
+        connectionManager.close();
+    }
+}
@@ -0,0 +1,42 @@
+package com.cosain.trilo.auth.infra.oauth;
+
+import com.cosain.trilo.user.domain.AuthProvider;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * OAuth 제공자별 HTTP 설정
+ * @param connectTimeout 연결 수립 제한 시간
+ * @param readTimeout 응답 대기 제한 시간
+ * @param maxConcurrency 제공자에 동시에 보낼 수 있는 최대 요청 수
+ * @param acquireTimeout 동시 요청 수가 가득 찼을 때 대기할 최대 시간 (넘으면 요청 거절)
+ */
+public record OAuthHttpSettings(Duration connectTimeout, Duration readTimeout, int maxConcurrency, Duration acquireTimeout) {
+
+    private static final String PREFIX = "oauth2.http.";
+
+    private static final long DEFAULT_CONNECT_TIMEOUT_MS = 1000;
+    private static final long DEFAULT_READ_TIMEOUT_MS = 3000;
+    private static final int DEFAULT_MAX_CONCURRENCY = 20;
+    private static final long DEFAULT_ACQUIRE_TIMEOUT_MS = 500;
+
+    /**
+     * oauth2.http.{provider}.* 설정을 읽고, 없으면 oauth2.http.* 공통 설정, 그것도 없으면 기본값을 사용합니다.
+     * ex) oauth2.http.kakao.read-timeout-ms=2000
+     */
+    public static OAuthHttpSettings of(Environment environment, AuthProvider authProvider) {
+        String providerPrefix = PREFIX + authProvider.name().toLowerCase() + ".";
+        return new OAuthHttpSettings(
+                Duration.ofMillis(getLong(environment, providerPrefix, "connect-timeout-ms", DEFAULT_CONNECT_TIMEOUT_MS)),
+                Duration.ofMillis(getLong(environment, providerPrefix, "read-timeout-ms", DEFAULT_READ_TIMEOUT_MS)),
+                (int) getLong(environment, providerPrefix, "max-concurrency", DEFAULT_MAX_CONCURRENCY),
+                Duration.ofMillis(getLong(environment, providerPrefix, "acquire-timeout-ms", DEFAULT_ACQUIRE_TIMEOUT_MS))
+        );
+    }
+
+    private static long getLong(Environment environment, String providerPrefix, String name, long defaultValue) {
+        Long commonValue = environment.getProperty(PREFIX + name, Long.class, defaultValue);
+        return environment.getProperty(providerPrefix + name, Long.class, commonValue);
+    }
+}
@@ -3,6 +3,8 @@ package com.cosain.trilo.auth.infra.oauth.google;
 import com.cosain.trilo.auth.application.dto.OAuthLoginParams;
 import com.cosain.trilo.auth.infra.OAuthClient;
 import com.cosain.trilo.auth.infra.OAuthProfileDto;
+import com.cosain.trilo.auth.infra.oauth.OAuthCall;
+import com.cosain.trilo.auth.infra.oauth.OAuthHttpClients;
 import com.cosain.trilo.auth.infra.oauth.google.dto.GoogleInfoResponse;
 import com.cosain.trilo.auth.infra.oauth.google.dto.GoogleTokenResponse;
 import com.cosain.trilo.user.domain.AuthProvider;
@@ -12,7 +14,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
 @Slf4j
 @Component
@@ -30,7 +31,7 @@ public class GoogleClient implements OAuthClient {
     @Value("${oauth2.google.user-info-uri}")
     private String profileUrl;
 
-    private final RestTemplate restTemplate;
+    private final OAuthHttpClients oAuthHttpClients;
 
     @Override
     public AuthProvider authProvider() {
@@ -46,7 +47,7 @@ public class GoogleClient implements OAuthClient {
         params.add("client_secret", clientSecret);
 
         HttpEntity<?> request = makeAccessTokenRequest(headers, params);
-        GoogleTokenResponse googleTokenResponse = restTemplate.postForObject(accessTokenUrl, request, GoogleTokenResponse.class);
+        GoogleTokenResponse googleTokenResponse = oAuthHttpClients.get(authProvider()).post(OAuthCall.TOKEN, accessTokenUrl, request, GoogleTokenResponse.class);
 
         return googleTokenResponse.getAccessToken();
     }
@@ -69,8 +70,8 @@ public class GoogleClient implements OAuthClient {
         HttpHeaders headers = makeUserInfoRequest(accessToken);
         HttpEntity<?> request = new HttpEntity<>(headers);
 
-        ResponseEntity<GoogleInfoResponse> exchange = restTemplate.exchange(profileUrl, HttpMethod.GET, request, GoogleInfoResponse.class);
-        GoogleInfoResponse googleInfoResponse = exchange.getBody();
+        GoogleInfoResponse googleInfoResponse = oAuthHttpClients.get(authProvider())
+                .exchange(OAuthCall.PROFILE, profileUrl, HttpMethod.GET, request, GoogleInfoResponse.class);
         return OAuthProfileDto.of(googleInfoResponse);
     }
 
@@ -3,6 +3,8 @@ package com.cosain.trilo.auth.infra.oauth.kakao;
 import com.cosain.trilo.auth.application.dto.OAuthLoginParams;
 import com.cosain.trilo.auth.infra.OAuthClient;
 import com.cosain.trilo.auth.infra.OAuthProfileDto;
+import com.cosain.trilo.auth.infra.oauth.OAuthCall;
+import com.cosain.trilo.auth.infra.oauth.OAuthHttpClients;
 import com.cosain.trilo.auth.infra.oauth.kakao.dto.KakaoProfileResponse;
 import com.cosain.trilo.auth.infra.oauth.kakao.dto.KakaoTokenResponse;
 import com.cosain.trilo.user.domain.AuthProvider;
@@ -14,7 +16,6 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
 @Component
 @RequiredArgsConstructor
@@ -27,7 +28,7 @@ public class KakaoClient implements OAuthClient {
     @Value("${oauth2.kakao.user-info-uri}")
     private String profileUrl;
 
-    private final RestTemplate restTemplate;
+    private final OAuthHttpClients oAuthHttpClients;
     @Override
     public AuthProvider authProvider() {
         return AuthProvider.KAKAO;
@@ -45,7 +46,7 @@ public class KakaoClient implements OAuthClient {
 
         HttpEntity<?> request = new HttpEntity<>(params, headers);
 
-        KakaoTokenResponse kakaoTokenResponse = restTemplate.postForObject(accessTokenUrl, request, KakaoTokenResponse.class);
+        KakaoTokenResponse kakaoTokenResponse = oAuthHttpClients.get(authProvider()).post(OAuthCall.TOKEN, accessTokenUrl, request, KakaoTokenResponse.class);
         return kakaoTokenResponse.getAccessToken();
     }
 
@@ -60,7 +61,7 @@ public class KakaoClient implements OAuthClient {
 
         HttpEntity<?> request = new HttpEntity<>(params, headers);
 
-        KakaoProfileResponse kakaoProfileResponse = restTemplate.postForObject(profileUrl, request, KakaoProfileResponse.class);
+        KakaoProfileResponse kakaoProfileResponse = oAuthHttpClients.get(authProvider()).post(OAuthCall.PROFILE, profileUrl, request, KakaoProfileResponse.class);
         return OAuthProfileDto.of(kakaoProfileResponse);
     }
 }
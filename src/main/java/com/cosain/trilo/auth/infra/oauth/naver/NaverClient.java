@@ -3,6 +3,8 @@ package com.cosain.trilo.auth.infra.oauth.naver;
 import com.cosain.trilo.auth.application.dto.OAuthLoginParams;
 import com.cosain.trilo.auth.infra.OAuthClient;
 import com.cosain.trilo.auth.infra.OAuthProfileDto;
+import com.cosain.trilo.auth.infra.oauth.OAuthCall;
+import com.cosain.trilo.auth.infra.oauth.OAuthHttpClients;
 import com.cosain.trilo.auth.infra.oauth.naver.dto.NaverInfoResponse;
 import com.cosain.trilo.auth.infra.oauth.naver.dto.NaverTokenResponse;
 import com.cosain.trilo.user.domain.AuthProvider;
@@ -15,7 +17,6 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
 @Slf4j
 @Component
@@ -32,7 +33,7 @@ public class NaverClient implements OAuthClient {
     private String profileUrl;
     @Value("${oauth2.naver.grant_type}")
     private String grantType;
-    private final RestTemplate restTemplate;
+    private final OAuthHttpClients oAuthHttpClients;
 
     @Override
     public AuthProvider authProvider() {
@@ -50,7 +51,7 @@ public class NaverClient implements OAuthClient {
 
         HttpEntity<?> request = makeAccessTokenRequest(headers, params);
 
-        NaverTokenResponse naverTokenResponse = restTemplate.postForObject(accessTokenUrl, request, NaverTokenResponse.class);
+        NaverTokenResponse naverTokenResponse = oAuthHttpClients.get(authProvider()).post(OAuthCall.TOKEN, accessTokenUrl, request, NaverTokenResponse.class);
 
         return naverTokenResponse.getAccessToken();
     }
@@ -72,7 +73,7 @@ public class NaverClient implements OAuthClient {
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
 
         HttpEntity<?> request = new HttpEntity<>(params, headers);
-        NaverInfoResponse naverInfoResponse = restTemplate.postForObject(profileUrl, request, NaverInfoResponse.class);
+        NaverInfoResponse naverInfoResponse = oAuthHttpClients.get(authProvider()).post(OAuthCall.PROFILE, profileUrl, request, NaverInfoResponse.class);
         return OAuthProfileDto.of(naverInfoResponse);
     }
 
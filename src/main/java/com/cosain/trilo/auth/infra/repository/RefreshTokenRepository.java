@@ -3,6 +3,10 @@ package com.cosain.trilo.auth.infra.repository;
 import com.cosain.trilo.auth.domain.RefreshToken;
 import org.springframework.data.repository.CrudRepository;
 
+/**
+ * 기존 @RedisHash 레이아웃의 RefreshToken 저장소입니다.
+ * 마이그레이션 모드에서 남아있는 토큰을 정리할 때만 사용합니다. (신규 저장은 {@link TokenRepositoryImpl})
+ */
 public interface RefreshTokenRepository extends CrudRepository<RefreshToken, String> {
 
 }
@@ -3,40 +3,168 @@ package com.cosain.trilo.auth.infra.repository;
 import com.cosain.trilo.auth.domain.LogoutAccessToken;
 import com.cosain.trilo.auth.domain.RefreshToken;
 import com.cosain.trilo.auth.domain.repository.TokenRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>토큰 1개를 Redis 의 문자열 키 1개로 저장하는 TokenRepository 구현체입니다. (SET key value PX ttl)</p>
+ * <p>@RedisHash 방식은 저장 1번에 해시 + 키스페이스 Set + phantom 키를 함께 쓰고, 만료된 id 가 Set 에 남는 문제가 있어 대체합니다.</p>
+ * <p>마이그레이션 모드(auth.token-store.legacy-read=true)에서는 기존 @RedisHash 레이아웃에 남아있는 토큰도 함께 조회/삭제합니다.
+ * 기존 토큰들이 모두 만료되면 마이그레이션 모드를 끄고, 레거시 CrudRepository 들을 제거할 수 있습니다.</p>
+ */
 @Repository
-@Transactional
-@RequiredArgsConstructor
 public class TokenRepositoryImpl implements TokenRepository{
 
-    private final LogoutAccessTokenRepository logoutAccessTokenRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private static final String REFRESH_TOKEN_KEY_PREFIX = "token:refresh:";
+    private static final String LOGOUT_ACCESS_TOKEN_KEY_PREFIX = "token:logout:";
+    private static final byte[] TOKEN_VALUE = "1".getBytes(StandardCharsets.UTF_8);
+
+    private static final String LEGACY_REFRESH_TOKEN_KEY_PREFIX = "refreshToken:";
+    private static final String LEGACY_LOGOUT_ACCESS_TOKEN_KEY_PREFIX = "logoutAccessToken:";
+    private static final String LEGACY_PHANTOM_KEY_SUFFIX = ":phantom";
+    private static final int SCAN_COUNT = 1000;
+
+    private final LogoutAccessTokenRepository legacyLogoutAccessTokenRepository;
+    private final RefreshTokenRepository legacyRefreshTokenRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 기존 @RedisHash 레이아웃도 함께 읽을 지 여부 (마이그레이션 모드)
+     */
+    private final boolean legacyRead;
+
+    public TokenRepositoryImpl(
+            LogoutAccessTokenRepository legacyLogoutAccessTokenRepository,
+            RefreshTokenRepository legacyRefreshTokenRepository,
+            StringRedisTemplate redisTemplate,
+            @Value("${auth.token-store.legacy-read:false}") boolean legacyRead) {
+        this.legacyLogoutAccessTokenRepository = legacyLogoutAccessTokenRepository;
+        this.legacyRefreshTokenRepository = legacyRefreshTokenRepository;
+        this.redisTemplate = redisTemplate;
+        this.legacyRead = legacyRead;
+    }
 
     @Override
     public void saveLogoutAccessToken(LogoutAccessToken logoutAccessToken) {
-        logoutAccessTokenRepository.save(logoutAccessToken);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            setWithExpiry(connection, logoutAccessTokenKey(logoutAccessToken.getId()), logoutAccessToken.getExpiry());
+            return null;
+        });
     }
 
     @Override
     public void saveRefreshToken(RefreshToken refreshToken) {
-        refreshTokenRepository.save(refreshToken);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            setWithExpiry(connection, refreshTokenKey(refreshToken.getId()), refreshToken.getExpiry());
+            return null;
+        });
     }
 
     @Override
     public boolean existsLogoutAccessTokenById(String logoutAccessToken) {
-        return logoutAccessTokenRepository.existsById(logoutAccessToken);
+        if (legacyRead) {
+            return existsAny(logoutAccessTokenKey(logoutAccessToken), LEGACY_LOGOUT_ACCESS_TOKEN_KEY_PREFIX + logoutAccessToken);
+        }
+        return existsAny(logoutAccessTokenKey(logoutAccessToken));
     }
 
     @Override
     public boolean existsRefreshTokenById(String refreshToken) {
-        return refreshTokenRepository.existsById(refreshToken);
+        if (legacyRead) {
+            return existsAny(refreshTokenKey(refreshToken), LEGACY_REFRESH_TOKEN_KEY_PREFIX + refreshToken);
+        }
+        return existsAny(refreshTokenKey(refreshToken));
     }
 
     @Override
     public void deleteRefreshTokenById(String refreshToken){
-        refreshTokenRepository.deleteById(refreshToken);
+        redisTemplate.delete(refreshTokenKey(refreshToken));
+        deleteLegacyRefreshTokenIfNeeded(refreshToken);
+    }
+
+    /**
+     * 로그아웃 토큰 저장과 재발급 토큰 삭제를 파이프라인으로 묶어, 한 번의 네트워크 왕복으로 처리합니다.
+     */
+    @Override
+    public void saveLogoutAccessTokenAndDeleteRefreshToken(LogoutAccessToken logoutAccessToken, String refreshToken) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            setWithExpiry(connection, logoutAccessTokenKey(logoutAccessToken.getId()), logoutAccessToken.getExpiry());
+            connection.keyCommands().del(serialize(refreshTokenKey(refreshToken)));
+            return null;
+        });
+        deleteLegacyRefreshTokenIfNeeded(refreshToken);
+    }
+
+    /**
+     * 만료되지 않은 로그아웃 접근 토큰들을 조회합니다.
+     * KEYS 대신 SCAN 으로 키를 훑어, Redis 를 블로킹하지 않습니다.
+     */
+    @Override
+    public List<String> findAllLogoutAccessTokenIds() {
+        List<String> tokens = new ArrayList<>();
+        scanTokenIds(LOGOUT_ACCESS_TOKEN_KEY_PREFIX, tokens);
+        if (legacyRead) {
+            scanTokenIds(LEGACY_LOGOUT_ACCESS_TOKEN_KEY_PREFIX, tokens);
+        }
+        return tokens;
+    }
+
+    private void scanTokenIds(String keyPrefix, List<String> tokens) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(keyPrefix + "*")
+                .count(SCAN_COUNT)
+                .build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(key -> {
+                // @RedisHash 의 phantom 키는 제외
+                if (!key.endsWith(LEGACY_PHANTOM_KEY_SUFFIX)) {
+                    tokens.add(key.substring(keyPrefix.length()));
+                }
+            });
+        }
+    }
+
+    private void deleteLegacyRefreshTokenIfNeeded(String refreshToken) {
+        if (legacyRead) {
+            // 해시, 키스페이스 Set 의 id, phantom 키를 함께 정리
+            legacyRefreshTokenRepository.deleteById(refreshToken);
+        }
+    }
+
+    private boolean existsAny(String... keys) {
+        Long count = redisTemplate.countExistingKeys(List.of(keys));
+        return count != null && count > 0;
+    }
+
+    private void setWithExpiry(RedisConnection connection, String key, Long expiryMillis) {
+        if (expiryMillis == null || expiryMillis <= 0) {
+            // 이미 만료된 토큰은 저장할 필요가 없음
+            return;
+        }
+        connection.stringCommands().set(serialize(key), TOKEN_VALUE, Expiration.milliseconds(expiryMillis), SetOption.upsert());
+    }
+
+    private byte[] serialize(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String refreshTokenKey(String refreshToken) {
+        return REFRESH_TOKEN_KEY_PREFIX + refreshToken;
+    }
+
+    private static String logoutAccessTokenKey(String logoutAccessToken) {
+        return LOGOUT_ACCESS_TOKEN_KEY_PREFIX + logoutAccessToken;
     }
 }
@@ -0,0 +1,126 @@
+package com.cosain.trilo.auth.infra.token;
+
+import com.cosain.trilo.auth.application.token.LogoutAccessTokenBlocklist;
+import com.cosain.trilo.auth.domain.repository.TokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * <p>로그아웃된 접근 토큰 해시를 서버 메모리의 Bloom Filter 로 먼저 걸러내는 차단 목록입니다.</p>
+ * <p>필터에 없으면 Redis 조회 없이 로그아웃되지 않은 토큰으로 판단하고, 필터에 있을 때만 Redis 에서 실제 로그아웃 여부를 확인합니다.</p>
+ * <ul>
+ *     <li>애플리케이션 시작 시 Redis 에 저장된 로그아웃 토큰들로 필터를 재구성합니다.</li>
+ *     <li>로그아웃 시 토큰 해시를 Redis pub/sub 채널로 발행하여, 모든 서버 인스턴스의 필터에 반영합니다.</li>
+ *     <li>필터는 접근 토큰 유효기간 단위로 교체되므로, 만료된 토큰들은 필터에서 자연스럽게 빠집니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class BloomFilterLogoutAccessTokenBlocklist implements LogoutAccessTokenBlocklist, MessageListener {
+
+    public static final String CHANNEL = "logoutAccessToken:published";
+
+    private static final String METRIC_PREFIX = "auth.logout-blocklist";
+
+    private final TokenRepository tokenRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final TimePartitionedBloomFilter bloomFilter;
+
+    private final Counter filterHitCounter;
+    private final Counter falsePositiveCounter;
+
+    public BloomFilterLogoutAccessTokenBlocklist(
+            TokenRepository tokenRepository,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            @Value("${jwt.access-token-expiry}") long accessTokenExpiry,
+            @Value("${auth.logout-blocklist.expected-insertions:100000}") long expectedInsertions,
+            @Value("${auth.logout-blocklist.false-positive-probability:0.001}") double falsePositiveProbability) {
+        this.tokenRepository = tokenRepository;
+        this.redisTemplate = redisTemplate;
+        this.bloomFilter = new TimePartitionedBloomFilter(expectedInsertions, falsePositiveProbability, accessTokenExpiry, clock);
+
+        this.filterHitCounter = Counter.builder(METRIC_PREFIX + ".filter.hits")
+                .description("Bloom Filter 에 적중하여 Redis 를 조회한 횟수")
+                .register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder(METRIC_PREFIX + ".filter.false-positives")
+                .description("Bloom Filter 에 적중했지만 Redis 에는 없었던 횟수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".filter.false-positive-rate", this, BloomFilterLogoutAccessTokenBlocklist::observedFalsePositiveRate)
+                .description("Bloom Filter 적중 중 false positive 비율")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".filter.expected-false-positive-rate", bloomFilter, TimePartitionedBloomFilter::expectedFalsePositiveProbability)
+                .description("채워진 비트 비율로 추정한 false positive 확률")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".filter.elements", bloomFilter, TimePartitionedBloomFilter::approximateElementCount)
+                .description("Bloom Filter 에 추가된 토큰 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".filter.size", bloomFilter, TimePartitionedBloomFilter::sizeInBytes)
+                .description("Bloom Filter 가 차지하는 메모리")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean isLoggedOut(String accessToken) {
+        if (!bloomFilter.mightContain(TokenHashes.sha256(accessToken))) {
+            return false;
+        }
+        filterHitCounter.increment();
+        boolean loggedOut = tokenRepository.existsLogoutAccessTokenById(accessToken);
+        if (!loggedOut) {
+            falsePositiveCounter.increment();
+        }
+        return loggedOut;
+    }
+
+    @Override
+    public void register(String accessToken) {
+        byte[] hash = TokenHashes.sha256(accessToken);
+        bloomFilter.put(hash);
+        redisTemplate.convertAndSend(CHANNEL, Base64.getEncoder().encodeToString(hash));
+    }
+
+    /**
+     * 다른 서버 인스턴스(자기 자신 포함)에서 발행한 로그아웃 토큰 해시를 필터에 반영합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String encodedHash = new String(message.getBody(), StandardCharsets.US_ASCII);
+            bloomFilter.put(Base64.getDecoder().decode(encodedHash));
+        } catch (IllegalArgumentException e) {
+            log.warn("올바르지 않은 로그아웃 토큰 메시지 수신", e);
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시, Redis 에 남아있는(아직 만료되지 않은) 로그아웃 토큰들로 필터를 재구성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<String> logoutAccessTokens = tokenRepository.findAllLogoutAccessTokenIds();
+        logoutAccessTokens.forEach(token -> bloomFilter.put(TokenHashes.sha256(token)));
+        log.info("로그아웃 토큰 Bloom Filter 재구성 완료 : {}건", logoutAccessTokens.size());
+    }
+
+    private double observedFalsePositiveRate() {
+        double hits = filterHitCounter.count();
+        return hits == 0 ? 0 : falsePositiveCounter.count() / hits;
+    }
+}
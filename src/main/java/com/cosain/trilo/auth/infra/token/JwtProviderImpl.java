@@ -7,10 +7,13 @@ import com.cosain.trilo.common.exception.auth.AuthorizationHeaderFormatNotValidE
 import com.cosain.trilo.common.exception.auth.AccessTokenNotExistException;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.time.Clock;
 import java.util.Date;
 
 @Component
@@ -19,17 +22,38 @@ public class JwtProviderImpl implements JwtProvider {
     private static final String TOKEN_TYPE = "Bearer";
     private static final String ACCESS_TOKEN_SUBJECT = "AccessToken";
     private static final String REFRESH_TOKEN_SUBJECT = "RefreshToken";
+    private static final int DEFAULT_VERIFIED_TOKEN_CACHE_SIZE = 10_000;
     private final long accessTokenExpiryMs;
     private final long refreshTokenExpiryMs;
     private final Key secretKey;
 
+    /**
+     * 서명 키가 고정되어 있으므로, 파서를 한 번만 만들어 재사용 (JwtParser는 불변 & thread-safe)
+     */
+    private final JwtParser jwtParser;
+
+    /**
+     * 최근에 검증한 접근 토큰의 결과를 만료 시각까지 보관하는 캐시
+     */
+    private final VerifiedAccessTokenCache verifiedAccessTokenCache;
+
+    public JwtProviderImpl(long accessTokenExpiry, long refreshTokenExpiry, String secretKey) {
+        this(accessTokenExpiry, refreshTokenExpiry, secretKey, DEFAULT_VERIFIED_TOKEN_CACHE_SIZE);
+    }
+
+    @Autowired
     public JwtProviderImpl (
             @Value("${jwt.access-token-expiry}") long accessTokenExpiry,
             @Value("${jwt.refresh-token-expiry}") long refreshTokenExpiry,
-            @Value("${jwt.secret-key}") String secretKey) {
+            @Value("${jwt.secret-key}") String secretKey,
+            @Value("${jwt.verified-token-cache-size:" + DEFAULT_VERIFIED_TOKEN_CACHE_SIZE + "}") int verifiedTokenCacheSize) {
         this.accessTokenExpiryMs = accessTokenExpiry;
         this.refreshTokenExpiryMs = refreshTokenExpiry;
         this.secretKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(this.secretKey)
+                .build();
+        this.verifiedAccessTokenCache = new VerifiedAccessTokenCache(verifiedTokenCacheSize, Clock.systemUTC());
     }
 
     @Override
@@ -48,15 +72,52 @@ public class JwtProviderImpl implements JwtProvider {
 
     @Override
     public boolean isValidAccessToken(String authorizationHeader) {
+        try{
+            verifyAccessToken(authorizationHeader);
+            return true;
+        }catch(AccessTokenNotValidException e){
+            return false;
+        }
+    }
+
+    /**
+     * 접근 토큰을 한 번만 파싱/검증하고 사용자 정보를 반환합니다.
+     * 최근에 검증된 토큰이면 서명 검증 및 디코딩 없이 캐싱된 결과를 반환합니다.
+     */
+    @Override
+    public UserPayload verifyAccessToken(String authorizationHeader) {
         String token = extractToken(authorizationHeader);
+
+        UserPayload cachedPayload = verifiedAccessTokenCache.get(token);
+        if (cachedPayload != null) {
+            return cachedPayload;
+        }
+
         try{
             Claims claims = getClaims(token);
-            return isAccessToken(claims) && isNotExpired(claims);
-        }catch(JwtException | IllegalArgumentException e){
-            return false;
+            if (!isAccessToken(claims) || !isNotExpired(claims)) {
+                throw new AccessTokenNotValidException();
+            }
+            Long id = claims.get("id", Long.class);
+            if (id == null) {
+                throw new AccessTokenNotValidException();
+            }
+            UserPayload payload = new UserPayload(id);
+            verifiedAccessTokenCache.put(token, payload, claims.getExpiration().getTime());
+            return payload;
+        }catch(JwtException | IllegalArgumentException | NullPointerException e){
+            throw new AccessTokenNotValidException();
         }
     }
 
+    /**
+     * 만료된 검증 결과들을 주기적으로 캐시에서 비웁니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.verified-token-cache-evict-interval:60000}")
+    public void evictExpiredVerifiedTokens() {
+        verifiedAccessTokenCache.evictExpired();
+    }
+
     private boolean isAccessToken(Claims claims){
         return claims.getSubject().equals(ACCESS_TOKEN_SUBJECT);
     }
@@ -67,14 +128,7 @@ public class JwtProviderImpl implements JwtProvider {
 
     @Override
     public UserPayload getPayload(String authorizationHeader){
-        String token = extractToken(authorizationHeader);
-        Claims claims = getClaims(token);
-        try {
-            Long id = claims.get("id", Long.class);
-            return new UserPayload(id);
-        }catch (RequiredTypeException | NullPointerException | IllegalArgumentException e){
-            throw new AccessTokenNotValidException();
-        }
+        return verifyAccessToken(authorizationHeader);
     }
 
     @Override
@@ -84,9 +138,7 @@ public class JwtProviderImpl implements JwtProvider {
     }
 
     private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
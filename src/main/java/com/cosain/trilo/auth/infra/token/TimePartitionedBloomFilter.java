@@ -0,0 +1,178 @@
+package com.cosain.trilo.auth.infra.token;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>시간 구간(partition)별로 나뉜 Bloom Filter 입니다.</p>
+ * <p>구간 길이(partitionMillis) 마다 새 필터로 교체되며, 현재 구간과 직전 구간의 필터 2개만 유지합니다.
+ * 원소는 항상 현재 구간 필터에 추가되고, 조회는 두 필터 모두를 확인합니다.</p>
+ * <p>따라서 추가된 원소는 최소 partitionMillis 동안 조회되며, 2 * partitionMillis 가 지나면 자연스럽게 제거됩니다.
+ * (구간 길이를 접근 토큰 유효기간으로 두면, 만료된 토큰이 필터를 계속 차지하지 않습니다.)</p>
+ * <p>원소는 SHA-256 해시(32바이트)로 전달받으며, 해시 앞 16바이트로 double hashing 하여 k개의 비트 위치를 구합니다.</p>
+ */
+public class TimePartitionedBloomFilter {
+
+    private final int bitSize;
+    private final int hashFunctionCount;
+    private final long partitionMillis;
+    private final Clock clock;
+
+    private volatile Partitions partitions;
+
+    public TimePartitionedBloomFilter(long expectedInsertions, double falsePositiveProbability, long partitionMillis, Clock clock) {
+        if (expectedInsertions <= 0 || falsePositiveProbability <= 0 || falsePositiveProbability >= 1 || partitionMillis <= 0) {
+            throw new IllegalArgumentException("Bloom Filter 설정값이 올바르지 않음");
+        }
+        this.bitSize = optimalBitSize(expectedInsertions, falsePositiveProbability);
+        this.hashFunctionCount = optimalHashFunctionCount(expectedInsertions, bitSize);
+        this.partitionMillis = partitionMillis;
+        this.clock = clock;
+        this.partitions = new Partitions(currentPartitionIndex(), new BitSet(bitSize), new BitSet(bitSize));
+    }
+
+    /**
+     * 원소의 해시를 현재 구간 필터에 추가합니다.
+     * @param hash 원소의 SHA-256 해시
+     */
+    public void put(byte[] hash) {
+        BitSet current = rotateIfNeeded().current;
+        long hash1 = hash1(hash);
+        long hash2 = hash2(hash);
+        for (int i = 0; i < hashFunctionCount; i++) {
+            current.set(bitIndex(hash1, hash2, i));
+        }
+        current.insertions.incrementAndGet();
+    }
+
+    /**
+     * 원소가 필터에 존재할 수 있는 지 확인합니다.
+     * @param hash 원소의 SHA-256 해시
+     * @return false 이면 원소는 확실히 존재하지 않음, true 이면 존재할 수 있음(false positive 가능)
+     */
+    public boolean mightContain(byte[] hash) {
+        Partitions snapshot = rotateIfNeeded();
+        long hash1 = hash1(hash);
+        long hash2 = hash2(hash);
+        return contains(snapshot.current, hash1, hash2) || contains(snapshot.previous, hash1, hash2);
+    }
+
+    /**
+     * 유지중인 두 구간 필터에 추가된 원소 수의 합 (중복 추가 포함)
+     */
+    public long approximateElementCount() {
+        Partitions snapshot = rotateIfNeeded();
+        return snapshot.current.insertions.get() + snapshot.previous.insertions.get();
+    }
+
+    /**
+     * 필터가 차지하는 메모리 크기(bit 배열, byte 단위)
+     */
+    public long sizeInBytes() {
+        return 2L * (bitSize / Long.SIZE + 1) * Long.BYTES;
+    }
+
+    /**
+     * 현재 채워진 비트 비율로 추정한 false positive 확률 (두 구간 중 하나라도 적중할 확률)
+     */
+    public double expectedFalsePositiveProbability() {
+        Partitions snapshot = rotateIfNeeded();
+        double currentFpp = Math.pow((double) snapshot.current.bitCount() / bitSize, hashFunctionCount);
+        double previousFpp = Math.pow((double) snapshot.previous.bitCount() / bitSize, hashFunctionCount);
+        return 1 - (1 - currentFpp) * (1 - previousFpp);
+    }
+
+    private boolean contains(BitSet bitSet, long hash1, long hash2) {
+        for (int i = 0; i < hashFunctionCount; i++) {
+            if (!bitSet.get(bitIndex(hash1, hash2, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Partitions rotateIfNeeded() {
+        Partitions snapshot = partitions;
+        long partitionIndex = currentPartitionIndex();
+        if (snapshot.index == partitionIndex) {
+            return snapshot;
+        }
+        synchronized (this) {
+            snapshot = partitions;
+            if (snapshot.index == partitionIndex) {
+                return snapshot;
+            }
+            BitSet previous = (partitionIndex - snapshot.index == 1) ? snapshot.current : new BitSet(bitSize);
+            partitions = new Partitions(partitionIndex, new BitSet(bitSize), previous);
+            return partitions;
+        }
+    }
+
+    private long currentPartitionIndex() {
+        return clock.millis() / partitionMillis;
+    }
+
+    private int bitIndex(long hash1, long hash2, int i) {
+        long combined = hash1 + i * hash2;
+        return (int) Math.floorMod(combined, (long) bitSize);
+    }
+
+    private static long hash1(byte[] hash) {
+        return ByteBuffer.wrap(hash, 0, Long.BYTES).getLong();
+    }
+
+    private static long hash2(byte[] hash) {
+        return ByteBuffer.wrap(hash, Long.BYTES, Long.BYTES).getLong() | 1L;
+    }
+
+    private static int optimalBitSize(long expectedInsertions, double falsePositiveProbability) {
+        double bits = -expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2));
+        return (int) Math.min(Integer.MAX_VALUE - Long.SIZE, Math.max(Long.SIZE, (long) Math.ceil(bits)));
+    }
+
+    private static int optimalHashFunctionCount(long expectedInsertions, int bitSize) {
+        return Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    private record Partitions(long index, BitSet current, BitSet previous) {
+    }
+
+    /**
+     * 여러 스레드에서 lock 없이 비트를 설정할 수 있는 bit 배열
+     */
+    private static class BitSet {
+
+        private final AtomicLongArray words;
+        private final AtomicLong insertions = new AtomicLong();
+
+        BitSet(int bitSize) {
+            this.words = new AtomicLongArray(bitSize / Long.SIZE + 1);
+        }
+
+        void set(int bitIndex) {
+            int wordIndex = bitIndex >>> 6;
+            long mask = 1L << bitIndex;
+            long word;
+            do {
+                word = words.get(wordIndex);
+                if ((word & mask) != 0) {
+                    return;
+                }
+            } while (!words.compareAndSet(wordIndex, word, word | mask));
+        }
+
+        boolean get(int bitIndex) {
+            return (words.get(bitIndex >>> 6) & (1L << bitIndex)) != 0;
+        }
+
+        long bitCount() {
+            long count = 0;
+            for (int i = 0; i < words.length(); i++) {
+                count += Long.bitCount(words.get(i));
+            }
+            return count;
+        }
+    }
+}
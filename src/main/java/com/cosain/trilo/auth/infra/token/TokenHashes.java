@@ -0,0 +1,31 @@
+package com.cosain.trilo.auth.infra.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 토큰 원문 대신 메모리/메시지에 보관할 SHA-256 해시를 계산합니다.
+ */
+final class TokenHashes {
+
+    /**
+     * 해시 계산에 사용할 MessageDigest (스레드별로 재사용)
+     */
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(TokenHashes::createDigest);
+
+    private TokenHashes() {
+    }
+
+    static byte[] sha256(String token) {
+        return SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없음", e);
+        }
+    }
+}
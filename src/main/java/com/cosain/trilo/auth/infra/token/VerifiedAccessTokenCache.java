@@ -0,0 +1,129 @@
+package com.cosain.trilo.auth.infra.token;
+
+import com.cosain.trilo.auth.application.token.UserPayload;
+
+import java.time.Clock;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * <p>서명 검증이 끝난 접근 토큰의 결과(UserPayload)를 잠시 보관하는 캐시입니다.</p>
+ * <p>토큰 원문 대신 SHA-256 해시를 키로 사용하며, 각 항목은 토큰의 만료 시각(exp)이 지나면 조회되지 않고 제거됩니다.</p>
+ * <p>모든 요청이 거쳐 가므로 전역 잠금 없이 동시 자료구조만 사용합니다. 항목과 별도로 만료 시각 순으로 정렬한 키를 두어,
+ * 만료된 항목을 제거할 때와 최대 크기를 넘었을 때 전체를 훑지 않고 가장 먼저 만료되는 항목부터 제거합니다.
+ * (동시에 저장되는 동안에는 최대 크기를 잠시 넘을 수 있습니다)</p>
+ */
+public class VerifiedAccessTokenCache {
+
+    /**
+     * 캐시가 보관할 수 있는 최대 항목 수 (0 이하이면 캐시 비활성화)
+     */
+    private final int maxSize;
+
+    private final Clock clock;
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 만료 시각 순으로 정렬한 항목 키. 이미 바뀌거나 제거된 항목의 키가 남아 있을 수 있으므로, 꺼낼 때 만료 시각이 같은지 확인합니다.
+     */
+    private final ConcurrentSkipListSet<ExpiryKey> expiryOrder = new ConcurrentSkipListSet<>(
+            Comparator.comparingLong(ExpiryKey::expiresAtMillis).thenComparing(ExpiryKey::key));
+
+    public VerifiedAccessTokenCache(int maxSize, Clock clock) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    /**
+     * 캐싱된 검증 결과를 조회합니다.
+     * @param token 접근 토큰 원문
+     * @return 검증된 사용자 정보, 캐싱되어 있지 않거나 만료됐으면 null
+     */
+    public UserPayload get(String token) {
+        if (isDisabled()) {
+            return null;
+        }
+        String key = hash(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(clock.millis())) {
+            if (entries.remove(key, entry)) {
+                expiryOrder.remove(new ExpiryKey(entry.expiresAtMillis(), key));
+            }
+            return null;
+        }
+        return entry.payload();
+    }
+
+    /**
+     * 검증 결과를 토큰의 만료 시각까지 캐싱합니다. 최대 크기를 넘으면 가장 먼저 만료되는 항목부터 제거합니다.
+     * @param token 접근 토큰 원문
+     * @param payload 검증된 사용자 정보
+     * @param expiresAtMillis 토큰의 만료 시각(epoch millis)
+     */
+    public void put(String token, UserPayload payload, long expiresAtMillis) {
+        if (isDisabled() || expiresAtMillis <= clock.millis()) {
+            return;
+        }
+        String key = hash(token);
+        Entry previous = entries.put(key, new Entry(payload, expiresAtMillis));
+        if (previous != null && previous.expiresAtMillis() != expiresAtMillis) {
+            expiryOrder.remove(new ExpiryKey(previous.expiresAtMillis(), key));
+        }
+        expiryOrder.add(new ExpiryKey(expiresAtMillis, key));
+
+        while (entries.size() > maxSize) {
+            ExpiryKey first = expiryOrder.pollFirst();
+            if (first == null) {
+                break;
+            }
+            removeIfSameExpiry(first);
+        }
+    }
+
+    /**
+     * 만료 시각이 지난 항목들을 제거합니다. (주기적으로 호출)
+     * 만료 시각 순으로 앞에서부터 꺼내므로, 만료되지 않은 항목은 훑지 않습니다.
+     */
+    public void evictExpired() {
+        NavigableSet<ExpiryKey> expired = expiryOrder.headSet(new ExpiryKey(clock.millis() + 1, ""), false);
+        ExpiryKey expiryKey;
+        while ((expiryKey = expired.pollFirst()) != null) {
+            removeIfSameExpiry(expiryKey);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void removeIfSameExpiry(ExpiryKey expiryKey) {
+        entries.computeIfPresent(expiryKey.key(),
+                (key, entry) -> entry.expiresAtMillis() == expiryKey.expiresAtMillis() ? null : entry);
+    }
+
+    private boolean isDisabled() {
+        return maxSize <= 0;
+    }
+
+    private static String hash(String token) {
+        return Base64.getEncoder().encodeToString(TokenHashes.sha256(token));
+    }
+
+    private record Entry(UserPayload payload, long expiresAtMillis) {
+
+        boolean isExpired(long nowMillis) {
+            return expiresAtMillis <= nowMillis;
+        }
+    }
+
+    private record ExpiryKey(long expiresAtMillis, String key) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.cosain.trilo.auth.presentation;
 
 import com.cosain.trilo.auth.application.token.JwtProvider;
+import com.cosain.trilo.auth.application.token.UserPayload;
 import lombok.RequiredArgsConstructor;
 import org.apache.http.HttpHeaders;
 import org.springframework.core.MethodParameter;
@@ -24,6 +25,9 @@ public class AuthArgumentResolver implements HandlerMethodArgumentResolver {
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
                                   NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        UserPayload verifiedUserPayload = AuthenticatedUserContext.find(webRequest);
+        if(verifiedUserPayload != null) return verifiedUserPayload;
+
         String authorizationHeader = webRequest.getHeader(HttpHeaders.AUTHORIZATION);
         if(authorizationHeader == null) return null;
         return jwtProvider.getPayload(authorizationHeader);
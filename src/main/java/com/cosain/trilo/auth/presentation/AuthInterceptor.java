@@ -1,6 +1,8 @@
 package com.cosain.trilo.auth.presentation;
 
 import com.cosain.trilo.auth.application.token.JwtProvider;
+import com.cosain.trilo.auth.application.token.LogoutAccessTokenBlocklist;
+import com.cosain.trilo.auth.application.token.UserPayload;
 import com.cosain.trilo.common.exception.auth.AccessTokenNotExistException;
 import com.cosain.trilo.common.exception.auth.AccessTokenNotValidException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,6 +20,7 @@ import org.springframework.web.servlet.HandlerInterceptor;
 public class AuthInterceptor implements HandlerInterceptor {
 
     private final JwtProvider jwtProvider;
+    private final LogoutAccessTokenBlocklist logoutAccessTokenBlocklist;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)  {
@@ -42,9 +45,18 @@ public class AuthInterceptor implements HandlerInterceptor {
 
     private void validateAuthorization(HttpServletRequest request){
         String authorizationHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
-        if(!jwtProvider.isValidAccessToken(authorizationHeader)){
+        // 토큰을 한 번만 검증하고, 그 결과를 요청에 보관하여 ArgumentResolver 에서 재사용
+        UserPayload userPayload = jwtProvider.verifyAccessToken(authorizationHeader);
+        if(userPayload == null || isLoggedOut(authorizationHeader)){
             throw new AccessTokenNotValidException();
         }
+        AuthenticatedUserContext.store(request, userPayload);
+    }
+
+    private boolean isLoggedOut(String authorizationHeader){
+        // 헤더 형식은 verifyAccessToken 에서 검증되었으므로 "Bearer " 이후가 토큰
+        String accessToken = authorizationHeader.substring(7);
+        return logoutAccessTokenBlocklist.isLoggedOut(accessToken);
     }
 
     private void validateTokenRequired(Object handler) {
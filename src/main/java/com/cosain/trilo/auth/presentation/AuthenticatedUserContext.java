@@ -0,0 +1,26 @@
+package com.cosain.trilo.auth.presentation;
+
+import com.cosain.trilo.auth.application.token.UserPayload;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+
+/**
+ * <p>요청 단위로, 이미 검증이 끝난 사용자 정보를 요청 속성(request attribute)에 보관합니다.</p>
+ * <p>{@link AuthInterceptor}가 한 번 검증한 결과를 {@link AuthArgumentResolver}가 재사용하여, 같은 토큰을 두 번 파싱/검증하지 않도록 합니다.</p>
+ */
+final class AuthenticatedUserContext {
+
+    private static final String ATTRIBUTE_NAME = AuthenticatedUserContext.class.getName() + ".USER_PAYLOAD";
+
+    private AuthenticatedUserContext() {
+    }
+
+    static void store(HttpServletRequest request, UserPayload userPayload) {
+        request.setAttribute(ATTRIBUTE_NAME, userPayload);
+    }
+
+    static UserPayload find(NativeWebRequest webRequest) {
+        return (UserPayload) webRequest.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+    }
+}
@@ -0,0 +1,28 @@
+package com.cosain.trilo.common.exception.auth;
+
+import com.cosain.trilo.common.exception.CustomException;
+import org.springframework.http.HttpStatus;
+
+public class OAuthProviderUnavailableException extends CustomException {
+
+    private static final String ERROR_CODE = "auth-0006";
+    private static final HttpStatus HTTP_STATUS = HttpStatus.SERVICE_UNAVAILABLE;
+
+    public OAuthProviderUnavailableException(String debugMessage) {
+        super(debugMessage);
+    }
+
+    public OAuthProviderUnavailableException(String debugMessage, Throwable cause) {
+        super(debugMessage, cause);
+    }
+
+    @Override
+    public String getErrorCode() {
+        return ERROR_CODE;
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HTTP_STATUS;
+    }
+}
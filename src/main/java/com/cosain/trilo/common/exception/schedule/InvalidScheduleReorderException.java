@@ -0,0 +1,35 @@
+package com.cosain.trilo.common.exception.schedule;
+
+import com.cosain.trilo.common.exception.CustomException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidScheduleReorderException extends CustomException {
+
+    private static final String ERROR_CODE = "schedule-0013";
+    private static final HttpStatus HTTP_STATUS = HttpStatus.BAD_REQUEST;
+
+    public InvalidScheduleReorderException() {
+    }
+
+    public InvalidScheduleReorderException(String debugMessage) {
+        super(debugMessage);
+    }
+
+    public InvalidScheduleReorderException(Throwable cause) {
+        super(cause);
+    }
+
+    public InvalidScheduleReorderException(String debugMessage, Throwable cause) {
+        super(debugMessage, cause);
+    }
+
+    @Override
+    public String getErrorCode() {
+        return ERROR_CODE;
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HTTP_STATUS;
+    }
+}
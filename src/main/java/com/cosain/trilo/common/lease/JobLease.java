@@ -0,0 +1,116 @@
+package com.cosain.trilo.common.lease;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * <p>여러 서버 중 한 곳에서만 배치 작업을 실행하도록, job_lease 테이블의 행으로 작업별 임대(lease)를 관리합니다.</p>
+ * <ul>
+ *     <li>임대는 만료 시각까지만 유효합니다. 작업 도중 서버가 죽으면 만료 후 다른 서버가 가져갈 수 있습니다.</li>
+ *     <li>작업은 진행 위치(checkpoint)를 임대와 같은 행에 기록합니다. 기록은 임대를 가진 서버만 할 수 있고 기록할 때마다 임대가 연장되므로,
+ *     임대를 잃은 서버는 기록에 실패한 시점에 작업을 멈추면 됩니다.</li>
+ *     <li>시각은 서버 간 시계 차이를 피하려고 DB 의 NOW(3) 를 기준으로 합니다.</li>
+ * </ul>
+ */
+@Component
+public class JobLease {
+
+    /**
+     * 임대 행이 없으면 만들고, 임대가 만료되었거나 이미 내 임대이면 가져옵니다. (owner 를 먼저 바꾼 뒤 lease_until 에서 바뀐 owner 를 봄)
+     */
+    private static final String ACQUIRE_SQL = """
+            INSERT INTO job_lease (job_name, owner, lease_until, checkpoint)
+            VALUES (?, ?, NOW(3) + INTERVAL ? SECOND, 0)
+            ON DUPLICATE KEY UPDATE
+                owner = IF(owner = VALUES(owner) OR lease_until < NOW(3), VALUES(owner), owner),
+                lease_until = IF(owner = VALUES(owner), VALUES(lease_until), lease_until)
+            """;
+
+    private static final String FIND_OWNER_SQL = "SELECT owner FROM job_lease WHERE job_name = ?";
+
+    private static final String FIND_CHECKPOINT_SQL = "SELECT checkpoint FROM job_lease WHERE job_name = ?";
+
+    private static final String SAVE_CHECKPOINT_SQL = """
+            UPDATE job_lease SET checkpoint = ?, lease_until = NOW(3) + INTERVAL ? SECOND
+            WHERE job_name = ? AND owner = ? AND lease_until >= NOW(3)
+            """;
+
+    private static final String RELEASE_SQL = "UPDATE job_lease SET lease_until = NOW(3) WHERE job_name = ? AND owner = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이 서버(인스턴스)를 구별하는 임대 소유자 이름
+     */
+    private final String owner;
+
+    @Autowired
+    public JobLease(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, hostName() + ":" + UUID.randomUUID());
+    }
+
+    public JobLease(JdbcTemplate jdbcTemplate, String owner) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.owner = owner;
+    }
+
+    /**
+     * 작업의 임대를 가져오거나 연장합니다.
+     * @param jobName 작업 이름
+     * @param leaseSeconds 임대 기간(초)
+     * @return 임대를 가졌으면 true, 다른 서버가 임대 중이면 false
+     */
+    public boolean tryAcquire(String jobName, long leaseSeconds) {
+        jdbcTemplate.update(ACQUIRE_SQL, jobName, owner, leaseSeconds);
+        List<String> owners = jdbcTemplate.queryForList(FIND_OWNER_SQL, String.class, jobName);
+        return !owners.isEmpty() && Objects.equals(owners.get(0), owner);
+    }
+
+    /**
+     * 작업의 진행 위치를 조회합니다.
+     * @param jobName 작업 이름
+     * @return 마지막으로 기록한 진행 위치 (기록이 없으면 0)
+     */
+    public long getCheckpoint(String jobName) {
+        List<Long> checkpoints = jdbcTemplate.queryForList(FIND_CHECKPOINT_SQL, Long.class, jobName);
+        return checkpoints.isEmpty() ? 0L : checkpoints.get(0);
+    }
+
+    /**
+     * 임대를 가진 경우에만 진행 위치를 기록하고 임대를 연장합니다.
+     * @param jobName 작업 이름
+     * @param checkpoint 진행 위치
+     * @param leaseSeconds 연장할 임대 기간(초)
+     * @return 기록했으면 true, 임대를 잃었으면 false
+     */
+    public boolean saveCheckpoint(String jobName, long checkpoint, long leaseSeconds) {
+        return jdbcTemplate.update(SAVE_CHECKPOINT_SQL, checkpoint, leaseSeconds, jobName, owner) == 1;
+    }
+
+    /**
+     * 임대를 바로 만료시켜 다른 서버가 가져갈 수 있게 합니다. (진행 위치는 유지)
+     * @param jobName 작업 이름
+     */
+    public void release(String jobName) {
+        jdbcTemplate.update(RELEASE_SQL, jobName, owner);
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown-host";
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.cosain.trilo.common.logging.query;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 꺼내 주는 커넥션을 {@link InstrumentedConnection} 으로 감싸, 실행한 쿼리를 {@link QueryCounter} 에 기록하는 DataSource 입니다.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private final QueryCounter queryCounter;
+
+    public InstrumentedDataSource(DataSource targetDataSource, QueryCounter queryCounter) {
+        super(targetDataSource);
+        this.queryCounter = queryCounter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return new InstrumentedConnection(obtainTargetDataSource().getConnection(), queryCounter);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return new InstrumentedConnection(obtainTargetDataSource().getConnection(username, password), queryCounter);
+    }
+}
@@ -0,0 +1,29 @@
+package com.cosain.trilo.common.logging.query;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * <p>DataSource 빈을 {@link InstrumentedDataSource} 로 감쌉니다.</p>
+ * <p>후처리기는 다른 빈보다 먼저 만들어지므로, {@link QueryCounter} 는 DataSource 를 감쌀 때 꺼냅니다.</p>
+ */
+@Component
+public class InstrumentedDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<QueryCounter> queryCounterProvider;
+
+    public InstrumentedDataSourcePostProcessor(ObjectProvider<QueryCounter> queryCounterProvider) {
+        this.queryCounterProvider = queryCounterProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+            return new InstrumentedDataSource(dataSource, queryCounterProvider.getObject());
+        }
+        return bean;
+    }
+}
@@ -1,32 +1,191 @@
 package com.cosain.trilo.common.logging.query;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>요청이 시작되면 쿼리 통계({@link QueryStats})를 초기화하고, 끝나면 그 요청의 통계를 로그로 남기고 API(HTTP 메서드 + URI 패턴)별 지표로 내보냅니다.
+ * 다른 인터셉터에서 실행한 쿼리도 세도록 가장 먼저 실행합니다.</p>
+ * <ul>
+ *     <li>{@code http.jdbc.statements} : 요청당 쿼리 수</li>
+ *     <li>{@code http.jdbc.time} : 요청당 쿼리 실행 시간의 합</li>
+ *     <li>{@code http.jdbc.rows} : 요청당 읽은 행 수</li>
+ *     <li>{@code http.jdbc.slowest} : 요청에서 가장 오래 걸린 쿼리의 실행 시간</li>
+ *     <li>{@code http.jdbc.repeated} : 같은 조회 쿼리를 기준보다 많이 실행한 요청 수</li>
+ * </ul>
+ * <p>가장 오래 걸린 쿼리가 query.log.slow-threshold-ms 이상이면, 그 쿼리를 경고 로그로 남깁니다.</p>
+ * <p>같은 지문의 조회 쿼리를 query.repeated.threshold 번보다 많이 실행한 요청은 지연 로딩 N+1 로 의심해 지표를 올리고,
+ * 로그가 넘치지 않도록 API 별로 처음 한 번과 그 뒤 query.repeated.log-every 번마다 한 번 경고 로그로 남깁니다.</p>
+ * <p>요약({@link RequestQueryReport})은 {@link RequestQueryReportListener} 에도 넘깁니다.</p>
+ */
 @Slf4j
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class QueryCountInterceptor implements HandlerInterceptor {
 
-    private static final String QUERY_INFO_FORMAT = "QUERY_INFO : [{} {}] [STATUS CODE: {}] [QUERY_COUNT: {}]";
+    private static final String METRIC_PREFIX = "http.jdbc";
+    private static final String QUERY_INFO_FORMAT = "QUERY_INFO : [{} {}] [STATUS CODE: {}] [QUERY_COUNT: {}] [JDBC_TIME: {}ms] [ROWS: {}] [SLOWEST: {}ms]";
+    private static final String SLOW_QUERY_FORMAT = "SLOW_QUERY : [{} {}] [{}ms] {}";
+    private static final String REPEATED_QUERY_FORMAT = "REPEATED_QUERY : [{} {}] 같은 조회 쿼리를 {}번보다 많이 실행 (N+1 의심, 이 API 에서 {}번째) {}";
+
+    /**
+     * 핸들러를 찾지 못한 요청(404 등)의 URI 태그
+     */
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
     private final QueryCounter queryCounter;
+    private final MeterRegistry meterRegistry;
+    private final List<RequestQueryReportListener> listeners;
+
+    /**
+     * 가장 오래 걸린 쿼리를 경고 로그로 남기는 기준
+     */
+    private final long slowThresholdNanos;
+
+    /**
+     * 한 요청에서 같은 조회 쿼리를 이 횟수보다 많이 실행하면 N+1 로 의심
+     */
+    private final int repeatedThreshold;
+
+    /**
+     * N+1 의심 경고 로그를 API 별로 몇 번에 한 번 남길 지
+     */
+    private final int repeatedLogEvery;
 
-    public QueryCountInterceptor(QueryCounter queryCounter) {
+    /**
+     * "HTTP 메서드 URI 패턴" 별 지표
+     */
+    private final Map<String, EndpointMeters> endpointMeters = new ConcurrentHashMap<>();
+
+    public QueryCountInterceptor(
+            QueryCounter queryCounter,
+            MeterRegistry meterRegistry,
+            List<RequestQueryReportListener> listeners,
+            @Value("${query.log.slow-threshold-ms:200}") long slowThresholdMillis,
+            @Value("${query.repeated.threshold:10}") int repeatedThreshold,
+            @Value("${query.repeated.log-every:100}") int repeatedLogEvery) {
+        if (repeatedLogEvery < 1) {
+            throw new IllegalArgumentException("query.repeated.log-every 는 1 이상이어야 함 : " + repeatedLogEvery);
+        }
         this.queryCounter = queryCounter;
+        this.meterRegistry = meterRegistry;
+        this.listeners = listeners;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.repeatedThreshold = repeatedThreshold;
+        this.repeatedLogEvery = repeatedLogEvery;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        queryCounter.resetCount();
+        return true;
     }
 
     @Override
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
                                 Object handler, Exception ex) {
 
-        int count = queryCounter.getCount();
+        QueryStats stats = queryCounter.getStats();
         int status = response.getStatus();
         String requestURI = request.getRequestURI();
         String method = request.getMethod();
 
-        log.info(QUERY_INFO_FORMAT, method, requestURI, status, count);
+        log.info(QUERY_INFO_FORMAT, method, requestURI, status, stats.getStatementCount(),
+                TimeUnit.NANOSECONDS.toMillis(stats.getJdbcNanos()), stats.getRowsFetched(),
+                TimeUnit.NANOSECONDS.toMillis(stats.getSlowestNanos()));
+        if (stats.getSlowestNanos() >= slowThresholdNanos && stats.getSlowestSql() != null) {
+            log.warn(SLOW_QUERY_FORMAT, method, requestURI, TimeUnit.NANOSECONDS.toMillis(stats.getSlowestNanos()), stats.getSlowestSql());
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? UNKNOWN_URI : pattern.toString();
+        EndpointMeters meters = endpointMeters.computeIfAbsent(method + " " + uri, key -> new EndpointMeters(method, uri, meterRegistry));
+        meters.record(stats);
+
+        List<RepeatedStatement> repeatedStatements = stats.findRepeatedStatements(repeatedThreshold);
+        if (!repeatedStatements.isEmpty()) {
+            long occurrence = meters.recordRepeated();
+            if (occurrence % repeatedLogEvery == 0) {
+                log.warn(REPEATED_QUERY_FORMAT, method, uri, repeatedThreshold, occurrence + 1, repeatedStatements);
+            }
+        }
+
+        if (!listeners.isEmpty()) {
+            RequestQueryReport report = new RequestQueryReport(method, uri, stats.getStatementCount(), stats.getJdbcNanos(),
+                    stats.getRowsFetched(), stats.getSlowestSql(), repeatedStatements);
+            listeners.forEach(listener -> listener.onRequestCompleted(report));
+        }
         queryCounter.resetCount();
     }
+
+    private static class EndpointMeters {
+
+        private final DistributionSummary statements;
+        private final Timer jdbcTime;
+        private final DistributionSummary rows;
+        private final Timer slowest;
+        private final Counter repeated;
+
+        /**
+         * N+1 이 의심된 요청 수 (경고 로그 표본 추출용)
+         */
+        private final AtomicLong repeatedRequests = new AtomicLong();
+
+        EndpointMeters(String method, String uri, MeterRegistry meterRegistry) {
+            Tags tags = Tags.of("method", method, "uri", uri);
+            this.statements = DistributionSummary.builder(METRIC_PREFIX + ".statements")
+                    .tags(tags)
+                    .description("요청당 실행한 쿼리 수")
+                    .register(meterRegistry);
+            this.jdbcTime = Timer.builder(METRIC_PREFIX + ".time")
+                    .tags(tags)
+                    .description("요청당 쿼리 실행 시간의 합")
+                    .register(meterRegistry);
+            this.rows = DistributionSummary.builder(METRIC_PREFIX + ".rows")
+                    .tags(tags)
+                    .description("요청당 읽은 행 수")
+                    .register(meterRegistry);
+            this.slowest = Timer.builder(METRIC_PREFIX + ".slowest")
+                    .tags(tags)
+                    .description("요청에서 가장 오래 걸린 쿼리의 실행 시간")
+                    .register(meterRegistry);
+            this.repeated = Counter.builder(METRIC_PREFIX + ".repeated")
+                    .tags(tags)
+                    .description("같은 조회 쿼리를 기준보다 많이 실행한 요청 수 (N+1 의심)")
+                    .register(meterRegistry);
+        }
+
+        void record(QueryStats stats) {
+            statements.record(stats.getStatementCount());
+            jdbcTime.record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+            rows.record(stats.getRowsFetched());
+            slowest.record(stats.getSlowestNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * @return 이번 요청 전까지 N+1 이 의심된 요청 수
+         */
+        long recordRepeated() {
+            repeated.increment();
+            return repeatedRequests.getAndIncrement();
+        }
+    }
 }
@@ -2,21 +2,27 @@ package com.cosain.trilo.common.logging.query;
 
 import org.springframework.stereotype.Component;
 
-
+/**
+ * 스레드별 쿼리 통계({@link QueryStats})를 보관합니다. 통계 객체는 스레드마다 한 번만 만들어 재사용합니다.
+ */
 @Component
 public class QueryCounter {
 
-    private final ThreadLocal<Integer> count = ThreadLocal.withInitial(() -> 0);
+    private final ThreadLocal<QueryStats> stats = ThreadLocal.withInitial(QueryStats::new);
+
+    public QueryStats getStats() {
+        return stats.get();
+    }
 
     public void increaseCount() {
-        count.set(count.get() + 1);
+        stats.get().increaseCount();
     }
 
     public int getCount() {
-        return count.get();
+        return stats.get().getStatementCount();
     }
 
     public void resetCount() {
-        count.set(0);
+        stats.get().reset();
     }
 }
@@ -0,0 +1,133 @@
+package com.cosain.trilo.common.logging.query;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>한 스레드(요청)에서 실행된 쿼리의 통계입니다.</p>
+ * <p>스레드마다 하나를 만들어 재사용하고 기본형 필드만 갱신하므로, 쿼리를 기록할 때 객체를 만들지 않습니다.
+ * 한 스레드에서만 쓰이므로 동기화하지 않습니다.</p>
+ * <p>조회 쿼리는 지문({@link SqlFingerprint})별 실행 횟수도 셉니다. (지연 로딩 N+1 탐지)
+ * 횟수는 초기화 세대(generation)로 구분해, 초기화할 때 항목을 지우지 않고 처음 보는 지문에만 항목을 만듭니다.</p>
+ */
+@Getter
+public class QueryStats {
+
+    /**
+     * 지문별 실행 횟수를 보관할 최대 지문 수 (넘으면 비우고 다시 셈)
+     */
+    private static final int MAX_FINGERPRINTS = 1024;
+
+    /**
+     * 실행한 쿼리 수
+     */
+    private int statementCount;
+
+    /**
+     * 쿼리 실행에 걸린 시간의 합 (결과를 읽는 시간은 제외)
+     */
+    private long jdbcNanos;
+
+    /**
+     * 결과에서 읽은 행 수
+     */
+    private long rowsFetched;
+
+    /**
+     * 가장 오래 걸린 쿼리의 실행 시간
+     */
+    private long slowestNanos;
+
+    /**
+     * 가장 오래 걸린 쿼리
+     */
+    private String slowestSql;
+
+    /**
+     * 조회 쿼리 지문별 실행 횟수
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<String, FingerprintCount> selectCounts = new HashMap<>();
+
+    @Getter(AccessLevel.NONE)
+    private int generation;
+
+    public void recordExecution(String sql, long elapsedNanos) {
+        statementCount++;
+        jdbcNanos += elapsedNanos;
+        if (elapsedNanos > slowestNanos) {
+            slowestNanos = elapsedNanos;
+            slowestSql = sql;
+        }
+        if (sql != null) {
+            countFingerprint(SqlFingerprint.of(sql));
+        }
+    }
+
+    private void countFingerprint(String fingerprint) {
+        if (!SqlFingerprint.isSelect(fingerprint)) {
+            return;
+        }
+        FingerprintCount count = selectCounts.get(fingerprint);
+        if (count == null) {
+            if (selectCounts.size() >= MAX_FINGERPRINTS) {
+                selectCounts.clear();
+            }
+            count = new FingerprintCount();
+            selectCounts.put(fingerprint, count);
+        }
+        if (count.generation != generation) {
+            count.generation = generation;
+            count.value = 0;
+        }
+        count.value++;
+    }
+
+    public void recordRow() {
+        rowsFetched++;
+    }
+
+    void increaseCount() {
+        statementCount++;
+    }
+
+    /**
+     * 마지막 초기화 이후 threshold 번보다 많이 실행된 조회 쿼리를 실행 횟수가 많은 순으로 찾습니다.
+     */
+    public List<RepeatedStatement> findRepeatedStatements(int threshold) {
+        List<RepeatedStatement> repeated = null;
+        for (Map.Entry<String, FingerprintCount> entry : selectCounts.entrySet()) {
+            FingerprintCount count = entry.getValue();
+            if (count.generation == generation && count.value > threshold) {
+                if (repeated == null) {
+                    repeated = new ArrayList<>();
+                }
+                repeated.add(new RepeatedStatement(entry.getKey(), count.value));
+            }
+        }
+        if (repeated == null) {
+            return List.of();
+        }
+        repeated.sort((a, b) -> Integer.compare(b.count(), a.count()));
+        return repeated;
+    }
+
+    public void reset() {
+        statementCount = 0;
+        jdbcNanos = 0;
+        rowsFetched = 0;
+        slowestNanos = 0;
+        slowestSql = null;
+        generation++;
+    }
+
+    private static class FingerprintCount {
+        private int generation;
+        private int value;
+    }
+}
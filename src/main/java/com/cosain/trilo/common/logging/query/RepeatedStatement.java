@@ -0,0 +1,9 @@
+package com.cosain.trilo.common.logging.query;
+
+/**
+ * 한 요청에서 기준보다 많이 실행된 쿼리
+ * @param fingerprint : 쿼리 지문 ({@link SqlFingerprint})
+ * @param count : 실행 횟수
+ */
+public record RepeatedStatement(String fingerprint, int count) {
+}
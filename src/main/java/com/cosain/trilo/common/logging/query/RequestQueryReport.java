@@ -0,0 +1,23 @@
+package com.cosain.trilo.common.logging.query;
+
+import java.util.List;
+
+/**
+ * 요청 한 건에서 실행한 쿼리의 요약
+ * @param method : HTTP 메서드
+ * @param uri : 요청에 대응된 URI 패턴 (핸들러를 찾지 못하면 UNKNOWN)
+ * @param statementCount : 실행한 쿼리 수
+ * @param jdbcNanos : 쿼리 실행 시간의 합
+ * @param rowsFetched : 읽은 행 수
+ * @param slowestSql : 가장 오래 걸린 쿼리
+ * @param repeatedStatements : 기준보다 많이 실행된 조회 쿼리 (N+1 의심)
+ */
+public record RequestQueryReport(
+        String method,
+        String uri,
+        int statementCount,
+        long jdbcNanos,
+        long rowsFetched,
+        String slowestSql,
+        List<RepeatedStatement> repeatedStatements) {
+}
@@ -0,0 +1,9 @@
+package com.cosain.trilo.common.logging.query;
+
+/**
+ * 요청이 끝날 때마다 그 요청의 쿼리 요약({@link RequestQueryReport})을 받습니다. (테스트에서 API 별 쿼리 수를 검증할 때 사용)
+ */
+public interface RequestQueryReportListener {
+
+    void onRequestCompleted(RequestQueryReport report);
+}
@@ -0,0 +1,102 @@
+package com.cosain.trilo.common.logging.query;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * <p>같은 모양의 쿼리를 하나로 묶기 위한 지문(fingerprint)을 만듭니다.</p>
+ * <ul>
+ *     <li>문자열/숫자 리터럴은 ? 로 바꾸고, 연속된 공백은 하나로 줄입니다.</li>
+ *     <li>IN 목록은 항목 수와 관계없이 {@code in (?)} 로 바꿉니다. (IN 목록 길이만 다른 쿼리를 같은 쿼리로 봄)</li>
+ * </ul>
+ * <p>PreparedStatement 는 같은 SQL 문자열을 반복해 실행하므로, 만든 지문은 SQL 별로 캐시해 다시 계산하지 않습니다.
+ * 모든 JDBC 실행이 거쳐 가므로 잠금 없이 조회하고, 조회할 때 캐시를 바꾸지 않습니다.
+ * 리터럴이 그대로 들어간 쿼리로 캐시가 끝없이 커지지 않도록, 가득 차면 통째로 비우고 다시 채웁니다.
+ * (자주 실행되는 SQL 은 금방 다시 채워지므로, 가끔 다시 계산하는 비용만 듦)</p>
+ */
+public final class SqlFingerprint {
+
+    private static final int MAX_CACHE_SIZE = 4096;
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin ?\\( ?\\?( ?, ?\\?)* ?\\)");
+    private static final String IN_PLACEHOLDER = "in (?)";
+
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        String cached = CACHE.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        String fingerprint = normalize(sql);
+        if (CACHE.size() >= MAX_CACHE_SIZE) {
+            CACHE.clear();
+        }
+        CACHE.put(sql, fingerprint);
+        return fingerprint;
+    }
+
+    /**
+     * 지문이 조회(SELECT) 쿼리인지 확인합니다.
+     */
+    public static boolean isSelect(String fingerprint) {
+        return fingerprint.regionMatches(true, 0, "select", 0, 6);
+    }
+
+    static String normalize(String sql) {
+        StringBuilder sb = new StringBuilder(sql.length());
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                // 문자열 리터럴 ('' 는 이스케이프된 따옴표)
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                i++;
+                sb.append('?');
+            } else if (Character.isDigit(c) && !endsWithIdentifier(sb)) {
+                // 식별자(t1_0 등)의 일부가 아닌 숫자 리터럴
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                sb.append('?');
+            } else if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (!sb.isEmpty()) {
+                    sb.append(' ');
+                }
+            } else {
+                sb.append(c);
+                i++;
+            }
+        }
+        int end = sb.length();
+        if (end > 0 && sb.charAt(end - 1) == ' ') {
+            sb.setLength(end - 1);
+        }
+        return IN_LIST.matcher(sb).replaceAll(IN_PLACEHOLDER);
+    }
+
+    private static boolean endsWithIdentifier(StringBuilder sb) {
+        if (sb.isEmpty()) {
+            return false;
+        }
+        char last = sb.charAt(sb.length() - 1);
+        return Character.isLetterOrDigit(last) || last == '_' || last == '$';
+    }
+}
@@ -0,0 +1,10 @@
+package com.cosain.trilo.common.outbox;
+
+/**
+ * <p>발행한 트랜잭션과 같은 트랜잭션에서 outbox_event 에 기록되어, 커밋 후 {@link OutboxRelay} 가 처리하는 이벤트입니다.</p>
+ * <p>서버가 커밋 직후 죽어도 기록이 남으므로 처리가 빠지지 않습니다. 대신 한 번 이상 처리될 수 있으므로 처리기는 여러 번 처리해도 결과가 같아야 합니다.
+ * JSON 으로 저장되므로 Jackson 으로 역직렬화할 수 있어야 합니다.</p>
+ * @see OutboxEventHandler
+ */
+public interface OutboxEvent {
+}
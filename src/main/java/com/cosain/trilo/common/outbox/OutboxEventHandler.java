@@ -0,0 +1,22 @@
+package com.cosain.trilo.common.outbox;
+
+/**
+ * <p>outbox_event 에 기록된 이벤트를 종류별로 처리하는 처리기입니다. 빈으로 등록하면 {@link OutboxRelay} 가 찾아 사용합니다.</p>
+ * <p>같은 이벤트가 한 번 이상 전달될 수 있으므로(처리 도중 서버가 죽은 경우 등) 여러 번 처리해도 결과가 같아야 합니다.
+ * 이벤트는 하나씩, 여러 스레드에서 동시에 전달될 수 있으며 기록된 순서는 보장하지 않습니다.
+ * 예외를 던지면 그 이벤트만 잠시 뒤 다시 전달되고, 최대 시도 횟수를 넘기면 outbox_dead_letter 로 옮겨집니다.</p>
+ * @param <T> 처리할 이벤트 타입
+ */
+public interface OutboxEventHandler<T extends OutboxEvent> {
+
+    /**
+     * @return 처리할 이벤트 타입
+     */
+    Class<T> getEventType();
+
+    /**
+     * 이벤트 하나를 처리합니다.
+     * @param event 처리할 이벤트
+     */
+    void handle(T event);
+}
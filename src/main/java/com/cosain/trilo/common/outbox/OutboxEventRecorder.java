@@ -0,0 +1,38 @@
+package com.cosain.trilo.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p>발행된 {@link OutboxEvent} 를 발행한 트랜잭션 안에서 outbox_event 에 기록합니다.</p>
+ * <p>도메인 변경이 롤백되면 기록도 함께 롤백되므로, 커밋된 변경의 이벤트만 남습니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRecorder {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO outbox_event (event_type, payload, attempts, created_at, available_at)
+            VALUES (?, ?, 0, NOW(3), NOW(3))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    public void record(OutboxEvent event) {
+        jdbcTemplate.update(INSERT_SQL, event.getClass().getName(), serialize(event));
+    }
+
+    private String serialize(OutboxEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("outbox 이벤트를 직렬화할 수 없음 : " + event.getClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package com.cosain.trilo.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * <p>outbox_event 에 기록된 이벤트를 주기적으로 가져와 {@link OutboxEventHandler} 에 하나씩 전달합니다.</p>
+ * <ul>
+ *     <li>가져올 행은 {@code FOR UPDATE SKIP LOCKED} 로 잠그고, 같은 트랜잭션에서 available_at 을 leaseSeconds 뒤로 미뤄 선점한 뒤 바로 커밋합니다.
+ *     여러 서버가 동시에 가져가도 서로 다른 행을 가져가며, 처리는 트랜잭션 밖에서 하므로 처리기가 자기 트랜잭션을 나누어 쓸 수 있습니다.</li>
+ *     <li>가져온 이벤트는 비동기 실행기(threadPoolTaskExecutor)에서 하나씩 처리하고, 처리 결과도 이벤트마다 따로 반영합니다.
+ *     성공한 행은 삭제하고, 실패한 행만 시도 횟수에 따라 2^attempts 초(최대 maxBackoffSeconds) 뒤에 다시 가져갑니다.
+ *     maxAttempts 번 실패한 행은 outbox_dead_letter 로 옮겨, 처리할 수 없는 이벤트가 다른 이벤트를 막지 않게 합니다.</li>
+ *     <li>선점할 때 늘린 attempts 를 선점 표시로 씁니다. 처리를 시작할 때 선점 기간을 다시 leaseSeconds 만큼 늘리고,
+ *     그 사이 선점 기간이 지나 다른 서버가 가져갔다면(attempts 가 바뀜) 처리하지 않습니다. 처리 결과도 선점 표시가 같을 때만 반영합니다.
+ *     따라서 선점 기간은 묶음 전체가 아니라 이벤트 하나의 처리 시간보다 길면 됩니다.</li>
+ *     <li>스케줄러 스레드는 가져온 이벤트를 실행기에 넘기기만 하고 처리가 끝나기를 기다리지 않습니다.
+ *     대신 처리 중인 이벤트 수를 maxInFlight 로 제한해, 처리가 밀리면 빈 자리만큼만 가져오고 자리가 없으면 다음 주기에 다시 가져옵니다.
+ *     실행기가 거절한 이벤트는 선점을 풀어 바로 다시 가져갈 수 있게 돌려놓습니다.</li>
+ *     <li>처리 도중 서버가 죽으면 선점 기간이 지난 뒤 다른 서버가 다시 가져가므로, 이벤트는 최소 한 번 처리됩니다.</li>
+ *     <li>이 서버에 처리기가 있는 종류의 이벤트만 가져갑니다. (새 이벤트 종류를 배포하는 중에 이전 버전 서버가 가져가지 않도록)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final String METRIC_PREFIX = "outbox";
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private static final String CLAIM_SQL = """
+            SELECT event_id, event_type, payload, attempts, TIMESTAMPDIFF(MICROSECOND, created_at, NOW(3)) AS age_micros
+            FROM outbox_event
+            WHERE available_at <= NOW(3) AND event_type IN (%s)
+            ORDER BY available_at, event_id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String LEASE_SQL =
+            "UPDATE outbox_event SET available_at = NOW(3) + INTERVAL ? SECOND, attempts = attempts + 1 WHERE event_id IN (%s)";
+
+    private static final String RENEW_SQL =
+            "UPDATE outbox_event SET available_at = NOW(3) + INTERVAL ? SECOND WHERE event_id = ? AND attempts = ?";
+
+    private static final String RELEASE_SQL =
+            "UPDATE outbox_event SET available_at = NOW(3) WHERE event_id = ? AND attempts = ?";
+
+    private static final String DONE_SQL = "DELETE FROM outbox_event WHERE event_id = ? AND attempts = ?";
+
+    private static final String RETRY_SQL =
+            "UPDATE outbox_event SET available_at = NOW(3) + INTERVAL LEAST(?, POW(2, attempts)) SECOND, last_error = ? WHERE event_id = ? AND attempts = ?";
+
+    private static final String DEAD_LETTER_SQL = """
+            INSERT INTO outbox_dead_letter (event_id, event_type, payload, attempts, last_error, created_at, dead_at)
+            SELECT event_id, event_type, payload, attempts, ?, created_at, NOW(3)
+            FROM outbox_event
+            WHERE event_id = ? AND attempts = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이벤트 타입 이름(클래스 이름)별 처리기
+     */
+    private final Map<String, OutboxEventHandler<?>> handlers;
+
+    /**
+     * 가져온 이벤트를 처리할 실행기
+     */
+    private final Executor executor;
+
+    /**
+     * 주기적으로 가져올 지 여부
+     */
+    private final boolean enabled;
+
+    /**
+     * 한 번에 가져올 최대 이벤트 수
+     */
+    private final int batchSize;
+
+    /**
+     * 가져간 이벤트를 다른 서버가 가져가지 못하게 선점하는 기간(초). 이벤트 하나의 처리 시간보다 길어야 합니다.
+     */
+    private final long leaseSeconds;
+
+    /**
+     * 한 주기에 가져올 최대 묶음 수
+     */
+    private final int maxBatchesPerPoll;
+
+    /**
+     * 실패한 이벤트를 다시 가져오기까지의 최대 대기 시간(초)
+     */
+    private final long maxBackoffSeconds;
+
+    /**
+     * 이 횟수만큼 실패한 이벤트는 outbox_dead_letter 로 옮김
+     */
+    private final int maxAttempts;
+
+    /**
+     * 실행기에 넘겼지만 아직 처리가 끝나지 않은 이벤트 자리 (최대 maxInFlight)
+     */
+    private final Semaphore inFlight;
+
+    private final Counter dispatchedCounter;
+    private final Counter failureCounter;
+    private final Counter deadLetterCounter;
+    private final Counter leaseLostCounter;
+    private final Counter rejectedCounter;
+    private final Timer lagTimer;
+
+    public OutboxRelay(
+            JdbcTemplate jdbcTemplate,
+            TransactionOperations transactionOperations,
+            ObjectMapper objectMapper,
+            List<OutboxEventHandler<?>> handlers,
+            @Qualifier("threadPoolTaskExecutor") Executor executor,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.relay.enabled:true}") boolean enabled,
+            @Value("${outbox.relay.batch-size:100}") int batchSize,
+            @Value("${outbox.relay.lease-seconds:300}") long leaseSeconds,
+            @Value("${outbox.relay.max-batches-per-poll:10}") int maxBatchesPerPoll,
+            @Value("${outbox.relay.max-backoff-seconds:600}") long maxBackoffSeconds,
+            @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+            @Value("${outbox.relay.max-in-flight:100}") int maxInFlight) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("outbox.relay.max-attempts 는 1 이상이어야 합니다 : " + maxAttempts);
+        }
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("outbox.relay.max-in-flight 는 1 이상이어야 합니다 : " + maxInFlight);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.objectMapper = objectMapper;
+        this.handlers = handlers.stream()
+                .collect(Collectors.toMap(handler -> handler.getEventType().getName(), Function.identity()));
+        this.executor = executor;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.leaseSeconds = leaseSeconds;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.maxBackoffSeconds = maxBackoffSeconds;
+        this.maxAttempts = maxAttempts;
+        this.inFlight = new Semaphore(maxInFlight);
+
+        this.dispatchedCounter = Counter.builder(METRIC_PREFIX + ".dispatched")
+                .description("처리기에 전달해 처리를 마친 이벤트 수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder(METRIC_PREFIX + ".failures")
+                .description("처리에 실패해 다시 시도하도록 미룬 이벤트 수")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder(METRIC_PREFIX + ".dead-letters")
+                .description("최대 시도 횟수만큼 실패해 outbox_dead_letter 로 옮긴 이벤트 수")
+                .register(meterRegistry);
+        this.leaseLostCounter = Counter.builder(METRIC_PREFIX + ".lease-lost")
+                .description("처리를 시작하기 전에 선점 기간이 지나 다른 서버에 넘어간 이벤트 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("실행기가 거절해 선점을 풀고 돌려놓은 이벤트 수")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder(METRIC_PREFIX + ".lag")
+                .description("이벤트가 기록된 뒤 처리를 마치기까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:500}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        relay();
+    }
+
+    /**
+     * 가져올 이벤트가 없거나, 처리 중인 이벤트 자리가 차거나, maxBatchesPerPoll 묶음을 넘길 때까지 이벤트를 가져와 실행기에 넘깁니다.
+     * @return 가져온 이벤트 수
+     */
+    public int relay() {
+        int relayed = 0;
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            int claimed = relayBatch();
+            relayed += claimed;
+            if (claimed < batchSize) {
+                break;
+            }
+        }
+        return relayed;
+    }
+
+    /**
+     * 처리 중인 이벤트의 빈 자리만큼(최대 batchSize) 이벤트를 가져와 실행기에 넘깁니다. 처리가 끝나기를 기다리지 않습니다.
+     * 실행기가 거절한 이벤트는 선점을 풀어 돌려놓습니다.
+     * @return 가져온 이벤트 수
+     */
+    public int relayBatch() {
+        if (handlers.isEmpty()) {
+            return 0;
+        }
+        int capacity = Math.min(batchSize, inFlight.availablePermits());
+        if (capacity == 0 || !inFlight.tryAcquire(capacity)) {
+            return 0;
+        }
+
+        List<ClaimedEvent> claimed;
+        try {
+            claimed = claim(capacity);
+        } catch (RuntimeException e) {
+            inFlight.release(capacity);
+            throw e;
+        }
+        inFlight.release(capacity - claimed.size());
+        long claimedAt = System.nanoTime();
+
+        for (ClaimedEvent event : claimed) {
+            Runnable task = () -> {
+                try {
+                    dispatch(handlers.get(event.eventType()), event, claimedAt);
+                } finally {
+                    inFlight.release();
+                }
+            };
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                inFlight.release();
+                release(event);
+            }
+        }
+        return claimed.size();
+    }
+
+    /**
+     * 처리할 수 있는 이벤트를 잠가 가져오고, 선점 기간만큼 다른 서버가 가져가지 못하게 미룬 뒤 커밋합니다.
+     */
+    private List<ClaimedEvent> claim(int limit) {
+        String typePlaceholders = placeholders(handlers.size());
+        Object[] claimArgs = new Object[handlers.size() + 1];
+        int i = 0;
+        for (String eventType : handlers.keySet()) {
+            claimArgs[i++] = eventType;
+        }
+        claimArgs[i] = limit;
+
+        return transactionOperations.execute(status -> {
+            List<ClaimedEvent> events = jdbcTemplate.query(CLAIM_SQL.formatted(typePlaceholders),
+                    (rs, rowNum) -> new ClaimedEvent(rs.getLong("event_id"), rs.getString("event_type"),
+                            rs.getString("payload"), rs.getInt("attempts") + 1, rs.getLong("age_micros")),
+                    claimArgs);
+            if (!events.isEmpty()) {
+                Object[] leaseArgs = new Object[events.size() + 1];
+                leaseArgs[0] = leaseSeconds;
+                for (int j = 0; j < events.size(); j++) {
+                    leaseArgs[j + 1] = events.get(j).eventId();
+                }
+                jdbcTemplate.update(LEASE_SQL.formatted(placeholders(events.size())), leaseArgs);
+            }
+            return events;
+        });
+    }
+
+    /**
+     * 선점 기간을 늘린 뒤 이벤트 하나를 처리하고, 결과(삭제, 재시도, dead letter)를 그 이벤트에만 반영합니다.
+     */
+    private <T extends OutboxEvent> void dispatch(OutboxEventHandler<T> handler, ClaimedEvent event, long claimedAt) {
+        if (jdbcTemplate.update(RENEW_SQL, leaseSeconds, event.eventId(), event.attempts()) == 0) {
+            leaseLostCounter.increment();
+            log.warn("outbox 이벤트 선점 기간이 지나 처리하지 않음 : eventId = {}", event.eventId());
+            return;
+        }
+
+        try {
+            handler.handle(deserialize(event, handler.getEventType()));
+        } catch (RuntimeException e) {
+            fail(event, e);
+            return;
+        }
+
+        jdbcTemplate.update(DONE_SQL, event.eventId(), event.attempts());
+        dispatchedCounter.increment();
+        long handledNanos = System.nanoTime() - claimedAt;
+        lagTimer.record(TimeUnit.MICROSECONDS.toNanos(event.ageMicros()) + handledNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 처리하지 못한 이벤트의 선점을 풀어 바로 다시 가져갈 수 있게 합니다.
+     * 시도 횟수는 선점 표시이므로 되돌리지 않습니다. (되돌리면 이전에 선점 기간을 놓친 서버의 선점 표시와 같아질 수 있음)
+     */
+    private void release(ClaimedEvent event) {
+        rejectedCounter.increment();
+        log.warn("실행기가 outbox 이벤트를 거절해 돌려놓음 : eventId = {}", event.eventId());
+        jdbcTemplate.update(RELEASE_SQL, event.eventId(), event.attempts());
+    }
+
+    private void fail(ClaimedEvent event, RuntimeException e) {
+        String message = String.valueOf(e.getMessage());
+        String error = message.substring(0, Math.min(message.length(), MAX_ERROR_LENGTH));
+
+        if (event.attempts() >= maxAttempts) {
+            deadLetterCounter.increment();
+            log.error("outbox 이벤트 {}번 처리 실패, dead letter 로 옮김 : eventId = {}, {}",
+                    event.attempts(), event.eventId(), event.eventType(), e);
+            transactionOperations.executeWithoutResult(status -> {
+                if (jdbcTemplate.update(DEAD_LETTER_SQL, error, event.eventId(), event.attempts()) > 0) {
+                    jdbcTemplate.update(DONE_SQL, event.eventId(), event.attempts());
+                }
+            });
+            return;
+        }
+
+        failureCounter.increment();
+        log.warn("outbox 이벤트 처리 실패, 잠시 뒤 재시도 : eventId = {}, {} ({}/{}번째)",
+                event.eventId(), event.eventType(), event.attempts(), maxAttempts, e);
+        jdbcTemplate.update(RETRY_SQL, maxBackoffSeconds, error, event.eventId(), event.attempts());
+    }
+
+    private <T extends OutboxEvent> T deserialize(ClaimedEvent event, Class<T> eventType) {
+        try {
+            return objectMapper.readValue(event.payload(), eventType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox 이벤트를 역직렬화할 수 없음 : eventId = " + event.eventId(), e);
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    /**
+     * @param attempts 선점한 뒤의 시도 횟수 (선점 표시)
+     */
+    private record ClaimedEvent(long eventId, String eventType, String payload, int attempts, long ageMicros) {
+    }
+}
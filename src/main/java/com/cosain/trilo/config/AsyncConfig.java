@@ -1,12 +1,21 @@
 package com.cosain.trilo.config;
 
+import com.cosain.trilo.config.async.AsyncExecutorMode;
+import com.cosain.trilo.config.async.CappedTaskExecutor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import javax.sql.DataSource;
+import java.sql.SQLException;
 import java.util.concurrent.Executor;
 
+@Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig {
@@ -15,8 +24,23 @@ public class AsyncConfig {
     private static final int QUEUE_CAPACITY = 10; // 큐의 사이즈 ( default : Integer.MAX_VALUE )
     private static final String THREAD_NAME_PREFIX = "async-task"; // Thread name prefix
 
+    /**
+     * VIRTUAL 모드에서 max-concurrency 를 지정하지 않으면, 커넥션 풀의 이 비율만큼만 비동기 작업에 내어줌 (나머지는 요청 처리용)
+     */
+    private static final double CONNECTION_SHARE = 0.5;
+
     @Bean(name = "threadPoolTaskExecutor")
-    public Executor asyncTaskExecutor() {
+    public Executor asyncTaskExecutor(
+            @Value("${async.executor-mode:VIRTUAL}") AsyncExecutorMode mode,
+            @Value("${async.max-concurrency:0}") int maxConcurrency,
+            DataSource dataSource,
+            MeterRegistry meterRegistry) {
+        if (mode == AsyncExecutorMode.VIRTUAL) {
+            int concurrency = (maxConcurrency > 0) ? maxConcurrency : concurrencyFromConnectionPool(dataSource);
+            log.info("비동기 실행기 : VIRTUAL, 최대 동시 실행 {}", concurrency);
+            return new CappedTaskExecutor(THREAD_NAME_PREFIX, concurrency, meterRegistry);
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(CORE_POOL_SIZE);
         executor.setMaxPoolSize(MAX_POOL_SIZE);
@@ -25,4 +49,16 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    private int concurrencyFromConnectionPool(DataSource dataSource) {
+        int poolSize = MAX_POOL_SIZE;
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                poolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("커넥션 풀 크기를 알 수 없어 기본값 사용 : {}", poolSize, e);
+        }
+        return Math.max(1, (int) (poolSize * CONNECTION_SHARE));
+    }
 }
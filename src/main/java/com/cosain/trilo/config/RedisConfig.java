@@ -1,9 +1,29 @@
 package com.cosain.trilo.config;
 
+import com.cosain.trilo.auth.infra.token.BloomFilterLogoutAccessTokenBlocklist;
+import com.cosain.trilo.trip.infra.cache.RedisTripCache;
+import com.cosain.trilo.trip.infra.cache.TwoTierTripCache;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 
 @Configuration
 @EnableRedisRepositories(basePackages = "com.cosain.trilo.auth.infra.repository")
 public class RedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            BloomFilterLogoutAccessTokenBlocklist logoutAccessTokenBlocklist,
+            TwoTierTripCache tripCache) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(logoutAccessTokenBlocklist, new ChannelTopic(BloomFilterLogoutAccessTokenBlocklist.CHANNEL));
+        container.addMessageListener(tripCache, new ChannelTopic(RedisTripCache.CHANNEL));
+        return container;
+    }
 }
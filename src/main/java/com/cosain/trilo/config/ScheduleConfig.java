@@ -1,9 +1,32 @@
 package com.cosain.trilo.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+@Slf4j
 @Configuration
 @EnableScheduling
 public class ScheduleConfig {
+
+    /**
+     * 기본 스케줄러는 스레드가 하나라서, 몇 시간씩 걸리는 탈퇴 회원 정리(WithdrawnUserPurgeJob)나 여행 정리 재개 작업이
+     * 도는 동안 좋아요 flush, outbox relay, 색인 압축 같은 짧은 주기 작업이 모두 밀림.
+     * 현재 @Scheduled 작업(9개)이 각자 스레드를 가질 수 있도록 여유 있게 잡은 기본값
+     */
+    private static final int DEFAULT_POOL_SIZE = 12;
+    private static final String THREAD_NAME_PREFIX = "scheduling-";
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:" + DEFAULT_POOL_SIZE + "}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix(THREAD_NAME_PREFIX);
+        scheduler.setErrorHandler(e -> log.error("스케줄 작업 실패", e));
+        log.info("스케줄러 스레드 수 : {}", poolSize);
+        return scheduler;
+    }
 }
@@ -0,0 +1,19 @@
+package com.cosain.trilo.config.async;
+
+/**
+ * <p>비동기 실행기(threadPoolTaskExecutor)로 작업을 실행할 방식입니다. ({@code async.executor-mode})
+ * 지금은 {@link com.cosain.trilo.common.outbox.OutboxRelay} 가 가져온 outbox 이벤트를 이 실행기에서 처리합니다.</p>
+ */
+public enum AsyncExecutorMode {
+
+    /**
+     * 고정 크기 스레드 풀 + 작은 대기열. 풀과 대기열이 모두 차면 작업을 거절합니다(TaskRejectedException). outbox 전달기는 거절된 이벤트를 자기 스레드에서 처리합니다.
+     */
+    POOL,
+
+    /**
+     * 작업을 거절하지 않고 대기열에 쌓으며, 동시 실행 수만 커넥션 풀 크기에 맞춰 제한합니다. ({@link CappedTaskExecutor})
+     * 가상 스레드를 쓸 수 있는 JVM 이면 작업을 가상 스레드에서 실행합니다. (기본값)
+     */
+    VIRTUAL
+}
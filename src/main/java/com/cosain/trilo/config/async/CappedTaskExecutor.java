@@ -0,0 +1,151 @@
+package com.cosain.trilo.config.async;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>작업을 거절하지 않고 대기열에 쌓아 두되, 동시에 실행되는 작업 수를 세마포어 허가 수(maxConcurrency)로 제한하는 실행기입니다.</p>
+ * <ul>
+ *     <li>작업은 허가를 얻은 만큼만 실행 스레드로 넘기므로, 대기 중인 작업이 스레드를 차지하지 않습니다.
+ *     허가 수는 커넥션 풀 크기에 맞추어, 비동기 작업이 몰려도 커넥션 대기로 요청 처리가 막히지 않게 합니다.</li>
+ *     <li>실행 스레드는 가상 스레드를 쓸 수 있는 JVM(21 이상)이면 작업마다 가상 스레드를 만들고,
+ *     아니면 유휴 스레드를 재사용하는 플랫폼 스레드 풀을 씁니다. 어느 쪽이든 동시에 쓰이는 스레드 수는 허가 수를 넘지 않습니다.</li>
+ *     <li>대기열 길이, 실행 중인 작업 수, 대기 시간을 {@code async.executor.*} 지표로 남깁니다.</li>
+ * </ul>
+ */
+@Slf4j
+public class CappedTaskExecutor implements TaskExecutor, DisposableBean {
+
+    private static final String METRIC_PREFIX = "async.executor";
+
+    private final ExecutorService carrier;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+
+    /**
+     * 허가를 기다리는 작업 (들어온 순서대로 실행)
+     */
+    private final Queue<QueuedTask> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedCount = new AtomicInteger();
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+
+    private final Timer waitTimer;
+    private final Counter completedCounter;
+    private final Counter failedCounter;
+
+    public CappedTaskExecutor(String threadNamePrefix, int maxConcurrency, MeterRegistry meterRegistry) {
+        this.carrier = createCarrier(threadNamePrefix);
+        this.permits = new Semaphore(maxConcurrency);
+        this.maxConcurrency = maxConcurrency;
+
+        this.waitTimer = Timer.builder(METRIC_PREFIX + ".wait")
+                .description("작업이 들어와 실행되기까지 기다린 시간")
+                .register(meterRegistry);
+        this.completedCounter = Counter.builder(METRIC_PREFIX + ".completed")
+                .description("실행을 마친 작업 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder(METRIC_PREFIX + ".failed")
+                .description("예외로 끝난 작업 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queued", queuedCount, AtomicInteger::get)
+                .description("허가를 기다리는 작업 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".in-flight", inFlightCount, AtomicInteger::get)
+                .description("실행 중인 작업 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        queue.add(new QueuedTask(task, System.nanoTime()));
+        queuedCount.incrementAndGet();
+        dispatch();
+    }
+
+    /**
+     * 남은 허가만큼 대기열의 작업을 실행 스레드로 넘깁니다.
+     * 허가를 얻은 뒤 대기열이 비어 있으면 허가를 돌려주고, 그 사이 들어온 작업이 있으면 다시 시도합니다.
+     */
+    private void dispatch() {
+        while (permits.tryAcquire()) {
+            QueuedTask next = queue.poll();
+            if (next == null) {
+                permits.release();
+                if (queue.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+            queuedCount.decrementAndGet();
+            carrier.execute(() -> run(next));
+        }
+    }
+
+    private void run(QueuedTask queuedTask) {
+        waitTimer.record(System.nanoTime() - queuedTask.enqueuedAt, TimeUnit.NANOSECONDS);
+        inFlightCount.incrementAndGet();
+        try {
+            queuedTask.task.run();
+            completedCounter.increment();
+        } catch (Throwable e) {
+            failedCounter.increment();
+            log.error("비동기 작업 실패", e);
+        } finally {
+            inFlightCount.decrementAndGet();
+            permits.release();
+            dispatch();
+        }
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int getQueuedCount() {
+        return queuedCount.get();
+    }
+
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        carrier.shutdown();
+        carrier.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 가상 스레드를 쓸 수 있으면 작업마다 가상 스레드를, 아니면 이름을 붙인 플랫폼 스레드 풀을 만듭니다.
+     * (소스 호환 버전이 17이므로 21 의 API 는 리플렉션으로 찾음)
+     */
+    private static ExecutorService createCarrier(String threadNamePrefix) {
+        try {
+            ExecutorService virtual = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            log.info("비동기 실행기 : 가상 스레드 사용");
+            return virtual;
+        } catch (ReflectiveOperationException e) {
+            log.info("비동기 실행기 : 가상 스레드를 쓸 수 없어 플랫폼 스레드 사용");
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> new Thread(runnable, threadNamePrefix + threadNumber.incrementAndGet());
+        return Executors.newCachedThreadPool(threadFactory);
+    }
+
+    private record QueuedTask(Runnable task, long enqueuedAt) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.cosain.trilo.trip.application.concurrency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>여행(Day, 일정 포함)을 수정하는 애플리케이션 서비스 메서드에 붙입니다.</p>
+ * <ul>
+ *     <li>같은 서버 인스턴스 안에서는 여행 단위 잠금으로 같은 여행에 대한 수정 요청을 한 번에 하나씩 처리합니다.</li>
+ *     <li>다른 서버 인스턴스와의 충돌로 {@link com.cosain.trilo.trip.application.exception.TripVersionConflictException} 이 발생하면,
+ *     새 트랜잭션으로 정해진 횟수까지 다시 시도합니다.</li>
+ * </ul>
+ * <p>충돌 검사 자체는 메서드 안에서 {@link TripVersionGuard#checkAndIncrease} 로 수행해야 합니다.
+ * 다시 시도할 수 있도록, 외부 시스템에 부수 효과를 남기지 않는 메서드에만 사용해야 합니다.</p>
+ * @see TripMutationAspect
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TripMutation {
+
+    /**
+     * 수정 대상을 가리키는 식별자의 종류
+     */
+    Scope scope() default Scope.TRIP;
+
+    /**
+     * 수정 대상의 식별자를 구하는 SpEL 식 (예 : "#command.scheduleId")
+     */
+    String id();
+
+    enum Scope {
+        TRIP,
+        DAY,
+        SCHEDULE
+    }
+}
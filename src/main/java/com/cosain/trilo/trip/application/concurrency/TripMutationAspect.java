@@ -0,0 +1,158 @@
+package com.cosain.trilo.trip.application.concurrency;
+
+import com.cosain.trilo.trip.application.dao.TripVersionQueryDAO;
+import com.cosain.trilo.trip.application.exception.TripVersionConflictException;
+import com.cosain.trilo.trip.infra.dto.TripVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.Ordered;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * <p>{@link TripMutation} 이 붙은 메서드를 여행 단위 잠금 안에서 실행하고, 버전 충돌 시 다시 시도합니다.</p>
+ * <ul>
+ *     <li>트랜잭션보다 바깥에서 동작해야 하므로 가장 높은 우선순위를 가집니다. (잠금은 커밋 이후에 풀리고, 재시도는 새 트랜잭션에서 수행)</li>
+ *     <li>잠금을 제한 시간 안에 얻지 못하면 잠금 없이 진행합니다. 이때도 버전 검사가 동시 수정을 막아줍니다.</li>
+ *     <li>이미 트랜잭션 안에서 호출된 경우 같은 스냅샷으로 다시 시도해도 소용이 없으므로 재시도하지 않습니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TripMutationAspect {
+
+    private static final String METRIC_PREFIX = "trip.mutation";
+
+    private final TripMutationLocks tripMutationLocks;
+    private final TripVersionQueryDAO tripVersionQueryDAO;
+
+    /**
+     * 충돌 시 최초 시도를 포함한 최대 시도 횟수
+     */
+    private final int maxAttempts;
+
+    /**
+     * 재시도 전 대기 시간의 기준 값(ms). 시도할수록 늘어나며, 서버 인스턴스끼리 다시 부딪히지 않도록 무작위 값을 더합니다.
+     */
+    private final long retryBackoffMillis;
+
+    private final ExpressionParser expressionParser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
+    private final Counter conflictCounter;
+    private final Counter retryCounter;
+    private final Counter lockTimeoutCounter;
+
+    public TripMutationAspect(
+            TripMutationLocks tripMutationLocks,
+            TripVersionQueryDAO tripVersionQueryDAO,
+            MeterRegistry meterRegistry,
+            @Value("${trip.mutation.max-attempts:3}") int maxAttempts,
+            @Value("${trip.mutation.retry-backoff-ms:20}") long retryBackoffMillis) {
+        this.tripMutationLocks = tripMutationLocks;
+        this.tripVersionQueryDAO = tripVersionQueryDAO;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+
+        this.conflictCounter = Counter.builder(METRIC_PREFIX + ".conflicts")
+                .description("여행 버전 충돌 횟수")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder(METRIC_PREFIX + ".retries")
+                .description("여행 버전 충돌로 다시 시도한 횟수")
+                .register(meterRegistry);
+        this.lockTimeoutCounter = Counter.builder(METRIC_PREFIX + ".lock-timeouts")
+                .description("여행 잠금을 제한 시간 안에 얻지 못해 잠금 없이 진행한 횟수")
+                .register(meterRegistry);
+    }
+
+    @Around("@annotation(tripMutation)")
+    public Object mutate(ProceedingJoinPoint joinPoint, TripMutation tripMutation) throws Throwable {
+        Long tripId = findTripId(joinPoint, tripMutation);
+        if (tripId == null) {
+            // 대상이 없으면 메서드 안에서 NotFound 예외로 처리됨
+            return joinPoint.proceed();
+        }
+
+        Lock lock = tripMutationLocks.tryLock(tripId);
+        if (lock == null) {
+            lockTimeoutCounter.increment();
+            log.warn("여행 잠금 획득 실패, 잠금 없이 진행 : tripId = {}", tripId);
+        }
+        try {
+            return proceedWithRetry(joinPoint, tripId);
+        } finally {
+            if (lock != null) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private Object proceedWithRetry(ProceedingJoinPoint joinPoint, Long tripId) throws Throwable {
+        boolean retryable = !TransactionSynchronizationManager.isActualTransactionActive();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (TripVersionConflictException e) {
+                conflictCounter.increment();
+                if (!retryable || attempt >= maxAttempts) {
+                    throw e;
+                }
+                retryCounter.increment();
+                log.info("여행 버전 충돌, 다시 시도 : tripId = {}, attempt = {}", tripId, attempt);
+                backOff(attempt);
+            }
+        }
+    }
+
+    private void backOff(int attempt) throws InterruptedException {
+        if (retryBackoffMillis > 0) {
+            Thread.sleep(retryBackoffMillis * attempt + ThreadLocalRandom.current().nextLong(retryBackoffMillis));
+        }
+    }
+
+    /**
+     * 수정 대상이 속한 여행의 id 를 구합니다.
+     * @return 여행 id, 대상을 찾을 수 없으면 null
+     */
+    private Long findTripId(ProceedingJoinPoint joinPoint, TripMutation tripMutation) {
+        Long id = evaluateId(joinPoint, tripMutation.id());
+        if (id == null) {
+            return null;
+        }
+        return switch (tripMutation.scope()) {
+            case TRIP -> id;
+            case DAY -> tripVersionQueryDAO.findVersionByDayId(id).map(TripVersion::getTripId).orElse(null);
+            case SCHEDULE -> tripVersionQueryDAO.findVersionByScheduleId(id).map(TripVersion::getTripId).orElse(null);
+        };
+    }
+
+    private Long evaluateId(ProceedingJoinPoint joinPoint, String idExpression) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+                joinPoint.getTarget(), signature.getMethod(), joinPoint.getArgs(), parameterNameDiscoverer);
+
+        Expression expression = expressions.computeIfAbsent(idExpression, expressionParser::parseExpression);
+        return expression.getValue(context, Long.class);
+    }
+}
@@ -0,0 +1,48 @@
+package com.cosain.trilo.trip.application.concurrency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>여행 id 를 고정된 개수의 잠금 중 하나에 대응시키는 서버 메모리 잠금입니다. (striped lock)</p>
+ * <p>여행마다 잠금을 만들지 않으므로 메모리 사용량이 일정하고, 서로 다른 여행이 같은 잠금을 공유하는 경우에만 불필요하게 기다립니다.</p>
+ */
+@Component
+public class TripMutationLocks {
+
+    private final Lock[] stripes;
+
+    /**
+     * 잠금을 기다리는 최대 시간(ms)
+     */
+    private final long timeoutMillis;
+
+    public TripMutationLocks(
+            @Value("${trip.mutation.lock-stripes:256}") int stripeCount,
+            @Value("${trip.mutation.lock-timeout-ms:3000}") long timeoutMillis) {
+        this.stripes = new Lock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 여행에 대응하는 잠금을 획득합니다.
+     * @param tripId 여행의 식별자(id)
+     * @return 획득한 잠금, 제한 시간 안에 획득하지 못했으면 null
+     */
+    public Lock tryLock(Long tripId) {
+        Lock lock = stripes[Math.floorMod(Long.hashCode(tripId), stripes.length)];
+        try {
+            return lock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS) ? lock : null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+}
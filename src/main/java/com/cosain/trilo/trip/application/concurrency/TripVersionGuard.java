@@ -0,0 +1,79 @@
+package com.cosain.trilo.trip.application.concurrency;
+
+import com.cosain.trilo.trip.application.exception.TripVersionConflictException;
+import com.cosain.trilo.trip.domain.entity.Trip;
+import com.cosain.trilo.trip.domain.repository.TripRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * <p>여행 버전으로 같은 여행에 대한 동시 수정을 검출합니다. (낙관적 잠금)</p>
+ * <ul>
+ *     <li>수정 전에 읽어둔 버전일 때만 버전을 올리고, 그 사이 다른 트랜잭션이 먼저 올렸다면 충돌로 처리합니다.</li>
+ *     <li>버전을 올린 UPDATE 가 여행 행을 잠그므로, 이후 같은 여행을 수정하려는 트랜잭션은 이 트랜잭션이 끝날 때까지 기다렸다가 충돌로 처리됩니다.</li>
+ *     <li>한 트랜잭션에서 같은 여행의 버전은 한 번만 올립니다. (변경 이벤트에 따른 버전 증가도 포함)</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class TripVersionGuard {
+
+    private static final String INCREASED_TRIP_IDS_KEY = TripVersionGuard.class.getName() + ".increasedTripIds";
+
+    private final TripRepository tripRepository;
+
+    /**
+     * <p>여행의 버전이 읽어둔 값 그대로일 때만 버전을 올립니다.</p>
+     * <p>여행을 조회하고 권한을 검증한 직후, 여행/Day/일정을 실제로 수정하기 전에 호출합니다.
+     * 수정 요청이 항상 여행 행부터 잠그게 되므로, 여러 행을 수정하는 요청끼리 교착 상태에 빠지지 않습니다.</p>
+     * @param trip 수정할 여행 (이 트랜잭션에서 조회한 엔티티)
+     * @throws TripVersionConflictException 여행을 읽은 뒤 다른 요청이 먼저 같은 여행을 수정했을 때
+     */
+    public void checkAndIncrease(Trip trip) throws TripVersionConflictException {
+        Set<Long> increasedTripIds = increasedTripIds();
+        if (increasedTripIds.contains(trip.getId())) {
+            return;
+        }
+        if (!tripRepository.increaseVersion(trip.getId(), trip.getVersion())) {
+            throw new TripVersionConflictException("여행을 읽은 뒤 다른 요청이 먼저 여행을 수정함");
+        }
+        increasedTripIds.add(trip.getId());
+    }
+
+    /**
+     * 이 트랜잭션에서 아직 버전을 올리지 않은 여행이면, 버전을 무조건 1 올립니다.
+     * @param tripId 여행의 식별자(id)
+     */
+    public void increase(Long tripId) {
+        if (increasedTripIds().add(tripId)) {
+            tripRepository.increaseVersion(tripId);
+        }
+    }
+
+    /**
+     * @return 현재 트랜잭션에서 버전을 올린 여행 id 들 (트랜잭션이 없으면 빈 Set)
+     */
+    @SuppressWarnings("unchecked")
+    private Set<Long> increasedTripIds() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new HashSet<>();
+        }
+        Set<Long> tripIds = (Set<Long>) TransactionSynchronizationManager.getResource(INCREASED_TRIP_IDS_KEY);
+        if (tripIds == null) {
+            tripIds = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(INCREASED_TRIP_IDS_KEY, tripIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(INCREASED_TRIP_IDS_KEY);
+                }
+            });
+        }
+        return tripIds;
+    }
+}
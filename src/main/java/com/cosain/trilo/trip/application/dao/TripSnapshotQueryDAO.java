@@ -0,0 +1,10 @@
+package com.cosain.trilo.trip.application.dao;
+
+import com.cosain.trilo.trip.application.trip.service.trip_snapshot_search.TripSnapshot;
+
+import java.util.Optional;
+
+public interface TripSnapshotQueryDAO {
+
+    Optional<TripSnapshot> findTripSnapshotById(Long tripId);
+}
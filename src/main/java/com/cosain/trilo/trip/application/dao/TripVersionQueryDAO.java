@@ -0,0 +1,12 @@
+package com.cosain.trilo.trip.application.dao;
+
+import com.cosain.trilo.trip.infra.dto.TripVersion;
+
+import java.util.Optional;
+
+public interface TripVersionQueryDAO {
+
+    Optional<TripVersion> findVersionByTripId(Long tripId);
+    Optional<TripVersion> findVersionByDayId(Long dayId);
+    Optional<TripVersion> findVersionByScheduleId(Long scheduleId);
+}
@@ -1,10 +1,14 @@
 package com.cosain.trilo.trip.application.day.service.day_color_update;
 
 import com.cosain.trilo.common.exception.day.DayNotFoundException;
+import com.cosain.trilo.trip.application.concurrency.TripMutation;
+import com.cosain.trilo.trip.application.concurrency.TripVersionGuard;
+import com.cosain.trilo.trip.application.event.DayChangedEvent;
 import com.cosain.trilo.trip.application.exception.NoDayUpdateAuthorityException;
 import com.cosain.trilo.trip.domain.entity.Day;
 import com.cosain.trilo.trip.domain.repository.DayRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,13 +17,19 @@ import org.springframework.transaction.annotation.Transactional;
 public class DayColorUpdateService {
 
     private final DayRepository dayRepository;
+    private final TripVersionGuard tripVersionGuard;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    @TripMutation(scope = TripMutation.Scope.DAY, id = "#command.dayId")
     @Transactional
     public void updateDayColor(DayColorUpdateCommand command) {
         Day day = findDay(command.getDayId());
 
         validateDayUpdateAuthority(day, command.getRequestTripperId());
+        tripVersionGuard.checkAndIncrease(day.getTrip());
         day.changeColor(command.getDayColor());
+        eventPublisher.publishEvent(new DayChangedEvent(day.getTrip().getId(), day.getId()));
     }
 
     private Day findDay(Long dayId) {
@@ -4,11 +4,12 @@ import com.cosain.trilo.trip.domain.vo.DayColor;
 import com.querydsl.core.annotations.QueryProjection;
 import lombok.Getter;
 
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.List;
 
 @Getter
-public class DayScheduleDetail {
+public class DayScheduleDetail implements Serializable {
     private Long dayId;
     private Long tripId;
     private LocalDate date;
@@ -25,7 +26,7 @@ public class DayScheduleDetail {
     }
 
     @Getter
-    public static class DayColorDto {
+    public static class DayColorDto implements Serializable {
 
         private final String name;
         private final String code;
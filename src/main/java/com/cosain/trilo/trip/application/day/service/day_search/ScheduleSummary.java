@@ -3,8 +3,10 @@ package com.cosain.trilo.trip.application.day.service.day_search;
 import com.querydsl.core.annotations.QueryProjection;
 import lombok.Getter;
 
+import java.io.Serializable;
+
 @Getter
-public class ScheduleSummary {
+public class ScheduleSummary implements Serializable {
     private Long scheduleId;
     private String title;
     private String placeName;
@@ -21,7 +23,7 @@ public class ScheduleSummary {
     }
 
     @Getter
-    public static class CoordinateDto {
+    public static class CoordinateDto implements Serializable {
 
         private final double latitude;
         private final double longitude;
@@ -0,0 +1,25 @@
+package com.cosain.trilo.trip.application.event;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Day 의 정보(색상)가 변경됐을 때 발행되는 이벤트입니다.
+ */
+@Getter
+public class DayChangedEvent implements TripContentChangedEvent {
+
+    private final Long tripId;
+    private final Long dayId;
+
+    public DayChangedEvent(Long tripId, Long dayId) {
+        this.tripId = tripId;
+        this.dayId = dayId;
+    }
+
+    @Override
+    public List<Long> getChangedTripIds() {
+        return List.of(tripId);
+    }
+}
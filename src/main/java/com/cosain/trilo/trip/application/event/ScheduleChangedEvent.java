@@ -0,0 +1,25 @@
+package com.cosain.trilo.trip.application.event;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일정이 생성/수정/삭제됐을 때 발행되는 이벤트입니다.
+ */
+@Getter
+public class ScheduleChangedEvent implements TripContentChangedEvent {
+
+    private final Long tripId;
+    private final Long scheduleId;
+
+    public ScheduleChangedEvent(Long tripId, Long scheduleId) {
+        this.tripId = tripId;
+        this.scheduleId = scheduleId;
+    }
+
+    @Override
+    public List<Long> getChangedTripIds() {
+        return List.of(tripId);
+    }
+}
@@ -0,0 +1,29 @@
+package com.cosain.trilo.trip.application.event;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일정이 이동됐을 때 발행되는 이벤트입니다. (Day id 가 null 이면 임시보관함)
+ */
+@Getter
+public class ScheduleMovedEvent implements TripContentChangedEvent {
+
+    private final Long tripId;
+    private final Long scheduleId;
+    private final Long beforeDayId;
+    private final Long afterDayId;
+
+    public ScheduleMovedEvent(Long tripId, Long scheduleId, Long beforeDayId, Long afterDayId) {
+        this.tripId = tripId;
+        this.scheduleId = scheduleId;
+        this.beforeDayId = beforeDayId;
+        this.afterDayId = afterDayId;
+    }
+
+    @Override
+    public List<Long> getChangedTripIds() {
+        return List.of(tripId);
+    }
+}
@@ -0,0 +1,19 @@
+package com.cosain.trilo.trip.application.event;
+
+import lombok.Getter;
+
+/**
+ * <p>일정 생성/이동 요청 처리 중 순서값 충돌로 Day 또는 임시보관함의 일정들을 재배치했을 때 발행되는 이벤트입니다. (Day id 가 null 이면 임시보관함)</p>
+ * <p>재배치는 순서를 바꾸지 않으므로 조회 캐시 무효화 대상이 아니며, 요청 경로에서 재배치가 얼마나 자주 일어나는지 집계하는 데 쓰입니다.</p>
+ */
+@Getter
+public class ScheduleRelocatedEvent {
+
+    private final Long tripId;
+    private final Long dayId;
+
+    public ScheduleRelocatedEvent(Long tripId, Long dayId) {
+        this.tripId = tripId;
+        this.dayId = dayId;
+    }
+}
@@ -0,0 +1,30 @@
+package com.cosain.trilo.trip.application.event;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 여러 일정의 위치를 한 번에 바꿨을 때 발행되는 이벤트입니다. (Day id 가 null 이면 임시보관함)
+ */
+@Getter
+public class SchedulesReorderedEvent implements TripContentChangedEvent {
+
+    private final Long tripId;
+
+    /**
+     * 일정이 빠져나가거나 새로 놓인 Day들의 id
+     */
+    private final Set<Long> changedDayIds;
+
+    public SchedulesReorderedEvent(Long tripId, Set<Long> changedDayIds) {
+        this.tripId = tripId;
+        this.changedDayIds = changedDayIds;
+    }
+
+    @Override
+    public List<Long> getChangedTripIds() {
+        return List.of(tripId);
+    }
+}
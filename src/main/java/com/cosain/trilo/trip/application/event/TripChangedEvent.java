@@ -0,0 +1,23 @@
+package com.cosain.trilo.trip.application.event;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 여행의 제목, 기간 또는 이미지가 변경됐을 때 발행되는 이벤트입니다. (기간 변경 시 Day 추가/삭제, 임시보관함 재배치 포함)
+ */
+@Getter
+public class TripChangedEvent implements TripContentChangedEvent {
+
+    private final Long tripId;
+
+    public TripChangedEvent(Long tripId) {
+        this.tripId = tripId;
+    }
+
+    @Override
+    public List<Long> getChangedTripIds() {
+        return List.of(tripId);
+    }
+}
@@ -0,0 +1,15 @@
+package com.cosain.trilo.trip.application.event;
+
+import java.util.List;
+
+/**
+ * <p>여행, 여행의 Day, 일정 중 어느 하나라도 바뀌었음을 알리는 이벤트들의 공통 타입입니다.</p>
+ * <p>여행 조회 캐시는 이 타입으로 이벤트를 받아 해당 여행에 관한 캐시 항목을 모두 무효화합니다.</p>
+ */
+public interface TripContentChangedEvent {
+
+    /**
+     * @return 내용이 바뀐 여행들의 id
+     */
+    List<Long> getChangedTripIds();
+}
@@ -0,0 +1,23 @@
+package com.cosain.trilo.trip.application.event;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 여행(들)이 Day, 일정들과 함께 삭제됐을 때 발행되는 이벤트입니다.
+ */
+@Getter
+public class TripDeletedEvent implements TripContentChangedEvent {
+
+    private final List<Long> tripIds;
+
+    public TripDeletedEvent(List<Long> tripIds) {
+        this.tripIds = List.copyOf(tripIds);
+    }
+
+    @Override
+    public List<Long> getChangedTripIds() {
+        return tripIds;
+    }
+}
@@ -1,22 +1,28 @@
 package com.cosain.trilo.trip.application.event;
 
+import com.cosain.trilo.common.outbox.OutboxEventHandler;
 import com.cosain.trilo.trip.application.trip.service.trip_all_delete.TripAllDeleteService;
 import com.cosain.trilo.user.application.event.UserDeleteEvent;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * <p>outbox 에 기록된 회원 탈퇴 이벤트를 받아 회원의 여행을 모두 삭제합니다.</p>
+ * <p>여행 삭제는 진행 위치부터 이어서 지우므로, 같은 이벤트가 다시 전달되어도 결과가 같습니다.</p>
+ */
 @Component
 @RequiredArgsConstructor
-public class TripEventListener {
+public class TripEventListener implements OutboxEventHandler<UserDeleteEvent> {
 
     private final TripAllDeleteService tripAllDeleteService;
 
-    @Async("threadPoolTaskExecutor")
-    @TransactionalEventListener
-    public void handle(UserDeleteEvent event){
-        Long tripperId = event.getUserId();
-        tripAllDeleteService.deleteAllByTripperId(tripperId);
+    @Override
+    public Class<UserDeleteEvent> getEventType() {
+        return UserDeleteEvent.class;
+    }
+
+    @Override
+    public void handle(UserDeleteEvent event) {
+        tripAllDeleteService.deleteAllByTripperId(event.getUserId());
     }
 }
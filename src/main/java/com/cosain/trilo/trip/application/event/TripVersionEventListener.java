@@ -0,0 +1,24 @@
+package com.cosain.trilo.trip.application.event;
+
+import com.cosain.trilo.trip.application.concurrency.TripVersionGuard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p>여행/Day/일정 변경 이벤트를 받아 해당 여행의 버전을 올립니다.</p>
+ * <p>변경과 같은 트랜잭션 안에서 실행되므로, 변경이 롤백되면 버전 증가도 함께 롤백됩니다. (삭제된 여행은 올릴 버전이 없으므로 제외)</p>
+ * <p>수정 서비스에서 {@link TripVersionGuard#checkAndIncrease} 로 이미 버전을 올린 여행은 다시 올리지 않습니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class TripVersionEventListener {
+
+    private final TripVersionGuard tripVersionGuard;
+
+    @EventListener(classes = {TripChangedEvent.class, DayChangedEvent.class, ScheduleChangedEvent.class, ScheduleMovedEvent.class,
+            SchedulesReorderedEvent.class})
+    public void increaseVersion(TripContentChangedEvent event) {
+        event.getChangedTripIds().forEach(tripVersionGuard::increase);
+    }
+}
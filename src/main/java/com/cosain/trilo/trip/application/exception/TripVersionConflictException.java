@@ -0,0 +1,37 @@
+package com.cosain.trilo.trip.application.exception;
+
+import com.cosain.trilo.common.exception.CustomException;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 여행을 수정하는 도중 다른 요청이 먼저 같은 여행을 수정하여, 읽어둔 여행 버전이 더 이상 최신이 아닐 때 발생하는 예외입니다.
+ */
+public class TripVersionConflictException extends CustomException {
+
+    private static final String ERROR_CODE = "trip-0011";
+    private static final HttpStatus HTTP_STATUS = HttpStatus.CONFLICT;
+
+    public TripVersionConflictException() {}
+
+    public TripVersionConflictException(String debugMessage) {
+        super(debugMessage);
+    }
+
+    public TripVersionConflictException(Throwable cause) {
+        super(cause);
+    }
+
+    public TripVersionConflictException(String debugMessage, Throwable cause) {
+        super(debugMessage, cause);
+    }
+
+    @Override
+    public String getErrorCode() {
+        return ERROR_CODE;
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HTTP_STATUS;
+    }
+}
@@ -0,0 +1,23 @@
+package com.cosain.trilo.trip.application.schedule;
+
+import com.cosain.trilo.trip.domain.vo.ScheduleIndexMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p>이 배포에서 사용할 일정 순서값 생성 방식({@link ScheduleIndexMode})을 제공합니다.</p>
+ * <p>설정 : trip.schedule-index.mode (LONG | FRACTIONAL, 기본값 LONG)</p>
+ */
+@Component
+public class ScheduleIndexPolicy {
+
+    private final ScheduleIndexMode mode;
+
+    public ScheduleIndexPolicy(@Value("${trip.schedule-index.mode:LONG}") ScheduleIndexMode mode) {
+        this.mode = mode;
+    }
+
+    public ScheduleIndexMode getMode() {
+        return mode;
+    }
+}
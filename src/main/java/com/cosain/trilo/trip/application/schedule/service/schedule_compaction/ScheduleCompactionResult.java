@@ -0,0 +1,33 @@
+package com.cosain.trilo.trip.application.schedule.service.schedule_compaction;
+
+import lombok.Getter;
+
+/**
+ * 일정 순서값 간격 정리(재배치)의 결과를 바인딩한 객체입니다.
+ */
+@Getter
+public class ScheduleCompactionResult {
+
+    /**
+     * 재배치를 실제로 수행했는 지 여부
+     */
+    private final boolean relocated;
+
+    /**
+     * 재배치 전 관찰한 가장 작은 순서값 간격 (일정이 2개 미만이거나 여행이 없으면 null)
+     */
+    private final Long minGap;
+
+    public static ScheduleCompactionResult relocated(Long minGap) {
+        return new ScheduleCompactionResult(true, minGap);
+    }
+
+    public static ScheduleCompactionResult skipped(Long minGap) {
+        return new ScheduleCompactionResult(false, minGap);
+    }
+
+    private ScheduleCompactionResult(boolean relocated, Long minGap) {
+        this.relocated = relocated;
+        this.minGap = minGap;
+    }
+}
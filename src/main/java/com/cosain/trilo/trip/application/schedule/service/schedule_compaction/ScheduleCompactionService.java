@@ -0,0 +1,65 @@
+package com.cosain.trilo.trip.application.schedule.service.schedule_compaction;
+
+import com.cosain.trilo.trip.application.concurrency.TripMutation;
+import com.cosain.trilo.trip.application.concurrency.TripVersionGuard;
+import com.cosain.trilo.trip.application.exception.TripVersionConflictException;
+import com.cosain.trilo.trip.domain.entity.Trip;
+import com.cosain.trilo.trip.domain.repository.ScheduleRepository;
+import com.cosain.trilo.trip.domain.repository.TripRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * <p>Day 또는 임시보관함의 일정 순서값 간격이 좁아졌을 때, 요청 경로 밖에서 미리 재배치하는 애플리케이션 서비스입니다.</p>
+ * <p>일정 이동/생성과 같은 여행 단위 잠금과 버전 검사를 거치므로, 다른 서버의 요청과 동시에 실행돼도 순서가 깨지지 않습니다.</p>
+ */
+@RequiredArgsConstructor
+@Service
+public class ScheduleCompactionService {
+
+    /**
+     * 여행을 저장, 관리하고 있는 리포지토리
+     */
+    private final TripRepository tripRepository;
+
+    /**
+     * 일정을 저장, 관리하고 있는 리포지토리
+     */
+    private final ScheduleRepository scheduleRepository;
+
+    /**
+     * 같은 여행에 대한 동시 수정을 검출하고 여행 버전을 올리는 guard
+     */
+    private final TripVersionGuard tripVersionGuard;
+
+    /**
+     * 가장 작은 순서값 간격이 기준보다 작으면 일정들을 재배치합니다.
+     * @param tripId 여행의 id
+     * @param dayId Day의 id (null일 경우 임시보관함)
+     * @param minGap 재배치 기준 간격 (이보다 작은 간격이 있으면 재배치)
+     * @return 재배치 결과
+     * @throws TripVersionConflictException 다른 요청이 먼저 여행을 수정했을 때
+     */
+    @TripMutation(id = "#tripId")
+    @Transactional
+    public ScheduleCompactionResult compactIfDense(Long tripId, Long dayId, long minGap) throws TripVersionConflictException {
+        // 그 사이 여행이 삭제됐으면 할 일이 없음
+        Optional<Trip> trip = tripRepository.findById(tripId);
+        if (trip.isEmpty()) {
+            return ScheduleCompactionResult.skipped(null);
+        }
+
+        Long currentMinGap = scheduleRepository.findMinScheduleIndexGap(tripId, dayId);
+        if (currentMinGap == null || currentMinGap >= minGap) {
+            return ScheduleCompactionResult.skipped(currentMinGap);
+        }
+
+        // 순서값이 바뀌므로, 그 사이 이동/생성 요청과 겹치지 않도록 여행 버전을 올림 -> 충돌하면 예외 발생
+        tripVersionGuard.checkAndIncrease(trip.get());
+        scheduleRepository.relocateDaySchedules(tripId, dayId);
+        return ScheduleCompactionResult.relocated(currentMinGap);
+    }
+}
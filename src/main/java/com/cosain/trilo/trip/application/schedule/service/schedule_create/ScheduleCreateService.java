@@ -4,6 +4,10 @@ import com.cosain.trilo.common.exception.day.DayNotFoundException;
 import com.cosain.trilo.common.exception.schedule.ScheduleIndexRangeException;
 import com.cosain.trilo.common.exception.schedule.TooManyDayScheduleException;
 import com.cosain.trilo.common.exception.trip.TripNotFoundException;
+import com.cosain.trilo.trip.application.concurrency.TripMutation;
+import com.cosain.trilo.trip.application.concurrency.TripVersionGuard;
+import com.cosain.trilo.trip.application.event.ScheduleChangedEvent;
+import com.cosain.trilo.trip.application.event.ScheduleRelocatedEvent;
 import com.cosain.trilo.trip.application.exception.NoScheduleCreateAuthorityException;
 import com.cosain.trilo.trip.application.exception.TooManyTripScheduleException;
 import com.cosain.trilo.trip.domain.entity.Day;
@@ -13,6 +17,7 @@ import com.cosain.trilo.trip.domain.repository.DayRepository;
 import com.cosain.trilo.trip.domain.repository.ScheduleRepository;
 import com.cosain.trilo.trip.domain.repository.TripRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,14 +28,19 @@ public class ScheduleCreateService {
     private final ScheduleRepository scheduleRepository;
     private final DayRepository dayRepository;
     private final TripRepository tripRepository;
+    private final TripVersionGuard tripVersionGuard;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    @TripMutation(id = "#command.tripId")
     @Transactional
     public Long createSchedule(ScheduleCreateCommand command) {
         Day targetDay = findTargetDay(command.getTargetDayId());
         Trip trip = findTrip(command.getTripId());
         validateCreateAuthority(trip, command.getRequestTripperId());
-        validateTripScheduleCount(command.getTripId());
-        validateDayScheduleCount(command.getTargetDayId());
+        tripVersionGuard.checkAndIncrease(trip);
+        increaseTripScheduleCount(command.getTripId());
+        increaseDayScheduleCount(command.getTargetDayId());
 
         Schedule schedule;
         try {
@@ -38,6 +48,7 @@ public class ScheduleCreateService {
         } catch (ScheduleIndexRangeException e) {
             // 기존 ScheduleIndex 뒤에 일정 생성을 시도했으나, 가능한 ScheduleIndex 범위를 벗어났으므로 전체 재정렬
             scheduleRepository.relocateDaySchedules(command.getTripId(), command.getTargetDayId());
+            eventPublisher.publishEvent(new ScheduleRelocatedEvent(command.getTripId(), command.getTargetDayId()));
 
             // 영속성 컨텍스트가 초기화 됐으므로 trip, day를 다시 가져오고 다시 작업
             trip = findTrip(command.getTripId());
@@ -45,6 +56,7 @@ public class ScheduleCreateService {
             schedule =  trip.createSchedule(targetDay, command.getScheduleTitle(), command.getPlace());
         }
         scheduleRepository.save(schedule);
+        eventPublisher.publishEvent(new ScheduleChangedEvent(command.getTripId(), schedule.getId()));
         return schedule.getId();
     }
     private Day findTargetDay(Long dayId){
@@ -63,21 +75,25 @@ public class ScheduleCreateService {
         }
     }
 
-    private void validateTripScheduleCount(Long tripId) {
-        int tripScheduleCount = scheduleRepository.findTripScheduleCount(tripId);
-
-        if (tripScheduleCount == Trip.MAX_TRIP_SCHEDULE_COUNT) {
+    /**
+     * <p>여행의 일정 수를 1 올립니다. 여행의 일정이 이미 가득 찼다면 예외가 발생합니다.</p>
+     * <p>일정 수를 세지 않고, 제한보다 작을 때만 올리는 UPDATE 의 결과로 판단하므로 동시에 생성해도 제한을 넘지 않습니다.
+     * 예외가 발생하면 트랜잭션이 롤백되므로, 먼저 올린 일정 수도 함께 되돌려집니다.</p>
+     */
+    private void increaseTripScheduleCount(Long tripId) {
+        if (!tripRepository.increaseScheduleCount(tripId)) {
             throw new TooManyTripScheduleException("여행 생성 시도 -> 여행 최대 일정 갯수 초과");
         }
     }
 
-    private void validateDayScheduleCount(Long dayId) {
+    /**
+     * Day의 일정 수를 1 올립니다. Day의 일정이 이미 가득 찼다면 예외가 발생합니다. (임시보관함은 제한 없음)
+     */
+    private void increaseDayScheduleCount(Long dayId) {
         if (dayId == null) {
             return;
         }
-        int dayScheduleCount = scheduleRepository.findDayScheduleCount(dayId);
-
-        if (dayScheduleCount == Day.MAX_DAY_SCHEDULE_COUNT) {
+        if (!dayRepository.increaseScheduleCount(dayId)) {
             throw new TooManyDayScheduleException("여행 생성 시도 -> Day의 최대 일정 갯수 초과");
         }
     }
@@ -1,10 +1,16 @@
 package com.cosain.trilo.trip.application.schedule.service.schedule_delete;
 
 import com.cosain.trilo.common.exception.schedule.ScheduleNotFoundException;
+import com.cosain.trilo.trip.application.concurrency.TripMutation;
+import com.cosain.trilo.trip.application.concurrency.TripVersionGuard;
+import com.cosain.trilo.trip.application.event.ScheduleChangedEvent;
 import com.cosain.trilo.trip.application.exception.NoScheduleDeleteAuthorityException;
 import com.cosain.trilo.trip.domain.entity.Schedule;
+import com.cosain.trilo.trip.domain.repository.DayRepository;
 import com.cosain.trilo.trip.domain.repository.ScheduleRepository;
+import com.cosain.trilo.trip.domain.repository.TripRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,12 +19,21 @@ import org.springframework.transaction.annotation.Transactional;
 public class ScheduleDeleteService {
 
     private final ScheduleRepository scheduleRepository;
+    private final TripRepository tripRepository;
+    private final DayRepository dayRepository;
+    private final TripVersionGuard tripVersionGuard;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    @TripMutation(scope = TripMutation.Scope.SCHEDULE, id = "#scheduleId")
     @Transactional
     public void deleteSchedule(Long scheduleId, Long deleteTripperId) {
         Schedule schedule = findSchedule(scheduleId);
         validateDeleteAuthority(schedule, deleteTripperId);
+        tripVersionGuard.checkAndIncrease(schedule.getTrip());
         scheduleRepository.delete(schedule);
+        decreaseScheduleCounts(schedule);
+        eventPublisher.publishEvent(new ScheduleChangedEvent(schedule.getTrip().getId(), schedule.getId()));
     }
 
     private Schedule findSchedule(Long scheduleId) {
@@ -26,6 +41,16 @@ public class ScheduleDeleteService {
                 .orElseThrow(() -> new ScheduleNotFoundException("일치하는 식별자의 일정을 찾을 수 없음"));
     }
 
+    /**
+     * 일정이 속해있던 여행과 Day(임시보관함이면 제외)의 일정 수를 1 내립니다.
+     */
+    private void decreaseScheduleCounts(Schedule schedule) {
+        tripRepository.decreaseScheduleCount(schedule.getTrip().getId());
+        if (schedule.getDay() != null) {
+            dayRepository.decreaseScheduleCount(schedule.getDay().getId());
+        }
+    }
+
     private void validateDeleteAuthority(Schedule schedule, Long deleteTripperId) {
         Long tripperId = schedule.getTrip().getTripperId();
 
@@ -3,13 +3,20 @@ package com.cosain.trilo.trip.application.schedule.service.schedule_move;
 import com.cosain.trilo.common.exception.day.DayNotFoundException;
 import com.cosain.trilo.common.exception.day.InvalidTripDayException;
 import com.cosain.trilo.common.exception.schedule.*;
+import com.cosain.trilo.trip.application.concurrency.TripMutation;
+import com.cosain.trilo.trip.application.concurrency.TripVersionGuard;
+import com.cosain.trilo.trip.application.event.ScheduleMovedEvent;
+import com.cosain.trilo.trip.application.event.ScheduleRelocatedEvent;
+import com.cosain.trilo.trip.application.schedule.ScheduleIndexPolicy;
 import com.cosain.trilo.trip.domain.dto.ScheduleMoveDto;
+import com.cosain.trilo.trip.domain.dto.ScheduleMoveNeighbors;
 import com.cosain.trilo.trip.domain.entity.Day;
 import com.cosain.trilo.trip.domain.entity.Schedule;
 import com.cosain.trilo.trip.domain.entity.Trip;
 import com.cosain.trilo.trip.domain.repository.DayRepository;
 import com.cosain.trilo.trip.domain.repository.ScheduleRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +39,21 @@ public class ScheduleMoveService {
      */
     private final DayRepository dayRepository;
 
+    /**
+     * 같은 여행에 대한 동시 수정을 검출하고 여행 버전을 올리는 guard
+     */
+    private final TripVersionGuard tripVersionGuard;
+
+    /**
+     * 중간 삽입 시 순서값 생성 방식을 알려주는 정책
+     */
+    private final ScheduleIndexPolicy scheduleIndexPolicy;
+
+    /**
+     * 여행 조회 캐시 무효화 등을 위해 변경 이벤트를 발행할 publisher
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * 일정을 이동시킵니다.
      * @param command 일정 이동 명령(비즈니스 입력 모델)
@@ -43,6 +65,7 @@ public class ScheduleMoveService {
      * @throws InvalidTripDayException 도착지 Day가 일정이 속한 Trip의 Day가 아닐 때
      * @throws InvalidScheduleMoveTargetOrderException 요청한 대상 순서가 0보다 작거나, 허용하는 순서보다 큰 경우
      */
+    @TripMutation(scope = TripMutation.Scope.SCHEDULE, id = "#command.scheduleId")
     @Transactional
     public ScheduleMoveResult moveSchedule(ScheduleMoveCommand command)
             throws ScheduleNotFoundException, DayNotFoundException, NoScheduleMoveAuthorityException, TooManyDayScheduleException,
@@ -58,12 +81,24 @@ public class ScheduleMoveService {
         // 일정을 이동시킬 권한이 있는 지 검증 -> 권한 없으면 예외 발생
         validateScheduleMoveAuthority(trip, command.getRequestTripperId());
 
-        // 옮겨질 Day의 일정 최대 보유 갯수 제약을 넘는 지 검증 -> 이동할 수 없으면 예외 발생
-        validateTargetDayScheduleCount(schedule, targetDay);
+        // 다른 요청이 먼저 여행을 수정했는지 검사하고 여행 버전을 올림 -> 충돌하면 예외 발생
+        tripVersionGuard.checkAndIncrease(trip);
+
+        // 도착지의 일정 목록 대신, 이동 위치 계산에 필요한 순서값들과 일정 갯수만 조회
+        ScheduleMoveNeighbors neighbors = findScheduleMoveNeighbors(trip.getId(), command);
+
+        // 출발지/도착지 Day의 일정 수를 옮김 -> 도착지 Day의 일정 최대 보유 갯수 제약을 넘으면 예외 발생
+        moveDayScheduleCount(schedule, targetDay);
 
         // 일정 이동
         // 주의!!! 영속성 컨텍스트 초기화 가능성 때문에 이 코드보다 아래에서 schedule, trip, day 변수를 그대로 사용할 수 없음
-        return moveSchedule(schedule, trip, targetDay, command);
+        Long tripId = trip.getId();
+        ScheduleMoveResult result = moveSchedule(schedule, trip, targetDay, neighbors, command);
+
+        if (result.isPositionChanged()) {
+            eventPublisher.publishEvent(new ScheduleMovedEvent(tripId, result.getScheduleId(), result.getBeforeDayId(), result.getAfterDayId()));
+        }
+        return result;
     }
 
     /**
@@ -106,24 +141,39 @@ public class ScheduleMoveService {
     }
 
     /**
-     * 일정을 Day로 옮길 때, 허용된 최대 일정 갯수 범위를 만족하는 지 검증합니다.
+     * 일정을 옮길 도착지(Day 또는 임시보관함)의 정보 중 이동 위치 계산에 필요한 것만 조회합니다.
+     * @param tripId 여행의 id
+     * @param command 일정 이동 명령
+     * @return 도착지 정보(일정 갯수, 맨 앞/맨 뒤, 대상 순서 주변의 순서값)
+     */
+    private ScheduleMoveNeighbors findScheduleMoveNeighbors(Long tripId, ScheduleMoveCommand command) {
+        return scheduleRepository.findScheduleMoveNeighbors(tripId, command.getTargetDayId(), command.getScheduleId(), command.getTargetOrder());
+    }
+
+    /**
+     * <p>일정이 다른 Day(또는 임시보관함)로 옮겨질 때, 출발지/도착지 Day의 일정 수를 옮겨줍니다.</p>
+     * <p>도착지 Day의 일정 수는 제한보다 작을 때만 올리는 UPDATE 의 결과로 판단하므로, 동시에 같은 Day로 옮겨도 제한을 넘지 않습니다.
+     * 예외가 발생하면 트랜잭션이 롤백되므로, 출발지 Day의 일정 수도 되돌려집니다.</p>
      * @param schedule 일정
      * @param targetDay 도착지 Day
      * @throws TooManyDayScheduleException 도착지 Day가 가진 일정의 갯수 제한을 넘을 때
      */
-    private void validateTargetDayScheduleCount(Schedule schedule, Day targetDay) throws TooManyDayScheduleException {
+    private void moveDayScheduleCount(Schedule schedule, Day targetDay) throws TooManyDayScheduleException {
         Long beforeDayId = schedule.getDay() == null ? null : schedule.getDay().getId();
         Long afterDayId = targetDay == null ? null : targetDay.getId();
 
-        // 도착지가 출발지 Day와 같거나, 도착지가 임시보관함일 경우 검증 필요 없음
-        if (Objects.equals(beforeDayId, afterDayId) || afterDayId == null) {
+        // 도착지가 출발지 Day와 같으면 일정 수가 바뀌지 않음
+        if (Objects.equals(beforeDayId, afterDayId)) {
             return;
         }
 
         // 일정을 Day로 옮길 때, Day의 최대 일정 갯수 제한을 초과하는 경우 예외 발생
-        if (scheduleRepository.findDayScheduleCount(afterDayId) == Day.MAX_DAY_SCHEDULE_COUNT) {
+        if (afterDayId != null && !dayRepository.increaseScheduleCount(afterDayId)) {
             throw new TooManyDayScheduleException("옮기려는 Day 자리에 일정이 가득참");
         }
+        if (beforeDayId != null) {
+            dayRepository.decreaseScheduleCount(beforeDayId);
+        }
     }
 
     /**
@@ -132,21 +182,24 @@ public class ScheduleMoveService {
      * @param schedule  옮길 일정
      * @param trip      일정이 속한 여행
      * @param targetDay 대상 Day(null일 경우 임시보관함)
+     * @param neighbors 도착지 정보
      * @param command   일정 이동 명령
      * @return 일정 이동 결과
      * @throws InvalidTripDayException 도착 Day가 일정이 속한 Trip의 Day가 아닐 때
      * @throws InvalidScheduleMoveTargetOrderException 요청한 대상 순서가 0보다 작거나, 허용하는 순서보다 큰 경우
      */
-    private ScheduleMoveResult moveSchedule(Schedule schedule, Trip trip, Day targetDay, ScheduleMoveCommand command)
+    private ScheduleMoveResult moveSchedule(Schedule schedule, Trip trip, Day targetDay, ScheduleMoveNeighbors neighbors, ScheduleMoveCommand command)
             throws InvalidTripDayException, InvalidScheduleMoveTargetOrderException {
 
         ScheduleMoveDto moveDto;
         try {
-            moveDto = trip.moveSchedule(schedule, targetDay, command.getTargetOrder());
+            moveDto = trip.moveSchedule(schedule, targetDay, command.getTargetOrder(), neighbors, scheduleIndexPolicy.getMode());
         } catch (MidScheduleIndexConflictException | ScheduleIndexRangeException e) {
             // 이동 과정에서 순서 충돌이 발생하거나, 범위를 벗어나면 재배치 후 다시 이동시켜야함
             // 주의!!! 영속성 컨텍스트 초기화 때문에 아래에서는 위의 schedule, trip, day 변수를 그대로 사용할 수 없음
-            scheduleRepository.relocateDaySchedules(trip.getId(), command.getTargetDayId());
+            Long tripId = trip.getId();
+            scheduleRepository.relocateDaySchedules(tripId, command.getTargetDayId());
+            eventPublisher.publishEvent(new ScheduleRelocatedEvent(tripId, command.getTargetDayId()));
 
             // 다시 이동
             moveDto = retryMoveSchedule(command);
@@ -164,8 +217,9 @@ public class ScheduleMoveService {
         Schedule schedule = findScheduleWithTrip(command.getScheduleId());
         Day targetDay = findTargetDayWithTrip(command.getTargetDayId());
         Trip trip = schedule.getTrip();
+        ScheduleMoveNeighbors neighbors = findScheduleMoveNeighbors(trip.getId(), command);
 
         // 이동
-        return trip.moveSchedule(schedule, targetDay, command.getTargetOrder());
+        return trip.moveSchedule(schedule, targetDay, command.getTargetOrder(), neighbors, scheduleIndexPolicy.getMode());
     }
 }
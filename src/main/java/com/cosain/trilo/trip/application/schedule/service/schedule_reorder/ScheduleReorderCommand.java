@@ -0,0 +1,124 @@
+package com.cosain.trilo.trip.application.schedule.service.schedule_reorder;
+
+import com.cosain.trilo.common.exception.CustomException;
+import com.cosain.trilo.common.exception.CustomValidationException;
+import com.cosain.trilo.common.exception.schedule.InvalidScheduleReorderException;
+import com.cosain.trilo.common.exception.schedule.TooManyDayScheduleException;
+import com.cosain.trilo.trip.domain.entity.Day;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 일정 일괄 이동에 필요한 명령(command, 비즈니스 입력 모델)입니다.
+ */
+@Getter
+@EqualsAndHashCode(of = {"tripId", "requestTripperId", "places"})
+public class ScheduleReorderCommand {
+
+    /**
+     * 일정들이 속한 여행의 식별자(id)
+     */
+    private final long tripId;
+
+    /**
+     * 일정 일괄 이동을 시도하는 여행자(사용자)의 식별자(id)
+     */
+    private final long requestTripperId;
+
+    /**
+     * 도착지(Day 또는 임시보관함)별 일정 순서
+     */
+    private final List<ScheduleReorderPlace> places;
+
+    /**
+     * 일정 일괄 이동 명령(비즈니스 입력 모델)을 생성합니다.
+     *
+     * @param tripId           일정들이 속한 여행의 식별자(id)
+     * @param requestTripperId 일정 일괄 이동을 시도하는 여행자(사용자)의 식별자(id)
+     * @param places           도착지(Day 또는 임시보관함)별 일정 순서
+     * @return 일정 일괄 이동 명령
+     * @throws CustomValidationException 명령 생성과정에서 발생한 예외들을 묶은 예외
+     */
+    public static ScheduleReorderCommand of(long tripId, long requestTripperId, List<ScheduleReorderPlace> places)
+            throws CustomValidationException {
+
+        List<CustomException> exceptions = new ArrayList<>(); // 발생 예외를 수집할 예외 수집기
+        validatePlaces(places, exceptions); // 도착지, 일정 id 중복 및 누락 검증
+        validateDayScheduleCount(places, exceptions); // Day별 최대 일정 갯수 검증
+
+        if (!exceptions.isEmpty()) {
+            // 입력 검증 과정에서 예외가 하나라도 발생할 경우 이들을 모아서, 검증 예외를 발생시킴.
+            throw new CustomValidationException(exceptions);
+        }
+        return new ScheduleReorderCommand(tripId, requestTripperId, List.copyOf(places));
+    }
+
+    /**
+     * <p>도착지 목록이 비어있지 않고, 도착지와 일정 id가 null이거나 중복되지 않는 지 검증합니다.</p>
+     * <p>검증 과정에서 문제가 확인되면 예외 수집기에 예외를 수집합니다.</p>
+     * @param places 도착지별 일정 순서
+     * @param exceptions 검증 과정에서 발생한 예외를 수집할 컬렉션
+     */
+    private static void validatePlaces(List<ScheduleReorderPlace> places, List<CustomException> exceptions) {
+        if (places == null || places.isEmpty() || places.stream().anyMatch(Objects::isNull)) {
+            exceptions.add(new InvalidScheduleReorderException("도착지 목록이 null, 비어있음 또는 null 도착지 포함"));
+            return;
+        }
+        Set<Long> dayIds = new HashSet<>();
+        Set<Long> scheduleIds = new HashSet<>();
+        for (ScheduleReorderPlace place : places) {
+            if (!dayIds.add(place.getDayId())) {
+                exceptions.add(new InvalidScheduleReorderException("같은 도착지가 중복됨"));
+                return;
+            }
+            if (place.getScheduleIds() == null || place.getScheduleIds().stream().anyMatch(Objects::isNull)) {
+                exceptions.add(new InvalidScheduleReorderException("일정 id 목록이 null 이거나 null 일정 id 포함"));
+                return;
+            }
+            if (!place.getScheduleIds().stream().allMatch(scheduleIds::add)) {
+                exceptions.add(new InvalidScheduleReorderException("같은 일정 id가 중복됨"));
+                return;
+            }
+        }
+    }
+
+    /**
+     * <p>Day에 놓일 일정의 갯수가 Day의 최대 일정 갯수를 넘지 않는 지 검증합니다.</p>
+     * <p>검증 과정에서 문제가 확인되면 예외 수집기에 예외를 수집합니다.</p>
+     * @param places 도착지별 일정 순서
+     * @param exceptions 검증 과정에서 발생한 예외를 수집할 컬렉션
+     */
+    private static void validateDayScheduleCount(List<ScheduleReorderPlace> places, List<CustomException> exceptions) {
+        if (places == null) {
+            return;
+        }
+        boolean tooMany = places.stream()
+                .filter(place -> place != null && !place.isTemporaryStorage() && place.getScheduleIds() != null)
+                .anyMatch(place -> place.getScheduleIds().size() > Day.MAX_DAY_SCHEDULE_COUNT);
+
+        if (tooMany) {
+            exceptions.add(new TooManyDayScheduleException("Day에 놓일 일정이 최대 일정 갯수를 넘음"));
+        }
+    }
+
+    private ScheduleReorderCommand(long tripId, long requestTripperId, List<ScheduleReorderPlace> places) {
+        this.tripId = tripId;
+        this.requestTripperId = requestTripperId;
+        this.places = places;
+    }
+
+    /**
+     * @return 명령에 포함된 모든 일정의 식별자(id)
+     */
+    public Set<Long> getScheduleIds() {
+        Set<Long> scheduleIds = new HashSet<>();
+        places.forEach(place -> scheduleIds.addAll(place.getScheduleIds()));
+        return scheduleIds;
+    }
+}
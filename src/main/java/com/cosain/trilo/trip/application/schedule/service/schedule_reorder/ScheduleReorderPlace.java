@@ -0,0 +1,48 @@
+package com.cosain.trilo.trip.application.schedule.service.schedule_reorder;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 일정 일괄 이동 명령에서, Day(또는 임시보관함) 하나에 놓일 일정들의 순서를 담은 객체입니다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode(of = {"dayId", "scheduleIds"})
+public class ScheduleReorderPlace {
+
+    /**
+     * 도착지의 Day 식별자(id) (null 이면 임시보관함)
+     */
+    private final Long dayId;
+
+    /**
+     * 도착지에 놓일 일정들의 식별자(id), 앞에서부터 순서대로
+     */
+    private final List<Long> scheduleIds;
+
+    /**
+     * 도착지 하나의 일정 순서를 생성합니다.
+     * @param dayId 도착지의 Day 식별자(id) (null 이면 임시보관함)
+     * @param scheduleIds 도착지에 놓일 일정들의 식별자(id), 앞에서부터 순서대로
+     * @return 도착지 하나의 일정 순서
+     */
+    public static ScheduleReorderPlace of(Long dayId, List<Long> scheduleIds) {
+        return new ScheduleReorderPlace(dayId, scheduleIds);
+    }
+
+    private ScheduleReorderPlace(Long dayId, List<Long> scheduleIds) {
+        this.dayId = dayId;
+        this.scheduleIds = scheduleIds;
+    }
+
+    /**
+     * @return 도착지가 임시보관함인지 여부
+     */
+    public boolean isTemporaryStorage() {
+        return dayId == null;
+    }
+}
@@ -0,0 +1,41 @@
+package com.cosain.trilo.trip.application.schedule.service.schedule_reorder;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 일정 일괄 이동의 결과를 바인딩한 객체입니다.
+ */
+@Getter
+public class ScheduleReorderResult {
+
+    /**
+     * 일정들이 속한 여행의 id(식별자)
+     */
+    private Long tripId;
+
+    /**
+     * 위치가 새로 지정된 일정의 갯수
+     */
+    private int reorderedScheduleCount;
+
+    /**
+     * 일정 일괄 이동 결과를 생성합니다.
+     * @param tripId 일정들이 속한 여행의 id
+     * @param reorderedScheduleCount 위치가 새로 지정된 일정의 갯수
+     * @return 일정 일괄 이동 결과
+     */
+    public static ScheduleReorderResult of(Long tripId, int reorderedScheduleCount) {
+        return ScheduleReorderResult.builder()
+                .tripId(tripId)
+                .reorderedScheduleCount(reorderedScheduleCount)
+                .build();
+    }
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private ScheduleReorderResult(Long tripId, int reorderedScheduleCount) {
+        this.tripId = tripId;
+        this.reorderedScheduleCount = reorderedScheduleCount;
+    }
+}
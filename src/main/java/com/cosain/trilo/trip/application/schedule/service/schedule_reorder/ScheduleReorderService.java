@@ -0,0 +1,207 @@
+package com.cosain.trilo.trip.application.schedule.service.schedule_reorder;
+
+import com.cosain.trilo.common.exception.day.InvalidTripDayException;
+import com.cosain.trilo.common.exception.schedule.InvalidScheduleReorderException;
+import com.cosain.trilo.common.exception.schedule.NoScheduleMoveAuthorityException;
+import com.cosain.trilo.common.exception.schedule.ScheduleNotFoundException;
+import com.cosain.trilo.common.exception.trip.TripNotFoundException;
+import com.cosain.trilo.trip.application.concurrency.TripMutation;
+import com.cosain.trilo.trip.application.concurrency.TripVersionGuard;
+import com.cosain.trilo.trip.application.event.SchedulesReorderedEvent;
+import com.cosain.trilo.trip.domain.dto.SchedulePosition;
+import com.cosain.trilo.trip.domain.entity.Day;
+import com.cosain.trilo.trip.domain.entity.Trip;
+import com.cosain.trilo.trip.domain.repository.DayRepository;
+import com.cosain.trilo.trip.domain.repository.ScheduleRepository;
+import com.cosain.trilo.trip.domain.repository.TripRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * <p>여러 일정의 위치를 한 번에 지정하는 애플리케이션 서비스입니다.</p>
+ * <p>요청한 Day(또는 임시보관함)마다 일정들에 기본 간격의 새 순서값을 매기고, 한 트랜잭션 안에서 한 번의 일괄 갱신으로 저장합니다.
+ * 일정 이동을 여러 번 요청하는 것과 달리, 권한/갯수 검증과 여행 버전 증가가 한 번만 일어나고 재배치가 필요하지 않습니다.</p>
+ */
+@RequiredArgsConstructor
+@Service
+public class ScheduleReorderService {
+
+    /**
+     * 여행을 저장, 관리하고 있는 리포지토리
+     */
+    private final TripRepository tripRepository;
+
+    /**
+     * 일정을 저장, 관리하고 있는 리포지토리
+     */
+    private final ScheduleRepository scheduleRepository;
+
+    /**
+     * Day를 저장, 관리하고 있는 리포지토리
+     */
+    private final DayRepository dayRepository;
+
+    /**
+     * 같은 여행에 대한 동시 수정을 검출하고 여행 버전을 올리는 guard
+     */
+    private final TripVersionGuard tripVersionGuard;
+
+    /**
+     * 여행 조회 캐시 무효화 등을 위해 변경 이벤트를 발행할 publisher
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 일정들을 요청한 순서대로 한 번에 이동시킵니다.
+     * @param command 일정 일괄 이동 명령(비즈니스 입력 모델)
+     * @return 일정 일괄 이동 결과
+     * @throws TripNotFoundException 여행을 찾을 수 없을 때
+     * @throws NoScheduleMoveAuthorityException 일정을 이동할 권한이 없을 때
+     * @throws InvalidTripDayException 도착지 Day가 여행의 Day가 아닐 때
+     * @throws ScheduleNotFoundException 요청한 일정이 여행의 일정이 아닐 때
+     * @throws InvalidScheduleReorderException 요청한 Day(또는 임시보관함)에 있던 일정이 요청에서 빠졌을 때
+     */
+    @TripMutation(id = "#command.tripId")
+    @Transactional
+    public ScheduleReorderResult reorderSchedules(ScheduleReorderCommand command)
+            throws TripNotFoundException, NoScheduleMoveAuthorityException, InvalidTripDayException, ScheduleNotFoundException,
+            InvalidScheduleReorderException {
+
+        // 여행을 Day들과 조회 -> 없으면 예외 발생
+        Trip trip = findTripWithDays(command.getTripId());
+
+        // 일정을 이동시킬 권한이 있는 지 검증 -> 권한 없으면 예외 발생
+        validateScheduleMoveAuthority(trip, command.getRequestTripperId());
+
+        // 도착지 Day들이 모두 여행의 Day인지 검증 -> 아니면 예외 발생
+        validateTripDays(trip, command.getPlaces());
+
+        // 다른 요청이 먼저 여행을 수정했는지 검사하고 여행 버전을 올림 -> 충돌하면 예외 발생
+        tripVersionGuard.checkAndIncrease(trip);
+
+        // 일정 본문 대신, 여행의 일정마다 현재 속한 Day id만 조회해서 요청 일정들을 검증
+        Map<Long, Long> dayIdBySchedule = scheduleRepository.findScheduleDayIds(trip.getId());
+        validateSchedules(dayIdBySchedule, command);
+
+        // 도착지별로 기본 간격의 새 순서값을 매겨서 한 번에 저장
+        List<SchedulePosition> positions = toPositions(command.getPlaces());
+        int reorderedCount = scheduleRepository.updateSchedulePositions(trip.getId(), positions);
+
+        // 일정이 새로 놓이거나 빠져나간 Day들의 일정 수를 다시 계산 (요청 검증에서 Day마다 최대 갯수 이하임이 보장됨)
+        Set<Long> changedDayIds = findChangedDayIds(dayIdBySchedule, command);
+        dayRepository.refreshScheduleCounts(changedDayIds.stream().filter(Objects::nonNull).toList());
+
+        eventPublisher.publishEvent(new SchedulesReorderedEvent(trip.getId(), changedDayIds));
+        return ScheduleReorderResult.of(trip.getId(), reorderedCount);
+    }
+
+    /**
+     * 여행을 Day들과 함께 조회해옵니다.
+     * @param tripId 여행의 식별자(id)
+     * @return 여행
+     * @throws TripNotFoundException 여행이 존재하지 않을 경우
+     */
+    private Trip findTripWithDays(Long tripId) throws TripNotFoundException {
+        return tripRepository.findByIdWithDays(tripId)
+                .orElseThrow(() -> new TripNotFoundException("일치하는 식별자의 여행을 찾을 수 없음"));
+    }
+
+    /**
+     * 요청 사용자(여행자)가 여행의 일정을 이동할 권한이 있는 지 검증합니다.
+     * @param trip 여행
+     * @param requestTripperId 요청 사용자(여행자)의 id
+     * @throws NoScheduleMoveAuthorityException 일정을 이동할 권한이 없을 때
+     */
+    private void validateScheduleMoveAuthority(Trip trip, Long requestTripperId) throws NoScheduleMoveAuthorityException {
+        if (!trip.getTripperId().equals(requestTripperId)) {
+            throw new NoScheduleMoveAuthorityException("권한 없는 사람이 일정을 이동하려 함");
+        }
+    }
+
+    /**
+     * 도착지 Day들이 모두 여행의 Day인지 검증합니다.
+     * @param trip 여행(Day들 포함)
+     * @param places 도착지별 일정 순서
+     * @throws InvalidTripDayException 도착지 Day가 여행의 Day가 아닐 때
+     */
+    private void validateTripDays(Trip trip, List<ScheduleReorderPlace> places) throws InvalidTripDayException {
+        Set<Long> tripDayIds = trip.getDays().stream()
+                .map(Day::getId)
+                .collect(Collectors.toSet());
+
+        boolean hasOtherDay = places.stream()
+                .filter(place -> !place.isTemporaryStorage())
+                .anyMatch(place -> !tripDayIds.contains(place.getDayId()));
+
+        if (hasOtherDay) {
+            throw new InvalidTripDayException("여행에 속하지 않은 Day로 일정을 옮기려 함");
+        }
+    }
+
+    /**
+     * <p>요청한 일정들이 모두 여행의 일정인지, 요청한 도착지에 원래 있던 일정이 요청에서 빠지지 않았는 지 검증합니다.</p>
+     * <p>빠진 일정을 허용하면 새로 매긴 순서값과 기존 순서값이 섞여 순서가 의도와 달라지므로 허용하지 않습니다.</p>
+     * @param dayIdBySchedule 여행의 일정 id -> 일정이 현재 속한 Day id (임시보관함이면 null)
+     * @param command 일정 일괄 이동 명령
+     * @throws ScheduleNotFoundException 요청한 일정이 여행의 일정이 아닐 때
+     * @throws InvalidScheduleReorderException 요청한 도착지에 있던 일정이 요청에서 빠졌을 때
+     */
+    private void validateSchedules(Map<Long, Long> dayIdBySchedule, ScheduleReorderCommand command)
+            throws ScheduleNotFoundException, InvalidScheduleReorderException {
+
+        Set<Long> requestScheduleIds = command.getScheduleIds();
+        if (!dayIdBySchedule.keySet().containsAll(requestScheduleIds)) {
+            throw new ScheduleNotFoundException("여행에 속하지 않은 일정을 옮기려 함");
+        }
+
+        Set<Long> requestDayIds = new HashSet<>();
+        command.getPlaces().forEach(place -> requestDayIds.add(place.getDayId()));
+
+        boolean hasMissingSchedule = dayIdBySchedule.entrySet().stream()
+                .filter(entry -> requestDayIds.contains(entry.getValue()))
+                .anyMatch(entry -> !requestScheduleIds.contains(entry.getKey()));
+
+        if (hasMissingSchedule) {
+            throw new InvalidScheduleReorderException("요청한 Day(또는 임시보관함)에 있던 일정이 요청에서 빠짐");
+        }
+    }
+
+    /**
+     * 도착지별 일정 순서를, 일정마다 놓일 위치(Day, 기본 간격의 새 순서값) 목록으로 바꿉니다.
+     * @param places 도착지별 일정 순서
+     * @return 일정마다 놓일 위치
+     */
+    private List<SchedulePosition> toPositions(List<ScheduleReorderPlace> places) {
+        List<SchedulePosition> positions = new ArrayList<>();
+        for (ScheduleReorderPlace place : places) {
+            List<Long> scheduleIds = place.getScheduleIds();
+            for (int order = 0; order < scheduleIds.size(); order++) {
+                positions.add(SchedulePosition.of(scheduleIds.get(order), place.getDayId(), order));
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * 일정이 새로 놓이거나, 일정이 빠져나간 Day(또는 임시보관함)들의 id를 구합니다.
+     * @param dayIdBySchedule 여행의 일정 id -> 일정이 이동 전 속해있던 Day id (임시보관함이면 null)
+     * @param command 일정 일괄 이동 명령
+     * @return 변경된 Day들의 id (임시보관함은 null)
+     */
+    private Set<Long> findChangedDayIds(Map<Long, Long> dayIdBySchedule, ScheduleReorderCommand command) {
+        Set<Long> changedDayIds = new HashSet<>();
+        command.getPlaces().forEach(place -> changedDayIds.add(place.getDayId()));
+        command.getScheduleIds().forEach(scheduleId -> changedDayIds.add(dayIdBySchedule.get(scheduleId)));
+        return changedDayIds;
+    }
+}
@@ -1,10 +1,14 @@
 package com.cosain.trilo.trip.application.schedule.service.schedule_update;
 
 import com.cosain.trilo.common.exception.schedule.ScheduleNotFoundException;
+import com.cosain.trilo.trip.application.concurrency.TripMutation;
+import com.cosain.trilo.trip.application.concurrency.TripVersionGuard;
+import com.cosain.trilo.trip.application.event.ScheduleChangedEvent;
 import com.cosain.trilo.trip.application.exception.NoScheduleUpdateAuthorityException;
 import com.cosain.trilo.trip.domain.entity.Schedule;
 import com.cosain.trilo.trip.domain.repository.ScheduleRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,15 +17,21 @@ import org.springframework.transaction.annotation.Transactional;
 public class ScheduleUpdateService {
 
     private final ScheduleRepository scheduleRepository;
+    private final TripVersionGuard tripVersionGuard;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    @TripMutation(scope = TripMutation.Scope.SCHEDULE, id = "#command.scheduleId")
     @Transactional
     public void updateSchedule(ScheduleUpdateCommand command) {
         Schedule schedule = findSchedule(command.getScheduleId());
         validateScheduleUpdateAuthority(schedule, command.getRequestTripperId());
+        tripVersionGuard.checkAndIncrease(schedule.getTrip());
 
         schedule.changeTitle(command.getScheduleTitle());
         schedule.changeContent(command.getScheduleContent());
         schedule.changeTime(command.getScheduleTime());
+        eventPublisher.publishEvent(new ScheduleChangedEvent(schedule.getTrip().getId(), schedule.getId()));
     }
 
     private Schedule findSchedule(Long scheduleId) {
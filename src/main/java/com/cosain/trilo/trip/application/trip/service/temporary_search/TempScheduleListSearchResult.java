@@ -3,10 +3,11 @@ package com.cosain.trilo.trip.application.trip.service.temporary_search;
 import com.cosain.trilo.trip.application.day.service.day_search.ScheduleSummary;
 import lombok.Getter;
 
+import java.io.Serializable;
 import java.util.List;
 
 @Getter
-public class TempScheduleListSearchResult {
+public class TempScheduleListSearchResult implements Serializable {
 
     private final boolean hasNext;
     private final List<ScheduleSummary> tempSchedules;
@@ -1,30 +1,19 @@
 package com.cosain.trilo.trip.application.trip.service.trip_all_delete;
 
-import com.cosain.trilo.trip.domain.entity.Trip;
-import com.cosain.trilo.trip.domain.repository.DayRepository;
-import com.cosain.trilo.trip.domain.repository.ScheduleRepository;
-import com.cosain.trilo.trip.domain.repository.TripRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.util.List;
-import java.util.stream.Collectors;
 
+/**
+ * <p>탈퇴한 사용자(여행자)의 여행을 모두 삭제하는 서비스입니다.</p>
+ * <p>여행이 많은 사용자도 잠금과 언두 로그가 커지지 않도록, 한 트랜잭션으로 묶지 않고 {@link TripPurger} 에 나누어 삭제하도록 맡깁니다.</p>
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class TripAllDeleteService {
 
-    private final TripRepository tripRepository;
-    private final DayRepository dayRepository;
-    private final ScheduleRepository scheduleRepository;
+    private final TripPurger tripPurger;
 
     public void deleteAllByTripperId(Long tripperId){
-        List<Trip> trips = tripRepository.findAllByTripperId(tripperId);
-        List<Long> tripIdsForDelete = trips.stream().map(Trip::getId).collect(Collectors.toList());
-        scheduleRepository.deleteAllByTripIds(tripIdsForDelete);
-        dayRepository.deleteAllByTripIds(tripIdsForDelete);
-        tripRepository.deleteAllByTripperId(tripperId);
+        tripPurger.purgeAllByTripperId(tripperId);
     }
 }
@@ -0,0 +1,16 @@
+package com.cosain.trilo.trip.application.trip.service.trip_all_delete;
+
+/**
+ * <p>사용자(여행자)의 여행을 Day, 일정, 좋아요와 함께 모두 삭제하는 작업입니다.</p>
+ * <p>구현체는 여행을 나누어 여러 트랜잭션으로 삭제할 수 있으므로, 호출이 끝나기 전에는 일부 여행만 삭제된 상태가 보일 수 있습니다.
+ * 중간에 중단되면 진행 위치부터 이어서 삭제합니다.</p>
+ */
+public interface TripPurger {
+
+    /**
+     * 사용자(여행자)의 여행을 모두 삭제합니다.
+     * @param tripperId 사용자(여행자) id
+     * @return 이번 호출에서 삭제한 여행 수
+     */
+    long purgeAllByTripperId(Long tripperId);
+}
@@ -28,14 +28,16 @@ public class TripSearchResponse {
         private final int period;
         private final String title;
         private String imageURL;
+        private final long likeCount;
 
         @QueryProjection
-        public TripSummary(Long tripId, Long tripperId, LocalDate startDate, LocalDate endDate, String title, String imageURL) {
+        public TripSummary(Long tripId, Long tripperId, LocalDate startDate, LocalDate endDate, String title, String imageURL, long likeCount) {
             this.tripId = tripId;
             this.tripperId = tripperId;
             this.period = endDate.compareTo(startDate);
             this.title = title;
             this.imageURL = imageURL;
+            this.likeCount = likeCount;
         }
 
         public void updateImageURL(String imageURL){
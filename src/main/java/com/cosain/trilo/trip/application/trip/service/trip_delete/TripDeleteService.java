@@ -2,14 +2,19 @@ package com.cosain.trilo.trip.application.trip.service.trip_delete;
 
 import com.cosain.trilo.common.exception.trip.NoTripDeleteAuthorityException;
 import com.cosain.trilo.common.exception.trip.TripNotFoundException;
+import com.cosain.trilo.trip.application.event.TripDeletedEvent;
 import com.cosain.trilo.trip.domain.entity.Trip;
 import com.cosain.trilo.trip.domain.repository.DayRepository;
 import com.cosain.trilo.trip.domain.repository.ScheduleRepository;
+import com.cosain.trilo.trip.domain.repository.TripLikeRepository;
 import com.cosain.trilo.trip.domain.repository.TripRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * 여행 삭제를 수행하는 애플리케이션 서비스입니다.
  */
@@ -32,6 +37,16 @@ public class TripDeleteService {
      */
     private final ScheduleRepository scheduleRepository;
 
+    /**
+     * 여행에 달린 좋아요들을 삭제할 리포지토리
+     */
+    private final TripLikeRepository tripLikeRepository;
+
+    /**
+     * 여행 조회 캐시 무효화 등을 위해 변경 이벤트를 발행할 publisher
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * Trip 및 Trip이 가진 Day, Schedule들을 모두 삭제합니다.
      * @param tripId 삭제할 여행 id(식별자)
@@ -47,7 +62,9 @@ public class TripDeleteService {
         // 여기서부터 실제로 삭제 (일정-> Day -> 여행 순으로 삭제해야함)
         scheduleRepository.deleteAllByTripId(tripId);
         dayRepository.deleteAllByTripId(tripId);
+        tripLikeRepository.deleteAllByTripId(tripId);
         tripRepository.delete(trip);
+        eventPublisher.publishEvent(new TripDeletedEvent(List.of(tripId)));
     }
 
     /**
@@ -3,10 +3,11 @@ package com.cosain.trilo.trip.application.trip.service.trip_detail_search;
 import com.querydsl.core.annotations.QueryProjection;
 import lombok.Getter;
 
+import java.io.Serializable;
 import java.time.LocalDate;
 
 @Getter
-public class TripDetail {
+public class TripDetail implements Serializable {
 
     private final long tripId;
 
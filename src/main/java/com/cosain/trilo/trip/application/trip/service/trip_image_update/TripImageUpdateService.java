@@ -2,6 +2,8 @@ package com.cosain.trilo.trip.application.trip.service.trip_image_update;
 
 import com.cosain.trilo.common.file.ImageFile;
 import com.cosain.trilo.common.exception.trip.NoTripUpdateAuthorityException;
+import com.cosain.trilo.trip.application.concurrency.TripVersionGuard;
+import com.cosain.trilo.trip.application.event.TripChangedEvent;
 import com.cosain.trilo.trip.application.exception.TripImageUploadFailedException;
 import com.cosain.trilo.common.exception.trip.TripNotFoundException;
 import com.cosain.trilo.trip.domain.entity.Trip;
@@ -10,6 +12,7 @@ import com.cosain.trilo.trip.domain.vo.TripImage;
 import com.cosain.trilo.trip.infra.adapter.TripImageOutputAdapter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +25,8 @@ public class TripImageUpdateService {
 
     private final TripRepository tripRepository;
     private final TripImageOutputAdapter tripImageOutputAdapter;
+    private final TripVersionGuard tripVersionGuard;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 여행의 이미지를 수정합니다.
@@ -45,7 +50,10 @@ public class TripImageUpdateService {
         String uploadName = makeUploadFileName(tripId, imageFile); // 이미지 저장소에 올릴 이름 구성
         tripImageOutputAdapter.uploadImage(imageFile, uploadName); // 이미지 저장소에 업로드 후, 전체 이미지 경로(fullPath)를 구성
 
+        tripVersionGuard.checkAndIncrease(trip); // 업로드 중 다른 요청이 여행을 수정했는지 검사 (업로드를 되풀이하지 않도록 재시도하지 않음)
+
         trip.changeImage(TripImage.of(uploadName)); // 여행이미지 도메인의 실제 이미지 변경
+        eventPublisher.publishEvent(new TripChangedEvent(tripId));
         return tripImageOutputAdapter.getFullTripImageURL(uploadName); // 이미지 전체 경로를 반환
     }
 
@@ -0,0 +1,20 @@
+package com.cosain.trilo.trip.application.trip.service.trip_like;
+
+/**
+ * <p>여행의 좋아요 수(trip.trip_like_count)를 증감시키는 카운터입니다.</p>
+ * <p>구현체는 증감을 즉시 반영하지 않고 모아서 나중에 반영할 수 있으므로, 조회되는 좋아요 수는 잠시 늦을 수 있습니다.</p>
+ */
+public interface TripLikeCounter {
+
+    /**
+     * 여행의 좋아요 수를 1 증가시킵니다. (트랜잭션 안에서 호출되면 커밋된 뒤에 반영)
+     * @param tripId 여행 id(식별자)
+     */
+    void increment(Long tripId);
+
+    /**
+     * 여행의 좋아요 수를 1 감소시킵니다. (트랜잭션 안에서 호출되면 커밋된 뒤에 반영)
+     * @param tripId 여행 id(식별자)
+     */
+    void decrement(Long tripId);
+}
@@ -0,0 +1,56 @@
+package com.cosain.trilo.trip.application.trip.service.trip_like;
+
+import com.cosain.trilo.common.exception.trip.TripNotFoundException;
+import com.cosain.trilo.trip.application.dao.TripQueryDAO;
+import com.cosain.trilo.trip.domain.repository.TripLikeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * <p>여행 좋아요/좋아요 취소를 수행하는 애플리케이션 서비스입니다.</p>
+ * <p>좋아요 여부는 trip_like 에 행 단위로 기록하고, 여행의 좋아요 수는 {@link TripLikeCounter} 에 맡깁니다.
+ * 좋아요마다 trip 행을 UPDATE 하지 않으므로, 한 여행에 좋아요가 몰려도 trip 행 잠금 경합이 생기지 않습니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class TripLikeService {
+
+    private final TripQueryDAO tripQueryDAO;
+    private final TripLikeRepository tripLikeRepository;
+    private final TripLikeCounter tripLikeCounter;
+
+    /**
+     * 여행에 좋아요를 등록합니다. 이미 좋아요 한 여행이면 아무 일도 하지 않습니다.
+     * @param tripId 좋아요 할 여행 id(식별자)
+     * @param userId 좋아요 하는 사용자 id(식별자)
+     * @throws TripNotFoundException 일치하는 식별자의 여행을 찾지 못 했을 때
+     */
+    @Transactional
+    public void like(Long tripId, Long userId) throws TripNotFoundException {
+        verifyTripExists(tripId);
+        if (tripLikeRepository.save(tripId, userId)) {
+            tripLikeCounter.increment(tripId);
+        }
+    }
+
+    /**
+     * 여행의 좋아요를 취소합니다. 좋아요 하지 않은 여행이면 아무 일도 하지 않습니다.
+     * @param tripId 좋아요 취소할 여행 id(식별자)
+     * @param userId 좋아요 취소하는 사용자 id(식별자)
+     * @throws TripNotFoundException 일치하는 식별자의 여행을 찾지 못 했을 때
+     */
+    @Transactional
+    public void unlike(Long tripId, Long userId) throws TripNotFoundException {
+        verifyTripExists(tripId);
+        if (tripLikeRepository.delete(tripId, userId)) {
+            tripLikeCounter.decrement(tripId);
+        }
+    }
+
+    private void verifyTripExists(Long tripId) {
+        if (!tripQueryDAO.existById(tripId)) {
+            throw new TripNotFoundException("좋아요 시도 -> 일치하는 식별자의 여행을 찾지 못 함");
+        }
+    }
+}
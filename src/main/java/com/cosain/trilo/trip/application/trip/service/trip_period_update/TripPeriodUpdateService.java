@@ -2,6 +2,9 @@ package com.cosain.trilo.trip.application.trip.service.trip_period_update;
 
 import com.cosain.trilo.common.exception.trip.NoTripUpdateAuthorityException;
 import com.cosain.trilo.common.exception.trip.TripNotFoundException;
+import com.cosain.trilo.trip.application.concurrency.TripMutation;
+import com.cosain.trilo.trip.application.concurrency.TripVersionGuard;
+import com.cosain.trilo.trip.application.event.TripChangedEvent;
 import com.cosain.trilo.trip.domain.entity.Day;
 import com.cosain.trilo.trip.domain.entity.Trip;
 import com.cosain.trilo.common.exception.trip.EmptyPeriodUpdateException;
@@ -10,6 +13,7 @@ import com.cosain.trilo.trip.domain.repository.ScheduleRepository;
 import com.cosain.trilo.trip.domain.repository.TripRepository;
 import com.cosain.trilo.trip.domain.vo.TripPeriod;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,6 +41,16 @@ public class TripPeriodUpdateService {
      */
     private final ScheduleRepository scheduleRepository;
 
+    /**
+     * 같은 여행에 대한 동시 수정을 검출하고 여행 버전을 올리는 guard
+     */
+    private final TripVersionGuard tripVersionGuard;
+
+    /**
+     * 여행 조회 캐시 무효화 등을 위해 변경 이벤트를 발행할 publisher
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * 여행의 기간을 수정합니다.
      * @param command 여행 기간수정 명령(비즈니스 입력 모델)
@@ -45,6 +59,7 @@ public class TripPeriodUpdateService {
      * @throws EmptyPeriodUpdateException 기간이 정해져있는데 빈 기간으로 수정하려고 할 때
      * @see TripPeriodUpdateCommand
      */
+    @TripMutation(id = "#command.targetTripId")
     @Transactional
     public void updateTripPeriod(TripPeriodUpdateCommand command)
             throws TripNotFoundException, NoTripUpdateAuthorityException, EmptyPeriodUpdateException {
@@ -55,8 +70,12 @@ public class TripPeriodUpdateService {
         // 여행의 기간을 수정할 권한이 있는 지 검증 -> 권한 없으면 예외 발생
         validateTripUpdateAuthority(trip, command.getRequestTripperId());
 
+        // 다른 요청이 먼저 여행을 수정했는지 검사하고 여행 버전을 올림 -> 충돌하면 예외 발생
+        tripVersionGuard.checkAndIncrease(trip);
+
         // 여행 기간을 실제로 수정 -> 이 때 여행의 기간이 잡혀있는데 빈 기간으로 변경하려 하면 예외 발생
         changePeriod(trip, command.getTripPeriod());
+        eventPublisher.publishEvent(new TripChangedEvent(trip.getId()));
     }
 
     /**
@@ -103,7 +122,7 @@ public class TripPeriodUpdateService {
             // 삭제되는 Day가 하나라도 존재하면
             scheduleRepository.relocateDaySchedules(trip.getId(), null); // 해당 여행의 임시보관함 일정들 전체 재배치
             scheduleRepository.moveSchedulesToTemporaryStorage(trip.getId(), deletedDayIds); // 삭제되는 Day의 일정들을 모두 임시보관함 맨 뒤에 이동
-            dayRepository.deleteAllByIds(deletedDayIds); // Day들 삭제
+            dayRepository.deleteAllByIds(deletedDayIds); // Day들 삭제 (일정은 여행 안에서 옮겨질 뿐이므로 여행의 일정 수는 그대로, Day의 일정 수는 Day와 함께 사라짐)
         }
     }
 
@@ -0,0 +1,29 @@
+package com.cosain.trilo.trip.application.trip.service.trip_snapshot_search;
+
+import com.cosain.trilo.trip.application.day.service.day_search.DayScheduleDetail;
+import com.cosain.trilo.trip.application.day.service.day_search.ScheduleSummary;
+import com.cosain.trilo.trip.application.trip.service.trip_detail_search.TripDetail;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 여행, 여행의 Day 들(각 Day 의 일정 순서대로) 및 임시보관함 전체를 묶은 여행 스냅샷
+ */
+@Getter
+public class TripSnapshot {
+
+    private final TripDetail trip;
+    private final List<DayScheduleDetail> days;
+    private final List<ScheduleSummary> temporarySchedules;
+
+    public static TripSnapshot of(TripDetail trip, List<DayScheduleDetail> days, List<ScheduleSummary> temporarySchedules) {
+        return new TripSnapshot(trip, days, temporarySchedules);
+    }
+
+    private TripSnapshot(TripDetail trip, List<DayScheduleDetail> days, List<ScheduleSummary> temporarySchedules) {
+        this.trip = trip;
+        this.days = days;
+        this.temporarySchedules = temporarySchedules;
+    }
+}
@@ -0,0 +1,24 @@
+package com.cosain.trilo.trip.application.trip.service.trip_snapshot_search;
+
+import com.cosain.trilo.common.exception.trip.TripNotFoundException;
+import com.cosain.trilo.trip.application.dao.TripSnapshotQueryDAO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TripSnapshotSearchService {
+
+    private final TripSnapshotQueryDAO tripSnapshotQueryDAO;
+
+    /**
+     * 여행, 여행의 Day 및 Day 별 일정, 임시보관함 전체를 한 번에 조회합니다.
+     * @param tripId : trip의 식별자
+     */
+    public TripSnapshot searchTripSnapshot(Long tripId) {
+        return tripSnapshotQueryDAO.findTripSnapshotById(tripId)
+                .orElseThrow(TripNotFoundException::new);
+    }
+}
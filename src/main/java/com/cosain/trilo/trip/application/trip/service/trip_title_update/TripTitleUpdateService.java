@@ -2,10 +2,14 @@ package com.cosain.trilo.trip.application.trip.service.trip_title_update;
 
 import com.cosain.trilo.common.exception.trip.NoTripUpdateAuthorityException;
 import com.cosain.trilo.common.exception.trip.TripNotFoundException;
+import com.cosain.trilo.trip.application.concurrency.TripMutation;
+import com.cosain.trilo.trip.application.concurrency.TripVersionGuard;
+import com.cosain.trilo.trip.application.event.TripChangedEvent;
 import com.cosain.trilo.trip.domain.entity.Trip;
 import com.cosain.trilo.trip.domain.repository.TripRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @RequiredArgsConstructor
@@ -13,13 +17,19 @@ import org.springframework.stereotype.Service;
 public class TripTitleUpdateService {
 
     private final TripRepository tripRepository;
+    private final TripVersionGuard tripVersionGuard;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    @TripMutation(id = "#command.tripId")
     @Transactional
     public void updateTripTitle(TripTitleUpdateCommand command) {
         Trip trip = findTrip(command.getTripId());
         validateTripUpdateAuthority(trip, command.getRequestTripperId());
 
+        tripVersionGuard.checkAndIncrease(trip);
         trip.changeTitle(command.getTripTitle());
+        eventPublisher.publishEvent(new TripChangedEvent(trip.getId()));
     }
 
     private Trip findTrip(Long tripId) {
@@ -0,0 +1,139 @@
+package com.cosain.trilo.trip.domain.dto;
+
+import com.cosain.trilo.common.exception.schedule.ScheduleIndexRangeException;
+import com.cosain.trilo.trip.domain.entity.Schedule;
+import com.cosain.trilo.trip.domain.vo.ScheduleIndex;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>일정을 Day(또는 임시보관함)의 지정 순서로 옮길 때 필요한 도착지 정보만 담은 객체입니다.</p>
+ * <p>도착지의 일정 전체 대신 일정 갯수, 맨 앞/맨 뒤 일정의 순서값, 대상 순서와 그 앞 일정의 순서값,
+ * 옮길 일정의 현재 순서(도착지에 있을 때)만 가지고 이동 위치를 계산합니다.</p>
+ */
+@Getter
+@ToString
+public class ScheduleMoveNeighbors {
+
+    /**
+     * 도착지가 가진 일정의 갯수 (옮길 일정이 도착지에 있다면 포함)
+     */
+    private final int scheduleCount;
+
+    /**
+     * 옮길 일정의 도착지 내 현재 순서 (도착지에 없으면 null)
+     */
+    private final Integer currentOrder;
+
+    /**
+     * 도착지 맨 앞 일정의 순서값 (도착지가 비어있으면 null)
+     */
+    private final ScheduleIndex headIndex;
+
+    /**
+     * 도착지 맨 뒤 일정의 순서값 (도착지가 비어있으면 null)
+     */
+    private final ScheduleIndex tailIndex;
+
+    /**
+     * 대상 순서 바로 앞(targetOrder - 1) 일정의 순서값 (없으면 null)
+     */
+    private final ScheduleIndex previousIndex;
+
+    /**
+     * 대상 순서(targetOrder)에 있는 일정의 순서값 (없으면 null)
+     */
+    private final ScheduleIndex targetIndex;
+
+    /**
+     * 순서별 순서값 조회 결과로부터 도착지 정보를 생성합니다.
+     * @param scheduleCount 도착지가 가진 일정의 갯수
+     * @param currentOrder 옮길 일정의 도착지 내 현재 순서 (도착지에 없으면 null)
+     * @param indexByOrder 순서(0부터) -> 순서값. 맨 앞, 맨 뒤, 대상 순서와 그 앞 순서를 포함해야 합니다.
+     * @param targetOrder 대상 순서
+     * @return 도착지 정보
+     */
+    public static ScheduleMoveNeighbors of(int scheduleCount, Integer currentOrder, Map<Integer, ScheduleIndex> indexByOrder, int targetOrder) {
+        return ScheduleMoveNeighbors.builder()
+                .scheduleCount(scheduleCount)
+                .currentOrder(currentOrder)
+                .headIndex(indexByOrder.get(0))
+                .tailIndex(indexByOrder.get(scheduleCount - 1))
+                .previousIndex(indexByOrder.get(targetOrder - 1))
+                .targetIndex(indexByOrder.get(targetOrder))
+                .build();
+    }
+
+    /**
+     * 순서값 순으로 정렬된 도착지의 일정 목록으로부터 도착지 정보를 생성합니다.
+     * @param schedules 도착지의 일정 목록 (순서값 오름차순)
+     * @param schedule 옮길 일정
+     * @param targetOrder 대상 순서
+     * @return 도착지 정보
+     */
+    public static ScheduleMoveNeighbors from(List<Schedule> schedules, Schedule schedule, int targetOrder) {
+        int currentOrder = schedules.indexOf(schedule);
+        return ScheduleMoveNeighbors.builder()
+                .scheduleCount(schedules.size())
+                .currentOrder(currentOrder < 0 ? null : currentOrder)
+                .headIndex(indexAt(schedules, 0))
+                .tailIndex(indexAt(schedules, schedules.size() - 1))
+                .previousIndex(indexAt(schedules, targetOrder - 1))
+                .targetIndex(indexAt(schedules, targetOrder))
+                .build();
+    }
+
+    private static ScheduleIndex indexAt(List<Schedule> schedules, int order) {
+        return (order < 0 || order >= schedules.size())
+                ? null
+                : schedules.get(order).getScheduleIndex();
+    }
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private ScheduleMoveNeighbors(int scheduleCount, Integer currentOrder, ScheduleIndex headIndex, ScheduleIndex tailIndex,
+                                  ScheduleIndex previousIndex, ScheduleIndex targetIndex) {
+        this.scheduleCount = scheduleCount;
+        this.currentOrder = currentOrder;
+        this.headIndex = headIndex;
+        this.tailIndex = tailIndex;
+        this.previousIndex = previousIndex;
+        this.targetIndex = targetIndex;
+    }
+
+    /**
+     * <p>일정을 대상 순서로 옮겼을 때, 기존과 상대적 순서가 똑같은 지 여부를 확인합니다.</p>
+     * <p>예를 들어 1번 위치에 있던 일정을 1번 위치에 옮기거나, 2번 위치로 옮기는 경우는 결국 기존과 상대적 순서가 같습니다.</p>
+     * @param targetOrder 대상 순서
+     * @return 결과적으로 같은 위치로 이동하면 true, 아니면 false
+     */
+    public boolean isSamePosition(int targetOrder) {
+        return currentOrder != null && (targetOrder == currentOrder || targetOrder == currentOrder + 1);
+    }
+
+    /**
+     * 도착지의 맨 앞 일정보다 한 단계 더 앞선 순서값을 만듭니다.
+     * @return 새로운 맨 앞 ScheduleIndex
+     * @throws ScheduleIndexRangeException 새로 생성되는 ScheduleIndex가 범위를 벗어날 때
+     */
+    public ScheduleIndex generateHeadIndex() throws ScheduleIndexRangeException {
+        return (headIndex == null)
+                ? ScheduleIndex.ZERO_INDEX
+                : headIndex.generateBeforeIndex();
+    }
+
+    /**
+     * 도착지의 맨 뒤 일정보다 한 단계 더 뒤의 순서값을 만듭니다.
+     * @return 새로운 맨 뒤 ScheduleIndex
+     * @throws ScheduleIndexRangeException 새로 생성되는 ScheduleIndex가 범위를 벗어날 때
+     */
+    public ScheduleIndex generateTailIndex() throws ScheduleIndexRangeException {
+        return (tailIndex == null)
+                ? ScheduleIndex.ZERO_INDEX
+                : tailIndex.generateNextIndex();
+    }
+}
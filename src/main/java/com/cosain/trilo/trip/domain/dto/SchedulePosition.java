@@ -0,0 +1,47 @@
+package com.cosain.trilo.trip.domain.dto;
+
+import com.cosain.trilo.trip.domain.vo.ScheduleIndex;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 일정 일괄 이동 시, 일정 하나가 놓일 위치(Day, 순서값)를 담은 객체입니다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class SchedulePosition {
+
+    /**
+     * 일정의 id(식별자)
+     */
+    private final Long scheduleId;
+
+    /**
+     * 일정이 놓일 Day id (null 이면 임시보관함)
+     */
+    private final Long dayId;
+
+    /**
+     * 일정의 새 순서값
+     */
+    private final ScheduleIndex scheduleIndex;
+
+    /**
+     * 일정이 놓일 위치를 생성합니다.
+     * @param scheduleId 일정의 id
+     * @param dayId 일정이 놓일 Day id (null 이면 임시보관함)
+     * @param order 일정이 놓일 Day 또는 임시보관함에서의 순서 (0부터)
+     * @return 일정이 놓일 위치
+     */
+    public static SchedulePosition of(Long scheduleId, Long dayId, int order) {
+        return new SchedulePosition(scheduleId, dayId, ScheduleIndex.ofOrder(order));
+    }
+
+    private SchedulePosition(Long scheduleId, Long dayId, ScheduleIndex scheduleIndex) {
+        this.scheduleId = scheduleId;
+        this.dayId = dayId;
+        this.scheduleIndex = scheduleIndex;
+    }
+}
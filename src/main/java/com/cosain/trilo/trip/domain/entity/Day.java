@@ -4,9 +4,11 @@ import com.cosain.trilo.common.exception.schedule.InvalidScheduleMoveTargetOrder
 import com.cosain.trilo.common.exception.schedule.MidScheduleIndexConflictException;
 import com.cosain.trilo.common.exception.schedule.ScheduleIndexRangeException;
 import com.cosain.trilo.trip.domain.dto.ScheduleMoveDto;
+import com.cosain.trilo.trip.domain.dto.ScheduleMoveNeighbors;
 import com.cosain.trilo.trip.domain.vo.*;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -57,6 +59,13 @@ public class Day {
     @Column(name = "day_color")
     private DayColor dayColor;
 
+    /**
+     * <p>Day에 속한 일정의 수</p>
+     * <p>일정 생성/삭제/이동 시 조건부 UPDATE 로만 증감하여 최대 일정 갯수 제한을 검사하므로, 조회 전용으로 매핑합니다.</p>
+     */
+    @Column(name = "day_schedule_count", insertable = false, updatable = false)
+    private int scheduleCount;
+
     /**
      * <p>Day에 소속된 일정({@link Schedule})들의 컬렉션입니다.
      * <p>일정들은 {@link ScheduleIndex} 기준 오름차순으로 정렬되어 있습니다.</p>
@@ -64,7 +73,7 @@ public class Day {
      * @see ScheduleIndex
      */
     @OneToMany(mappedBy = "day")
-    @OrderBy("scheduleIndex.value asc")
+    @OrderBy("scheduleIndex.value asc, scheduleIndex.orderKey asc")
     private final List<Schedule> schedules = new ArrayList<>();
 
     static Day of(LocalDate tripDate, Trip trip, Random random){
@@ -123,52 +132,43 @@ public class Day {
                 : schedules.get(schedules.size() - 1).getScheduleIndex().generateNextIndex();
     }
 
-    /**
-     * Day의 제일 맨 앞 ScheduleIndex보다 한 단계 더 앞의 ScheduleIndex를 만듭니다.
-     * @return 새로운 맨 뒤 ScheduleIndex
-     * @throws ScheduleIndexRangeException 새로 생성되는 ScheduleIndex가 범위를 벗어날 때
-     */
-    private ScheduleIndex generateSchedulesHeadIndex() {
-        return (schedules.isEmpty())
-                ? ScheduleIndex.ZERO_INDEX
-                : schedules.get(0).getScheduleIndex().generateBeforeIndex();
-    }
-
     /**
      * 일정을 Day의 지정 순서로 옮깁니다.
      * @param schedule 옮길 일정
      * @param targetOrder Day에서 몇 번째 순서로 옮길 지
+     * @param neighbors 옮길 위치 계산에 필요한 Day의 일정 정보(일정 갯수, 맨 앞/맨 뒤, 대상 순서 주변의 순서값)
+     * @param scheduleIndexMode 중간 삽입 시 순서값 생성 방식
      * @throws InvalidScheduleMoveTargetOrderException 대상 순서가 0보다 작거나, 허용하는 순서보다 큰 경우
      * @throws ScheduleIndexRangeException 새로 생성되는 ScheduleIndex가 범위를 벗어날 때(정상흐름 변경 가능)
      * @throws MidScheduleIndexConflictException 중간 삽입 과정에서 충돌이 발생했을 때(정상흐름 변경 가능)
      */
-    ScheduleMoveDto moveSchedule(Schedule schedule, int targetOrder)
+    ScheduleMoveDto moveSchedule(Schedule schedule, int targetOrder, ScheduleMoveNeighbors neighbors, ScheduleIndexMode scheduleIndexMode)
             throws InvalidScheduleMoveTargetOrderException, ScheduleIndexRangeException, MidScheduleIndexConflictException {
         // 일단 앞에서 Schedule이 Trip과 관련된 Schedule이라는 것은 검증 됨
 
-        if (targetOrder < 0 || targetOrder > this.schedules.size()) {
+        if (targetOrder < 0 || targetOrder > neighbors.getScheduleCount()) {
             // Day 내에서, 0번째 순서 아래 이전으로 이동시키려 하거나, 제일 큰 순서보다 큰 순서로 이동하면 예외 발생
             throw new InvalidScheduleMoveTargetOrderException("일정을 지정 위치로 옮기려 시도했으나, 유효한 순서 범위를 벗어남");
         }
 
         Day beforeDay = schedule.getDay(); // 옮기기 이전 소속한 Day
 
-        if (isSamePositionMove(schedule, targetOrder)) {
+        if (isSamePositionMove(schedule, targetOrder, neighbors)) {
             // 같은 위치에서 이동
             return ScheduleMoveDto.ofNotPositionChanged(schedule.getId(), beforeDay);
         }
-        if (targetOrder == this.schedules.size()) {
+        if (targetOrder == neighbors.getScheduleCount()) {
             // 끝으로 이동
-            moveScheduleToTail(schedule);
+            schedule.changePosition(this, neighbors.generateTailIndex());
             return ScheduleMoveDto.ofPositionChanged(schedule.getId(), beforeDay, this);
         }
         if (targetOrder == 0) {
             // 맨 앞 이동
-            moveScheduleToHead(schedule);
+            schedule.changePosition(this, neighbors.generateHeadIndex());
             return ScheduleMoveDto.ofPositionChanged(schedule.getId(), beforeDay, this);
         }
         // 중간 삽입
-        moveScheduleToMiddle(schedule, targetOrder);
+        moveScheduleToMiddle(schedule, neighbors, scheduleIndexMode);
         return ScheduleMoveDto.ofPositionChanged(schedule.getId(), beforeDay, this);
     }
 
@@ -177,51 +177,36 @@ public class Day {
      * 1번 위치에 옮기거나, 2번 위치로 옮기는 경우는 결국 기존과 상대적 순서가 같습니다.
      * @param schedule 옮길 일정
      * @param targetOrder 대상 순서
+     * @param neighbors Day의 일정 정보
      * @return 기존과 같은 위치이면 true, 다른 위치면 false
      */
-    private boolean isSamePositionMove(Schedule schedule, int targetOrder) {
+    private boolean isSamePositionMove(Schedule schedule, int targetOrder, ScheduleMoveNeighbors neighbors) {
         return (schedule.getDay() != null)
                 && Objects.equals(this.id, schedule.getDay().getId())
-                && (targetOrder == schedules.indexOf(schedule) || targetOrder == schedules.indexOf(schedule) + 1);
-    }
-
-    /**
-     * 일정을 Schedules의 맨 앞으로 옮깁니다.
-     * @param schedule 옮길 일정
-     * @throws ScheduleIndexRangeException 새로 생성되는 ScheduleIndex가 범위를 벗어날 때(정상흐름 변경 가능)
-     */
-    private void moveScheduleToHead(Schedule schedule) throws ScheduleIndexRangeException {
-        ScheduleIndex newScheduleIndex = generateSchedulesHeadIndex();
-
-        schedule.changePosition(this, newScheduleIndex);
-    }
-
-    /**
-     * 일정을 Schedules의 맨 뒤로 옮깁니다.
-     * @param schedule 옮길 일정
-     * @throws ScheduleIndexRangeException 새로 생성되는 ScheduleIndex가 범위를 벗어날 때(정상흐름 변경 가능)
-     */
-    private void moveScheduleToTail(Schedule schedule) throws ScheduleIndexRangeException {
-        ScheduleIndex newScheduleIndex = generateSchedulesTailIndex();
-        schedule.changePosition(this, newScheduleIndex);
+                && neighbors.isSamePosition(targetOrder);
     }
 
     /**
      * 지정 Schedule을 지정한 순서에 놓음
      * @param schedule 옮길 일정
-     * @param targetOrder 대상 순서
+     * @param neighbors 대상 순서와 그 앞 일정의 순서값을 가진 Day의 일정 정보
+     * @param scheduleIndexMode 중간 삽입 시 순서값 생성 방식
      * @throws MidScheduleIndexConflictException 중간 삽입 과정에서 충돌이 발생했을 때(정상흐름 변경 가능)
+     * @throws ScheduleIndexRangeException 순서 키가 최대 길이를 넘을 때(정상흐름 변경 가능)
      */
-    private void moveScheduleToMiddle(Schedule schedule, int targetOrder) throws MidScheduleIndexConflictException {
-        // 도착지의 대상 순서에 위치하는 일정과 그 앞에 위치한 일정의 순서값을 얻어옴
-        ScheduleIndex targetOrderScheduleIndex = schedules.get(targetOrder).getScheduleIndex();
-        ScheduleIndex previousOrderScheduleIndex = schedules.get(targetOrder - 1).getScheduleIndex();
+    private void moveScheduleToMiddle(Schedule schedule, ScheduleMoveNeighbors neighbors, ScheduleIndexMode scheduleIndexMode)
+            throws MidScheduleIndexConflictException, ScheduleIndexRangeException {
+        // 도착지의 대상 순서에 위치하는 일정과 그 앞에 위치한 일정의 순서값
+        ScheduleIndex targetOrderScheduleIndex = neighbors.getTargetIndex();
+        ScheduleIndex previousOrderScheduleIndex = neighbors.getPreviousIndex();
 
         // 중간 삽입 될 위치의 ScheduleIndex를 계산하여 생성
-        ScheduleIndex newScheduleIndex = targetOrderScheduleIndex.mid(previousOrderScheduleIndex);
+        ScheduleIndex newScheduleIndex = (scheduleIndexMode == ScheduleIndexMode.FRACTIONAL)
+                ? previousOrderScheduleIndex.between(targetOrderScheduleIndex)
+                : targetOrderScheduleIndex.mid(previousOrderScheduleIndex);
 
-        // 중간 삽입 시 기존 순서값들과 충돌이 발생하면 예외 발생 -> 외부 계층에서 잡아서 처리해야함
-        if (newScheduleIndex.equals(targetOrderScheduleIndex) || newScheduleIndex.equals(previousOrderScheduleIndex)) {
+        // 중간 삽입 시 기존 순서값들 사이에 오지 못하면(충돌) 예외 발생 -> 외부 계층에서 잡아서 처리해야함
+        if (!newScheduleIndex.isBetween(previousOrderScheduleIndex, targetOrderScheduleIndex)) {
             throw new MidScheduleIndexConflictException("중간 삽입 인덱스 충돌 발생 -> 인덱스 재정렬 필요");
         }
 
@@ -231,10 +216,13 @@ public class Day {
 
     /**
      * 자기 자신이 가진 Schedules에서, 지정 Schedule을 분리함
+     * (Schedules를 아직 불러오지 않았다면 나중에 DB에서 불러올 때 반영되므로, 분리하려고 불러오지 않음)
      * @param schedule : 끊어낼 Schedule
      */
     void detachSchedule(Schedule schedule) {
-        this.schedules.remove(schedule);
+        if (Hibernate.isInitialized(this.schedules)) {
+            this.schedules.remove(schedule);
+        }
     }
 
     /**
@@ -247,10 +235,12 @@ public class Day {
     }
 
     /**
-     * 일정을 컬렉션에 추가합니다.
+     * 일정을 컬렉션에 추가합니다. (컬렉션을 아직 불러오지 않았다면 나중에 DB에서 불러올 때 반영되므로 추가하지 않음)
      * @param schedule 일정
      */
     void attachSchedule(Schedule schedule) {
-        this.schedules.add(schedule);
+        if (Hibernate.isInitialized(this.schedules)) {
+            this.schedules.add(schedule);
+        }
     }
 }
@@ -7,10 +7,12 @@ import com.cosain.trilo.common.exception.schedule.ScheduleIndexRangeException;
 import com.cosain.trilo.common.exception.trip.EmptyPeriodUpdateException;
 import com.cosain.trilo.trip.domain.dto.ChangeTripPeriodResult;
 import com.cosain.trilo.trip.domain.dto.ScheduleMoveDto;
+import com.cosain.trilo.trip.domain.dto.ScheduleMoveNeighbors;
 import com.cosain.trilo.trip.domain.vo.*;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.hibernate.annotations.Where;
 
 import java.util.ArrayList;
@@ -89,6 +91,29 @@ public class Trip {
     @Embedded
     private TripImage tripImage;
 
+    /**
+     * <p>여행의 좋아요 수</p>
+     * <p>좋아요/좋아요 취소는 메모리에 모아뒀다가 주기적으로 한 번에 반영(write-behind)하므로 조회 전용으로 매핑합니다.
+     * 엔티티 변경 감지로 갱신되면 그 사이에 반영된 좋아요 수를 덮어쓰게 되므로 insert/update 대상에서 제외합니다.</p>
+     */
+    @Column(name = "trip_like_count", insertable = false, updatable = false)
+    private long likeCount;
+
+    /**
+     * <p>여행의 버전</p>
+     * <p>여행, Day, 일정 중 무엇이든 바뀌면 1 증가하며, 여행 조회 API 의 ETag 로 사용됩니다.
+     * 여행 엔티티가 바뀌지 않는 변경(일정 이동, Day 색상 변경 등)에서도 증가해야 하므로, 변경 감지가 아닌 별도 UPDATE 로만 갱신합니다.</p>
+     */
+    @Column(name = "trip_version", insertable = false, updatable = false)
+    private long version;
+
+    /**
+     * <p>여행에 속한 일정의 수</p>
+     * <p>일정 생성/삭제 시 조건부 UPDATE 로만 증감하여 최대 일정 갯수 제한을 검사하므로, 조회 전용으로 매핑합니다.</p>
+     */
+    @Column(name = "trip_schedule_count", insertable = false, updatable = false)
+    private int scheduleCount;
+
     /**
      * <p>여행의 임시보관함에 소속된 일정({@link Schedule})들의 컬렉션입니다. 어떤 {@link Day}에도 속해있지 않은 일정들이 여기에 보관됩니다.</p>
      * <p>일정들은 {@link ScheduleIndex} 기준 오름차순으로 정렬되어 있습니다.</p>
@@ -98,7 +123,7 @@ public class Trip {
      */
     @OneToMany(mappedBy = "trip")
     @Where(clause = "day_id is NULL")
-    @OrderBy("scheduleIndex.value asc")
+    @OrderBy("scheduleIndex.value asc, scheduleIndex.orderKey asc")
     private final List<Schedule> temporaryStorage = new ArrayList<>();
 
     /**
@@ -266,106 +291,118 @@ public class Trip {
      */
     public ScheduleMoveDto moveSchedule(Schedule schedule, Day targetDay, int targetOrder)
             throws InvalidTripDayException, InvalidScheduleMoveTargetOrderException, ScheduleIndexRangeException, MidScheduleIndexConflictException  {
+        return moveSchedule(schedule, targetDay, targetOrder, ScheduleIndexMode.LONG);
+    }
+
+    /**
+     * <p>일정을 지정한 Day(null 일 경우 임시보관함)의 지정한 순서로 이동합니다.</p>
+     * <p>중간 삽입 시 지정한 방식으로 순서값을 만듭니다. {@link ScheduleIndexMode#FRACTIONAL} 이면 중간 삽입 충돌이 발생하지 않습니다.</p>
+     *
+     * @param schedule    옮길 일정
+     * @param targetDay   도착지 Day (null 일 경우 임시보관함)
+     * @param targetOrder 해당 Day 또는 임시보관함에서 몇 번째로 옮길 지
+     * @param scheduleIndexMode 중간 삽입 시 순서값 생성 방식
+     * @throws InvalidTripDayException Day가 이 Trip의 여행이 아닐 때
+     * @throws InvalidScheduleMoveTargetOrderException 요청한 대상 순서가 0보다 작거나, 허용하는 순서보다 큰 경우
+     * @throws ScheduleIndexRangeException 새로 생성되는 ScheduleIndex가 범위를 벗어날 때(정상흐름 변경 가능)
+     * @throws MidScheduleIndexConflictException 중간 삽입 과정에서 충돌이 발생했을 때(정상흐름 변경 가능)
+     */
+    public ScheduleMoveDto moveSchedule(Schedule schedule, Day targetDay, int targetOrder, ScheduleIndexMode scheduleIndexMode)
+            throws InvalidTripDayException, InvalidScheduleMoveTargetOrderException, ScheduleIndexRangeException, MidScheduleIndexConflictException  {
+
+        // 도착지의 일정 목록으로부터 이동 위치 계산에 필요한 정보를 구함
+        List<Schedule> targetSchedules = (targetDay == null) ? this.temporaryStorage : targetDay.getSchedules();
+        ScheduleMoveNeighbors neighbors = ScheduleMoveNeighbors.from(targetSchedules, schedule, targetOrder);
+
+        return moveSchedule(schedule, targetDay, targetOrder, neighbors, scheduleIndexMode);
+    }
+
+    /**
+     * <p>일정을 지정한 Day(null 일 경우 임시보관함)의 지정한 순서로 이동합니다.</p>
+     * <p>도착지의 일정 목록 대신, 미리 조회해 온 도착지 정보(일정 갯수, 맨 앞/맨 뒤, 대상 순서 주변의 순서값)만으로 이동 위치를 계산합니다.
+     * 따라서 도착지의 일정 컬렉션을 불러오지 않습니다.</p>
+     *
+     * @param schedule    옮길 일정
+     * @param targetDay   도착지 Day (null 일 경우 임시보관함)
+     * @param targetOrder 해당 Day 또는 임시보관함에서 몇 번째로 옮길 지
+     * @param neighbors   도착지 정보
+     * @param scheduleIndexMode 중간 삽입 시 순서값 생성 방식
+     * @throws InvalidTripDayException Day가 이 Trip의 여행이 아닐 때
+     * @throws InvalidScheduleMoveTargetOrderException 요청한 대상 순서가 0보다 작거나, 허용하는 순서보다 큰 경우
+     * @throws ScheduleIndexRangeException 새로 생성되는 ScheduleIndex가 범위를 벗어날 때(정상흐름 변경 가능)
+     * @throws MidScheduleIndexConflictException 중간 삽입 과정에서 충돌이 발생했을 때(정상흐름 변경 가능)
+     */
+    public ScheduleMoveDto moveSchedule(Schedule schedule, Day targetDay, int targetOrder, ScheduleMoveNeighbors neighbors, ScheduleIndexMode scheduleIndexMode)
+            throws InvalidTripDayException, InvalidScheduleMoveTargetOrderException, ScheduleIndexRangeException, MidScheduleIndexConflictException  {
 
         // Day가 이 여행의 Day인지 검증 -> 여행의 Day가 아니면 예외 발생
         validateTripDayRelationShip(targetDay);
 
         return (targetDay == null)
-                ? moveScheduleToTemporaryStorage(schedule, targetOrder) // day가 null이면 임시보관함으로 일정 이동
-                : targetDay.moveSchedule(schedule, targetOrder); // day가 null 이 아니면 해당 day로 일정 이동 (Day에게 위임)
+                ? moveScheduleToTemporaryStorage(schedule, targetOrder, neighbors, scheduleIndexMode) // day가 null이면 임시보관함으로 일정 이동
+                : targetDay.moveSchedule(schedule, targetOrder, neighbors, scheduleIndexMode); // day가 null 이 아니면 해당 day로 일정 이동 (Day에게 위임)
     }
 
     /**
      * 일정을 임시보관함의 지정 순서로 이동시킵니다.
      * @param schedule    이동시킬 일정
      * @param targetOrder 임시보관함에서 몇 번째로 옮길 지
+     * @param neighbors   임시보관함의 일정 정보
+     * @param scheduleIndexMode 중간 삽입 시 순서값 생성 방식
      * @throws InvalidScheduleMoveTargetOrderException 대상 순서가 0보다 작거나, 허용하는 순서보다 큰 경우
      * @throws ScheduleIndexRangeException 새로 생성되는 ScheduleIndex가 범위를 벗어날 때(정상흐름 변경 가능)
      * @throws MidScheduleIndexConflictException 중간 삽입 과정에서 충돌이 발생했을 때(정상흐름 변경 가능)
      */
-    private ScheduleMoveDto moveScheduleToTemporaryStorage(Schedule schedule, int targetOrder)
+    private ScheduleMoveDto moveScheduleToTemporaryStorage(Schedule schedule, int targetOrder, ScheduleMoveNeighbors neighbors, ScheduleIndexMode scheduleIndexMode)
             throws InvalidScheduleMoveTargetOrderException, ScheduleIndexRangeException, MidScheduleIndexConflictException {
 
-        if (targetOrder < 0 || targetOrder > this.temporaryStorage.size()) {
+        if (targetOrder < 0 || targetOrder > neighbors.getScheduleCount()) {
             // 임시보관함 내에서, 0번째 순서 아래 이전으로 이동시키려 하거나, 제일 큰 순서보다 큰 순서로 이동하면 예외 발생
             throw new InvalidScheduleMoveTargetOrderException("일정을 지정 위치로 옮기려 시도했으나, 유효한 순서 범위를 벗어남");
         }
 
         Day beforeDay = schedule.getDay(); // 옮기기 이전 소속한 Day
 
-        if (isSamePositionMove(schedule, targetOrder)) {
+        if (schedule.getDay() == null && neighbors.isSamePosition(targetOrder)) {
             // 같은 위치에서 이동
             return ScheduleMoveDto.ofNotPositionChanged(schedule.getId(), beforeDay);
         }
-        if (targetOrder == this.temporaryStorage.size()) {
+        if (targetOrder == neighbors.getScheduleCount()) {
             // 끝으로 이동
-            moveScheduleToTemporaryStorageTail(schedule);
+            schedule.changePosition(null, neighbors.generateTailIndex());
             return ScheduleMoveDto.ofPositionChanged(schedule.getId(), beforeDay, null);
         }
         if (targetOrder == 0) {
             // 맨 앞 이동
-            moveScheduleToTemporaryStorageHead(schedule);
+            schedule.changePosition(null, neighbors.generateHeadIndex());
             return ScheduleMoveDto.ofPositionChanged(schedule.getId(), beforeDay, null);
         }
         // 중간 삽입
-        moveScheduleToTemporaryStorageMiddle(schedule, targetOrder);
+        moveScheduleToTemporaryStorageMiddle(schedule, neighbors, scheduleIndexMode);
         return ScheduleMoveDto.ofPositionChanged(schedule.getId(), beforeDay, null);
     }
 
-    /**
-     * <p>스케쥴을 옮길 때 대상이 되는 순서로 옮길 경우, 기존과 상대적 순서가 똑같은 지 여부를 확인합니다.</p>
-     * <p>예를 들어 임시보관함 1번 위치에 있던 일정을, 1번 위치에 옮기거나, 2번 위치로 옮기는 경우는 결국 기존과 상대적 순서가 같습니다.</p>
-     *
-     * @param schedule    옮기고자 하는 일정
-     * @param targetOrder 임시보관함에서 몇 번째로 옮길 지
-     * @return 결과적으로 같은 위치로 이동하면 true, 아니면 false
-     */
-    private boolean isSamePositionMove(Schedule schedule, int targetOrder) {
-        return schedule.getDay() == null && (targetOrder == temporaryStorage.indexOf(schedule) || targetOrder == temporaryStorage.indexOf(schedule) + 1);
-    }
-
-    /**
-     * 지정 일정을 임시보관함의 제일 앞에 둡니다.
-     * @param schedule 옮길 일정
-     * @throws ScheduleIndexRangeException 새로 생성되는 ScheduleIndex가 범위를 벗어날 때
-     */
-    private void moveScheduleToTemporaryStorageHead(Schedule schedule) throws ScheduleIndexRangeException {
-        // 맨 앞에 둘 때 부여할 ScheduleIndex을 생성합니다.
-        ScheduleIndex newScheduleIndex = generateTemporaryStorageHeadIndex();
-
-        // 일정을 임시보관함으로 이동합니다.
-        schedule.changePosition(null, newScheduleIndex);
-    }
-
-    /**
-     * 지정 Schedule을 임시보관함의 제일 뒤에 둡니다.
-     * @param schedule 옮길 일정
-     * @throws ScheduleIndexRangeException 새로 생성되는 ScheduleIndex가 범위를 벗어날 때
-     */
-    private void moveScheduleToTemporaryStorageTail(Schedule schedule) throws ScheduleIndexRangeException {
-        // 맨 뒤에 둘 때 부여할 ScheduleIndex을 생성합니다.
-        ScheduleIndex newScheduleIndex = generateTemporaryStorageTailIndex();
-
-        // 일정을 이동합니다.
-        schedule.changePosition(null, newScheduleIndex);
-    }
-
     /**
      * 지정 Schedule을 임시보관함의 지정 순서에 중간삽입합니다. 그 순서에 있던 일정은 뒤로 밀려납니다.
      * @param schedule 옮길 일정
-     * @param targetOrder 대상 순서
+     * @param neighbors 대상 순서와 그 앞 일정의 순서값을 가진 임시보관함의 일정 정보
+     * @param scheduleIndexMode 중간 삽입 시 순서값 생성 방식
      * @throws MidScheduleIndexConflictException 중간삽입 과정에서 ScheduleIndex 값 충돌이 발생했을 때
+     * @throws ScheduleIndexRangeException 순서 키가 최대 길이를 넘을 때
      */
-    private void moveScheduleToTemporaryStorageMiddle(Schedule schedule, int targetOrder) throws MidScheduleIndexConflictException {
-        // 도착지의 대상 순서에 위치하는 일정과 그 앞에 위치한 일정의 순서값을 얻어옴
-        ScheduleIndex targetOrderScheduleIndex = temporaryStorage.get(targetOrder).getScheduleIndex();
-        ScheduleIndex previousOrderScheduleIndex = temporaryStorage.get(targetOrder - 1).getScheduleIndex();
+    private void moveScheduleToTemporaryStorageMiddle(Schedule schedule, ScheduleMoveNeighbors neighbors, ScheduleIndexMode scheduleIndexMode)
+            throws MidScheduleIndexConflictException, ScheduleIndexRangeException {
+        // 도착지의 대상 순서에 위치하는 일정과 그 앞에 위치한 일정의 순서값
+        ScheduleIndex targetOrderScheduleIndex = neighbors.getTargetIndex();
+        ScheduleIndex previousOrderScheduleIndex = neighbors.getPreviousIndex();
 
         // 중간 삽입 될 위치의 ScheduleIndex를 계산하여 생성
-        ScheduleIndex newScheduleIndex = targetOrderScheduleIndex.mid(previousOrderScheduleIndex);
+        ScheduleIndex newScheduleIndex = (scheduleIndexMode == ScheduleIndexMode.FRACTIONAL)
+                ? previousOrderScheduleIndex.between(targetOrderScheduleIndex)
+                : targetOrderScheduleIndex.mid(previousOrderScheduleIndex);
 
-        // 중간 삽입 시 기존 순서값들과 충돌이 발생하면 예외 발생 -> 외부 계층에서 잡아서 처리해야함
-        if (newScheduleIndex.equals(targetOrderScheduleIndex) || newScheduleIndex.equals(previousOrderScheduleIndex)) {
+        // 중간 삽입 시 기존 순서값들 사이에 오지 못하면(충돌) 예외 발생 -> 외부 계층에서 잡아서 처리해야함
+        if (!newScheduleIndex.isBetween(previousOrderScheduleIndex, targetOrderScheduleIndex)) {
             throw new MidScheduleIndexConflictException("중간 삽입 인덱스 충돌 발생 -> 인덱스 재정렬 필요");
         }
 
@@ -384,30 +421,24 @@ public class Trip {
                 : temporaryStorage.get(0).getScheduleIndex().generateBeforeIndex();
     }
 
-    /**
-     * 임시보관함의 제일 맨 뒤 인덱스보다 한 단계 더 뒤의 인덱스를 만듭니다.
-     * @return 새로운 맨 뒤 ScheduleIndex
-     * @throws ScheduleIndexRangeException 새로 생성되는 ScheduleIndex가 범위를 벗어날 때
-     */
-    private ScheduleIndex generateTemporaryStorageTailIndex() throws ScheduleIndexRangeException {
-        return (temporaryStorage.isEmpty())
-                ? ScheduleIndex.ZERO_INDEX
-                : temporaryStorage.get(temporaryStorage.size() - 1).getScheduleIndex().generateNextIndex();
-    }
-
     /**
      * 지정 일정을 임시보관함 컬렉션에서 분리합니다.
+     * (컬렉션을 아직 불러오지 않았다면 나중에 DB에서 불러올 때 반영되므로, 분리하려고 불러오지 않음)
      * @param schedule 분리할 일정
      */
     void detachScheduleFromTemporaryStorage(Schedule schedule) {
-        this.temporaryStorage.remove(schedule);
+        if (Hibernate.isInitialized(this.temporaryStorage)) {
+            this.temporaryStorage.remove(schedule);
+        }
     }
 
     /**
-     * 지정 일정을 임시보관함 컬렉션에 추가합니다.
+     * 지정 일정을 임시보관함 컬렉션에 추가합니다. (컬렉션을 아직 불러오지 않았다면 추가하지 않음)
      * @param schedule 추가할 일정
      */
     void attachScheduleToTemporaryStorage(Schedule schedule) {
-        this.temporaryStorage.add(schedule);
+        if (Hibernate.isInitialized(this.temporaryStorage)) {
+            this.temporaryStorage.add(schedule);
+        }
     }
 }
@@ -2,6 +2,7 @@ package com.cosain.trilo.trip.domain.repository;
 
 import com.cosain.trilo.trip.domain.entity.Day;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,4 +39,23 @@ public interface DayRepository {
     void deleteAllByTripId(Long tripId);
 
     void deleteAllByTripIds(List<Long> tripIds);
+
+    /**
+     * Day의 일정 수가 최대 일정 수({@link Day#MAX_DAY_SCHEDULE_COUNT})보다 작을 때만 일정 수를 1 증가시킵니다.
+     * @param dayId Day의 식별자(id)
+     * @return 일정 수를 올렸는지 여부 (Day의 일정이 이미 가득 찼거나, Day가 없으면 false)
+     */
+    boolean increaseScheduleCount(Long dayId);
+
+    /**
+     * Day의 일정 수를 1 감소시킵니다.
+     * @param dayId Day의 식별자(id)
+     */
+    void decreaseScheduleCount(Long dayId);
+
+    /**
+     * 전달받은 Day들의 일정 수를, 실제로 속한 일정의 수로 다시 계산합니다.
+     * @param dayIds 일정 수를 다시 계산할 Day의 id들
+     */
+    void refreshScheduleCounts(Collection<Long> dayIds);
 }
@@ -1,8 +1,11 @@
 package com.cosain.trilo.trip.domain.repository;
 
+import com.cosain.trilo.trip.domain.dto.ScheduleMoveNeighbors;
+import com.cosain.trilo.trip.domain.dto.SchedulePosition;
 import com.cosain.trilo.trip.domain.entity.Schedule;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -30,6 +33,24 @@ public interface ScheduleRepository {
      */
     int relocateDaySchedules(Long tripId, Long dayId);
 
+    /**
+     * Day또는 임시보관함에서 이웃한 일정들 사이의 순서값 간격 중 가장 작은 값을 조회합니다.
+     * @param tripId 소속된 Trip의 Id
+     * @param dayId 소속된 Day의 Id(null일 경우 임시보관함으로 간주)
+     * @return 가장 작은 순서값 간격 (일정이 2개 미만이면 null)
+     */
+    Long findMinScheduleIndexGap(Long tripId, Long dayId);
+
+    /**
+     * 일정을 Day또는 임시보관함의 지정 순서로 옮길 때 필요한 도착지 정보(일정 갯수, 맨 앞/맨 뒤, 대상 순서 주변의 순서값)만 조회합니다.
+     * @param tripId 소속된 Trip의 Id
+     * @param dayId 도착지 Day의 Id(null일 경우 임시보관함으로 간주)
+     * @param scheduleId 옮길 일정의 Id
+     * @param targetOrder 대상 순서
+     * @return 도착지 정보
+     */
+    ScheduleMoveNeighbors findScheduleMoveNeighbors(Long tripId, Long dayId, Long scheduleId, int targetOrder);
+
     /**
      * 전달받은 Day들에 속한 일정들을 여행의 임시보관함 맨 뒤로 옮깁니다.
      * @param tripId 여행의 id
@@ -47,6 +68,21 @@ public interface ScheduleRepository {
      */
     int findDayScheduleCount(Long dayId);
 
+    /**
+     * 여행에 속한 일정마다, 일정이 현재 속한 Day의 id를 조회합니다.
+     * @param tripId 여행의 id
+     * @return 일정 id -> Day id (임시보관함에 있는 일정이면 null)
+     */
+    Map<Long, Long> findScheduleDayIds(Long tripId);
+
+    /**
+     * 일정들의 Day와 순서값을 한 번의 일괄(batch) 갱신으로 변경합니다. 여행에 속하지 않은 일정은 변경되지 않습니다.
+     * @param tripId 여행의 id
+     * @param positions 일정마다 놓일 위치
+     * @return 변경된 일정의 갯수
+     */
+    int updateSchedulePositions(Long tripId, List<SchedulePosition> positions);
+
     void delete(Schedule schedule);
 
     /**
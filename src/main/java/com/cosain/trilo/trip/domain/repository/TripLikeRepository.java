@@ -0,0 +1,37 @@
+package com.cosain.trilo.trip.domain.repository;
+
+import java.util.List;
+
+/**
+ * 여행 좋아요(어떤 사용자가 어떤 여행을 좋아요 했는지)를 등록/삭제하는 리포지토리입니다.
+ */
+public interface TripLikeRepository {
+
+    /**
+     * 사용자의 여행 좋아요를 등록합니다.
+     * @param tripId 여행 id(식별자)
+     * @param userId 사용자 id(식별자)
+     * @return 새로 등록됐으면 true, 이미 좋아요 한 여행이면 false
+     */
+    boolean save(Long tripId, Long userId);
+
+    /**
+     * 사용자의 여행 좋아요를 삭제합니다.
+     * @param tripId 여행 id(식별자)
+     * @param userId 사용자 id(식별자)
+     * @return 삭제됐으면 true, 좋아요 하지 않은 여행이면 false
+     */
+    boolean delete(Long tripId, Long userId);
+
+    /**
+     * 여행에 달린 좋아요들을 모두 삭제합니다.
+     * @param tripId 여행 id(식별자)
+     */
+    void deleteAllByTripId(Long tripId);
+
+    /**
+     * 여러 여행에 달린 좋아요들을 모두 삭제합니다.
+     * @param tripIds 여행 id(식별자)들
+     */
+    void deleteAllByTripIds(List<Long> tripIds);
+}
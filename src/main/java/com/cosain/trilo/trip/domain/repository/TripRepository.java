@@ -42,4 +42,31 @@ public interface TripRepository {
     void delete(Trip trip);
 
     void deleteAllByTripperId(Long tripperId);
+
+    /**
+     * 여행의 버전을 1 증가시킵니다. 여행, Day, 일정 중 무엇이든 바뀌었을 때 호출합니다.
+     * @param tripId 버전을 올릴 여행의 식별자(id)
+     */
+    void increaseVersion(Long tripId);
+
+    /**
+     * 여행의 버전이 기대한 값일 때만 버전을 1 증가시킵니다.
+     * @param tripId 버전을 올릴 여행의 식별자(id)
+     * @param expectedVersion 요청 처리 중 읽어둔 여행의 버전
+     * @return 버전을 올렸는지 여부 (그 사이 다른 요청이 여행을 수정했거나, 여행이 없으면 false)
+     */
+    boolean increaseVersion(Long tripId, long expectedVersion);
+
+    /**
+     * 여행의 일정 수가 최대 일정 수({@link Trip#MAX_TRIP_SCHEDULE_COUNT})보다 작을 때만 일정 수를 1 증가시킵니다.
+     * @param tripId 여행의 식별자(id)
+     * @return 일정 수를 올렸는지 여부 (여행의 일정이 이미 가득 찼거나, 여행이 없으면 false)
+     */
+    boolean increaseScheduleCount(Long tripId);
+
+    /**
+     * 여행의 일정 수를 1 감소시킵니다.
+     * @param tripId 여행의 식별자(id)
+     */
+    void decreaseScheduleCount(Long tripId);
 }
@@ -1,5 +1,6 @@
 package com.cosain.trilo.trip.domain.vo;
 
+import com.cosain.trilo.common.exception.schedule.MidScheduleIndexConflictException;
 import com.cosain.trilo.common.exception.schedule.ScheduleIndexRangeException;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
@@ -11,13 +12,15 @@ import java.math.BigInteger;
  * <p>일정의 드래그 앤 드롭을 원활하게 구현하기 위한 값입니다.</p>
  * <p>작을수록 임시보관함 또는 Day 내에서 앞에 위치하게 됩니다.</p>
  * <p>클수록 임시보관함 또는 Day 내에서 뒤에 위치하게 됩니다.</p>
+ * <p>정수 값이 같으면 순서 키(orderKey)를 사전 순으로 비교합니다. 순서 키는 {@link ScheduleIndexMode#FRACTIONAL} 에서
+ * 정수 간격이 다했을 때만 쓰이며, 그 외에는 항상 빈 문자열입니다.</p>
  */
 @Getter
-@ToString(of = {"value"})
-@EqualsAndHashCode(of = {"value"})
+@ToString(of = {"value", "orderKey"})
+@EqualsAndHashCode(of = {"value", "orderKey"})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Embeddable
-public class ScheduleIndex {
+public class ScheduleIndex implements Comparable<ScheduleIndex> {
 
     /**
      * 기존 Day 또는 임시보관함 맨 앞, 맨 뒤에 새로 생성할 때마다, 벌려지는 기본 사이 간격
@@ -34,12 +37,29 @@ public class ScheduleIndex {
      */
     public static final long MIN_INDEX_VALUE = -5_000_000_000_000_000_000L;
 
+    /**
+     * 순서 키의 최대 길이 (schedule_order_key 컬럼 길이)
+     */
+    public static final int MAX_ORDER_KEY_LENGTH = 255;
+
+    /**
+     * 순서 키에 쓰이는 36진수 숫자. 문자 코드 순서가 숫자 크기 순서와 같아서, 문자열 비교가 곧 크기 비교가 됩니다.
+     */
+    private static final String ORDER_KEY_DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int ORDER_KEY_BASE = ORDER_KEY_DIGITS.length();
+
     /**
      * ScheduleIndex의 실제 값
      */
     @Column(name = "schedule_index")
     private long value;
 
+    /**
+     * 정수 값이 같은 순서값끼리의 순서를 정하는 가변 길이 키 (36진수 소수점 아래 자리, 빈 문자열이 가장 앞)
+     */
+    @Column(name = "schedule_order_key")
+    private String orderKey = "";
+
     /**
      * 자주 사용되는 0 ScheduleIndex를 캐싱
      */
@@ -58,10 +78,39 @@ public class ScheduleIndex {
         return new ScheduleIndex(value);
     }
 
+    /**
+     * 지정한 값과 순서 키의 ScheduleIndex 생성
+     * @param value ScheduleIndex 값
+     * @param orderKey 순서 키 (36진수 숫자로만 구성되고, '0' 으로 끝나지 않아야 함)
+     * @return ScheduleIndex 생성되는 ScheduleIndex
+     * @throws ScheduleIndexRangeException 유효한 인덱스 범위를 벗어나거나, 순서 키 형식이 잘못됐을 때
+     */
+    public static ScheduleIndex of(long value, String orderKey) throws ScheduleIndexRangeException {
+        if (!isValidOrderKey(orderKey)) {
+            throw new ScheduleIndexRangeException("[처리 필요] 유효하지 않은 순서 키로 인덱스를 생성하려 함.");
+        }
+        return new ScheduleIndex(of(value).value, orderKey);
+    }
+
+    /**
+     * 재배치와 같은 방식으로, 순서(0부터)에 기본 간격을 곱한 순서값을 생성합니다.
+     * @param order Day 또는 임시보관함에서의 순서 (0부터)
+     * @return 순서에 해당하는 ScheduleIndex
+     * @throws ScheduleIndexRangeException 유효한 인덱스 범위를 벗어날 때
+     */
+    public static ScheduleIndex ofOrder(int order) throws ScheduleIndexRangeException {
+        return of(order * DEFAULT_SEQUENCE_GAP);
+    }
+
     private ScheduleIndex(long value) {
         this.value = value;
     }
 
+    private ScheduleIndex(long value, String orderKey) {
+        this.value = value;
+        this.orderKey = orderKey;
+    }
+
     /**
      * 자기 자신 다음 위치에 해당하는 ScheduleIndex 를 생성
      * @throws ScheduleIndexRangeException 새로 생성되는 ScheduleIndex가 범위를 벗어날 때
@@ -93,4 +142,100 @@ public class ScheduleIndex {
         return new ScheduleIndex(midValue);
     }
 
+    /**
+     * <p>자기 자신과 다른 대상 ScheduleIndex 사이에 오는 ScheduleIndex 를 생성합니다. ({@link ScheduleIndexMode#FRACTIONAL})</p>
+     * <p>정수 간격이 남아있으면 {@link #mid(ScheduleIndex)} 와 같은 값을, 간격이 다했으면 앞쪽 값의 순서 키를 늘려 만든 값을 반환합니다.</p>
+     * @param other 다른 대상 인덱스
+     * @return 두 인덱스 사이에 오는 인덱스
+     * @throws MidScheduleIndexConflictException 두 인덱스가 같아 사이에 올 수 있는 값이 없을 때
+     * @throws ScheduleIndexRangeException 순서 키가 최대 길이를 넘을 때
+     */
+    public ScheduleIndex between(ScheduleIndex other) throws MidScheduleIndexConflictException, ScheduleIndexRangeException {
+        if (this.equals(other)) {
+            throw new MidScheduleIndexConflictException("같은 순서값 사이에는 인덱스를 만들 수 없음 -> 인덱스 재정렬 필요");
+        }
+        ScheduleIndex lower = this.compareTo(other) < 0 ? this : other;
+        ScheduleIndex upper = (lower == this) ? other : this;
+
+        // 정수 간격이 남아있으면 정수 중간값 사용 (순서 키는 비움)
+        ScheduleIndex midIndex = lower.mid(upper);
+        if (midIndex.value > lower.value && midIndex.value < upper.value) {
+            return midIndex;
+        }
+
+        // 정수 간격이 다했으면 앞쪽 정수 값을 그대로 두고, 순서 키로 사이 위치를 만듦
+        String upperOrderKey = (lower.value == upper.value) ? upper.orderKey : null;
+        String orderKey = orderKeyBetween(lower.orderKey, upperOrderKey);
+        if (orderKey.length() > MAX_ORDER_KEY_LENGTH) {
+            throw new ScheduleIndexRangeException("[처리 필요] 순서 키가 최대 길이를 넘음 -> 인덱스 재정렬 필요");
+        }
+        return new ScheduleIndex(lower.value, orderKey);
+    }
+
+    /**
+     * 자기 자신이 두 인덱스 사이(양 끝 제외)에 위치하는 지 여부를 반환합니다.
+     * @param lower 앞쪽 인덱스
+     * @param upper 뒤쪽 인덱스
+     * @return 사이에 위치하면 true
+     */
+    public boolean isBetween(ScheduleIndex lower, ScheduleIndex upper) {
+        return lower.compareTo(this) < 0 && this.compareTo(upper) < 0;
+    }
+
+    @Override
+    public int compareTo(ScheduleIndex other) {
+        int valueComparison = Long.compare(this.value, other.value);
+        return (valueComparison != 0) ? valueComparison : this.orderKey.compareTo(other.orderKey);
+    }
+
+    /**
+     * <p>두 순서 키 사이에 오는 가장 짧은 순서 키를 만듭니다. 각 키를 36진수 소수점 아래 자리로 보고 자리마다 중간값을 구합니다.</p>
+     * <p>만들어진 키는 '0' 으로 끝나지 않으므로, 어떤 두 키 사이에도 항상 다른 키가 존재합니다.</p>
+     * @param lower 앞쪽 키 (빈 문자열이면 0)
+     * @param upper 뒤쪽 키 (null 이면 1, 즉 앞쪽 키 뒤의 모든 키)
+     * @return lower < 결과 < upper 를 만족하는 키
+     */
+    static String orderKeyBetween(String lower, String upper) {
+        StringBuilder orderKey = new StringBuilder();
+        int position = 0;
+
+        // 공통 접두사는 그대로 사용 (lower 가 짧으면 뒤를 0 으로 간주)
+        if (upper != null) {
+            while (position < upper.length() && orderKeyDigitAt(lower, position) == orderKeyDigitAt(upper, position)) {
+                orderKey.append(upper.charAt(position));
+                position++;
+            }
+        }
+
+        while (true) {
+            int lowerDigit = orderKeyDigitAt(lower, position);
+            int upperDigit = (upper == null) ? ORDER_KEY_BASE : orderKeyDigitAt(upper, position);
+
+            // 두 자리 사이에 다른 숫자가 있으면 그 중간 숫자로 끝냄
+            if (upperDigit - lowerDigit > 1) {
+                return orderKey.append(ORDER_KEY_DIGITS.charAt((lowerDigit + upperDigit) / 2)).toString();
+            }
+
+            // upper 가 더 길면, upper 의 이번 자리까지만 잘라도 사이에 옴
+            if (upper != null && upper.length() > position + 1) {
+                return orderKey.append(upper.charAt(position)).toString();
+            }
+
+            // 이번 자리는 lower 를 따르고, 다음 자리부터는 lower 의 나머지보다 큰 키를 찾음
+            orderKey.append(ORDER_KEY_DIGITS.charAt(lowerDigit));
+            upper = null;
+            position++;
+        }
+    }
+
+    private static int orderKeyDigitAt(String orderKey, int position) {
+        return (position < orderKey.length()) ? ORDER_KEY_DIGITS.indexOf(orderKey.charAt(position)) : 0;
+    }
+
+    private static boolean isValidOrderKey(String orderKey) {
+        if (orderKey == null || orderKey.length() > MAX_ORDER_KEY_LENGTH || orderKey.endsWith("0")) {
+            return false;
+        }
+        return orderKey.chars().allMatch(ch -> ORDER_KEY_DIGITS.indexOf(ch) >= 0);
+    }
 }
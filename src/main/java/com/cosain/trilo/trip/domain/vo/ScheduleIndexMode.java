@@ -0,0 +1,13 @@
+package com.cosain.trilo.trip.domain.vo;
+
+/**
+ * <p>일정 중간 삽입 시 새 순서값({@link ScheduleIndex})을 만드는 방식입니다. 배포 단위로 선택합니다.</p>
+ * <ul>
+ *     <li>{@link #LONG} : 정수 순서값의 중간값만 사용합니다. 간격이 다하면 Day(또는 임시보관함) 전체를 재배치해야 합니다.</li>
+ *     <li>{@link #FRACTIONAL} : 정수 간격이 다하면 가변 길이 순서 키로 그 사이 위치를 만듭니다. 중간 위치가 항상 존재하므로 요청 중 재배치가 필요 없습니다.</li>
+ * </ul>
+ */
+public enum ScheduleIndexMode {
+    LONG,
+    FRACTIONAL
+}
@@ -0,0 +1,36 @@
+package com.cosain.trilo.trip.infra.cache;
+
+import com.cosain.trilo.trip.application.dao.DayQueryDAO;
+import com.cosain.trilo.trip.application.day.service.day_search.DayScheduleDetail;
+import com.cosain.trilo.trip.infra.dao.DayQueryDAOImpl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Day(일정 포함) 조회 결과와 여행의 Day 목록 조회 결과를 {@link TwoTierTripCache} 에 캐싱하는 DayQueryDAO 입니다.
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+public class CachingDayQueryDAO implements DayQueryDAO {
+
+    private final DayQueryDAOImpl delegate;
+    private final TwoTierTripCache tripCache;
+
+    @Override
+    public Optional<DayScheduleDetail> findDayWithSchedulesByDayId(Long dayId) {
+        return Optional.ofNullable(tripCache.getByOwner(TripCacheRegion.DAY, "day:" + dayId, String.valueOf(dayId),
+                () -> delegate.findDayWithSchedulesByDayId(dayId).orElse(null),
+                DayScheduleDetail::getTripId));
+    }
+
+    @Override
+    public List<DayScheduleDetail> findDayScheduleListByTripId(Long tripId) {
+        return tripCache.get(TripCacheRegion.TRIP_DAYS, tripId, "",
+                () -> delegate.findDayScheduleListByTripId(tripId));
+    }
+}
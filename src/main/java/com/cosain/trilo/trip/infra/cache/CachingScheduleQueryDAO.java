@@ -0,0 +1,42 @@
+package com.cosain.trilo.trip.infra.cache;
+
+import com.cosain.trilo.trip.application.dao.ScheduleQueryDAO;
+import com.cosain.trilo.trip.application.schedule.service.schedule_detail_search.ScheduleDetail;
+import com.cosain.trilo.trip.application.trip.service.temporary_search.TempScheduleListQueryParam;
+import com.cosain.trilo.trip.application.trip.service.temporary_search.TempScheduleListSearchResult;
+import com.cosain.trilo.trip.infra.dao.ScheduleQueryDAOImpl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * <p>임시보관함 조회 결과(페이지)를 {@link TwoTierTripCache} 에 캐싱하는 ScheduleQueryDAO 입니다.</p>
+ * <p>일정 단건 조회는 순서값(order)을 포함하는데, 재배치가 일어나면 같은 Day 의 모든 일정 순서값이 바뀌므로 캐싱하지 않고 위임합니다.</p>
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+public class CachingScheduleQueryDAO implements ScheduleQueryDAO {
+
+    private final ScheduleQueryDAOImpl delegate;
+    private final TwoTierTripCache tripCache;
+
+    @Override
+    public Optional<ScheduleDetail> findScheduleDetailById(Long scheduleId) {
+        return delegate.findScheduleDetailById(scheduleId);
+    }
+
+    @Override
+    public TempScheduleListSearchResult findTemporarySchedules(TempScheduleListQueryParam queryParam) {
+        String pageKey = queryParam.getScheduleId() + ":" + queryParam.getPageSize();
+        return tripCache.get(TripCacheRegion.TEMPORARY_STORAGE, queryParam.getTripId(), pageKey,
+                () -> delegate.findTemporarySchedules(queryParam));
+    }
+
+    @Override
+    public boolean existById(Long scheduleId) {
+        return delegate.existById(scheduleId);
+    }
+}
@@ -0,0 +1,55 @@
+package com.cosain.trilo.trip.infra.cache;
+
+import com.cosain.trilo.trip.application.dao.TripQueryDAO;
+import com.cosain.trilo.trip.application.trip.service.trip_condition_search.TripSearchResponse;
+import com.cosain.trilo.trip.application.trip.service.trip_detail_search.TripDetail;
+import com.cosain.trilo.trip.application.trip.service.trip_list_search.TripListQueryParam;
+import com.cosain.trilo.trip.application.trip.service.trip_list_search.TripListSearchResult;
+import com.cosain.trilo.trip.infra.dao.TripQueryDAOImpl;
+import com.cosain.trilo.trip.infra.dto.TripStatistics;
+import com.cosain.trilo.trip.presentation.trip.dto.request.TripSearchRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * <p>여행 상세 조회 결과를 {@link TwoTierTripCache} 에 캐싱하는 TripQueryDAO 입니다.</p>
+ * <p>목록/검색/통계 조회는 여러 여행에 걸쳐 있어 여행 단위로 무효화할 수 없으므로 그대로 위임합니다.</p>
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+public class CachingTripQueryDAO implements TripQueryDAO {
+
+    private final TripQueryDAOImpl delegate;
+    private final TwoTierTripCache tripCache;
+
+    @Override
+    public Optional<TripDetail> findTripDetailById(Long tripId) {
+        return Optional.ofNullable(tripCache.get(TripCacheRegion.TRIP_DETAIL, tripId, "",
+                () -> delegate.findTripDetailById(tripId).orElse(null)));
+    }
+
+    @Override
+    public TripListSearchResult findTripSummariesByTripperId(TripListQueryParam queryParam) {
+        return delegate.findTripSummariesByTripperId(queryParam);
+    }
+
+    @Override
+    public boolean existById(Long tripId) {
+        return delegate.existById(tripId);
+    }
+
+    @Override
+    public TripStatistics findTripStaticsByTripperId(Long tripperId, LocalDate today) {
+        return delegate.findTripStaticsByTripperId(tripperId, today);
+    }
+
+    @Override
+    public TripSearchResponse findWithSearchConditions(TripSearchRequest request) {
+        return delegate.findWithSearchConditions(request);
+    }
+}
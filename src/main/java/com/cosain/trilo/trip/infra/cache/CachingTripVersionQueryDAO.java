@@ -0,0 +1,40 @@
+package com.cosain.trilo.trip.infra.cache;
+
+import com.cosain.trilo.trip.application.dao.TripVersionQueryDAO;
+import com.cosain.trilo.trip.infra.dao.TripVersionQueryDAOImpl;
+import com.cosain.trilo.trip.infra.dto.TripVersion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * <p>여행 버전 조회 결과를 {@link TwoTierTripCache} 에 캐싱하는 TripVersionQueryDAO 입니다.</p>
+ * <p>Day/일정 기준 조회는 Day/일정이 삭제되어도 소유 여행 캐시가 남아 삭제된 대상에 버전이 붙을 수 있으므로,
+ * 캐싱하지 않고 PK 조인 한 번으로 조회합니다.</p>
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+public class CachingTripVersionQueryDAO implements TripVersionQueryDAO {
+
+    private final TripVersionQueryDAOImpl delegate;
+    private final TwoTierTripCache tripCache;
+
+    @Override
+    public Optional<TripVersion> findVersionByTripId(Long tripId) {
+        return Optional.ofNullable(tripCache.get(TripCacheRegion.TRIP_VERSION, tripId, "",
+                () -> delegate.findVersionByTripId(tripId).orElse(null)));
+    }
+
+    @Override
+    public Optional<TripVersion> findVersionByDayId(Long dayId) {
+        return delegate.findVersionByDayId(dayId);
+    }
+
+    @Override
+    public Optional<TripVersion> findVersionByScheduleId(Long scheduleId) {
+        return delegate.findVersionByScheduleId(scheduleId);
+    }
+}
@@ -0,0 +1,183 @@
+package com.cosain.trilo.trip.infra.cache;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>서버 메모리에 여행 단위로 조회 결과를 보관하는 크기 제한 캐시입니다. (여행 상세, Day 목록, Day, 임시보관함 페이지, 여행 버전)</p>
+ * <p>한 여행에 관한 항목들은 하나의 {@link TripEntries} 에 모여 있어서, 여행 단위 무효화는 그 묶음을 통째로 버리는 것으로 끝납니다.
+ * 최대 여행 수를 넘으면 가장 오래 조회되지 않은 여행의 묶음부터 버립니다. (LRU)</p>
+ * <p>Day 처럼 여행 id 를 모르는 채로 조회되는 항목은 소유 여행 id 를 따로 기억해둡니다. (Day 가 다른 여행으로 옮겨지는 일은 없음)</p>
+ */
+public class LocalTripCache {
+
+    /**
+     * 보관할 최대 여행 수
+     */
+    private final int maxTrips;
+
+    /**
+     * 항목 하나의 유효 시간(ms)
+     */
+    private final long ttlMillis;
+
+    private final Clock clock;
+
+    private final AtomicLong sizeEvictionCount = new AtomicLong();
+
+    /**
+     * 어느 여행이든 무효화될 때마다 올라가는 값 (소속 여행을 모르는 채로 조회한 값을 저장해도 되는지 확인)
+     */
+    private final AtomicLong invalidationEpoch = new AtomicLong();
+
+    private final Map<Long, TripEntries> entriesByTripId;
+    private final Map<String, Long> tripIdsByOwnerKey;
+
+    public LocalTripCache(int maxTrips, long ttlMillis, Clock clock) {
+        this.maxTrips = maxTrips;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.entriesByTripId = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, TripEntries> eldest) {
+                boolean evict = size() > LocalTripCache.this.maxTrips;
+                if (evict) {
+                    sizeEvictionCount.incrementAndGet();
+                }
+                return evict;
+            }
+        };
+        this.tripIdsByOwnerKey = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > LocalTripCache.this.maxTrips * 10;
+            }
+        };
+    }
+
+    /**
+     * 캐싱된 항목을 조회합니다.
+     * @param tripId 여행 id
+     * @param field 여행 안에서의 항목 이름
+     * @return 캐싱된 값, 없거나 만료됐으면 null
+     */
+    public Object get(Long tripId, String field) {
+        TripEntries entries;
+        synchronized (entriesByTripId) {
+            entries = entriesByTripId.get(tripId);
+        }
+        return entries == null ? null : entries.get(field, clock.millis());
+    }
+
+    /**
+     * <p>여행의 현재 항목 묶음을 가져옵니다. (없으면 새로 만듦)</p>
+     * <p>DB 조회 전에 묶음을 먼저 잡아두고 {@link #put(Long, TripEntries, String, Object)} 에 넘기면,
+     * 조회 도중 무효화된 경우 오래된 값이 다시 저장되지 않습니다.</p>
+     */
+    public TripEntries currentEntries(Long tripId) {
+        synchronized (entriesByTripId) {
+            return entriesByTripId.computeIfAbsent(tripId, id -> new TripEntries());
+        }
+    }
+
+    /**
+     * 항목을 저장합니다. 그 사이에 여행이 무효화됐다면(묶음이 바뀌었다면) 저장하지 않습니다.
+     */
+    public void put(Long tripId, TripEntries entries, String field, Object value) {
+        synchronized (entriesByTripId) {
+            if (entriesByTripId.get(tripId) != entries) {
+                return;
+            }
+        }
+        entries.put(field, value, clock.millis() + ttlMillis);
+    }
+
+    /**
+     * 여행에 관한 항목을 모두 버립니다.
+     * @return 버려진 묶음이 있었는지 여부
+     */
+    public boolean invalidate(Long tripId) {
+        synchronized (entriesByTripId) {
+            invalidationEpoch.incrementAndGet();
+            return entriesByTripId.remove(tripId) != null;
+        }
+    }
+
+    /**
+     * <p>지금까지의 무효화 횟수를 반환합니다.</p>
+     * <p>소속 여행을 모르는 채로 DB 를 조회할 때는 잡아둘 항목 묶음이 없으므로, 조회 전에 이 값을 읽어두고
+     * {@link #putIfNotInvalidatedSince(Long, long, String, Object)} 로 저장합니다.</p>
+     */
+    public long invalidationEpoch() {
+        return invalidationEpoch.get();
+    }
+
+    /**
+     * 전달받은 무효화 횟수 이후로 어떤 여행도 무효화되지 않았을 때만 항목을 저장합니다.
+     * @return 저장했으면 true, 그 사이 무효화가 있어 저장하지 않았으면 false
+     */
+    public boolean putIfNotInvalidatedSince(Long tripId, long epoch, String field, Object value) {
+        TripEntries entries = currentEntries(tripId);
+        if (invalidationEpoch.get() != epoch) {
+            return false;
+        }
+        // 확인 뒤에 무효화되면 묶음이 바뀌었으므로 put 에서 걸러짐
+        put(tripId, entries, field, value);
+        return true;
+    }
+
+    public Long findTripId(String ownerKey) {
+        synchronized (tripIdsByOwnerKey) {
+            return tripIdsByOwnerKey.get(ownerKey);
+        }
+    }
+
+    public void putTripId(String ownerKey, Long tripId) {
+        synchronized (tripIdsByOwnerKey) {
+            tripIdsByOwnerKey.put(ownerKey, tripId);
+        }
+    }
+
+    public int size() {
+        synchronized (entriesByTripId) {
+            return entriesByTripId.size();
+        }
+    }
+
+    /**
+     * @return 최대 여행 수를 넘어 버려진 여행 묶음의 누적 개수
+     */
+    public long sizeEvictionCount() {
+        return sizeEvictionCount.get();
+    }
+
+    /**
+     * 한 여행에 관한 캐시 항목 묶음
+     */
+    public static class TripEntries {
+
+        private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+        private Object get(String field, long nowMillis) {
+            Entry entry = entries.get(field);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAtMillis() <= nowMillis) {
+                entries.remove(field, entry);
+                return null;
+            }
+            return entry.value();
+        }
+
+        private void put(String field, Object value, long expiresAtMillis) {
+            entries.put(field, new Entry(value, expiresAtMillis));
+        }
+    }
+
+    private record Entry(Object value, long expiresAtMillis) {
+    }
+}
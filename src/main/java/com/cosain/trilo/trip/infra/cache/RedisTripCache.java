@@ -0,0 +1,170 @@
+package com.cosain.trilo.trip.infra.cache;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * <p>여러 서버 인스턴스가 공유하는 Redis 캐시 계층입니다.</p>
+ * <ul>
+ *     <li>여행 하나의 항목들을 해시 키 하나(trip-cache:v1:trip:{tripId})에 모아두므로, 여행 단위 무효화는 DEL 한 번입니다.</li>
+ *     <li>Day 처럼 여행 id 없이 조회되는 항목의 소유 여행 id 는 문자열 키(trip-cache:v1:owner:{ownerKey})로 저장합니다.</li>
+ *     <li>값은 JDK 직렬화로 저장합니다. 클래스가 바뀌어 역직렬화에 실패하면 캐시 미스로 처리합니다.</li>
+ *     <li>여행마다 세대 키(trip-cache:v1:gen:{tripId})를 두고 무효화할 때마다 1씩 올립니다.
+ *     캐시 미스일 때 읽어둔 세대가 저장 시점에도 같을 때만 저장하므로(Lua 스크립트),
+ *     DB 조회 도중 무효화된 여행의 오래된 값이 무효화 뒤에 다시 저장되지 않습니다.</li>
+ * </ul>
+ */
+public class RedisTripCache {
+
+    public static final String CHANNEL = "trip-cache:invalidated";
+
+    private static final String TRIP_KEY_PREFIX = "trip-cache:v1:trip:";
+    private static final String OWNER_KEY_PREFIX = "trip-cache:v1:owner:";
+    private static final String GENERATION_KEY_PREFIX = "trip-cache:v1:gen:";
+
+    /**
+     * 세대 키가 없으면 0 세대로 봅니다.
+     */
+    private static final String INITIAL_GENERATION = "0";
+
+    /**
+     * KEYS[1] : 여행 해시 키, KEYS[2] : 세대 키 / ARGV[1] : 조회 전에 읽은 세대, ARGV[2] : 항목 이름, ARGV[3] : 값, ARGV[4] : 유효 시간(ms)
+     */
+    private static final byte[] PUT_IF_GENERATION_SCRIPT = bytes("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[2], ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return 1
+            """);
+
+    private final StringRedisTemplate redisTemplate;
+    private final JdkSerializationRedisSerializer serializer = new JdkSerializationRedisSerializer();
+
+    /**
+     * 여행 해시 키의 유효 시간(ms)
+     */
+    private final long ttlMillis;
+
+    public RedisTripCache(StringRedisTemplate redisTemplate, long ttlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 항목과 여행의 현재 세대를 함께 조회합니다. (HGET + GET 을 파이프라인으로 한 번에 전송)
+     * @return 항목이 없거나 역직렬화할 수 없으면 value 가 null
+     */
+    public Lookup lookup(Long tripId, String field) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hGet(tripKey(tripId), bytes(field));
+            connection.stringCommands().get(generationKey(tripId));
+            return null;
+        }, RedisSerializer.byteArray());
+        byte[] generation = (byte[]) results.get(1);
+        return new Lookup(deserialize((byte[]) results.get(0)),
+                generation == null ? INITIAL_GENERATION : new String(generation, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 여행의 세대가 조회할 때 읽은 세대와 같을 때만 항목을 저장하고 여행 해시 키의 유효 시간을 갱신합니다.
+     * @param generation {@link #lookup(Long, String)} 으로 읽은 세대
+     * @return 저장했으면 true, 그 사이 무효화되어 저장하지 않았으면 false
+     */
+    public boolean putIfGeneration(Long tripId, String field, Object value, String generation) {
+        byte[] serialized = serializer.serialize(value);
+        Long stored = redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+                PUT_IF_GENERATION_SCRIPT, ReturnType.INTEGER, 2,
+                tripKey(tripId), generationKey(tripId), bytes(generation), bytes(field), serialized, bytes(String.valueOf(ttlMillis))));
+        return stored != null && stored == 1L;
+    }
+
+    public Long findTripId(String ownerKey) {
+        String tripId = redisTemplate.opsForValue().get(OWNER_KEY_PREFIX + ownerKey);
+        return tripId == null ? null : Long.valueOf(tripId);
+    }
+
+    /**
+     * 소유 여행 id 를 저장합니다. (소유 관계는 바뀌지 않으므로 여행 해시보다 길게 보관)
+     */
+    public void putTripId(String ownerKey, Long tripId) {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.stringCommands().pSetEx(bytes(OWNER_KEY_PREFIX + ownerKey), ttlMillis * 2, bytes(String.valueOf(tripId)));
+            return null;
+        });
+    }
+
+    /**
+     * 여행들의 해시 키를 지우고 세대를 올린 뒤, 다른 서버 인스턴스가 메모리 캐시를 비우도록 무효화 메시지를 발행합니다.
+     * 세대 키는 진행 중인 조회가 끝날 때까지 남아 있으면 되므로 여행 해시보다 길게만 보관합니다.
+     * @param tripIds 무효화할 여행 id 들
+     * @param message 발행할 메시지 (발행한 인스턴스 id 포함)
+     */
+    public void deleteAndPublish(Collection<Long> tripIds, String message) {
+        byte[][] keys = tripIds.stream().map(RedisTripCache::tripKey).toArray(byte[][]::new);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            deleteKeys(connection, keys);
+            for (Long tripId : tripIds) {
+                byte[] generationKey = generationKey(tripId);
+                connection.stringCommands().incr(generationKey);
+                connection.keyCommands().pExpire(generationKey, ttlMillis * 2);
+            }
+            connection.publish(bytes(CHANNEL), bytes(message));
+            return null;
+        });
+    }
+
+    /**
+     * 여행 id 들을 무효화 메시지 본문(쉼표 구분)으로 만듭니다.
+     */
+    public static String joinTripIds(Collection<Long> tripIds) {
+        return tripIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private static void deleteKeys(RedisConnection connection, byte[][] keys) {
+        if (keys.length > 0) {
+            connection.keyCommands().del(keys);
+        }
+    }
+
+    private Object deserialize(byte[] value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return serializer.deserialize(value);
+        } catch (SerializationException e) {
+            return null;
+        }
+    }
+
+    private static byte[] tripKey(Long tripId) {
+        return bytes(TRIP_KEY_PREFIX + tripId);
+    }
+
+    private static byte[] generationKey(Long tripId) {
+        return bytes(GENERATION_KEY_PREFIX + tripId);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param value 캐싱된 값 (없으면 null)
+     * @param generation 조회 시점의 여행 세대
+     */
+    public record Lookup(Object value, String generation) {
+    }
+}
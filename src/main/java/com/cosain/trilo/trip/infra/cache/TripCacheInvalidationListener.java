@@ -0,0 +1,29 @@
+package com.cosain.trilo.trip.infra.cache;
+
+import com.cosain.trilo.trip.application.event.TripContentChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * <p>여행/Day/일정 변경 이벤트를 받아 해당 여행의 조회 캐시를 무효화합니다.</p>
+ * <p>변경 직후 한 번, 커밋 후 한 번 더 무효화합니다. 커밋 전에 다른 요청이 이전 값을 읽어 다시 캐싱했더라도
+ * 커밋 후 무효화로 지워지므로, 오래된 값이 남는 구간은 트랜잭션 길이로 제한됩니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class TripCacheInvalidationListener {
+
+    private final TwoTierTripCache tripCache;
+
+    @EventListener
+    public void invalidate(TripContentChangedEvent event) {
+        tripCache.invalidate(event.getChangedTripIds());
+    }
+
+    @TransactionalEventListener
+    public void invalidateAfterCommit(TripContentChangedEvent event) {
+        tripCache.invalidate(event.getChangedTripIds());
+    }
+}
@@ -0,0 +1,30 @@
+package com.cosain.trilo.trip.infra.cache;
+
+import lombok.Getter;
+
+/**
+ * 여행 조회 캐시에 보관하는 조회 결과의 종류입니다. (메트릭 태그, 캐시 항목 이름의 접두어로 사용)
+ */
+@Getter
+public enum TripCacheRegion {
+
+    TRIP_DETAIL("trip-detail"),
+    TRIP_DAYS("trip-days"),
+    DAY("day"),
+    TEMPORARY_STORAGE("temporary-storage"),
+    TRIP_VERSION("trip-version");
+
+    private final String tag;
+
+    TripCacheRegion(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * 여행 안에서의 항목 이름을 만듭니다.
+     * @param key 종류 안에서의 키 (단일 항목이면 빈 문자열)
+     */
+    public String field(String key) {
+        return key.isEmpty() ? tag : tag + ":" + key;
+    }
+}
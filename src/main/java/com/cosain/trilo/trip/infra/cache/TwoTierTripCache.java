@@ -0,0 +1,314 @@
+package com.cosain.trilo.trip.infra.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <p>서버 메모리({@link LocalTripCache}) → Redis({@link RedisTripCache}) → DB 순으로 조회하는 2단계 read-through 캐시입니다.</p>
+ * <ul>
+ *     <li>모든 항목은 소속 여행 단위로 묶여 있고, 여행/Day/일정 변경 이벤트가 오면 그 여행의 항목을 통째로 무효화합니다.</li>
+ *     <li>무효화는 Redis 키 삭제와 함께 pub/sub 로 다른 서버 인스턴스에 전파되어, 각 인스턴스가 메모리 캐시를 비웁니다.</li>
+ *     <li>쓰기 트랜잭션 안에서 읽은 값은 커밋되지 않았을 수 있으므로 캐시에 저장하지 않습니다. (읽기 전용 트랜잭션 또는 트랜잭션 밖에서만 저장)</li>
+ *     <li>DB 조회 도중 무효화된 여행의 값은 다시 저장하지 않습니다. 메모리는 조회 전에 잡아둔 항목 묶음으로,
+ *     Redis 는 조회 전에 읽어둔 여행 세대로 확인합니다. 소속 여행을 모르는 채로 조회할 때는 조회 전에 읽어둔 메모리 캐시의 무효화 횟수로 확인합니다.</li>
+ *     <li>Redis 장애 시에는 Redis 계층을 건너뛰고 메모리 캐시와 DB 만으로 동작합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class TwoTierTripCache implements MessageListener {
+
+    private static final String METRIC_PREFIX = "trip.cache";
+
+    /**
+     * 무효화 메시지에서 발행 인스턴스 id 와 여행 id 목록을 구분하는 문자
+     */
+    private static final String MESSAGE_DELIMITER = "|";
+
+    private final LocalTripCache localCache;
+    private final RedisTripCache redisCache;
+
+    /**
+     * 자신이 발행한 무효화 메시지를 구분하기 위한 인스턴스 id
+     */
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Map<TripCacheRegion, RegionMeters> meters = new EnumMap<>(TripCacheRegion.class);
+    private final Counter invalidationCounter;
+    private final Counter redisFailureCounter;
+    private final Counter redisStaleWriteCounter;
+    private final Counter localStaleWriteCounter;
+
+    @Autowired
+    public TwoTierTripCache(
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            @Value("${trip.cache.local.max-trips:10000}") int localMaxTrips,
+            @Value("${trip.cache.local.ttl-ms:300000}") long localTtlMillis,
+            @Value("${trip.cache.redis.ttl-ms:1800000}") long redisTtlMillis) {
+        this(new LocalTripCache(localMaxTrips, localTtlMillis, clock), new RedisTripCache(redisTemplate, redisTtlMillis), meterRegistry);
+    }
+
+    public TwoTierTripCache(LocalTripCache localCache, RedisTripCache redisCache, MeterRegistry meterRegistry) {
+        this.localCache = localCache;
+        this.redisCache = redisCache;
+
+        for (TripCacheRegion region : TripCacheRegion.values()) {
+            meters.put(region, new RegionMeters(region, meterRegistry));
+        }
+        this.invalidationCounter = Counter.builder(METRIC_PREFIX + ".evictions")
+                .tag("cause", "invalidation")
+                .description("변경 이벤트로 메모리 캐시에서 버려진 여행 수")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", localCache, LocalTripCache::sizeEvictionCount)
+                .tag("cause", "size")
+                .description("최대 크기를 넘어 메모리 캐시에서 버려진 여행 수")
+                .register(meterRegistry);
+        this.redisFailureCounter = Counter.builder(METRIC_PREFIX + ".redis-failures")
+                .description("Redis 캐시 계층 접근 실패 횟수 (실패 시 DB 조회로 대체)")
+                .register(meterRegistry);
+        this.redisStaleWriteCounter = Counter.builder(METRIC_PREFIX + ".redis-stale-writes")
+                .description("DB 조회 도중 여행이 무효화되어 Redis 에 저장하지 않은 횟수")
+                .register(meterRegistry);
+        this.localStaleWriteCounter = Counter.builder(METRIC_PREFIX + ".local-stale-writes")
+                .description("소속 여행을 모르는 채로 DB 를 조회하는 도중 무효화가 있어 메모리에 저장하지 않은 횟수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".local.size", localCache, LocalTripCache::size)
+                .description("메모리 캐시에 보관 중인 여행 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 여행 id 로 바로 찾을 수 있는 항목을 조회합니다.
+     * @param region 조회 결과의 종류
+     * @param tripId 소속 여행 id
+     * @param key 종류 안에서의 키 (단일 항목이면 빈 문자열)
+     * @param loader 캐시 미스 시 DB 조회 (null 을 반환하면 캐싱하지 않음)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(TripCacheRegion region, Long tripId, String key, Supplier<T> loader) {
+        String field = region.field(key);
+        Object localValue = localCache.get(tripId, field);
+        if (localValue != null) {
+            meters.get(region).localHits.increment();
+            return (T) localValue;
+        }
+
+        LocalTripCache.TripEntries entries = localCache.currentEntries(tripId);
+        RedisTripCache.Lookup lookup = lookupRedis(tripId, field);
+        if (lookup != null && lookup.value() != null) {
+            meters.get(region).redisHits.increment();
+            localCache.put(tripId, entries, field, lookup.value());
+            return (T) lookup.value();
+        }
+
+        meters.get(region).misses.increment();
+        T loaded = loader.get();
+        if (loaded != null && canPopulate()) {
+            localCache.put(tripId, entries, field, loaded);
+            if (lookup != null) {
+                putToRedis(tripId, field, loaded, lookup.generation());
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * <p>여행 id 를 모르는 채로 조회되는 항목(예: Day)을 조회합니다.</p>
+     * <p>소유 여행 id 를 메모리 → Redis 순으로 찾고, 모르면 DB 에서 읽은 값으로 소유 여행 id 를 알아내 함께 저장합니다.
+     * 이때는 조회 전에 여행 세대를 읽어둘 수 없으므로, 값은 메모리에만 저장하고 Redis 에는 소유 여행 id 만 저장합니다.
+     * 메모리에도 조회 도중 어떤 여행이든 무효화되었다면 저장하지 않습니다.</p>
+     * @param region 조회 결과의 종류
+     * @param ownerKey 항목 자체의 키 (예: "day:1")
+     * @param key 종류 안에서의 키
+     * @param loader 캐시 미스 시 DB 조회 (null 을 반환하면 캐싱하지 않음)
+     * @param tripIdOf 조회 결과에서 소속 여행 id 를 꺼내는 함수
+     */
+    public <T> T getByOwner(TripCacheRegion region, String ownerKey, String key, Supplier<T> loader, Function<T, Long> tripIdOf) {
+        Long tripId = localCache.findTripId(ownerKey);
+        if (tripId == null) {
+            tripId = findTripIdFromRedis(ownerKey);
+            if (tripId != null) {
+                localCache.putTripId(ownerKey, tripId);
+            }
+        }
+        if (tripId != null) {
+            return get(region, tripId, key, loader);
+        }
+
+        meters.get(region).misses.increment();
+        long invalidationEpoch = localCache.invalidationEpoch();
+        T loaded = loader.get();
+        if (loaded != null && canPopulate()) {
+            Long loadedTripId = tripIdOf.apply(loaded);
+            String field = region.field(key);
+            localCache.putTripId(ownerKey, loadedTripId);
+            if (!localCache.putIfNotInvalidatedSince(loadedTripId, invalidationEpoch, field, loaded)) {
+                localStaleWriteCounter.increment();
+            }
+            putTripIdToRedis(ownerKey, loadedTripId);
+        }
+        return loaded;
+    }
+
+    /**
+     * 여행들의 캐시 항목을 메모리, Redis 에서 모두 지우고 다른 서버 인스턴스에도 무효화를 알립니다.
+     * @param tripIds 무효화할 여행 id 들
+     */
+    public void invalidate(Collection<Long> tripIds) {
+        if (tripIds.isEmpty()) {
+            return;
+        }
+        invalidateLocal(tripIds);
+        try {
+            redisCache.deleteAndPublish(tripIds, instanceId + MESSAGE_DELIMITER + RedisTripCache.joinTripIds(tripIds));
+        } catch (RuntimeException e) {
+            redisFailureCounter.increment();
+            log.warn("여행 캐시 무효화 전파 실패 : tripIds = {}", tripIds, e);
+        }
+    }
+
+    /**
+     * 다른 서버 인스턴스에서 발행한 무효화 메시지를 받아 메모리 캐시를 비웁니다. (자신이 발행한 메시지는 이미 반영했으므로 무시)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int delimiterIndex = body.indexOf(MESSAGE_DELIMITER);
+        if (delimiterIndex < 0 || body.substring(0, delimiterIndex).equals(instanceId)) {
+            return;
+        }
+        try {
+            List<Long> tripIds = Arrays.stream(body.substring(delimiterIndex + 1).split(","))
+                    .filter(tripId -> !tripId.isBlank())
+                    .map(Long::valueOf)
+                    .toList();
+            invalidateLocal(tripIds);
+        } catch (NumberFormatException e) {
+            log.warn("올바르지 않은 여행 캐시 무효화 메시지 수신 : {}", body, e);
+        }
+    }
+
+    private void invalidateLocal(Collection<Long> tripIds) {
+        for (Long tripId : tripIds) {
+            if (localCache.invalidate(tripId)) {
+                invalidationCounter.increment();
+            }
+        }
+    }
+
+    /**
+     * 쓰기 트랜잭션 안에서 읽은 값(커밋 전일 수 있음)은 캐시에 저장하지 않습니다.
+     */
+    private boolean canPopulate() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    /**
+     * @return Redis 에 접근할 수 없으면 null
+     */
+    private RedisTripCache.Lookup lookupRedis(Long tripId, String field) {
+        try {
+            return redisCache.lookup(tripId, field);
+        } catch (RuntimeException e) {
+            redisFailureCounter.increment();
+            log.debug("Redis 여행 캐시 조회 실패 : tripId = {}, field = {}", tripId, field, e);
+            return null;
+        }
+    }
+
+    private void putToRedis(Long tripId, String field, Object value, String generation) {
+        try {
+            if (!redisCache.putIfGeneration(tripId, field, value, generation)) {
+                redisStaleWriteCounter.increment();
+            }
+        } catch (RuntimeException e) {
+            redisFailureCounter.increment();
+            log.debug("Redis 여행 캐시 저장 실패 : tripId = {}, field = {}", tripId, field, e);
+        }
+    }
+
+    private Long findTripIdFromRedis(String ownerKey) {
+        try {
+            return redisCache.findTripId(ownerKey);
+        } catch (RuntimeException e) {
+            redisFailureCounter.increment();
+            log.debug("Redis 여행 캐시 소유 여행 조회 실패 : ownerKey = {}", ownerKey, e);
+            return null;
+        }
+    }
+
+    private void putTripIdToRedis(String ownerKey, Long tripId) {
+        try {
+            redisCache.putTripId(ownerKey, tripId);
+        } catch (RuntimeException e) {
+            redisFailureCounter.increment();
+            log.debug("Redis 여행 캐시 소유 여행 저장 실패 : ownerKey = {}", ownerKey, e);
+        }
+    }
+
+    /**
+     * 조회 결과 종류별 적중/미스 카운터와 적중률/미스율 게이지
+     */
+    private static class RegionMeters {
+
+        private final Counter localHits;
+        private final Counter redisHits;
+        private final Counter misses;
+
+        private RegionMeters(TripCacheRegion region, MeterRegistry meterRegistry) {
+            this.localHits = requests(region, "local-hit", meterRegistry);
+            this.redisHits = requests(region, "redis-hit", meterRegistry);
+            this.misses = requests(region, "miss", meterRegistry);
+
+            Gauge.builder(METRIC_PREFIX + ".hit-ratio", this, RegionMeters::hitRatio)
+                    .tag("region", region.getTag())
+                    .description("메모리 또는 Redis 에서 적중한 조회의 비율")
+                    .register(meterRegistry);
+            Gauge.builder(METRIC_PREFIX + ".miss-ratio", this, meters -> meters.total() == 0 ? 0.0 : 1.0 - meters.hitRatio())
+                    .tag("region", region.getTag())
+                    .description("DB 까지 조회한 비율")
+                    .register(meterRegistry);
+        }
+
+        private static Counter requests(TripCacheRegion region, String result, MeterRegistry meterRegistry) {
+            return Counter.builder(METRIC_PREFIX + ".requests")
+                    .tag("region", region.getTag())
+                    .tag("result", result)
+                    .description("여행 조회 캐시 요청 수")
+                    .register(meterRegistry);
+        }
+
+        private double total() {
+            return localHits.count() + redisHits.count() + misses.count();
+        }
+
+        private double hitRatio() {
+            double total = total();
+            return total == 0 ? 0.0 : (localHits.count() + redisHits.count()) / total;
+        }
+    }
+}
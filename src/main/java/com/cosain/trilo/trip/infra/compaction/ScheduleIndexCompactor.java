@@ -0,0 +1,227 @@
+package com.cosain.trilo.trip.infra.compaction;
+
+import com.cosain.trilo.trip.application.event.ScheduleMovedEvent;
+import com.cosain.trilo.trip.application.event.ScheduleRelocatedEvent;
+import com.cosain.trilo.trip.application.exception.TripVersionConflictException;
+import com.cosain.trilo.trip.application.schedule.service.schedule_compaction.ScheduleCompactionResult;
+import com.cosain.trilo.trip.application.schedule.service.schedule_compaction.ScheduleCompactionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>일정 이동으로 순서값 간격이 좁아진 Day(또는 임시보관함)를 모아 두었다가, 한동안 수정이 없을 때 미리 재배치합니다.</p>
+ * <ul>
+ *     <li>같은 위치에 반복해서 끼워 넣으면 간격이 절반씩 줄어, 결국 요청 처리 중에 재배치(relocateDaySchedules)가 일어납니다.
+ *     이를 요청 경로 밖으로 옮기는 것이 목적입니다.</li>
+ *     <li>대기열은 여행 단위로 중복을 제거하며 크기가 제한됩니다. 가득 차면 새 여행은 버려지고, 그 여행은 기존처럼 요청 중에 재배치됩니다.</li>
+ *     <li>재배치는 여행 단위 잠금과 버전 검사를 거치므로, 충돌하면 대기열에 다시 넣고 다음 주기에 처리합니다.</li>
+ * </ul>
+ * <p>요청 경로/백그라운드 재배치 횟수를 각각 {@code trip.schedule.relocations{path=request|background}} 로 집계합니다.</p>
+ */
+@Slf4j
+@Component
+public class ScheduleIndexCompactor {
+
+    private static final String METRIC_PREFIX = "trip.schedule-compaction";
+    private static final String RELOCATION_METRIC = "trip.schedule.relocations";
+
+    private final ScheduleCompactionService scheduleCompactionService;
+    private final Clock clock;
+
+    /**
+     * 백그라운드 재배치 사용 여부
+     */
+    private final boolean enabled;
+
+    /**
+     * 재배치 기준 간격. 가장 작은 순서값 간격이 이보다 작으면 재배치합니다.
+     */
+    private final long minGap;
+
+    /**
+     * 마지막 이동 후 이 시간(ms)이 지나야 재배치합니다. 편집이 한창인 여행과 잠금을 다투지 않기 위함입니다.
+     */
+    private final long quietPeriodMillis;
+
+    /**
+     * 대기열에 담을 수 있는 최대 여행 수
+     */
+    private final int maxPendingTrips;
+
+    /**
+     * 한 주기에 처리할 최대 여행 수
+     */
+    private final int batchSize;
+
+    /**
+     * 재배치 대기 중인 여행 (삽입 순서 = 처리 순서). 모든 접근은 이 객체로 동기화합니다.
+     */
+    private final LinkedHashMap<Long, PendingTrip> pendingTrips = new LinkedHashMap<>();
+
+    private final Counter requestRelocationCounter;
+    private final Counter backgroundRelocationCounter;
+    private final Counter droppedCounter;
+    private final Counter conflictCounter;
+    private final DistributionSummary minGapSummary;
+
+    public ScheduleIndexCompactor(
+            ScheduleCompactionService scheduleCompactionService,
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${trip.schedule-compaction.enabled:true}") boolean enabled,
+            @Value("${trip.schedule-compaction.min-gap:10000}") long minGap,
+            @Value("${trip.schedule-compaction.quiet-period-ms:2000}") long quietPeriodMillis,
+            @Value("${trip.schedule-compaction.max-pending-trips:10000}") int maxPendingTrips,
+            @Value("${trip.schedule-compaction.batch-size:100}") int batchSize) {
+        this.scheduleCompactionService = scheduleCompactionService;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.minGap = minGap;
+        this.quietPeriodMillis = quietPeriodMillis;
+        this.maxPendingTrips = maxPendingTrips;
+        this.batchSize = batchSize;
+
+        this.requestRelocationCounter = Counter.builder(RELOCATION_METRIC)
+                .tag("path", "request")
+                .description("일정 생성/이동 요청 처리 중 일어난 재배치 횟수")
+                .register(meterRegistry);
+        this.backgroundRelocationCounter = Counter.builder(RELOCATION_METRIC)
+                .tag("path", "background")
+                .description("요청 경로 밖에서 미리 수행한 재배치 횟수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder(METRIC_PREFIX + ".dropped")
+                .description("대기열이 가득 차 버려진 여행 수")
+                .register(meterRegistry);
+        this.conflictCounter = Counter.builder(METRIC_PREFIX + ".conflicts")
+                .description("재배치 중 버전 충돌로 다음 주기로 미룬 횟수")
+                .register(meterRegistry);
+        this.minGapSummary = DistributionSummary.builder(METRIC_PREFIX + ".min-gap")
+                .description("재배치 검사 시 관찰한 가장 작은 순서값 간격")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".pending-trips", this, ScheduleIndexCompactor::pendingTripCount)
+                .description("재배치 대기 중인 여행 수")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener
+    public void onScheduleMoved(ScheduleMovedEvent event) {
+        enqueue(event.getTripId(), event.getAfterDayId());
+    }
+
+    @TransactionalEventListener
+    public void onScheduleRelocated(ScheduleRelocatedEvent event) {
+        requestRelocationCounter.increment();
+    }
+
+    /**
+     * 재배치 대상 Day(또는 임시보관함)를 대기열에 넣습니다. 같은 여행은 하나로 합쳐지고, 마지막 수정 시각이 갱신됩니다.
+     * @param tripId 여행의 id
+     * @param dayId Day의 id (null일 경우 임시보관함)
+     */
+    public void enqueue(Long tripId, Long dayId) {
+        if (!enabled) {
+            return;
+        }
+        long now = clock.millis();
+        synchronized (pendingTrips) {
+            PendingTrip pendingTrip = pendingTrips.get(tripId);
+            if (pendingTrip == null) {
+                if (pendingTrips.size() >= maxPendingTrips) {
+                    droppedCounter.increment();
+                    return;
+                }
+                pendingTrip = new PendingTrip();
+                pendingTrips.put(tripId, pendingTrip);
+            }
+            pendingTrip.dayIds.add(dayId);
+            pendingTrip.lastTouchedMillis = now;
+        }
+    }
+
+    /**
+     * 한동안 수정이 없던 여행들을 최대 batchSize 개 꺼내, 간격이 좁아진 Day(또는 임시보관함)를 재배치합니다.
+     */
+    @Scheduled(fixedDelayString = "${trip.schedule-compaction.interval-ms:1000}")
+    public void compact() {
+        if (!enabled) {
+            return;
+        }
+        Map<Long, Set<Long>> batch = pollIdleTrips();
+        batch.forEach(this::compactTrip);
+    }
+
+    private void compactTrip(Long tripId, Set<Long> dayIds) {
+        Set<Long> remaining = new HashSet<>(dayIds);
+        for (Long dayId : dayIds) {
+            try {
+                ScheduleCompactionResult result = scheduleCompactionService.compactIfDense(tripId, dayId, minGap);
+                if (result.getMinGap() != null) {
+                    minGapSummary.record(result.getMinGap());
+                }
+                if (result.isRelocated()) {
+                    backgroundRelocationCounter.increment();
+                }
+                remaining.remove(dayId);
+            } catch (TripVersionConflictException e) {
+                // 그 사이 사용자가 여행을 수정함 -> 남은 목록을 다시 넣고 다음 주기에 처리
+                conflictCounter.increment();
+                remaining.forEach(remainingDayId -> enqueue(tripId, remainingDayId));
+                return;
+            } catch (RuntimeException e) {
+                log.warn("일정 순서값 재배치 실패 : tripId = {}, dayId = {}", tripId, dayId, e);
+                remaining.remove(dayId);
+            }
+        }
+    }
+
+    /**
+     * 마지막 수정 후 quietPeriodMillis 이상 지난 여행을 삽입 순서대로 최대 batchSize 개 꺼냅니다.
+     */
+    private Map<Long, Set<Long>> pollIdleTrips() {
+        long idleBefore = clock.millis() - quietPeriodMillis;
+        Map<Long, Set<Long>> batch = new LinkedHashMap<>();
+        synchronized (pendingTrips) {
+            Iterator<Map.Entry<Long, PendingTrip>> iterator = pendingTrips.entrySet().iterator();
+            while (iterator.hasNext() && batch.size() < batchSize) {
+                Map.Entry<Long, PendingTrip> entry = iterator.next();
+                if (entry.getValue().lastTouchedMillis <= idleBefore) {
+                    batch.put(entry.getKey(), entry.getValue().dayIds);
+                    iterator.remove();
+                }
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * 재배치 대기 중인 여행 수
+     */
+    public int pendingTripCount() {
+        synchronized (pendingTrips) {
+            return pendingTrips.size();
+        }
+    }
+
+    private static class PendingTrip {
+
+        /**
+         * 재배치 검사 대상 Day id 목록 (null 은 임시보관함)
+         */
+        private final Set<Long> dayIds = new HashSet<>();
+        private long lastTouchedMillis;
+    }
+}
@@ -0,0 +1,155 @@
+package com.cosain.trilo.trip.infra.counter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+
+/**
+ * <p>trip.trip_schedule_count, days.day_schedule_count 가 실제 일정 수와 어긋난 여행을 찾아 바로잡는 작업입니다.</p>
+ * <ul>
+ *     <li>일정 수는 요청마다 조건부 UPDATE 로 증감되므로 평소에는 어긋나지 않습니다.
+ *     서비스를 거치지 않고 일정을 직접 넣거나 지운 경우, 컬럼 추가 직후 등을 대비한 안전장치입니다.</li>
+ *     <li>trip_id 순으로 batchSize 개씩 훑으며, 주기마다 이어서 검사합니다. 마지막 여행까지 검사하면 처음부터 다시 시작합니다.</li>
+ *     <li>어긋난 여행은 여행 하나당 트랜잭션 하나로 다시 계산합니다. trip 행을 먼저 잠그고 계산하므로, 그 사이 같은 여행의 일정을 바꾸려는 요청은
+ *     (여행 버전을 올리며 trip 행을 먼저 잠그므로) 다시 계산이 끝날 때까지 기다립니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ScheduleCountRepairJob {
+
+    private static final String METRIC_PREFIX = "trip.schedule-count-repair";
+
+    private static final String FIND_TRIP_IDS_SQL = "SELECT trip_id FROM trip WHERE trip_id > ? ORDER BY trip_id LIMIT ?";
+
+    /**
+     * 범위 안의 여행 중, 여행 또는 여행의 Day 일정 수가 실제 일정 수와 다른 여행의 id 를 찾습니다.
+     */
+    private static final String FIND_DRIFTED_TRIP_IDS_SQL = """
+            SELECT t.trip_id
+            FROM trip t
+            LEFT JOIN (SELECT trip_id, COUNT(*) AS cnt FROM schedules WHERE trip_id BETWEEN ? AND ? GROUP BY trip_id) s
+                ON s.trip_id = t.trip_id
+            WHERE t.trip_id BETWEEN ? AND ? AND t.trip_schedule_count <> COALESCE(s.cnt, 0)
+            UNION
+            SELECT d.trip_id
+            FROM days d
+            LEFT JOIN (SELECT day_id, COUNT(*) AS cnt FROM schedules WHERE trip_id BETWEEN ? AND ? AND day_id IS NOT NULL GROUP BY day_id) s
+                ON s.day_id = d.day_id
+            WHERE d.trip_id BETWEEN ? AND ? AND d.day_schedule_count <> COALESCE(s.cnt, 0)
+            """;
+
+    private static final String REPAIR_TRIP_SQL =
+            "UPDATE trip SET trip_schedule_count = (SELECT COUNT(*) FROM schedules WHERE trip_id = ?) WHERE trip_id = ?";
+
+    private static final String REPAIR_DAYS_SQL =
+            "UPDATE days d SET d.day_schedule_count = (SELECT COUNT(*) FROM schedules s WHERE s.day_id = d.day_id) WHERE d.trip_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+
+    /**
+     * 일정 수 검사 사용 여부
+     */
+    private final boolean enabled;
+
+    /**
+     * 한 주기에 검사할 최대 여행 수
+     */
+    private final int batchSize;
+
+    /**
+     * 마지막으로 검사한 여행의 id (다음 주기는 이 다음 여행부터 검사)
+     */
+    private long lastTripId;
+
+    private final Counter repairedTripCounter;
+    private final Counter failureCounter;
+    private final Timer scanTimer;
+
+    public ScheduleCountRepairJob(
+            JdbcTemplate jdbcTemplate,
+            TransactionOperations transactionOperations,
+            MeterRegistry meterRegistry,
+            @Value("${trip.schedule-count-repair.enabled:true}") boolean enabled,
+            @Value("${trip.schedule-count-repair.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+
+        this.repairedTripCounter = Counter.builder(METRIC_PREFIX + ".repaired-trips")
+                .description("일정 수가 어긋나 다시 계산한 여행 수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder(METRIC_PREFIX + ".failures")
+                .description("일정 수 다시 계산에 실패한 횟수")
+                .register(meterRegistry);
+        this.scanTimer = Timer.builder(METRIC_PREFIX + ".scan")
+                .description("한 주기의 일정 수 검사 소요 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${trip.schedule-count-repair.interval-ms:60000}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        scanTimer.record(this::repairNextBatch);
+    }
+
+    /**
+     * 마지막으로 검사한 여행 다음부터 batchSize 개의 여행을 검사하고, 일정 수가 어긋난 여행을 바로잡습니다.
+     * @return 바로잡은 여행 수
+     */
+    public synchronized int repairNextBatch() {
+        List<Long> tripIds = jdbcTemplate.queryForList(FIND_TRIP_IDS_SQL, Long.class, lastTripId, batchSize);
+        if (tripIds.isEmpty()) {
+            lastTripId = 0L;
+            return 0;
+        }
+        long fromTripId = tripIds.get(0);
+        long toTripId = tripIds.get(tripIds.size() - 1);
+        lastTripId = toTripId;
+
+        List<Long> driftedTripIds = jdbcTemplate.queryForList(FIND_DRIFTED_TRIP_IDS_SQL, Long.class,
+                fromTripId, toTripId, fromTripId, toTripId, fromTripId, toTripId, fromTripId, toTripId);
+
+        int repaired = 0;
+        for (Long tripId : driftedTripIds) {
+            if (repair(tripId)) {
+                repaired++;
+            }
+        }
+        return repaired;
+    }
+
+    /**
+     * 여행과 여행의 Day들의 일정 수를 실제 일정 수로 다시 계산합니다.
+     * @param tripId 여행의 id
+     * @return 성공 여부
+     */
+    public boolean repair(Long tripId) {
+        try {
+            transactionOperations.executeWithoutResult(status -> {
+                // trip 행을 먼저 잠가, 일정을 바꾸는 요청과 같은 순서(trip -> days)로 잠금
+                jdbcTemplate.update(REPAIR_TRIP_SQL, tripId, tripId);
+                jdbcTemplate.update(REPAIR_DAYS_SQL, tripId);
+            });
+            repairedTripCounter.increment();
+            log.info("일정 수 다시 계산 : tripId = {}", tripId);
+            return true;
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            log.warn("일정 수 다시 계산 실패 : tripId = {}", tripId, e);
+            return false;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.cosain.trilo.trip.application.trip.service.trip_list_search.TripListQ
 import com.cosain.trilo.trip.application.trip.service.trip_list_search.TripListSearchResult;
 import com.cosain.trilo.trip.infra.dao.querydsl.QuerydslTripQueryRepository;
 import com.cosain.trilo.trip.infra.dto.TripStatistics;
+import com.cosain.trilo.trip.infra.statistics.TripStatisticsStore;
 import com.cosain.trilo.trip.presentation.trip.dto.request.TripSearchRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -19,6 +20,7 @@ import java.util.Optional;
 public class TripQueryDAOImpl implements TripQueryDAO {
 
     private final QuerydslTripQueryRepository querydslTripQueryRepository;
+    private final TripStatisticsStore tripStatisticsStore;
 
     public Optional<TripDetail> findTripDetailById(Long tripId) {
         return querydslTripQueryRepository.findTripDetailById(tripId);
@@ -34,10 +36,15 @@ public class TripQueryDAOImpl implements TripQueryDAO {
         return querydslTripQueryRepository.existById(tripId);
     }
 
+    /**
+     * 미리 집계된 여행 통계를 PK 로 조회하고, 아직 집계되지 않은 사용자는 trip 테이블에서 직접 셉니다.
+     */
     @Override
     public TripStatistics findTripStaticsByTripperId(Long tripperId, LocalDate today) {
-        return querydslTripQueryRepository.findTripStaticsByTripperId(tripperId, today);
+        return tripStatisticsStore.find(tripperId, today)
+                .orElseGet(() -> querydslTripQueryRepository.findTripStaticsByTripperId(tripperId, today));
     }
+
     @Override
     public TripSearchResponse findWithSearchConditions(TripSearchRequest request) {
         return querydslTripQueryRepository.findTripWithSearchCondition(request);
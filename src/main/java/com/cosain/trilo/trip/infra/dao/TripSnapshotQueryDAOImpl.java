@@ -0,0 +1,34 @@
+package com.cosain.trilo.trip.infra.dao;
+
+import com.cosain.trilo.trip.application.dao.TripSnapshotQueryDAO;
+import com.cosain.trilo.trip.application.trip.service.trip_snapshot_search.TripSnapshot;
+import com.cosain.trilo.trip.infra.dao.querydsl.QuerydslDayQueryRepository;
+import com.cosain.trilo.trip.infra.dao.querydsl.QuerydslScheduleQueryRepository;
+import com.cosain.trilo.trip.infra.dao.querydsl.QuerydslTripQueryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * <p>여행 전체 스냅샷을 조회합니다.</p>
+ * <p>Day/일정 수와 관계없이 쿼리는 항상 3회입니다. (여행 1회, Day 및 Day 일정 1회, 임시보관함 1회)</p>
+ * <p>스냅샷은 여행 전체를 한 번에 읽는 용도이므로, 단건 조회용 캐시 계층을 거치지 않고 Querydsl 저장소를 직접 사용합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class TripSnapshotQueryDAOImpl implements TripSnapshotQueryDAO {
+
+    private final QuerydslTripQueryRepository querydslTripQueryRepository;
+    private final QuerydslDayQueryRepository querydslDayQueryRepository;
+    private final QuerydslScheduleQueryRepository querydslScheduleQueryRepository;
+
+    @Override
+    public Optional<TripSnapshot> findTripSnapshotById(Long tripId) {
+        return querydslTripQueryRepository.findTripDetailById(tripId)
+                .map(tripDetail -> TripSnapshot.of(
+                        tripDetail,
+                        querydslDayQueryRepository.findDayScheduleListByTripId(tripId),
+                        querydslScheduleQueryRepository.findAllTemporarySchedulesByTripId(tripId)));
+    }
+}
@@ -0,0 +1,35 @@
+package com.cosain.trilo.trip.infra.dao;
+
+import com.cosain.trilo.trip.application.dao.TripVersionQueryDAO;
+import com.cosain.trilo.trip.infra.dao.querydsl.QuerydslDayQueryRepository;
+import com.cosain.trilo.trip.infra.dao.querydsl.QuerydslScheduleQueryRepository;
+import com.cosain.trilo.trip.infra.dao.querydsl.QuerydslTripQueryRepository;
+import com.cosain.trilo.trip.infra.dto.TripVersion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class TripVersionQueryDAOImpl implements TripVersionQueryDAO {
+
+    private final QuerydslTripQueryRepository querydslTripQueryRepository;
+    private final QuerydslDayQueryRepository querydslDayQueryRepository;
+    private final QuerydslScheduleQueryRepository querydslScheduleQueryRepository;
+
+    @Override
+    public Optional<TripVersion> findVersionByTripId(Long tripId) {
+        return querydslTripQueryRepository.findTripVersionById(tripId);
+    }
+
+    @Override
+    public Optional<TripVersion> findVersionByDayId(Long dayId) {
+        return querydslDayQueryRepository.findTripVersionByDayId(dayId);
+    }
+
+    @Override
+    public Optional<TripVersion> findVersionByScheduleId(Long scheduleId) {
+        return querydslScheduleQueryRepository.findTripVersionByScheduleId(scheduleId);
+    }
+}
@@ -3,6 +3,8 @@ package com.cosain.trilo.trip.infra.dao.querydsl;
 import com.cosain.trilo.trip.application.day.service.day_search.DayScheduleDetail;
 import com.cosain.trilo.trip.application.day.service.day_search.QDayScheduleDetail;
 import com.cosain.trilo.trip.application.day.service.day_search.QScheduleSummary;
+import com.cosain.trilo.trip.infra.dto.QTripVersion;
+import com.cosain.trilo.trip.infra.dto.TripVersion;
 import com.querydsl.core.group.GroupBy;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +15,7 @@ import java.util.Optional;
 
 import static com.cosain.trilo.trip.domain.entity.QDay.day;
 import static com.cosain.trilo.trip.domain.entity.QSchedule.schedule;
+import static com.cosain.trilo.trip.domain.entity.QTrip.trip;
 import static com.querydsl.core.group.GroupBy.groupBy;
 import static com.querydsl.core.group.GroupBy.list;
 
@@ -28,7 +31,7 @@ public class QuerydslDayQueryRepository {
                 .from(day)
                 .innerJoin(day.schedules, schedule)
                 .where(day.id.eq(dayId))
-                .orderBy(schedule.scheduleIndex.value.asc())
+                .orderBy(schedule.scheduleIndex.value.asc(), schedule.scheduleIndex.orderKey.asc())
                 .transform(groupBy(day.id).as(new QDayScheduleDetail(
                         day.id,
                         day.trip.id,
@@ -51,7 +54,7 @@ public class QuerydslDayQueryRepository {
         return query.from(day)
                 .leftJoin(day.schedules, schedule)
                 .where(day.trip.id.eq(tripId))
-                .orderBy(day.tripDate.asc(), schedule.scheduleIndex.value.asc())
+                .orderBy(day.tripDate.asc(), schedule.scheduleIndex.value.asc(), schedule.scheduleIndex.orderKey.asc())
                 .transform(
                         groupBy(day.id).list(new QDayScheduleDetail(
                                 day.id,
@@ -69,4 +72,15 @@ public class QuerydslDayQueryRepository {
                         ))
                 );
     }
+
+    /**
+     * Day 가 속한 여행의 버전을 조회합니다. (Day PK, 여행 PK 조인)
+     */
+    public Optional<TripVersion> findTripVersionByDayId(Long dayId) {
+        return Optional.ofNullable(query.select(new QTripVersion(trip.id, trip.version))
+                .from(day)
+                .innerJoin(day.trip, trip)
+                .where(day.id.eq(dayId))
+                .fetchOne());
+    }
 }
@@ -7,6 +7,8 @@ import com.cosain.trilo.trip.application.schedule.service.schedule_detail_search
 import com.cosain.trilo.trip.application.trip.service.temporary_search.TempScheduleListQueryParam;
 import com.cosain.trilo.trip.application.trip.service.temporary_search.TempScheduleListSearchResult;
 import com.cosain.trilo.trip.domain.vo.ScheduleIndex;
+import com.cosain.trilo.trip.infra.dto.QTripVersion;
+import com.cosain.trilo.trip.infra.dto.TripVersion;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +22,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static com.cosain.trilo.trip.domain.entity.QSchedule.schedule;
+import static com.cosain.trilo.trip.domain.entity.QTrip.trip;
 
 @Component
 @RequiredArgsConstructor
@@ -52,7 +55,7 @@ public class QuerydslScheduleQueryRepository {
                         schedule.day.id.isNull(),
                         gtScheduleIndex(scheduleIndex)
                 )
-                .orderBy(schedule.scheduleIndex.value.asc())
+                .orderBy(schedule.scheduleIndex.value.asc(), schedule.scheduleIndex.orderKey.asc())
                 .limit(queryParam.getPageSize() + 1)
                 .fetch();
 
@@ -62,10 +65,24 @@ public class QuerydslScheduleQueryRepository {
         return TempScheduleListSearchResult.of(slice.hasNext(), tempSchedules);
     }
 
+    /**
+     * 여행의 임시보관함 일정 전체를 순서대로 조회합니다. (페이징 없이 쿼리 1회)
+     */
+    public List<ScheduleSummary> findAllTemporarySchedulesByTripId(Long tripId) {
+        return query.select(new QScheduleSummary(schedule.id, schedule.scheduleTitle.value, schedule.place.placeName, schedule.place.placeId, schedule.place.coordinate.latitude, schedule.place.coordinate.longitude))
+                .from(schedule)
+                .where(schedule.trip.id.eq(tripId),
+                        schedule.day.id.isNull()
+                )
+                .orderBy(schedule.scheduleIndex.value.asc(), schedule.scheduleIndex.orderKey.asc())
+                .fetch();
+    }
+
     private BooleanExpression gtScheduleIndex(ScheduleIndex scheduleIndex) {
         return scheduleIndex == null
                 ? null
-                : schedule.scheduleIndex.value.gt(scheduleIndex.getValue());
+                : schedule.scheduleIndex.value.gt(scheduleIndex.getValue())
+                .or(schedule.scheduleIndex.value.eq(scheduleIndex.getValue()).and(schedule.scheduleIndex.orderKey.gt(scheduleIndex.getOrderKey())));
     }
 
     private boolean isHasNext(List<?> results, Pageable pageable) {
@@ -77,6 +94,17 @@ public class QuerydslScheduleQueryRepository {
         return hasNext;
     }
 
+    /**
+     * 일정이 속한 여행의 버전을 조회합니다. (일정 PK, 여행 PK 조인)
+     */
+    public Optional<TripVersion> findTripVersionByScheduleId(Long scheduleId) {
+        return Optional.ofNullable(query.select(new QTripVersion(trip.id, trip.version))
+                .from(schedule)
+                .innerJoin(schedule.trip, trip)
+                .where(schedule.id.eq(scheduleId))
+                .fetchOne());
+    }
+
     public boolean existById(Long scheduleId) {
         Integer fetchOne = query.selectOne()
                 .from(schedule)
@@ -9,7 +9,10 @@ import com.cosain.trilo.trip.application.trip.service.trip_list_search.TripListQ
 import com.cosain.trilo.trip.application.trip.service.trip_list_search.TripListSearchResult;
 import com.cosain.trilo.trip.domain.vo.TripStatus;
 import com.cosain.trilo.trip.infra.dto.QTripStatistics;
+import com.cosain.trilo.trip.infra.dto.QTripVersion;
 import com.cosain.trilo.trip.infra.dto.TripStatistics;
+import com.cosain.trilo.trip.infra.dto.TripVersion;
+import com.cosain.trilo.trip.infra.search.TripTitleSearchIndex;
 import com.cosain.trilo.trip.presentation.trip.dto.request.TripSearchRequest;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
@@ -21,6 +24,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,7 +34,14 @@ import static com.cosain.trilo.trip.domain.entity.QTrip.trip;
 @RequiredArgsConstructor
 public class QuerydslTripQueryRepository {
 
+    /**
+     * 제목 검색 시 색인 후보를 한 번에 몇 배수로 읽어올 지 (상태 조건/실제 포함 여부로 걸러지는 후보를 감안)
+     */
+    private static final int CANDIDATE_BATCH_FACTOR = 4;
+    private static final int MIN_CANDIDATE_BATCH_SIZE = 100;
+
     private final JPAQueryFactory query;
+    private final TripTitleSearchIndex tripTitleSearchIndex;
 
     /**
      * Entity 가 아닌 DTO 로 필요한 속성들만 조회, 프로젝션 활용
@@ -47,6 +58,16 @@ public class QuerydslTripQueryRepository {
                 .fetchOne());
     }
 
+    /**
+     * 여행의 버전만 PK 로 조회합니다. (ETag 비교용)
+     */
+    public Optional<TripVersion> findTripVersionById(Long tripId) {
+        return Optional.ofNullable(query.select(new QTripVersion(trip.id, trip.version))
+                .from(trip)
+                .where(trip.id.eq(tripId))
+                .fetchOne());
+    }
+
     public TripListSearchResult findTripSummariesByTripperId(TripListQueryParam queryParam) {
         List<TripListSearchResult.TripSummary> result = query.select(new QTripListSearchResult_TripSummary(trip.id, trip.tripperId, trip.tripTitle.value, trip.status, trip.tripPeriod.startDate, trip.tripPeriod.endDate, trip.tripImage.fileName))
                 .from(trip)
@@ -87,7 +108,7 @@ public class QuerydslTripQueryRepository {
     public TripStatistics findTripStaticsByTripperId(Long tripperId, LocalDate today) {
         JPQLQuery<Long> subQuery = JPAExpressions.select(trip.count())
                 .from(trip)
-                .where(trip.tripPeriod.endDate.before(today));
+                .where(trip.tripperId.eq(tripperId), trip.tripPeriod.endDate.before(today));
 
         TripStatistics tripStatistics = query.select(new QTripStatistics(trip.count(), subQuery))
                 .from(trip)
@@ -98,41 +119,92 @@ public class QuerydslTripQueryRepository {
     }
 
     public TripSearchResponse findTripWithSearchCondition(TripSearchRequest request){
+        List<TripSearchResponse.TripSummary> result = isTitleIndexApplicable(request)
+                ? findTripSummariesByTitleIndex(request)
+                : findTripSummaries(request, null, request.getSize() + 1);
+
+        boolean hasNext = isHasNext(result, request.getSize());
+        return TripSearchResponse.of(hasNext, result);
+    }
+
+    /**
+     * <p>색인 후보는 id 내림차순으로만 이어 읽을 수 있으므로 최신순 조회에만 사용합니다.</p>
+     * <p>좋아요순은 (trip_like_count, trip_id) 인덱스를 역순으로 읽으면서 제목 조건을 확인하고, size + 1 개를 채우면 멈춥니다.</p>
+     */
+    private boolean isTitleIndexApplicable(TripSearchRequest request) {
+        return request.getSortType() == TripSearchRequest.SortType.RECENT && tripTitleSearchIndex.isSearchable(request.getQuery());
+    }
+
+    /**
+     * <p>제목 검색 색인에서 후보 여행 id 를 커서(tripId) 기준 내림차순으로 나누어 가져오고, 후보 안에서만 기존 조건으로 조회합니다.</p>
+     * <p>후보 중 상태 조건이나 실제 포함 여부로 걸러지는 여행이 있을 수 있으므로, size + 1 개를 채우거나 후보가 떨어질 때까지 반복합니다.
+     * 후보를 id 내림차순으로 이어 읽으므로 결과 순서와 커서 의미는 LIKE 검색과 같습니다.</p>
+     */
+    private List<TripSearchResponse.TripSummary> findTripSummariesByTitleIndex(TripSearchRequest request) {
+        int limit = request.getSize() + 1;
+        int candidateBatchSize = Math.max(limit * CANDIDATE_BATCH_FACTOR, MIN_CANDIDATE_BATCH_SIZE);
+
+        List<TripSearchResponse.TripSummary> result = new ArrayList<>();
+        Long candidateCursor = request.getTripId();
+        while (result.size() < limit) {
+            List<Long> candidateTripIds = tripTitleSearchIndex.findCandidateTripIds(request.getQuery(), candidateCursor, candidateBatchSize);
+            if (candidateTripIds.isEmpty()) {
+                break;
+            }
+            result.addAll(findTripSummaries(request, trip.id.in(candidateTripIds), limit - result.size()));
+
+            if (candidateTripIds.size() < candidateBatchSize) {
+                break;
+            }
+            candidateCursor = candidateTripIds.get(candidateTripIds.size() - 1);
+        }
+        return result;
+    }
 
-        List<TripSearchResponse.TripSummary> result = query.select(new QTripSearchResponse_TripSummary(trip.id, trip.tripperId, trip.tripPeriod.startDate, trip.tripPeriod.endDate, trip.tripTitle.value, trip.tripImage.fileName))
+    private List<TripSearchResponse.TripSummary> findTripSummaries(TripSearchRequest request, BooleanExpression candidates, long limit) {
+        return query.select(new QTripSearchResponse_TripSummary(trip.id, trip.tripperId, trip.tripPeriod.startDate, trip.tripPeriod.endDate, trip.tripTitle.value, trip.tripImage.fileName, trip.likeCount))
                 .from(trip)
                 .where(
+                        candidates,
                         decideOrFinished(),
                         containsQuery(request.getQuery()),
-                        cursor(request.getSortType(), request.getTripId())
+                        cursor(request)
                 )
                 .orderBy(makeOrderSpecifiers(request.getSortType()))
-                .limit(request.getSize() + 1)
+                .limit(limit)
                 .fetch();
-
-        boolean hasNext = isHasNext(result, request.getSize());
-        return TripSearchResponse.of(hasNext, result);
     }
 
     /**
      * 동적 정렬
      * 최신순 : default
-     * TODO : 좋아요 많은 순
+     * 좋아요 많은 순 : (좋아요 수 desc, id desc), idx_like_count(trip_like_count, trip_id) 를 역순으로 읽음
      */
-    private OrderSpecifier<?> makeOrderSpecifiers(TripSearchRequest.SortType sortType){
+    private OrderSpecifier<?>[] makeOrderSpecifiers(TripSearchRequest.SortType sortType){
         return switch (sortType) {
-            case RECENT -> new OrderSpecifier<>(Order.DESC, trip.id);
-            default -> new OrderSpecifier<>(Order.DESC, trip.id);
+            case LIKE -> new OrderSpecifier<?>[]{new OrderSpecifier<>(Order.DESC, trip.likeCount), new OrderSpecifier<>(Order.DESC, trip.id)};
+            case RECENT -> new OrderSpecifier<?>[]{new OrderSpecifier<>(Order.DESC, trip.id)};
         };
     }
 
-    private BooleanExpression cursor(TripSearchRequest.SortType sortType, Long tripId) {
-        return switch (sortType) {
-            case RECENT -> ltTripId(tripId);
-            default -> ltTripId(tripId);
+    private BooleanExpression cursor(TripSearchRequest request) {
+        return switch (request.getSortType()) {
+            case LIKE -> likeCursor(request.getLikeCount(), request.getTripId());
+            case RECENT -> ltTripId(request.getTripId());
         };
     }
 
+    /**
+     * 좋아요순 복합 키셋 커서 : (좋아요 수, id) 가 직전 페이지 마지막 여행보다 뒤에 오는 여행들
+     */
+    private BooleanExpression likeCursor(Long likeCount, Long tripId) {
+        if (likeCount == null || tripId == null) {
+            return null;
+        }
+        return trip.likeCount.lt(likeCount)
+                .or(trip.likeCount.eq(likeCount).and(trip.id.lt(tripId)));
+    }
+
 
     private BooleanExpression decideOrFinished(){
         return trip.status.in(TripStatus.DECIDED, TripStatus.FINISHED);
@@ -0,0 +1,22 @@
+package com.cosain.trilo.trip.infra.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+import java.io.Serializable;
+
+/**
+ * 여행 id 와 여행의 현재 버전
+ */
+@Getter
+public class TripVersion implements Serializable {
+
+    private final Long tripId;
+    private final Long version;
+
+    @QueryProjection
+    public TripVersion(Long tripId, Long version) {
+        this.tripId = tripId;
+        this.version = version;
+    }
+}
@@ -0,0 +1,165 @@
+package com.cosain.trilo.trip.infra.like;
+
+import com.cosain.trilo.trip.application.trip.service.trip_like.TripLikeCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>좋아요 수 증감을 서버 메모리에 여행별로 합산해 두었다가, 주기적으로 trip.trip_like_count 에 한 번에 반영하는 카운터입니다.</p>
+ * <ul>
+ *     <li>좋아요 요청은 메모리 합산만 하므로 trip 행을 잠그지 않습니다. 인기 여행에 좋아요가 몰려도 반영 주기마다 한 번의 UPDATE 로 합쳐집니다.</li>
+ *     <li>반영은 trip_id 순으로 정렬해 작은 트랜잭션 단위로 나누어 수행하므로, 여러 서버 인스턴스가 동시에 반영해도 교착 상태가 생기지 않고 잠금도 짧게 유지됩니다.</li>
+ *     <li>반영에 실패한 증감은 다시 메모리에 합산하여 다음 주기에 재시도합니다.</li>
+ *     <li>애플리케이션 종료 시 남은 증감을 반영합니다. 비정상 종료 시에는 최대 반영 주기만큼의 증감이 유실될 수 있으며, 좋아요 여부의 원본은 trip_like 입니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class WriteBehindTripLikeCounter implements TripLikeCounter, DisposableBean {
+
+    private static final String METRIC_PREFIX = "trip.like-counter";
+
+    private static final String FLUSH_SQL = "UPDATE trip SET trip_like_count = trip_like_count + ? WHERE trip_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+
+    /**
+     * 한 트랜잭션에서 반영할 최대 여행 수
+     */
+    private final int flushBatchSize;
+
+    /**
+     * 아직 반영되지 않은 여행별 좋아요 수 증감
+     */
+    private final Map<Long, Long> pendingDeltas = new ConcurrentHashMap<>();
+
+    private final Counter flushedTripCounter;
+    private final Counter flushFailureCounter;
+    private final Timer flushTimer;
+
+    public WriteBehindTripLikeCounter(
+            JdbcTemplate jdbcTemplate,
+            TransactionOperations transactionOperations,
+            MeterRegistry meterRegistry,
+            @Value("${trip.like-counter.flush-batch-size:100}") int flushBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.flushBatchSize = flushBatchSize;
+
+        this.flushedTripCounter = Counter.builder(METRIC_PREFIX + ".flushed-trips")
+                .description("좋아요 수를 반영한 여행(UPDATE 행) 수")
+                .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder(METRIC_PREFIX + ".flush-failures")
+                .description("좋아요 수 반영에 실패하여 다음 주기로 미룬 횟수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder(METRIC_PREFIX + ".flush")
+                .description("좋아요 수 반영 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".pending-trips", pendingDeltas, Map::size)
+                .description("반영 대기 중인 여행 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void increment(Long tripId) {
+        addAfterCommit(tripId, 1L);
+    }
+
+    @Override
+    public void decrement(Long tripId) {
+        addAfterCommit(tripId, -1L);
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋된 뒤에, 아니면 즉시 증감을 합산합니다. (롤백된 좋아요가 좋아요 수에 반영되지 않도록)
+     */
+    private void addAfterCommit(Long tripId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(tripId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(tripId, delta);
+            }
+        });
+    }
+
+    private void add(Long tripId, long delta) {
+        pendingDeltas.merge(tripId, delta, Long::sum);
+    }
+
+    /**
+     * 모아둔 증감을 trip.trip_like_count 에 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${trip.like-counter.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        List<Object[]> updates = drain();
+        if (updates.isEmpty()) {
+            return;
+        }
+        flushTimer.record(() -> {
+            for (int from = 0; from < updates.size(); from += flushBatchSize) {
+                List<Object[]> batch = updates.subList(from, Math.min(from + flushBatchSize, updates.size()));
+                flushBatch(batch);
+            }
+        });
+    }
+
+    private void flushBatch(List<Object[]> batch) {
+        try {
+            transactionOperations.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+            flushedTripCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            log.warn("좋아요 수 반영 실패, 다음 주기에 재시도 : {}건", batch.size(), e);
+            flushFailureCounter.increment();
+            batch.forEach(update -> add((Long) update[1], (Long) update[0]));
+        }
+    }
+
+    /**
+     * 여행별 증감을 꺼내 (증감, tripId) 목록으로 만듭니다. 잠금 순서를 맞추기 위해 trip_id 순으로 정렬합니다.
+     */
+    private List<Object[]> drain() {
+        List<Object[]> updates = new ArrayList<>();
+        for (Long tripId : pendingDeltas.keySet()) {
+            Long delta = pendingDeltas.remove(tripId);
+            if (delta != null && delta != 0L) {
+                updates.add(new Object[]{delta, tripId});
+            }
+        }
+        updates.sort(Comparator.comparing(update -> (Long) update[1]));
+        return updates;
+    }
+
+    /**
+     * 반영 대기 중인 여행의 좋아요 수 증감을 조회합니다.
+     */
+    public long pendingDelta(Long tripId) {
+        return pendingDeltas.getOrDefault(tripId, 0L);
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+}
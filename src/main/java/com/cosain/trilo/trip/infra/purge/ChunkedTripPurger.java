@@ -0,0 +1,276 @@
+package com.cosain.trilo.trip.infra.purge;
+
+import com.cosain.trilo.trip.application.event.TripDeletedEvent;
+import com.cosain.trilo.trip.application.trip.service.trip_all_delete.TripPurger;
+import com.cosain.trilo.trip.infra.statistics.TripStatisticsStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * <p>사용자(여행자)의 여행을 trip_id 순으로 chunkSize 개씩 나누어, 짧은 트랜잭션 여러 개로 삭제하는 {@link TripPurger} 입니다.</p>
+ * <ul>
+ *     <li>여행 id 는 (tripper_id, trip_id) 키셋으로 한 묶음씩만 읽으므로, 사용자의 여행 수와 관계없이 메모리에는 한 묶음만 올라갑니다.</li>
+ *     <li>한 묶음은 일정 -> Day -> 좋아요/제목 색인 -> 여행 순서로 지웁니다. 여행 외의 행은 rowLimit 개씩 잘라 각각 커밋하므로,
+ *     한 트랜잭션이 지우는 행 수는 max(rowLimit, chunkSize) 를 넘지 않습니다.</li>
+ *     <li>트랜잭션 사이에는 throttleMillis 만큼 쉬어, 복제 지연과 언두 로그 정리가 따라올 수 있게 합니다.</li>
+ *     <li>진행 위치(마지막으로 삭제한 여행 id)는 trip_purge_progress 에 여행 삭제와 같은 트랜잭션으로 기록합니다.
+ *     중간에 서버가 죽으면 일부 일정/Day 만 지워진 묶음이 남을 수 있지만, 다시 실행하면 그 묶음부터 이어서 지웁니다.
+ *     (삭제는 몇 번을 다시 실행해도 결과가 같음)</li>
+ *     <li>진행 기록이 stalledAfterSeconds 동안 갱신되지 않은 사용자는 주기적으로 찾아 이어서 삭제합니다.
+ *     여러 서버가 같은 사용자를 찾더라도, 진행 기록의 갱신 시각을 조건부로 먼저 바꾼 한 서버만 이어서 삭제합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ChunkedTripPurger implements TripPurger {
+
+    private static final String METRIC_PREFIX = "trip.purge";
+
+    /**
+     * 한 주기에 이어서 삭제할 최대 사용자 수
+     */
+    private static final int RESUME_BATCH_SIZE = 10;
+
+    /**
+     * 진행 기록을 만들거나, 이미 있으면 갱신 시각만 새로 씁니다. (이어서 삭제하는 경우 기존 진행 위치를 유지)
+     */
+    private static final String CLAIM_SQL = """
+            INSERT INTO trip_purge_progress (tripper_id, last_trip_id, purged_trip_cnt, updated_at)
+            VALUES (?, 0, 0, NOW())
+            ON DUPLICATE KEY UPDATE updated_at = NOW()
+            """;
+
+    private static final String FIND_LAST_TRIP_ID_SQL = "SELECT last_trip_id FROM trip_purge_progress WHERE tripper_id = ?";
+
+    private static final String FIND_TRIP_IDS_SQL =
+            "SELECT trip_id FROM trip WHERE tripper_id = ? AND trip_id > ? ORDER BY trip_id LIMIT ?";
+
+    private static final String SAVE_PROGRESS_SQL = """
+            UPDATE trip_purge_progress
+            SET last_trip_id = ?, purged_trip_cnt = purged_trip_cnt + ?, updated_at = NOW()
+            WHERE tripper_id = ?
+            """;
+
+    private static final String FINISH_SQL = "DELETE FROM trip_purge_progress WHERE tripper_id = ?";
+
+    private static final String FIND_STALLED_TRIPPER_IDS_SQL = """
+            SELECT tripper_id FROM trip_purge_progress
+            WHERE updated_at < NOW() - INTERVAL ? SECOND
+            ORDER BY updated_at
+            LIMIT ?
+            """;
+
+    /**
+     * 아직 중단된 상태일 때만 갱신 시각을 새로 써서 이어서 삭제할 권리를 가져옵니다. (먼저 바꾼 서버만 1행이 갱신됨)
+     */
+    private static final String CLAIM_STALLED_SQL = """
+            UPDATE trip_purge_progress SET updated_at = NOW()
+            WHERE tripper_id = ? AND updated_at < NOW() - INTERVAL ? SECOND
+            """;
+
+    /**
+     * 여행보다 먼저 rowLimit 개씩 나누어 지울 테이블 (외래 키 순서: 일정 -> Day, 좋아요/제목 색인은 외래 키 없음)
+     */
+    private static final List<String> DEPENDENT_TABLES = List.of("schedules", "days", "trip_like", "trip_title_ngram");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final TripStatisticsStore tripStatisticsStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 한 번에 읽어 삭제할 최대 여행 수
+     */
+    private final int chunkSize;
+
+    /**
+     * 여행 외의 테이블에서 한 트랜잭션에 지울 최대 행 수
+     */
+    private final int rowLimit;
+
+    /**
+     * 트랜잭션 사이에 쉬는 시간(ms)
+     */
+    private final long throttleMillis;
+
+    /**
+     * 진행 기록이 이 시간(초) 동안 갱신되지 않으면 중단된 것으로 보고 이어서 삭제합니다.
+     */
+    private final long stalledAfterSeconds;
+
+    /**
+     * 이 서버에서 삭제 중인 사용자 id (같은 사용자를 동시에 두 번 삭제하지 않도록)
+     */
+    private final Set<Long> runningTripperIds = ConcurrentHashMap.newKeySet();
+
+    private final Counter purgedTripCounter;
+    private final Counter resumedCounter;
+    private final Counter resumeFailureCounter;
+    private final DistributionSummary chunkTripsSummary;
+    private final DistributionSummary rowsPerTransactionSummary;
+
+    public ChunkedTripPurger(
+            JdbcTemplate jdbcTemplate,
+            TransactionOperations transactionOperations,
+            TripStatisticsStore tripStatisticsStore,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${trip.purge.chunk-size:100}") int chunkSize,
+            @Value("${trip.purge.row-limit:1000}") int rowLimit,
+            @Value("${trip.purge.throttle-ms:20}") long throttleMillis,
+            @Value("${trip.purge.stalled-after-seconds:300}") long stalledAfterSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.tripStatisticsStore = tripStatisticsStore;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.rowLimit = rowLimit;
+        this.throttleMillis = throttleMillis;
+        this.stalledAfterSeconds = stalledAfterSeconds;
+
+        this.purgedTripCounter = Counter.builder(METRIC_PREFIX + ".purged-trips")
+                .description("삭제한 여행 수")
+                .register(meterRegistry);
+        this.resumedCounter = Counter.builder(METRIC_PREFIX + ".resumed")
+                .description("중단된 삭제를 가져와 이어서 진행한 사용자 수")
+                .register(meterRegistry);
+        this.resumeFailureCounter = Counter.builder(METRIC_PREFIX + ".resume-failures")
+                .description("중단된 삭제를 이어서 진행하다 실패한 횟수")
+                .register(meterRegistry);
+        this.chunkTripsSummary = DistributionSummary.builder(METRIC_PREFIX + ".chunk-trips")
+                .description("한 번에 읽어 삭제한 여행 수")
+                .register(meterRegistry);
+        this.rowsPerTransactionSummary = DistributionSummary.builder(METRIC_PREFIX + ".rows-per-transaction")
+                .description("삭제 트랜잭션 하나가 지운 행 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public long purgeAllByTripperId(Long tripperId) {
+        if (!runningTripperIds.add(tripperId)) {
+            log.info("이미 삭제 중인 사용자의 여행 삭제 요청 무시 : tripperId = {}", tripperId);
+            return 0L;
+        }
+        try {
+            return purge(tripperId);
+        } finally {
+            runningTripperIds.remove(tripperId);
+        }
+    }
+
+    private long purge(Long tripperId) {
+        jdbcTemplate.update(CLAIM_SQL, tripperId);
+        long lastTripId = jdbcTemplate.queryForObject(FIND_LAST_TRIP_ID_SQL, Long.class, tripperId);
+
+        long purgedTrips = 0L;
+        while (true) {
+            List<Long> tripIds = jdbcTemplate.queryForList(FIND_TRIP_IDS_SQL, Long.class, tripperId, lastTripId, chunkSize);
+            if (tripIds.isEmpty()) {
+                break;
+            }
+            chunkTripsSummary.record(tripIds.size());
+            boolean completed = purgeChunk(tripperId, tripIds);
+            if (completed) {
+                lastTripId = tripIds.get(tripIds.size() - 1);
+                purgedTrips += tripIds.size();
+            }
+            if (!completed || !pause()) {
+                log.info("여행 삭제 중단, 다음에 이어서 삭제 : tripperId = {}, lastTripId = {}", tripperId, lastTripId);
+                return purgedTrips;
+            }
+        }
+
+        transactionOperations.executeWithoutResult(status -> {
+            tripStatisticsStore.removeByTripperId(tripperId);
+            jdbcTemplate.update(FINISH_SQL, tripperId);
+        });
+        log.info("사용자 여행 삭제 완료 : tripperId = {}, 삭제한 여행 수 = {}", tripperId, purgedTrips);
+        return purgedTrips;
+    }
+
+    /**
+     * 여행 묶음을 딸린 행부터 나누어 지우고, 마지막으로 여행과 진행 위치를 한 트랜잭션으로 기록합니다.
+     * @return 끝까지 지웠으면 true, 딸린 행을 지우며 쉬는 도중 인터럽트되어 멈췄으면 false
+     */
+    private boolean purgeChunk(Long tripperId, List<Long> tripIds) {
+        String placeholders = tripIds.stream().map(id -> "?").collect(Collectors.joining(", "));
+        List<Object> limitedArgs = new ArrayList<>(tripIds);
+        limitedArgs.add(rowLimit);
+
+        for (String table : DEPENDENT_TABLES) {
+            String sql = "DELETE FROM " + table + " WHERE trip_id IN (" + placeholders + ") LIMIT ?";
+            int deleted;
+            do {
+                deleted = transactionOperations.execute(status -> jdbcTemplate.update(sql, limitedArgs.toArray()));
+                rowsPerTransactionSummary.record(deleted);
+                if (!pause()) {
+                    return false;
+                }
+            } while (deleted == rowLimit);
+        }
+
+        Long lastTripId = tripIds.get(tripIds.size() - 1);
+        int deletedTrips = transactionOperations.execute(status -> {
+            int deleted = jdbcTemplate.update("DELETE FROM trip WHERE trip_id IN (" + placeholders + ")", tripIds.toArray());
+            jdbcTemplate.update(SAVE_PROGRESS_SQL, lastTripId, deleted, tripperId);
+            eventPublisher.publishEvent(new TripDeletedEvent(tripIds));
+            return deleted;
+        });
+        rowsPerTransactionSummary.record(deletedTrips);
+        purgedTripCounter.increment(deletedTrips);
+        return true;
+    }
+
+    /**
+     * 다음 트랜잭션 전에 throttleMillis 만큼 쉽니다.
+     * @return 인터럽트되었으면 false
+     */
+    private boolean pause() {
+        if (throttleMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(throttleMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * <p>진행 기록이 오래 갱신되지 않은(삭제 도중 서버가 죽은) 사용자를 찾아 이어서 삭제합니다.</p>
+     * <p>다른 서버가 먼저 가져간 사용자는 갱신 시각이 바뀌어 조건부 갱신에 실패하므로 건너뜁니다.</p>
+     */
+    @Scheduled(fixedDelayString = "${trip.purge.resume-interval-ms:60000}")
+    public void resumeStalled() {
+        List<Long> tripperIds = jdbcTemplate.queryForList(FIND_STALLED_TRIPPER_IDS_SQL, Long.class, stalledAfterSeconds, RESUME_BATCH_SIZE);
+        for (Long tripperId : tripperIds) {
+            if (jdbcTemplate.update(CLAIM_STALLED_SQL, tripperId, stalledAfterSeconds) == 0) {
+                log.debug("다른 서버가 먼저 이어서 삭제 중 : tripperId = {}", tripperId);
+                continue;
+            }
+            resumedCounter.increment();
+            try {
+                purgeAllByTripperId(tripperId);
+            } catch (RuntimeException e) {
+                resumeFailureCounter.increment();
+                log.warn("중단된 여행 삭제 재개 실패 : tripperId = {}", tripperId, e);
+            }
+        }
+    }
+}
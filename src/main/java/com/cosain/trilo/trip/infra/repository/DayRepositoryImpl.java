@@ -6,6 +6,7 @@ import com.cosain.trilo.trip.infra.repository.jpa.JpaDayRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -64,4 +65,22 @@ public class DayRepositoryImpl implements DayRepository {
     public void deleteAllByTripIds(List<Long> tripIds) {
         jpaDayRepository.deleteAllByTripIds(tripIds);
     }
+
+    @Override
+    public boolean increaseScheduleCount(Long dayId) {
+        return jpaDayRepository.increaseScheduleCountIfLessThan(dayId, Day.MAX_DAY_SCHEDULE_COUNT) == 1;
+    }
+
+    @Override
+    public void decreaseScheduleCount(Long dayId) {
+        jpaDayRepository.decreaseScheduleCount(dayId);
+    }
+
+    @Override
+    public void refreshScheduleCounts(Collection<Long> dayIds) {
+        if (dayIds.isEmpty()) {
+            return;
+        }
+        jpaDayRepository.refreshScheduleCounts(dayIds);
+    }
 }
@@ -1,13 +1,21 @@
 package com.cosain.trilo.trip.infra.repository;
 
+import com.cosain.trilo.trip.domain.dto.ScheduleMoveNeighbors;
+import com.cosain.trilo.trip.domain.dto.SchedulePosition;
 import com.cosain.trilo.trip.domain.entity.Schedule;
 import com.cosain.trilo.trip.domain.repository.ScheduleRepository;
+import com.cosain.trilo.trip.domain.vo.ScheduleIndex;
 import com.cosain.trilo.trip.infra.repository.jpa.JpaScheduleRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.repository.query.Param;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -23,6 +31,11 @@ public class ScheduleRepositoryImpl implements ScheduleRepository {
      */
     private final JpaScheduleRepository jpaScheduleRepository;
 
+    /**
+     * 여러 일정의 위치를 한 번에 변경할 때 사용하는 JdbcTemplate
+     */
+    private final JdbcTemplate jdbcTemplate;
+
     @Override
     public Schedule save(Schedule schedule) {
         return jpaScheduleRepository.save(schedule);
@@ -55,6 +68,40 @@ public class ScheduleRepositoryImpl implements ScheduleRepository {
         return jpaScheduleRepository.relocateDaySchedules(tripId, dayId);
     }
 
+    @Override
+    public Long findMinScheduleIndexGap(Long tripId, Long dayId) {
+        return jpaScheduleRepository.findMinScheduleIndexGap(tripId, dayId);
+    }
+
+    /**
+     * 일정을 Day또는 임시보관함의 지정 순서로 옮길 때 필요한 도착지 정보(일정 갯수, 맨 앞/맨 뒤, 대상 순서 주변의 순서값)만 조회합니다.
+     * @param tripId 소속된 Trip의 Id
+     * @param dayId 도착지 Day의 Id(null일 경우 임시보관함으로 간주)
+     * @param scheduleId 옮길 일정의 Id
+     * @param targetOrder 대상 순서
+     * @return 도착지 정보
+     */
+    @Override
+    public ScheduleMoveNeighbors findScheduleMoveNeighbors(Long tripId, Long dayId, Long scheduleId, int targetOrder) {
+        List<Object[]> rows = (dayId == null)
+                ? jpaScheduleRepository.findTemporaryStorageScheduleMoveNeighbors(tripId, scheduleId, targetOrder)
+                : jpaScheduleRepository.findDayScheduleMoveNeighbors(dayId, scheduleId, targetOrder);
+
+        // 행 : (일정 id, 순서값, 순서 키, 순서, 일정 갯수)
+        int scheduleCount = 0;
+        Integer currentOrder = null;
+        Map<Integer, ScheduleIndex> indexByOrder = new HashMap<>();
+        for (Object[] row : rows) {
+            int order = ((Number) row[3]).intValue();
+            scheduleCount = ((Number) row[4]).intValue();
+            indexByOrder.put(order, ScheduleIndex.of(((Number) row[1]).longValue(), (String) row[2]));
+            if (scheduleId.equals(((Number) row[0]).longValue())) {
+                currentOrder = order;
+            }
+        }
+        return ScheduleMoveNeighbors.of(scheduleCount, currentOrder, indexByOrder, targetOrder);
+    }
+
     /**
      * 전달받은 Day들에 속한 일정들을 여행의 임시보관함 맨 뒤로 옮깁니다.
      * @param tripId 여행의 id
@@ -81,6 +128,45 @@ public class ScheduleRepositoryImpl implements ScheduleRepository {
         return jpaScheduleRepository.findDayScheduleCount(dayId);
     }
 
+    @Override
+    public Map<Long, Long> findScheduleDayIds(Long tripId) {
+        // 행 : (일정 id, Day id) -> 임시보관함의 일정은 Day id 가 null 이므로 Collectors.toMap 대신 직접 담음
+        Map<Long, Long> dayIdBySchedule = new HashMap<>();
+        for (Object[] row : jpaScheduleRepository.findScheduleDayIds(tripId)) {
+            dayIdBySchedule.put((Long) row[0], (Long) row[1]);
+        }
+        return dayIdBySchedule;
+    }
+
+    /**
+     * <p>일정들의 Day와 순서값을 한 번의 일괄(batch) 갱신으로 변경합니다. 여행에 속하지 않은 일정은 변경되지 않습니다.</p>
+     * <p>영속성 컨텍스트를 거치지 않으므로, 호출 전에 조회해둔 일정 엔티티는 변경 내용을 반영하지 않습니다.</p>
+     * @param tripId 여행의 id
+     * @param positions 일정마다 놓일 위치
+     * @return 변경된 일정의 갯수
+     */
+    @Override
+    public int updateSchedulePositions(Long tripId, List<SchedulePosition> positions) {
+        if (positions.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> params = positions.stream()
+                .map(position -> new Object[]{
+                        position.getDayId(),
+                        position.getScheduleIndex().getValue(),
+                        position.getScheduleIndex().getOrderKey(),
+                        position.getScheduleId(),
+                        tripId})
+                .toList();
+        int[] updateCounts = jdbcTemplate.batchUpdate(
+                "UPDATE schedules SET day_id = ?, schedule_index = ?, schedule_order_key = ? WHERE schedule_id = ? AND trip_id = ?", params);
+
+        // 드라이버가 문장을 합쳐 보내면 문장별 갯수 대신 SUCCESS_NO_INFO 를 돌려줄 수 있음
+        return Arrays.stream(updateCounts)
+                .map(count -> count == Statement.SUCCESS_NO_INFO ? 1 : count)
+                .sum();
+    }
+
     @Override
     public void delete(Schedule schedule) {
         jpaScheduleRepository.delete(schedule);
@@ -0,0 +1,46 @@
+package com.cosain.trilo.trip.infra.repository;
+
+import com.cosain.trilo.trip.domain.repository.TripLikeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * <p>여행 좋아요 리포지토리 구현체입니다.</p>
+ * <p>trip_like 는 trip 에 외래 키를 두지 않습니다. 외래 키가 있으면 좋아요 INSERT 마다 부모 trip 행에 공유 잠금이 걸려,
+ * 인기 여행에 좋아요가 몰릴 때 좋아요 수 반영(UPDATE)과 잠금을 주고받게 되기 때문입니다. 여행 삭제 시에는 서비스에서 좋아요를 함께 삭제합니다.</p>
+ * @see TripLikeRepository
+ */
+@Component
+@RequiredArgsConstructor
+public class TripLikeRepositoryImpl implements TripLikeRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean save(Long tripId, Long userId) {
+        return jdbcTemplate.update("INSERT IGNORE INTO trip_like (trip_id, user_id) VALUES (?, ?)", tripId, userId) == 1;
+    }
+
+    @Override
+    public boolean delete(Long tripId, Long userId) {
+        return jdbcTemplate.update("DELETE FROM trip_like WHERE trip_id = ? AND user_id = ?", tripId, userId) == 1;
+    }
+
+    @Override
+    public void deleteAllByTripId(Long tripId) {
+        jdbcTemplate.update("DELETE FROM trip_like WHERE trip_id = ?", tripId);
+    }
+
+    @Override
+    public void deleteAllByTripIds(List<Long> tripIds) {
+        if (tripIds.isEmpty()) {
+            return;
+        }
+        String placeholders = tripIds.stream().map(id -> "?").collect(Collectors.joining(", "));
+        jdbcTemplate.update("DELETE FROM trip_like WHERE trip_id IN (" + placeholders + ")", tripIds.toArray());
+    }
+}
@@ -3,6 +3,8 @@ package com.cosain.trilo.trip.infra.repository;
 import com.cosain.trilo.trip.domain.entity.Trip;
 import com.cosain.trilo.trip.domain.repository.TripRepository;
 import com.cosain.trilo.trip.infra.repository.jpa.JpaTripRepository;
+import com.cosain.trilo.trip.infra.search.TripTitleSearchIndex;
+import com.cosain.trilo.trip.infra.statistics.TripStatisticsStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -22,6 +24,16 @@ public class TripRepositoryImpl implements TripRepository {
      */
     private final JpaTripRepository jpaTripRepository;
 
+    /**
+     * 여행 제목 검색 색인 (벌크 삭제 시 엔티티 이벤트가 없으므로 직접 정리)
+     */
+    private final TripTitleSearchIndex tripTitleSearchIndex;
+
+    /**
+     * 사용자별 여행 통계 (벌크 삭제 시 엔티티 이벤트가 없으므로 직접 정리)
+     */
+    private final TripStatisticsStore tripStatisticsStore;
+
     /**
      * <p>여행을 저장하고, 저장된 여행을 반환합니다. </p>
      * @param trip : 저장할 여행
@@ -71,6 +83,28 @@ public class TripRepositoryImpl implements TripRepository {
 
     @Override
     public void deleteAllByTripperId(Long tripperId) {
+        tripTitleSearchIndex.removeAllByTripperId(tripperId);
+        tripStatisticsStore.removeByTripperId(tripperId);
         jpaTripRepository.deleteAllByTripperId(tripperId);
     }
+
+    @Override
+    public void increaseVersion(Long tripId) {
+        jpaTripRepository.increaseVersion(tripId);
+    }
+
+    @Override
+    public boolean increaseVersion(Long tripId, long expectedVersion) {
+        return jpaTripRepository.increaseVersionIfMatches(tripId, expectedVersion) == 1;
+    }
+
+    @Override
+    public boolean increaseScheduleCount(Long tripId) {
+        return jpaTripRepository.increaseScheduleCountIfLessThan(tripId, Trip.MAX_TRIP_SCHEDULE_COUNT) == 1;
+    }
+
+    @Override
+    public void decreaseScheduleCount(Long tripId) {
+        jpaTripRepository.decreaseScheduleCount(tripId);
+    }
 }
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,4 +46,31 @@ public interface JpaDayRepository extends JpaRepository<Day, Long> {
     @Modifying
     @Query("DELETE FROM Day as d WHERE d.trip.id in :tripIds")
     void deleteAllByTripIds(@Param("tripIds") List<Long> tripIds);
+
+    /**
+     * <p>Day의 일정 수가 제한보다 작을 때만 일정 수를 1 증가시킵니다.</p>
+     * <p>조건 검사와 증가가 한 문장에서 일어나므로, 동시에 일정을 넣어도 제한을 넘을 수 없습니다.</p>
+     * @param dayId Day의 식별자(id)
+     * @param limit Day가 가질 수 있는 최대 일정 수
+     * @return 변경된 행의 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = "UPDATE days SET day_schedule_count = day_schedule_count + 1 WHERE day_id = :dayId AND day_schedule_count < :limit", nativeQuery = true)
+    int increaseScheduleCountIfLessThan(@Param("dayId") Long dayId, @Param("limit") int limit);
+
+    /**
+     * Day의 일정 수를 1 감소시킵니다. (0 아래로는 내려가지 않음)
+     * @param dayId Day의 식별자(id)
+     */
+    @Modifying
+    @Query(value = "UPDATE days SET day_schedule_count = day_schedule_count - 1 WHERE day_id = :dayId AND day_schedule_count > 0", nativeQuery = true)
+    void decreaseScheduleCount(@Param("dayId") Long dayId);
+
+    /**
+     * 전달받은 Day들의 일정 수를, 실제로 속한 일정의 수로 다시 계산합니다.
+     * @param dayIds 일정 수를 다시 계산할 Day의 id들
+     */
+    @Modifying
+    @Query(value = "UPDATE days d SET d.day_schedule_count = (SELECT COUNT(*) FROM schedules s WHERE s.day_id = d.day_id) WHERE d.day_id IN (:dayIds)", nativeQuery = true)
+    void refreshScheduleCounts(@Param("dayIds") Collection<Long> dayIds);
 }
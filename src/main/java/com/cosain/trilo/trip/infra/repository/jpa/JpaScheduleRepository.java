@@ -28,7 +28,11 @@ public interface JpaScheduleRepository extends JpaRepository<Schedule, Long> {
     Optional<Schedule> findByIdWithTrip(@Param("scheduleId") Long scheduleId);
 
     /**
-     * Day또는 임시보관함의 일정들의 순서값을 일괄 재배치합니다.
+     * <p>Day또는 임시보관함의 일정들의 순서값을 일괄 재배치합니다.</p>
+     * <p>순서값 오름차순으로 행 번호를 한 번에 매긴 뒤(ROW_NUMBER), 0, 1000만, 2000만, ... 으로 다시 부여합니다.
+     * 행 번호는 한 번만 계산되므로 일정 수에 비례하는 시간이 걸립니다. (순서값이 같은 일정은 id 순으로 배치)</p>
+     * <p>순서 키는 모두 비우므로, 가변 길이 순서 키의 길이도 함께 정리됩니다.</p>
+     * <p>MySQL 8 의 UPDATE 앞 WITH 절과 윈도 함수를 사용합니다. (운영/테스트 DB 인 MySQL 에서만 검증)</p>
      *
      * @param tripId 소속된 Trip의 Id
      * @param dayId  소속된 Day의 Id(null일 경우 임시보관함으로 간주)
@@ -36,22 +40,24 @@ public interface JpaScheduleRepository extends JpaRepository<Schedule, Long> {
      */
     @Modifying(clearAutomatically = true)
     @Query(value = """
+             WITH ordered AS (
+             -- 같은 Day 또는 임시보관함의 일정들을 순서값 오름차순으로 가져오고, 각 행에 순서 번호 부여(1,2,...)
+                 SELECT
+                     s2.schedule_id,
+                     ROW_NUMBER() OVER (ORDER BY s2.schedule_index ASC, s2.schedule_order_key ASC, s2.schedule_id ASC) AS row_num
+                 FROM
+                     schedules s2
+                 WHERE
+                     s2.trip_id = :tripId
+                     AND ((:dayId IS NOT NULL AND s2.day_id = :dayId) OR (:dayId IS NULL AND s2.day_id IS NULL))
+             )
+             
              -- 일정을 갱신하라
              UPDATE schedules s
              
-             -- 일정의 순서값(ScheduleIndex)를
-             SET s.schedule_index = (
-                -- 자기 자신보다 큰 순서값을 가진 일정의 갯수에 1000만을 곱한 값으로
-               SELECT subQuery.countValue * 10000000
-               FROM (
-                 SELECT COUNT(s2.schedule_id) AS countValue
-                 FROM schedules s2
-                 
-                 -- 같은 Day 또는 임시보관함 내에서 일정 자신보다 순서값이 큰 일정의 갯수를 구함
-                 WHERE (:dayId IS NOT NULL AND s2.day_id = :dayId AND s2.schedule_index < s.schedule_index)
-                       OR (:dayId IS NULL AND s2.day_id IS NULL AND s2.trip_id = :tripId AND s2.schedule_index < s.schedule_index)
-               ) AS subQuery
-             )
+             -- 일정의 순서값(ScheduleIndex)를 (순서 번호 - 1)에 1000만을 곱한 값으로, 순서 키는 빈 문자열로
+             SET s.schedule_index = (SELECT (ordered.row_num - 1) * 10000000 FROM ordered WHERE ordered.schedule_id = s.schedule_id),
+                 s.schedule_order_key = ''
              
              -- 여행 id가 같고, DayId가 같은 일정들을(DayId가 null 이면 임시보관함의 일정으로 간주함)
              WHERE s.trip_id = :tripId
@@ -60,6 +66,79 @@ public interface JpaScheduleRepository extends JpaRepository<Schedule, Long> {
     )
     int relocateDaySchedules(@Param("tripId") Long tripId, @Param("dayId") Long dayId);
 
+    /**
+     * Day또는 임시보관함에서 이웃한 일정들 사이의 순서값 간격 중 가장 작은 값을 조회합니다.
+     *
+     * @param tripId 소속된 Trip의 Id
+     * @param dayId  소속된 Day의 Id(null일 경우 임시보관함으로 간주)
+     * @return 가장 작은 순서값 간격 (일정이 2개 미만이면 null)
+     */
+    @Query(value = """
+             SELECT MIN(gaps.gap)
+             FROM (
+                 -- 순서값 오름차순으로 바로 앞 일정과의 순서값 차이 (순서 키를 쓰는 일정은 차이가 0 또는 1)
+                 SELECT s.schedule_index - LAG(s.schedule_index) OVER (ORDER BY s.schedule_index ASC, s.schedule_order_key ASC) AS gap
+                 FROM schedules s
+                 WHERE s.trip_id = :tripId
+                   AND ((:dayId IS NOT NULL AND s.day_id = :dayId) OR (:dayId IS NULL AND s.day_id IS NULL))
+             ) gaps
+            """, nativeQuery = true
+    )
+    Long findMinScheduleIndexGap(@Param("tripId") Long tripId, @Param("dayId") Long dayId);
+
+    /**
+     * <p>Day의 일정 중, 일정 이동 위치 계산에 필요한 일정들의 순서 정보만 조회합니다.</p>
+     * <p>맨 앞, 맨 뒤, 대상 순서와 그 앞 순서의 일정, 그리고 옮길 일정(Day에 있을 때)만 반환하며,
+     * 각 행은 (일정 id, 순서값, 순서 키, 순서(0부터), Day의 일정 갯수) 입니다.</p>
+     * <p>(day_id, schedule_index, schedule_order_key) 인덱스만 읽으므로 일정 본문(TEXT)이 담긴 행은 읽지 않습니다.</p>
+     *
+     * @param dayId       Day의 id
+     * @param scheduleId  옮길 일정의 id
+     * @param targetOrder 대상 순서
+     * @return 일정 순서 정보 목록
+     */
+    @Query(value = """
+             SELECT ordered.schedule_id, ordered.schedule_index, ordered.schedule_order_key, ordered.order_num, ordered.schedule_count
+             FROM (
+                 SELECT s.schedule_id, s.schedule_index, s.schedule_order_key,
+                        ROW_NUMBER() OVER (ORDER BY s.schedule_index ASC, s.schedule_order_key ASC, s.schedule_id ASC) - 1 AS order_num,
+                        COUNT(*) OVER () AS schedule_count
+                 FROM schedules s
+                 WHERE s.day_id = :dayId
+             ) ordered
+             WHERE ordered.order_num IN (0, :targetOrder - 1, :targetOrder, ordered.schedule_count - 1)
+                OR ordered.schedule_id = :scheduleId
+            """, nativeQuery = true
+    )
+    List<Object[]> findDayScheduleMoveNeighbors(@Param("dayId") Long dayId, @Param("scheduleId") Long scheduleId,
+                                                @Param("targetOrder") int targetOrder);
+
+    /**
+     * <p>임시보관함의 일정 중, 일정 이동 위치 계산에 필요한 일정들의 순서 정보만 조회합니다.</p>
+     * <p>(trip_id, day_id, schedule_index, schedule_order_key) 인덱스만 읽으며, 반환 형식은
+     * {@link #findDayScheduleMoveNeighbors(Long, Long, int)} 와 같습니다.</p>
+     *
+     * @param tripId      여행의 id
+     * @param scheduleId  옮길 일정의 id
+     * @param targetOrder 대상 순서
+     * @return 일정 순서 정보 목록
+     */
+    @Query(value = """
+             SELECT ordered.schedule_id, ordered.schedule_index, ordered.schedule_order_key, ordered.order_num, ordered.schedule_count
+             FROM (
+                 SELECT s.schedule_id, s.schedule_index, s.schedule_order_key,
+                        ROW_NUMBER() OVER (ORDER BY s.schedule_index ASC, s.schedule_order_key ASC, s.schedule_id ASC) - 1 AS order_num,
+                        COUNT(*) OVER () AS schedule_count
+                 FROM schedules s
+                 WHERE s.trip_id = :tripId AND s.day_id IS NULL
+             ) ordered
+             WHERE ordered.order_num IN (0, :targetOrder - 1, :targetOrder, ordered.schedule_count - 1)
+                OR ordered.schedule_id = :scheduleId
+            """, nativeQuery = true
+    )
+    List<Object[]> findTemporaryStorageScheduleMoveNeighbors(@Param("tripId") Long tripId, @Param("scheduleId") Long scheduleId,
+                                                             @Param("targetOrder") int targetOrder);
+
     /**
      * 전달받은 Day들에 속한 일정들을 여행의 임시보관함 맨 뒤로 옮깁니다.
      * @param tripId 여행의 id
@@ -69,10 +148,10 @@ public interface JpaScheduleRepository extends JpaRepository<Schedule, Long> {
     @Modifying(clearAutomatically = true)
     @Query(value = """
                 WITH subquery1 AS (
-                -- 날짜 순 오름차순(같으면 schedule_index 오름차순) 가져오고, 각 행에 순서 번호 부여(1,2,...)
+                -- 날짜 순 오름차순(같으면 schedule_index, schedule_order_key 오름차순) 가져오고, 각 행에 순서 번호 부여(1,2,...)
                     SELECT
                         s2.schedule_id,
-                        ROW_NUMBER() OVER (ORDER BY d.trip_date ASC, s2.schedule_index ASC) AS row_num
+                        ROW_NUMBER() OVER (ORDER BY d.trip_date ASC, s2.schedule_index ASC, s2.schedule_order_key ASC) AS row_num
                     FROM
                         schedules s2
                         JOIN days d ON s2.day_id = d.day_id
@@ -101,7 +180,10 @@ public interface JpaScheduleRepository extends JpaRepository<Schedule, Long> {
                     --  ScheduleIndex 변경 : 임시보관함 최대 순서값에 아래의 값을 더한 값으로 변경
                     s1.schedule_index = COALESCE((SELECT max_temporary_storage_schedule_index FROM subquery2), -10000000) +
                         -- subquery1에서 구한 행 번호에 1000만을 곱한 값
-                        (SELECT row_num * 10000000 FROM subquery1 WHERE subquery1.schedule_id = s1.schedule_id)
+                        (SELECT row_num * 10000000 FROM subquery1 WHERE subquery1.schedule_id = s1.schedule_id),
+
+                    -- 순서 키는 빈 문자열로 (정수 순서값만으로 순서가 정해짐)
+                    s1.schedule_order_key = ''
                 
                 -- dayIds 의 Day에 속한 일정들을
                 WHERE
@@ -128,6 +210,19 @@ public interface JpaScheduleRepository extends JpaRepository<Schedule, Long> {
             """)
     int findDayScheduleCount(@Param("dayId") Long dayId);
 
+    /**
+     * 여행에 속한 일정들의 id와, 각 일정이 속한 Day id(임시보관함이면 null)만 조회합니다.
+     * @param tripId 여행의 id
+     * @return (일정 id, Day id) 목록
+     */
+    @Query("""
+            SELECT s.id, d.id
+            FROM Schedule as s
+            LEFT JOIN s.day as d
+            WHERE s.trip.id = :tripId
+            """)
+    List<Object[]> findScheduleDayIds(@Param("tripId") Long tripId);
+
     /**
      * 전달받은 식별자의 여행(Trip)에 속해있는 일정 엔티티들을 모두 제거합니다.
      *
@@ -32,4 +32,44 @@ public interface JpaTripRepository extends JpaRepository<Trip, Long> {
     @Query("DELETE FROM Trip t WHERE t.tripperId = :tripperId")
     void deleteAllByTripperId(@Param("tripperId") Long tripperId);
 
+    /**
+     * <p>여행의 버전을 1 증가시킵니다.</p>
+     * <p>버전은 엔티티에서 조회 전용으로 매핑되어 있으므로 네이티브 쿼리로 갱신합니다.
+     * 영속성 컨텍스트를 비우지 않으므로, 같은 트랜잭션에서 이미 읽어둔 여행의 버전 필드는 갱신되지 않습니다.</p>
+     * @param tripId 여행의 식별자(id)
+     */
+    @Modifying
+    @Query(value = "UPDATE trip SET trip_version = trip_version + 1 WHERE trip_id = :tripId", nativeQuery = true)
+    void increaseVersion(@Param("tripId") Long tripId);
+
+    /**
+     * <p>여행의 버전이 기대한 값일 때만 버전을 1 증가시킵니다.</p>
+     * <p>UPDATE 는 스냅샷이 아닌 최신 커밋 값을 기준으로 조건을 평가하므로, 다른 트랜잭션이 먼저 버전을 올렸다면 0 을 반환합니다.</p>
+     * @param tripId 여행의 식별자(id)
+     * @param expectedVersion 기대하는 현재 버전
+     * @return 변경된 행의 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = "UPDATE trip SET trip_version = trip_version + 1 WHERE trip_id = :tripId AND trip_version = :expectedVersion", nativeQuery = true)
+    int increaseVersionIfMatches(@Param("tripId") Long tripId, @Param("expectedVersion") long expectedVersion);
+
+    /**
+     * <p>여행의 일정 수가 제한보다 작을 때만 일정 수를 1 증가시킵니다.</p>
+     * <p>조건 검사와 증가가 한 문장에서 일어나므로, 동시에 일정을 생성해도 제한을 넘을 수 없습니다.</p>
+     * @param tripId 여행의 식별자(id)
+     * @param limit 여행이 가질 수 있는 최대 일정 수
+     * @return 변경된 행의 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = "UPDATE trip SET trip_schedule_count = trip_schedule_count + 1 WHERE trip_id = :tripId AND trip_schedule_count < :limit", nativeQuery = true)
+    int increaseScheduleCountIfLessThan(@Param("tripId") Long tripId, @Param("limit") int limit);
+
+    /**
+     * 여행의 일정 수를 1 감소시킵니다. (0 아래로는 내려가지 않음)
+     * @param tripId 여행의 식별자(id)
+     */
+    @Modifying
+    @Query(value = "UPDATE trip SET trip_schedule_count = trip_schedule_count - 1 WHERE trip_id = :tripId AND trip_schedule_count > 0", nativeQuery = true)
+    void decreaseScheduleCount(@Param("tripId") Long tripId);
+
 }
@@ -0,0 +1,45 @@
+package com.cosain.trilo.trip.infra.search;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * <p>여행 제목을 2글자 단위(bigram)로 잘라내는 토크나이저입니다.</p>
+ * <p>한글 제목은 띄어쓰기/형태소 단위로 자르면 '제주도'에서 '제주'를 찾지 못하므로, 글자(code point) 단위로 겹쳐 자릅니다.</p>
+ * <p>대소문자, 악센트 차이는 trip_title_ngram.gram 컬럼의 collation(utf8mb4_0900_ai_ci, schema.sql 에 명시)에 맡기고 여기서는 변환하지 않습니다.</p>
+ */
+public final class TripTitleNgrams {
+
+    /**
+     * n-gram 의 글자 수
+     */
+    public static final int GRAM_SIZE = 2;
+
+    private TripTitleNgrams() {
+    }
+
+    /**
+     * 문자열을 중복 없는 bigram 집합으로 잘라냅니다. (등장 순서 유지)
+     * @param text 제목 또는 검색어
+     * @return bigram 집합, 2글자 미만이면 빈 집합
+     */
+    public static Set<String> bigrams(String text) {
+        if (!isIndexable(text)) {
+            return Collections.emptySet();
+        }
+        int[] codePoints = text.codePoints().toArray();
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    /**
+     * 인덱스로 찾을 수 있는 길이(2글자 이상)의 문자열인지 확인합니다.
+     */
+    public static boolean isIndexable(String text) {
+        return text != null && text.codePointCount(0, text.length()) >= GRAM_SIZE;
+    }
+}
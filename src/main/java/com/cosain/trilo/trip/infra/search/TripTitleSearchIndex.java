@@ -0,0 +1,199 @@
+package com.cosain.trilo.trip.infra.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * <p>여행 제목 bigram 역색인(trip_title_ngram)을 관리하고 조회하는 컴포넌트입니다.</p>
+ * <p>LIKE '%검색어%' 는 idx_title 을 탈 수 없어 DECIDED/FINISHED 여행 전체를 훑게 되므로,
+ * 검색어의 bigram 을 모두 가진 여행 id 를 PK(gram, trip_id) 범위 스캔으로 먼저 추려냅니다.</p>
+ * <p>bigram 을 모두 가졌다고 실제로 검색어를 포함하는 것은 아니므로(예: '제주주'), 결과는 후보일 뿐이고
+ * 최종 포함 여부는 조회 쿼리에서 다시 확인해야 합니다.</p>
+ * <p>색인 갱신은 {@link TripTitleSearchIndexEventListener} 가 여행 저장/제목 변경/삭제 시점에 같은 트랜잭션 안에서 수행합니다.</p>
+ */
+@Slf4j
+@Component
+public class TripTitleSearchIndex {
+
+    /**
+     * 후보 조회 시 조인할 검색어 bigram 의 최대 개수 (나머지는 최종 포함 여부 확인에 맡김)
+     */
+    private static final int MAX_QUERY_GRAMS = 6;
+
+    /**
+     * 전체 재색인 시 한 번에 읽어올 여행 수
+     */
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 애플리케이션 기동 시 기존 여행 전체를 재색인할 지 여부 (색인 테이블 도입 직후 한 번만 사용)
+     */
+    private final boolean rebuildOnStartup;
+
+    public TripTitleSearchIndex(
+            JdbcTemplate jdbcTemplate,
+            @Value("${trip.search.title-index.rebuild-on-startup:false}") boolean rebuildOnStartup) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    /**
+     * 색인으로 후보를 찾을 수 있는 검색어인지 확인합니다. (2글자 미만이면 LIKE 검색으로 처리해야 함)
+     */
+    public boolean isSearchable(String query) {
+        return TripTitleNgrams.isIndexable(query);
+    }
+
+    /**
+     * 여행 제목의 bigram 들을 색인에 추가합니다.
+     * @param tripId 여행 id
+     * @param title 여행 제목
+     */
+    public void index(Long tripId, String title) {
+        insertGrams(Map.of(tripId, TripTitleNgrams.bigrams(title)));
+    }
+
+    /**
+     * 여행의 기존 색인을 지우고 새 제목으로 다시 색인합니다.
+     * @param tripId 여행 id
+     * @param title 변경된 여행 제목
+     */
+    public void reindex(Long tripId, String title) {
+        remove(tripId);
+        index(tripId, title);
+    }
+
+    /**
+     * 여행의 색인을 모두 제거합니다.
+     * @param tripId 여행 id
+     */
+    public void remove(Long tripId) {
+        jdbcTemplate.update("DELETE FROM trip_title_ngram WHERE trip_id = ?", tripId);
+    }
+
+    /**
+     * 사용자(여행자)가 가진 여행들의 색인을 모두 제거합니다. (JPQL 벌크 삭제는 엔티티 이벤트가 발생하지 않으므로 삭제 전에 호출)
+     * @param tripperId 사용자(여행자) id
+     */
+    public void removeAllByTripperId(Long tripperId) {
+        jdbcTemplate.update("""
+                DELETE g FROM trip_title_ngram g
+                JOIN trip t ON t.trip_id = g.trip_id
+                WHERE t.tripper_id = ?
+                """, tripperId);
+    }
+
+    /**
+     * <p>검색어의 bigram 을 모두 가진 여행 id 들을 id 내림차순으로 조회합니다.</p>
+     * <p>첫 번째 bigram 의 (gram, trip_id) 범위를 역순으로 읽으면서 나머지 bigram 은 PK 조회로 확인하므로,
+     * 커서(tripId) 이후 limit 개만 읽고 멈춥니다.</p>
+     * @param query 검색어 (2글자 이상)
+     * @param ltTripId 커서, 이 id 미만의 여행만 조회 (null 이면 처음부터)
+     * @param limit 최대 조회 개수
+     * @return 후보 여행 id 목록 (내림차순)
+     */
+    public List<Long> findCandidateTripIds(String query, Long ltTripId, int limit) {
+        List<String> grams = TripTitleNgrams.bigrams(query).stream()
+                .limit(MAX_QUERY_GRAMS)
+                .toList();
+        if (grams.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT g0.trip_id FROM trip_title_ngram g0");
+        List<Object> params = new ArrayList<>();
+        for (int i = 1; i < grams.size(); i++) {
+            sql.append(" JOIN trip_title_ngram g").append(i)
+                    .append(" ON g").append(i).append(".trip_id = g0.trip_id AND g").append(i).append(".gram = ?");
+            params.add(grams.get(i));
+        }
+        sql.append(" WHERE g0.gram = ?");
+        params.add(grams.get(0));
+        if (ltTripId != null) {
+            sql.append(" AND g0.trip_id < ?");
+            params.add(ltTripId);
+        }
+        sql.append(" ORDER BY g0.trip_id DESC LIMIT ?");
+        params.add(limit);
+
+        return jdbcTemplate.queryForList(sql.toString(), Long.class, params.toArray());
+    }
+
+    /**
+     * 색인 테이블 도입 전에 만들어진 여행들까지 포함하여 전체 여행을 다시 색인합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 전체 여행을 id 순으로 나누어 읽으면서 다시 색인합니다. (여러 번 실행해도 결과가 같음)
+     */
+    public void rebuild() {
+        long lastTripId = 0L;
+        long indexedCount = 0L;
+        while (true) {
+            Map<Long, Set<String>> batch = jdbcTemplate.query(
+                    "SELECT trip_id, trip_title FROM trip WHERE trip_id > ? ORDER BY trip_id LIMIT ?",
+                    rs -> {
+                        Map<Long, Set<String>> rows = new LinkedHashMap<>();
+                        while (rs.next()) {
+                            rows.put(rs.getLong("trip_id"), TripTitleNgrams.bigrams(rs.getString("trip_title")));
+                        }
+                        return rows;
+                    },
+                    lastTripId, REBUILD_BATCH_SIZE);
+
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            List<Long> tripIds = new ArrayList<>(batch.keySet());
+            deleteGrams(tripIds);
+            insertGrams(batch);
+            indexedCount += tripIds.size();
+            lastTripId = tripIds.get(tripIds.size() - 1);
+        }
+        log.info("여행 제목 검색 색인 재구성 완료 : {}건", indexedCount);
+    }
+
+    private void deleteGrams(Collection<Long> tripIds) {
+        String placeholders = tripIds.stream().map(id -> "?").collect(Collectors.joining(", "));
+        jdbcTemplate.update("DELETE FROM trip_title_ngram WHERE trip_id IN (" + placeholders + ")", tripIds.toArray());
+    }
+
+    /**
+     * 여러 여행의 bigram 들을 다중 행 INSERT 한 문장으로 저장합니다. (이미 있는 (gram, trip_id) 는 무시)
+     */
+    private void insertGrams(Map<Long, Set<String>> gramsByTripId) {
+        List<Object> params = new ArrayList<>();
+        gramsByTripId.forEach((tripId, grams) -> grams.forEach(gram -> {
+            params.add(gram);
+            params.add(tripId);
+        }));
+        if (params.isEmpty()) {
+            return;
+        }
+
+        String values = String.join(", ", Collections.nCopies(params.size() / 2, "(?, ?)"));
+        jdbcTemplate.update("INSERT INTO trip_title_ngram (gram, trip_id) VALUES " + values
+                + " ON DUPLICATE KEY UPDATE trip_id = trip_id", params.toArray());
+    }
+}
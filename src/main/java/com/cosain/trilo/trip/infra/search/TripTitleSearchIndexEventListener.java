@@ -0,0 +1,87 @@
+package com.cosain.trilo.trip.infra.search;
+
+import com.cosain.trilo.trip.domain.entity.Trip;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p>여행 엔티티가 flush 될 때마다 제목 검색 색인({@link TripTitleSearchIndex})을 갱신하는 Hibernate 이벤트 리스너입니다.</p>
+ * <p>여행 생성/제목 변경/삭제 서비스가 어떤 경로로 저장하든(save, 변경 감지, delete) 같은 커넥션, 같은 트랜잭션에서
+ * 색인이 함께 반영되고 롤백되도록 서비스가 아닌 영속성 계층에서 처리합니다.</p>
+ * <p>JPQL 벌크 삭제는 엔티티 이벤트가 발생하지 않으므로 {@link TripTitleSearchIndex#removeAllByTripperId(Long)} 를 따로 호출해야 합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class TripTitleSearchIndexEventListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final String TITLE_PROPERTY = "tripTitle";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final TripTitleSearchIndex tripTitleSearchIndex;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Trip trip) {
+            tripTitleSearchIndex.index((Long) event.getId(), trip.getTripTitle().getValue());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Trip trip && isTitleChanged(event)) {
+            tripTitleSearchIndex.reindex((Long) event.getId(), trip.getTripTitle().getValue());
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Trip) {
+            tripTitleSearchIndex.remove((Long) event.getId());
+        }
+    }
+
+    /**
+     * 변경된 프로퍼티 중 제목이 있는지 확인합니다. (변경 정보가 없으면 변경된 것으로 간주)
+     */
+    private boolean isTitleChanged(PostUpdateEvent event) {
+        int[] dirtyProperties = event.getDirtyProperties();
+        if (dirtyProperties == null) {
+            return true;
+        }
+        String[] propertyNames = event.getPersister().getPropertyNames();
+        for (int dirtyProperty : dirtyProperties) {
+            if (TITLE_PROPERTY.equals(propertyNames[dirtyProperty])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+}
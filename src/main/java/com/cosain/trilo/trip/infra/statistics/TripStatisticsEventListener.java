@@ -0,0 +1,91 @@
+package com.cosain.trilo.trip.infra.statistics;
+
+import com.cosain.trilo.trip.domain.entity.Trip;
+import com.cosain.trilo.trip.domain.vo.TripPeriod;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * <p>여행 엔티티가 flush 될 때마다 사용자별 여행 통계({@link TripStatisticsStore})를 증감하는 Hibernate 이벤트 리스너입니다.</p>
+ * <p>여행 생성/삭제/기간 변경이 어떤 경로로 저장되든 같은 트랜잭션에서 통계가 함께 반영되고 롤백됩니다.</p>
+ * <p>JPQL 벌크 삭제는 엔티티 이벤트가 발생하지 않으므로 {@link TripStatisticsStore#removeByTripperId(Long)} 를 따로 호출해야 합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class TripStatisticsEventListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final String PERIOD_PROPERTY = "tripPeriod";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final TripStatisticsStore tripStatisticsStore;
+    private final Clock clock;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Trip trip) {
+            tripStatisticsStore.increase(trip.getTripperId(), endDateOf(trip.getTripPeriod()), LocalDate.now(clock));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Trip trip)) {
+            return;
+        }
+        int periodIndex = event.getPersister().getEntityMetamodel().getPropertyIndex(PERIOD_PROPERTY);
+        Object[] oldState = event.getOldState();
+        if (oldState == null) {
+            // 변경 전 상태를 알 수 없으면(detached 엔티티 병합 등) 해당 사용자의 통계를 다시 센다
+            tripStatisticsStore.recount(trip.getTripperId(), LocalDate.now(clock));
+            return;
+        }
+        LocalDate oldEndDate = endDateOf((TripPeriod) oldState[periodIndex]);
+        LocalDate newEndDate = endDateOf(trip.getTripPeriod());
+        if (!Objects.equals(oldEndDate, newEndDate)) {
+            tripStatisticsStore.changeEndDate(trip.getTripperId(), oldEndDate, newEndDate);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Trip trip) {
+            tripStatisticsStore.decrease(trip.getTripperId(), endDateOf(trip.getTripPeriod()));
+        }
+    }
+
+    private LocalDate endDateOf(TripPeriod tripPeriod) {
+        return tripPeriod == null ? null : tripPeriod.getEndDate();
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+}
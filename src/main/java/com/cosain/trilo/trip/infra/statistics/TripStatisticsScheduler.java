@@ -0,0 +1,60 @@
+package com.cosain.trilo.trip.infra.statistics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * <p>사용자별 여행 통계의 기준일 이동과 재집계를 주기적으로 실행합니다.</p>
+ * <p>두 작업 모두 사용자 id 범위별로 나누어 각각 자동 커밋되므로, 긴 트랜잭션 없이 실행되고 여러 서버에서 동시에 실행돼도 결과가 같습니다.</p>
+ */
+@Slf4j
+@Component
+public class TripStatisticsScheduler {
+
+    private final TripStatisticsStore tripStatisticsStore;
+    private final Clock clock;
+
+    /**
+     * 애플리케이션 기동 시 전체 재집계를 할 지 여부 (통계 테이블 도입 직후 한 번만 사용)
+     */
+    private final boolean reconcileOnStartup;
+
+    public TripStatisticsScheduler(
+            TripStatisticsStore tripStatisticsStore,
+            Clock clock,
+            @Value("${trip.statistics.reconcile-on-startup:false}") boolean reconcileOnStartup) {
+        this.tripStatisticsStore = tripStatisticsStore;
+        this.clock = clock;
+        this.reconcileOnStartup = reconcileOnStartup;
+    }
+
+    // 매일 0시 0분 5초
+    @Scheduled(cron = "${trip.statistics.roll-over-cron:5 0 0 * * *}")
+    public void rollOver() {
+        LocalDate today = LocalDate.now(clock);
+        int rolledOverCount = tripStatisticsStore.rollOver(today);
+        log.info("여행 통계 기준일 이동 완료 : {} / {}건", today, rolledOverCount);
+    }
+
+    // 매일 오전 4시 30분
+    @Scheduled(cron = "${trip.statistics.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        LocalDate today = LocalDate.now(clock);
+        int affectedRows = tripStatisticsStore.reconcile(today);
+        log.info("여행 통계 재집계 완료 : {} / 영향 행 {}건", today, affectedRows);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (reconcileOnStartup) {
+            reconcile();
+        }
+    }
+}
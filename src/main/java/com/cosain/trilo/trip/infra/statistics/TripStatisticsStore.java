@@ -0,0 +1,220 @@
+package com.cosain.trilo.trip.infra.statistics;
+
+import com.cosain.trilo.trip.infra.dto.TripStatistics;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <p>사용자(여행자)별 여행 통계(전체 여행 수, 종료된 여행 수)를 trip_statistics 에 미리 집계해두고 조회하는 저장소입니다.</p>
+ * <p>'종료된 여행'은 날짜가 지나면 저절로 늘어나므로, 각 행은 terminated_as_of 기준일 이전에 끝난 여행 수를 보관합니다.
+ * 조회 시점(today)과 기준일이 다르면 그 사이에 끝난 여행만 (tripper_id, end_date) 인덱스 범위로 세어 보정합니다.</p>
+ * <ul>
+ *     <li>여행 생성/삭제/기간 변경 : {@link TripStatisticsEventListener} 가 같은 트랜잭션에서 증감</li>
+ *     <li>기준일 이동 : {@link TripStatisticsScheduler} 가 매일 자정 직후 {@link #rollOver(LocalDate)}</li>
+ *     <li>전체 재집계 : {@link TripStatisticsScheduler} 가 매일 새벽 {@link #reconcile(LocalDate)}</li>
+ * </ul>
+ */
+@Component
+public class TripStatisticsStore {
+
+    /**
+     * 기준일 이동/재집계 시 한 번에 처리할 사용자 id 범위
+     */
+    private static final int BATCH_SIZE = 1000;
+
+    /**
+     * 사용자 id 범위 (from, to] 의 여행 수를 다시 세어 덮어쓰는 SQL
+     */
+    private static final String RECOUNT_SQL = """
+            INSERT INTO trip_statistics (tripper_id, total_trip_cnt, terminated_trip_cnt, terminated_as_of)
+            SELECT u.user_id, COUNT(t.trip_id), COALESCE(SUM(t.end_date < ?), 0), ?
+            FROM users u
+            LEFT JOIN trip t ON t.tripper_id = u.user_id
+            WHERE u.user_id > ? AND u.user_id <= ?
+            GROUP BY u.user_id
+            ON DUPLICATE KEY UPDATE
+                total_trip_cnt = VALUES(total_trip_cnt),
+                terminated_trip_cnt = VALUES(terminated_trip_cnt),
+                terminated_as_of = VALUES(terminated_as_of)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TripStatisticsStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * <p>사용자의 여행 통계를 PK 로 조회합니다.</p>
+     * <p>기준일이 today 와 다르면 그 사이에 끝난 여행 수만큼 종료된 여행 수를 보정합니다.</p>
+     * @param tripperId 사용자(여행자) id
+     * @param today 오늘 날짜
+     * @return 여행 통계, 아직 집계된 행이 없으면 빈 Optional
+     */
+    public Optional<TripStatistics> find(Long tripperId, LocalDate today) {
+        List<StatisticsRow> rows = jdbcTemplate.query("""
+                        SELECT total_trip_cnt, terminated_trip_cnt, terminated_as_of
+                        FROM trip_statistics
+                        WHERE tripper_id = ?
+                        """,
+                (rs, rowNum) -> new StatisticsRow(
+                        rs.getLong("total_trip_cnt"),
+                        rs.getLong("terminated_trip_cnt"),
+                        rs.getDate("terminated_as_of").toLocalDate()),
+                tripperId);
+
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        StatisticsRow row = rows.get(0);
+        long terminatedTripCnt = row.terminatedTripCnt();
+        if (row.terminatedAsOf().isBefore(today)) {
+            terminatedTripCnt += countTripsEndedBetween(tripperId, row.terminatedAsOf(), today);
+        } else if (row.terminatedAsOf().isAfter(today)) {
+            terminatedTripCnt -= countTripsEndedBetween(tripperId, today, row.terminatedAsOf());
+        }
+        return Optional.of(new TripStatistics(row.totalTripCnt(), terminatedTripCnt));
+    }
+
+    /**
+     * <p>여행이 생성됐을 때 통계를 증가시킵니다.</p>
+     * <p>행이 없으면 통계 도입 전 여행이나 벌크 삭제 이후의 여행이 있을 수 있으므로, 1건으로 만들지 않고
+     * 방금 저장된 여행까지 포함해 trip 테이블을 다시 세어 기준일을 today 로 하여 생성합니다.</p>
+     * @param tripperId 사용자(여행자) id
+     * @param endDate 생성된 여행의 종료일 (null 가능)
+     * @param today 오늘 날짜
+     */
+    public void increase(Long tripperId, LocalDate endDate, LocalDate today) {
+        int updatedRows = jdbcTemplate.update("""
+                        UPDATE trip_statistics
+                        SET terminated_trip_cnt = terminated_trip_cnt + IF(? < terminated_as_of, 1, 0),
+                            total_trip_cnt = total_trip_cnt + 1
+                        WHERE tripper_id = ?
+                        """,
+                toDate(endDate), tripperId);
+        if (updatedRows == 0) {
+            recount(tripperId, today);
+        }
+    }
+
+    /**
+     * 여행이 삭제됐을 때 통계를 감소시킵니다.
+     * @param tripperId 사용자(여행자) id
+     * @param endDate 삭제된 여행의 종료일 (null 가능)
+     */
+    public void decrease(Long tripperId, LocalDate endDate) {
+        jdbcTemplate.update("""
+                        UPDATE trip_statistics
+                        SET terminated_trip_cnt = terminated_trip_cnt - IF(? < terminated_as_of, 1, 0),
+                            total_trip_cnt = total_trip_cnt - 1
+                        WHERE tripper_id = ?
+                        """,
+                toDate(endDate), tripperId);
+    }
+
+    /**
+     * 여행 기간이 변경됐을 때 종료된 여행 수를 보정합니다.
+     * @param tripperId 사용자(여행자) id
+     * @param oldEndDate 변경 전 종료일 (null 가능)
+     * @param newEndDate 변경 후 종료일 (null 가능)
+     */
+    public void changeEndDate(Long tripperId, LocalDate oldEndDate, LocalDate newEndDate) {
+        jdbcTemplate.update("""
+                        UPDATE trip_statistics
+                        SET terminated_trip_cnt = terminated_trip_cnt + IF(? < terminated_as_of, 1, 0) - IF(? < terminated_as_of, 1, 0)
+                        WHERE tripper_id = ?
+                        """,
+                toDate(newEndDate), toDate(oldEndDate), tripperId);
+    }
+
+    /**
+     * 사용자의 여행이 모두 삭제됐을 때 통계를 제거합니다. (JPQL 벌크 삭제는 엔티티 이벤트가 발생하지 않으므로 직접 호출)
+     * @param tripperId 사용자(여행자) id
+     */
+    public void removeByTripperId(Long tripperId) {
+        jdbcTemplate.update("DELETE FROM trip_statistics WHERE tripper_id = ?", tripperId);
+    }
+
+    /**
+     * <p>기준일이 today 이전인 행들의 기준일을 today 로 옮기면서, 그 사이에 끝난 여행 수를 종료된 여행 수에 더합니다.</p>
+     * <p>기준일 조건으로 이미 옮겨진 행은 건너뛰므로 여러 서버에서 동시에, 여러 번 실행해도 결과가 같습니다.</p>
+     * @param today 오늘 날짜
+     * @return 기준일을 옮긴 행 수
+     */
+    public int rollOver(LocalDate today) {
+        // MySQL 단일 테이블 UPDATE 는 SET 절을 왼쪽부터 평가하므로, 종료된 여행 수를 먼저 계산해야 이전 기준일이 사용됨
+        String sql = """
+                UPDATE trip_statistics s
+                SET s.terminated_trip_cnt = s.terminated_trip_cnt + (
+                        SELECT COUNT(*) FROM trip t
+                        WHERE t.tripper_id = s.tripper_id
+                          AND t.end_date >= s.terminated_as_of
+                          AND t.end_date < ?),
+                    s.terminated_as_of = ?
+                WHERE s.tripper_id > ? AND s.tripper_id <= ?
+                  AND s.terminated_as_of < ?
+                """;
+        Date todayDate = toDate(today);
+        return forEachTripperIdRange("SELECT MAX(tripper_id) FROM trip_statistics",
+                (fromExclusive, toInclusive) -> jdbcTemplate.update(sql, todayDate, todayDate, fromExclusive, toInclusive, todayDate));
+    }
+
+    /**
+     * <p>사용자 id 범위별로 trip 테이블을 다시 세어 통계를 덮어씁니다. (누락된 이벤트, 통계 도입 전 여행 보정용)</p>
+     * <p>여행이 없는 사용자도 0건으로 저장해두므로, 이후 마이페이지 조회는 항상 PK 조회로 끝납니다.</p>
+     * <p>범위마다 별도 문장으로 실행되므로 잠금은 해당 범위의 사용자로 한정됩니다.</p>
+     * @param today 오늘 날짜 (재집계 후 기준일)
+     * @return 추가 또는 변경된 행에 대한 영향 행 수 (추가 1, 변경 2, 동일 0)
+     */
+    public int reconcile(LocalDate today) {
+        Date todayDate = toDate(today);
+        return forEachTripperIdRange("SELECT MAX(user_id) FROM users",
+                (fromExclusive, toInclusive) -> jdbcTemplate.update(RECOUNT_SQL, todayDate, todayDate, fromExclusive, toInclusive));
+    }
+
+    /**
+     * 한 사용자의 통계를 trip 테이블에서 다시 세어 덮어씁니다. (변경 전 기간을 알 수 없는 수정 등에 사용)
+     * @param tripperId 사용자(여행자) id
+     * @param today 오늘 날짜 (재집계 후 기준일)
+     */
+    public void recount(Long tripperId, LocalDate today) {
+        Date todayDate = toDate(today);
+        jdbcTemplate.update(RECOUNT_SQL, todayDate, todayDate, tripperId - 1, tripperId);
+    }
+
+    private long countTripsEndedBetween(Long tripperId, LocalDate fromInclusive, LocalDate toExclusive) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM trip WHERE tripper_id = ? AND end_date >= ? AND end_date < ?",
+                Long.class, tripperId, toDate(fromInclusive), toDate(toExclusive));
+        return count == null ? 0L : count;
+    }
+
+    private int forEachTripperIdRange(String maxTripperIdSql, RangeUpdate rangeUpdate) {
+        Long maxTripperId = jdbcTemplate.queryForObject(maxTripperIdSql, Long.class);
+        if (maxTripperId == null) {
+            return 0;
+        }
+        int affectedRows = 0;
+        for (long fromExclusive = 0L; fromExclusive < maxTripperId; fromExclusive += BATCH_SIZE) {
+            affectedRows += rangeUpdate.update(fromExclusive, fromExclusive + BATCH_SIZE);
+        }
+        return affectedRows;
+    }
+
+    private static Date toDate(LocalDate localDate) {
+        return localDate == null ? null : Date.valueOf(localDate);
+    }
+
+    @FunctionalInterface
+    private interface RangeUpdate {
+        int update(long fromExclusive, long toInclusive);
+    }
+
+    private record StatisticsRow(long totalTripCnt, long terminatedTripCnt, LocalDate terminatedAsOf) {
+    }
+}
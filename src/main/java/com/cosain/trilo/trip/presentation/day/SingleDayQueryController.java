@@ -2,6 +2,7 @@ package com.cosain.trilo.trip.presentation.day;
 
 import com.cosain.trilo.trip.application.day.service.day_search.DaySearchService;
 import com.cosain.trilo.trip.application.day.service.day_search.DayScheduleDetail;
+import com.cosain.trilo.trip.presentation.etag.TripETag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -18,6 +19,7 @@ public class SingleDayQueryController {
     private final DaySearchService daySearchService;
 
     @GetMapping("/api/days/{dayId}")
+    @TripETag(TripETag.Scope.DAY)
     @ResponseStatus(HttpStatus.OK)
     public DayScheduleDetail findSingleDay(@PathVariable Long dayId) {
         return daySearchService.searchDaySchedule(dayId);
@@ -3,6 +3,7 @@ package com.cosain.trilo.trip.presentation.day;
 import com.cosain.trilo.trip.application.day.service.day_search.DaySearchService;
 import com.cosain.trilo.trip.application.day.service.day_search.DayScheduleDetail;
 import com.cosain.trilo.trip.presentation.day.dto.DayListResponse;
+import com.cosain.trilo.trip.presentation.etag.TripETag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,6 +20,7 @@ public class TripDayListQueryController {
     private final DaySearchService daySearchService;
 
     @GetMapping("/api/trips/{tripId}/days")
+    @TripETag
     @ResponseStatus(HttpStatus.OK)
     public DayListResponse findTripDayList(@PathVariable Long tripId) {
         List<DayScheduleDetail> dayScheduleDetails = daySearchService.searchDaySchedules(tripId);
@@ -0,0 +1,38 @@
+package com.cosain.trilo.trip.presentation.etag;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>여행 버전으로 ETag 를 붙이고, If-None-Match 가 일치하면 304 로 응답할 여행 조회 API 에 붙입니다.</p>
+ * <p>응답이 여행 하나(Day, 일정 포함)의 상태만으로 결정되는 GET API 에만 사용해야 합니다.</p>
+ * @see TripETagInterceptor
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TripETag {
+
+    /**
+     * 여행을 찾는 데 쓸 경로 변수의 종류
+     */
+    Scope value() default Scope.TRIP;
+
+    enum Scope {
+
+        TRIP("tripId"),
+        DAY("dayId"),
+        SCHEDULE("scheduleId");
+
+        private final String pathVariable;
+
+        Scope(String pathVariable) {
+            this.pathVariable = pathVariable;
+        }
+
+        public String getPathVariable() {
+            return pathVariable;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.cosain.trilo.trip.presentation.etag;
+
+import com.cosain.trilo.trip.application.dao.TripVersionQueryDAO;
+import com.cosain.trilo.trip.infra.dto.TripVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * <p>{@link TripETag} 이 붙은 조회 API 에 여행 버전 기반의 약한 ETag 를 붙입니다.</p>
+ * <p>버전은 PK 조회(여행 기준은 캐시 우선) 한 번으로 읽고, If-None-Match 와 일치하면 컨트롤러를 실행하지 않고 304 로 응답합니다.
+ * 여행을 찾을 수 없으면 아무것도 하지 않고 컨트롤러에 맡깁니다. (404 등의 응답은 컨트롤러가 결정)</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class TripETagInterceptor implements HandlerInterceptor {
+
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private final TripVersionQueryDAO tripVersionQueryDAO;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        TripETag tripETag = handlerMethod.getMethodAnnotation(TripETag.class);
+        if (tripETag == null) {
+            return true;
+        }
+
+        Long id = findPathVariable(request, tripETag.value().getPathVariable());
+        if (id == null) {
+            return true;
+        }
+        Optional<TripVersion> tripVersion = findTripVersion(tripETag.value(), id);
+        if (tripVersion.isEmpty()) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        // ETag 헤더를 붙이고, If-None-Match 가 일치하면 304 상태를 설정함
+        boolean notModified = new ServletWebRequest(request, response).checkNotModified(eTagOf(tripVersion.get()));
+        return !notModified;
+    }
+
+    private Optional<TripVersion> findTripVersion(TripETag.Scope scope, Long id) {
+        return switch (scope) {
+            case TRIP -> tripVersionQueryDAO.findVersionByTripId(id);
+            case DAY -> tripVersionQueryDAO.findVersionByDayId(id);
+            case SCHEDULE -> tripVersionQueryDAO.findVersionByScheduleId(id);
+        };
+    }
+
+    /**
+     * 경로 변수를 id 로 읽습니다. 숫자가 아니면 null (컨트롤러의 타입 변환 예외 처리에 맡김)
+     */
+    @SuppressWarnings("unchecked")
+    private Long findPathVariable(HttpServletRequest request, String name) {
+        Map<String, String> pathVariables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (pathVariables == null || pathVariables.get(name) == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(pathVariables.get(name));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 같은 여행 버전이면 응답 본문이 같지만 바이트 단위 동일성까지 보장하지는 않으므로 약한 ETag 를 사용합니다.
+     */
+    private static String eTagOf(TripVersion tripVersion) {
+        return String.format("W/\"trip-%d-v%d\"", tripVersion.getTripId(), tripVersion.getVersion());
+    }
+}
@@ -0,0 +1,75 @@
+package com.cosain.trilo.trip.presentation.schedule;
+
+import com.cosain.trilo.auth.application.token.UserPayload;
+import com.cosain.trilo.auth.presentation.Login;
+import com.cosain.trilo.auth.presentation.LoginUser;
+import com.cosain.trilo.common.exception.CustomValidationException;
+import com.cosain.trilo.common.exception.day.InvalidTripDayException;
+import com.cosain.trilo.common.exception.schedule.InvalidScheduleReorderException;
+import com.cosain.trilo.common.exception.schedule.NoScheduleMoveAuthorityException;
+import com.cosain.trilo.common.exception.schedule.ScheduleNotFoundException;
+import com.cosain.trilo.common.exception.trip.TripNotFoundException;
+import com.cosain.trilo.trip.application.schedule.service.schedule_reorder.ScheduleReorderCommand;
+import com.cosain.trilo.trip.application.schedule.service.schedule_reorder.ScheduleReorderPlace;
+import com.cosain.trilo.trip.application.schedule.service.schedule_reorder.ScheduleReorderService;
+import com.cosain.trilo.trip.presentation.schedule.dto.request.ScheduleReorderRequest;
+import com.cosain.trilo.trip.presentation.schedule.dto.response.ScheduleReorderResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 일정 일괄 이동 웹 요청을 처리하는 Controller
+ */
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+public class ScheduleReorderController {
+
+    /**
+     * 일정 일괄 이동 서비스
+     */
+    private final ScheduleReorderService scheduleReorderService;
+
+    /**
+     * 일정 일괄 이동 웹 요청({@link ScheduleReorderRequest})을 받아 처리 후,
+     * 일정 일괄 이동 결과({@link ScheduleReorderResponse})를 응답합니다.
+     * @param userPayload 인증 사용자 정보
+     * @param tripId 일정들이 속한 여행의 식별자(id)
+     * @param request 일정 일괄 이동 웹 요청
+     * @return 일정 일괄 이동 응답
+     * @throws CustomValidationException 비즈니스 입력검증에서 검증 예외가 발생했을 때
+     * @throws TripNotFoundException 여행을 찾을 수 없을 때
+     * @throws NoScheduleMoveAuthorityException 일정을 이동할 권한이 없을 때
+     * @throws InvalidTripDayException 도착지 Day가 여행의 Day가 아닐 때
+     * @throws ScheduleNotFoundException 요청한 일정이 여행의 일정이 아닐 때
+     * @throws InvalidScheduleReorderException 요청한 Day(또는 임시보관함)에 있던 일정이 요청에서 빠졌을 때
+     */
+    @Login
+    @ResponseStatus(HttpStatus.OK)
+    @PutMapping("/api/trips/{tripId}/schedules/positions")
+    public ScheduleReorderResponse reorderSchedules(@LoginUser UserPayload userPayload, @PathVariable Long tripId, @RequestBody ScheduleReorderRequest request)
+            throws CustomValidationException, TripNotFoundException, NoScheduleMoveAuthorityException, InvalidTripDayException,
+            ScheduleNotFoundException, InvalidScheduleReorderException {
+
+        Long requestTripperId = userPayload.getId();
+
+        // 비즈니스 입력 모델 생성 -> 입력 검증과정에서 검증 예외발생할 수 있음
+        var command = ScheduleReorderCommand.of(tripId, requestTripperId, toPlaces(request.getPlaces()));
+
+        var scheduleReorderResult = scheduleReorderService.reorderSchedules(command);
+        return ScheduleReorderResponse.from(scheduleReorderResult);
+    }
+
+    private List<ScheduleReorderPlace> toPlaces(List<ScheduleReorderRequest.Place> places) {
+        if (places == null) {
+            return null;
+        }
+        return places.stream()
+                .map(place -> place == null ? null : ScheduleReorderPlace.of(place.getDayId(), place.getScheduleIds()))
+                .toList();
+    }
+}
@@ -2,6 +2,7 @@ package com.cosain.trilo.trip.presentation.schedule;
 
 import com.cosain.trilo.trip.application.schedule.service.schedule_detail_search.ScheduleDetailSearchService;
 import com.cosain.trilo.trip.application.schedule.service.schedule_detail_search.ScheduleDetail;
+import com.cosain.trilo.trip.presentation.etag.TripETag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -18,6 +19,7 @@ public class SingleScheduleQueryController {
     private final ScheduleDetailSearchService scheduleDetailSearchService;
 
     @GetMapping("/api/schedules/{scheduleId}")
+    @TripETag(TripETag.Scope.SCHEDULE)
     @ResponseStatus(HttpStatus.OK)
     public ScheduleDetail findSingleSchedule(@PathVariable Long scheduleId) {
         return scheduleDetailSearchService.searchScheduleDetail(scheduleId);
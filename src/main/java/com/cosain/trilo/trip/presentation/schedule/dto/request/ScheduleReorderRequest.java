@@ -0,0 +1,58 @@
+package com.cosain.trilo.trip.presentation.schedule.dto.request;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일정 일괄 이동을 위한 요청 정보를 이 객체에 바인딩합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ScheduleReorderRequest {
+
+    /**
+     * 도착지(Day 또는 임시보관함)별 일정 순서
+     */
+    private List<Place> places;
+
+    /**
+     * 일정 일괄 이동 요청을 생성합니다.
+     *
+     * @param places 도착지(Day 또는 임시보관함)별 일정 순서
+     */
+    public ScheduleReorderRequest(List<Place> places) {
+        this.places = places;
+    }
+
+    /**
+     * 도착지 하나에 놓일 일정들의 순서
+     */
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Place {
+
+        /**
+         * 도착지의 Day 식별자(id) (null 이면 임시보관함)
+         */
+        private Long dayId;
+
+        /**
+         * 도착지에 놓일 일정들의 식별자(id), 앞에서부터 순서대로
+         */
+        private List<Long> scheduleIds;
+
+        /**
+         * 도착지 하나의 일정 순서를 생성합니다.
+         *
+         * @param dayId 도착지의 Day 식별자(id) (null 이면 임시보관함)
+         * @param scheduleIds 도착지에 놓일 일정들의 식별자(id), 앞에서부터 순서대로
+         */
+        public Place(Long dayId, List<Long> scheduleIds) {
+            this.dayId = dayId;
+            this.scheduleIds = scheduleIds;
+        }
+    }
+}
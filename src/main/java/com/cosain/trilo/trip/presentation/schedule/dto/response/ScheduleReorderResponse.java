@@ -0,0 +1,42 @@
+package com.cosain.trilo.trip.presentation.schedule.dto.response;
+
+import com.cosain.trilo.trip.application.schedule.service.schedule_reorder.ScheduleReorderResult;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * <p>일정 일괄 이동 응답을 바인딩할 객체입니다.</p>
+ * <p>이 객체는 정적 팩터리 메서드인 {@link #from(ScheduleReorderResult)} 으로 생성하세요.</p>
+ */
+@Getter
+public class ScheduleReorderResponse {
+
+    /**
+     * 일정들이 속한 여행의 id(식별자)
+     */
+    private Long tripId;
+
+    /**
+     * 위치가 새로 지정된 일정의 갯수
+     */
+    private int reorderedScheduleCount;
+
+    /**
+     * 일정 일괄 이동 결과로부터 응답을 생성합니다.
+     * @param scheduleReorderResult : ScheduleReorderResult
+     * @return 일정 일괄 이동 응답
+     */
+    public static ScheduleReorderResponse from(ScheduleReorderResult scheduleReorderResult) {
+        return ScheduleReorderResponse.builder()
+                .tripId(scheduleReorderResult.getTripId())
+                .reorderedScheduleCount(scheduleReorderResult.getReorderedScheduleCount())
+                .build();
+    }
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private ScheduleReorderResponse(Long tripId, int reorderedScheduleCount) {
+        this.tripId = tripId;
+        this.reorderedScheduleCount = reorderedScheduleCount;
+    }
+}
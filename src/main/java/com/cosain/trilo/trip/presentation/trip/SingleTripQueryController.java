@@ -2,6 +2,7 @@ package com.cosain.trilo.trip.presentation.trip;
 
 import com.cosain.trilo.trip.application.trip.service.trip_detail_search.TripDetailSearchService;
 import com.cosain.trilo.trip.application.trip.service.trip_detail_search.TripDetail;
+import com.cosain.trilo.trip.presentation.etag.TripETag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -17,6 +18,7 @@ public class SingleTripQueryController {
     private final TripDetailSearchService tripDetailSearchService;
 
     @GetMapping("/api/trips/{tripId}")
+    @TripETag
     @ResponseStatus(HttpStatus.OK)
     public TripDetail findSingleTrip(@PathVariable Long tripId) {
         return tripDetailSearchService.searchTripDetail(tripId);
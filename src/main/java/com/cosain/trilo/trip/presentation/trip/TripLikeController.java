@@ -0,0 +1,53 @@
+package com.cosain.trilo.trip.presentation.trip;
+
+import com.cosain.trilo.auth.application.token.UserPayload;
+import com.cosain.trilo.auth.presentation.Login;
+import com.cosain.trilo.auth.presentation.LoginUser;
+import com.cosain.trilo.common.exception.trip.TripNotFoundException;
+import com.cosain.trilo.trip.application.trip.service.trip_like.TripLikeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 여행 좋아요/좋아요 취소 웹 요청을 처리하는 Controller
+ */
+@RequiredArgsConstructor
+@RestController
+public class TripLikeController {
+
+    /**
+     * 여행 좋아요 서비스
+     */
+    private final TripLikeService tripLikeService;
+
+    /**
+     * 사용자의 여행 좋아요 요청을 받아 처리하고, 컨텐츠가 없음을 나타내는 상태코드({@link HttpStatus#NO_CONTENT})를 응답합니다.
+     * @param userPayload 인증 사용자 정보
+     * @param tripId 좋아요 할 여행 id(식별자)
+     * @throws TripNotFoundException 일치하는 식별자의 여행을 찾지 못 했을 때
+     */
+    @Login
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PostMapping("/api/trips/{tripId}/likes")
+    public void likeTrip(@LoginUser UserPayload userPayload, @PathVariable Long tripId) throws TripNotFoundException {
+        tripLikeService.like(tripId, userPayload.getId());
+    }
+
+    /**
+     * 사용자의 여행 좋아요 취소 요청을 받아 처리하고, 컨텐츠가 없음을 나타내는 상태코드({@link HttpStatus#NO_CONTENT})를 응답합니다.
+     * @param userPayload 인증 사용자 정보
+     * @param tripId 좋아요 취소할 여행 id(식별자)
+     * @throws TripNotFoundException 일치하는 식별자의 여행을 찾지 못 했을 때
+     */
+    @Login
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @DeleteMapping("/api/trips/{tripId}/likes")
+    public void unlikeTrip(@LoginUser UserPayload userPayload, @PathVariable Long tripId) throws TripNotFoundException {
+        tripLikeService.unlike(tripId, userPayload.getId());
+    }
+}
@@ -0,0 +1,58 @@
+package com.cosain.trilo.trip.presentation.trip;
+
+import com.cosain.trilo.trip.application.trip.service.trip_snapshot_search.TripSnapshot;
+import com.cosain.trilo.trip.application.trip.service.trip_snapshot_search.TripSnapshotSearchService;
+import com.cosain.trilo.trip.presentation.etag.TripETag;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class TripSnapshotQueryController {
+
+    private final TripSnapshotSearchService tripSnapshotSearchService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * <p>여행 스냅샷(여행, Day 별 일정 목록, 임시보관함 전체)을 조회합니다.</p>
+     * <p>일정이 많은 여행도 응답 전체를 문자열로 만들어두지 않도록, Day/일정 단위로 응답 스트림에 바로 직렬화합니다.</p>
+     */
+    @GetMapping("/api/trips/{tripId}/snapshot")
+    @TripETag
+    public void findTripSnapshot(@PathVariable Long tripId, HttpServletResponse response) throws IOException {
+        TripSnapshot snapshot = tripSnapshotSearchService.searchTripSnapshot(tripId);
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        try (JsonGenerator generator = objectMapper.createGenerator(response.getOutputStream(), JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeFieldName("trip");
+            objectMapper.writeValue(generator, snapshot.getTrip());
+            writeArray(generator, "days", snapshot.getDays());
+            writeArray(generator, "temporarySchedules", snapshot.getTemporarySchedules());
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeArray(JsonGenerator generator, String fieldName, List<?> elements) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (Object element : elements) {
+            objectMapper.writeValue(generator, element);
+        }
+        generator.writeEndArray();
+    }
+}
@@ -4,6 +4,7 @@ import com.cosain.trilo.trip.application.trip.service.temporary_search.TempSched
 import com.cosain.trilo.trip.application.trip.service.temporary_search.TempScheduleListSearchResult;
 import com.cosain.trilo.trip.application.trip.service.temporary_search.TemporarySearchService;
 import com.cosain.trilo.trip.presentation.trip.dto.request.TempScheduleListRequest;
+import com.cosain.trilo.trip.presentation.etag.TripETag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
@@ -15,6 +16,7 @@ public class TripTemporaryStorageQueryController {
     private final TemporarySearchService temporarySearchService;
 
     @GetMapping("/api/trips/{tripId}/temporary-storage")
+    @TripETag
     @ResponseStatus(HttpStatus.OK)
     public TempScheduleListSearchResult findTripTemporaryStorage(@PathVariable Long tripId, @ModelAttribute TempScheduleListRequest request) {
         var queryParam = TempScheduleListQueryParam.of(tripId, request.getScheduleId(), request.getSize());
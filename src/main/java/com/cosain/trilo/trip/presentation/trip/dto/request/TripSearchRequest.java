@@ -1,5 +1,6 @@
 package com.cosain.trilo.trip.presentation.trip.dto.request;
 
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Max;
 import lombok.Getter;
 
@@ -14,13 +15,28 @@ public class TripSearchRequest {
     private Integer size;
     private Long tripId;
 
+    /**
+     * 좋아요 순 조회 시 커서(tripId)와 함께 전달하는 직전 페이지 마지막 여행의 좋아요 수
+     */
+    private Long likeCount;
+
     private TripSearchRequest(){}
 
-    public TripSearchRequest(String query, String sortType, Integer size, Long tripId){
+    /**
+     * 좋아요 순 조회의 커서는 (likeCount, tripId) 둘 다 있거나 둘 다 없어야 함.
+     * 하나만 오면 커서를 쓸 수 없어 첫 페이지를 다시 돌려주게 되므로(무한 스크롤이 끝나지 않음) 거절함
+     */
+    @AssertTrue(message = "trip-0012")
+    public boolean isLikeCursorComplete() {
+        return sortType != SortType.LIKE || (tripId == null) == (likeCount == null);
+    }
+
+    public TripSearchRequest(String query, String sortType, Integer size, Long tripId, Long likeCount){
         this.query = query;
         this.sortType = SortType.of(sortType);
         this.size = size == null ? DEFAULT_SIZE : size;
         this.tripId = tripId;
+        this.likeCount = likeCount;
     }
 
     public enum SortType{
@@ -28,7 +44,7 @@ public class TripSearchRequest {
         public static SortType of(String sortTypeStr){
 
             for(SortType st : SortType.values()){
-                if(st.equals(sortTypeStr)){
+                if(st.name().equals(sortTypeStr)){
                     return st;
                 }
             }
@@ -1,21 +1,19 @@
 package com.cosain.trilo.user.application;
 
-import com.cosain.trilo.user.domain.UserRepository;
+import com.cosain.trilo.user.infra.WithdrawnUserPurgeJob;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
 public class UserScheduledService {
 
-    private final UserRepository userRepository;
+    private final WithdrawnUserPurgeJob withdrawnUserPurgeJob;
 
-    // 매주 월요일 오전 5시
-    @Scheduled(cron = "0 0 5 ? * MON")
-    @Transactional
+    // 매주 월요일 오전 5시 (여러 서버에서 동시에 실행돼도 임대를 가진 한 곳에서만 삭제)
+    @Scheduled(cron = "${user.purge.cron:0 0 5 ? * MON}")
     public void deleteAllUserWithDelFlag(){
-        userRepository.deleteAllWhereIsDelTrue();
+        withdrawnUserPurgeJob.run();
     }
 }
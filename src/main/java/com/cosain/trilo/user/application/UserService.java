@@ -19,7 +19,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.Optional;
 
 @Service
 @Transactional
@@ -46,18 +45,10 @@ public class UserService {
      * 최초 회원 : 생성
      * 기존 회원 : 업데이트
      * 탈퇴 예정 회원 : 업데이트 & 복구
+     * (이메일 기준 upsert 한 문장으로 처리)
      */
     public Long createOrUpdate(OAuthProfileDto oAuthProfileDto){
-        Optional<User> userOptional = userRepository.findByEmail(oAuthProfileDto.getEmail());
-
-        User user = userOptional.map(existingUser -> {
-            existingUser.updateUserByOauthProfile(oAuthProfileDto);
-            if(existingUser.isDeleted()) existingUser.cancelWithdrawal();
-            return existingUser;
-        }).orElse(User.from(oAuthProfileDto));
-
-        User savedUser = userRepository.save(user);
-        return savedUser.getId();
+        return userRepository.upsert(User.from(oAuthProfileDto));
     }
 
     @Transactional(readOnly = true)
@@ -84,7 +75,7 @@ public class UserService {
         User findUser = userRepository.findById(targetUserId)
                 .orElseThrow(UserNotFoundException::new);
 
-        eventPublisher.publishEvent(new UserDeleteEvent(findUser.getId())); // 비동기적으로 사용자 관련된 여행 정보 삭제
+        eventPublisher.publishEvent(new UserDeleteEvent(findUser.getId())); // 탈퇴와 같은 트랜잭션에서 outbox 에 기록, 커밋 후 사용자 관련된 여행 정보 삭제
         findUser.proceedWithdrawal();
         userRepository.save(findUser);
     }
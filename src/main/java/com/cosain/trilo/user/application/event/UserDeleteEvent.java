@@ -1,12 +1,20 @@
 package com.cosain.trilo.user.application.event;
 
+import com.cosain.trilo.common.outbox.OutboxEvent;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 
+/**
+ * 회원이 탈퇴했을 때 발행되는 이벤트입니다. 탈퇴와 같은 트랜잭션에서 outbox 에 기록되고, 커밋 후 회원의 여행 삭제에 쓰입니다.
+ */
 @Getter
-public class UserDeleteEvent {
+public class UserDeleteEvent implements OutboxEvent {
 
     private final Long userId;
-    public UserDeleteEvent(Long userId) {
+
+    @JsonCreator
+    public UserDeleteEvent(@JsonProperty("userId") Long userId) {
         this.userId = userId;
     }
 
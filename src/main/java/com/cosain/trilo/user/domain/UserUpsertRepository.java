@@ -0,0 +1,16 @@
+package com.cosain.trilo.user.domain;
+
+public interface UserUpsertRepository {
+
+    /**
+     * 이메일을 기준으로 사용자를 생성하거나 갱신합니다. (단일 SQL)
+     * <ul>
+     *     <li>최초 회원 : 생성</li>
+     *     <li>기존 회원 : 닉네임, 프로필 이미지 갱신</li>
+     *     <li>탈퇴 예정 회원 : 갱신 & 복구(is_deleted = false)</li>
+     * </ul>
+     * @param user 저장할 사용자 정보 (id 없음)
+     * @return 생성/갱신된 사용자의 id
+     */
+    Long upsert(User user);
+}
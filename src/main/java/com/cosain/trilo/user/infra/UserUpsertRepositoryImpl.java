@@ -0,0 +1,45 @@
+package com.cosain.trilo.user.infra;
+
+import com.cosain.trilo.user.domain.User;
+import com.cosain.trilo.user.domain.UserUpsertRepository;
+import com.mysql.cj.jdbc.JdbcStatement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+
+/**
+ * <p>이메일 유니크 인덱스(uk_email)를 이용한 MySQL upsert 구현체입니다. (UserRepository 의 fragment)</p>
+ * <p>조회 후 저장하는 방식은 왕복이 2번 이상이고, 같은 이메일로 동시에 최초 로그인하면 중복 생성될 수 있어
+ * INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 처리합니다.</p>
+ * <p>user_id = LAST_INSERT_ID(user_id) 로 기존 행의 id 를 LAST_INSERT_ID 에 실어, 추가 조회 없이 OK 패킷에서 id 를 읽어옵니다.
+ * (getGeneratedKeys 는 변경된 행 수에 따라 키를 0개 또는 2개 돌려주므로 사용하지 않음)</p>
+ */
+@RequiredArgsConstructor
+public class UserUpsertRepositoryImpl implements UserUpsertRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO users (nick_name, email, profile_image_url, auth_provider, user_role, my_page_image_file_name, is_deleted)
+            VALUES (?, ?, ?, ?, ?, ?, false)
+            ON DUPLICATE KEY UPDATE
+                user_id = LAST_INSERT_ID(user_id),
+                nick_name = VALUES(nick_name),
+                profile_image_url = VALUES(profile_image_url),
+                is_deleted = false
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Long upsert(User user) {
+        return jdbcTemplate.execute(UPSERT_SQL, (PreparedStatementCallback<Long>) ps -> {
+            ps.setString(1, user.getNickName());
+            ps.setString(2, user.getEmail());
+            ps.setString(3, user.getProfileImageURL());
+            ps.setString(4, user.getAuthProvider().name());
+            ps.setString(5, user.getRole().name());
+            ps.setString(6, user.getMyPageImage().getFileName());
+            ps.executeUpdate();
+            return ps.unwrap(JdbcStatement.class).getLastInsertID();
+        });
+    }
+}
@@ -0,0 +1,190 @@
+package com.cosain.trilo.user.infra;
+
+import com.cosain.trilo.common.lease.JobLease;
+import com.cosain.trilo.trip.application.trip.service.trip_all_delete.TripPurger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * <p>탈퇴한 회원(is_deleted = true)을 user_id 순으로 batchSize 명씩 찾아, 여행과 함께 완전히 삭제하는 작업입니다.</p>
+ * <ul>
+ *     <li>회원마다 {@link TripPurger} 로 여행(일정, Day 포함)을 먼저 나누어 지운 뒤, 회원 행을 별도 트랜잭션으로 지웁니다.
+ *     여행이 남아 있어 외래 키에 걸리는 회원은 건너뛰고 다음 실행에 다시 시도합니다.</li>
+ *     <li>여러 서버 중 {@link JobLease} 임대를 가진 한 곳에서만 실행합니다.
+ *     진행 위치는 묶음마다 임대 행에 기록하므로, 중간에 서버가 죽으면 다음 실행(다른 서버여도)이 그 위치부터 이어서 삭제합니다.</li>
+ *     <li>회원마다 임대를 연장하며, 연장에 실패하면(임대를 잃으면) 바로 멈춥니다.</li>
+ *     <li>초당 usersPerSecond 명을 넘지 않도록 묶음 사이에 쉽니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class WithdrawnUserPurgeJob {
+
+    public static final String JOB_NAME = "withdrawn-user-purge";
+
+    private static final String METRIC_PREFIX = "user.purge";
+
+    private static final String FIND_WITHDRAWN_USER_IDS_SQL =
+            "SELECT user_id FROM users WHERE is_deleted = true AND user_id > ? ORDER BY user_id LIMIT ?";
+
+    /**
+     * 그 사이 탈퇴를 취소한 회원은 지우지 않도록 탈퇴 여부를 다시 확인합니다.
+     */
+    private static final String DELETE_USER_SQL = "DELETE FROM users WHERE user_id = ? AND is_deleted = true";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final TripPurger tripPurger;
+    private final JobLease jobLease;
+
+    /**
+     * 한 번에 찾아 삭제할 최대 회원 수 (진행 위치 기록 단위)
+     */
+    private final int batchSize;
+
+    /**
+     * 초당 삭제할 최대 회원 수
+     */
+    private final int usersPerSecond;
+
+    /**
+     * 임대 기간(초). 회원 한 명의 여행을 지우는 시간보다 길어야 합니다.
+     */
+    private final long leaseSeconds;
+
+    private final Counter deletedUserCounter;
+    private final Counter deletedTripCounter;
+    private final Counter failureCounter;
+    private final Timer runTimer;
+    private final DistributionSummary throughputSummary;
+
+    public WithdrawnUserPurgeJob(
+            JdbcTemplate jdbcTemplate,
+            TransactionOperations transactionOperations,
+            TripPurger tripPurger,
+            JobLease jobLease,
+            MeterRegistry meterRegistry,
+            @Value("${user.purge.batch-size:100}") int batchSize,
+            @Value("${user.purge.users-per-second:50}") int usersPerSecond,
+            @Value("${user.purge.lease-seconds:600}") long leaseSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.tripPurger = tripPurger;
+        this.jobLease = jobLease;
+        this.batchSize = batchSize;
+        this.usersPerSecond = usersPerSecond;
+        this.leaseSeconds = leaseSeconds;
+
+        this.deletedUserCounter = Counter.builder(METRIC_PREFIX + ".deleted-users")
+                .description("완전히 삭제한 탈퇴 회원 수")
+                .register(meterRegistry);
+        this.deletedTripCounter = Counter.builder(METRIC_PREFIX + ".deleted-trips")
+                .description("탈퇴 회원과 함께 삭제한 여행 수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder(METRIC_PREFIX + ".failures")
+                .description("삭제에 실패해 다음 실행으로 미룬 회원 수")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder(METRIC_PREFIX + ".run")
+                .description("탈퇴 회원 삭제 작업 한 번의 소요 시간")
+                .register(meterRegistry);
+        this.throughputSummary = DistributionSummary.builder(METRIC_PREFIX + ".users-per-second")
+                .description("탈퇴 회원 삭제 작업 한 번의 초당 삭제 회원 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 임대를 가져와 지난 진행 위치부터 탈퇴 회원을 삭제합니다. 끝까지 삭제하면 진행 위치를 처음으로 되돌립니다.
+     * @return 실행 결과 (다른 서버가 임대 중이면 건너뜀)
+     */
+    public WithdrawnUserPurgeResult run() {
+        if (!jobLease.tryAcquire(JOB_NAME, leaseSeconds)) {
+            log.info("탈퇴 회원 삭제 건너뜀 : 다른 서버가 실행 중");
+            return WithdrawnUserPurgeResult.skipped();
+        }
+
+        long startNanos = System.nanoTime();
+        long deletedUsers = 0L;
+        long deletedTrips = 0L;
+        try {
+            long lastUserId = jobLease.getCheckpoint(JOB_NAME);
+            while (true) {
+                List<Long> userIds = jdbcTemplate.queryForList(FIND_WITHDRAWN_USER_IDS_SQL, Long.class, lastUserId, batchSize);
+                if (userIds.isEmpty()) {
+                    jobLease.saveCheckpoint(JOB_NAME, 0L, leaseSeconds);
+                    break;
+                }
+
+                long batchStartNanos = System.nanoTime();
+                for (Long userId : userIds) {
+                    if (!jobLease.saveCheckpoint(JOB_NAME, lastUserId, leaseSeconds)) {
+                        log.warn("탈퇴 회원 삭제 중단 : 임대를 잃음, lastUserId = {}", lastUserId);
+                        return finish(deletedUsers, deletedTrips, startNanos);
+                    }
+                    try {
+                        long trips = tripPurger.purgeAllByTripperId(userId);
+                        deletedTrips += trips;
+                        deletedTripCounter.increment(trips);
+                        if (transactionOperations.execute(status -> jdbcTemplate.update(DELETE_USER_SQL, userId)) == 1) {
+                            deletedUsers++;
+                            deletedUserCounter.increment();
+                        }
+                    } catch (RuntimeException e) {
+                        failureCounter.increment();
+                        log.warn("탈퇴 회원 삭제 실패, 다음 실행에 재시도 : userId = {}", userId, e);
+                    }
+                }
+                lastUserId = userIds.get(userIds.size() - 1);
+
+                if (!jobLease.saveCheckpoint(JOB_NAME, lastUserId, leaseSeconds)) {
+                    log.warn("탈퇴 회원 삭제 중단 : 임대를 잃음, lastUserId = {}", lastUserId);
+                    break;
+                }
+                if (!throttle(userIds.size(), batchStartNanos)) {
+                    break;
+                }
+            }
+        } finally {
+            jobLease.release(JOB_NAME);
+        }
+        return finish(deletedUsers, deletedTrips, startNanos);
+    }
+
+    /**
+     * 묶음의 회원 수를 초당 usersPerSecond 명으로 나눈 시간이 지날 때까지 쉽니다.
+     * @return 인터럽트되었으면 false
+     */
+    private boolean throttle(int users, long batchStartNanos) {
+        long minMillis = users * 1000L / usersPerSecond;
+        long sleepMillis = minMillis - Duration.ofNanos(System.nanoTime() - batchStartNanos).toMillis();
+        if (sleepMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(sleepMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private WithdrawnUserPurgeResult finish(long deletedUsers, long deletedTrips, long startNanos) {
+        WithdrawnUserPurgeResult result = WithdrawnUserPurgeResult.of(deletedUsers, deletedTrips, Duration.ofNanos(System.nanoTime() - startNanos));
+        runTimer.record(result.getElapsed());
+        throughputSummary.record(result.getUsersPerSecond());
+        log.info("탈퇴 회원 삭제 : 회원 {}명, 여행 {}개, 소요 시간 {}ms, 초당 {}명",
+                result.getDeletedUsers(), result.getDeletedTrips(), result.getElapsed().toMillis(),
+                String.format("%.1f", result.getUsersPerSecond()));
+        return result;
+    }
+}
@@ -0,0 +1,55 @@
+package com.cosain.trilo.user.infra;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 탈퇴 회원 삭제 작업 한 번의 실행 결과를 바인딩한 객체입니다.
+ */
+@Getter
+public class WithdrawnUserPurgeResult {
+
+    /**
+     * 다른 서버가 임대 중이라 실행하지 않았는 지 여부
+     */
+    private final boolean skipped;
+
+    /**
+     * 삭제한 회원 수
+     */
+    private final long deletedUsers;
+
+    /**
+     * 회원과 함께 삭제한 여행 수
+     */
+    private final long deletedTrips;
+
+    /**
+     * 실행 소요 시간
+     */
+    private final Duration elapsed;
+
+    public static WithdrawnUserPurgeResult skipped() {
+        return new WithdrawnUserPurgeResult(true, 0L, 0L, Duration.ZERO);
+    }
+
+    public static WithdrawnUserPurgeResult of(long deletedUsers, long deletedTrips, Duration elapsed) {
+        return new WithdrawnUserPurgeResult(false, deletedUsers, deletedTrips, elapsed);
+    }
+
+    private WithdrawnUserPurgeResult(boolean skipped, long deletedUsers, long deletedTrips, Duration elapsed) {
+        this.skipped = skipped;
+        this.deletedUsers = deletedUsers;
+        this.deletedTrips = deletedTrips;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * 초당 삭제한 회원 수
+     */
+    public double getUsersPerSecond() {
+        long millis = elapsed.toMillis();
+        return (millis == 0) ? deletedUsers : deletedUsers * 1000.0 / millis;
+    }
+}
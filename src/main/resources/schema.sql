@@ -1,3 +1,10 @@
+DROP TABLE IF EXISTS `trilo_db`.`outbox_dead_letter`;
+DROP TABLE IF EXISTS `trilo_db`.`outbox_event`;
+DROP TABLE IF EXISTS `trilo_db`.`job_lease`;
+DROP TABLE IF EXISTS `trilo_db`.`trip_purge_progress`;
+DROP TABLE IF EXISTS `trilo_db`.`trip_statistics`;
+DROP TABLE IF EXISTS `trilo_db`.`trip_like`;
+DROP TABLE IF EXISTS `trilo_db`.`trip_title_ngram`;
 DROP TABLE IF EXISTS `trilo_db`.`schedules`;
 DROP TABLE IF EXISTS `trilo_db`.`days`;
 DROP TABLE IF EXISTS `trilo_db`.`trip`;
@@ -12,7 +19,7 @@ CREATE TABLE IF NOT EXISTS `trilo_db`.`users` (
     user_role               VARCHAR(255) NOT NULL,
     my_page_image_file_name VARCHAR(255) NOT NULL,
     is_deleted              BOOLEAN      NOT NULL,
-    INDEX idx_email (email),
+    UNIQUE INDEX uk_email (email),
     PRIMARY KEY (user_id)
 );
 
@@ -24,16 +31,23 @@ CREATE TABLE IF NOT EXISTS `trilo_db`.`trip`(
     start_date           DATE,
     end_date             DATE,
     trip_image_file_name VARCHAR(255),
+    trip_like_count      BIGINT      NOT NULL DEFAULT 0,
+    trip_version         BIGINT      NOT NULL DEFAULT 0,
+    trip_schedule_count  INT         NOT NULL DEFAULT 0,
     INDEX idx_title (trip_title),
+    INDEX idx_like_count (trip_like_count, trip_id),
     INDEX idx_status (trip_status),
+    INDEX idx_tripper_end_date (tripper_id, end_date),
+    INDEX idx_tripper_id (tripper_id),
     PRIMARY KEY (trip_id)
 );
 
 CREATE TABLE IF NOT EXISTS `trilo_db`.`days` (
-    day_id    BIGINT      NOT NULL AUTO_INCREMENT,
-    trip_id   BIGINT      NOT NULL,
-    trip_date DATE        NOT NULL,
-    day_color VARCHAR(20) NOT NULL,
+    day_id             BIGINT      NOT NULL AUTO_INCREMENT,
+    trip_id            BIGINT      NOT NULL,
+    trip_date          DATE        NOT NULL,
+    day_color          VARCHAR(20) NOT NULL,
+    day_schedule_count INT         NOT NULL DEFAULT 0,
     PRIMARY KEY (day_id)
 );
 
@@ -42,6 +56,7 @@ CREATE TABLE IF NOT EXISTS `trilo_db`.`schedules` (
     trip_id          BIGINT      NOT NULL,
     day_id           BIGINT,
     schedule_index   BIGINT      NOT NULL,
+    schedule_order_key VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin NOT NULL DEFAULT '',
     schedule_title   VARCHAR(35) NOT NULL,
     schedule_content TEXT        NOT NULL,
     place_id         VARCHAR(255),
@@ -50,9 +65,77 @@ CREATE TABLE IF NOT EXISTS `trilo_db`.`schedules` (
     place_longitude  FLOAT(53)   NOT NULL,
     start_time       TIME        NOT NULL,
     end_time         TIME        NOT NULL,
+    INDEX idx_day_schedule_index (day_id, schedule_index, schedule_order_key),
+    INDEX idx_trip_day_schedule_index (trip_id, day_id, schedule_index, schedule_order_key),
     PRIMARY KEY (schedule_id)
 );
 
+-- 대소문자, 악센트 차이는 gram 컬럼의 collation 으로 무시함
+-- 이미 만들어진 테이블 : (collation 이 바뀌면 (gram, trip_id) 가 겹칠 수 있으므로 비운 뒤 바꾸고, trip.search.title-index.rebuild-on-startup 으로 다시 채움)
+-- TRUNCATE TABLE `trilo_db`.`trip_title_ngram`;
+-- ALTER TABLE `trilo_db`.`trip_title_ngram` MODIFY gram VARCHAR(2) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NOT NULL;
+CREATE TABLE IF NOT EXISTS `trilo_db`.`trip_title_ngram` (
+    gram    VARCHAR(2) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NOT NULL,
+    trip_id BIGINT     NOT NULL,
+    PRIMARY KEY (gram, trip_id),
+    INDEX idx_trip_id (trip_id)
+);
+
+CREATE TABLE IF NOT EXISTS `trilo_db`.`trip_like` (
+    trip_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    PRIMARY KEY (trip_id, user_id),
+    INDEX idx_user_id (user_id)
+);
+
+CREATE TABLE IF NOT EXISTS `trilo_db`.`trip_statistics` (
+    tripper_id          BIGINT NOT NULL,
+    total_trip_cnt      BIGINT NOT NULL,
+    terminated_trip_cnt BIGINT NOT NULL,
+    terminated_as_of    DATE   NOT NULL,
+    PRIMARY KEY (tripper_id)
+);
+
+CREATE TABLE IF NOT EXISTS `trilo_db`.`trip_purge_progress` (
+    tripper_id      BIGINT   NOT NULL,
+    last_trip_id    BIGINT   NOT NULL,
+    purged_trip_cnt BIGINT   NOT NULL,
+    updated_at      DATETIME NOT NULL,
+    PRIMARY KEY (tripper_id),
+    INDEX idx_updated_at (updated_at)
+);
+
+CREATE TABLE IF NOT EXISTS `trilo_db`.`job_lease` (
+    job_name    VARCHAR(100) NOT NULL,
+    owner       VARCHAR(255) NOT NULL,
+    lease_until DATETIME(3)  NOT NULL,
+    checkpoint  BIGINT       NOT NULL DEFAULT 0,
+    PRIMARY KEY (job_name)
+);
+
+CREATE TABLE IF NOT EXISTS `trilo_db`.`outbox_event` (
+    event_id     BIGINT        NOT NULL AUTO_INCREMENT,
+    event_type   VARCHAR(255)  NOT NULL,
+    payload      VARCHAR(4000) NOT NULL,
+    attempts     INT           NOT NULL DEFAULT 0,
+    last_error   VARCHAR(500),
+    created_at   DATETIME(3)   NOT NULL,
+    available_at DATETIME(3)   NOT NULL,
+    INDEX idx_available_at (available_at, event_id),
+    PRIMARY KEY (event_id)
+);
+
+CREATE TABLE IF NOT EXISTS `trilo_db`.`outbox_dead_letter` (
+    event_id     BIGINT        NOT NULL,
+    event_type   VARCHAR(255)  NOT NULL,
+    payload      VARCHAR(4000) NOT NULL,
+    attempts     INT           NOT NULL,
+    last_error   VARCHAR(500),
+    created_at   DATETIME(3)   NOT NULL,
+    dead_at      DATETIME(3)   NOT NULL,
+    PRIMARY KEY (event_id)
+);
+
 ALTER TABLE `trilo_db`.`trip`
 ADD FOREIGN KEY (tripper_id) REFERENCES `trilo_db`.`users` (user_id);
 
@@ -0,0 +1,131 @@
+package com.cosain.trilo.benchmark.auth;
+
+import com.cosain.trilo.auth.domain.LogoutAccessToken;
+import com.cosain.trilo.auth.domain.RefreshToken;
+import com.cosain.trilo.auth.domain.repository.TokenRepository;
+import com.cosain.trilo.auth.infra.repository.LogoutAccessTokenRepository;
+import com.cosain.trilo.auth.infra.repository.RefreshTokenRepository;
+import com.cosain.trilo.auth.infra.repository.TokenRepositoryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Properties;
+
+/**
+ * <p>로그인(재발급 토큰 저장) / 로그아웃(로그아웃 토큰 저장 + 재발급 토큰 삭제) 1회당 Redis 명령 수와 메모리 사용량 비교</p>
+ * <ul>
+ *     <li>legacy : @RedisHash + CrudRepository</li>
+ *     <li>compact : TokenRepositoryImpl (SET key value PX ttl, 로그아웃은 파이프라인)</li>
+ * </ul>
+ * <p>테스트용 Redis 의 현재 DB를 비우고 측정합니다. 실행 : ./gradlew benchmarkTest</p>
+ */
+@Tag("benchmark")
+@DataRedisTest
+@DisplayName("[벤치마크] 토큰 저장소 Redis 명령 수/메모리 비교")
+class TokenStoreBenchmarkTest {
+
+    private static final int LOGIN_COUNT = 1000;
+    private static final long EXPIRY = 60 * 60 * 1000L;
+
+    @Autowired
+    LogoutAccessTokenRepository logoutAccessTokenRepository;
+    @Autowired
+    RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    StringRedisTemplate redisTemplate;
+
+    TokenRepository tokenRepository;
+
+    @BeforeEach
+    void setUp() {
+        tokenRepository = new TokenRepositoryImpl(logoutAccessTokenRepository, refreshTokenRepository, redisTemplate, false);
+        redisTemplate.execute((RedisConnection connection) -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+    }
+
+    @Test
+    void 레거시_레이아웃() {
+        Snapshot before = snapshot();
+        for (int i = 0; i < LOGIN_COUNT; i++) {
+            refreshTokenRepository.save(RefreshToken.of(refreshToken(i), EXPIRY));
+        }
+        Snapshot afterLogin = snapshot();
+        for (int i = 0; i < LOGIN_COUNT; i++) {
+            logoutAccessTokenRepository.save(LogoutAccessToken.of(accessToken(i), EXPIRY));
+            refreshTokenRepository.deleteById(refreshToken(i));
+        }
+        Snapshot afterLogout = snapshot();
+
+        report("legacy", before, afterLogin, afterLogout);
+    }
+
+    @Test
+    void 압축_레이아웃() {
+        Snapshot before = snapshot();
+        for (int i = 0; i < LOGIN_COUNT; i++) {
+            tokenRepository.saveRefreshToken(RefreshToken.of(refreshToken(i), EXPIRY));
+        }
+        Snapshot afterLogin = snapshot();
+        for (int i = 0; i < LOGIN_COUNT; i++) {
+            tokenRepository.saveLogoutAccessTokenAndDeleteRefreshToken(LogoutAccessToken.of(accessToken(i), EXPIRY), refreshToken(i));
+        }
+        Snapshot afterLogout = snapshot();
+
+        report("compact", before, afterLogin, afterLogout);
+    }
+
+    private void report(String name, Snapshot before, Snapshot afterLogin, Snapshot afterLogout) {
+        System.out.printf("[%s] login  : %.2f commands/op, %.1f bytes/op%n", name,
+                (double) (afterLogin.commands - before.commands) / LOGIN_COUNT,
+                (double) (afterLogin.usedMemory - before.usedMemory) / LOGIN_COUNT);
+        System.out.printf("[%s] logout : %.2f commands/op, %d keys left (%d login+logout ops)%n", name,
+                (double) (afterLogout.commands - afterLogin.commands) / LOGIN_COUNT,
+                afterLogout.keys, LOGIN_COUNT);
+        System.out.printf("[%s] memory after logout : %.1f bytes/op%n", name,
+                (double) (afterLogout.usedMemory - before.usedMemory) / LOGIN_COUNT);
+    }
+
+    /**
+     * INFO commandstats 의 호출 수 합계(INFO 자체 제외)와 used_memory, 키 개수를 읽습니다.
+     */
+    private Snapshot snapshot() {
+        return redisTemplate.execute((RedisConnection connection) -> {
+            Properties commandStats = connection.serverCommands().info("commandstats");
+            long commands = 0;
+            for (String name : commandStats.stringPropertyNames()) {
+                if (name.startsWith("cmdstat_") && !name.equals("cmdstat_info") && !name.equals("cmdstat_dbsize")) {
+                    commands += parseCalls(commandStats.getProperty(name));
+                }
+            }
+            Properties memory = connection.serverCommands().info("memory");
+            long usedMemory = Long.parseLong(memory.getProperty("used_memory"));
+            Long keys = connection.serverCommands().dbSize();
+            return new Snapshot(commands, usedMemory, keys == null ? 0 : keys);
+        });
+    }
+
+    private static long parseCalls(String stat) {
+        // calls=10,usec=30,usec_per_call=3.00,...
+        String calls = stat.split(",")[0];
+        return Long.parseLong(calls.substring(calls.indexOf('=') + 1));
+    }
+
+    private static String refreshToken(int i) {
+        return "refresh." + "R".repeat(150) + i;
+    }
+
+    private static String accessToken(int i) {
+        return "access." + "A".repeat(150) + i;
+    }
+
+    private record Snapshot(long commands, long usedMemory, long keys) {
+    }
+}
@@ -0,0 +1,140 @@
+package com.cosain.trilo.benchmark.trip;
+
+import com.cosain.trilo.trip.application.schedule.service.schedule_compaction.ScheduleCompactionService;
+import com.cosain.trilo.trip.application.schedule.service.schedule_move.ScheduleMoveCommand;
+import com.cosain.trilo.trip.application.schedule.service.schedule_move.ScheduleMoveService;
+import com.cosain.trilo.trip.domain.vo.ScheduleIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>같은 자리(Day 의 두 번째 순서)에 일정을 반복해서 끼워 넣을 때, 요청 처리 중 재배치가 몇 번 일어나는지 비교합니다.</p>
+ * <ul>
+ *     <li>request-only : 간격 정리 없이 이동만 반복 (간격이 절반씩 줄어 결국 요청 중에 재배치)</li>
+ *     <li>background : 이동 사이사이 백그라운드 간격 정리를 실행 (ScheduleIndexCompactor 가 유휴 시간에 하는 일)</li>
+ * </ul>
+ * <p>실행 : ./gradlew benchmarkTest</p>
+ */
+@Tag("benchmark")
+@SpringBootTest
+@DisplayName("[벤치마크] 백그라운드 일정 순서값 간격 정리 전후 요청 중 재배치 횟수 비교")
+class ScheduleCompactionBenchmarkTest {
+
+    private static final int MOVE_COUNT = 200;
+    private static final int COMPACTION_INTERVAL = 5;
+    private static final long MIN_GAP = 10_000L;
+
+    @Autowired
+    private ScheduleMoveService scheduleMoveService;
+
+    @Autowired
+    private ScheduleCompactionService scheduleCompactionService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long tripperId;
+    private Long tripId;
+    private Long dayId;
+    private final List<Long> scheduleIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        tripperId = insert("""
+                INSERT INTO users (nick_name, email, auth_provider, user_role, my_page_image_file_name, is_deleted)
+                VALUES ('benchmark', 'schedule-compaction@benchmark.com', 'KAKAO', 'MEMBER', 'default.png', false)
+                """);
+        tripId = insert("INSERT INTO trip (tripper_id, trip_title, trip_status, start_date, end_date) VALUES (?, '간격 정리 벤치마크', 'DECIDED', '2023-05-01', '2023-05-01')",
+                tripperId);
+        dayId = insert("INSERT INTO days (trip_id, trip_date, day_color) VALUES (?, '2023-05-01', 'RED')", tripId);
+        for (int i = 0; i < 3; i++) {
+            scheduleIds.add(insert("""
+                            INSERT INTO schedules (trip_id, day_id, schedule_index, schedule_title, schedule_content,
+                            place_id, place_name, place_latitude, place_longitude, start_time, end_time)
+                            VALUES (?, ?, ?, '일정', '', 'place-id', '장소', 37.5, 127.0, '00:00:00', '00:00:00')
+                            """,
+                    tripId, dayId, i * ScheduleIndex.DEFAULT_SEQUENCE_GAP));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM schedules WHERE trip_id = ?", tripId);
+        jdbcTemplate.update("DELETE FROM days WHERE trip_id = ?", tripId);
+        jdbcTemplate.update("DELETE FROM trip_title_ngram WHERE trip_id = ?", tripId);
+        jdbcTemplate.update("DELETE FROM trip WHERE trip_id = ?", tripId);
+        jdbcTemplate.update("DELETE FROM trip_statistics WHERE tripper_id = ?", tripperId);
+        jdbcTemplate.update("DELETE FROM users WHERE user_id = ?", tripperId);
+    }
+
+    @Test
+    void 반복_중간_삽입시_요청_중_재배치_횟수_비교() {
+        long requestOnly = run(false);
+        resetIndexes();
+        long background = run(true);
+
+        System.out.printf("moves=%d : request-path relocations request-only %d, background %d%n",
+                MOVE_COUNT, requestOnly, background);
+        assertThat(requestOnly).isPositive();
+        assertThat(background).isZero();
+    }
+
+    /**
+     * 맨 뒤 일정을 두 번째 자리로 옮기기를 반복하고, 그 동안 요청 처리 중 일어난 재배치 횟수를 반환합니다.
+     */
+    private long run(boolean compactInBackground) {
+        double before = requestRelocations();
+        for (int i = 0; i < MOVE_COUNT; i++) {
+            Long lastScheduleId = jdbcTemplate.queryForObject(
+                    "SELECT schedule_id FROM schedules WHERE day_id = ? ORDER BY schedule_index DESC LIMIT 1", Long.class, dayId);
+            scheduleMoveService.moveSchedule(ScheduleMoveCommand.of(lastScheduleId, tripperId, dayId, 1));
+
+            if (compactInBackground && i % COMPACTION_INTERVAL == 0) {
+                scheduleCompactionService.compactIfDense(tripId, dayId, MIN_GAP);
+            }
+        }
+        return Math.round(requestRelocations() - before);
+    }
+
+    private double requestRelocations() {
+        return meterRegistry.get("trip.schedule.relocations").tag("path", "request").counter().count();
+    }
+
+    private void resetIndexes() {
+        for (int i = 0; i < scheduleIds.size(); i++) {
+            jdbcTemplate.update("UPDATE schedules SET schedule_index = ? WHERE schedule_id = ?",
+                    i * ScheduleIndex.DEFAULT_SEQUENCE_GAP, scheduleIds.get(i));
+        }
+    }
+
+    private Long insert(String sql, Object... args) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+}
@@ -0,0 +1,148 @@
+package com.cosain.trilo.benchmark.trip;
+
+import com.cosain.trilo.trip.domain.dto.ScheduleMoveNeighbors;
+import com.cosain.trilo.trip.domain.entity.Trip;
+import com.cosain.trilo.trip.domain.repository.ScheduleRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>일정 이동 시 도착지 조회 비용 비교 : 한 번의 이동 위치 계산에 읽는 행 수와 전송 바이트 수를 측정</p>
+ * <ul>
+ *     <li>collection : 임시보관함 컬렉션(Trip.temporaryStorage) 전체를 불러오는 기존 방식 (일정 본문 TEXT 포함)</li>
+ *     <li>neighbors : 일정 갯수와 대상 순서 주변의 순서값만 조회하는 방식 (ScheduleRepository.findScheduleMoveNeighbors)</li>
+ * </ul>
+ * <p>같은 커넥션의 세션 상태값(Handler_read_*, Bytes_sent) 차이로 측정합니다. 실행 : ./gradlew benchmarkTest</p>
+ */
+@Tag("benchmark")
+@SpringBootTest
+@DisplayName("[벤치마크] 일정 이동 도착지 조회 비용 비교")
+class ScheduleMoveNeighborsBenchmarkTest {
+
+    private static final int SCHEDULE_COUNT = Trip.MAX_TRIP_SCHEDULE_COUNT;
+    private static final int CONTENT_LENGTH = 2_000;
+    private static final int TARGET_ORDER = SCHEDULE_COUNT / 2;
+    private static final List<String> HANDLER_READS = List.of(
+            "Handler_read_first", "Handler_read_key", "Handler_read_last", "Handler_read_next",
+            "Handler_read_prev", "Handler_read_rnd", "Handler_read_rnd_next");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    private Long tripperId;
+    private Long tripId;
+    private Long moveScheduleId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (nick_name, email, auth_provider, user_role, my_page_image_file_name, is_deleted)
+                VALUES ('benchmark', 'schedule-neighbors@benchmark.com', 'KAKAO', 'MEMBER', 'default.png', false)
+                """);
+        tripperId = jdbcTemplate.queryForObject("SELECT user_id FROM users WHERE email = 'schedule-neighbors@benchmark.com'", Long.class);
+        jdbcTemplate.update("INSERT INTO trip (tripper_id, trip_title, trip_status) VALUES (?, '이웃 조회 벤치마크', 'UNDECIDED')", tripperId);
+        tripId = jdbcTemplate.queryForObject("SELECT MAX(trip_id) FROM trip WHERE tripper_id = ?", Long.class, tripperId);
+
+        List<Object> params = new ArrayList<>();
+        String content = "x".repeat(CONTENT_LENGTH);
+        for (long i = 0; i < SCHEDULE_COUNT; i++) {
+            params.add(tripId);
+            params.add(i * 10_000_000L);
+            params.add(content);
+        }
+        String values = String.join(", ", Collections.nCopies(SCHEDULE_COUNT,
+                "(?, NULL, ?, '일정', ?, 'place-id', '장소', 37.5, 127.0, '00:00:00', '00:00:00')"));
+        jdbcTemplate.update("""
+                INSERT INTO schedules (trip_id, day_id, schedule_index, schedule_title, schedule_content,
+                place_id, place_name, place_latitude, place_longitude, start_time, end_time) VALUES
+                """ + values, params.toArray());
+        moveScheduleId = jdbcTemplate.queryForObject("SELECT MAX(schedule_id) FROM schedules WHERE trip_id = ?", Long.class, tripId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM schedules WHERE trip_id = ?", tripId);
+        jdbcTemplate.update("DELETE FROM trip WHERE trip_id = ?", tripId);
+        jdbcTemplate.update("DELETE FROM users WHERE user_id = ?", tripperId);
+    }
+
+    @Test
+    void 이동_한_번에_읽는_행과_바이트_비교() {
+        Cost collection = measure(() -> {
+            Trip trip = em.find(Trip.class, tripId);
+            Hibernate.initialize(trip.getTemporaryStorage());
+            return trip.getTemporaryStorage().size();
+        });
+        Cost neighbors = measure(() -> {
+            ScheduleMoveNeighbors result = scheduleRepository.findScheduleMoveNeighbors(tripId, null, moveScheduleId, TARGET_ORDER);
+            assertThat(result.getScheduleCount()).isEqualTo(SCHEDULE_COUNT);
+            return result.getCurrentOrder() == null ? 4 : 5; // 맨 앞, 맨 뒤, 대상 순서와 그 앞, 옮길 일정 (겹치지 않는 경우)
+        });
+
+        System.out.printf("schedules=%d, content=%d bytes%n", SCHEDULE_COUNT, CONTENT_LENGTH);
+        System.out.printf("collection : rows returned %d, handler rows read %d, bytes sent %d%n",
+                collection.rowsReturned(), collection.handlerReads(), collection.bytesSent());
+        System.out.printf("neighbors  : rows returned %d, handler rows read %d, bytes sent %d%n",
+                neighbors.rowsReturned(), neighbors.handlerReads(), neighbors.bytesSent());
+
+        assertThat(neighbors.rowsReturned()).isLessThanOrEqualTo(5);
+        assertThat(neighbors.bytesSent()).isLessThan(collection.bytesSent() / 10);
+    }
+
+    /**
+     * 한 트랜잭션(같은 커넥션) 안에서 조회 전후의 세션 상태값 차이를 구합니다.
+     * 상태값 조회 자체의 비용은 빈 측정으로 구해 뺍니다.
+     */
+    private Cost measure(IntSupplier lookup) {
+        return transactionTemplate.execute(status -> {
+            Map<String, Long> base = sessionStatus();
+            Map<String, Long> overhead = sessionStatus();
+            int rows = lookup.getAsInt();
+            Map<String, Long> after = sessionStatus();
+            em.clear();
+
+            long handlerReads = HANDLER_READS.stream()
+                    .mapToLong(name -> (after.get(name) - overhead.get(name)) - (overhead.get(name) - base.get(name)))
+                    .sum();
+            long bytesSent = (after.get("Bytes_sent") - overhead.get("Bytes_sent")) - (overhead.get("Bytes_sent") - base.get("Bytes_sent"));
+            return new Cost(rows, handlerReads, bytesSent);
+        });
+    }
+
+    private Map<String, Long> sessionStatus() {
+        return jdbcTemplate.queryForList("SHOW SESSION STATUS WHERE Variable_name LIKE 'Handler_read%' OR Variable_name = 'Bytes_sent'").stream()
+                .collect(Collectors.toMap(
+                        row -> (String) row.get("Variable_name"),
+                        row -> Long.parseLong(String.valueOf(row.get("Value")))));
+    }
+
+    private record Cost(int rowsReturned, long handlerReads, long bytesSent) {
+    }
+}
@@ -0,0 +1,159 @@
+package com.cosain.trilo.benchmark.trip;
+
+import com.cosain.trilo.trip.domain.repository.ScheduleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>일정 재배치(relocateDaySchedules) 소요 시간 비교 : 임시보관함 일정 수를 늘려가며 측정</p>
+ * <ul>
+ *     <li>count : 기존 쿼리 (일정마다 자신보다 앞선 일정 수를 COUNT 하는 상관 서브쿼리, O(n²))</li>
+ *     <li>row-number : ROW_NUMBER() 로 순서 번호를 한 번에 매기는 쿼리 (ScheduleRepository)</li>
+ * </ul>
+ * <p>같은 초기 순서값에서 두 쿼리의 결과가 같은지도 확인합니다. 실행 : ./gradlew benchmarkTest</p>
+ */
+@Tag("benchmark")
+@SpringBootTest
+@DisplayName("[벤치마크] 일정 재배치 소요 시간 비교")
+class ScheduleRelocationBenchmarkTest {
+
+    private static final int[] SCHEDULE_COUNTS = {250, 500, 1_000, 2_000, 4_000};
+    private static final int INSERT_BATCH_SIZE = 500;
+    private static final int ITERATIONS = 3;
+
+    private static final String COUNT_SQL = """
+            UPDATE schedules s
+            SET s.schedule_index = (
+              SELECT subQuery.countValue * 10000000
+              FROM (
+                SELECT COUNT(s2.schedule_id) AS countValue
+                FROM schedules s2
+                WHERE (? IS NOT NULL AND s2.day_id = ? AND s2.schedule_index < s.schedule_index)
+                      OR (? IS NULL AND s2.day_id IS NULL AND s2.trip_id = ? AND s2.schedule_index < s.schedule_index)
+              ) AS subQuery
+            )
+            WHERE s.trip_id = ?
+              AND ((? IS NOT NULL AND s.day_id = ?) OR (? IS NULL AND s.day_id IS NULL))
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long tripperId;
+    private Long tripId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (nick_name, email, auth_provider, user_role, my_page_image_file_name, is_deleted)
+                VALUES ('benchmark', 'schedule-relocation@benchmark.com', 'KAKAO', 'MEMBER', 'default.png', false)
+                """);
+        tripperId = jdbcTemplate.queryForObject("SELECT user_id FROM users WHERE email = 'schedule-relocation@benchmark.com'", Long.class);
+        jdbcTemplate.update("INSERT INTO trip (tripper_id, trip_title, trip_status) VALUES (?, '재배치 벤치마크', 'UNDECIDED')", tripperId);
+        tripId = jdbcTemplate.queryForObject("SELECT MAX(trip_id) FROM trip WHERE tripper_id = ?", Long.class, tripperId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM schedules WHERE trip_id = ?", tripId);
+        jdbcTemplate.update("DELETE FROM trip WHERE trip_id = ?", tripId);
+        jdbcTemplate.update("DELETE FROM users WHERE user_id = ?", tripperId);
+    }
+
+    @Test
+    void 일정_수에_따른_재배치_소요시간_비교() {
+        for (int scheduleCount : SCHEDULE_COUNTS) {
+            jdbcTemplate.update("DELETE FROM schedules WHERE trip_id = ?", tripId);
+            insertShuffledSchedules(scheduleCount);
+            Map<Long, Long> initialIndexes = readIndexes();
+
+            long countMillis = measure(initialIndexes, () -> jdbcTemplate.update(COUNT_SQL,
+                    null, null, null, tripId, tripId, null, null, null));
+            Map<Long, Long> countResult = readIndexes();
+
+            long rowNumberMillis = measure(initialIndexes, () -> transactionTemplate.execute(status ->
+                    scheduleRepository.relocateDaySchedules(tripId, null)));
+            Map<Long, Long> rowNumberResult = readIndexes();
+
+            assertThat(rowNumberResult).isEqualTo(countResult);
+            System.out.printf("schedules=%d : count %d ms, row-number %d ms%n", scheduleCount, countMillis, rowNumberMillis);
+        }
+    }
+
+    /**
+     * 초기 순서값으로 되돌린 뒤 재배치를 실행하고, 평균 소요 시간(ms)을 반환합니다.
+     */
+    private long measure(Map<Long, Long> initialIndexes, Runnable relocation) {
+        long totalNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            restoreIndexes(initialIndexes);
+            long start = System.nanoTime();
+            relocation.run();
+            totalNanos += System.nanoTime() - start;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(totalNanos / ITERATIONS);
+    }
+
+    /**
+     * 서로 다른 순서값(1 ~ scheduleCount 를 섞은 값)을 가진 임시보관함 일정들을 만듭니다.
+     */
+    private void insertShuffledSchedules(int scheduleCount) {
+        List<Long> indexes = new ArrayList<>();
+        for (long i = 1; i <= scheduleCount; i++) {
+            indexes.add(i);
+        }
+        Collections.shuffle(indexes, new Random(42));
+
+        for (int inserted = 0; inserted < scheduleCount; inserted += INSERT_BATCH_SIZE) {
+            List<Object> params = new ArrayList<>();
+            int batchSize = Math.min(INSERT_BATCH_SIZE, scheduleCount - inserted);
+            for (int i = 0; i < batchSize; i++) {
+                params.add(tripId);
+                params.add(indexes.get(inserted + i));
+            }
+            String values = String.join(", ", Collections.nCopies(batchSize,
+                    "(?, NULL, ?, '일정', '', 'place-id', '장소', 37.5, 127.0, '00:00:00', '00:00:00')"));
+            jdbcTemplate.update("""
+                    INSERT INTO schedules (trip_id, day_id, schedule_index, schedule_title, schedule_content,
+                    place_id, place_name, place_latitude, place_longitude, start_time, end_time) VALUES
+                    """ + values, params.toArray());
+        }
+    }
+
+    private Map<Long, Long> readIndexes() {
+        return jdbcTemplate.queryForList("SELECT schedule_id, schedule_index FROM schedules WHERE trip_id = ?", tripId).stream()
+                .collect(Collectors.toMap(
+                        row -> ((Number) row.get("schedule_id")).longValue(),
+                        row -> ((Number) row.get("schedule_index")).longValue()));
+    }
+
+    private void restoreIndexes(Map<Long, Long> indexes) {
+        List<Object[]> params = indexes.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate("UPDATE schedules SET schedule_index = ? WHERE schedule_id = ?", params);
+    }
+}
@@ -0,0 +1,149 @@
+package com.cosain.trilo.benchmark.trip;
+
+import com.cosain.trilo.trip.application.schedule.service.schedule_move.ScheduleMoveCommand;
+import com.cosain.trilo.trip.application.schedule.service.schedule_move.ScheduleMoveService;
+import com.cosain.trilo.trip.application.schedule.service.schedule_reorder.ScheduleReorderCommand;
+import com.cosain.trilo.trip.application.schedule.service.schedule_reorder.ScheduleReorderPlace;
+import com.cosain.trilo.trip.application.schedule.service.schedule_reorder.ScheduleReorderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>임시보관함 일정들의 순서를 뒤집는 데 걸리는 비용 비교</p>
+ * <ul>
+ *     <li>single-moves : 일정 이동 API 를 일정 수만큼 차례로 호출 (ScheduleMoveService, 이동마다 트랜잭션 하나)</li>
+ *     <li>reorder : 일정 일괄 이동 API 한 번 호출 (ScheduleReorderService, 트랜잭션 하나와 일괄 갱신 한 번)</li>
+ * </ul>
+ * <p>소요 시간과 서버가 받은 문장 수(전역 상태값 Questions 의 차이)를 측정하고, 두 방식의 결과 순서가 같은지 확인합니다.
+ * 실행 : ./gradlew benchmarkTest</p>
+ */
+@Tag("benchmark")
+@SpringBootTest
+@DisplayName("[벤치마크] 일정 일괄 이동과 개별 이동 비교")
+class ScheduleReorderBenchmarkTest {
+
+    private static final int[] SCHEDULE_COUNTS = {10, 50, 100};
+    private static final int ITERATIONS = 3;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ScheduleMoveService scheduleMoveService;
+
+    @Autowired
+    private ScheduleReorderService scheduleReorderService;
+
+    private Long tripperId;
+    private Long tripId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (nick_name, email, auth_provider, user_role, my_page_image_file_name, is_deleted)
+                VALUES ('benchmark', 'schedule-reorder@benchmark.com', 'KAKAO', 'MEMBER', 'default.png', false)
+                """);
+        tripperId = jdbcTemplate.queryForObject("SELECT user_id FROM users WHERE email = 'schedule-reorder@benchmark.com'", Long.class);
+        jdbcTemplate.update("INSERT INTO trip (tripper_id, trip_title, trip_status) VALUES (?, '일괄 이동 벤치마크', 'UNDECIDED')", tripperId);
+        tripId = jdbcTemplate.queryForObject("SELECT MAX(trip_id) FROM trip WHERE tripper_id = ?", Long.class, tripperId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM schedules WHERE trip_id = ?", tripId);
+        jdbcTemplate.update("DELETE FROM trip WHERE trip_id = ?", tripId);
+        jdbcTemplate.update("DELETE FROM users WHERE user_id = ?", tripperId);
+    }
+
+    @Test
+    void 순서_뒤집기_비용_비교() {
+        for (int scheduleCount : SCHEDULE_COUNTS) {
+            jdbcTemplate.update("DELETE FROM schedules WHERE trip_id = ?", tripId);
+            List<Long> scheduleIds = insertSchedules(scheduleCount);
+            List<Long> reversed = new ArrayList<>(scheduleIds);
+            Collections.reverse(reversed);
+
+            Cost singleMoves = measure(scheduleIds, () -> {
+                for (int order = 0; order < reversed.size(); order++) {
+                    scheduleMoveService.moveSchedule(ScheduleMoveCommand.of(reversed.get(order), tripperId, null, order));
+                }
+            });
+            List<Long> singleMovesResult = readOrder();
+
+            Cost reorder = measure(scheduleIds, () -> scheduleReorderService.reorderSchedules(
+                    ScheduleReorderCommand.of(tripId, tripperId, List.of(ScheduleReorderPlace.of(null, reversed)))));
+            List<Long> reorderResult = readOrder();
+
+            assertThat(singleMovesResult).isEqualTo(reversed);
+            assertThat(reorderResult).isEqualTo(reversed);
+            System.out.printf("schedules=%d : single-moves %d ms, %d statements / reorder %d ms, %d statements%n",
+                    scheduleCount, singleMoves.millis(), singleMoves.statements(), reorder.millis(), reorder.statements());
+        }
+    }
+
+    /**
+     * 처음 순서로 되돌린 뒤 작업을 실행하고, 평균 소요 시간(ms)과 평균 문장 수를 반환합니다.
+     */
+    private Cost measure(List<Long> initialOrder, Runnable work) {
+        long totalNanos = 0;
+        long totalStatements = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            restoreOrder(initialOrder);
+            long questions = globalQuestions();
+            long start = System.nanoTime();
+            work.run();
+            totalNanos += System.nanoTime() - start;
+            totalStatements += globalQuestions() - questions - 1; // 상태값 조회 자체 제외
+        }
+        return new Cost(TimeUnit.NANOSECONDS.toMillis(totalNanos / ITERATIONS), totalStatements / ITERATIONS);
+    }
+
+    private List<Long> insertSchedules(int scheduleCount) {
+        List<Object> params = new ArrayList<>();
+        for (long i = 0; i < scheduleCount; i++) {
+            params.add(tripId);
+            params.add(i * 10_000_000L);
+        }
+        String values = String.join(", ", Collections.nCopies(scheduleCount,
+                "(?, NULL, ?, '일정', '', 'place-id', '장소', 37.5, 127.0, '00:00:00', '00:00:00')"));
+        jdbcTemplate.update("""
+                INSERT INTO schedules (trip_id, day_id, schedule_index, schedule_title, schedule_content,
+                place_id, place_name, place_latitude, place_longitude, start_time, end_time) VALUES
+                """ + values, params.toArray());
+        return jdbcTemplate.queryForList("SELECT schedule_id FROM schedules WHERE trip_id = ? ORDER BY schedule_index", Long.class, tripId);
+    }
+
+    private void restoreOrder(List<Long> order) {
+        List<Object[]> params = new ArrayList<>();
+        for (int i = 0; i < order.size(); i++) {
+            params.add(new Object[]{i * 10_000_000L, order.get(i)});
+        }
+        jdbcTemplate.batchUpdate("UPDATE schedules SET day_id = NULL, schedule_index = ?, schedule_order_key = '' WHERE schedule_id = ?", params);
+    }
+
+    private List<Long> readOrder() {
+        return jdbcTemplate.queryForList(
+                "SELECT schedule_id FROM schedules WHERE trip_id = ? ORDER BY schedule_index, schedule_order_key", Long.class, tripId);
+    }
+
+    private long globalQuestions() {
+        return jdbcTemplate.queryForObject("SHOW GLOBAL STATUS LIKE 'Questions'",
+                (rs, rowNum) -> Long.parseLong(rs.getString("Value")));
+    }
+
+    private record Cost(long millis, long statements) {
+    }
+}
@@ -0,0 +1,137 @@
+package com.cosain.trilo.benchmark.trip;
+
+import com.cosain.trilo.trip.application.dao.TripQueryDAO;
+import com.cosain.trilo.trip.infra.search.TripTitleSearchIndex;
+import com.cosain.trilo.trip.presentation.trip.dto.request.TripSearchRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * <p>여행 조건 검색(제목 검색) 지연시간 비교 : 100만 건의 합성 여행 데이터</p>
+ * <ul>
+ *     <li>like : 기존 쿼리 (trip_status IN (...) AND trip_title LIKE '%검색어%' ORDER BY trip_id DESC)</li>
+ *     <li>index : 제목 bigram 색인으로 후보를 추린 뒤 후보 안에서만 조회 (TripQueryDAO)</li>
+ * </ul>
+ * <p>흔한 검색어, 드문 검색어, 결과가 없는 검색어를 각각 측정합니다. 실행 : ./gradlew benchmarkTest</p>
+ */
+@Tag("benchmark")
+@SpringBootTest
+@DisplayName("[벤치마크] 여행 제목 검색 지연시간 비교")
+class TripTitleSearchBenchmarkTest {
+
+    private static final int TRIP_COUNT = 1_000_000;
+    private static final int INSERT_BATCH_SIZE = 1_000;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 100;
+    private static final int PAGE_SIZE = 8;
+
+    private static final String[] WORDS = {
+            "제주", "부산", "강릉", "여수", "경주", "전주", "속초", "서울", "가족", "우정",
+            "맛집", "캠핑", "바다", "등산", "힐링", "먹방", "여행", "나들이", "휴가", "주말"
+    };
+    private static final String RARE_WORD = "울릉도";
+
+    private static final String LIKE_SQL = """
+            SELECT trip_id, tripper_id, start_date, end_date, trip_title, trip_image_file_name
+            FROM trip
+            WHERE trip_status IN ('DECIDED', 'FINISHED') AND trip_title LIKE ?
+            ORDER BY trip_id DESC
+            LIMIT ?
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TripQueryDAO tripQueryDAO;
+
+    @Autowired
+    private TripTitleSearchIndex tripTitleSearchIndex;
+
+    private Long tripperId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (nick_name, email, auth_provider, user_role, my_page_image_file_name, is_deleted)
+                VALUES ('benchmark', 'trip-search@benchmark.com', 'KAKAO', 'MEMBER', 'default.png', false)
+                """);
+        tripperId = jdbcTemplate.queryForObject("SELECT user_id FROM users WHERE email = 'trip-search@benchmark.com'", Long.class);
+
+        Random random = new Random(42);
+        for (int inserted = 0; inserted < TRIP_COUNT; inserted += INSERT_BATCH_SIZE) {
+            List<Object> params = new ArrayList<>();
+            for (int i = 0; i < INSERT_BATCH_SIZE; i++) {
+                params.add(tripperId);
+                params.add(randomTitle(random));
+                params.add(random.nextInt(10) < 8 ? "DECIDED" : "UNDECIDED");
+            }
+            String values = String.join(", ", Collections.nCopies(INSERT_BATCH_SIZE, "(?, ?, ?, '2023-05-01', '2023-05-03')"));
+            jdbcTemplate.update("INSERT INTO trip (tripper_id, trip_title, trip_status, start_date, end_date) VALUES " + values, params.toArray());
+        }
+
+        long start = System.nanoTime();
+        tripTitleSearchIndex.rebuild();
+        System.out.printf("index rebuild : %d s%n", TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+    }
+
+    @AfterEach
+    void tearDown() {
+        tripTitleSearchIndex.removeAllByTripperId(tripperId);
+        jdbcTemplate.update("DELETE FROM trip WHERE tripper_id = ?", tripperId);
+        jdbcTemplate.update("DELETE FROM users WHERE user_id = ?", tripperId);
+    }
+
+    @Test
+    void LIKE_검색과_색인_검색_지연시간_비교() {
+        for (String query : List.of("제주", RARE_WORD, "독도여행")) {
+            measure("like", query, () -> jdbcTemplate.queryForList(LIKE_SQL, "%" + query + "%", PAGE_SIZE + 1).size());
+            measure("index", query, () -> tripQueryDAO.findWithSearchConditions(new TripSearchRequest(query, "RECENT", PAGE_SIZE, null, null)).getTrips().size());
+        }
+    }
+
+    private void measure(String name, String query, Supplier<Integer> search) {
+        for (int i = 0; i < WARMUP; i++) {
+            search.get();
+        }
+
+        int found = 0;
+        long totalNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            found = search.get();
+            totalNanos += System.nanoTime() - start;
+        }
+
+        System.out.printf("[%s] query='%s' : %d us/op (%d rows)%n", name, query,
+                TimeUnit.NANOSECONDS.toMicros(totalNanos / ITERATIONS), found);
+    }
+
+    /**
+     * 단어 2~3개를 이어 붙인 제목, 1000건 중 1건 정도는 드문 단어를 포함합니다.
+     */
+    private static String randomTitle(Random random) {
+        StringBuilder title = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+        int wordCount = 1 + random.nextInt(2);
+        for (int i = 0; i < wordCount; i++) {
+            title.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        if (random.nextInt(1000) == 0) {
+            title.append(' ').append(RARE_WORD);
+        }
+        return title.length() > 20 ? title.substring(0, 20) : title.toString();
+    }
+}
@@ -0,0 +1,109 @@
+package com.cosain.trilo.benchmark.user;
+
+import com.cosain.trilo.common.outbox.OutboxRelay;
+import com.cosain.trilo.trip.application.event.TripEventListener;
+import com.cosain.trilo.trip.application.trip.service.trip_all_delete.TripAllDeleteService;
+import com.cosain.trilo.user.application.event.UserDeleteEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * <p>회원 탈퇴가 몰릴 때 outbox 에 기록된 탈퇴 이벤트가 빠짐없이 처리되는지, 묶음 크기별 처리량과 지연을 재는 벤치마크입니다.</p>
+ * <p>여행 삭제는 대역으로 바꾸고 가져온 이벤트를 호출한 스레드에서 처리해, outbox 기록/선점/삭제 비용만 잽니다.
+ * 애플리케이션의 주기적 전달은 끄고, 테스트에서 만든 전달기로 쉬지 않고 가져옵니다.
+ * 실행 : ./gradlew benchmarkTest</p>
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "outbox.relay.enabled=false")
+@DisplayName("[벤치마크] outbox 탈퇴 이벤트 전달")
+class OutboxRelayBenchmarkTest {
+
+    private static final int EVENT_COUNT = 5000;
+
+    @MockBean
+    private TripAllDeleteService tripAllDeleteService;
+
+    @Autowired
+    private TripEventListener tripEventListener;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM outbox_event WHERE event_type = ?", UserDeleteEvent.class.getName());
+    }
+
+    @ParameterizedTest(name = "묶음 크기 {0}")
+    @ValueSource(ints = {10, 100, 500})
+    void 탈퇴_이벤트가_몰려도_하나도_빠짐없이_처리한다(int batchSize) {
+        // given
+        Set<Long> handledUserIds = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+            handledUserIds.add(invocation.getArgument(0));
+            return null;
+        }).when(tripAllDeleteService).deleteAllByTripperId(anyLong());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OutboxRelay relay = new OutboxRelay(jdbcTemplate, transactionTemplate, objectMapper, List.of(tripEventListener), Runnable::run,
+                meterRegistry, false, batchSize, 300, Integer.MAX_VALUE, 600, 10, batchSize);
+
+        // when : 한 트랜잭션에서 기록해 커밋 시점에 한꺼번에 몰리게 함
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (long userId = 1; userId <= EVENT_COUNT; userId++) {
+                eventPublisher.publishEvent(new UserDeleteEvent(userId));
+            }
+        });
+        long recordedNanos = System.nanoTime() - start;
+
+        long relayStart = System.nanoTime();
+        long deadline = relayStart + TimeUnit.SECONDS.toNanos(120);
+        while (handledUserIds.size() < EVENT_COUNT && System.nanoTime() < deadline) {
+            relay.relay();
+        }
+        long relayNanos = System.nanoTime() - relayStart;
+
+        // then
+        Timer lagTimer = meterRegistry.get("outbox.lag").timer();
+        System.out.printf("batch %d : recorded %d in %dms, relayed %d in %dms (%.0f events/s), lag mean %.1fms, max %.1fms%n",
+                batchSize, EVENT_COUNT, TimeUnit.NANOSECONDS.toMillis(recordedNanos),
+                handledUserIds.size(), TimeUnit.NANOSECONDS.toMillis(relayNanos),
+                handledUserIds.size() * 1e9 / relayNanos,
+                lagTimer.mean(TimeUnit.MILLISECONDS), lagTimer.max(TimeUnit.MILLISECONDS));
+
+        assertThat(handledUserIds).hasSize(EVENT_COUNT);
+        assertThat(meterRegistry.get("outbox.failures").counter().count()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event WHERE event_type = ?", Long.class,
+                UserDeleteEvent.class.getName())).isZero();
+    }
+}
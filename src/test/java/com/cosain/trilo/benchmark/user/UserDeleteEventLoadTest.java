@@ -0,0 +1,96 @@
+package com.cosain.trilo.benchmark.user;
+
+import com.cosain.trilo.common.outbox.OutboxRelay;
+import com.cosain.trilo.trip.application.trip.service.trip_all_delete.TripAllDeleteService;
+import com.cosain.trilo.user.application.event.UserDeleteEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * <p>회원 탈퇴가 몰릴 때 outbox 전달기가 비동기 실행기(async.executor-mode=VIRTUAL)에서 여행 삭제를 빠짐없이 실행하는지 확인하는 부하 테스트입니다.</p>
+ * <p>기존 POOL 모드(스레드 25개 + 대기열 10개)는 같은 부하에서 35개를 넘는 작업부터 거절하므로, 전달기가 거절된 이벤트를 자기 스레드에서 처리하게 됩니다.
+ * 애플리케이션의 주기적 전달은 끄고, 애플리케이션의 전달기를 직접 호출합니다. 실행 : ./gradlew benchmarkTest</p>
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {"async.executor-mode=VIRTUAL", "outbox.relay.enabled=false"})
+@DisplayName("[부하] 회원 탈퇴 이벤트 비동기 처리")
+class UserDeleteEventLoadTest {
+
+    private static final int EVENT_COUNT = 5000;
+
+    @MockBean
+    private TripAllDeleteService tripAllDeleteService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM outbox_event WHERE event_type = ?", UserDeleteEvent.class.getName());
+    }
+
+    @Test
+    void 탈퇴_이벤트가_몰려도_하나도_버려지지_않는다() {
+        // given : 여행 삭제 한 번에 2ms 가 걸린다고 가정
+        Set<Long> handledUserIds = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+            Thread.sleep(2);
+            handledUserIds.add(invocation.getArgument(0));
+            return null;
+        }).when(tripAllDeleteService).deleteAllByTripperId(anyLong());
+
+        // when : 한 트랜잭션에서 기록해 커밋 시점에 한꺼번에 몰리게 함
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (long userId = 1; userId <= EVENT_COUNT; userId++) {
+                eventPublisher.publishEvent(new UserDeleteEvent(userId));
+            }
+        });
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (handledUserIds.size() < EVENT_COUNT && System.nanoTime() < deadline) {
+            outboxRelay.relay();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        Timer waitTimer = meterRegistry.get("async.executor.wait").timer();
+        System.out.printf("handled %d/%d in %dms, executor wait mean %.1fms, max %.1fms%n",
+                handledUserIds.size(), EVENT_COUNT, elapsedMillis,
+                waitTimer.mean(TimeUnit.MILLISECONDS), waitTimer.max(TimeUnit.MILLISECONDS));
+
+        assertThat(handledUserIds).hasSize(EVENT_COUNT);
+        assertThat(meterRegistry.get("async.executor.failed").counter().count()).isZero();
+        assertThat(meterRegistry.get("outbox.failures").counter().count()).isZero();
+    }
+}
@@ -0,0 +1,105 @@
+package com.cosain.trilo.benchmark.user;
+
+import com.cosain.trilo.auth.infra.OAuthProfileDto;
+import com.cosain.trilo.user.domain.AuthProvider;
+import com.cosain.trilo.user.domain.User;
+import com.cosain.trilo.user.domain.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * <p>로그인 시 사용자 생성/갱신 지연시간 비교</p>
+ * <ul>
+ *     <li>legacy : findByEmail -> 엔티티 변경 -> save (기존 UserService.createOrUpdate)</li>
+ *     <li>upsert : INSERT ... ON DUPLICATE KEY UPDATE 한 문장</li>
+ * </ul>
+ * <p>신규 회원 로그인과 기존 회원 재로그인을 각각 측정합니다. 실행 : ./gradlew benchmarkTest</p>
+ */
+@Tag("benchmark")
+@SpringBootTest
+@DisplayName("[벤치마크] 사용자 upsert 지연시간 비교")
+class UserUpsertBenchmarkTest {
+
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1000;
+    private static final String EMAIL_DOMAIN = "@upsert-benchmark.com";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE ?", "%" + EMAIL_DOMAIN);
+    }
+
+    @Test
+    void 기존_방식과_upsert_지연시간_비교() {
+        measure("legacy", this::legacyCreateOrUpdate);
+        measure("upsert", profile -> transactionTemplate.execute(status -> userRepository.upsert(User.from(profile))));
+    }
+
+    private void measure(String name, Function<OAuthProfileDto, Long> createOrUpdate) {
+        for (int i = 0; i < WARMUP; i++) {
+            createOrUpdate.apply(profile(name + "-warmup-" + i));
+        }
+
+        long firstLoginNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            OAuthProfileDto profile = profile(name + "-" + i);
+            long start = System.nanoTime();
+            createOrUpdate.apply(profile);
+            firstLoginNanos += System.nanoTime() - start;
+        }
+
+        long reLoginNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            OAuthProfileDto profile = profile(name + "-" + i);
+            long start = System.nanoTime();
+            createOrUpdate.apply(profile);
+            reLoginNanos += System.nanoTime() - start;
+        }
+
+        System.out.printf("[%s] first login : %d us/op, re-login : %d us/op%n", name,
+                TimeUnit.NANOSECONDS.toMicros(firstLoginNanos / ITERATIONS),
+                TimeUnit.NANOSECONDS.toMicros(reLoginNanos / ITERATIONS));
+    }
+
+    private Long legacyCreateOrUpdate(OAuthProfileDto oAuthProfileDto) {
+        return transactionTemplate.execute(status -> {
+            Optional<User> userOptional = userRepository.findByEmail(oAuthProfileDto.getEmail());
+
+            User user = userOptional.map(existingUser -> {
+                existingUser.updateUserByOauthProfile(oAuthProfileDto);
+                if (existingUser.isDeleted()) existingUser.cancelWithdrawal();
+                return existingUser;
+            }).orElse(User.from(oAuthProfileDto));
+
+            return userRepository.save(user).getId();
+        });
+    }
+
+    private static OAuthProfileDto profile(String emailLocalPart) {
+        return OAuthProfileDto.builder()
+                .email(emailLocalPart + EMAIL_DOMAIN)
+                .name("benchmark")
+                .provider(AuthProvider.KAKAO)
+                .profileImageUrl("image_url")
+                .build();
+    }
+}
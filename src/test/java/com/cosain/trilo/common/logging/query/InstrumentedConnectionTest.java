@@ -0,0 +1,134 @@
+package com.cosain.trilo.common.logging.query;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class InstrumentedConnectionTest {
+
+    private static final String SQL = "SELECT * FROM trip WHERE tripper_id = ?";
+
+    @Mock
+    private Connection connection;
+    @Mock
+    private PreparedStatement preparedStatement;
+    @Mock
+    private Statement statement;
+    @Mock
+    private ResultSet resultSet;
+
+    private final QueryCounter queryCounter = new QueryCounter();
+    private InstrumentedConnection instrumentedConnection;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter.resetCount();
+        instrumentedConnection = new InstrumentedConnection(connection, queryCounter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        queryCounter.resetCount();
+    }
+
+    @Test
+    @DisplayName("prepareStatement() 는 준비한 쿼리를 기록하는 PreparedStatement 를 반환한다")
+    void prepareStatement_returns_instrumented_statement() throws SQLException {
+        // given
+        given(connection.prepareStatement(SQL)).willReturn(preparedStatement);
+
+        // when
+        PreparedStatement ret = instrumentedConnection.prepareStatement(SQL);
+
+        // then
+        assertThat(ret).isInstanceOf(InstrumentedPreparedStatement.class);
+        assertThat(ret.getConnection()).isSameAs(instrumentedConnection);
+    }
+
+    @Test
+    @DisplayName("execute 계열 메서드를 실행하면 쿼리 수와 실행 시간, 가장 느린 쿼리가 기록된다")
+    void execute_records_statement() throws SQLException {
+        // given
+        given(connection.prepareStatement(SQL)).willReturn(preparedStatement);
+        given(preparedStatement.executeUpdate()).willReturn(1);
+        given(preparedStatement.executeLargeUpdate()).willReturn(1L);
+        given(preparedStatement.execute()).willReturn(true);
+        PreparedStatement ret = instrumentedConnection.prepareStatement(SQL);
+
+        // when
+        ret.executeUpdate();
+        ret.executeLargeUpdate();
+        ret.execute();
+
+        // then
+        QueryStats stats = queryCounter.getStats();
+        assertThat(stats.getStatementCount()).isEqualTo(3);
+        assertThat(stats.getJdbcNanos()).isGreaterThanOrEqualTo(stats.getSlowestNanos());
+        assertThat(stats.getSlowestSql()).isEqualTo(SQL);
+    }
+
+    @Test
+    @DisplayName("실행에 실패한 쿼리도 기록된다")
+    void failed_execution_is_recorded() throws SQLException {
+        // given
+        given(connection.createStatement()).willReturn(statement);
+        given(statement.executeUpdate(anyString())).willThrow(new SQLException("lock wait timeout"));
+        Statement ret = instrumentedConnection.createStatement();
+
+        // when & then
+        assertThatThrownBy(() -> ret.executeUpdate("UPDATE trip SET trip_title = 'x'")).isInstanceOf(SQLException.class);
+        assertThat(queryCounter.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("executeQuery() 의 결과에서 읽은 행 수가 기록된다")
+    void executeQuery_counts_fetched_rows() throws SQLException {
+        // given
+        given(connection.prepareStatement(SQL)).willReturn(preparedStatement);
+        given(preparedStatement.executeQuery()).willReturn(resultSet);
+        given(resultSet.next()).willReturn(true, true, true, false);
+        PreparedStatement ret = instrumentedConnection.prepareStatement(SQL);
+
+        // when
+        ResultSet rs = ret.executeQuery();
+        while (rs.next()) {
+            // 모든 행을 읽음
+        }
+
+        // then
+        assertThat(rs.getStatement()).isSameAs(ret);
+        assertThat(queryCounter.getCount()).isEqualTo(1);
+        assertThat(queryCounter.getStats().getRowsFetched()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("unwrap() 은 감싼 대상에 위임한다")
+    void unwrap_delegates_to_target() throws SQLException {
+        // given
+        given(connection.prepareStatement(SQL)).willReturn(preparedStatement);
+        PreparedStatement ret = instrumentedConnection.prepareStatement(SQL);
+
+        // when & then
+        assertThat(ret.unwrap(PreparedStatement.class)).isSameAs(preparedStatement);
+        assertThat(instrumentedConnection.unwrap(Connection.class)).isSameAs(connection);
+        ret.unwrap(Runnable.class);
+        verify(preparedStatement).unwrap(Runnable.class);
+    }
+}
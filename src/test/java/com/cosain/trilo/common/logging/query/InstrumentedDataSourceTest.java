@@ -0,0 +1,51 @@
+package com.cosain.trilo.common.logging.query;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class InstrumentedDataSourceTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Test
+    void testDataSourceInstrumented() throws SQLException {
+        // given
+        queryCounter.resetCount();
+
+        // when
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection).isNotNull();
+        }
+        jdbcTemplate.queryForList("SELECT 1 UNION ALL SELECT 2", Integer.class);
+
+        // then
+        QueryStats stats = queryCounter.getStats();
+        assertThat(stats.getStatementCount()).isEqualTo(1);
+        assertThat(stats.getRowsFetched()).isEqualTo(2);
+        assertThat(stats.getSlowestSql()).isEqualTo("SELECT 1 UNION ALL SELECT 2");
+        queryCounter.resetCount();
+    }
+
+    @Test
+    void testUnwrapToConnectionPool() throws SQLException {
+        assertThat(dataSource.isWrapperFor(HikariDataSource.class)).isTrue();
+        assertThat(dataSource.unwrap(HikariDataSource.class)).isNotNull();
+    }
+}
@@ -0,0 +1,118 @@
+package com.cosain.trilo.common.logging.query;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class QueryCountInterceptorTest {
+
+    private final QueryCounter queryCounter = new QueryCounter();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<RequestQueryReport> reports = new ArrayList<>();
+    private final QueryCountInterceptor interceptor = new QueryCountInterceptor(queryCounter, meterRegistry, List.of(reports::add), 200, 3, 100);
+
+    @AfterEach
+    void tearDown() {
+        queryCounter.resetCount();
+    }
+
+    @Test
+    @DisplayName("반복 쿼리 로그 간격이 1보다 작으면 생성할 수 없다")
+    void constructor_rejects_non_positive_log_every() {
+        assertThatThrownBy(() -> new QueryCountInterceptor(queryCounter, meterRegistry, List.of(), 200, 3, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("요청이 끝나면 쿼리 통계를 API 별 지표로 내보내고 초기화한다")
+    void afterCompletion_exports_per_endpoint() {
+        // given
+        queryCounter.getStats().recordExecution("SELECT 1", TimeUnit.MILLISECONDS.toNanos(3));
+        queryCounter.getStats().recordExecution("SELECT 2", TimeUnit.MILLISECONDS.toNanos(5));
+        queryCounter.getStats().recordRow();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/trips/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/trips/{tripId}");
+
+        // when
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+
+        // then
+        assertThat(meterRegistry.get("http.jdbc.statements").tag("method", "GET").tag("uri", "/api/trips/{tripId}")
+                .summary().totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.get("http.jdbc.rows").tag("uri", "/api/trips/{tripId}").summary().totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.get("http.jdbc.time").tag("uri", "/api/trips/{tripId}").timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(8);
+        assertThat(meterRegistry.get("http.jdbc.slowest").tag("uri", "/api/trips/{tripId}").timer().max(TimeUnit.MILLISECONDS)).isEqualTo(5);
+        assertThat(queryCounter.getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("핸들러를 찾지 못한 요청은 UNKNOWN URI 로 내보낸다")
+    void afterCompletion_without_pattern() {
+        // when
+        interceptor.afterCompletion(new MockHttpServletRequest("GET", "/not-found"), new MockHttpServletResponse(), null, null);
+
+        // then
+        assertThat(meterRegistry.get("http.jdbc.statements").tag("uri", "UNKNOWN").summary().count()).isOne();
+    }
+
+    @Test
+    @DisplayName("요청이 시작되면 이전에 실행한 쿼리는 지운다")
+    void preHandle_resets_stats() {
+        // given
+        queryCounter.getStats().recordExecution("SELECT 1", 100);
+
+        // when
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/api/trips/1"), new MockHttpServletResponse(), null);
+
+        // then
+        assertThat(queryCounter.getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 조회 쿼리를 기준보다 많이 실행한 요청은 N+1 의심으로 지표를 올리고 요약에 담는다")
+    void afterCompletion_reports_repeated_select() {
+        // given : 여행의 Day 마다 일정을 지연 로딩 (기준 3번)
+        for (long dayId = 1; dayId <= 4; dayId++) {
+            queryCounter.getStats().recordExecution("select s1_0.schedule_id from schedules s1_0 where s1_0.day_id=" + dayId, 100);
+        }
+        queryCounter.getStats().recordExecution("update trip set trip_title=? where trip_id=?", 100);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/trips/1/days");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/trips/{tripId}/days");
+
+        // when
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+
+        // then
+        assertThat(meterRegistry.get("http.jdbc.repeated").tag("uri", "/api/trips/{tripId}/days").counter().count()).isOne();
+        assertThat(reports).hasSize(1);
+        assertThat(reports.get(0).repeatedStatements())
+                .containsExactly(new RepeatedStatement("select s1_0.schedule_id from schedules s1_0 where s1_0.day_id=?", 4));
+    }
+
+    @Test
+    @DisplayName("기준 이하로 실행한 조회 쿼리는 N+1 로 보지 않는다")
+    void afterCompletion_under_threshold() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            queryCounter.getStats().recordExecution("select t1_0.trip_id from trip t1_0 where t1_0.trip_id=?", 100);
+        }
+
+        // when
+        interceptor.afterCompletion(new MockHttpServletRequest("GET", "/api/trips/1"), new MockHttpServletResponse(), null, null);
+
+        // then
+        assertThat(meterRegistry.get("http.jdbc.repeated").counter().count()).isZero();
+        assertThat(reports.get(0).repeatedStatements()).isEmpty();
+    }
+}
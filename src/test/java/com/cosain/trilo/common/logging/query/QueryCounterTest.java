@@ -40,4 +40,27 @@ public class QueryCounterTest {
 
         assertThat(count).isEqualTo(0);
     }
+
+    @Test
+    @DisplayName("가장 오래 걸린 쿼리와 실행 시간의 합을 기록하고, 초기화하면 모두 지운다")
+    public void testRecordExecution(){
+
+        queryCounter.getStats().recordExecution("SELECT 1", 100);
+        queryCounter.getStats().recordExecution("SELECT 2", 300);
+        queryCounter.getStats().recordExecution("SELECT 3", 200);
+        queryCounter.getStats().recordRow();
+
+        QueryStats stats = queryCounter.getStats();
+        assertThat(stats.getStatementCount()).isEqualTo(3);
+        assertThat(stats.getJdbcNanos()).isEqualTo(600);
+        assertThat(stats.getRowsFetched()).isEqualTo(1);
+        assertThat(stats.getSlowestNanos()).isEqualTo(300);
+        assertThat(stats.getSlowestSql()).isEqualTo("SELECT 2");
+
+        queryCounter.resetCount();
+
+        assertThat(stats.getJdbcNanos()).isZero();
+        assertThat(stats.getRowsFetched()).isZero();
+        assertThat(stats.getSlowestSql()).isNull();
+    }
 }
@@ -0,0 +1,48 @@
+package com.cosain.trilo.common.logging.query;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlFingerprintTest {
+
+    @Test
+    @DisplayName("문자열/숫자 리터럴은 ? 로 바꾸고, 식별자 안의 숫자는 그대로 둔다")
+    void normalize_literals() {
+        String fingerprint = SqlFingerprint.of("select t1_0.trip_id from trip t1_0 where t1_0.tripper_id = 15 and t1_0.trip_title = 'it''s 1'");
+
+        assertThat(fingerprint).isEqualTo("select t1_0.trip_id from trip t1_0 where t1_0.tripper_id = ? and t1_0.trip_title = ?");
+    }
+
+    @Test
+    @DisplayName("IN 목록은 항목 수와 관계없이 같은 지문이 된다")
+    void normalize_in_list() {
+        String two = SqlFingerprint.of("select * from schedules where day_id in(?,?)");
+        String five = SqlFingerprint.of("select * from schedules where day_id in (?, ?, ?, ?, ?)");
+        String literals = SqlFingerprint.of("select * from schedules where day_id IN (1, 2, 3)");
+
+        assertThat(two).isEqualTo("select * from schedules where day_id in (?)");
+        assertThat(five).isEqualTo(two);
+        assertThat(literals).isEqualTo(two);
+    }
+
+    @Test
+    @DisplayName("연속된 공백과 줄바꿈은 공백 하나로 줄인다")
+    void normalize_whitespace() {
+        String fingerprint = SqlFingerprint.of("""
+                select d1_0.day_id
+                from   days d1_0
+                where  d1_0.trip_id=?
+                """);
+
+        assertThat(fingerprint).isEqualTo("select d1_0.day_id from days d1_0 where d1_0.trip_id=?");
+    }
+
+    @Test
+    @DisplayName("조회 쿼리만 조회 쿼리로 본다")
+    void isSelect() {
+        assertThat(SqlFingerprint.isSelect("SELECT 1")).isTrue();
+        assertThat(SqlFingerprint.isSelect("update trip set trip_title=?")).isFalse();
+    }
+}
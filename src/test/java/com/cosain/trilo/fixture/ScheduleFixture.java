@@ -97,7 +97,7 @@ public class ScheduleFixture {
     private static void addToCollection(Schedule schedule, Trip trip, Day day) {
         List<Schedule> schedules = (day == null) ? trip.getTemporaryStorage() : day.getSchedules();
         schedules.add(schedule);
-        schedules.sort(Comparator.comparing(sch -> sch.getScheduleIndex().getValue()));
+        schedules.sort(Comparator.comparing(Schedule::getScheduleIndex));
     }
 
 }
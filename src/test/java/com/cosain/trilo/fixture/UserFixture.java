@@ -5,10 +5,17 @@ import com.cosain.trilo.user.domain.MyPageImage;
 import com.cosain.trilo.user.domain.Role;
 import com.cosain.trilo.user.domain.User;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 public class UserFixture {
 
+    /**
+     * 이메일에는 유니크 인덱스가 걸려있으므로, 픽스처마다 서로 다른 이메일을 발급
+     */
+    private static final AtomicLong EMAIL_SEQUENCE = new AtomicLong();
+
     public static User kakaoUser_Id(Long userId) {
-        return createUser(userId, "kakao-user", "kakaouser@kakao.com",AuthProvider.KAKAO);
+        return createUser(userId, "kakao-user", uniqueEmail("kakaouser", "kakao.com"),AuthProvider.KAKAO);
     }
 
     public static User kakaoUser_NullId() {
@@ -16,7 +23,7 @@ public class UserFixture {
     }
 
     public static User naverUser_Id(Long userId) {
-        return createUser(userId, "naver-user", "naveruser@naver.com", AuthProvider.NAVER);
+        return createUser(userId, "naver-user", uniqueEmail("naveruser", "naver.com"), AuthProvider.NAVER);
     }
 
     public static User naverUser_NullId() {
@@ -24,7 +31,7 @@ public class UserFixture {
     }
 
     public static User googleUser_Id(Long userId) {
-        return createUser(userId, "google-user", "googleuser@gmail.com", AuthProvider.GOOGLE);
+        return createUser(userId, "google-user", uniqueEmail("googleuser", "gmail.com"), AuthProvider.GOOGLE);
     }
 
     public static User googleUser_NullId() {
@@ -43,4 +50,8 @@ public class UserFixture {
                 .isDeleted(false)
                 .build();
     }
+
+    private static String uniqueEmail(String localPart, String domain) {
+        return localPart + EMAIL_SEQUENCE.incrementAndGet() + "@" + domain;
+    }
 }
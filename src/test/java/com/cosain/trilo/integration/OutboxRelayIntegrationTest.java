@@ -0,0 +1,406 @@
+package com.cosain.trilo.integration;
+
+import com.cosain.trilo.common.outbox.OutboxEvent;
+import com.cosain.trilo.common.outbox.OutboxEventHandler;
+import com.cosain.trilo.common.outbox.OutboxRelay;
+import com.cosain.trilo.fixture.UserFixture;
+import com.cosain.trilo.user.application.UserService;
+import com.cosain.trilo.user.application.event.UserDeleteEvent;
+import com.cosain.trilo.user.domain.UserRepository;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.Getter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * <p>outbox 기록과 전달({@link OutboxRelay})의 통합 테스트입니다.</p>
+ * <p>기록과 전달이 각각 커밋되어야 하므로, 테스트 트랜잭션 없이 실행합니다.
+ * 테스트 전용 이벤트는 애플리케이션의 전달기에 처리기가 없으므로, 테스트에서 만든 전달기만 가져갑니다.
+ * 테스트에서 만든 전달기는 따로 정하지 않으면 가져온 이벤트를 호출한 스레드에서 차례로 처리하므로, 전달이 돌아오면 처리도 끝나 있습니다.</p>
+ */
+@SpringBootTest
+@DisplayName("outbox 통합 테스트")
+public class OutboxRelayIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<Long> userIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM outbox_event WHERE event_type = ?", TestEvent.class.getName());
+        jdbcTemplate.update("DELETE FROM outbox_dead_letter WHERE event_type = ?", TestEvent.class.getName());
+        for (Long userId : userIds) {
+            jdbcTemplate.update("DELETE FROM outbox_event WHERE event_type = ? AND payload = ?", UserDeleteEvent.class.getName(), userDeletePayload(userId));
+            jdbcTemplate.update("DELETE FROM trip WHERE tripper_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM trip_purge_progress WHERE tripper_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM users WHERE user_id = ?", userId);
+        }
+    }
+
+    @Test
+    void 탈퇴와_같은_트랜잭션에서_기록하고_커밋_후_회원의_여행을_삭제한다() throws InterruptedException {
+        // given
+        Long userId = userRepository.save(UserFixture.kakaoUser_NullId()).getId();
+        userIds.add(userId);
+        jdbcTemplate.update("INSERT INTO trip (tripper_id, trip_title, trip_status) VALUES (?, '탈퇴 여행', 'UNDECIDED')", userId);
+
+        // when
+        userService.delete(userId, userId);
+
+        // then : 스케줄러가 먼저 가져갈 수도 있으므로, 처리될 때까지 기다림
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (countUserDeleteEvents(userId) > 0 && System.nanoTime() < deadline) {
+            outboxRelay.relay();
+            Thread.sleep(50);
+        }
+        assertThat(countUserDeleteEvents(userId)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM trip WHERE tripper_id = ?", Long.class, userId)).isZero();
+    }
+
+    @Test
+    void 롤백된_트랜잭션의_이벤트는_기록되지_않는다() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new TestEvent(1));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(countTestEvents()).isZero();
+    }
+
+    @Test
+    void 처리에_실패하면_잠시_뒤_다시_전달한다() {
+        // given : 첫 번째 전달에서만 실패하는 처리기
+        AtomicInteger calls = new AtomicInteger();
+        OutboxRelay relay = createRelay(300, event -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("일시적인 실패");
+            }
+        });
+        record(1);
+
+        // when : 첫 번째 전달은 실패하고, 대기 시간 전에는 다시 가져가지 않음
+        relay.relayBatch();
+        int claimedBeforeBackoff = relay.relayBatch();
+
+        // then
+        assertThat(claimedBeforeBackoff).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT attempts FROM outbox_event WHERE event_type = ?", Integer.class, TestEvent.class.getName())).isOne();
+        assertThat(jdbcTemplate.queryForObject("SELECT last_error FROM outbox_event WHERE event_type = ?", String.class, TestEvent.class.getName()))
+                .isEqualTo("일시적인 실패");
+
+        // when : 대기 시간이 지나면 다시 전달되어 처리됨
+        jdbcTemplate.update("UPDATE outbox_event SET available_at = NOW(3) WHERE event_type = ?", TestEvent.class.getName());
+        relay.relayBatch();
+
+        // then
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(countTestEvents()).isZero();
+    }
+
+    @Test
+    void 처리_도중_서버가_죽으면_선점_기간이_지난_뒤_다른_서버가_다시_처리한다() throws InterruptedException {
+        // given : 처리 도중 죽는 서버와 정상 서버 (선점 기간 1초)
+        OutboxRelay crashingRelay = createRelay(1, event -> {
+            throw new SimulatedCrash();
+        });
+        List<Integer> handled = new ArrayList<>();
+        OutboxRelay healthyRelay = createRelay(1, event -> handled.add(event.getSequence()));
+        record(1);
+
+        // when : 죽은 서버가 선점한 동안에는 다른 서버가 가져가지 않음
+        assertThatThrownBy(crashingRelay::relayBatch).isInstanceOf(SimulatedCrash.class);
+        assertThat(healthyRelay.relayBatch()).isZero();
+
+        // when : 선점 기간이 지나면 다른 서버가 가져감
+        Thread.sleep(1100);
+        healthyRelay.relayBatch();
+
+        // then
+        assertThat(handled).containsExactly(1);
+        assertThat(countTestEvents()).isZero();
+    }
+
+    @Test
+    void 묶음에서_실패한_이벤트만_다시_전달하고_나머지는_삭제한다() {
+        // given : 2번 이벤트만 실패하는 처리기
+        List<Integer> handled = new ArrayList<>();
+        OutboxRelay relay = createRelay(300, event -> {
+            if (event.getSequence() == 2) {
+                throw new IllegalStateException("2번 실패");
+            }
+            handled.add(event.getSequence());
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 1; i <= 3; i++) {
+                eventPublisher.publishEvent(new TestEvent(i));
+            }
+        });
+
+        // when
+        relay.relayBatch();
+
+        // then
+        assertThat(handled).containsExactlyInAnyOrder(1, 3);
+        assertThat(jdbcTemplate.queryForList("SELECT payload FROM outbox_event WHERE event_type = ?", String.class, TestEvent.class.getName()))
+                .containsExactly("{\"sequence\":2}");
+    }
+
+    @Test
+    void 최대_시도_횟수만큼_실패한_이벤트는_dead_letter_로_옮기고_다른_이벤트를_막지_않는다() {
+        // given : 1번 이벤트는 항상 실패하고, 두 번 실패하면 dead letter 로 옮김
+        Map<Integer, AtomicInteger> handledCounts = new ConcurrentHashMap<>();
+        OutboxRelay relay = createRelay(300, 2, 10, Runnable::run, event -> {
+            if (event.getSequence() == 1) {
+                throw new IllegalStateException("처리할 수 없는 이벤트");
+            }
+            handledCounts.computeIfAbsent(event.getSequence(), sequence -> new AtomicInteger()).incrementAndGet();
+        });
+        record(1);
+        record(2);
+
+        // when : 첫 번째 실패 후 대기 시간을 없애고 다시 전달
+        relay.relayBatch();
+        jdbcTemplate.update("UPDATE outbox_event SET available_at = NOW(3) WHERE event_type = ?", TestEvent.class.getName());
+        relay.relayBatch();
+
+        // then : 2번 이벤트는 한 번만 처리되고, 1번 이벤트는 dead letter 로 옮겨짐
+        assertThat(handledCounts).containsOnlyKeys(2);
+        assertThat(handledCounts.get(2).get()).isOne();
+        assertThat(countTestEvents()).isZero();
+        assertThat(jdbcTemplate.queryForMap("SELECT payload, attempts, last_error FROM outbox_dead_letter WHERE event_type = ?", TestEvent.class.getName()))
+                .containsEntry("payload", "{\"sequence\":1}")
+                .containsEntry("attempts", 2)
+                .containsEntry("last_error", "처리할 수 없는 이벤트");
+    }
+
+    @Test
+    void 처리를_시작하기_전에_선점_기간이_지나_다른_서버가_가져간_이벤트는_처리하지_않는다() throws Exception {
+        // given : 가져온 뒤 2초 지나서야 처리를 시작하는 전달기 (선점 기간 1초)
+        AtomicInteger slowCalls = new AtomicInteger();
+        List<Thread> slowThreads = new ArrayList<>();
+        Executor delayedExecutor = task -> {
+            Thread thread = new Thread(() -> {
+                try {
+                    Thread.sleep(2000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                task.run();
+            });
+            slowThreads.add(thread);
+            thread.start();
+        };
+        OutboxRelay slowRelay = createRelay(1, 10, 10, delayedExecutor, event -> slowCalls.incrementAndGet());
+        AtomicInteger healthyCalls = new AtomicInteger();
+        OutboxRelay healthyRelay = createRelay(300, event -> healthyCalls.incrementAndGet());
+        record(1);
+
+        // when : 느린 전달기가 가져간 뒤, 선점 기간이 지나 다른 전달기가 가져가 처리함
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> slowClaimed = executorService.submit(slowRelay::relayBatch);
+            Thread.sleep(1200);
+            healthyRelay.relayBatch();
+            assertThat(slowClaimed.get(10, TimeUnit.SECONDS)).isOne();
+        } finally {
+            executorService.shutdownNow();
+        }
+        // 느린 전달기는 넘기기만 하고 기다리지 않으므로, 처리를 시도할 때까지 기다림
+        for (Thread thread : slowThreads) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        // then
+        assertThat(healthyCalls.get()).isOne();
+        assertThat(slowCalls.get()).isZero();
+        assertThat(countTestEvents()).isZero();
+    }
+
+    @Test
+    void 처리_중인_이벤트가_가득_차면_더_가져오지_않고_기다리지도_않는다() {
+        // given : 넘겨받은 작업을 쌓아 두기만 하는 실행기, 처리 중 자리 2개
+        List<Runnable> pending = new ArrayList<>();
+        OutboxRelay relay = createRelay(300, 10, 2, pending::add, event -> {
+        });
+        for (int i = 1; i <= 3; i++) {
+            record(i);
+        }
+
+        // when : 자리만큼만 가져오고, 처리가 끝나기를 기다리지 않고 돌아옴
+        int firstClaimed = relay.relay();
+        int claimedWhileFull = relay.relay();
+
+        // then
+        assertThat(firstClaimed).isEqualTo(2);
+        assertThat(claimedWhileFull).isZero();
+        assertThat(countTestEvents()).isEqualTo(3);
+
+        // when : 처리가 끝나 자리가 나면 나머지를 가져감
+        List.copyOf(pending).forEach(Runnable::run);
+        pending.clear();
+        int claimedAfterDrain = relay.relay();
+        List.copyOf(pending).forEach(Runnable::run);
+
+        // then
+        assertThat(claimedAfterDrain).isOne();
+        assertThat(countTestEvents()).isZero();
+    }
+
+    @Test
+    void 실행기가_거절한_이벤트는_선점을_풀어_바로_다시_가져갈_수_있게_한다() {
+        // given : 모든 작업을 거절하는 실행기
+        OutboxRelay rejectingRelay = createRelay(300, 10, 10, task -> {
+            throw new RejectedExecutionException("가득 참");
+        }, event -> {
+        });
+        List<Integer> handled = new ArrayList<>();
+        OutboxRelay healthyRelay = createRelay(300, event -> handled.add(event.getSequence()));
+        record(1);
+
+        // when
+        assertThat(rejectingRelay.relayBatch()).isOne();
+        healthyRelay.relayBatch();
+
+        // then : 선점 기간을 기다리지 않고 다른 전달기가 가져가 처리함
+        assertThat(handled).containsExactly(1);
+        assertThat(countTestEvents()).isZero();
+    }
+
+    @Test
+    void 여러_서버가_동시에_가져가도_각_이벤트를_한_번씩만_처리한다() throws Exception {
+        // given
+        int eventCount = 500;
+        int relayCount = 4;
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < eventCount; i++) {
+                eventPublisher.publishEvent(new TestEvent(i));
+            }
+        });
+        Map<Integer, AtomicInteger> handledCounts = new ConcurrentHashMap<>();
+        Consumer<TestEvent> handler = event ->
+                handledCounts.computeIfAbsent(event.getSequence(), sequence -> new AtomicInteger()).incrementAndGet();
+
+        // when : 전달기 4개가 동시에 가져감 (묶음 크기 10)
+        ExecutorService executorService = Executors.newFixedThreadPool(relayCount);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < relayCount; i++) {
+                OutboxRelay relay = createRelay(300, handler);
+                futures.add(executorService.submit(() -> {
+                    while (relay.relayBatch() > 0) {
+                        // 가져올 이벤트가 없을 때까지 반복
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // then : 모든 이벤트가 정확히 한 번씩 처리됨
+        assertThat(handledCounts).hasSize(eventCount);
+        assertThat(handledCounts.values()).allSatisfy(count -> assertThat(count.get()).isOne());
+        assertThat(countTestEvents()).isZero();
+    }
+
+    private OutboxRelay createRelay(long leaseSeconds, Consumer<TestEvent> handler) {
+        return createRelay(leaseSeconds, 10, 10, Runnable::run, handler);
+    }
+
+    private OutboxRelay createRelay(long leaseSeconds, int maxAttempts, int maxInFlight, Executor executor, Consumer<TestEvent> handler) {
+        OutboxEventHandler<TestEvent> testEventHandler = new OutboxEventHandler<>() {
+            @Override
+            public Class<TestEvent> getEventType() {
+                return TestEvent.class;
+            }
+
+            @Override
+            public void handle(TestEvent event) {
+                handler.accept(event);
+            }
+        };
+        return new OutboxRelay(jdbcTemplate, transactionTemplate, objectMapper, List.of(testEventHandler), executor, new SimpleMeterRegistry(),
+                false, 10, leaseSeconds, 10, 600, maxAttempts, maxInFlight);
+    }
+
+    private void record(int sequence) {
+        transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(new TestEvent(sequence)));
+    }
+
+    private long countTestEvents() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event WHERE event_type = ?", Long.class, TestEvent.class.getName());
+    }
+
+    private long countUserDeleteEvents(Long userId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event WHERE event_type = ? AND payload = ?", Long.class,
+                UserDeleteEvent.class.getName(), userDeletePayload(userId));
+    }
+
+    private String userDeletePayload(Long userId) {
+        return "{\"userId\":" + userId + "}";
+    }
+
+    @Getter
+    public static class TestEvent implements OutboxEvent {
+
+        private final int sequence;
+
+        @JsonCreator
+        public TestEvent(@JsonProperty("sequence") int sequence) {
+            this.sequence = sequence;
+        }
+    }
+
+    private static class SimulatedCrash extends Error {
+    }
+}
@@ -0,0 +1,87 @@
+package com.cosain.trilo.integration.auth;
+
+import com.cosain.trilo.auth.application.OAuthProfileRequestService;
+import com.cosain.trilo.auth.application.dto.OAuthLoginParams;
+import com.cosain.trilo.auth.infra.OAuthProfileDto;
+import com.cosain.trilo.user.domain.AuthProvider;
+import com.cosain.trilo.user.domain.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 로그인 시 OAuth 제공자 호출 동안 DB 커넥션을 점유하지 않는 지 검증합니다.
+ * (테스트 트랜잭션이 커넥션을 잡고 있으면 검증이 불가능하므로, IntegrationTest 를 상속하지 않고 트랜잭션 없이 실행)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("로그인 DB 커넥션 점유 통합 테스트")
+public class LoginConnectionIntegrationTest {
+
+    private static final String EMAIL = "connection-test-user@kakao.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private OAuthProfileRequestService oAuthProfileRequestService;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByEmail(EMAIL).ifPresent(userRepository::delete);
+    }
+
+    @Test
+    void OAuth_제공자_호출_동안_DB_커넥션을_점유하지_않는다() throws Exception {
+        // given
+        HikariDataSource hikariDataSource = dataSource.unwrap(HikariDataSource.class);
+        AtomicInteger activeConnectionsDuringOAuth = new AtomicInteger(-1);
+        AtomicReference<Boolean> transactionActiveDuringOAuth = new AtomicReference<>();
+
+        given(oAuthProfileRequestService.request(any(OAuthLoginParams.class))).willAnswer(invocation -> {
+            activeConnectionsDuringOAuth.set(hikariDataSource.getHikariPoolMXBean().getActiveConnections());
+            transactionActiveDuringOAuth.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return OAuthProfileDto.builder()
+                    .email(EMAIL)
+                    .name("커넥션테스트")
+                    .provider(AuthProvider.KAKAO)
+                    .profileImageUrl("image_url")
+                    .build();
+        });
+
+        // when
+        mockMvc.perform(post("/api/auth/login/kakao")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"code\":\"code\",\"redirect_uri\":\"redirect_uri\"}"))
+                .andExpect(status().isOk());
+
+        // then
+        assertThat(transactionActiveDuringOAuth.get()).isFalse();
+        assertThat(activeConnectionsDuringOAuth.get()).isZero();
+        assertThat(userRepository.findByEmail(EMAIL)).isPresent();
+    }
+}
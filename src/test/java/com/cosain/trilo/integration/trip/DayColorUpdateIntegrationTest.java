@@ -3,6 +3,7 @@ package com.cosain.trilo.integration.trip;
 
 import com.cosain.trilo.fixture.TripFixture;
 import com.cosain.trilo.support.IntegrationTest;
+import com.cosain.trilo.support.StatementBudget;
 import com.cosain.trilo.trip.domain.entity.Day;
 import com.cosain.trilo.trip.domain.entity.Trip;
 import com.cosain.trilo.trip.domain.repository.DayRepository;
@@ -50,6 +51,7 @@ public class DayColorUpdateIntegrationTest extends IntegrationTest {
     @ParameterizedTest
     @ValueSource(strings = {"RED", "Orange", "light_GREEN", "PURPLE"})
     @DisplayName("인증된 사용자의 DayColor 수정 요청 -> 성공")
+    @StatementBudget(method = "PUT", uri = "/api/days/{dayId}/color", max = 4) // 버전 조회 + Day(여행 포함) 조회 + 버전 증가 + 색상 수정
     public void successTest(String updateColorName) throws Exception {
         // given : setup
         DayColorUpdateRequest request = new DayColorUpdateRequest(updateColorName);
@@ -0,0 +1,89 @@
+package com.cosain.trilo.integration.trip;
+
+import com.cosain.trilo.trip.infra.counter.ScheduleCountRepairJob;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일정 수 컬럼이 실제 일정 수와 어긋난 여행을 바로잡는 작업({@link ScheduleCountRepairJob})의 통합 테스트입니다.
+ */
+@SpringBootTest
+@DisplayName("일정 수 바로잡기 통합 테스트")
+public class ScheduleCountRepairIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private ScheduleCountRepairJob repairJob;
+
+    private Long tripId;
+    private Long dayId;
+
+    @BeforeEach
+    void setUp() {
+        // 스케줄러가 돌리는 빈과 검사 위치가 섞이지 않도록, 테스트 전용 인스턴스를 만들어 사용
+        repairJob = new ScheduleCountRepairJob(jdbcTemplate, transactionTemplate, new SimpleMeterRegistry(), true, 1000);
+
+        tripId = insert("INSERT INTO trip (tripper_id, trip_title, trip_status, start_date, end_date, trip_schedule_count) VALUES (0, '일정 수 여행', 'DECIDED', '2023-05-01', '2023-05-01', 7)");
+        dayId = insert("INSERT INTO days (trip_id, trip_date, day_color, day_schedule_count) VALUES (?, '2023-05-01', 'RED', 0)", tripId);
+        for (int i = 0; i < 3; i++) {
+            insert("""
+                    INSERT INTO schedules (trip_id, day_id, schedule_index, schedule_title, schedule_content,
+                    place_id, place_name, place_latitude, place_longitude, start_time, end_time)
+                    VALUES (?, ?, ?, '일정', '', 'place-id', '장소', 37.5, 127.0, '00:00:00', '00:00:00')
+                    """, tripId, i < 2 ? dayId : null, i);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM schedules WHERE trip_id = ?", tripId);
+        jdbcTemplate.update("DELETE FROM days WHERE trip_id = ?", tripId);
+        jdbcTemplate.update("DELETE FROM trip WHERE trip_id = ?", tripId);
+    }
+
+    @Test
+    void 어긋난_일정_수를_실제_일정_수로_바로잡는다() {
+        // when : 테스트 여행이 검사될 때까지 trip_id 순으로 이어서 검사
+        for (int round = 0; round < 100 && getTripScheduleCount() != 3; round++) {
+            repairJob.repairNextBatch();
+        }
+
+        // then : 여행의 일정 3개(Day 2개 + 임시보관함 1개), Day 의 일정 2개
+        assertThat(getTripScheduleCount()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT day_schedule_count FROM days WHERE day_id = ?", Integer.class, dayId)).isEqualTo(2);
+    }
+
+    private int getTripScheduleCount() {
+        return jdbcTemplate.queryForObject("SELECT trip_schedule_count FROM trip WHERE trip_id = ?", Integer.class, tripId);
+    }
+
+    private Long insert(String sql, Object... args) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+}
@@ -0,0 +1,195 @@
+package com.cosain.trilo.integration.trip;
+
+import com.cosain.trilo.common.exception.schedule.TooManyDayScheduleException;
+import com.cosain.trilo.fixture.UserFixture;
+import com.cosain.trilo.trip.application.exception.TooManyTripScheduleException;
+import com.cosain.trilo.trip.application.exception.TripVersionConflictException;
+import com.cosain.trilo.trip.application.schedule.service.schedule_create.ScheduleCreateCommand;
+import com.cosain.trilo.trip.application.schedule.service.schedule_create.ScheduleCreateService;
+import com.cosain.trilo.trip.domain.entity.Day;
+import com.cosain.trilo.trip.domain.entity.Trip;
+import com.cosain.trilo.user.domain.User;
+import com.cosain.trilo.user.domain.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>한 여행에 여러 스레드가 동시에 일정을 생성해도, 여행/Day 의 최대 일정 갯수 제한을 넘지 않는지 검증합니다.</p>
+ * <ul>
+ *     <li>guarded : 서비스 빈 그대로 호출 (여행 단위 잠금 + 버전 충돌 시 재시도)</li>
+ *     <li>optimistic-only : 잠금/재시도 없이 트랜잭션만 걸어 호출 (동시 요청이 DB 에서 그대로 경합)</li>
+ * </ul>
+ * <p>각 생성이 별도 트랜잭션으로 커밋되어야 하므로, 테스트 트랜잭션 없이 실행합니다.</p>
+ */
+@SpringBootTest
+@DisplayName("일정 생성 동시성 통합 테스트")
+public class ScheduleCreateConcurrencyIntegrationTest {
+
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private ScheduleCreateService scheduleCreateService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long tripperId;
+    private Long tripId;
+    private Long dayId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(UserFixture.kakaoUser_NullId());
+        tripperId = user.getId();
+        tripId = insert("INSERT INTO trip (tripper_id, trip_title, trip_status, start_date, end_date) VALUES (?, '동시성 여행', 'DECIDED', '2023-05-01', '2023-05-01')",
+                tripperId);
+        dayId = insert("INSERT INTO days (trip_id, trip_date, day_color) VALUES (?, '2023-05-01', 'RED')", tripId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM schedules WHERE trip_id = ?", tripId);
+        jdbcTemplate.update("DELETE FROM days WHERE trip_id = ?", tripId);
+        jdbcTemplate.update("DELETE FROM trip_title_ngram WHERE trip_id = ?", tripId);
+        jdbcTemplate.update("DELETE FROM trip WHERE trip_id = ?", tripId);
+        jdbcTemplate.update("DELETE FROM trip_statistics WHERE tripper_id = ?", tripperId);
+        jdbcTemplate.update("DELETE FROM users WHERE user_id = ?", tripperId);
+    }
+
+    @Test
+    void 같은_Day에_동시에_생성해도_Day의_최대_일정_갯수만큼만_생성된다() throws Exception {
+        // when : Day 의 최대 일정 갯수의 4배만큼 동시에 생성 요청
+        StormResult result = runStorm(Day.MAX_DAY_SCHEDULE_COUNT * 4 / THREAD_COUNT + 1, dayId, scheduleCreateService::createSchedule);
+
+        // then : 잠금으로 직렬화되므로 정확히 최대 갯수만큼 생성되고, 나머지는 갯수 제한으로 거절됨
+        assertThat(result.unexpected()).isEmpty();
+        assertThat(result.successes()).isEqualTo(Day.MAX_DAY_SCHEDULE_COUNT);
+        assertCountInvariants(result);
+    }
+
+    @Test
+    void 임시보관함에_동시에_생성해도_여행의_최대_일정_갯수만큼만_생성된다() throws Exception {
+        // when : 여행의 최대 일정 갯수보다 많이 동시에 생성 요청
+        StormResult result = runStorm(Trip.MAX_TRIP_SCHEDULE_COUNT / THREAD_COUNT + 2, null, scheduleCreateService::createSchedule);
+
+        // then
+        assertThat(result.unexpected()).isEmpty();
+        assertThat(result.successes()).isEqualTo(Trip.MAX_TRIP_SCHEDULE_COUNT);
+        assertCountInvariants(result);
+    }
+
+    @Test
+    void 잠금_없이_동시에_생성해도_Day의_최대_일정_갯수를_넘지_않는다() throws Exception {
+        // given
+        ScheduleCreateService target = AopTestUtils.getUltimateTargetObject(scheduleCreateService);
+
+        // when : 충돌한 요청은 버전 검사나 갯수 제한으로 실패할 뿐, 제한을 넘어 생성되지 않음
+        StormResult result = runStorm(Day.MAX_DAY_SCHEDULE_COUNT * 4 / THREAD_COUNT + 1, dayId,
+                command -> transactionTemplate.executeWithoutResult(status -> target.createSchedule(command)));
+
+        // then
+        assertThat(result.unexpected()).isEmpty();
+        assertThat(result.successes()).isLessThanOrEqualTo(Day.MAX_DAY_SCHEDULE_COUNT);
+        assertCountInvariants(result);
+    }
+
+    /**
+     * THREAD_COUNT 개의 스레드가 동시에 지정한 Day(또는 임시보관함)에 일정을 생성합니다.
+     */
+    private StormResult runStorm(int createsPerThread, Long targetDayId, Consumer<ScheduleCreateCommand> create) throws Exception {
+        AtomicInteger successes = new AtomicInteger();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    for (int j = 0; j < createsPerThread; j++) {
+                        try {
+                            create.accept(ScheduleCreateCommand.of(tripperId, tripId, targetDayId, "일정", "place-id", "장소", 37.5, 127.0));
+                            successes.incrementAndGet();
+                        } catch (TripVersionConflictException e) {
+                            // 버전 충돌로 반영되지 않은 요청
+                        } catch (TooManyDayScheduleException | TooManyTripScheduleException e) {
+                            // 일정 수 제한에 걸린 정상적인 거절
+                        } catch (Throwable e) {
+                            unexpected.add(e);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            startLatch.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        return new StormResult(successes.get(), List.copyOf(unexpected));
+    }
+
+    private void assertCountInvariants(StormResult result) {
+        int tripScheduleCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM schedules WHERE trip_id = ?", Integer.class, tripId);
+        int dayScheduleCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM schedules WHERE day_id = ?", Integer.class, dayId);
+
+        // 성공한 생성만큼만 일정이 저장되고, 제한을 넘지 않음
+        assertThat(tripScheduleCount).isEqualTo(result.successes()).isLessThanOrEqualTo(Trip.MAX_TRIP_SCHEDULE_COUNT);
+        assertThat(dayScheduleCount).isLessThanOrEqualTo(Day.MAX_DAY_SCHEDULE_COUNT);
+
+        // 일정 수 컬럼이 실제 일정 수와 같음 (실패한 요청의 증가분은 롤백됨)
+        assertThat(jdbcTemplate.queryForObject("SELECT trip_schedule_count FROM trip WHERE trip_id = ?", Integer.class, tripId))
+                .isEqualTo(tripScheduleCount);
+        assertThat(jdbcTemplate.queryForObject("SELECT day_schedule_count FROM days WHERE day_id = ?", Integer.class, dayId))
+                .isEqualTo(dayScheduleCount);
+    }
+
+    private Long insert(String sql, Object... args) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private record StormResult(int successes, List<Throwable> unexpected) {
+    }
+}
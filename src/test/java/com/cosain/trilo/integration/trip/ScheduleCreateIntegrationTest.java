@@ -1,6 +1,7 @@
 package com.cosain.trilo.integration.trip;
 
 import com.cosain.trilo.support.IntegrationTest;
+import com.cosain.trilo.support.StatementBudget;
 import com.cosain.trilo.trip.domain.entity.Day;
 import com.cosain.trilo.trip.domain.entity.Schedule;
 import com.cosain.trilo.trip.domain.entity.Trip;
@@ -40,6 +41,7 @@ class ScheduleCreateIntegrationTest extends IntegrationTest {
 
     @Test
     @DisplayName("임시보관함에 일정 생성 -> 맨 앞에 일정 생성됨")
+    @StatementBudget(method = "POST", uri = "/api/schedules", max = 5) // 여행 조회 + 버전 증가 + 여행 일정 수 증가 + 임시보관함 일정 조회 + 일정 저장
     public void testTempScheduleCreate() throws Exception {
         // given
         User user = setupMockNaverUser();
@@ -82,6 +84,7 @@ class ScheduleCreateIntegrationTest extends IntegrationTest {
 
     @Test
     @DisplayName("Day에 일정 생성 -> 맨 뒤에 일정 생성됨")
+    @StatementBudget(method = "POST", uri = "/api/schedules", max = 7) // Day(여행 포함) 조회 + 여행 조회 + 버전 증가 + 여행/Day 일정 수 증가 2 + Day 일정 조회 + 일정 저장
     public void testDayScheduleCreate() throws Exception {
         // given
         User user = setupMockNaverUser();
@@ -3,6 +3,7 @@ package com.cosain.trilo.integration.trip;
 import com.cosain.trilo.fixture.ScheduleFixture;
 import com.cosain.trilo.fixture.TripFixture;
 import com.cosain.trilo.support.IntegrationTest;
+import com.cosain.trilo.support.StatementBudget;
 import com.cosain.trilo.trip.domain.entity.Schedule;
 import com.cosain.trilo.trip.domain.entity.Trip;
 import com.cosain.trilo.trip.domain.repository.ScheduleRepository;
@@ -31,6 +32,7 @@ class ScheduleDeleteIntegrationTest extends IntegrationTest {
 
     @Test
     @DisplayName("일정 삭제 -> 일정 삭제됨")
+    @StatementBudget(method = "DELETE", uri = "/api/schedules/{scheduleId}", max = 6) // 버전 조회 + 일정 조회 + 버전 증가 + 일정 삭제 + 여행/Day 일정 수 감소 2
     public void successTest() throws Exception {
         // given
         User user = setupMockNaverUser();
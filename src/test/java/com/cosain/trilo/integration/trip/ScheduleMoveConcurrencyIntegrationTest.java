@@ -0,0 +1,229 @@
+package com.cosain.trilo.integration.trip;
+
+import com.cosain.trilo.common.exception.CustomException;
+import com.cosain.trilo.fixture.UserFixture;
+import com.cosain.trilo.trip.application.exception.TripVersionConflictException;
+import com.cosain.trilo.trip.application.schedule.service.schedule_move.ScheduleMoveCommand;
+import com.cosain.trilo.trip.application.schedule.service.schedule_move.ScheduleMoveService;
+import com.cosain.trilo.trip.domain.entity.Day;
+import com.cosain.trilo.trip.domain.vo.ScheduleIndex;
+import com.cosain.trilo.user.domain.User;
+import com.cosain.trilo.user.domain.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>한 여행의 일정들을 여러 스레드가 동시에 이동시켜도 일정 순서가 깨지지 않는지 검증하고, 처리량을 비교합니다.</p>
+ * <ul>
+ *     <li>guarded : 서비스 빈 그대로 호출 (여행 단위 잠금 + 버전 충돌 시 재시도)</li>
+ *     <li>optimistic-only : 잠금/재시도 없이 트랜잭션만 걸어 호출 (동시 요청이 DB 에서 그대로 경합하는 기존 방식, 버전 검사만 적용)</li>
+ * </ul>
+ * <p>각 이동이 별도 트랜잭션으로 커밋되어야 하므로, 테스트 트랜잭션 없이 실행합니다.</p>
+ */
+@SpringBootTest
+@DisplayName("일정 이동 동시성 통합 테스트")
+public class ScheduleMoveConcurrencyIntegrationTest {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int MOVES_PER_THREAD = 20;
+    private static final int DAY_COUNT = 3;
+    private static final int SCHEDULES_PER_PLACE = 6;
+
+    @Autowired
+    private ScheduleMoveService scheduleMoveService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long tripperId;
+    private Long tripId;
+    private final List<Long> dayIds = new ArrayList<>();
+    private final List<Long> scheduleIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(UserFixture.kakaoUser_NullId());
+        tripperId = user.getId();
+        tripId = insert("INSERT INTO trip (tripper_id, trip_title, trip_status, start_date, end_date) VALUES (?, '동시성 여행', 'DECIDED', '2023-05-01', '2023-05-03')",
+                tripperId);
+
+        for (int i = 0; i < DAY_COUNT; i++) {
+            dayIds.add(insert("INSERT INTO days (trip_id, trip_date, day_color) VALUES (?, ?, 'RED')",
+                    tripId, "2023-05-0" + (i + 1)));
+        }
+
+        // 각 Day 와 임시보관함에 일정 6개씩
+        List<Long> places = new ArrayList<>(dayIds);
+        places.add(null);
+        for (Long dayId : places) {
+            for (int i = 0; i < SCHEDULES_PER_PLACE; i++) {
+                scheduleIds.add(insert("""
+                                INSERT INTO schedules (trip_id, day_id, schedule_index, schedule_title, schedule_content,
+                                place_id, place_name, place_latitude, place_longitude, start_time, end_time)
+                                VALUES (?, ?, ?, '일정', '', 'place-id', '장소', 37.5, 127.0, '00:00:00', '00:00:00')
+                                """,
+                        tripId, dayId, (i + 1) * ScheduleIndex.DEFAULT_SEQUENCE_GAP));
+            }
+        }
+        jdbcTemplate.update("UPDATE trip SET trip_schedule_count = ? WHERE trip_id = ?", scheduleIds.size(), tripId);
+        jdbcTemplate.update("UPDATE days SET day_schedule_count = ? WHERE trip_id = ?", SCHEDULES_PER_PLACE, tripId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM schedules WHERE trip_id = ?", tripId);
+        jdbcTemplate.update("DELETE FROM days WHERE trip_id = ?", tripId);
+        jdbcTemplate.update("DELETE FROM trip_title_ngram WHERE trip_id = ?", tripId);
+        jdbcTemplate.update("DELETE FROM trip WHERE trip_id = ?", tripId);
+        jdbcTemplate.update("DELETE FROM trip_statistics WHERE tripper_id = ?", tripperId);
+        jdbcTemplate.update("DELETE FROM users WHERE user_id = ?", tripperId);
+    }
+
+    @Test
+    void 잠금과_재시도를_거치면_동시_이동이_모두_반영되고_일정_순서가_유지된다() throws Exception {
+        // when
+        StormResult result = runStorm(scheduleMoveService::moveSchedule);
+
+        // then : 같은 서버 안의 요청은 잠금으로 직렬화되므로 충돌이 사용자에게 드러나지 않음
+        assertThat(result.unexpected()).isEmpty();
+        assertThat(result.conflicts()).isZero();
+        assertOrderingInvariants(result);
+    }
+
+    @Test
+    void 잠금_없이_동시에_이동해도_버전_검사로_일정_순서가_유지된다() throws Exception {
+        // given
+        ScheduleMoveService target = AopTestUtils.getUltimateTargetObject(scheduleMoveService);
+
+        // when
+        StormResult result = runStorm(
+                command -> transactionTemplate.executeWithoutResult(status -> target.moveSchedule(command)));
+
+        // then : 충돌한 요청은 반영되지 않고 실패할 뿐, 순서가 깨지거나 교착 상태가 생기지 않음
+        assertThat(result.unexpected()).isEmpty();
+        assertOrderingInvariants(result);
+    }
+
+    /**
+     * THREAD_COUNT 개의 스레드가 동시에 무작위 일정을 무작위 Day(또는 임시보관함)의 맨 앞으로 이동시킵니다.
+     */
+    private StormResult runStorm(Consumer<ScheduleMoveCommand> move) throws Exception {
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                Random random = new Random(i);
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    for (int j = 0; j < MOVES_PER_THREAD; j++) {
+                        Long scheduleId = scheduleIds.get(random.nextInt(scheduleIds.size()));
+                        int place = random.nextInt(DAY_COUNT + 1);
+                        Long targetDayId = place == DAY_COUNT ? null : dayIds.get(place);
+                        try {
+                            move.accept(ScheduleMoveCommand.of(scheduleId, tripperId, targetDayId, 0));
+                            successes.incrementAndGet();
+                        } catch (TripVersionConflictException e) {
+                            conflicts.incrementAndGet();
+                        } catch (CustomException e) {
+                            // 도착 Day 가 가득 찬 경우 등 -> 정상적인 거절
+                        } catch (Throwable e) {
+                            unexpected.add(e);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            startLatch.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        return new StormResult(successes.get(), conflicts.get(), List.copyOf(unexpected));
+    }
+
+    private void assertOrderingInvariants(StormResult result) {
+        // 일정이 사라지거나 늘어나지 않음
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM schedules WHERE trip_id = ?", Integer.class, tripId))
+                .isEqualTo(scheduleIds.size());
+
+        // 같은 Day(또는 임시보관함) 안에서 순서 값이 겹치지 않음
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM (
+                    SELECT day_id, schedule_index FROM schedules WHERE trip_id = ?
+                    GROUP BY day_id, schedule_index HAVING COUNT(*) > 1
+                ) duplicated
+                """, Integer.class, tripId)).isZero();
+
+        // Day 의 일정 수 제한을 넘지 않음
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT COALESCE(MAX(cnt), 0) FROM (
+                    SELECT COUNT(*) AS cnt FROM schedules WHERE trip_id = ? AND day_id IS NOT NULL GROUP BY day_id
+                ) counts
+                """, Integer.class, tripId)).isLessThanOrEqualTo(Day.MAX_DAY_SCHEDULE_COUNT);
+
+        // Day 의 일정 수 컬럼이 실제 일정 수와 같음
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM days d
+                WHERE d.trip_id = ? AND d.day_schedule_count <> (SELECT COUNT(*) FROM schedules s WHERE s.day_id = d.day_id)
+                """, Integer.class, tripId)).isZero();
+
+        // 반영된 이동마다 여행 버전이 정확히 1씩 증가 (유실된 변경 없음)
+        assertThat(jdbcTemplate.queryForObject("SELECT trip_version FROM trip WHERE trip_id = ?", Long.class, tripId))
+                .isEqualTo(result.successes());
+    }
+
+    private Long insert(String sql, Object... args) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private record StormResult(int successes, int conflicts, List<Throwable> unexpected) {
+    }
+}
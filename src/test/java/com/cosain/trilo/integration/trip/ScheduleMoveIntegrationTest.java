@@ -1,6 +1,7 @@
 package com.cosain.trilo.integration.trip;
 
 import com.cosain.trilo.support.IntegrationTest;
+import com.cosain.trilo.support.StatementBudget;
 import com.cosain.trilo.trip.domain.entity.Day;
 import com.cosain.trilo.trip.domain.entity.Schedule;
 import com.cosain.trilo.trip.domain.entity.Trip;
@@ -34,6 +35,7 @@ public class ScheduleMoveIntegrationTest extends IntegrationTest {
      */
     @Test
     @DisplayName("임시보관함에서 Day로 이동 -> 일정 이동됨")
+    @StatementBudget(method = "PUT", uri = "/api/schedules/{scheduleId}/position", max = 8) // 버전 조회 + 일정 조회 + Day 조회 + 버전 증가 + 도착지 순서값 조회 + Day 일정 수 이동 2 + 일정 수정
     public void testTemporaryToDay() throws Exception {
         // given
         User user = setupMockKakaoUser();
@@ -75,6 +77,7 @@ public class ScheduleMoveIntegrationTest extends IntegrationTest {
      */
     @Test
     @DisplayName("Day에서 다른 Day로 이동 -> 일정 이동됨")
+    @StatementBudget(method = "PUT", uri = "/api/schedules/{scheduleId}/position", max = 8) // 버전 조회 + 일정 조회 + Day 조회 + 버전 증가 + 도착지 순서값 조회 + Day 일정 수 이동 2 + 일정 수정
     public void testDayToOtherDay() throws Exception {
         // given
         User user = setupMockKakaoUser();
@@ -117,6 +120,7 @@ public class ScheduleMoveIntegrationTest extends IntegrationTest {
      */
     @Test
     @DisplayName("Day에서 같은 Day의 같은 순서로 이동 -> 제자리 이동")
+    @StatementBudget(method = "PUT", uri = "/api/schedules/{scheduleId}/position", max = 8) // 버전 조회 + 일정 조회 + Day 조회 + 버전 증가 + 도착지 순서값 조회 + Day 일정 수 이동 2 + 일정 수정
     public void testDayToSameDay_and_SameOrder() throws Exception {
         // given
         User user = setupMockKakaoUser();
@@ -157,6 +161,7 @@ public class ScheduleMoveIntegrationTest extends IntegrationTest {
      */
     @Test
     @DisplayName("Day에서 같은 Day의 다음 순서로 이동 -> 제자리 이동")
+    @StatementBudget(method = "PUT", uri = "/api/schedules/{scheduleId}/position", max = 8) // 버전 조회 + 일정 조회 + Day 조회 + 버전 증가 + 도착지 순서값 조회 + Day 일정 수 이동 2 + 일정 수정
     public void testDayToSameDay_and_NextOrder() throws Exception {
         // given
         User user = setupMockKakaoUser();
@@ -198,6 +203,7 @@ public class ScheduleMoveIntegrationTest extends IntegrationTest {
      */
     @Test
     @DisplayName("임시보관함에서 동일한 순서로 이동 -> 제자리 이동")
+    @StatementBudget(method = "PUT", uri = "/api/schedules/{scheduleId}/position", max = 8) // 버전 조회 + 일정 조회 + Day 조회 + 버전 증가 + 도착지 순서값 조회 + Day 일정 수 이동 2 + 일정 수정
     public void testTemporaryToTemporary_and_SameOrder() throws Exception {
         // given
         User user = setupMockKakaoUser();
@@ -238,6 +244,7 @@ public class ScheduleMoveIntegrationTest extends IntegrationTest {
      */
     @Test
     @DisplayName("임시보관함에서 다음 순서로 이동 -> 제자리 이동")
+    @StatementBudget(method = "PUT", uri = "/api/schedules/{scheduleId}/position", max = 8) // 버전 조회 + 일정 조회 + Day 조회 + 버전 증가 + 도착지 순서값 조회 + Day 일정 수 이동 2 + 일정 수정
     public void testTemporaryToTemporary_and_NextOrder() throws Exception {
         // given
         User user = setupMockKakaoUser();
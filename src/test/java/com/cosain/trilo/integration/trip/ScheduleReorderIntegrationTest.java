@@ -0,0 +1,120 @@
+package com.cosain.trilo.integration.trip;
+
+import com.cosain.trilo.support.IntegrationTest;
+import com.cosain.trilo.trip.domain.entity.Day;
+import com.cosain.trilo.trip.domain.entity.Schedule;
+import com.cosain.trilo.trip.domain.entity.Trip;
+import com.cosain.trilo.trip.presentation.schedule.dto.request.ScheduleReorderRequest;
+import com.cosain.trilo.user.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.cosain.trilo.trip.domain.vo.ScheduleIndex.DEFAULT_SEQUENCE_GAP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 일정 일괄 이동 기능에 대한 통합 테스트 클래스입니다.
+ */
+@DisplayName("[통합] 일정 일괄 이동 API 테스트")
+public class ScheduleReorderIntegrationTest extends IntegrationTest {
+
+    @Test
+    @DisplayName("Day와 임시보관함의 일정 순서를 한 번에 지정 -> 요청한 순서대로 기본 간격의 순서값을 가짐")
+    public void testReorder() throws Exception {
+        // given : Day [a, b], 임시보관함 [c]
+        User user = setupMockKakaoUser();
+        Trip trip = setupDecidedTrip(user.getId(), LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 1));
+        Day day = trip.getDays().get(0);
+        Schedule a = setupDaySchedule(trip, day, 0);
+        Schedule b = setupDaySchedule(trip, day, 1);
+        Schedule c = setupTemporarySchedule(trip, 0);
+        flushAndClear();
+
+        // Day [c, b], 임시보관함 [a]
+        var request = new ScheduleReorderRequest(List.of(
+                new ScheduleReorderRequest.Place(day.getId(), List.of(c.getId(), b.getId())),
+                new ScheduleReorderRequest.Place(null, List.of(a.getId()))));
+
+        // when
+        ResultActions resultActions = runTest(trip.getId(), createRequestJson(request), user);
+        flushAndClear();
+
+        // then
+        resultActions
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tripId").value(trip.getId()))
+                .andExpect(jsonPath("$.reorderedScheduleCount").value(3));
+
+        List<Schedule> daySchedules = retrieveSchedules(trip.getId(), day.getId());
+        assertThat(daySchedules).map(Schedule::getId).containsExactly(c.getId(), b.getId());
+        assertThat(daySchedules).map(schedule -> schedule.getScheduleIndex().getValue()).containsExactly(0L, DEFAULT_SEQUENCE_GAP);
+
+        List<Schedule> temporarySchedules = retrieveSchedules(trip.getId(), null);
+        assertThat(temporarySchedules).map(Schedule::getId).containsExactly(a.getId());
+    }
+
+    @Test
+    @DisplayName("요청한 Day에 있던 일정을 빠뜨림 -> 400 에러, 순서 변경 안 됨")
+    public void testMissingSchedule() throws Exception {
+        // given : Day [a, b]
+        User user = setupMockKakaoUser();
+        Trip trip = setupDecidedTrip(user.getId(), LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 1));
+        Day day = trip.getDays().get(0);
+        Schedule a = setupDaySchedule(trip, day, 0);
+        Schedule b = setupDaySchedule(trip, day, 1);
+        flushAndClear();
+
+        var request = new ScheduleReorderRequest(List.of(new ScheduleReorderRequest.Place(day.getId(), List.of(b.getId()))));
+
+        // when
+        ResultActions resultActions = runTest(trip.getId(), createRequestJson(request), user);
+        flushAndClear();
+
+        // then
+        resultActions
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("schedule-0013"))
+                .andExpect(jsonPath("$.errorMessage").exists())
+                .andExpect(jsonPath("$.errorDetail").exists());
+
+        assertThat(retrieveSchedules(trip.getId(), day.getId())).map(Schedule::getId).containsExactly(a.getId(), b.getId());
+    }
+
+    private ResultActions runTest(Object tripId, String content, User requestUser) throws Exception {
+        return mockMvc.perform(put("/api/trips/{tripId}/schedules/positions", tripId)
+                .header(HttpHeaders.AUTHORIZATION, authorizationHeader(requestUser))
+                .content(content)
+                .characterEncoding(StandardCharsets.UTF_8)
+                .contentType(MediaType.APPLICATION_JSON));
+    }
+
+    /**
+     * 여행의 Day(dayId가 null이면 임시보관함)에 속한 일정들을 순서값 순으로 얻어옵니다.
+     */
+    private List<Schedule> retrieveSchedules(Long tripId, Long dayId) {
+        return em.createQuery("""
+                        SELECT s
+                        FROM Schedule s
+                        LEFT JOIN s.day d
+                        WHERE s.trip.id = :tripId
+                        AND ((:dayId IS NULL AND d.id IS NULL) OR d.id = :dayId)
+                        ORDER BY s.scheduleIndex.value asc, s.scheduleIndex.orderKey asc
+                        """, Schedule.class)
+                .setParameter("tripId", tripId)
+                .setParameter("dayId", dayId)
+                .getResultList();
+    }
+}
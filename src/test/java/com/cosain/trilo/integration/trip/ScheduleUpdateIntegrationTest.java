@@ -3,6 +3,7 @@ package com.cosain.trilo.integration.trip;
 import com.cosain.trilo.fixture.ScheduleFixture;
 import com.cosain.trilo.fixture.TripFixture;
 import com.cosain.trilo.support.IntegrationTest;
+import com.cosain.trilo.support.StatementBudget;
 import com.cosain.trilo.trip.domain.entity.Schedule;
 import com.cosain.trilo.trip.domain.entity.Trip;
 import com.cosain.trilo.trip.domain.repository.ScheduleRepository;
@@ -35,6 +36,7 @@ class ScheduleUpdateIntegrationTest extends IntegrationTest {
 
     @Test
     @DisplayName("인증된 사용자 올바른 요청 -> 일정 수정됨")
+    @StatementBudget(method = "PUT", uri = "/api/schedules/{scheduleId}", max = 4) // 버전 조회 + 일정 조회 + 버전 증가 + 일정 수정
     public void updateSchedule_with_authorizedUser() throws Exception {
         // given ======================================================================================
 
@@ -1,6 +1,7 @@
 package com.cosain.trilo.integration.trip;
 
 import com.cosain.trilo.support.IntegrationTest;
+import com.cosain.trilo.support.StatementBudget;
 import com.cosain.trilo.trip.domain.entity.Trip;
 import com.cosain.trilo.trip.presentation.trip.dto.request.TripSearchRequest;
 import com.cosain.trilo.user.domain.User;
@@ -25,6 +26,7 @@ public class TripConditionSearchIntegrationTest extends IntegrationTest {
     @Nested
     class 여행_목록_조회{
         @Test
+        @StatementBudget(method = "GET", uri = "/api/trips", max = 1) // 검색 조회 1회
         void 커서_없이_조회() throws Exception{
 
             // given
@@ -59,6 +61,7 @@ public class TripConditionSearchIntegrationTest extends IntegrationTest {
         }
 
         @Test
+        @StatementBudget(method = "GET", uri = "/api/trips", max = 1) // 검색 조회 1회
         void 여행_ID_커서_포함_조회() throws Exception{
 
             // given
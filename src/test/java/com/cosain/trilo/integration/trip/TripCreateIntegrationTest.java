@@ -1,6 +1,7 @@
 package com.cosain.trilo.integration.trip;
 
 import com.cosain.trilo.support.IntegrationTest;
+import com.cosain.trilo.support.StatementBudget;
 import com.cosain.trilo.trip.domain.entity.Trip;
 import com.cosain.trilo.trip.domain.repository.TripRepository;
 import com.cosain.trilo.trip.domain.vo.TripImage;
@@ -49,6 +50,7 @@ public class TripCreateIntegrationTest extends IntegrationTest {
      */
     @DisplayName("여행 생성 -> 여행 생성 됨")
     @Test
+    @StatementBudget(method = "POST", uri = "/api/trips", max = 3) // 여행 저장 + 통계 증가 + 통계가 없을 때 다시 세기
     void createTest() throws Exception {
         // given
         User user = setupMockKakaoUser();
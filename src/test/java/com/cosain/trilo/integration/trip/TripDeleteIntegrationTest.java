@@ -1,6 +1,7 @@
 package com.cosain.trilo.integration.trip;
 
 import com.cosain.trilo.support.IntegrationTest;
+import com.cosain.trilo.support.StatementBudget;
 import com.cosain.trilo.trip.domain.entity.Day;
 import com.cosain.trilo.trip.domain.entity.Schedule;
 import com.cosain.trilo.trip.domain.entity.Trip;
@@ -93,6 +94,7 @@ class TripDeleteIntegrationTest extends IntegrationTest {
      */
     @Test
     @DisplayName("인증된 사용자의 올바른 여행 삭제 요청 -> 성공")
+    @StatementBudget(method = "DELETE", uri = "/api/trips/{tripId}", max = 6) // 여행 조회 + 일정/Day/좋아요 삭제 3 + 여행 삭제 + 통계 감소
     public void deleteTripSuccessTest() throws Exception {
         // given : setup 참고
 
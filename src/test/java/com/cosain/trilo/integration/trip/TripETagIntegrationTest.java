@@ -0,0 +1,102 @@
+package com.cosain.trilo.integration.trip;
+
+import com.cosain.trilo.support.IntegrationTest;
+import com.cosain.trilo.support.StatementBudget;
+import com.cosain.trilo.trip.domain.entity.Day;
+import com.cosain.trilo.trip.domain.entity.Schedule;
+import com.cosain.trilo.trip.domain.entity.Trip;
+import com.cosain.trilo.trip.presentation.day.dto.DayColorUpdateRequest;
+import com.cosain.trilo.user.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("[통합] 여행 조회 API ETag 테스트")
+public class TripETagIntegrationTest extends IntegrationTest {
+
+    private User user;
+    private Trip trip;
+    private Day day;
+    private Schedule schedule;
+
+    @BeforeEach
+    void setup() {
+        user = setupMockKakaoUser();
+        trip = setupDecidedTrip(user.getId(), LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 2));
+        day = trip.getDays().get(0);
+        schedule = setupDaySchedule(trip, day, 10000L);
+        flushAndClear();
+    }
+
+    @Test
+    @DisplayName("같은 ETag 로 다시 조회하면 304, Day 색상이 바뀐 뒤에는 새 ETag 와 함께 200")
+    @StatementBudget(method = "GET", uri = "/api/trips/{tripId}/days", max = 2) // ETag 버전 조회 1회 + Day 및 Day 일정 1회
+    void not_modified_until_trip_changes() throws Exception {
+        // given
+        String eTag = getETag("/api/trips/{tripId}/days", trip.getId());
+
+        // when & then 1: 변경 없음 -> 304
+        mockMvc.perform(get("/api/trips/{tripId}/days", trip.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        // when & then 2: Day 색상 변경 -> 여행 버전 증가 -> 200
+        mockMvc.perform(put("/api/days/{dayId}/color", day.getId())
+                        .header(HttpHeaders.AUTHORIZATION, authorizationHeader(user))
+                        .content(createRequestJson(new DayColorUpdateRequest("RED")))
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+        flushAndClear();
+
+        String changedETag = mockMvc.perform(get("/api/trips/{tripId}/days", trip.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changedETag).isNotEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("Day, 일정 조회 API 도 소속 여행의 버전으로 같은 ETag 를 사용한다")
+    void day_and_schedule_share_trip_etag() throws Exception {
+        // when
+        String tripETag = getETag("/api/trips/{tripId}", trip.getId());
+        String dayETag = getETag("/api/days/{dayId}", day.getId());
+        String scheduleETag = getETag("/api/schedules/{scheduleId}", schedule.getId());
+
+        // then
+        assertThat(tripETag).isNotNull();
+        assertThat(dayETag).isEqualTo(tripETag);
+        assertThat(scheduleETag).isEqualTo(tripETag);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 여행 -> ETag 없이 404")
+    void not_found_has_no_etag() throws Exception {
+        mockMvc.perform(get("/api/trips/{tripId}", 987654321L))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    private String getETag(String urlTemplate, Long id) throws Exception {
+        return mockMvc.perform(get(urlTemplate, id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
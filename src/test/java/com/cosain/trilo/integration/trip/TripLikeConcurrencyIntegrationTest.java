@@ -0,0 +1,124 @@
+package com.cosain.trilo.integration.trip;
+
+import com.cosain.trilo.fixture.TripFixture;
+import com.cosain.trilo.fixture.UserFixture;
+import com.cosain.trilo.trip.application.trip.service.trip_like.TripLikeService;
+import com.cosain.trilo.trip.domain.entity.Trip;
+import com.cosain.trilo.trip.domain.repository.TripRepository;
+import com.cosain.trilo.trip.infra.like.WriteBehindTripLikeCounter;
+import com.cosain.trilo.user.domain.User;
+import com.cosain.trilo.user.domain.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 여행에 좋아요가 동시에 몰려도 trip 행 잠금 대기 없이 처리되고, 반영 후 좋아요 수가 정확한지 검증합니다.
+ * (각 요청이 별도 트랜잭션으로 커밋되어야 하므로, 테스트 트랜잭션 없이 실행)
+ */
+@SpringBootTest
+@DisplayName("여행 좋아요 동시성 통합 테스트")
+public class TripLikeConcurrencyIntegrationTest {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int LIKES_PER_THREAD = 25;
+
+    @Autowired
+    private TripLikeService tripLikeService;
+
+    @Autowired
+    private WriteBehindTripLikeCounter tripLikeCounter;
+
+    @Autowired
+    private TripRepository tripRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long tripperId;
+    private Long tripId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(UserFixture.kakaoUser_NullId());
+        tripperId = user.getId();
+        tripId = transactionTemplate.execute(status -> tripRepository.save(TripFixture.undecided_nullId(tripperId)).getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM trip_like WHERE trip_id = ?", tripId);
+        jdbcTemplate.update("DELETE FROM trip_title_ngram WHERE trip_id = ?", tripId);
+        jdbcTemplate.update("DELETE FROM trip WHERE trip_id = ?", tripId);
+        jdbcTemplate.update("DELETE FROM trip_statistics WHERE tripper_id = ?", tripperId);
+        jdbcTemplate.update("DELETE FROM users WHERE user_id = ?", tripperId);
+    }
+
+    @Test
+    void 한_여행에_좋아요가_몰려도_trip_행_잠금_대기가_없고_좋아요_수가_정확하다() throws Exception {
+        // given
+        tripLikeCounter.flush();
+        long rowLockWaitsBefore = innodbRowLockWaits();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when : 서로 다른 사용자 400명이 동시에 좋아요 (같은 사용자의 중복 좋아요 포함)
+        try {
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                long firstUserId = 1_000_000L + (long) i * LIKES_PER_THREAD;
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    for (int j = 0; j < LIKES_PER_THREAD; j++) {
+                        tripLikeService.like(tripId, firstUserId + j);
+                        tripLikeService.like(tripId, firstUserId + j);
+                    }
+                    return null;
+                }));
+            }
+            startLatch.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        long rowLockWaitsDuringStorm = innodbRowLockWaits() - rowLockWaitsBefore;
+        tripLikeCounter.flush();
+
+        // then
+        int expectedLikes = THREAD_COUNT * LIKES_PER_THREAD;
+        assertThat(rowLockWaitsDuringStorm).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM trip_like WHERE trip_id = ?", Integer.class, tripId))
+                .isEqualTo(expectedLikes);
+        assertThat(jdbcTemplate.queryForObject("SELECT trip_like_count FROM trip WHERE trip_id = ?", Long.class, tripId))
+                .isEqualTo(expectedLikes);
+    }
+
+    private long innodbRowLockWaits() {
+        return jdbcTemplate.query("SHOW GLOBAL STATUS LIKE 'Innodb_row_lock_waits'",
+                rs -> rs.next() ? rs.getLong("Value") : 0L);
+    }
+}
@@ -1,6 +1,7 @@
 package com.cosain.trilo.integration.trip;
 
 import com.cosain.trilo.support.IntegrationTest;
+import com.cosain.trilo.support.StatementBudget;
 import com.cosain.trilo.trip.domain.entity.Day;
 import com.cosain.trilo.trip.domain.entity.Schedule;
 import com.cosain.trilo.trip.domain.entity.Trip;
@@ -65,6 +66,7 @@ public class TripPeriodUpdateIntegrationTest extends IntegrationTest {
          */
         @DisplayName("startDate, endDate 모두 null로 변경 -> 변화 없음")
         @Test
+        @StatementBudget(method = "PUT", uri = "/api/trips/{tripId}/period", max = 2) // 여행(Day 포함) 조회 + 버전 증가
         public void testUndecidedTripToUndecidedTrip() throws Exception {
             // given
             User requestUser = setupMockNaverUser();
@@ -108,6 +110,7 @@ public class TripPeriodUpdateIntegrationTest extends IntegrationTest {
          */
         @DisplayName("startDate, endDate 특정 날짜 지정 -> 기간 초기화 됨")
         @Test
+        @StatementBudget(method = "PUT", uri = "/api/trips/{tripId}/period", max = 6) // 여행(Day 포함) 조회 + 버전 증가 + Day 저장 2 + 여행 수정 + 통계 보정
         public void testInitPeriod() throws Exception {
             // given
             User requestUser = setupMockNaverUser();
@@ -163,6 +166,7 @@ public class TripPeriodUpdateIntegrationTest extends IntegrationTest {
          */
         @DisplayName("같은 기간으로 변경 -> 변화 없음")
         @Test
+        @StatementBudget(method = "PUT", uri = "/api/trips/{tripId}/period", max = 2) // 여행(Day 포함) 조회 + 버전 증가
         public void testUpdateSamePeriod() throws Exception {
             // given
             User user = setupMockNaverUser();
@@ -211,6 +215,7 @@ public class TripPeriodUpdateIntegrationTest extends IntegrationTest {
          */
         @DisplayName("다른 유효한 기간으로 변경 -> 성공")
         @Test
+        @StatementBudget(method = "PUT", uri = "/api/trips/{tripId}/period", max = 8) // 여행(Day 포함) 조회 + 버전 증가 + Day 저장 1 + 여행 수정 + 통계 보정 + 임시보관함 재배치 + 일정 이동 + Day 삭제
         public void testChangeOtherPeriod() throws Exception {
             // given
             User user = setupMockNaverUser();
@@ -0,0 +1,210 @@
+package com.cosain.trilo.integration.trip;
+
+import com.cosain.trilo.fixture.UserFixture;
+import com.cosain.trilo.trip.infra.purge.ChunkedTripPurger;
+import com.cosain.trilo.trip.infra.statistics.TripStatisticsStore;
+import com.cosain.trilo.user.domain.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>여행이 많은 사용자의 여행을 묶음 단위로 삭제하는 작업({@link ChunkedTripPurger})의 통합 테스트입니다.</p>
+ * <p>각 묶음이 별도 트랜잭션으로 커밋되어야 하므로, 테스트 트랜잭션 없이 실행합니다.</p>
+ * <p>애플리케이션의 중단된 삭제 재개가 테스트 데이터를 가져가지 않도록, 재개 주기를 길게 잡습니다.</p>
+ */
+@SpringBootTest(properties = "trip.purge.resume-interval-ms=3600000")
+@DisplayName("사용자 여행 묶음 삭제 통합 테스트")
+public class TripPurgeIntegrationTest {
+
+    private static final int TRIP_COUNT = 3000;
+    private static final int CHUNK_SIZE = 100;
+    private static final int ROW_LIMIT = 500;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TripStatisticsStore tripStatisticsStore;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChunkedTripPurger tripPurger;
+
+    private Long tripperId;
+    private Long firstTripId;
+    private Long lastTripId;
+
+    @BeforeEach
+    void setUp() {
+        // 스케줄러가 돌리는 빈과 지표가 섞이지 않도록, 테스트 전용 인스턴스를 만들어 사용
+        meterRegistry = new SimpleMeterRegistry();
+        tripPurger = new ChunkedTripPurger(jdbcTemplate, transactionTemplate, tripStatisticsStore, eventPublisher, meterRegistry,
+                CHUNK_SIZE, ROW_LIMIT, 0, 300);
+
+        tripperId = userRepository.save(UserFixture.kakaoUser_NullId()).getId();
+
+        // 여행마다 Day 1개, 일정 2개, 좋아요 1개, 제목 색인 2개
+        List<Object[]> trips = new ArrayList<>();
+        for (int i = 0; i < TRIP_COUNT; i++) {
+            trips.add(new Object[]{tripperId});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO trip (tripper_id, trip_title, trip_status, start_date, end_date)
+                VALUES (?, '대량 여행', 'DECIDED', '2023-05-01', '2023-05-01')
+                """, trips);
+        firstTripId = count("SELECT MIN(trip_id) FROM trip WHERE tripper_id = ?");
+        lastTripId = count("SELECT MAX(trip_id) FROM trip WHERE tripper_id = ?");
+        jdbcTemplate.update("""
+                INSERT INTO days (trip_id, trip_date, day_color)
+                SELECT trip_id, '2023-05-01', 'RED' FROM trip WHERE tripper_id = ?
+                """, tripperId);
+        for (int index = 0; index < 2; index++) {
+            jdbcTemplate.update("""
+                    INSERT INTO schedules (trip_id, day_id, schedule_index, schedule_title, schedule_content,
+                    place_id, place_name, place_latitude, place_longitude, start_time, end_time)
+                    SELECT d.trip_id, d.day_id, ?, '일정', '', 'place-id', '장소', 37.5, 127.0, '00:00:00', '00:00:00'
+                    FROM days d JOIN trip t ON t.trip_id = d.trip_id
+                    WHERE t.tripper_id = ?
+                    """, index, tripperId);
+        }
+        jdbcTemplate.update("INSERT INTO trip_like (trip_id, user_id) SELECT trip_id, ? FROM trip WHERE tripper_id = ?", tripperId, tripperId);
+        jdbcTemplate.update("""
+                INSERT INTO trip_title_ngram (gram, trip_id)
+                SELECT g.gram, t.trip_id FROM trip t CROSS JOIN (SELECT '대량' AS gram UNION ALL SELECT '량여') g
+                WHERE t.tripper_id = ?
+                """, tripperId);
+        jdbcTemplate.update("INSERT INTO trip_statistics (tripper_id, total_trip_cnt, terminated_trip_cnt, terminated_as_of) VALUES (?, ?, 0, '2023-05-01')",
+                tripperId, TRIP_COUNT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE s FROM schedules s JOIN trip t ON t.trip_id = s.trip_id WHERE t.tripper_id = ?", tripperId);
+        jdbcTemplate.update("DELETE d FROM days d JOIN trip t ON t.trip_id = d.trip_id WHERE t.tripper_id = ?", tripperId);
+        jdbcTemplate.update("DELETE FROM trip_like WHERE user_id = ?", tripperId);
+        jdbcTemplate.update("DELETE g FROM trip_title_ngram g JOIN trip t ON t.trip_id = g.trip_id WHERE t.tripper_id = ?", tripperId);
+        jdbcTemplate.update("DELETE FROM trip WHERE tripper_id = ?", tripperId);
+        jdbcTemplate.update("DELETE FROM trip_statistics WHERE tripper_id = ?", tripperId);
+        jdbcTemplate.update("DELETE FROM trip_purge_progress WHERE tripper_id = ?", tripperId);
+        jdbcTemplate.update("DELETE FROM users WHERE user_id = ?", tripperId);
+    }
+
+    @Test
+    void 여행이_많은_사용자의_여행을_묶음_단위로_모두_삭제한다() {
+        // when
+        long purged = tripPurger.purgeAllByTripperId(tripperId);
+
+        // then : 여행과 딸린 행, 통계, 진행 기록이 모두 삭제됨
+        assertThat(purged).isEqualTo(TRIP_COUNT);
+        assertAllPurged();
+
+        // then : 여행 수와 관계없이 한 번에 chunkSize 개의 여행만 읽고, 한 트랜잭션은 max(rowLimit, chunkSize) 개를 넘게 지우지 않음
+        DistributionSummary chunkTrips = meterRegistry.get("trip.purge.chunk-trips").summary();
+        assertThat(chunkTrips.count()).isEqualTo(TRIP_COUNT / CHUNK_SIZE);
+        assertThat(chunkTrips.max()).isLessThanOrEqualTo(CHUNK_SIZE);
+        assertThat(meterRegistry.get("trip.purge.rows-per-transaction").summary().max())
+                .isLessThanOrEqualTo(Math.max(ROW_LIMIT, CHUNK_SIZE));
+    }
+
+    @Test
+    void 중단된_위치부터_이어서_삭제한다() {
+        // given : 앞의 10개 묶음을 삭제하고, 11번째 묶음의 일정만 지운 뒤 서버가 죽은 상황
+        List<Long> tripIds = jdbcTemplate.queryForList("SELECT trip_id FROM trip WHERE tripper_id = ? ORDER BY trip_id", Long.class, tripperId);
+        Long checkpoint = tripIds.get(CHUNK_SIZE * 10 - 1);
+        Long partialChunkEnd = tripIds.get(CHUNK_SIZE * 11 - 1);
+        jdbcTemplate.update("DELETE FROM schedules WHERE trip_id <= ? AND trip_id IN (SELECT trip_id FROM trip WHERE tripper_id = ?)", partialChunkEnd, tripperId);
+        jdbcTemplate.update("DELETE FROM days WHERE trip_id <= ? AND trip_id IN (SELECT trip_id FROM trip WHERE tripper_id = ?)", checkpoint, tripperId);
+        jdbcTemplate.update("DELETE FROM trip_like WHERE trip_id <= ? AND user_id = ?", checkpoint, tripperId);
+        jdbcTemplate.update("DELETE FROM trip_title_ngram WHERE trip_id <= ? AND trip_id IN (SELECT trip_id FROM trip WHERE tripper_id = ?)", checkpoint, tripperId);
+        jdbcTemplate.update("DELETE FROM trip WHERE trip_id <= ? AND tripper_id = ?", checkpoint, tripperId);
+        jdbcTemplate.update("INSERT INTO trip_purge_progress (tripper_id, last_trip_id, purged_trip_cnt, updated_at) VALUES (?, ?, ?, NOW())",
+                tripperId, checkpoint, CHUNK_SIZE * 10);
+
+        // when
+        long purged = tripPurger.purgeAllByTripperId(tripperId);
+
+        // then : 남은 여행만 이어서 삭제함
+        assertThat(purged).isEqualTo(TRIP_COUNT - CHUNK_SIZE * 10);
+        assertThat(meterRegistry.get("trip.purge.chunk-trips").summary().count()).isEqualTo((TRIP_COUNT - CHUNK_SIZE * 10) / CHUNK_SIZE);
+        assertAllPurged();
+    }
+
+    @Test
+    void 여러_서버가_같은_중단된_삭제를_찾아도_한_서버만_이어서_삭제한다() throws Exception {
+        // given : 진행 기록이 오래 갱신되지 않은 사용자와, 이를 동시에 찾는 두 서버
+        jdbcTemplate.update("INSERT INTO trip_purge_progress (tripper_id, last_trip_id, purged_trip_cnt, updated_at) VALUES (?, 0, 0, NOW() - INTERVAL 1 HOUR)",
+                tripperId);
+        SimpleMeterRegistry otherMeterRegistry = new SimpleMeterRegistry();
+        ChunkedTripPurger otherTripPurger = new ChunkedTripPurger(jdbcTemplate, transactionTemplate, tripStatisticsStore, eventPublisher,
+                otherMeterRegistry, CHUNK_SIZE, ROW_LIMIT, 0, 300);
+
+        // when
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (ChunkedTripPurger purger : List.of(tripPurger, otherTripPurger)) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    purger.resumeStalled();
+                    return null;
+                }));
+            }
+            startLatch.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // then : 한 서버만 가져가 끝까지 삭제함
+        double resumed = meterRegistry.get("trip.purge.resumed").counter().count()
+                + otherMeterRegistry.get("trip.purge.resumed").counter().count();
+        assertThat(resumed).isEqualTo(1.0);
+        assertAllPurged();
+    }
+
+    private void assertAllPurged() {
+        assertThat(count("SELECT COUNT(*) FROM trip WHERE tripper_id = ?")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM trip_like WHERE user_id = ?")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM trip_statistics WHERE tripper_id = ?")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM trip_purge_progress WHERE tripper_id = ?")).isZero();
+        // 여행이 지워졌으므로, 사용자의 여행 id 범위로 딸린 행이 남았는지 확인
+        for (String table : List.of("schedules", "days", "trip_like", "trip_title_ngram")) {
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE trip_id BETWEEN ? AND ?", Long.class,
+                    firstTripId, lastTripId)).as(table).isZero();
+        }
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class, tripperId);
+    }
+}
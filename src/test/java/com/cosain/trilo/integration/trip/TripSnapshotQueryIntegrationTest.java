@@ -0,0 +1,107 @@
+package com.cosain.trilo.integration.trip;
+
+import com.cosain.trilo.common.logging.query.QueryCounter;
+import com.cosain.trilo.support.IntegrationTest;
+import com.cosain.trilo.support.StatementBudget;
+import com.cosain.trilo.trip.application.trip.service.trip_snapshot_search.TripSnapshot;
+import com.cosain.trilo.trip.application.trip.service.trip_snapshot_search.TripSnapshotSearchService;
+import com.cosain.trilo.trip.domain.entity.Day;
+import com.cosain.trilo.trip.domain.entity.Trip;
+import com.cosain.trilo.user.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("[통합] 여행 스냅샷 조회 API 테스트")
+public class TripSnapshotQueryIntegrationTest extends IntegrationTest {
+
+    /**
+     * 여행 1회, Day 및 Day 일정 1회, 임시보관함 1회
+     */
+    private static final int SNAPSHOT_QUERY_COUNT = 3;
+
+    @Autowired
+    private TripSnapshotSearchService tripSnapshotSearchService;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Test
+    @DisplayName("Day/일정 수와 관계없이 스냅샷 조회 쿼리 수는 일정하다")
+    void query_count_is_fixed_regardless_of_day_and_schedule_count() {
+        // given
+        User user = setupMockKakaoUser();
+        Trip smallTrip = setupDecidedTrip(user.getId(), LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 1));
+        Trip largeTrip = setupDecidedTrip(user.getId(), LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 7));
+        for (Day day : largeTrip.getDays()) {
+            for (int i = 1; i <= 5; i++) {
+                setupDaySchedule(largeTrip, day, i * 10000L);
+            }
+        }
+        for (int i = 1; i <= 20; i++) {
+            setupTemporarySchedule(largeTrip, i * 10000L);
+        }
+        flushAndClear();
+
+        // when
+        int smallTripQueryCount = countQueries(smallTrip.getId());
+        int largeTripQueryCount = countQueries(largeTrip.getId());
+
+        // then
+        assertThat(smallTripQueryCount).isEqualTo(SNAPSHOT_QUERY_COUNT);
+        assertThat(largeTripQueryCount).isEqualTo(SNAPSHOT_QUERY_COUNT);
+    }
+
+    @Test
+    @DisplayName("스냅샷에는 Day 별 일정이 순서대로, 임시보관함 일정이 전부 담긴다")
+    @StatementBudget(method = "GET", uri = "/api/trips/{tripId}/snapshot", max = SNAPSHOT_QUERY_COUNT + 1) // + ETag 버전 조회
+    void snapshot_contains_all_days_and_temporary_schedules() throws Exception {
+        // given
+        User user = setupMockKakaoUser();
+        Trip trip = setupDecidedTrip(user.getId(), LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 2));
+        Day firstDay = trip.getDays().get(0);
+        Long laterScheduleId = setupDaySchedule(trip, firstDay, 20000L).getId();
+        Long earlierScheduleId = setupDaySchedule(trip, firstDay, 10000L).getId();
+        for (int i = 1; i <= 25; i++) {
+            setupTemporarySchedule(trip, i * 10000L);
+        }
+        flushAndClear();
+
+        // when & then
+        mockMvc.perform(get("/api/trips/{tripId}/snapshot", trip.getId())
+                        .header(HttpHeaders.AUTHORIZATION, authorizationHeader(user)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.trip.tripId").value(trip.getId()))
+                .andExpect(jsonPath("$.days.length()").value(2))
+                .andExpect(jsonPath("$.days[0].schedules[0].scheduleId").value(earlierScheduleId))
+                .andExpect(jsonPath("$.days[0].schedules[1].scheduleId").value(laterScheduleId))
+                .andExpect(jsonPath("$.days[1].schedules.length()").value(0))
+                .andExpect(jsonPath("$.temporarySchedules.length()").value(25));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 여행 -> 404")
+    void snapshot_of_not_exist_trip() throws Exception {
+        mockMvc.perform(get("/api/trips/{tripId}/snapshot", 987654321L))
+                .andDo(print())
+                .andExpect(status().isNotFound());
+    }
+
+    private int countQueries(Long tripId) {
+        queryCounter.resetCount();
+        TripSnapshot snapshot = tripSnapshotSearchService.searchTripSnapshot(tripId);
+        int count = queryCounter.getCount();
+        assertThat(snapshot.getTrip().getTripId()).isEqualTo(tripId);
+        return count;
+    }
+}
@@ -2,6 +2,7 @@ package com.cosain.trilo.integration.trip;
 
 import com.cosain.trilo.fixture.TripFixture;
 import com.cosain.trilo.support.IntegrationTest;
+import com.cosain.trilo.support.StatementBudget;
 import com.cosain.trilo.trip.domain.entity.Trip;
 import com.cosain.trilo.trip.domain.repository.TripRepository;
 import com.cosain.trilo.trip.domain.vo.TripTitle;
@@ -36,6 +37,7 @@ public class TripTitleUpdateIntegrationTest extends IntegrationTest {
 
     @DisplayName("여행 제목 수정 -> 여행 제목 수정 됨")
     @Test
+    @StatementBudget(method = "PUT", uri = "/api/trips/{tripId}/title", max = 3) // 여행 조회 + 버전 증가 + 제목 수정
     void updateTitleTest() throws Exception {
         // given
         User user = setupMockKakaoUser();
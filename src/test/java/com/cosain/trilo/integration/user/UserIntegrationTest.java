@@ -2,6 +2,7 @@ package com.cosain.trilo.integration.user;
 
 import com.cosain.trilo.fixture.TripFixture;
 import com.cosain.trilo.support.IntegrationTest;
+import com.cosain.trilo.support.StatementBudget;
 import com.cosain.trilo.trip.domain.entity.Trip;
 import com.cosain.trilo.trip.domain.repository.TripRepository;
 import com.cosain.trilo.user.domain.User;
@@ -46,6 +47,7 @@ public class UserIntegrationTest extends IntegrationTest {
     @Nested
     class 회원_프로필_조회{
         @Test
+        @StatementBudget(method = "GET", uri = "/api/users/{userId}/profile", max = 1) // 회원 조회
         void 회원_프로필_조회_성공() throws Exception{
             // given
             User user = setupMockKakaoUser();
@@ -87,6 +89,7 @@ public class UserIntegrationTest extends IntegrationTest {
     @Nested
     class 회원_탈퇴{
         @Test
+        @StatementBudget(method = "DELETE", uri = "/api/users/{userId}", max = 3) // 회원 조회 + outbox 기록 + 회원 수정
         void 회원_탈퇴_성공() throws Exception{
             // given
             User user = setupMockKakaoUser();
@@ -125,6 +128,7 @@ public class UserIntegrationTest extends IntegrationTest {
     @Nested
     class 마이페이지_조회{
         @Test
+        @StatementBudget(method = "GET", uri = "/api/users/{userId}/my-page", max = 3) // 통계 조회 + 종료된 여행 보정(또는 통계가 없을 때 직접 집계) + 회원 조회
         void 성공() throws Exception{
             // given
             User user = setupMockKakaoUser();
@@ -158,6 +162,7 @@ public class UserIntegrationTest extends IntegrationTest {
     @Nested
     class 회원_정보_수정{
         @Test
+        @StatementBudget(method = "PATCH", uri = "/api/users/{userId}", max = 2) // 회원 조회 + 회원 수정
         void 성공() throws Exception{
             // given
             String nickName = "변경할 닉네임";
@@ -0,0 +1,85 @@
+package com.cosain.trilo.integration.user;
+
+import com.cosain.trilo.auth.infra.OAuthProfileDto;
+import com.cosain.trilo.user.application.UserService;
+import com.cosain.trilo.user.domain.AuthProvider;
+import com.cosain.trilo.user.domain.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 이메일로 동시에 최초 로그인해도 사용자가 1명만 생성되는 지 검증합니다.
+ * (각 요청이 별도 트랜잭션으로 커밋되어야 하므로, 테스트 트랜잭션 없이 실행)
+ */
+@SpringBootTest
+@DisplayName("사용자 upsert 동시성 통합 테스트")
+public class UserUpsertConcurrencyIntegrationTest {
+
+    private static final String EMAIL = "concurrent-first-login@kakao.com";
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByEmail(EMAIL).ifPresent(userRepository::delete);
+    }
+
+    @Test
+    void 같은_이메일로_동시에_최초_로그인하면_사용자는_한_명만_생성된다() throws Exception {
+        // given
+        OAuthProfileDto oAuthProfileDto = OAuthProfileDto.builder()
+                .email(EMAIL)
+                .name("동시로그인")
+                .provider(AuthProvider.KAKAO)
+                .profileImageUrl("image_url")
+                .build();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Long>> futures = new ArrayList<>();
+
+        // when
+        try {
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    return userService.createOrUpdate(oAuthProfileDto);
+                }));
+            }
+            startLatch.countDown();
+
+            Set<Long> userIds = new HashSet<>();
+            for (Future<Long> future : futures) {
+                userIds.add(future.get(10, TimeUnit.SECONDS));
+            }
+
+            // then
+            assertThat(userIds).hasSize(1);
+            assertThat(userRepository.findByEmail(EMAIL)).get()
+                    .extracting(user -> user.getId())
+                    .isEqualTo(userIds.iterator().next());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
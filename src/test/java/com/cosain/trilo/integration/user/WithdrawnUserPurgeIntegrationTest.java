@@ -0,0 +1,181 @@
+package com.cosain.trilo.integration.user;
+
+import com.cosain.trilo.common.lease.JobLease;
+import com.cosain.trilo.fixture.UserFixture;
+import com.cosain.trilo.trip.application.trip.service.trip_all_delete.TripPurger;
+import com.cosain.trilo.user.domain.UserRepository;
+import com.cosain.trilo.user.infra.WithdrawnUserPurgeJob;
+import com.cosain.trilo.user.infra.WithdrawnUserPurgeResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.cosain.trilo.user.infra.WithdrawnUserPurgeJob.JOB_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>탈퇴 회원을 여행과 함께 완전히 삭제하는 작업({@link WithdrawnUserPurgeJob})의 통합 테스트입니다.</p>
+ * <p>회원마다 별도 트랜잭션으로 커밋되어야 하므로, 테스트 트랜잭션 없이 실행합니다.</p>
+ */
+@SpringBootTest
+@DisplayName("탈퇴 회원 삭제 작업 통합 테스트")
+public class WithdrawnUserPurgeIntegrationTest {
+
+    private static final int WITHDRAWN_USER_COUNT = 3;
+    private static final int TRIPS_PER_USER = 2;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TripPurger tripPurger;
+
+    private WithdrawnUserPurgeJob purgeJob;
+
+    private final List<Long> withdrawnUserIds = new ArrayList<>();
+    private Long activeUserId;
+
+    @BeforeEach
+    void setUp() {
+        // 스케줄러가 돌리는 빈과 임대 소유자가 섞이지 않도록, 테스트 전용 인스턴스를 만들어 사용 (묶음 2명)
+        purgeJob = new WithdrawnUserPurgeJob(jdbcTemplate, transactionTemplate, tripPurger, new JobLease(jdbcTemplate, "test-node"),
+                new SimpleMeterRegistry(), 2, 1000, 60);
+        jdbcTemplate.update("DELETE FROM job_lease WHERE job_name = ?", JOB_NAME);
+
+        for (int i = 0; i < WITHDRAWN_USER_COUNT; i++) {
+            Long userId = userRepository.save(UserFixture.kakaoUser_NullId()).getId();
+            jdbcTemplate.update("UPDATE users SET is_deleted = true WHERE user_id = ?", userId);
+            insertTrips(userId);
+            withdrawnUserIds.add(userId);
+        }
+        activeUserId = userRepository.save(UserFixture.kakaoUser_NullId()).getId();
+        insertTrips(activeUserId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<Long> userIds = new ArrayList<>(withdrawnUserIds);
+        userIds.add(activeUserId);
+        for (Long userId : userIds) {
+            jdbcTemplate.update("DELETE s FROM schedules s JOIN trip t ON t.trip_id = s.trip_id WHERE t.tripper_id = ?", userId);
+            jdbcTemplate.update("DELETE d FROM days d JOIN trip t ON t.trip_id = d.trip_id WHERE t.tripper_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM trip WHERE tripper_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM trip_purge_progress WHERE tripper_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM users WHERE user_id = ?", userId);
+        }
+        jdbcTemplate.update("DELETE FROM job_lease WHERE job_name = ?", JOB_NAME);
+        withdrawnUserIds.clear();
+    }
+
+    @Test
+    void 탈퇴_회원을_여행과_함께_삭제한다() {
+        // when
+        WithdrawnUserPurgeResult result = purgeJob.run();
+
+        // then : 탈퇴 회원과 그 여행만 삭제됨
+        assertThat(result.isSkipped()).isFalse();
+        assertThat(result.getDeletedUsers()).isGreaterThanOrEqualTo(WITHDRAWN_USER_COUNT);
+        assertThat(result.getDeletedTrips()).isGreaterThanOrEqualTo((long) WITHDRAWN_USER_COUNT * TRIPS_PER_USER);
+        for (Long userId : withdrawnUserIds) {
+            assertThat(countUsers(userId)).isZero();
+            assertThat(countTrips(userId)).isZero();
+        }
+        assertThat(countUsers(activeUserId)).isOne();
+        assertThat(countTrips(activeUserId)).isEqualTo(TRIPS_PER_USER);
+
+        // then : 끝까지 삭제했으므로 진행 위치는 처음으로 되돌아가고, 임대는 반납됨
+        assertThat(jdbcTemplate.queryForObject("SELECT checkpoint FROM job_lease WHERE job_name = ?", Long.class, JOB_NAME)).isZero();
+        assertThat(new JobLease(jdbcTemplate, "other-node").tryAcquire(JOB_NAME, 60)).isTrue();
+    }
+
+    @Test
+    void 다른_서버가_임대_중이면_실행하지_않는다() {
+        // given
+        assertThat(new JobLease(jdbcTemplate, "other-node").tryAcquire(JOB_NAME, 60)).isTrue();
+
+        // when
+        WithdrawnUserPurgeResult result = purgeJob.run();
+
+        // then
+        assertThat(result.isSkipped()).isTrue();
+        for (Long userId : withdrawnUserIds) {
+            assertThat(countUsers(userId)).isOne();
+        }
+    }
+
+    @Test
+    void 만료된_임대의_진행_위치부터_이어서_삭제한다() {
+        // given : 첫 번째 탈퇴 회원까지 삭제를 기록하고 죽은 서버의 임대가 만료된 상황
+        Long firstUserId = withdrawnUserIds.get(0);
+        jdbcTemplate.update("INSERT INTO job_lease (job_name, owner, lease_until, checkpoint) VALUES (?, 'crashed-node', NOW(3) - INTERVAL 1 SECOND, ?)",
+                JOB_NAME, firstUserId);
+
+        // when
+        purgeJob.run();
+
+        // then : 진행 위치 다음 회원부터 삭제함
+        assertThat(countUsers(firstUserId)).isOne();
+        for (Long userId : withdrawnUserIds.subList(1, WITHDRAWN_USER_COUNT)) {
+            assertThat(countUsers(userId)).isZero();
+        }
+
+        // when : 끝까지 삭제했으므로 다음 실행은 처음부터 다시 찾음
+        purgeJob.run();
+
+        // then
+        assertThat(countUsers(firstUserId)).isZero();
+        assertThat(countTrips(firstUserId)).isZero();
+    }
+
+    private void insertTrips(Long userId) {
+        for (int i = 0; i < TRIPS_PER_USER; i++) {
+            Long tripId = insert("INSERT INTO trip (tripper_id, trip_title, trip_status, start_date, end_date) VALUES (?, '탈퇴 여행', 'DECIDED', '2023-05-01', '2023-05-01')",
+                    userId);
+            Long dayId = insert("INSERT INTO days (trip_id, trip_date, day_color) VALUES (?, '2023-05-01', 'RED')", tripId);
+            insert("""
+                    INSERT INTO schedules (trip_id, day_id, schedule_index, schedule_title, schedule_content,
+                    place_id, place_name, place_latitude, place_longitude, start_time, end_time)
+                    VALUES (?, ?, 0, '일정', '', 'place-id', '장소', 37.5, 127.0, '00:00:00', '00:00:00')
+                    """, tripId, dayId);
+        }
+    }
+
+    private long countUsers(Long userId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE user_id = ?", Long.class, userId);
+    }
+
+    private long countTrips(Long userId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM trip WHERE tripper_id = ?", Long.class, userId);
+    }
+
+    private Long insert(String sql, Object... args) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+}
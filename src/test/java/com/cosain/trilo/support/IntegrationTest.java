@@ -16,9 +16,11 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -28,12 +30,17 @@ import org.springframework.web.context.WebApplicationContext;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
 
 @SpringBootTest
 @AutoConfigureMockMvc
 @Transactional
+@Import(RequestQueryReportRecorder.class)
+@ExtendWith(StatementBudgetExtension.class)
 public class IntegrationTest {
 
+    private static final AtomicLong EMAIL_SEQUENCE = new AtomicLong();
+
     @Autowired
     protected MockMvc mockMvc;
 
@@ -65,15 +72,15 @@ public class IntegrationTest {
     }
 
     protected User setupMockNaverUser() {
-        return createMockUser("naver-user@naver.com", AuthProvider.NAVER);
+        return createMockUser("naver-user", "naver.com", AuthProvider.NAVER);
     }
 
     protected User setupMockKakaoUser() {
-        return createMockUser("kakao-user@kakao.com", AuthProvider.KAKAO);
+        return createMockUser("kakao-user", "kakao.com", AuthProvider.KAKAO);
     }
 
     protected User setupMockGoogleUser() {
-        return createMockUser("google-user@google.com", AuthProvider.GOOGLE);
+        return createMockUser("google-user", "google.com", AuthProvider.GOOGLE);
     }
 
     protected String authorizationHeader(User user) {
@@ -81,10 +88,13 @@ public class IntegrationTest {
         return String.format("Bearer %s",  accessToken);
     }
 
-    private User createMockUser(String email, AuthProvider authProvider) {
+    /**
+     * 이메일에는 유니크 인덱스가 걸려있으므로, 테스트 사용자마다 서로 다른 이메일을 발급
+     */
+    private User createMockUser(String emailLocalPart, String emailDomain, AuthProvider authProvider) {
         User mockUser = User.builder()
                 .nickName("사용자")
-                .email(email)
+                .email(emailLocalPart + EMAIL_SEQUENCE.incrementAndGet() + "@" + emailDomain)
                 .profileImageUrl("https://k.kakaocdn.net/dn/dpk9l1/btqmGhA2lKL/Oz0wDuJn1YV2DIn92f6DVK/img_640x640.jpg")
                 .authProvider(authProvider)
                 .role(Role.MEMBER)
@@ -144,6 +154,7 @@ public class IntegrationTest {
     protected Schedule setupTemporarySchedule(Trip trip, long scheduleIndexValue) {
         Schedule schedule = ScheduleFixture.temporaryStorage_NullId(trip, scheduleIndexValue);
         em.persist(schedule);
+        increaseScheduleCounts(trip, null);
         return schedule;
     }
 
@@ -156,7 +167,22 @@ public class IntegrationTest {
     protected Schedule setupDaySchedule(Trip trip, Day day, long scheduleIndexValue) {
         Schedule schedule = ScheduleFixture.day_NullId(trip, day, scheduleIndexValue);
         em.persist(schedule);
+        increaseScheduleCounts(trip, day);
         return schedule;
     }
 
+    /**
+     * 일정 생성 API 를 거치지 않고 저장한 일정만큼, 여행과 Day(null이면 임시보관함)의 일정 수를 올립니다.
+     */
+    private void increaseScheduleCounts(Trip trip, Day day) {
+        em.createNativeQuery("UPDATE trip SET trip_schedule_count = trip_schedule_count + 1 WHERE trip_id = :tripId")
+                .setParameter("tripId", trip.getId())
+                .executeUpdate();
+        if (day != null) {
+            em.createNativeQuery("UPDATE days SET day_schedule_count = day_schedule_count + 1 WHERE day_id = :dayId")
+                    .setParameter("dayId", day.getId())
+                    .executeUpdate();
+        }
+    }
+
 }
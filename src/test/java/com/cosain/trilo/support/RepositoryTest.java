@@ -1,5 +1,6 @@
 package com.cosain.trilo.support;
 
+import com.cosain.trilo.config.ClockConfig;
 import com.cosain.trilo.config.QueryDslConfig;
 import com.cosain.trilo.fixture.ScheduleFixture;
 import com.cosain.trilo.fixture.TripFixture;
@@ -11,6 +12,8 @@ import com.cosain.trilo.trip.domain.vo.ScheduleIndex;
 import com.cosain.trilo.trip.domain.vo.TripStatus;
 import com.cosain.trilo.trip.infra.dao.TripQueryDAOImpl;
 import com.cosain.trilo.trip.infra.repository.TripRepositoryImpl;
+import com.cosain.trilo.trip.infra.search.TripTitleSearchIndex;
+import com.cosain.trilo.trip.infra.statistics.TripStatisticsStore;
 import com.cosain.trilo.user.domain.User;
 import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,8 +28,8 @@ import java.time.LocalDate;
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @DataJpaTest
 @DirtiesContext
-@Import({QueryDslConfig.class})
-@ComponentScan(basePackageClasses = {TripQueryDAOImpl.class, TripRepositoryImpl.class})
+@Import({QueryDslConfig.class, ClockConfig.class})
+@ComponentScan(basePackageClasses = {TripQueryDAOImpl.class, TripRepositoryImpl.class, TripTitleSearchIndex.class, TripStatisticsStore.class})
 public abstract class RepositoryTest {
 
     /**
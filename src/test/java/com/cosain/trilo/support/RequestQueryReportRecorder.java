@@ -0,0 +1,26 @@
+package com.cosain.trilo.support;
+
+import com.cosain.trilo.common.logging.query.RequestQueryReport;
+import com.cosain.trilo.common.logging.query.RequestQueryReportListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테스트 중에 끝난 요청의 쿼리 요약을 모아 둡니다. ({@link StatementBudgetExtension} 에서 사용)
+ */
+public class RequestQueryReportRecorder implements RequestQueryReportListener {
+
+    private final List<RequestQueryReport> reports = new ArrayList<>();
+
+    @Override
+    public synchronized void onRequestCompleted(RequestQueryReport report) {
+        reports.add(report);
+    }
+
+    public synchronized List<RequestQueryReport> drain() {
+        List<RequestQueryReport> drained = List.copyOf(reports);
+        reports.clear();
+        return drained;
+    }
+}
@@ -1,11 +1,14 @@
 package com.cosain.trilo.support;
 
+import com.cosain.trilo.auth.application.token.LogoutAccessTokenBlocklist;
 import com.cosain.trilo.auth.infra.token.JwtProviderImpl;
 import com.cosain.trilo.auth.application.token.UserPayload;
 import com.cosain.trilo.common.logging.query.QueryCounter;
 import com.cosain.trilo.config.MessageSourceTestConfig;
+import com.cosain.trilo.trip.application.dao.TripVersionQueryDAO;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -18,7 +21,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 
 
-@Import({MessageSourceTestConfig.class, QueryCounter.class})
+@Import({MessageSourceTestConfig.class, QueryCounter.class, SimpleMeterRegistry.class})
 public class RestControllerTest {
 
     protected MockMvc mockMvc;
@@ -36,6 +39,15 @@ public class RestControllerTest {
     @MockBean
     protected JwtProviderImpl jwtProvider;
 
+    @MockBean
+    protected LogoutAccessTokenBlocklist logoutAccessTokenBlocklist;
+
+    /**
+     * 여행 조회 API 의 ETag 인터셉터가 사용 (기본적으로 빈 Optional 을 반환하므로 ETag 없이 컨트롤러가 실행됨)
+     */
+    @MockBean
+    protected TripVersionQueryDAO tripVersionQueryDAO;
+
     protected String createJson(Object dto) throws JsonProcessingException{
         return objectMapper.writeValueAsString(dto);
     }
@@ -43,11 +55,13 @@ public class RestControllerTest {
     protected void mockingForLoginUserAnnotation(Long id){
         given(jwtProvider.isValidAccessToken(any())).willReturn(true);
         given(jwtProvider.getPayload(any())).willReturn(new UserPayload(id));
+        given(jwtProvider.verifyAccessToken(any())).willReturn(new UserPayload(id));
     }
 
     protected void mockingForLoginUserAnnotation(){
         given(jwtProvider.isValidAccessToken(any())).willReturn(true);
         given(jwtProvider.getPayload(any())).willReturn(new UserPayload(1L));
+        given(jwtProvider.verifyAccessToken(any())).willReturn(new UserPayload(1L));
     }
 
 }
@@ -0,0 +1,35 @@
+package com.cosain.trilo.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>테스트에서 호출한 API 의 요청당 쿼리 수 상한을 지정합니다. ({@link StatementBudgetExtension} 이 테스트가 끝난 뒤 검증)</p>
+ * <p>테스트 메서드나 클래스에 붙이며, 지정한 API 를 한 번도 호출하지 않으면 실패합니다.</p>
+ * <pre>
+ * &#64;StatementBudget(method = "GET", uri = "/api/trips/{tripId}/snapshot", max = 4)
+ * </pre>
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(StatementBudgets.class)
+public @interface StatementBudget {
+
+    /**
+     * HTTP 메서드
+     */
+    String method();
+
+    /**
+     * 컨트롤러에 매핑된 URI 패턴
+     */
+    String uri();
+
+    /**
+     * 요청 한 건에서 실행할 수 있는 최대 쿼리 수
+     */
+    int max();
+}
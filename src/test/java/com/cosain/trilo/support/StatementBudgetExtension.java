@@ -0,0 +1,71 @@
+package com.cosain.trilo.support;
+
+import com.cosain.trilo.common.logging.query.RepeatedStatement;
+import com.cosain.trilo.common.logging.query.RequestQueryReport;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>테스트 중에 호출한 API 의 쿼리 수를 검증합니다.</p>
+ * <ul>
+ *     <li>같은 조회 쿼리를 기준(query.repeated.threshold)보다 많이 실행한 요청이 있으면 실패합니다. (지연 로딩 N+1)</li>
+ *     <li>{@link StatementBudget} 이 붙어 있으면, 해당 API 의 요청마다 쿼리 수가 상한 이하인지 확인합니다.</li>
+ * </ul>
+ * <p>실패 메시지에는 요청별 쿼리 수와 반복된 쿼리의 지문을 담습니다.</p>
+ */
+public class StatementBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        recorder(context).drain();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        List<RequestQueryReport> reports = recorder(context).drain();
+        List<String> violations = new ArrayList<>();
+
+        for (RequestQueryReport report : reports) {
+            for (RepeatedStatement repeated : report.repeatedStatements()) {
+                violations.add("[%s %s] 같은 조회 쿼리를 %d번 실행 (N+1 의심) : %s"
+                        .formatted(report.method(), report.uri(), repeated.count(), repeated.fingerprint()));
+            }
+        }
+
+        for (StatementBudget budget : findBudgets(context)) {
+            List<RequestQueryReport> matched = reports.stream()
+                    .filter(report -> report.method().equalsIgnoreCase(budget.method()) && report.uri().equals(budget.uri()))
+                    .toList();
+            if (matched.isEmpty()) {
+                violations.add("[%s %s] 쿼리 수 상한을 지정했지만 호출하지 않음".formatted(budget.method(), budget.uri()));
+            }
+            for (RequestQueryReport report : matched) {
+                if (report.statementCount() > budget.max()) {
+                    violations.add("[%s %s] 쿼리 %d개 실행 (상한 %d개), 가장 오래 걸린 쿼리 : %s"
+                            .formatted(report.method(), report.uri(), report.statementCount(), budget.max(), report.slowestSql()));
+                }
+            }
+        }
+
+        if (!violations.isEmpty()) {
+            throw new AssertionError("요청당 쿼리 검증 실패\n  " + String.join("\n  ", violations));
+        }
+    }
+
+    private List<StatementBudget> findBudgets(ExtensionContext context) {
+        List<StatementBudget> budgets = new ArrayList<>(
+                AnnotationSupport.findRepeatableAnnotations(context.getRequiredTestClass(), StatementBudget.class));
+        budgets.addAll(AnnotationSupport.findRepeatableAnnotations(context.getRequiredTestMethod(), StatementBudget.class));
+        return budgets;
+    }
+
+    private RequestQueryReportRecorder recorder(ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context).getBean(RequestQueryReportRecorder.class);
+    }
+}
@@ -2,6 +2,7 @@ package com.cosain.trilo.unit.auth.application;
 
 import com.cosain.trilo.auth.application.AuthService;
 import com.cosain.trilo.auth.application.token.JwtProvider;
+import com.cosain.trilo.auth.application.token.LogoutAccessTokenBlocklist;
 import com.cosain.trilo.auth.application.OAuthProfileRequestService;
 import com.cosain.trilo.auth.application.dto.KakaoLoginParams;
 import com.cosain.trilo.auth.application.dto.LoginResult;
@@ -37,6 +38,8 @@ class AuthServiceTest {
     private UserService userService;
     @Mock
     private OAuthProfileRequestService OAuthProfileRequestService;
+    @Mock
+    private LogoutAccessTokenBlocklist logoutAccessTokenBlocklist;
     private final String ACCESS_TOKEN = "slkdfjasjeoifjse.siejfoajseifjasolef.sliejfaisjelfsjefsdcv";
     private final String REFRESH_TOKEN = "slkdfjasjeoifjse.siejfoajseifjasolef.dfaesgasegasefasdfase";
 
@@ -94,8 +97,8 @@ class AuthServiceTest {
         authService.logout("Bearer accessToken", anyString());
 
         // then
-        then(tokenRepository).should().saveLogoutAccessToken(any());
-        then(tokenRepository).should().deleteRefreshTokenById(any());
+        then(tokenRepository).should().saveLogoutAccessTokenAndDeleteRefreshToken(any(), any());
+        then(logoutAccessTokenBlocklist).should().register("accessToken");
     }
 
     @Test
@@ -1,6 +1,8 @@
 package com.cosain.trilo.unit.auth.application;
 
 import com.cosain.trilo.auth.application.token.JwtProvider;
+import com.cosain.trilo.auth.application.token.UserPayload;
+import com.cosain.trilo.common.exception.auth.AccessTokenNotValidException;
 import com.cosain.trilo.auth.infra.token.JwtProviderImpl;
 import com.cosain.trilo.fixture.UserFixture;
 import com.cosain.trilo.user.domain.User;
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class JwtProviderTest {
 
@@ -109,5 +112,40 @@ class JwtProviderTest {
         assertThat(accessToken).isNotNull();
     }
 
+    @Test
+    void 접근_토큰을_검증하고_사용자_정보를_반환한다(){
+        // given
+        User user = UserFixture.kakaoUser_Id(1L);
+        String accessToken = jwtProvider.createAccessToken(user.getId());
+
+        // when
+        UserPayload payload = jwtProvider.verifyAccessToken(TOKEN_TYPE + " " + accessToken);
+
+        // then
+        assertThat(payload.getId()).isEqualTo(user.getId());
+    }
+
+    @Test
+    void 재발급_토큰으로_접근_토큰_검증시_예외가_발생한다(){
+        // given
+        User user = UserFixture.kakaoUser_Id(1L);
+        String refreshToken = jwtProvider.createRefreshToken(user.getId());
+
+        // when & then
+        assertThatThrownBy(() -> jwtProvider.verifyAccessToken(TOKEN_TYPE + " " + refreshToken))
+                .isInstanceOf(AccessTokenNotValidException.class);
+    }
+
+    @Test
+    void 만료된_접근_토큰_검증시_예외가_발생한다(){
+        // given
+        User user = UserFixture.kakaoUser_Id(1L);
+        jwtProvider = new JwtProviderImpl(0, 0, SECRET_KEY);
+        String accessToken = jwtProvider.createAccessToken(user.getId());
+
+        // when & then
+        assertThatThrownBy(() -> jwtProvider.verifyAccessToken(TOKEN_TYPE + " " + accessToken))
+                .isInstanceOf(AccessTokenNotValidException.class);
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,166 @@
+package com.cosain.trilo.unit.auth.infra.oauth;
+
+import com.cosain.trilo.auth.infra.oauth.OAuthCall;
+import com.cosain.trilo.auth.infra.oauth.OAuthHttpClient;
+import com.cosain.trilo.auth.infra.oauth.OAuthHttpClients;
+import com.cosain.trilo.auth.infra.oauth.OAuthHttpSettings;
+import com.cosain.trilo.common.exception.auth.OAuthProviderUnavailableException;
+import com.cosain.trilo.user.domain.AuthProvider;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 HTTP 서버로 느린/실패하는 OAuth 제공자를 흉내내어 검증합니다.
+ */
+@DisplayName("OAuthHttpClient 테스트")
+class OAuthHttpClientTest {
+
+    private static final Duration READ_TIMEOUT = Duration.ofMillis(300);
+
+    private HttpServer stubServer;
+    private ExecutorService stubExecutor;
+    private CountDownLatch slowRequestArrived;
+    private SimpleMeterRegistry meterRegistry;
+    private OAuthHttpClients oAuthHttpClients;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        slowRequestArrived = new CountDownLatch(1);
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubServer.createContext("/token", exchange -> respond(exchange, 200, "{\"access_token\":\"token\"}"));
+        stubServer.createContext("/slow", exchange -> {
+            slowRequestArrived.countDown();
+            sleep(READ_TIMEOUT.multipliedBy(3));
+            respond(exchange, 200, "{}");
+        });
+        stubServer.createContext("/fail", exchange -> respond(exchange, 503, "{}"));
+        stubExecutor = Executors.newFixedThreadPool(4);
+        stubServer.setExecutor(stubExecutor);
+        stubServer.start();
+        baseUrl = "http://127.0.0.1:" + stubServer.getAddress().getPort();
+
+        meterRegistry = new SimpleMeterRegistry();
+        OAuthHttpSettings settings = new OAuthHttpSettings(Duration.ofMillis(300), READ_TIMEOUT, 1, Duration.ofMillis(50));
+        oAuthHttpClients = new OAuthHttpClients(Map.of(AuthProvider.KAKAO, settings), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        oAuthHttpClients.destroy();
+        stubServer.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Test
+    void 정상_응답은_역직렬화하고_지연시간을_기록한다() {
+        // when
+        Map<?, ?> response = client().post(OAuthCall.TOKEN, baseUrl + "/token", HttpEntity.EMPTY, Map.class);
+
+        // then
+        assertThat(response.get("access_token")).isEqualTo("token");
+        assertThat(timer(OAuthCall.TOKEN, "SUCCESS").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 응답이_읽기_제한시간보다_느리면_제공자_사용불가_예외가_발생한다() {
+        // when
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> client().exchange(OAuthCall.PROFILE, baseUrl + "/slow", HttpMethod.GET, HttpEntity.EMPTY, Map.class))
+                .isInstanceOf(OAuthProviderUnavailableException.class);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertThat(elapsedMillis).isLessThan(READ_TIMEOUT.multipliedBy(3).toMillis());
+        assertThat(timer(OAuthCall.PROFILE, "IO_ERROR").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 제공자가_5xx_응답을_주면_제공자_사용불가_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> client().post(OAuthCall.TOKEN, baseUrl + "/fail", HttpEntity.EMPTY, Map.class))
+                .isInstanceOf(OAuthProviderUnavailableException.class);
+        assertThat(timer(OAuthCall.TOKEN, "SERVER_ERROR").count()).isEqualTo(1);
+    }
+
+    @Test
+    void HTTP_오류가_아닌_예외는_실패로_기록한다() {
+        // when : 값이 없는 URI 변수 -> RestClientException 이 아닌 IllegalArgumentException
+        assertThatThrownBy(() -> client().post(OAuthCall.TOKEN, baseUrl + "/{missing}", HttpEntity.EMPTY, Map.class))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // then
+        assertThat(timer(OAuthCall.TOKEN, "ERROR").count()).isEqualTo(1);
+        assertThat(timer(OAuthCall.TOKEN, "SUCCESS").count()).isZero();
+    }
+
+    @Test
+    void 최대_동시_요청_수를_넘으면_요청을_보내지_않고_거절한다() throws Exception {
+        // given
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> slowCall = caller.submit(() -> client().post(OAuthCall.TOKEN, baseUrl + "/slow", HttpEntity.EMPTY, Map.class));
+            assertThat(slowRequestArrived.await(1, TimeUnit.SECONDS)).isTrue();
+
+            // when & then
+            assertThatThrownBy(() -> client().post(OAuthCall.TOKEN, baseUrl + "/token", HttpEntity.EMPTY, Map.class))
+                    .isInstanceOf(OAuthProviderUnavailableException.class);
+            assertThat(timer(OAuthCall.TOKEN, "REJECTED").count()).isEqualTo(1);
+            slowCall.cancel(true);
+        } finally {
+            caller.shutdownNow();
+        }
+    }
+
+    private OAuthHttpClient client() {
+        return oAuthHttpClients.get(AuthProvider.KAKAO);
+    }
+
+    private Timer timer(OAuthCall call, String outcome) {
+        return meterRegistry.get("oauth.client.requests")
+                .tag("provider", AuthProvider.KAKAO.name())
+                .tag("call", call.getTag())
+                .tag("outcome", outcome)
+                .timer();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -11,6 +11,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
 
 @DataRedisTest
 class TokenRepositoryImplTest {
@@ -19,16 +22,21 @@ class TokenRepositoryImplTest {
     LogoutAccessTokenRepository logoutAccessTokenRepository;
     @Autowired
     RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    StringRedisTemplate redisTemplate;
     TokenRepository tokenRepository;
+    TokenRepository migratingTokenRepository;
 
 
     private static final String TOKEN = "A".repeat(30);
 
     @BeforeEach
     void setUp(){
-        tokenRepository = new TokenRepositoryImpl(logoutAccessTokenRepository, refreshTokenRepository);
+        tokenRepository = new TokenRepositoryImpl(logoutAccessTokenRepository, refreshTokenRepository, redisTemplate, false);
+        migratingTokenRepository = new TokenRepositoryImpl(logoutAccessTokenRepository, refreshTokenRepository, redisTemplate, true);
         refreshTokenRepository.deleteAll();
         logoutAccessTokenRepository.deleteAll();
+        redisTemplate.delete(redisTemplate.keys("token:*"));
     }
 
     @Test
@@ -61,4 +69,58 @@ class TokenRepositoryImplTest {
         Assertions.assertThat(tokenRepository.existsLogoutAccessTokenById(TOKEN)).isTrue();
     }
 
-}
\ No newline at end of file
+    @Test
+    void 로그아웃_접근_토큰_전체_조회(){
+        // given
+        tokenRepository.saveLogoutAccessToken(LogoutAccessToken.of(TOKEN, 10000L));
+        tokenRepository.saveRefreshToken(RefreshToken.of("B".repeat(30), 10000L));
+        // when
+        List<String> tokens = tokenRepository.findAllLogoutAccessTokenIds();
+        // then
+        Assertions.assertThat(tokens).containsExactly(TOKEN);
+    }
+
+    @Test
+    void 토큰은_만료시간이_설정된_문자열_키_하나로_저장된다(){
+        // when
+        tokenRepository.saveRefreshToken(RefreshToken.of(TOKEN, 10000L));
+        // then
+        Assertions.assertThat(redisTemplate.keys("*" + TOKEN + "*")).containsExactly("token:refresh:" + TOKEN);
+        Assertions.assertThat(redisTemplate.getExpire("token:refresh:" + TOKEN)).isPositive();
+    }
+
+    @Test
+    void 로그아웃시_로그아웃_토큰_저장과_재발급_토큰_삭제를_함께_처리한다(){
+        // given
+        String refreshToken = "B".repeat(30);
+        tokenRepository.saveRefreshToken(RefreshToken.of(refreshToken, 10000L));
+        // when
+        tokenRepository.saveLogoutAccessTokenAndDeleteRefreshToken(LogoutAccessToken.of(TOKEN, 10000L), refreshToken);
+        // then
+        Assertions.assertThat(tokenRepository.existsLogoutAccessTokenById(TOKEN)).isTrue();
+        Assertions.assertThat(tokenRepository.existsRefreshTokenById(refreshToken)).isFalse();
+    }
+
+    @Test
+    void 마이그레이션_모드에서는_기존_레이아웃의_토큰도_조회된다(){
+        // given
+        refreshTokenRepository.save(RefreshToken.of(TOKEN, 10000L));
+        logoutAccessTokenRepository.save(LogoutAccessToken.of(TOKEN, 10000L));
+        // when & then
+        Assertions.assertThat(tokenRepository.existsRefreshTokenById(TOKEN)).isFalse();
+        Assertions.assertThat(migratingTokenRepository.existsRefreshTokenById(TOKEN)).isTrue();
+        Assertions.assertThat(migratingTokenRepository.existsLogoutAccessTokenById(TOKEN)).isTrue();
+        Assertions.assertThat(migratingTokenRepository.findAllLogoutAccessTokenIds()).containsExactly(TOKEN);
+    }
+
+    @Test
+    void 마이그레이션_모드에서_재발급_토큰_삭제시_기존_레이아웃의_토큰도_삭제된다(){
+        // given
+        refreshTokenRepository.save(RefreshToken.of(TOKEN, 10000L));
+        // when
+        migratingTokenRepository.deleteRefreshTokenById(TOKEN);
+        // then
+        Assertions.assertThat(migratingTokenRepository.existsRefreshTokenById(TOKEN)).isFalse();
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.cosain.trilo.unit.auth.infra.token;
+
+import com.cosain.trilo.auth.infra.token.TimePartitionedBloomFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TimePartitionedBloomFilter 테스트")
+class TimePartitionedBloomFilterTest {
+
+    private static final long PARTITION_MILLIS = 60_000;
+
+    private MutableClock clock;
+    private TimePartitionedBloomFilter bloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2023-05-01T00:00:00Z"));
+        bloomFilter = new TimePartitionedBloomFilter(1000, 0.01, PARTITION_MILLIS, clock);
+    }
+
+    @Test
+    void 추가한_원소는_항상_존재할_수_있다고_판단한다() {
+        // given
+        for (int i = 0; i < 1000; i++) {
+            bloomFilter.put(sha256("token-" + i));
+        }
+
+        // when & then
+        for (int i = 0; i < 1000; i++) {
+            assertThat(bloomFilter.mightContain(sha256("token-" + i))).isTrue();
+        }
+    }
+
+    @Test
+    void 추가하지_않은_원소의_false_positive_비율은_설정값_근처이다() {
+        // given
+        for (int i = 0; i < 1000; i++) {
+            bloomFilter.put(sha256("token-" + i));
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (bloomFilter.mightContain(sha256("other-" + i))) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(falsePositives / 10000.0).isLessThan(0.03);
+    }
+
+    @Test
+    void 직전_구간에_추가한_원소는_조회되고_두_구간이_지나면_제거된다() {
+        // given
+        bloomFilter.put(sha256("token"));
+
+        // when & then
+        clock.advance(Duration.ofMillis(PARTITION_MILLIS));
+        assertThat(bloomFilter.mightContain(sha256("token"))).isTrue();
+
+        clock.advance(Duration.ofMillis(PARTITION_MILLIS));
+        assertThat(bloomFilter.mightContain(sha256("token"))).isFalse();
+        assertThat(bloomFilter.approximateElementCount()).isZero();
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
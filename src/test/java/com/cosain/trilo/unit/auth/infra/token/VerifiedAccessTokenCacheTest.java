@@ -0,0 +1,195 @@
+package com.cosain.trilo.unit.auth.infra.token;
+
+import com.cosain.trilo.auth.application.token.UserPayload;
+import com.cosain.trilo.auth.infra.token.VerifiedAccessTokenCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VerifiedAccessTokenCache 테스트")
+class VerifiedAccessTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2023-05-01T00:00:00Z");
+
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+    }
+
+    @Test
+    void 캐싱된_토큰은_검증_결과를_반환한다() {
+        // given
+        VerifiedAccessTokenCache cache = new VerifiedAccessTokenCache(10, clock);
+        cache.put("token", new UserPayload(1L), NOW.toEpochMilli() + 1000);
+
+        // when
+        UserPayload payload = cache.get("token");
+
+        // then
+        assertThat(payload).isEqualTo(new UserPayload(1L));
+    }
+
+    @Test
+    void 만료_시각이_지난_토큰은_조회되지_않고_제거된다() {
+        // given
+        VerifiedAccessTokenCache cache = new VerifiedAccessTokenCache(10, clock);
+        cache.put("token", new UserPayload(1L), NOW.toEpochMilli() + 1000);
+
+        // when
+        clock.advance(Duration.ofSeconds(1));
+        UserPayload payload = cache.get("token");
+
+        // then
+        assertThat(payload).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void 이미_만료된_토큰은_캐싱하지_않는다() {
+        // given
+        VerifiedAccessTokenCache cache = new VerifiedAccessTokenCache(10, clock);
+
+        // when
+        cache.put("token", new UserPayload(1L), NOW.toEpochMilli());
+
+        // then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void 최대_크기를_넘으면_가장_먼저_만료되는_항목부터_제거한다() {
+        // given : 나중에 캐싱했지만 먼저 만료되는 항목
+        VerifiedAccessTokenCache cache = new VerifiedAccessTokenCache(2, clock);
+        cache.put("first", new UserPayload(1L), NOW.toEpochMilli() + 10000);
+        cache.put("second", new UserPayload(2L), NOW.toEpochMilli() + 5000);
+
+        // when
+        cache.put("third", new UserPayload(3L), NOW.toEpochMilli() + 20000);
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("first")).isEqualTo(new UserPayload(1L));
+        assertThat(cache.get("second")).isNull();
+        assertThat(cache.get("third")).isEqualTo(new UserPayload(3L));
+    }
+
+    @Test
+    void 만료된_항목을_한꺼번에_제거한다() {
+        // given
+        VerifiedAccessTokenCache cache = new VerifiedAccessTokenCache(10, clock);
+        cache.put("short", new UserPayload(1L), NOW.toEpochMilli() + 1000);
+        cache.put("long", new UserPayload(2L), NOW.toEpochMilli() + 10000);
+        clock.advance(Duration.ofSeconds(1));
+
+        // when
+        cache.evictExpired();
+
+        // then
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("long")).isEqualTo(new UserPayload(2L));
+    }
+
+    @Test
+    void 같은_토큰을_다시_캐싱하면_새_만료_시각으로_제거한다() {
+        // given
+        VerifiedAccessTokenCache cache = new VerifiedAccessTokenCache(10, clock);
+        cache.put("token", new UserPayload(1L), NOW.toEpochMilli() + 1000);
+        cache.put("token", new UserPayload(1L), NOW.toEpochMilli() + 10000);
+        clock.advance(Duration.ofSeconds(1));
+
+        // when
+        cache.evictExpired();
+
+        // then
+        assertThat(cache.get("token")).isEqualTo(new UserPayload(1L));
+    }
+
+    @Test
+    void 여러_스레드가_동시에_캐싱해도_최대_크기를_넘지_않는다() throws Exception {
+        // given
+        int maxSize = 100;
+        VerifiedAccessTokenCache cache = new VerifiedAccessTokenCache(maxSize, clock);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        // when
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int offset = thread * 1000;
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        cache.put("token-" + (offset + i), new UserPayload((long) i), NOW.toEpochMilli() + 1000 + i);
+                        cache.get("token-" + (offset + i));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // then : 모두 끝난 뒤에는 최대 크기 이하
+        cache.put("last", new UserPayload(0L), NOW.toEpochMilli() + 100000);
+        assertThat(cache.size()).isLessThanOrEqualTo(maxSize);
+        assertThat(cache.get("last")).isEqualTo(new UserPayload(0L));
+    }
+
+    @Test
+    void 최대_크기가_0이면_캐시를_사용하지_않는다() {
+        // given
+        VerifiedAccessTokenCache cache = new VerifiedAccessTokenCache(0, clock);
+
+        // when
+        cache.put("token", new UserPayload(1L), NOW.toEpochMilli() + 1000);
+
+        // then
+        assertThat(cache.get("token")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
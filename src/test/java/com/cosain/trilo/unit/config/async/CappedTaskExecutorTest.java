@@ -0,0 +1,116 @@
+package com.cosain.trilo.unit.config.async;
+
+import com.cosain.trilo.config.async.CappedTaskExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("동시 실행 수를 제한하는 비동기 실행기 테스트")
+public class CappedTaskExecutorTest {
+
+    private static final int MAX_CONCURRENCY = 4;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CappedTaskExecutor executor = new CappedTaskExecutor("capped-test-", MAX_CONCURRENCY, meterRegistry);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.destroy();
+    }
+
+    @Test
+    void 작업이_몰려도_거절하지_않고_최대_동시_실행_수만큼만_실행한다() throws InterruptedException {
+        // given
+        int taskCount = 2000;
+        CountDownLatch done = new CountDownLatch(taskCount);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < taskCount; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        // then
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(MAX_CONCURRENCY);
+        assertThat(meterRegistry.get("async.executor.wait").timer().count()).isEqualTo(taskCount);
+    }
+
+    @Test
+    void 허가를_기다리는_작업과_실행_중인_작업_수를_보고한다() throws InterruptedException {
+        // given : 모든 허가를 붙잡는 작업
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(MAX_CONCURRENCY);
+        for (int i = 0; i < MAX_CONCURRENCY; i++) {
+            executor.execute(() -> {
+                started.countDown();
+                awaitQuietly(release);
+            });
+        }
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when : 허가가 없을 때 들어온 작업은 대기열에 쌓임
+        CountDownLatch done = new CountDownLatch(3);
+        for (int i = 0; i < 3; i++) {
+            executor.execute(done::countDown);
+        }
+
+        // then
+        assertThat(meterRegistry.get("async.executor.in-flight").gauge().value()).isEqualTo(MAX_CONCURRENCY);
+        assertThat(meterRegistry.get("async.executor.queued").gauge().value()).isEqualTo(3);
+
+        // when : 허가가 풀리면 대기열의 작업이 실행됨
+        release.countDown();
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getQueuedCount()).isZero();
+    }
+
+    @Test
+    void 작업이_예외로_끝나도_허가를_돌려준다() throws InterruptedException {
+        // given
+        for (int i = 0; i < MAX_CONCURRENCY * 2; i++) {
+            executor.execute(() -> {
+                throw new IllegalStateException("비동기 작업 실패");
+            });
+        }
+
+        // when
+        CountDownLatch done = new CountDownLatch(1);
+        executor.execute(done::countDown);
+
+        // then : 실패한 작업 수만큼 허가가 돌아와 다음 작업이 실행되고, 실패는 지표로 남음
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getInFlightCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(meterRegistry.get("async.executor.failed").counter().count()).isEqualTo(MAX_CONCURRENCY * 2);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.cosain.trilo.unit.trip.application.concurrency;
+
+import com.cosain.trilo.trip.application.concurrency.TripMutation;
+import com.cosain.trilo.trip.application.concurrency.TripMutationAspect;
+import com.cosain.trilo.trip.application.concurrency.TripMutationLocks;
+import com.cosain.trilo.trip.application.dao.TripVersionQueryDAO;
+import com.cosain.trilo.trip.application.exception.TripVersionConflictException;
+import com.cosain.trilo.trip.infra.dto.TripVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TripMutationAspect 테스트")
+class TripMutationAspectTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private TripVersionQueryDAO tripVersionQueryDAO;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConflictingService target;
+    private ConflictingService proxy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        TripMutationAspect aspect = new TripMutationAspect(
+                new TripMutationLocks(16, 1000L), tripVersionQueryDAO, meterRegistry, MAX_ATTEMPTS, 0L);
+
+        target = new ConflictingService();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(aspect);
+        proxy = proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("버전 충돌이 나면 최대 시도 횟수 안에서 다시 시도한다")
+    void retry_on_conflict() {
+        // given
+        target.conflictCount = MAX_ATTEMPTS - 1;
+
+        // when
+        String result = proxy.updateTrip(1L);
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(target.calls.get()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(meterRegistry.get("trip.mutation.retries").counter().count()).isEqualTo(MAX_ATTEMPTS - 1);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수만큼 충돌하면 TripVersionConflictException 을 그대로 던진다")
+    void give_up_after_max_attempts() {
+        // given
+        target.conflictCount = MAX_ATTEMPTS;
+
+        // when & then
+        assertThatThrownBy(() -> proxy.updateTrip(1L))
+                .isInstanceOf(TripVersionConflictException.class);
+        assertThat(target.calls.get()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(meterRegistry.get("trip.mutation.conflicts").counter().count()).isEqualTo(MAX_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("일정 id 로 여행을 찾아 잠그고 실행한다")
+    void resolve_trip_by_schedule_id() {
+        // given
+        given(tripVersionQueryDAO.findVersionByScheduleId(eq(10L))).willReturn(Optional.of(new TripVersion(1L, 0L)));
+        target.conflictCount = 1;
+
+        // when
+        String result = proxy.updateSchedule(10L);
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(target.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("일정이 없으면 재시도 없이 한 번만 실행한다")
+    void proceed_once_if_schedule_not_found() {
+        // given
+        given(tripVersionQueryDAO.findVersionByScheduleId(eq(10L))).willReturn(Optional.empty());
+        target.conflictCount = 1;
+
+        // when & then
+        assertThatThrownBy(() -> proxy.updateSchedule(10L))
+                .isInstanceOf(TripVersionConflictException.class);
+        assertThat(target.calls.get()).isEqualTo(1);
+    }
+
+    static class ConflictingService {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private int conflictCount;
+
+        @TripMutation(id = "#tripId")
+        public String updateTrip(Long tripId) {
+            return call();
+        }
+
+        @TripMutation(scope = TripMutation.Scope.SCHEDULE, id = "#scheduleId")
+        public String updateSchedule(Long scheduleId) {
+            return call();
+        }
+
+        private String call() {
+            if (calls.incrementAndGet() <= conflictCount) {
+                throw new TripVersionConflictException("테스트 충돌");
+            }
+            return "ok";
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.cosain.trilo.unit.trip.application.concurrency;
+
+import com.cosain.trilo.fixture.TripFixture;
+import com.cosain.trilo.trip.application.concurrency.TripVersionGuard;
+import com.cosain.trilo.trip.application.exception.TripVersionConflictException;
+import com.cosain.trilo.trip.domain.entity.Trip;
+import com.cosain.trilo.trip.domain.repository.TripRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TripVersionGuard 테스트")
+class TripVersionGuardTest {
+
+    @InjectMocks
+    private TripVersionGuard tripVersionGuard;
+
+    @Mock
+    private TripRepository tripRepository;
+
+    @Test
+    @DisplayName("읽어둔 버전 그대로면 버전을 올린다")
+    void check_and_increase_success() {
+        // given
+        Trip trip = TripFixture.undecided_Id(1L, 2L);
+        given(tripRepository.increaseVersion(eq(1L), eq(0L))).willReturn(true);
+
+        // when
+        tripVersionGuard.checkAndIncrease(trip);
+
+        // then
+        verify(tripRepository, times(1)).increaseVersion(eq(1L), eq(0L));
+    }
+
+    @Test
+    @DisplayName("그 사이 다른 요청이 버전을 올렸으면 TripVersionConflictException 발생")
+    void check_and_increase_conflict() {
+        // given
+        Trip trip = TripFixture.undecided_Id(1L, 2L);
+        given(tripRepository.increaseVersion(eq(1L), eq(0L))).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> tripVersionGuard.checkAndIncrease(trip))
+                .isInstanceOf(TripVersionConflictException.class);
+    }
+
+    @Test
+    @DisplayName("한 트랜잭션에서는 같은 여행의 버전을 한 번만 올린다")
+    void increase_once_per_transaction() {
+        // given
+        Trip trip = TripFixture.undecided_Id(1L, 2L);
+        given(tripRepository.increaseVersion(eq(1L), eq(0L))).willReturn(true);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            tripVersionGuard.checkAndIncrease(trip);
+            tripVersionGuard.checkAndIncrease(trip);
+            tripVersionGuard.increase(1L);
+            tripVersionGuard.increase(3L);
+            tripVersionGuard.increase(3L);
+
+            // then
+            verify(tripRepository, times(1)).increaseVersion(eq(1L), eq(0L));
+            verify(tripRepository, never()).increaseVersion(eq(1L));
+            verify(tripRepository, times(1)).increaseVersion(eq(3L));
+        } finally {
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.cosain.trilo.unit.trip.application.day.service.day_color_update;
 
 import com.cosain.trilo.common.exception.day.DayNotFoundException;
 import com.cosain.trilo.fixture.TripFixture;
+import com.cosain.trilo.trip.application.concurrency.TripVersionGuard;
 import com.cosain.trilo.trip.application.day.service.day_color_update.DayColorUpdateCommand;
 import com.cosain.trilo.trip.application.day.service.day_color_update.DayColorUpdateService;
 import com.cosain.trilo.trip.application.exception.NoDayUpdateAuthorityException;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.Optional;
@@ -37,6 +39,12 @@ public class DayColorUpdateServiceTest {
     @Mock
     private DayRepository dayRepository;
 
+    @Mock
+    private TripVersionGuard tripVersionGuard;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     @DisplayName("색상 수정 성공 테스트")
     public void successTest() {
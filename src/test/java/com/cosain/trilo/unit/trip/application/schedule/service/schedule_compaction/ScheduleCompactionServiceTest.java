@@ -0,0 +1,121 @@
+package com.cosain.trilo.unit.trip.application.schedule.service.schedule_compaction;
+
+import com.cosain.trilo.fixture.TripFixture;
+import com.cosain.trilo.trip.application.concurrency.TripVersionGuard;
+import com.cosain.trilo.trip.application.exception.TripVersionConflictException;
+import com.cosain.trilo.trip.application.schedule.service.schedule_compaction.ScheduleCompactionResult;
+import com.cosain.trilo.trip.application.schedule.service.schedule_compaction.ScheduleCompactionService;
+import com.cosain.trilo.trip.domain.entity.Trip;
+import com.cosain.trilo.trip.domain.repository.ScheduleRepository;
+import com.cosain.trilo.trip.domain.repository.TripRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("일정 순서값 간격 정리 서비스 테스트")
+class ScheduleCompactionServiceTest {
+
+    private static final long MIN_GAP = 10_000L;
+
+    @InjectMocks
+    private ScheduleCompactionService scheduleCompactionService;
+
+    @Mock
+    private TripRepository tripRepository;
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private TripVersionGuard tripVersionGuard;
+
+    @Test
+    @DisplayName("가장 작은 간격이 기준보다 작으면 버전을 올리고 재배치한다")
+    void relocate_when_dense() {
+        // given
+        Long tripId = 1L;
+        Long dayId = 2L;
+        Trip trip = TripFixture.undecided_Id(tripId, 3L);
+        given(tripRepository.findById(eq(tripId))).willReturn(Optional.of(trip));
+        given(scheduleRepository.findMinScheduleIndexGap(eq(tripId), eq(dayId))).willReturn(MIN_GAP - 1);
+
+        // when
+        ScheduleCompactionResult result = scheduleCompactionService.compactIfDense(tripId, dayId, MIN_GAP);
+
+        // then
+        assertThat(result.isRelocated()).isTrue();
+        assertThat(result.getMinGap()).isEqualTo(MIN_GAP - 1);
+        verify(tripVersionGuard, times(1)).checkAndIncrease(eq(trip));
+        verify(scheduleRepository, times(1)).relocateDaySchedules(eq(tripId), eq(dayId));
+    }
+
+    @Test
+    @DisplayName("간격이 충분하거나 일정이 2개 미만이면 재배치하지 않는다")
+    void skip_when_sparse() {
+        // given
+        Long tripId = 1L;
+        Trip trip = TripFixture.undecided_Id(tripId, 3L);
+        given(tripRepository.findById(eq(tripId))).willReturn(Optional.of(trip));
+        given(scheduleRepository.findMinScheduleIndexGap(eq(tripId), eq(2L))).willReturn(MIN_GAP);
+        given(scheduleRepository.findMinScheduleIndexGap(eq(tripId), eq(3L))).willReturn(null);
+
+        // when
+        ScheduleCompactionResult sparse = scheduleCompactionService.compactIfDense(tripId, 2L, MIN_GAP);
+        ScheduleCompactionResult single = scheduleCompactionService.compactIfDense(tripId, 3L, MIN_GAP);
+
+        // then
+        assertThat(sparse.isRelocated()).isFalse();
+        assertThat(sparse.getMinGap()).isEqualTo(MIN_GAP);
+        assertThat(single.isRelocated()).isFalse();
+        assertThat(single.getMinGap()).isNull();
+        verify(tripVersionGuard, never()).checkAndIncrease(any(Trip.class));
+        verify(scheduleRepository, never()).relocateDaySchedules(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("여행이 삭제됐으면 아무 것도 하지 않는다")
+    void skip_when_trip_not_found() {
+        // given
+        given(tripRepository.findById(eq(1L))).willReturn(Optional.empty());
+
+        // when
+        ScheduleCompactionResult result = scheduleCompactionService.compactIfDense(1L, null, MIN_GAP);
+
+        // then
+        assertThat(result.isRelocated()).isFalse();
+        verify(scheduleRepository, never()).findMinScheduleIndexGap(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("다른 요청이 먼저 여행을 수정했으면 재배치하지 않고 TripVersionConflictException 발생")
+    void conflict() {
+        // given
+        Long tripId = 1L;
+        Trip trip = TripFixture.undecided_Id(tripId, 3L);
+        given(tripRepository.findById(eq(tripId))).willReturn(Optional.of(trip));
+        given(scheduleRepository.findMinScheduleIndexGap(eq(tripId), eq(null))).willReturn(1L);
+        willThrow(new TripVersionConflictException("테스트 충돌")).given(tripVersionGuard).checkAndIncrease(eq(trip));
+
+        // when & then
+        assertThatThrownBy(() -> scheduleCompactionService.compactIfDense(tripId, null, MIN_GAP))
+                .isInstanceOf(TripVersionConflictException.class);
+        verify(scheduleRepository, never()).relocateDaySchedules(anyLong(), any());
+    }
+}
@@ -3,6 +3,8 @@ package com.cosain.trilo.unit.trip.application.schedule.service.schedule_create;
 import com.cosain.trilo.common.exception.schedule.TooManyDayScheduleException;
 import com.cosain.trilo.fixture.ScheduleFixture;
 import com.cosain.trilo.fixture.TripFixture;
+import com.cosain.trilo.trip.application.concurrency.TripVersionGuard;
+import com.cosain.trilo.trip.application.event.ScheduleRelocatedEvent;
 import com.cosain.trilo.trip.application.exception.NoScheduleCreateAuthorityException;
 import com.cosain.trilo.trip.application.exception.TooManyTripScheduleException;
 import com.cosain.trilo.trip.application.schedule.service.schedule_create.ScheduleCreateCommand;
@@ -20,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.Optional;
@@ -45,6 +48,12 @@ public class ScheduleCreateServiceTest {
     @Mock
     private TripRepository tripRepository;
 
+    @Mock
+    private TripVersionGuard tripVersionGuard;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Nested
     @DisplayName("Day에 일정을 생성할 때")
     class Case_CreateDaySchedule {
@@ -66,9 +75,9 @@ public class ScheduleCreateServiceTest {
             given(dayRepository.findByIdWithTrip(eq(targetDayId))).willReturn(Optional.of(day));
             given(tripRepository.findById(eq(tripId))).willReturn(Optional.of(trip));
 
-            // Mock : Trip, Day가 가진 Schedule 갯수
-            given(scheduleRepository.findTripScheduleCount(eq(tripId))).willReturn(0);
-            given(scheduleRepository.findDayScheduleCount(eq(targetDayId))).willReturn(0);
+            // Mock : Trip, Day의 일정 수가 제한보다 작아 올릴 수 있음
+            given(tripRepository.increaseScheduleCount(eq(tripId))).willReturn(true);
+            given(dayRepository.increaseScheduleCount(eq(targetDayId))).willReturn(true);
 
             // Mock : 생성될 Schedule
             Schedule createdSchedule = ScheduleFixture.temporaryStorage_Id_NoAdd(1L, trip, 0);
@@ -82,8 +91,8 @@ public class ScheduleCreateServiceTest {
             verify(tripRepository, times(1)).findById(eq(tripId));
             verify(scheduleRepository, times(0)).relocateDaySchedules(eq(tripId), eq(targetDayId));
             verify(scheduleRepository, times(1)).save(any(Schedule.class));
-            verify(scheduleRepository, times(1)).findTripScheduleCount(eq(tripId));
-            verify(scheduleRepository, times(1)).findDayScheduleCount(eq(targetDayId));
+            verify(tripRepository, times(1)).increaseScheduleCount(eq(tripId));
+            verify(dayRepository, times(1)).increaseScheduleCount(eq(targetDayId));
         }
 
         @Test
@@ -120,8 +129,8 @@ public class ScheduleCreateServiceTest {
 
             given(scheduleRepository.relocateDaySchedules(eq(tripId), eq(targetDayId))).willReturn(1);
             given(scheduleRepository.save(any(Schedule.class))).willReturn(createdSchedule);
-            given(scheduleRepository.findTripScheduleCount(eq(tripId))).willReturn(1);
-            given(scheduleRepository.findDayScheduleCount(eq(targetDayId))).willReturn(1);
+            given(tripRepository.increaseScheduleCount(eq(tripId))).willReturn(true);
+            given(dayRepository.increaseScheduleCount(eq(targetDayId))).willReturn(true);
 
             // when : 서비스 클래스에 일정을 생성해달라고 요청할 때
             scheduleCreateService.createSchedule(command);
@@ -130,9 +139,10 @@ public class ScheduleCreateServiceTest {
             verify(dayRepository, times(2)).findByIdWithTrip(eq(targetDayId));
             verify(tripRepository, times(2)).findById(eq(tripId));
             verify(scheduleRepository, times(1)).relocateDaySchedules(eq(tripId), eq(targetDayId));
+            verify(eventPublisher, times(1)).publishEvent(any(ScheduleRelocatedEvent.class));
             verify(scheduleRepository, times(1)).save(any(Schedule.class));
-            verify(scheduleRepository, times(1)).findTripScheduleCount(eq(tripId));
-            verify(scheduleRepository, times(1)).findDayScheduleCount(eq(targetDayId));
+            verify(tripRepository, times(1)).increaseScheduleCount(eq(tripId));
+            verify(dayRepository, times(1)).increaseScheduleCount(eq(targetDayId));
         }
     }
 
@@ -153,8 +163,8 @@ public class ScheduleCreateServiceTest {
             Trip trip = TripFixture.undecided_Id(tripId, requestTripperId);
             given(tripRepository.findById(eq(tripId))).willReturn(Optional.of(trip));
 
-            // Mock : DB에서 조회하는 값 - Trip이 가지고 있는 Schedule의 갯수
-            given(scheduleRepository.findTripScheduleCount(eq(tripId))).willReturn(0);
+            // Mock : Trip의 일정 수가 제한보다 작아 올릴 수 있음
+            given(tripRepository.increaseScheduleCount(eq(tripId))).willReturn(true);
 
             // Mock : 생성될 Schedule
             Schedule createdSchedule = ScheduleFixture.temporaryStorage_Id_NoAdd(1L, trip, 0);
@@ -168,8 +178,8 @@ public class ScheduleCreateServiceTest {
             verify(tripRepository, times(1)).findById(eq(tripId));
             verify(scheduleRepository, times(0)).relocateDaySchedules(eq(tripId), isNull());
             verify(scheduleRepository, times(1)).save(any(Schedule.class));
-            verify(scheduleRepository, times(1)).findTripScheduleCount(eq(tripId));
-            verify(scheduleRepository, times(0)).findDayScheduleCount(isNull());
+            verify(tripRepository, times(1)).increaseScheduleCount(eq(tripId));
+            verify(dayRepository, times(0)).increaseScheduleCount(isNull());
         }
 
         @Test
@@ -197,7 +207,7 @@ public class ScheduleCreateServiceTest {
                     .thenReturn(Optional.of(rediscoveredTrip));
             given(scheduleRepository.relocateDaySchedules(eq(tripId), isNull())).willReturn(1);
             given(scheduleRepository.save(any(Schedule.class))).willReturn(newSchedule);
-            given(scheduleRepository.findTripScheduleCount(eq(tripId))).willReturn(1);
+            given(tripRepository.increaseScheduleCount(eq(tripId))).willReturn(true);
 
             // when : 일정을 생성하라고 서비스에 요청할 때
             scheduleCreateService.createSchedule(command);
@@ -207,8 +217,8 @@ public class ScheduleCreateServiceTest {
             verify(tripRepository, times(2)).findById(eq(tripId));
             verify(scheduleRepository, times(1)).relocateDaySchedules(eq(tripId), isNull());
             verify(scheduleRepository, times(1)).save(any(Schedule.class));
-            verify(scheduleRepository, times(1)).findTripScheduleCount(eq(tripId));
-            verify(scheduleRepository, times(0)).findDayScheduleCount(isNull());
+            verify(tripRepository, times(1)).increaseScheduleCount(eq(tripId));
+            verify(dayRepository, times(0)).increaseScheduleCount(isNull());
         }
 
     }
@@ -251,8 +261,8 @@ public class ScheduleCreateServiceTest {
         Trip trip = TripFixture.undecided_Id(tripId, requestTripperId);
         given(tripRepository.findById(eq(tripId))).willReturn(Optional.of(trip));
 
-        // mock : Trip 아래에 최대 갯수의 Schedule이 있는 상황
-        given(scheduleRepository.findTripScheduleCount(eq(tripId))).willReturn(110);
+        // mock : Trip 아래에 최대 갯수의 Schedule이 있어, 일정 수를 올리지 못하는 상황
+        given(tripRepository.increaseScheduleCount(eq(tripId))).willReturn(false);
 
         // when & then : 발생 예외 및 리포지토리 호출 횟수 검증
         assertThatThrownBy(() -> scheduleCreateService.createSchedule(command))
@@ -261,7 +271,7 @@ public class ScheduleCreateServiceTest {
         verify(tripRepository, times(1)).findById(eq(tripId));
         verify(scheduleRepository, times(0)).relocateDaySchedules(eq(tripId), isNull());
         verify(scheduleRepository, times(0)).save(any(Schedule.class));
-        verify(scheduleRepository, times(1)).findTripScheduleCount(eq(tripId));
+        verify(tripRepository, times(1)).increaseScheduleCount(eq(tripId));
     }
 
     @Test
@@ -281,11 +291,11 @@ public class ScheduleCreateServiceTest {
         given(tripRepository.findById(eq(tripId))).willReturn(Optional.of(trip));
         given(dayRepository.findByIdWithTrip(eq(targetDayId))).willReturn(Optional.of(day));
 
-        // mock : Trip 하위의 일정 갯수
-        given(scheduleRepository.findTripScheduleCount(eq(tripId))).willReturn(10);
+        // mock : Trip 하위의 일정 수는 올릴 수 있음
+        given(tripRepository.increaseScheduleCount(eq(tripId))).willReturn(true);
 
-        // mock : Day 하위의 일정 갯수
-        given(scheduleRepository.findDayScheduleCount(eq(targetDayId))).willReturn(10);
+        // mock : Day 하위에 최대 갯수의 일정이 있어, 일정 수를 올리지 못하는 상황
+        given(dayRepository.increaseScheduleCount(eq(targetDayId))).willReturn(false);
 
         // when && then : 발생 예외 및 리포지토리 호출 횟수 검증
         assertThatThrownBy(() -> scheduleCreateService.createSchedule(command))
@@ -294,8 +304,8 @@ public class ScheduleCreateServiceTest {
         verify(tripRepository, times(1)).findById(eq(tripId));
         verify(scheduleRepository, times(0)).relocateDaySchedules(eq(tripId), isNull());
         verify(scheduleRepository, times(0)).save(any(Schedule.class));
-        verify(scheduleRepository, times(1)).findTripScheduleCount(eq(tripId));
-        verify(scheduleRepository, times(1)).findDayScheduleCount(eq(targetDayId));
+        verify(tripRepository, times(1)).increaseScheduleCount(eq(tripId));
+        verify(dayRepository, times(1)).increaseScheduleCount(eq(targetDayId));
     }
 
     /**
@@ -3,12 +3,15 @@ package com.cosain.trilo.unit.trip.application.schedule.service.schedule_delete;
 import com.cosain.trilo.common.exception.schedule.ScheduleNotFoundException;
 import com.cosain.trilo.fixture.ScheduleFixture;
 import com.cosain.trilo.fixture.TripFixture;
+import com.cosain.trilo.trip.application.concurrency.TripVersionGuard;
 import com.cosain.trilo.trip.application.exception.NoScheduleDeleteAuthorityException;
 import com.cosain.trilo.trip.application.schedule.service.schedule_delete.ScheduleDeleteService;
 import com.cosain.trilo.trip.domain.entity.Day;
 import com.cosain.trilo.trip.domain.entity.Schedule;
 import com.cosain.trilo.trip.domain.entity.Trip;
+import com.cosain.trilo.trip.domain.repository.DayRepository;
 import com.cosain.trilo.trip.domain.repository.ScheduleRepository;
+import com.cosain.trilo.trip.domain.repository.TripRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.Optional;
@@ -25,6 +29,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @Slf4j
@@ -38,6 +43,18 @@ public class ScheduleDeleteServiceTest {
     @Mock
     private ScheduleRepository scheduleRepository;
 
+    @Mock
+    private TripRepository tripRepository;
+
+    @Mock
+    private DayRepository dayRepository;
+
+    @Mock
+    private TripVersionGuard tripVersionGuard;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     @DisplayName("정상적인 일정 삭제 요청 -> 리포지토리 호출 횟수 검증")
     public void deleteSuccessTest() {
@@ -61,6 +78,30 @@ public class ScheduleDeleteServiceTest {
         // then : 리포지토리 호출 횟수 검증
         verify(scheduleRepository).findByIdWithTrip(eq(scheduleId));
         verify(scheduleRepository).delete(any(Schedule.class));
+        verify(tripRepository).decreaseScheduleCount(eq(tripId));
+        verify(dayRepository).decreaseScheduleCount(eq(day.getId()));
+    }
+
+    @Test
+    @DisplayName("임시보관함 일정 삭제 -> 여행의 일정 수만 내린다")
+    public void deleteTemporaryScheduleTest() {
+        // given
+        Long tripId = 1L;
+        Long tripOwnerId = 2L;
+        Long scheduleId = 3L;
+
+        // mock: 리포지토리에서 가져올 Schedule 설정
+        Trip trip = TripFixture.undecided_Id(tripId, tripOwnerId);
+        Schedule schedule = ScheduleFixture.temporaryStorage_Id(scheduleId, trip, 0L);
+        given(scheduleRepository.findByIdWithTrip(eq(scheduleId))).willReturn(Optional.of(schedule));
+
+        // when : 서비스에 일정 삭제 요청
+        scheduleDeleteService.deleteSchedule(scheduleId, tripOwnerId);
+
+        // then : 리포지토리 호출 횟수 검증
+        verify(scheduleRepository).delete(any(Schedule.class));
+        verify(tripRepository).decreaseScheduleCount(eq(tripId));
+        verify(dayRepository, never()).decreaseScheduleCount(any());
     }
 
     @Test
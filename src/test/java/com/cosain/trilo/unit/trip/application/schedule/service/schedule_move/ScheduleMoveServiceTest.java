@@ -6,14 +6,21 @@ import com.cosain.trilo.common.exception.schedule.ScheduleNotFoundException;
 import com.cosain.trilo.common.exception.schedule.TooManyDayScheduleException;
 import com.cosain.trilo.fixture.ScheduleFixture;
 import com.cosain.trilo.fixture.TripFixture;
+import com.cosain.trilo.trip.application.concurrency.TripVersionGuard;
+import com.cosain.trilo.trip.application.event.ScheduleMovedEvent;
+import com.cosain.trilo.trip.application.event.ScheduleRelocatedEvent;
+import com.cosain.trilo.trip.application.schedule.ScheduleIndexPolicy;
 import com.cosain.trilo.trip.application.schedule.service.schedule_move.ScheduleMoveCommand;
 import com.cosain.trilo.trip.application.schedule.service.schedule_move.ScheduleMoveResult;
 import com.cosain.trilo.trip.application.schedule.service.schedule_move.ScheduleMoveService;
+import com.cosain.trilo.trip.domain.dto.ScheduleMoveNeighbors;
 import com.cosain.trilo.trip.domain.entity.Day;
 import com.cosain.trilo.trip.domain.entity.Schedule;
 import com.cosain.trilo.trip.domain.entity.Trip;
 import com.cosain.trilo.trip.domain.repository.DayRepository;
 import com.cosain.trilo.trip.domain.repository.ScheduleRepository;
+import com.cosain.trilo.trip.domain.vo.ScheduleIndex;
+import com.cosain.trilo.trip.domain.vo.ScheduleIndexMode;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,8 +28,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.cosain.trilo.trip.domain.vo.ScheduleIndex.*;
@@ -59,6 +68,15 @@ public class ScheduleMoveServiceTest {
     @Mock
     private DayRepository dayRepository;
 
+    @Mock
+    private TripVersionGuard tripVersionGuard;
+
+    @Mock
+    private ScheduleIndexPolicy scheduleIndexPolicy;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * 임시보관함에서 Day로 이동하는 경우의 성공테스트입니다.
      */
@@ -84,8 +102,12 @@ public class ScheduleMoveServiceTest {
         // mock : 리포지토리에서 찾아올 targetDay
         given(dayRepository.findByIdWithTrip(eq(targetDayId))).willReturn(Optional.of(day));
 
-        // mock : targetDay에 속한 Schedule 갯수
-        given(scheduleRepository.findDayScheduleCount(eq(targetDayId))).willReturn(0);
+        // mock : targetDay의 일정 순서 정보 (일정 갯수, 대상 순서 주변의 순서값)
+        given(scheduleRepository.findScheduleMoveNeighbors(eq(tripId), eq(targetDayId), eq(scheduleId), eq(targetOrder)))
+                .willReturn(ScheduleMoveNeighbors.from(day.getSchedules(), schedule, targetOrder));
+
+        // mock : 도착지 Day의 일정 수를 올릴 수 있음
+        given(dayRepository.increaseScheduleCount(eq(targetDayId))).willReturn(true);
 
         // when : 서비스에 Schedule을 이동키라고 요청할 때
         var scheduleMoveResult = scheduleMoveService.moveSchedule(command);
@@ -93,8 +115,9 @@ public class ScheduleMoveServiceTest {
         // then : 리포지토리 호출 횟수 및 반환 Dto 필드 검증
         verify(scheduleRepository, times(1)).findByIdWithTrip(eq(scheduleId));
         verify(dayRepository, times(1)).findByIdWithTrip(eq(targetDayId));
-        verify(scheduleRepository, times(1)).findDayScheduleCount(eq(targetDayId));
+        verify(scheduleRepository, times(1)).findScheduleMoveNeighbors(eq(tripId), eq(targetDayId), eq(scheduleId), eq(targetOrder));
         verify(scheduleRepository, times(0)).relocateDaySchedules(eq(tripId), eq(targetDayId));
+        verify(eventPublisher, times(1)).publishEvent(any(ScheduleMovedEvent.class));
         assertThat(scheduleMoveResult.getBeforeDayId()).isEqualTo(null);
         assertThat(scheduleMoveResult.getAfterDayId()).isEqualTo(targetDayId);
         assertThat(scheduleMoveResult.isPositionChanged()).isEqualTo(true);
@@ -121,6 +144,10 @@ public class ScheduleMoveServiceTest {
         Schedule schedule3 = ScheduleFixture.temporaryStorage_Id(3L, trip, 200L);
         given(scheduleRepository.findByIdWithTrip(eq(scheduleId))).willReturn(Optional.of(schedule1));
 
+        // mock : 임시보관함의 일정 순서 정보
+        given(scheduleRepository.findScheduleMoveNeighbors(eq(tripId), eq(targetDayId), eq(scheduleId), eq(targetOrder)))
+                .willReturn(ScheduleMoveNeighbors.from(trip.getTemporaryStorage(), schedule1, targetOrder));
+
         // when : schedule1 을 2번 위치 Schedule 앞에 이동시켜라
         ScheduleMoveResult scheduleMoveResult = scheduleMoveService.moveSchedule(command);
 
@@ -131,7 +158,7 @@ public class ScheduleMoveServiceTest {
         assertThat(scheduleMoveResult.isPositionChanged()).isEqualTo(true);
         verify(scheduleRepository, times(1)).findByIdWithTrip(eq(scheduleId));
         verify(dayRepository, times(0)).findByIdWithTrip(eq(targetDayId));
-        verify(scheduleRepository, times(0)).findDayScheduleCount(eq(targetDayId));
+        verify(scheduleRepository, times(1)).findScheduleMoveNeighbors(eq(tripId), eq(targetDayId), eq(scheduleId), eq(targetOrder));
         verify(scheduleRepository, times(0)).relocateDaySchedules(eq(tripId), eq(targetDayId));
     }
 
@@ -161,6 +188,10 @@ public class ScheduleMoveServiceTest {
         Schedule schedule3 = ScheduleFixture.temporaryStorage_Id(3L, trip, 200L);
         given(scheduleRepository.findByIdWithTrip(eq(scheduleId))).willReturn(Optional.of(schedule1));
 
+        // mock : 임시보관함의 일정 순서 정보
+        given(scheduleRepository.findScheduleMoveNeighbors(eq(tripId), eq(targetDayId), eq(scheduleId), eq(targetOrder)))
+                .willReturn(ScheduleMoveNeighbors.from(trip.getTemporaryStorage(), schedule1, targetOrder));
+
         // when : 일정을 이동하라(임시보관함의 2번 순서로)
         var scheduleMoveResult = scheduleMoveService.moveSchedule(command);
 
@@ -172,8 +203,10 @@ public class ScheduleMoveServiceTest {
         assertThat(scheduleMoveResult.isPositionChanged()).isEqualTo(true);
         verify(scheduleRepository, times(1)).findByIdWithTrip(eq(scheduleId));
         verify(dayRepository, times(0)).findByIdWithTrip(eq(targetDayId));
-        verify(scheduleRepository, times(0)).findDayScheduleCount(eq(targetDayId));
+        verify(scheduleRepository, times(1)).findScheduleMoveNeighbors(eq(tripId), eq(targetDayId), eq(scheduleId), eq(targetOrder));
         verify(scheduleRepository, times(0)).relocateDaySchedules(eq(tripId), eq(targetDayId));
+        verify(dayRepository, times(0)).increaseScheduleCount(any());
+        verify(dayRepository, times(1)).decreaseScheduleCount(eq(fromDayId));
     }
 
     /**
@@ -203,6 +236,10 @@ public class ScheduleMoveServiceTest {
         // mock : targetDayId로 찾아올 day(같은 Day)
         given(dayRepository.findByIdWithTrip(eq(targetDayId))).willReturn(Optional.of(day));
 
+        // mock : Day의 일정 순서 정보
+        given(scheduleRepository.findScheduleMoveNeighbors(eq(tripId), eq(targetDayId), eq(scheduleId), eq(targetOrder)))
+                .willReturn(ScheduleMoveNeighbors.from(day.getSchedules(), schedule1, targetOrder));
+
         // when : 일정 1번을 같은 Day의 2번 위치 앞에 둬라
         ScheduleMoveResult scheduleMoveResult = scheduleMoveService.moveSchedule(command);
 
@@ -213,7 +250,7 @@ public class ScheduleMoveServiceTest {
         assertThat(scheduleMoveResult.isPositionChanged()).isEqualTo(true);
         verify(scheduleRepository, times(1)).findByIdWithTrip(eq(scheduleId));
         verify(dayRepository, times(1)).findByIdWithTrip(eq(targetDayId));
-        verify(scheduleRepository, times(0)).findDayScheduleCount(eq(targetDayId));
+        verify(scheduleRepository, times(1)).findScheduleMoveNeighbors(eq(tripId), eq(targetDayId), eq(scheduleId), eq(targetOrder));
         verify(scheduleRepository, times(0)).relocateDaySchedules(eq(tripId), eq(targetDayId));
     }
 
@@ -248,8 +285,12 @@ public class ScheduleMoveServiceTest {
         // mock : targetDayId에 대응하는 Day 조회
         given(dayRepository.findByIdWithTrip(eq(targetDayId))).willReturn(Optional.of(targetDay));
 
-        // mock : targetDay에 소속된 Schedule 갯수
-        given(scheduleRepository.findDayScheduleCount(eq(targetDayId))).willReturn(2);
+        // mock : targetDay의 일정 순서 정보 (일정 2개)
+        given(scheduleRepository.findScheduleMoveNeighbors(eq(tripId), eq(targetDayId), eq(scheduleId), eq(targetOrder)))
+                .willReturn(ScheduleMoveNeighbors.from(targetDay.getSchedules(), schedule1, targetOrder));
+
+        // mock : 도착지 Day의 일정 수를 올릴 수 있음
+        given(dayRepository.increaseScheduleCount(eq(targetDayId))).willReturn(true);
 
         // when : schedule1을 targetDay의 0번 순서 앞에 이동시켜라
         ScheduleMoveResult scheduleMoveResult = scheduleMoveService.moveSchedule(command);
@@ -262,8 +303,10 @@ public class ScheduleMoveServiceTest {
         assertThat(scheduleMoveResult.isPositionChanged()).isEqualTo(true);
         verify(scheduleRepository, times(1)).findByIdWithTrip(eq(scheduleId));
         verify(dayRepository, times(1)).findByIdWithTrip(eq(targetDayId));
-        verify(scheduleRepository, times(1)).findDayScheduleCount(eq(targetDayId));
+        verify(scheduleRepository, times(1)).findScheduleMoveNeighbors(eq(tripId), eq(targetDayId), eq(scheduleId), eq(targetOrder));
         verify(scheduleRepository, times(0)).relocateDaySchedules(eq(tripId), eq(targetDayId));
+        verify(dayRepository, times(1)).increaseScheduleCount(eq(targetDayId));
+        verify(dayRepository, times(1)).decreaseScheduleCount(eq(fromDayId));
     }
 
     /**
@@ -304,7 +347,13 @@ public class ScheduleMoveServiceTest {
                 .thenReturn(Optional.of(rediscoveredTargetDay));
 
         given(scheduleRepository.relocateDaySchedules(eq(tripId), eq(targetDayId))).willReturn(1);
-        given(scheduleRepository.findDayScheduleCount(eq(targetDayId))).willReturn(1);
+        // mock : 재배치 전/후의 targetDay 일정 순서 정보
+        given(scheduleRepository.findScheduleMoveNeighbors(eq(tripId), eq(targetDayId), eq(scheduleId), eq(targetOrder)))
+                .willReturn(ScheduleMoveNeighbors.from(beforeTargetDay.getSchedules(), beforeMoveSchedule, targetOrder),
+                        ScheduleMoveNeighbors.from(rediscoveredTargetDay.getSchedules(), rediscoveredMoveSchedule, targetOrder));
+
+        // mock : 도착지 Day의 일정 수를 올릴 수 있음
+        given(dayRepository.increaseScheduleCount(eq(targetDayId))).willReturn(true);
 
         // when : schedule1을 targetDay의 1번 순서로 이동하라
         ScheduleMoveResult scheduleMoveResult = scheduleMoveService.moveSchedule(command);
@@ -317,8 +366,10 @@ public class ScheduleMoveServiceTest {
         assertThat(scheduleMoveResult.isPositionChanged()).isEqualTo(true);
         verify(scheduleRepository, times(2)).findByIdWithTrip(eq(scheduleId));
         verify(dayRepository, times(2)).findByIdWithTrip(eq(targetDayId));
-        verify(scheduleRepository, times(1)).findDayScheduleCount(eq(targetDayId));
+        verify(scheduleRepository, times(2)).findScheduleMoveNeighbors(eq(tripId), eq(targetDayId), eq(scheduleId), eq(targetOrder));
         verify(scheduleRepository, times(1)).relocateDaySchedules(eq(tripId), eq(targetDayId));
+        verify(eventPublisher, times(1)).publishEvent(any(ScheduleRelocatedEvent.class));
+        verify(dayRepository, times(1)).increaseScheduleCount(eq(targetDayId));
     }
 
     /**
@@ -358,9 +409,15 @@ public class ScheduleMoveServiceTest {
                 .thenReturn(Optional.of(beforeTargetDay))
                 .thenReturn(Optional.of(rediscoveredTargetDay));
 
-        given(scheduleRepository.findDayScheduleCount(eq(targetDayId))).willReturn(1);
+        // mock : 재배치 전/후의 targetDay 일정 순서 정보
+        given(scheduleRepository.findScheduleMoveNeighbors(eq(tripId), eq(targetDayId), eq(scheduleId), eq(targetOrder)))
+                .willReturn(ScheduleMoveNeighbors.from(beforeTargetDay.getSchedules(), beforeMoveSchedule, targetOrder),
+                        ScheduleMoveNeighbors.from(rediscoveredTargetDay.getSchedules(), rediscoveredMoveSchedule, targetOrder));
         given(scheduleRepository.relocateDaySchedules(eq(tripId), eq(targetDayId))).willReturn(1);
 
+        // mock : 도착지 Day의 일정 수를 올릴 수 있음
+        given(dayRepository.increaseScheduleCount(eq(targetDayId))).willReturn(true);
+
         // when : schedule을 targetDay의 0번 순서 앞에 이동시켜
         ScheduleMoveResult scheduleMoveResult = scheduleMoveService.moveSchedule(command);
 
@@ -372,7 +429,7 @@ public class ScheduleMoveServiceTest {
         assertThat(scheduleMoveResult.isPositionChanged()).isEqualTo(true);
         verify(scheduleRepository, times(2)).findByIdWithTrip(eq(scheduleId));
         verify(dayRepository, times(2)).findByIdWithTrip(eq(targetDayId));
-        verify(scheduleRepository, times(1)).findDayScheduleCount(eq(targetDayId));
+        verify(scheduleRepository, times(2)).findScheduleMoveNeighbors(eq(tripId), eq(targetDayId), eq(scheduleId), eq(targetOrder));
         verify(scheduleRepository, times(1)).relocateDaySchedules(eq(tripId), eq(targetDayId));
     }
 
@@ -415,9 +472,15 @@ public class ScheduleMoveServiceTest {
                 .thenReturn(Optional.of(beforeTargetDay))
                 .thenReturn(Optional.of(rediscoveredTargetDay));
 
-        given(scheduleRepository.findDayScheduleCount(eq(targetDayId))).willReturn(2);
+        // mock : 재배치 전/후의 targetDay 일정 순서 정보
+        given(scheduleRepository.findScheduleMoveNeighbors(eq(tripId), eq(targetDayId), eq(scheduleId), eq(targetOrder)))
+                .willReturn(ScheduleMoveNeighbors.from(beforeTargetDay.getSchedules(), beforeMoveSchedule, targetOrder),
+                        ScheduleMoveNeighbors.from(rediscoveredTargetDay.getSchedules(), rediscoveredMoveSchedule, targetOrder));
         given(scheduleRepository.relocateDaySchedules(eq(tripId), eq(targetDayId))).willReturn(1);
 
+        // mock : 도착지 Day의 일정 수를 올릴 수 있음
+        given(dayRepository.increaseScheduleCount(eq(targetDayId))).willReturn(true);
+
         // when
         ScheduleMoveResult scheduleMoveResult = scheduleMoveService.moveSchedule(command);
 
@@ -427,10 +490,54 @@ public class ScheduleMoveServiceTest {
         assertThat(scheduleMoveResult.isPositionChanged()).isEqualTo(true);
         verify(scheduleRepository, times(2)).findByIdWithTrip(eq(scheduleId));
         verify(dayRepository, times(2)).findByIdWithTrip(eq(targetDayId));
-        verify(scheduleRepository, times(1)).findDayScheduleCount(eq(targetDayId));
+        verify(scheduleRepository, times(2)).findScheduleMoveNeighbors(eq(tripId), eq(targetDayId), eq(scheduleId), eq(targetOrder));
         verify(scheduleRepository, times(1)).relocateDaySchedules(eq(tripId), eq(targetDayId));
     }
 
+    /**
+     * FRACTIONAL 모드에서는 중간 삽입 간격이 다해도 재배치 없이 순서 키로 이동함을 검증합니다.
+     */
+    @DisplayName("FRACTIONAL 모드 -> 중간 삽입 간격이 다해도 재배치 없이 이동")
+    @Test
+    public void testMiddleInsert_withoutRelocation_whenFractional() {
+        // given
+        long tripId = 1L;
+        Long scheduleId = 1L;
+        long requestTripperId = 3L;
+        Long targetDayId = 4L;
+        int targetOrder = 1;
+        var command = ScheduleMoveCommand.of(scheduleId, requestTripperId, targetDayId, targetOrder);
+
+        LocalDate startDate = LocalDate.of(2023,3,1);
+        LocalDate endDate = LocalDate.of(2023,3,1);
+
+        Trip trip = TripFixture.decided_Id(tripId, requestTripperId, startDate, endDate, targetDayId);
+        Day targetDay = trip.getDays().get(0);
+        Schedule moveSchedule = ScheduleFixture.temporaryStorage_Id(scheduleId, trip, 0L);
+        ScheduleFixture.day_Id(2L, trip, targetDay, 10L);
+        ScheduleFixture.day_Id(3L, trip, targetDay, 11L);
+
+        given(scheduleRepository.findByIdWithTrip(eq(scheduleId))).willReturn(Optional.of(moveSchedule));
+        given(dayRepository.findByIdWithTrip(eq(targetDayId))).willReturn(Optional.of(targetDay));
+        given(scheduleRepository.findScheduleMoveNeighbors(eq(tripId), eq(targetDayId), eq(scheduleId), eq(targetOrder)))
+                .willReturn(ScheduleMoveNeighbors.from(targetDay.getSchedules(), moveSchedule, targetOrder));
+        given(scheduleIndexPolicy.getMode()).willReturn(ScheduleIndexMode.FRACTIONAL);
+
+        // mock : 도착지 Day의 일정 수를 올릴 수 있음
+        given(dayRepository.increaseScheduleCount(eq(targetDayId))).willReturn(true);
+
+        // when
+        ScheduleMoveResult scheduleMoveResult = scheduleMoveService.moveSchedule(command);
+
+        // then
+        assertThat(scheduleMoveResult.getAfterDayId()).isEqualTo(targetDayId);
+        assertThat(scheduleMoveResult.isPositionChanged()).isEqualTo(true);
+        assertThat(moveSchedule.getScheduleIndex()).isEqualTo(ScheduleIndex.of(10L, "i"));
+        verify(scheduleRepository, times(1)).findByIdWithTrip(eq(scheduleId));
+        verify(scheduleRepository, times(0)).relocateDaySchedules(eq(tripId), eq(targetDayId));
+        verify(eventPublisher, times(0)).publishEvent(any(ScheduleRelocatedEvent.class));
+    }
+
     /**
      * 옮기고자 하는 일정이 없으면 예외가 발생함을 검증합니다.
      */
@@ -479,7 +586,7 @@ public class ScheduleMoveServiceTest {
                 .isInstanceOf(DayNotFoundException.class);
         verify(scheduleRepository).findByIdWithTrip(eq(scheduleId));
         verify(dayRepository).findByIdWithTrip(eq(targetDayId));
-        verify(scheduleRepository, times(0)).findDayScheduleCount(eq(targetDayId));
+        verify(scheduleRepository, times(0)).findScheduleMoveNeighbors(eq(tripId), eq(targetDayId), eq(scheduleId), eq(targetOrder));
     }
 
     /**
@@ -513,7 +620,7 @@ public class ScheduleMoveServiceTest {
                 .isInstanceOf(NoScheduleMoveAuthorityException.class);
         verify(scheduleRepository).findByIdWithTrip(eq(scheduleId));
         verify(dayRepository).findByIdWithTrip(eq(targetDayId));
-        verify(scheduleRepository, times(0)).findDayScheduleCount(eq(targetDayId));
+        verify(scheduleRepository, times(0)).findScheduleMoveNeighbors(eq(tripId), eq(targetDayId), eq(scheduleId), eq(targetOrder));
     }
 
     /**
@@ -542,16 +649,19 @@ public class ScheduleMoveServiceTest {
         // mock: targetDay
         given(dayRepository.findByIdWithTrip(eq(targetDayId))).willReturn(Optional.of(targetDay));
 
-        // targetDay에 일정이 가득찬 상황을 가정
-        given(scheduleRepository.findDayScheduleCount(eq(targetDayId))).willReturn(Day.MAX_DAY_SCHEDULE_COUNT);
+        // targetDay에 일정이 가득차, 일정 수를 올리지 못하는 상황을 가정
+        given(scheduleRepository.findScheduleMoveNeighbors(eq(tripId), eq(targetDayId), eq(scheduleId), eq(targetOrder)))
+                .willReturn(ScheduleMoveNeighbors.of(Day.MAX_DAY_SCHEDULE_COUNT, null, Map.of(), targetOrder));
+        given(dayRepository.increaseScheduleCount(eq(targetDayId))).willReturn(false);
 
         // when && then : 발생 오류 및 리포지토리 호출 횟수 검증
         assertThatThrownBy(() -> scheduleMoveService.moveSchedule(command))
                 .isInstanceOf(TooManyDayScheduleException.class);
         verify(scheduleRepository, times(1)).findByIdWithTrip(eq(scheduleId));
         verify(dayRepository, times(1)).findByIdWithTrip(eq(targetDayId));
-        verify(scheduleRepository, times(1)).findDayScheduleCount(eq(targetDayId));
+        verify(scheduleRepository, times(1)).findScheduleMoveNeighbors(eq(tripId), eq(targetDayId), eq(scheduleId), eq(targetOrder));
         verify(scheduleRepository, times(0)).relocateDaySchedules(eq(tripId), eq(targetDayId));
+        verify(dayRepository, times(0)).decreaseScheduleCount(any());
     }
 
 }
@@ -0,0 +1,111 @@
+package com.cosain.trilo.unit.trip.application.schedule.service.schedule_reorder;
+
+import com.cosain.trilo.common.exception.CustomValidationException;
+import com.cosain.trilo.common.exception.schedule.InvalidScheduleReorderException;
+import com.cosain.trilo.common.exception.schedule.TooManyDayScheduleException;
+import com.cosain.trilo.trip.application.schedule.service.schedule_reorder.ScheduleReorderCommand;
+import com.cosain.trilo.trip.application.schedule.service.schedule_reorder.ScheduleReorderPlace;
+import com.cosain.trilo.trip.domain.entity.Day;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+/**
+ * ScheduleReorderCommand의 테스트입니다.
+ */
+@DisplayName("ScheduleReorderCommand 테스트")
+public class ScheduleReorderCommandTest {
+
+    @DisplayName("도착지와 일정 id가 중복되지 않음 -> 성공")
+    @Test
+    public void successTest() {
+        // given
+        List<ScheduleReorderPlace> places = List.of(
+                ScheduleReorderPlace.of(1L, List.of(3L, 1L)),
+                ScheduleReorderPlace.of(null, List.of(2L)));
+
+        // when
+        ScheduleReorderCommand command = ScheduleReorderCommand.of(1L, 2L, places);
+
+        // then
+        assertThat(command.getPlaces()).isEqualTo(places);
+        assertThat(command.getScheduleIds()).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @DisplayName("도착지 목록이 비어있음 -> 검증 에러")
+    @Test
+    public void emptyPlacesTest() {
+        // when
+        CustomValidationException cve = catchThrowableOfType(
+                () -> ScheduleReorderCommand.of(1L, 2L, List.of()),
+                CustomValidationException.class);
+
+        // then
+        assertThat(cve).isNotNull();
+        assertThat(cve.getExceptions()).hasSize(1);
+        assertThat(cve.getExceptions().get(0)).isInstanceOf(InvalidScheduleReorderException.class);
+    }
+
+    @DisplayName("같은 도착지가 두 번 포함됨 -> 검증 에러")
+    @Test
+    public void duplicatedPlaceTest() {
+        // given
+        List<ScheduleReorderPlace> places = List.of(
+                ScheduleReorderPlace.of(null, List.of(1L)),
+                ScheduleReorderPlace.of(null, List.of(2L)));
+
+        // when
+        CustomValidationException cve = catchThrowableOfType(
+                () -> ScheduleReorderCommand.of(1L, 2L, places),
+                CustomValidationException.class);
+
+        // then
+        assertThat(cve).isNotNull();
+        assertThat(cve.getExceptions()).hasSize(1);
+        assertThat(cve.getExceptions().get(0)).isInstanceOf(InvalidScheduleReorderException.class);
+    }
+
+    @DisplayName("같은 일정 id가 서로 다른 도착지에 포함됨 -> 검증 에러")
+    @Test
+    public void duplicatedScheduleIdTest() {
+        // given
+        List<ScheduleReorderPlace> places = List.of(
+                ScheduleReorderPlace.of(1L, List.of(1L, 2L)),
+                ScheduleReorderPlace.of(2L, List.of(2L)));
+
+        // when
+        CustomValidationException cve = catchThrowableOfType(
+                () -> ScheduleReorderCommand.of(1L, 2L, places),
+                CustomValidationException.class);
+
+        // then
+        assertThat(cve).isNotNull();
+        assertThat(cve.getExceptions()).hasSize(1);
+        assertThat(cve.getExceptions().get(0)).isInstanceOf(InvalidScheduleReorderException.class);
+    }
+
+    @DisplayName("Day에 놓일 일정이 최대 갯수 초과 -> 검증 에러 (임시보관함은 제한 없음)")
+    @Test
+    public void tooManyDayScheduleTest() {
+        // given
+        List<Long> overLimit = LongStream.rangeClosed(1, Day.MAX_DAY_SCHEDULE_COUNT + 1).boxed().toList();
+        List<Long> temporaryStorage = LongStream.rangeClosed(100, 100 + Day.MAX_DAY_SCHEDULE_COUNT).boxed().toList();
+
+        // when
+        CustomValidationException cve = catchThrowableOfType(
+                () -> ScheduleReorderCommand.of(1L, 2L, List.of(
+                        ScheduleReorderPlace.of(1L, overLimit),
+                        ScheduleReorderPlace.of(null, temporaryStorage))),
+                CustomValidationException.class);
+
+        // then
+        assertThat(cve).isNotNull();
+        assertThat(cve.getExceptions()).hasSize(1);
+        assertThat(cve.getExceptions().get(0)).isInstanceOf(TooManyDayScheduleException.class);
+    }
+}
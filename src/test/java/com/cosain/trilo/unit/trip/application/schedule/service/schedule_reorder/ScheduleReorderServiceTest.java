@@ -0,0 +1,191 @@
+package com.cosain.trilo.unit.trip.application.schedule.service.schedule_reorder;
+
+import com.cosain.trilo.common.exception.day.InvalidTripDayException;
+import com.cosain.trilo.common.exception.schedule.InvalidScheduleReorderException;
+import com.cosain.trilo.common.exception.schedule.NoScheduleMoveAuthorityException;
+import com.cosain.trilo.common.exception.schedule.ScheduleNotFoundException;
+import com.cosain.trilo.common.exception.trip.TripNotFoundException;
+import com.cosain.trilo.fixture.TripFixture;
+import com.cosain.trilo.trip.application.concurrency.TripVersionGuard;
+import com.cosain.trilo.trip.application.event.SchedulesReorderedEvent;
+import com.cosain.trilo.trip.application.schedule.service.schedule_reorder.ScheduleReorderCommand;
+import com.cosain.trilo.trip.application.schedule.service.schedule_reorder.ScheduleReorderPlace;
+import com.cosain.trilo.trip.application.schedule.service.schedule_reorder.ScheduleReorderResult;
+import com.cosain.trilo.trip.application.schedule.service.schedule_reorder.ScheduleReorderService;
+import com.cosain.trilo.trip.domain.dto.SchedulePosition;
+import com.cosain.trilo.trip.domain.entity.Trip;
+import com.cosain.trilo.trip.domain.repository.DayRepository;
+import com.cosain.trilo.trip.domain.repository.ScheduleRepository;
+import com.cosain.trilo.trip.domain.repository.TripRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 일정 일괄 이동 서비스({@link ScheduleReorderService})의 테스트 클래스입니다.
+ * @see ScheduleReorderService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[TripCommand] ScheduleReorderService 테스트")
+public class ScheduleReorderServiceTest {
+
+    @InjectMocks
+    private ScheduleReorderService scheduleReorderService;
+
+    @Mock
+    private TripRepository tripRepository;
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private DayRepository dayRepository;
+
+    @Mock
+    private TripVersionGuard tripVersionGuard;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private static final long TRIP_ID = 1L;
+    private static final long TRIPPER_ID = 2L;
+    private static final long FIRST_DAY_ID = 10L;
+    private static final long SECOND_DAY_ID = 11L;
+
+    @Test
+    @DisplayName("요청한 순서대로 기본 간격의 순서값이 매겨지고, 한 번에 저장된다")
+    public void reorderSchedules_success() {
+        // given : 1일차 [1, 2], 2일차 [], 임시보관함 [3]
+        Trip trip = setupTrip();
+        Map<Long, Long> dayIdBySchedule = new HashMap<>();
+        dayIdBySchedule.put(1L, FIRST_DAY_ID);
+        dayIdBySchedule.put(2L, FIRST_DAY_ID);
+        dayIdBySchedule.put(3L, null);
+        given(scheduleRepository.findScheduleDayIds(eq(TRIP_ID))).willReturn(dayIdBySchedule);
+        given(scheduleRepository.updateSchedulePositions(eq(TRIP_ID), anyList())).willReturn(3);
+
+        // 1일차 [2], 2일차 [3, 1], 임시보관함 []
+        var command = ScheduleReorderCommand.of(TRIP_ID, TRIPPER_ID, List.of(
+                ScheduleReorderPlace.of(FIRST_DAY_ID, List.of(2L)),
+                ScheduleReorderPlace.of(SECOND_DAY_ID, List.of(3L, 1L)),
+                ScheduleReorderPlace.of(null, List.of())));
+
+        // when
+        ScheduleReorderResult result = scheduleReorderService.reorderSchedules(command);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<SchedulePosition>> captor = ArgumentCaptor.forClass(List.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> dayIdsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(tripVersionGuard, times(1)).checkAndIncrease(eq(trip));
+        verify(scheduleRepository, times(1)).updateSchedulePositions(eq(TRIP_ID), captor.capture());
+        verify(dayRepository, times(1)).refreshScheduleCounts(dayIdsCaptor.capture());
+        assertThat(dayIdsCaptor.getValue()).containsExactlyInAnyOrder(FIRST_DAY_ID, SECOND_DAY_ID);
+        verify(eventPublisher, times(1)).publishEvent(any(SchedulesReorderedEvent.class));
+        assertThat(captor.getValue()).containsExactly(
+                SchedulePosition.of(2L, FIRST_DAY_ID, 0),
+                SchedulePosition.of(3L, SECOND_DAY_ID, 0),
+                SchedulePosition.of(1L, SECOND_DAY_ID, 1));
+        assertThat(result.getTripId()).isEqualTo(TRIP_ID);
+        assertThat(result.getReorderedScheduleCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("여행이 없으면 TripNotFoundException")
+    public void reorderSchedules_tripNotFound() {
+        // given
+        given(tripRepository.findByIdWithDays(eq(TRIP_ID))).willReturn(Optional.empty());
+        var command = ScheduleReorderCommand.of(TRIP_ID, TRIPPER_ID, List.of(ScheduleReorderPlace.of(null, List.of(1L))));
+
+        // when & then
+        assertThatThrownBy(() -> scheduleReorderService.reorderSchedules(command))
+                .isInstanceOf(TripNotFoundException.class);
+        verify(scheduleRepository, times(0)).updateSchedulePositions(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("여행의 주인이 아니면 NoScheduleMoveAuthorityException")
+    public void reorderSchedules_noAuthority() {
+        // given
+        setupTrip();
+        var command = ScheduleReorderCommand.of(TRIP_ID, TRIPPER_ID + 1, List.of(ScheduleReorderPlace.of(null, List.of(1L))));
+
+        // when & then
+        assertThatThrownBy(() -> scheduleReorderService.reorderSchedules(command))
+                .isInstanceOf(NoScheduleMoveAuthorityException.class);
+        verify(tripVersionGuard, times(0)).checkAndIncrease(any(Trip.class));
+        verify(scheduleRepository, times(0)).updateSchedulePositions(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("여행에 속하지 않은 Day가 포함되면 InvalidTripDayException")
+    public void reorderSchedules_otherTripDay() {
+        // given
+        setupTrip();
+        var command = ScheduleReorderCommand.of(TRIP_ID, TRIPPER_ID, List.of(ScheduleReorderPlace.of(99L, List.of(1L))));
+
+        // when & then
+        assertThatThrownBy(() -> scheduleReorderService.reorderSchedules(command))
+                .isInstanceOf(InvalidTripDayException.class);
+        verify(scheduleRepository, times(0)).updateSchedulePositions(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("여행에 속하지 않은 일정이 포함되면 ScheduleNotFoundException")
+    public void reorderSchedules_otherTripSchedule() {
+        // given
+        setupTrip();
+        given(scheduleRepository.findScheduleDayIds(eq(TRIP_ID))).willReturn(Map.of(1L, FIRST_DAY_ID));
+        var command = ScheduleReorderCommand.of(TRIP_ID, TRIPPER_ID, List.of(ScheduleReorderPlace.of(FIRST_DAY_ID, List.of(1L, 99L))));
+
+        // when & then
+        assertThatThrownBy(() -> scheduleReorderService.reorderSchedules(command))
+                .isInstanceOf(ScheduleNotFoundException.class);
+        verify(scheduleRepository, times(0)).updateSchedulePositions(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("요청한 Day에 있던 일정이 요청에서 빠지면 InvalidScheduleReorderException")
+    public void reorderSchedules_missingSchedule() {
+        // given : 1일차 [1, 2]
+        setupTrip();
+        given(scheduleRepository.findScheduleDayIds(eq(TRIP_ID))).willReturn(Map.of(1L, FIRST_DAY_ID, 2L, FIRST_DAY_ID));
+        var command = ScheduleReorderCommand.of(TRIP_ID, TRIPPER_ID, List.of(ScheduleReorderPlace.of(FIRST_DAY_ID, List.of(2L))));
+
+        // when & then
+        assertThatThrownBy(() -> scheduleReorderService.reorderSchedules(command))
+                .isInstanceOf(InvalidScheduleReorderException.class);
+        verify(scheduleRepository, times(0)).updateSchedulePositions(any(), anyList());
+    }
+
+    /**
+     * 2일짜리 여행(Day id : 10, 11)을 리포지토리에서 조회되도록 설정합니다.
+     */
+    private Trip setupTrip() {
+        Trip trip = TripFixture.decided_Id(TRIP_ID, TRIPPER_ID, LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 2), FIRST_DAY_ID);
+        given(tripRepository.findByIdWithDays(eq(TRIP_ID))).willReturn(Optional.of(trip));
+        return trip;
+    }
+}
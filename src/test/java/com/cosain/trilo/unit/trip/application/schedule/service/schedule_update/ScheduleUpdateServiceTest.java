@@ -3,6 +3,7 @@ package com.cosain.trilo.unit.trip.application.schedule.service.schedule_update;
 import com.cosain.trilo.common.exception.schedule.ScheduleNotFoundException;
 import com.cosain.trilo.fixture.ScheduleFixture;
 import com.cosain.trilo.fixture.TripFixture;
+import com.cosain.trilo.trip.application.concurrency.TripVersionGuard;
 import com.cosain.trilo.trip.application.exception.NoScheduleUpdateAuthorityException;
 import com.cosain.trilo.trip.application.schedule.service.schedule_update.ScheduleUpdateCommand;
 import com.cosain.trilo.trip.application.schedule.service.schedule_update.ScheduleUpdateService;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalTime;
 import java.util.Optional;
@@ -39,6 +41,12 @@ public class ScheduleUpdateServiceTest {
     @Mock
     private ScheduleRepository scheduleRepository;
 
+    @Mock
+    private TripVersionGuard tripVersionGuard;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     @DisplayName("일정 수정(제목, 본문, 시간) 요청 -> 수정 성공")
     public void update_schedule_test(){
@@ -7,6 +7,7 @@ import com.cosain.trilo.trip.application.trip.service.trip_delete.TripDeleteServ
 import com.cosain.trilo.trip.domain.entity.Trip;
 import com.cosain.trilo.trip.domain.repository.DayRepository;
 import com.cosain.trilo.trip.domain.repository.ScheduleRepository;
+import com.cosain.trilo.trip.domain.repository.TripLikeRepository;
 import com.cosain.trilo.trip.domain.repository.TripRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -56,6 +58,15 @@ public class TripDeleteServiceTest {
     @Mock
     private ScheduleRepository scheduleRepository;
 
+    /**
+     * TripDeleteService의 의존성
+     */
+    @Mock
+    private TripLikeRepository tripLikeRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * <p>여행 삭제 요청을 했을 때, 서비스 내부적으로 의도한 대로 동작하는 지 검증합니다.</p>
      * <ul>
@@ -80,6 +91,7 @@ public class TripDeleteServiceTest {
         verify(tripRepository, times(1)).findById(eq(tripId));
         verify(scheduleRepository, times(1)).deleteAllByTripId(eq(tripId));
         verify(dayRepository, times(1)).deleteAllByTripId(eq(tripId));
+        verify(tripLikeRepository, times(1)).deleteAllByTripId(eq(tripId));
         verify(tripRepository, times(1)).delete(any(Trip.class)); // 의존성 호출 검증
     }
 
@@ -4,6 +4,8 @@ import com.cosain.trilo.common.file.ImageFile;
 import com.cosain.trilo.fixture.TripFixture;
 import com.cosain.trilo.common.exception.trip.NoTripUpdateAuthorityException;
 import com.cosain.trilo.common.exception.trip.TripNotFoundException;
+import com.cosain.trilo.trip.application.concurrency.TripVersionGuard;
+import com.cosain.trilo.trip.application.event.TripChangedEvent;
 import com.cosain.trilo.trip.application.trip.service.trip_image_update.TripImageUpdateCommand;
 import com.cosain.trilo.trip.application.trip.service.trip_image_update.TripImageUpdateService;
 import com.cosain.trilo.trip.domain.entity.Trip;
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 
 import java.io.FileInputStream;
@@ -43,6 +46,12 @@ public class TripImageUpdateServiceTest {
     @Mock
     private TripImageOutputAdapter tripImageOutputAdapter;
 
+    @Mock
+    private TripVersionGuard tripVersionGuard;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private static final String TEST_RESOURCE_PATH = "src/test/resources/testFiles/";
 
     @DisplayName("여행 이미지 변경 성공 테스트")
@@ -71,6 +80,7 @@ public class TripImageUpdateServiceTest {
         verify(tripRepository, times(1)).findById(eq(tripId));
         verify(tripImageOutputAdapter, times(1)).uploadImage(any(ImageFile.class), anyString());
         verify(tripImageOutputAdapter, times(1)).getFullTripImageURL(anyString());
+        verify(eventPublisher, times(1)).publishEvent(any(TripChangedEvent.class));
     }
 
     @DisplayName("일치하는 식별자의 여행이 없으면 -> TripNotFoundException")
@@ -0,0 +1,101 @@
+package com.cosain.trilo.unit.trip.application.trip.service.trip_like;
+
+import com.cosain.trilo.common.exception.trip.TripNotFoundException;
+import com.cosain.trilo.trip.application.dao.TripQueryDAO;
+import com.cosain.trilo.trip.application.trip.service.trip_like.TripLikeCounter;
+import com.cosain.trilo.trip.application.trip.service.trip_like.TripLikeService;
+import com.cosain.trilo.trip.domain.repository.TripLikeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("여행 좋아요 서비스 테스트")
+public class TripLikeServiceTest {
+
+    @InjectMocks
+    private TripLikeService tripLikeService;
+
+    @Mock
+    private TripQueryDAO tripQueryDAO;
+
+    @Mock
+    private TripLikeRepository tripLikeRepository;
+
+    @Mock
+    private TripLikeCounter tripLikeCounter;
+
+    @Test
+    @DisplayName("처음 좋아요 하면 좋아요 수가 증가한다")
+    void like() {
+        // given
+        Long tripId = 1L;
+        Long userId = 2L;
+        given(tripQueryDAO.existById(eq(tripId))).willReturn(true);
+        given(tripLikeRepository.save(eq(tripId), eq(userId))).willReturn(true);
+
+        // when
+        tripLikeService.like(tripId, userId);
+
+        // then
+        verify(tripLikeCounter, times(1)).increment(eq(tripId));
+    }
+
+    @Test
+    @DisplayName("이미 좋아요 한 여행에 다시 좋아요 하면 좋아요 수가 변하지 않는다")
+    void like_twice() {
+        // given
+        Long tripId = 1L;
+        Long userId = 2L;
+        given(tripQueryDAO.existById(eq(tripId))).willReturn(true);
+        given(tripLikeRepository.save(eq(tripId), eq(userId))).willReturn(false);
+
+        // when
+        tripLikeService.like(tripId, userId);
+
+        // then
+        verify(tripLikeCounter, never()).increment(anyLong());
+    }
+
+    @Test
+    @DisplayName("좋아요 취소하면 좋아요 수가 감소하고, 좋아요 하지 않은 여행이면 변하지 않는다")
+    void unlike() {
+        // given
+        Long tripId = 1L;
+        given(tripQueryDAO.existById(eq(tripId))).willReturn(true);
+        given(tripLikeRepository.delete(eq(tripId), eq(2L))).willReturn(true);
+        given(tripLikeRepository.delete(eq(tripId), eq(3L))).willReturn(false);
+
+        // when
+        tripLikeService.unlike(tripId, 2L);
+        tripLikeService.unlike(tripId, 3L);
+
+        // then
+        verify(tripLikeCounter, times(1)).decrement(eq(tripId));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 여행에 좋아요 하면 TripNotFoundException 이 발생한다")
+    void like_notExistTrip() {
+        // given
+        Long tripId = 1L;
+        given(tripQueryDAO.existById(eq(tripId))).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> tripLikeService.like(tripId, 2L))
+                .isInstanceOf(TripNotFoundException.class);
+        verify(tripLikeRepository, never()).save(anyLong(), anyLong());
+        verify(tripLikeCounter, never()).increment(anyLong());
+    }
+}
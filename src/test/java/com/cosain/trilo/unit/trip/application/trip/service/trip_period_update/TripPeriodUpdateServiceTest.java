@@ -3,6 +3,7 @@ package com.cosain.trilo.unit.trip.application.trip.service.trip_period_update;
 import com.cosain.trilo.common.exception.trip.NoTripUpdateAuthorityException;
 import com.cosain.trilo.common.exception.trip.TripNotFoundException;
 import com.cosain.trilo.fixture.TripFixture;
+import com.cosain.trilo.trip.application.concurrency.TripVersionGuard;
 import com.cosain.trilo.trip.application.trip.service.trip_period_update.TripPeriodUpdateCommand;
 import com.cosain.trilo.trip.application.trip.service.trip_period_update.TripPeriodUpdateService;
 import com.cosain.trilo.trip.domain.entity.Trip;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.Optional;
@@ -57,6 +59,12 @@ public class TripPeriodUpdateServiceTest {
     @Mock
     private ScheduleRepository scheduleRepository;
 
+    @Mock
+    private TripVersionGuard tripVersionGuard;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * 기간이 정해진 여행을 다른 날짜 기간으로 수정하는 경우에 대한 테스트입니다.
      * <ul>
@@ -3,6 +3,7 @@ package com.cosain.trilo.unit.trip.application.trip.service.trip_title_update;
 import com.cosain.trilo.fixture.TripFixture;
 import com.cosain.trilo.common.exception.trip.NoTripUpdateAuthorityException;
 import com.cosain.trilo.common.exception.trip.TripNotFoundException;
+import com.cosain.trilo.trip.application.concurrency.TripVersionGuard;
 import com.cosain.trilo.trip.application.trip.service.trip_title_update.TripTitleUpdateCommand;
 import com.cosain.trilo.trip.application.trip.service.trip_title_update.TripTitleUpdateService;
 import com.cosain.trilo.trip.domain.entity.Trip;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -33,6 +35,12 @@ public class TripTitleUpdateServiceTest {
     @Mock
     private TripRepository tripRepository;
 
+    @Mock
+    private TripVersionGuard tripVersionGuard;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     @DisplayName("여행 제목 변경 성공 테스트")
     public void successTest() {
@@ -54,6 +62,7 @@ public class TripTitleUpdateServiceTest {
 
         // then
         verify(tripRepository, times(1)).findById(eq(tripId));
+        verify(tripVersionGuard, times(1)).checkAndIncrease(eq(trip));
         assertThat(trip.getTripTitle().getValue()).isEqualTo(requestTitle);
     }
 
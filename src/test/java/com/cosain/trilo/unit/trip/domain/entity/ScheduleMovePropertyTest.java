@@ -0,0 +1,156 @@
+package com.cosain.trilo.unit.trip.domain.entity;
+
+import com.cosain.trilo.common.exception.schedule.MidScheduleIndexConflictException;
+import com.cosain.trilo.fixture.ScheduleFixture;
+import com.cosain.trilo.fixture.TripFixture;
+import com.cosain.trilo.trip.domain.entity.Day;
+import com.cosain.trilo.trip.domain.entity.Schedule;
+import com.cosain.trilo.trip.domain.entity.Trip;
+import com.cosain.trilo.trip.domain.vo.ScheduleIndex;
+import com.cosain.trilo.trip.domain.vo.ScheduleIndexMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * <p>무작위 일정 이동을 반복하며, {@link ScheduleIndexMode#FRACTIONAL} 에서는 요청 중 재배치가 필요한 예외가 발생하지 않고
+ * 순서값 정렬 결과가 기대한 순서와 항상 같은지 검증합니다.</p>
+ * <p>실제 요청마다 DB 에서 순서값 순으로 다시 읽어오는 것처럼, 이동할 때마다 각 Day(또는 임시보관함)의 일정을 순서값 순으로 정렬합니다.</p>
+ */
+@DisplayName("[단위] 일정 이동 순서값 속성 테스트")
+public class ScheduleMovePropertyTest {
+
+    private static final int DAY_COUNT = 3;
+    private static final int SCHEDULES_PER_PLACE = 5;
+    private static final int MOVE_COUNT = 2_000;
+
+    @ParameterizedTest(name = "seed = {0}")
+    @DisplayName("FRACTIONAL : 무작위 이동을 반복해도 재배치 없이 순서가 유지된다")
+    @ValueSource(longs = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10})
+    public void random_moves_never_require_relocation(long seed) {
+        // given
+        Random random = new Random(seed);
+        Trip trip = TripFixture.decided_Id(1L, 2L, LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, DAY_COUNT), 1L);
+        Map<Day, List<Schedule>> expected = setupSchedules(trip);
+        List<Schedule> allSchedules = expected.values().stream().flatMap(List::stream).toList();
+        List<Day> places = new ArrayList<>(expected.keySet());
+
+        for (int i = 0; i < MOVE_COUNT; i++) {
+            Schedule schedule = allSchedules.get(random.nextInt(allSchedules.size()));
+            Day targetDay = places.get(random.nextInt(places.size()));
+            List<Schedule> targetList = expected.get(targetDay);
+
+            // 맨 앞/맨 뒤보다 중간 삽입이 많이 일어나도록, 특정 자리에 몰아서 이동
+            int targetOrder = Math.min(targetList.size(), random.nextInt(3) == 0 ? random.nextInt(targetList.size() + 1) : 1);
+
+            // when
+            trip.moveSchedule(schedule, targetDay, targetOrder, ScheduleIndexMode.FRACTIONAL);
+            moveExpected(expected, schedule, targetDay, targetOrder);
+            reloadOrder(trip);
+
+            // then
+            for (Day place : places) {
+                assertThat(currentList(trip, place)).containsExactlyElementsOf(expected.get(place));
+            }
+        }
+        assertThat(allSchedules).allSatisfy(schedule ->
+                assertThat(schedule.getScheduleIndex().getOrderKey().length()).isLessThan(ScheduleIndex.MAX_ORDER_KEY_LENGTH));
+    }
+
+    @Test
+    @DisplayName("같은 자리에 계속 끼워 넣으면 LONG 은 충돌하지만, FRACTIONAL 은 계속 이동된다")
+    public void repeated_insert_at_same_position() {
+        // given
+        Trip longTrip = TripFixture.undecided_Id(1L, 2L);
+        Trip fractionalTrip = TripFixture.undecided_Id(3L, 2L);
+        for (long i = 0; i < 3; i++) {
+            ScheduleFixture.temporaryStorage_Id(i + 1, longTrip, i * ScheduleIndex.DEFAULT_SEQUENCE_GAP);
+            ScheduleFixture.temporaryStorage_Id(i + 11, fractionalTrip, i * ScheduleIndex.DEFAULT_SEQUENCE_GAP);
+        }
+
+        // when : 맨 뒤 일정을 두 번째 자리로 500번 이동
+        int longMoves = 0;
+        try {
+            for (int i = 0; i < 500; i++) {
+                moveLastToSecond(longTrip, ScheduleIndexMode.LONG);
+                longMoves++;
+            }
+        } catch (MidScheduleIndexConflictException e) {
+            // LONG 은 정수 간격이 다하면 재배치가 필요함
+        }
+        for (int i = 0; i < 500; i++) {
+            moveLastToSecond(fractionalTrip, ScheduleIndexMode.FRACTIONAL);
+        }
+
+        // then
+        assertThat(longMoves).isLessThan(30);
+        assertThat(fractionalTrip.getTemporaryStorage()).isSortedAccordingTo(Comparator.comparing(Schedule::getScheduleIndex));
+        assertThatThrownBy(() -> {
+            for (int i = 0; i < 500; i++) {
+                moveLastToSecond(longTrip, ScheduleIndexMode.LONG);
+            }
+        }).isInstanceOf(MidScheduleIndexConflictException.class);
+    }
+
+    private void moveLastToSecond(Trip trip, ScheduleIndexMode mode) {
+        List<Schedule> temporaryStorage = trip.getTemporaryStorage();
+        trip.moveSchedule(temporaryStorage.get(temporaryStorage.size() - 1), null, 1, mode);
+        temporaryStorage.sort(Comparator.comparing(Schedule::getScheduleIndex));
+    }
+
+    /**
+     * 각 Day 와 임시보관함에 일정을 만들고, 기대 순서(Day -> 일정 목록, 임시보관함은 null 키)를 반환합니다.
+     */
+    private Map<Day, List<Schedule>> setupSchedules(Trip trip) {
+        Map<Day, List<Schedule>> expected = new LinkedHashMap<>();
+        long scheduleId = 1L;
+        for (Day day : trip.getDays()) {
+            List<Schedule> schedules = new ArrayList<>();
+            for (int i = 0; i < SCHEDULES_PER_PLACE; i++) {
+                schedules.add(ScheduleFixture.day_Id(scheduleId++, trip, day, i * ScheduleIndex.DEFAULT_SEQUENCE_GAP));
+            }
+            expected.put(day, schedules);
+        }
+        List<Schedule> temporaryStorage = new ArrayList<>();
+        for (int i = 0; i < SCHEDULES_PER_PLACE; i++) {
+            temporaryStorage.add(ScheduleFixture.temporaryStorage_Id(scheduleId++, trip, i * ScheduleIndex.DEFAULT_SEQUENCE_GAP));
+        }
+        expected.put(null, temporaryStorage);
+        return expected;
+    }
+
+    /**
+     * 기대 순서에서 일정을 옮깁니다. 도착지 목록의 targetOrder 번째 일정 바로 앞(없으면 맨 뒤)에 놓입니다.
+     */
+    private void moveExpected(Map<Day, List<Schedule>> expected, Schedule schedule, Day targetDay, int targetOrder) {
+        List<Schedule> targetList = expected.get(targetDay);
+        Schedule anchor = targetOrder < targetList.size() ? targetList.get(targetOrder) : null;
+        if (anchor == schedule) {
+            return;
+        }
+        expected.values().forEach(list -> list.remove(schedule));
+        int insertPosition = (anchor == null) ? targetList.size() : targetList.indexOf(anchor);
+        targetList.add(insertPosition, schedule);
+    }
+
+    private void reloadOrder(Trip trip) {
+        trip.getTemporaryStorage().sort(Comparator.comparing(Schedule::getScheduleIndex));
+        trip.getDays().forEach(day -> day.getSchedules().sort(Comparator.comparing(Schedule::getScheduleIndex)));
+    }
+
+    private List<Schedule> currentList(Trip trip, Day day) {
+        return (day == null) ? trip.getTemporaryStorage() : day.getSchedules();
+    }
+}
@@ -1,5 +1,6 @@
 package com.cosain.trilo.unit.trip.domain.vo;
 
+import com.cosain.trilo.common.exception.schedule.MidScheduleIndexConflictException;
 import com.cosain.trilo.common.exception.schedule.ScheduleIndexRangeException;
 import com.cosain.trilo.trip.domain.vo.ScheduleIndex;
 import org.junit.jupiter.api.DisplayName;
@@ -8,6 +9,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -199,4 +205,154 @@ public class ScheduleIndexTest {
 
     }
 
+    /**
+     * 순서 키를 이용해 두 인덱스 사이의 인덱스를 만드는 기능 테스트 (FRACTIONAL 모드)
+     */
+    @Nested
+    @DisplayName("between 메서드를 통해 사이 인덱스가 생성되는 지 테스트")
+    class BetweenTest {
+
+        @Test
+        @DisplayName("정수 간격이 남아있으면 mid 와 같은 값 : 0, 10 -> 5")
+        public void same_as_mid_when_gap_remains() {
+            // given
+            ScheduleIndex index1 = ScheduleIndex.of(0);
+            ScheduleIndex index2 = ScheduleIndex.of(10);
+
+            // when
+            ScheduleIndex betweenIndex = index1.between(index2);
+
+            // then
+            assertThat(betweenIndex).isEqualTo(ScheduleIndex.of(5));
+            assertThat(betweenIndex.getOrderKey()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("정수 간격이 다하면 앞쪽 값에 순서 키를 붙임 : 3, 4 -> (3, \"i\")")
+        public void order_key_when_gap_exhausted() {
+            // given
+            ScheduleIndex index1 = ScheduleIndex.of(3);
+            ScheduleIndex index2 = ScheduleIndex.of(4);
+
+            // when
+            ScheduleIndex betweenIndex = index2.between(index1);
+
+            // then
+            assertThat(betweenIndex).isEqualTo(ScheduleIndex.of(3, "i"));
+            assertThat(betweenIndex.isBetween(index1, index2)).isTrue();
+        }
+
+        @Test
+        @DisplayName("음수 인접 값 : -4, -3 -> (-4, \"i\")")
+        public void order_key_when_negative_gap_exhausted() {
+            // given
+            ScheduleIndex index1 = ScheduleIndex.of(-4);
+            ScheduleIndex index2 = ScheduleIndex.of(-3);
+
+            // when
+            ScheduleIndex betweenIndex = index1.between(index2);
+
+            // then
+            assertThat(betweenIndex).isEqualTo(ScheduleIndex.of(-4, "i"));
+        }
+
+        @Test
+        @DisplayName("정수 값이 같으면 두 순서 키 사이의 키 : (3, \"i\"), (3, \"j\") -> (3, \"ii\")")
+        public void between_order_keys() {
+            // given
+            ScheduleIndex index1 = ScheduleIndex.of(3, "i");
+            ScheduleIndex index2 = ScheduleIndex.of(3, "j");
+
+            // when
+            ScheduleIndex betweenIndex = index1.between(index2);
+
+            // then
+            assertThat(betweenIndex).isEqualTo(ScheduleIndex.of(3, "ii"));
+        }
+
+        @Test
+        @DisplayName("같은 인덱스 사이 -> MidScheduleIndexConflictException")
+        public void same_index_conflict() {
+            // given
+            ScheduleIndex index = ScheduleIndex.of(3, "i");
+
+            // when & then
+            assertThatThrownBy(() -> index.between(ScheduleIndex.of(3, "i")))
+                    .isInstanceOf(MidScheduleIndexConflictException.class);
+        }
+
+        @Test
+        @DisplayName("같은 자리에 계속 끼워 넣어도 항상 사이 인덱스가 존재하고, 키는 약 5번에 한 글자씩 늘어남")
+        public void repeated_insert_at_same_position() {
+            // given
+            ScheduleIndex lower = ScheduleIndex.of(0);
+            ScheduleIndex upper = ScheduleIndex.of(1);
+
+            // when & then
+            for (int i = 0; i < 1000; i++) {
+                ScheduleIndex betweenIndex = lower.between(upper);
+                assertThat(betweenIndex.isBetween(lower, upper)).isTrue();
+                upper = betweenIndex;
+            }
+            assertThat(upper.getOrderKey().length()).isLessThan(ScheduleIndex.MAX_ORDER_KEY_LENGTH);
+        }
+
+        @Test
+        @DisplayName("무작위 두 인덱스 사이에 만든 인덱스는 항상 두 인덱스 사이에 있고, '0' 으로 끝나지 않음")
+        public void random_between_is_always_between() {
+            // given
+            Random random = new Random(42);
+            List<ScheduleIndex> indexes = new ArrayList<>(List.of(ScheduleIndex.of(0), ScheduleIndex.of(1)));
+
+            for (int i = 0; i < 5000; i++) {
+                int position = random.nextInt(indexes.size() - 1);
+                ScheduleIndex lower = indexes.get(position);
+                ScheduleIndex upper = indexes.get(position + 1);
+
+                // when
+                ScheduleIndex betweenIndex = lower.between(upper);
+
+                // then
+                assertThat(betweenIndex.isBetween(lower, upper)).isTrue();
+                assertThat(betweenIndex.getOrderKey()).doesNotEndWith("0");
+                indexes.add(position + 1, betweenIndex);
+            }
+            List<ScheduleIndex> sorted = new ArrayList<>(indexes);
+            Collections.sort(sorted);
+            assertThat(sorted).containsExactlyElementsOf(indexes);
+        }
+    }
+
+    /**
+     * 순서 키 생성/비교 테스트
+     */
+    @Nested
+    @DisplayName("순서 키 테스트")
+    class OrderKeyTest {
+
+        @ParameterizedTest
+        @DisplayName("36진수 소문자가 아니거나 '0' 으로 끝나는 순서 키 -> ScheduleIndexRangeException")
+        @ValueSource(strings = {"0", "a0", "A", "i-", "한"})
+        public void invalid_order_key(String orderKey) {
+            assertThatThrownBy(() -> ScheduleIndex.of(0, orderKey))
+                    .isInstanceOf(ScheduleIndexRangeException.class);
+        }
+
+        @Test
+        @DisplayName("정수 값 순으로, 같으면 순서 키 사전 순으로 비교")
+        public void compare() {
+            List<ScheduleIndex> expected = List.of(
+                    ScheduleIndex.of(3),
+                    ScheduleIndex.of(3, "1"),
+                    ScheduleIndex.of(3, "1z"),
+                    ScheduleIndex.of(3, "z"),
+                    ScheduleIndex.of(4));
+
+            List<ScheduleIndex> sorted = new ArrayList<>(expected);
+            Collections.shuffle(sorted, new Random(42));
+            Collections.sort(sorted);
+
+            assertThat(sorted).containsExactlyElementsOf(expected);
+        }
+    }
 }
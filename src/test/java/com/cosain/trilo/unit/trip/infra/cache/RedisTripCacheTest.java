@@ -0,0 +1,92 @@
+package com.cosain.trilo.unit.trip.infra.cache;
+
+import com.cosain.trilo.trip.infra.cache.LocalTripCache;
+import com.cosain.trilo.trip.infra.cache.RedisTripCache;
+import com.cosain.trilo.trip.infra.cache.TripCacheRegion;
+import com.cosain.trilo.trip.infra.cache.TwoTierTripCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataRedisTest
+@DisplayName("Redis 여행 캐시 테스트")
+class RedisTripCacheTest {
+
+    private static final long TRIP_ID = 987_654_321L;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private RedisTripCache redisTripCache;
+
+    @BeforeEach
+    void setUp() {
+        redisTripCache = new RedisTripCache(redisTemplate, 60_000L);
+        redisTemplate.delete(List.of("trip-cache:v1:trip:" + TRIP_ID, "trip-cache:v1:gen:" + TRIP_ID));
+    }
+
+    @Test
+    void 무효화가_없으면_조회한_값을_저장해_다른_서버에서_적중한다() {
+        // given
+        TwoTierTripCache server = newServer();
+        server.get(TripCacheRegion.TRIP_VERSION, TRIP_ID, "", () -> 1L);
+
+        // when
+        Long cached = newServer().get(TripCacheRegion.TRIP_VERSION, TRIP_ID, "", () -> {
+            throw new AssertionError("Redis 에서 적중해야 함");
+        });
+
+        // then
+        assertThat(cached).isEqualTo(1L);
+    }
+
+    @Test
+    void DB_조회_도중_무효화되면_조회한_값을_Redis_에_저장하지_않는다() {
+        // given : 한 서버가 이전 값을 읽는 사이 다른 서버가 변경을 커밋하고 무효화함
+        TwoTierTripCache reader = newServer();
+        TwoTierTripCache writer = newServer();
+        SimpleMeterRegistry readerMeters = new SimpleMeterRegistry();
+        TwoTierTripCache slowReader = new TwoTierTripCache(new LocalTripCache(100, 60_000L, Clock.systemUTC()), redisTripCache, readerMeters);
+
+        // when
+        Long stale = slowReader.get(TripCacheRegion.TRIP_VERSION, TRIP_ID, "", () -> {
+            writer.invalidate(List.of(TRIP_ID));
+            return 1L;
+        });
+        Long reloaded = reader.get(TripCacheRegion.TRIP_VERSION, TRIP_ID, "", () -> 2L);
+
+        // then : 다른 서버는 이전 값이 아니라 DB 의 새 값을 읽음
+        assertThat(stale).isEqualTo(1L);
+        assertThat(reloaded).isEqualTo(2L);
+        assertThat(redisTripCache.lookup(TRIP_ID, TripCacheRegion.TRIP_VERSION.field("")).value()).isEqualTo(2L);
+        assertThat(readerMeters.get("trip.cache.redis-stale-writes").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 무효화될_때마다_세대가_올라간다() {
+        // given
+        String before = redisTripCache.lookup(TRIP_ID, "field").generation();
+
+        // when
+        redisTripCache.deleteAndPublish(List.of(TRIP_ID), "test|" + TRIP_ID);
+
+        // then
+        assertThat(before).isEqualTo("0");
+        assertThat(redisTripCache.lookup(TRIP_ID, "field").generation()).isEqualTo("1");
+        assertThat(redisTripCache.putIfGeneration(TRIP_ID, "field", "stale", before)).isFalse();
+        assertThat(redisTripCache.putIfGeneration(TRIP_ID, "field", "fresh", "1")).isTrue();
+    }
+
+    private TwoTierTripCache newServer() {
+        return new TwoTierTripCache(new LocalTripCache(100, 60_000L, Clock.systemUTC()), redisTripCache, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,181 @@
+package com.cosain.trilo.unit.trip.infra.cache;
+
+import com.cosain.trilo.trip.application.day.service.day_search.DayScheduleDetail;
+import com.cosain.trilo.trip.application.event.ScheduleMovedEvent;
+import com.cosain.trilo.trip.application.trip.service.temporary_search.TempScheduleListQueryParam;
+import com.cosain.trilo.trip.application.trip.service.temporary_search.TempScheduleListSearchResult;
+import com.cosain.trilo.trip.domain.vo.DayColor;
+import com.cosain.trilo.trip.infra.cache.CachingDayQueryDAO;
+import com.cosain.trilo.trip.infra.cache.CachingScheduleQueryDAO;
+import com.cosain.trilo.trip.infra.cache.LocalTripCache;
+import com.cosain.trilo.trip.infra.cache.RedisTripCache;
+import com.cosain.trilo.trip.infra.cache.TripCacheInvalidationListener;
+import com.cosain.trilo.trip.infra.cache.TwoTierTripCache;
+import com.cosain.trilo.trip.infra.dao.DayQueryDAOImpl;
+import com.cosain.trilo.trip.infra.dao.ScheduleQueryDAOImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoTierTripCache 테스트")
+public class TwoTierTripCacheTest {
+
+    private static final long TRIP_ID = 1L;
+    private static final long OTHER_TRIP_ID = 2L;
+    private static final long BEFORE_DAY_ID = 10L;
+    private static final long AFTER_DAY_ID = 11L;
+    private static final long OTHER_TRIP_DAY_ID = 20L;
+
+    @Mock
+    private DayQueryDAOImpl dayQueryDAOImpl;
+
+    @Mock
+    private ScheduleQueryDAOImpl scheduleQueryDAOImpl;
+
+    @Mock
+    private RedisTripCache redisTripCache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TwoTierTripCache tripCache;
+    private CachingDayQueryDAO cachingDayQueryDAO;
+    private CachingScheduleQueryDAO cachingScheduleQueryDAO;
+    private TripCacheInvalidationListener invalidationListener;
+
+    private final TempScheduleListQueryParam temporaryStorageQuery = TempScheduleListQueryParam.of(TRIP_ID, null, 10);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tripCache = new TwoTierTripCache(new LocalTripCache(100, 60_000L, Clock.systemUTC()), redisTripCache, meterRegistry);
+        cachingDayQueryDAO = new CachingDayQueryDAO(dayQueryDAOImpl, tripCache);
+        cachingScheduleQueryDAO = new CachingScheduleQueryDAO(scheduleQueryDAOImpl, tripCache);
+        invalidationListener = new TripCacheInvalidationListener(tripCache);
+
+        given(redisTripCache.findTripId(anyString())).willReturn(null);
+        given(dayQueryDAOImpl.findDayWithSchedulesByDayId(eq(BEFORE_DAY_ID))).willReturn(Optional.of(day(BEFORE_DAY_ID, TRIP_ID)));
+        given(dayQueryDAOImpl.findDayWithSchedulesByDayId(eq(AFTER_DAY_ID))).willReturn(Optional.of(day(AFTER_DAY_ID, TRIP_ID)));
+        given(dayQueryDAOImpl.findDayWithSchedulesByDayId(eq(OTHER_TRIP_DAY_ID))).willReturn(Optional.of(day(OTHER_TRIP_DAY_ID, OTHER_TRIP_ID)));
+        given(scheduleQueryDAOImpl.findTemporarySchedules(eq(temporaryStorageQuery))).willReturn(TempScheduleListSearchResult.of(false, List.of()));
+    }
+
+    @Test
+    @DisplayName("캐싱된 뒤에는 DB 를 다시 조회하지 않는다")
+    void read_through() {
+        // when
+        readAll();
+        readAll();
+
+        // then
+        verify(dayQueryDAOImpl, times(1)).findDayWithSchedulesByDayId(eq(BEFORE_DAY_ID));
+        verify(dayQueryDAOImpl, times(1)).findDayWithSchedulesByDayId(eq(AFTER_DAY_ID));
+        verify(scheduleQueryDAOImpl, times(1)).findTemporarySchedules(eq(temporaryStorageQuery));
+        assertThat(meterRegistry.get("trip.cache.hit-ratio").tag("region", "day").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("일정을 이동하면 출발/도착 Day 와 임시보관함 캐시가 무효화되고, 다른 여행의 캐시는 유지된다")
+    void schedule_move_invalidates_both_days_and_temporary_storage() {
+        // given
+        readAll();
+
+        // when
+        invalidationListener.invalidate(new ScheduleMovedEvent(TRIP_ID, 100L, BEFORE_DAY_ID, AFTER_DAY_ID));
+        readAll();
+
+        // then
+        verify(dayQueryDAOImpl, times(2)).findDayWithSchedulesByDayId(eq(BEFORE_DAY_ID));
+        verify(dayQueryDAOImpl, times(2)).findDayWithSchedulesByDayId(eq(AFTER_DAY_ID));
+        verify(scheduleQueryDAOImpl, times(2)).findTemporarySchedules(eq(temporaryStorageQuery));
+        verify(dayQueryDAOImpl, times(1)).findDayWithSchedulesByDayId(eq(OTHER_TRIP_DAY_ID));
+        verify(redisTripCache, times(1)).deleteAndPublish(eq(List.of(TRIP_ID)), anyString());
+        assertThat(meterRegistry.get("trip.cache.evictions").tag("cause", "invalidation").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("임시보관함으로 이동해도 출발 Day 와 임시보관함 캐시가 무효화된다")
+    void schedule_move_to_temporary_storage_invalidates_day_and_temporary_storage() {
+        // given
+        readAll();
+
+        // when
+        invalidationListener.invalidate(new ScheduleMovedEvent(TRIP_ID, 100L, BEFORE_DAY_ID, null));
+        readAll();
+
+        // then
+        verify(dayQueryDAOImpl, times(2)).findDayWithSchedulesByDayId(eq(BEFORE_DAY_ID));
+        verify(scheduleQueryDAOImpl, times(2)).findTemporarySchedules(eq(temporaryStorageQuery));
+    }
+
+    @Test
+    @DisplayName("다른 서버 인스턴스의 무효화 메시지를 받으면 메모리 캐시를 비운다")
+    void invalidate_on_message_from_other_instance() {
+        // given
+        readAll();
+
+        // when
+        tripCache.onMessage(message("other-instance|" + TRIP_ID), null);
+        readAll();
+
+        // then
+        verify(dayQueryDAOImpl, times(2)).findDayWithSchedulesByDayId(eq(BEFORE_DAY_ID));
+        verify(scheduleQueryDAOImpl, times(2)).findTemporarySchedules(eq(temporaryStorageQuery));
+        verify(dayQueryDAOImpl, times(1)).findDayWithSchedulesByDayId(eq(OTHER_TRIP_DAY_ID));
+    }
+
+    @Test
+    @DisplayName("소속 여행을 모르는 Day 를 DB 에서 읽는 도중 여행이 무효화되면, 읽은 값을 메모리에 저장하지 않는다")
+    void invalidation_during_cold_owner_load_is_not_cached() {
+        // given : 처음 Day 를 읽는 도중 다른 요청이 Day 를 변경하고 여행을 무효화함
+        AtomicBoolean firstLoad = new AtomicBoolean(true);
+        given(dayQueryDAOImpl.findDayWithSchedulesByDayId(eq(BEFORE_DAY_ID))).willAnswer(invocation -> {
+            if (firstLoad.getAndSet(false)) {
+                tripCache.invalidate(List.of(TRIP_ID));
+            }
+            return Optional.of(day(BEFORE_DAY_ID, TRIP_ID));
+        });
+
+        // when
+        readAll();
+        readAll();
+
+        // then : 무효화 전에 읽었을 수 있는 값은 버리고 다시 조회, 무효화 이후에 읽은 항목은 캐싱됨
+        verify(dayQueryDAOImpl, times(2)).findDayWithSchedulesByDayId(eq(BEFORE_DAY_ID));
+        verify(dayQueryDAOImpl, times(1)).findDayWithSchedulesByDayId(eq(AFTER_DAY_ID));
+        assertThat(meterRegistry.get("trip.cache.local-stale-writes").counter().count()).isEqualTo(1.0);
+    }
+
+    private void readAll() {
+        cachingDayQueryDAO.findDayWithSchedulesByDayId(BEFORE_DAY_ID);
+        cachingDayQueryDAO.findDayWithSchedulesByDayId(AFTER_DAY_ID);
+        cachingDayQueryDAO.findDayWithSchedulesByDayId(OTHER_TRIP_DAY_ID);
+        cachingScheduleQueryDAO.findTemporarySchedules(temporaryStorageQuery);
+    }
+
+    private static DayScheduleDetail day(long dayId, long tripId) {
+        return new DayScheduleDetail(dayId, tripId, LocalDate.of(2023, 5, 1), DayColor.RED, List.of());
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(RedisTripCache.CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,194 @@
+package com.cosain.trilo.unit.trip.infra.compaction;
+
+import com.cosain.trilo.trip.application.event.ScheduleMovedEvent;
+import com.cosain.trilo.trip.application.event.ScheduleRelocatedEvent;
+import com.cosain.trilo.trip.application.exception.TripVersionConflictException;
+import com.cosain.trilo.trip.application.schedule.service.schedule_compaction.ScheduleCompactionResult;
+import com.cosain.trilo.trip.application.schedule.service.schedule_compaction.ScheduleCompactionService;
+import com.cosain.trilo.trip.infra.compaction.ScheduleIndexCompactor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduleIndexCompactor 테스트")
+class ScheduleIndexCompactorTest {
+
+    private static final Instant NOW = Instant.parse("2023-05-01T00:00:00Z");
+    private static final long MIN_GAP = 10_000L;
+    private static final Duration QUIET_PERIOD = Duration.ofSeconds(2);
+    private static final int MAX_PENDING_TRIPS = 2;
+
+    @Mock
+    private ScheduleCompactionService scheduleCompactionService;
+
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private ScheduleIndexCompactor compactor;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        meterRegistry = new SimpleMeterRegistry();
+        compactor = new ScheduleIndexCompactor(scheduleCompactionService, clock, meterRegistry,
+                true, MIN_GAP, QUIET_PERIOD.toMillis(), MAX_PENDING_TRIPS, 100);
+    }
+
+    @Test
+    void 같은_여행의_이동은_하나로_합쳐지고_Day마다_한_번씩_검사한다() {
+        // given
+        given(scheduleCompactionService.compactIfDense(eq(1L), any(), eq(MIN_GAP)))
+                .willReturn(ScheduleCompactionResult.skipped(MIN_GAP * 10));
+        compactor.onScheduleMoved(new ScheduleMovedEvent(1L, 10L, null, 2L));
+        compactor.onScheduleMoved(new ScheduleMovedEvent(1L, 11L, 2L, 2L));
+        compactor.onScheduleMoved(new ScheduleMovedEvent(1L, 12L, 2L, null));
+
+        // when
+        clock.advance(QUIET_PERIOD);
+        compactor.compact();
+
+        // then
+        assertThat(compactor.pendingTripCount()).isZero();
+        verify(scheduleCompactionService, times(1)).compactIfDense(eq(1L), eq(2L), eq(MIN_GAP));
+        verify(scheduleCompactionService, times(1)).compactIfDense(eq(1L), isNull(), eq(MIN_GAP));
+        assertThat(meterRegistry.get("trip.schedule.relocations").tag("path", "background").counter().count()).isZero();
+    }
+
+    @Test
+    void 마지막_이동_후_대기_시간이_지나기_전에는_재배치하지_않는다() {
+        // given
+        given(scheduleCompactionService.compactIfDense(eq(1L), eq(2L), eq(MIN_GAP)))
+                .willReturn(ScheduleCompactionResult.relocated(1L));
+        compactor.enqueue(1L, 2L);
+
+        // when : 편집 중 -> 건너뜀
+        clock.advance(QUIET_PERIOD.minusMillis(1));
+        compactor.compact();
+
+        // then
+        verify(scheduleCompactionService, never()).compactIfDense(anyLong(), any(), anyLong());
+        assertThat(compactor.pendingTripCount()).isEqualTo(1);
+
+        // when : 대기 시간이 지남 -> 재배치
+        clock.advance(Duration.ofMillis(1));
+        compactor.compact();
+
+        // then
+        verify(scheduleCompactionService, times(1)).compactIfDense(eq(1L), eq(2L), eq(MIN_GAP));
+        assertThat(meterRegistry.get("trip.schedule.relocations").tag("path", "background").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("trip.schedule-compaction.min-gap").summary().max()).isEqualTo(1);
+    }
+
+    @Test
+    void 대기열이_가득_차면_새_여행은_버린다() {
+        // when
+        compactor.enqueue(1L, 1L);
+        compactor.enqueue(2L, 2L);
+        compactor.enqueue(3L, 3L);
+        compactor.enqueue(1L, null); // 이미 있는 여행은 합쳐짐
+
+        // then
+        assertThat(compactor.pendingTripCount()).isEqualTo(MAX_PENDING_TRIPS);
+        assertThat(meterRegistry.get("trip.schedule-compaction.dropped").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("trip.schedule-compaction.pending-trips").gauge().value()).isEqualTo(MAX_PENDING_TRIPS);
+    }
+
+    @Test
+    void 버전_충돌이_나면_대기열에_다시_넣고_다음_주기에_처리한다() {
+        // given
+        given(scheduleCompactionService.compactIfDense(eq(1L), eq(2L), eq(MIN_GAP)))
+                .willThrow(new TripVersionConflictException("테스트 충돌"))
+                .willReturn(ScheduleCompactionResult.relocated(1L));
+        compactor.enqueue(1L, 2L);
+        clock.advance(QUIET_PERIOD);
+
+        // when
+        compactor.compact();
+
+        // then
+        assertThat(compactor.pendingTripCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("trip.schedule-compaction.conflicts").counter().count()).isEqualTo(1);
+
+        // when
+        clock.advance(QUIET_PERIOD);
+        compactor.compact();
+
+        // then
+        assertThat(compactor.pendingTripCount()).isZero();
+        verify(scheduleCompactionService, times(2)).compactIfDense(eq(1L), eq(2L), eq(MIN_GAP));
+    }
+
+    @Test
+    void 요청_처리_중_재배치와_백그라운드_재배치를_따로_집계한다() {
+        // when
+        compactor.onScheduleRelocated(new ScheduleRelocatedEvent(1L, null));
+
+        // then
+        assertThat(meterRegistry.get("trip.schedule.relocations").tag("path", "request").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("trip.schedule.relocations").tag("path", "background").counter().count()).isZero();
+    }
+
+    @Test
+    void 비활성화되면_대기열에_넣지_않는다() {
+        // given
+        ScheduleIndexCompactor disabled = new ScheduleIndexCompactor(scheduleCompactionService, clock, new SimpleMeterRegistry(),
+                false, MIN_GAP, QUIET_PERIOD.toMillis(), MAX_PENDING_TRIPS, 100);
+
+        // when
+        disabled.enqueue(1L, 2L);
+        clock.advance(QUIET_PERIOD);
+        disabled.compact();
+
+        // then
+        assertThat(disabled.pendingTripCount()).isZero();
+        verify(scheduleCompactionService, never()).compactIfDense(anyLong(), any(), anyLong());
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
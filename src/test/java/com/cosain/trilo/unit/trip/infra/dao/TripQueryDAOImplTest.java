@@ -168,7 +168,7 @@ public class TripQueryDAOImplTest extends RepositoryTest {
         @Test
         void 기본_또는_최신순_조회(){
             // given
-            TripSearchRequest tripSearchRequest = new TripSearchRequest("제주", "RECENT", 5, null);
+            TripSearchRequest tripSearchRequest = new TripSearchRequest("제주", "RECENT", 5, null, null);
             Long tripperId = setupTripperId();
             Long tripperId2 = setupTripperId();
             LocalDate startDate = LocalDate.of(2023, 5, 1);
@@ -196,6 +196,83 @@ public class TripQueryDAOImplTest extends RepositoryTest {
             List<TripSearchResponse.TripSummary> trips = response.getTrips();
             assertThat(trips.size()).isEqualTo(2);
         }
+
+        @Test
+        void 제목_검색_색인_후보로_커서_페이징_조회(){
+            // given
+            Long tripperId = setupTripperId();
+            LocalDate startDate = LocalDate.of(2023, 5, 1);
+            LocalDate endDate = LocalDate.of(2023, 5, 10);
+            Trip trip1 = TripFixture.decided_nullId_Title(tripperId, "제주도 여행", startDate, endDate);
+            Trip trip2 = TripFixture.undecided_nullId_Title(tripperId, "제주 계획중");
+            Trip trip3 = TripFixture.decided_nullId_Title(tripperId, "제주주 먹방", startDate, endDate);
+            Trip trip4 = TripFixture.decided_nullId_Title(tripperId, "재미있는 제주 1박 2일!", startDate, endDate);
+            Trip trip5 = TripFixture.decided_nullId_Title(tripperId, "제주 한달 살기", startDate, endDate);
+
+            em.persist(trip1);
+            em.persist(trip2);
+            em.persist(trip3);
+            em.persist(trip4);
+            em.persist(trip5);
+
+            // when
+            TripSearchResponse firstPage = tripQueryDAOImpl.findWithSearchConditions(new TripSearchRequest("제주", "RECENT", 2, null, null));
+            Long cursor = firstPage.getTrips().get(firstPage.getTrips().size() - 1).getTripId();
+            TripSearchResponse secondPage = tripQueryDAOImpl.findWithSearchConditions(new TripSearchRequest("제주", "RECENT", 2, cursor, null));
+
+            // then
+            assertThat(firstPage.isHasNext()).isTrue();
+            assertThat(firstPage.getTrips()).extracting(TripSearchResponse.TripSummary::getTripId)
+                    .containsExactly(trip5.getId(), trip4.getId());
+            assertThat(secondPage.isHasNext()).isFalse();
+            assertThat(secondPage.getTrips()).extracting(TripSearchResponse.TripSummary::getTripId)
+                    .containsExactly(trip3.getId(), trip1.getId());
+        }
+
+        @Test
+        void 좋아요순_조회는_좋아요_수와_여행_ID_복합_커서로_페이징된다(){
+            // given
+            Long tripperId = setupTripperId();
+            LocalDate startDate = LocalDate.of(2023, 5, 1);
+            LocalDate endDate = LocalDate.of(2023, 5, 10);
+            Trip trip1 = TripFixture.decided_nullId_Title(tripperId, "제주도 여행", startDate, endDate);
+            Trip trip2 = TripFixture.decided_nullId_Title(tripperId, "부산 여행", startDate, endDate);
+            Trip trip3 = TripFixture.decided_nullId_Title(tripperId, "강릉 여행", startDate, endDate);
+            Trip trip4 = TripFixture.decided_nullId_Title(tripperId, "여수 여행", startDate, endDate);
+            Trip trip5 = TripFixture.undecided_nullId_Title(tripperId, "계획중인 여행");
+
+            em.persist(trip1);
+            em.persist(trip2);
+            em.persist(trip3);
+            em.persist(trip4);
+            em.persist(trip5);
+            em.flush();
+            updateLikeCount(trip1, 5);
+            updateLikeCount(trip2, 9);
+            updateLikeCount(trip3, 5);
+            updateLikeCount(trip4, 1);
+            updateLikeCount(trip5, 100);
+
+            // when
+            TripSearchResponse firstPage = tripQueryDAOImpl.findWithSearchConditions(new TripSearchRequest(null, "LIKE", 2, null, null));
+            TripSearchResponse.TripSummary last = firstPage.getTrips().get(firstPage.getTrips().size() - 1);
+            TripSearchResponse secondPage = tripQueryDAOImpl.findWithSearchConditions(new TripSearchRequest(null, "LIKE", 2, last.getTripId(), last.getLikeCount()));
+
+            // then : 좋아요 수 내림차순, 같으면 id 내림차순
+            assertThat(firstPage.isHasNext()).isTrue();
+            assertThat(firstPage.getTrips()).extracting(TripSearchResponse.TripSummary::getTripId)
+                    .containsExactly(trip2.getId(), trip3.getId());
+            assertThat(secondPage.isHasNext()).isFalse();
+            assertThat(secondPage.getTrips()).extracting(TripSearchResponse.TripSummary::getTripId)
+                    .containsExactly(trip1.getId(), trip4.getId());
+        }
+
+        private void updateLikeCount(Trip trip, long likeCount) {
+            em.createNativeQuery("UPDATE trip SET trip_like_count = ? WHERE trip_id = ?")
+                    .setParameter(1, likeCount)
+                    .setParameter(2, trip.getId())
+                    .executeUpdate();
+        }
     }
 
 }
@@ -0,0 +1,153 @@
+package com.cosain.trilo.unit.trip.infra.like;
+
+import com.cosain.trilo.trip.infra.like.WriteBehindTripLikeCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WriteBehindTripLikeCounter 테스트")
+class WriteBehindTripLikeCounterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private WriteBehindTripLikeCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new WriteBehindTripLikeCounter(jdbcTemplate, TransactionOperations.withoutTransaction(), new SimpleMeterRegistry(), 2);
+    }
+
+    @Test
+    @DisplayName("여러 번의 증감이 여행별로 합쳐져 trip_id 순서로 한 번씩 반영된다")
+    void flush_merges_deltas() {
+        // given
+        counter.increment(3L);
+        counter.increment(1L);
+        counter.increment(1L);
+        counter.decrement(3L);
+        counter.increment(2L);
+
+        // when
+        counter.flush();
+
+        // then : 3번 여행은 증감 합이 0이라 반영하지 않고, 배치 크기(2) 단위로 나누어 반영
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue()).containsExactly(new Object[]{2L, 1L}, new Object[]{1L, 2L});
+        assertThat(counter.pendingDelta(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영할 증감이 없으면 DB 에 접근하지 않는다")
+    void flush_nothing() {
+        counter.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증감이 다시 쌓여 다음 주기에 재시도된다")
+    void flush_failure_restores_deltas() {
+        // given
+        counter.increment(1L);
+        counter.increment(1L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willThrow(new CannotAcquireLockException("lock wait timeout"));
+
+        // when
+        counter.flush();
+        counter.increment(1L);
+
+        // then
+        assertThat(counter.pendingDelta(1L)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 증감하면 커밋된 뒤에 반영 대상이 된다")
+    void increment_after_commit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            counter.increment(1L);
+
+            // then
+            assertThat(counter.pendingDelta(1L)).isZero();
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCommit());
+            assertThat(counter.pendingDelta(1L)).isEqualTo(1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("한 여행에 좋아요가 동시에 몰려도 증감이 유실되지 않는다")
+    void concurrent_increments() throws Exception {
+        // given
+        int threadCount = 8;
+        int incrementsPerThread = 10_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when : 좋아요가 쌓이는 도중에도 반영(flush)이 일어남
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                for (int j = 0; j < incrementsPerThread; j++) {
+                    counter.increment(1L);
+                }
+                latch.countDown();
+            });
+        }
+        long flushed = 0;
+        while (latch.getCount() > 0) {
+            flushed += drainByFlush();
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        flushed += drainByFlush();
+        executorService.shutdown();
+
+        // then
+        assertThat(flushed).isEqualTo((long) threadCount * incrementsPerThread);
+    }
+
+    /**
+     * flush 를 호출하고, 이번 flush 로 반영된 1번 여행의 증감을 반환합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private long drainByFlush() {
+        clearInvocations(jdbcTemplate);
+        counter.flush();
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, atMost(1)).batchUpdate(anyString(), captor.capture());
+        return captor.getAllValues().stream()
+                .flatMap(List::stream)
+                .mapToLong(update -> (Long) update[0])
+                .sum();
+    }
+}
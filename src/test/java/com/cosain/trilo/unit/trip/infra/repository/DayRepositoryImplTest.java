@@ -152,6 +152,51 @@ public class DayRepositoryImplTest extends RepositoryTest {
         }
     }
 
+    @Test
+    @DisplayName("increaseScheduleCount -> 최대 일정 수보다 작을 때만 1 증가하고, 가득 차면 false")
+    void testIncreaseScheduleCount() {
+        // given
+        Long tripperId = setupTripperId();
+        Trip trip = setupDecidedTrip(tripperId, LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 1));
+        Day day = trip.getDays().get(0);
+        flushAndClear();
+
+        // when : 최대 일정 수보다 한 번 더 증가 시도
+        int succeeded = 0;
+        for (int i = 0; i <= Day.MAX_DAY_SCHEDULE_COUNT; i++) {
+            if (dayRepository.increaseScheduleCount(day.getId())) {
+                succeeded++;
+            }
+        }
+        flushAndClear();
+
+        // then
+        assertThat(succeeded).isEqualTo(Day.MAX_DAY_SCHEDULE_COUNT);
+        assertThat(em.find(Day.class, day.getId()).getScheduleCount()).isEqualTo(Day.MAX_DAY_SCHEDULE_COUNT);
+    }
+
+    @Test
+    @DisplayName("refreshScheduleCounts -> 전달한 Day들의 일정 수를 실제 일정 수로 다시 계산")
+    void testRefreshScheduleCounts() {
+        // given : 일정 2개가 있지만 일정 수는 0인 Day, 일정이 없지만 일정 수는 1인 Day
+        Long tripperId = setupTripperId();
+        Trip trip = setupDecidedTrip(tripperId, LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 2));
+        Day day1 = trip.getDays().get(0);
+        Day day2 = trip.getDays().get(1);
+        setupDaySchedule(trip, day1, 0L);
+        setupDaySchedule(trip, day1, 1L);
+        flushAndClear();
+        dayRepository.increaseScheduleCount(day2.getId());
+
+        // when
+        dayRepository.refreshScheduleCounts(List.of(day1.getId(), day2.getId()));
+        flushAndClear();
+
+        // then
+        assertThat(em.find(Day.class, day1.getId()).getScheduleCount()).isEqualTo(2);
+        assertThat(em.find(Day.class, day2.getId()).getScheduleCount()).isZero();
+    }
+
     /**
      * 전달받은 id들에 해당하는 Day들을 모두 조회합니다.
      * @param dayIds Day의 id들
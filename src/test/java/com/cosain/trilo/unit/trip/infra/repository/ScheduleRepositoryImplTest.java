@@ -2,10 +2,13 @@ package com.cosain.trilo.unit.trip.infra.repository;
 
 import com.cosain.trilo.fixture.ScheduleFixture;
 import com.cosain.trilo.support.RepositoryTest;
+import com.cosain.trilo.trip.domain.dto.ScheduleMoveNeighbors;
+import com.cosain.trilo.trip.domain.dto.SchedulePosition;
 import com.cosain.trilo.trip.domain.entity.Day;
 import com.cosain.trilo.trip.domain.entity.Schedule;
 import com.cosain.trilo.trip.domain.entity.Trip;
 import com.cosain.trilo.trip.domain.vo.ScheduleIndex;
+import com.cosain.trilo.trip.domain.vo.ScheduleIndexMode;
 import com.cosain.trilo.trip.infra.repository.ScheduleRepositoryImpl;
 import com.cosain.trilo.trip.infra.repository.TripRepositoryImpl;
 import jakarta.persistence.PersistenceException;
@@ -17,8 +20,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.cosain.trilo.trip.domain.vo.ScheduleIndex.DEFAULT_SEQUENCE_GAP;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -283,6 +289,66 @@ public class ScheduleRepositoryImplTest extends RepositoryTest {
                             7L, -1L, 5L);
         }
 
+        /**
+         * 일정이 많을 때도 순서값 오름차순대로 0, 1000만, 2000만, ... 으로 빠짐없이 재배치되는지 테스트합니다.
+         */
+        @DisplayName("일정이 많은 임시보관함 재갱신 -> 기존 순서대로 균등 재배치")
+        @Test
+        void relocateManySchedules() {
+            // given
+            Long tripperId = setupTripperId();
+            Trip trip = setupUndecidedTrip(tripperId);
+
+            int scheduleCount = 50;
+            List<Schedule> schedules = new ArrayList<>();
+            for (int i = 0; i < scheduleCount; i++) {
+                schedules.add(setupTemporarySchedule(trip, (scheduleCount - i) * 3L)); // 나중에 만든 일정일수록 앞섬
+            }
+
+            // when
+            int affectedRowCount = scheduleRepositoryImpl.relocateDaySchedules(trip.getId(), null);
+
+            // then
+            Map<Long, Long> indexById = findAllScheduleByIds(schedules.stream().map(Schedule::getId).toList()).stream()
+                    .collect(Collectors.toMap(Schedule::getId, schedule -> schedule.getScheduleIndex().getValue()));
+
+            assertThat(affectedRowCount).isEqualTo(scheduleCount);
+            for (int i = 0; i < scheduleCount; i++) {
+                assertThat(indexById.get(schedules.get(i).getId())).isEqualTo((scheduleCount - 1 - i) * DEFAULT_SEQUENCE_GAP);
+            }
+        }
+
+        /**
+         * 순서값이 같고 순서 키로 구분되는 일정들이, (순서값, 순서 키) 순서대로 재배치되고 순서 키는 비워지는지 테스트합니다.
+         */
+        @DisplayName("순서 키가 있는 임시보관함 재갱신 -> (순서값, 순서 키) 순서대로 재배치되고 순서 키 초기화")
+        @Test
+        void relocateSchedulesWithOrderKey() {
+            // given
+            Long tripperId = setupTripperId();
+            Trip trip = setupUndecidedTrip(tripperId);
+            Schedule schedule1 = setupTemporarySchedule(trip, 10L);
+            Schedule schedule2 = setupTemporarySchedule(trip, 11L);
+            Schedule schedule3 = setupTemporarySchedule(trip, 20L);
+            flushAndClear();
+
+            Trip findTrip = em.find(Trip.class, trip.getId());
+            findTrip.moveSchedule(em.find(Schedule.class, schedule3.getId()), null, 1, ScheduleIndexMode.FRACTIONAL); // (10, "i")
+            flushAndClear();
+
+            // when
+            int affectedRowCount = scheduleRepositoryImpl.relocateDaySchedules(trip.getId(), null);
+
+            // then
+            Map<Long, ScheduleIndex> indexById = findAllScheduleByIds(List.of(schedule1.getId(), schedule2.getId(), schedule3.getId())).stream()
+                    .collect(Collectors.toMap(Schedule::getId, Schedule::getScheduleIndex));
+
+            assertThat(affectedRowCount).isEqualTo(3);
+            assertThat(indexById.get(schedule1.getId())).isEqualTo(ScheduleIndex.of(0L));
+            assertThat(indexById.get(schedule3.getId())).isEqualTo(ScheduleIndex.of(DEFAULT_SEQUENCE_GAP));
+            assertThat(indexById.get(schedule2.getId())).isEqualTo(ScheduleIndex.of(DEFAULT_SEQUENCE_GAP * 2));
+        }
+
     }
 
     /**
@@ -551,6 +617,247 @@ public class ScheduleRepositoryImplTest extends RepositoryTest {
         }
     }
 
+    /**
+     * Day 또는 임시보관함의 가장 작은 순서값 간격을 가져오는 기능 테스트
+     * @see ScheduleRepositoryImpl#findMinScheduleIndexGap(Long, Long)
+     */
+    @Nested
+    @DisplayName("findMinScheduleIndexGap : 이웃한 일정 사이의 가장 작은 순서값 간격을 가져온다.")
+    class FindMinScheduleIndexGapTest {
+
+        @DisplayName("일정이 2개 미만 -> null 반환")
+        @Test
+        void singleScheduleTest() {
+            // given
+            Long tripperId = setupTripperId();
+            Trip trip = setupUndecidedTrip(tripperId);
+            setupTemporarySchedule(trip, 0L);
+            flushAndClear();
+
+            // when
+            Long minGap = scheduleRepositoryImpl.findMinScheduleIndexGap(trip.getId(), null);
+
+            // then
+            assertThat(minGap).isNull();
+        }
+
+        @DisplayName("Day의 일정 순서값 0, 100, 130, 1000 -> 30 반환 (다른 Day, 임시보관함 일정은 무관)")
+        @Test
+        void dayScheduleTest() {
+            // given
+            Long tripperId = setupTripperId();
+            LocalDate startDate = LocalDate.of(2023, 3, 1);
+            LocalDate endDate = LocalDate.of(2023, 3, 2);
+
+            Trip trip = setupDecidedTrip(tripperId, startDate, endDate);
+            Day day1 = trip.getDays().get(0);
+            Day day2 = trip.getDays().get(1);
+
+            setupDaySchedule(trip, day1, 1000L);
+            setupDaySchedule(trip, day1, 0L);
+            setupDaySchedule(trip, day1, 130L);
+            setupDaySchedule(trip, day1, 100L);
+            setupDaySchedule(trip, day2, 101L);
+            setupTemporarySchedule(trip, 131L);
+            flushAndClear();
+
+            // when
+            Long minGap = scheduleRepositoryImpl.findMinScheduleIndexGap(trip.getId(), day1.getId());
+
+            // then
+            assertThat(minGap).isEqualTo(30L);
+        }
+
+        @DisplayName("임시보관함의 일정 순서값 -50, 0, 7 -> 7 반환")
+        @Test
+        void temporaryStorageTest() {
+            // given
+            Long tripperId = setupTripperId();
+            Trip trip = setupUndecidedTrip(tripperId);
+            setupTemporarySchedule(trip, 0L);
+            setupTemporarySchedule(trip, -50L);
+            setupTemporarySchedule(trip, 7L);
+            flushAndClear();
+
+            // when
+            Long minGap = scheduleRepositoryImpl.findMinScheduleIndexGap(trip.getId(), null);
+
+            // then
+            assertThat(minGap).isEqualTo(7L);
+        }
+
+        @DisplayName("순서값이 같고 순서 키만 다른 일정이 있으면 -> 0 반환")
+        @Test
+        void sameValueWithOrderKeyTest() {
+            // given
+            Long tripperId = setupTripperId();
+            Trip trip = setupUndecidedTrip(tripperId);
+            setupTemporarySchedule(trip, 10L);
+            setupTemporarySchedule(trip, 11L);
+            Schedule schedule = setupTemporarySchedule(trip, 20L);
+            flushAndClear();
+
+            Trip findTrip = em.find(Trip.class, trip.getId());
+            findTrip.moveSchedule(em.find(Schedule.class, schedule.getId()), null, 1, ScheduleIndexMode.FRACTIONAL); // (10, "i")
+            flushAndClear();
+
+            // when
+            Long minGap = scheduleRepositoryImpl.findMinScheduleIndexGap(trip.getId(), null);
+
+            // then
+            assertThat(minGap).isEqualTo(0L);
+        }
+    }
+
+    @Nested
+    @DisplayName("findScheduleMoveNeighbors (일정 이동에 필요한 도착지 정보 조회)")
+    class FindScheduleMoveNeighborsTest {
+
+        @DisplayName("Day의 일정 순서값 0, 100, 200, 300, 400 중 300을 2번 순서로 -> 갯수, 현재 순서, 맨 앞/맨 뒤, 대상 순서 주변 순서값 반환")
+        @Test
+        void dayTest() {
+            // given
+            Long tripperId = setupTripperId();
+            LocalDate startDate = LocalDate.of(2023, 3, 1);
+            LocalDate endDate = LocalDate.of(2023, 3, 2);
+
+            Trip trip = setupDecidedTrip(tripperId, startDate, endDate);
+            Day day1 = trip.getDays().get(0);
+            Day day2 = trip.getDays().get(1);
+
+            setupDaySchedule(trip, day1, 400L);
+            setupDaySchedule(trip, day1, 0L);
+            Schedule moveSchedule = setupDaySchedule(trip, day1, 300L);
+            setupDaySchedule(trip, day1, 200L);
+            setupDaySchedule(trip, day1, 100L);
+            setupDaySchedule(trip, day2, 150L);
+            setupTemporarySchedule(trip, 250L);
+            flushAndClear();
+
+            // when
+            ScheduleMoveNeighbors neighbors = scheduleRepositoryImpl.findScheduleMoveNeighbors(trip.getId(), day1.getId(), moveSchedule.getId(), 2);
+
+            // then
+            assertThat(neighbors.getScheduleCount()).isEqualTo(5);
+            assertThat(neighbors.getCurrentOrder()).isEqualTo(3);
+            assertThat(neighbors.getHeadIndex()).isEqualTo(ScheduleIndex.of(0L));
+            assertThat(neighbors.getTailIndex()).isEqualTo(ScheduleIndex.of(400L));
+            assertThat(neighbors.getPreviousIndex()).isEqualTo(ScheduleIndex.of(100L));
+            assertThat(neighbors.getTargetIndex()).isEqualTo(ScheduleIndex.of(200L));
+        }
+
+        @DisplayName("다른 곳의 일정을 임시보관함 맨 뒤로 -> 현재 순서 없음, 대상 순서의 순서값 없음")
+        @Test
+        void temporaryStorageTest() {
+            // given
+            Long tripperId = setupTripperId();
+            LocalDate startDate = LocalDate.of(2023, 3, 1);
+            LocalDate endDate = LocalDate.of(2023, 3, 1);
+
+            Trip trip = setupDecidedTrip(tripperId, startDate, endDate);
+            Day day = trip.getDays().get(0);
+
+            Schedule moveSchedule = setupDaySchedule(trip, day, 0L);
+            setupTemporarySchedule(trip, -10L);
+            setupTemporarySchedule(trip, 10L);
+            flushAndClear();
+
+            // when
+            ScheduleMoveNeighbors neighbors = scheduleRepositoryImpl.findScheduleMoveNeighbors(trip.getId(), null, moveSchedule.getId(), 2);
+
+            // then
+            assertThat(neighbors.getScheduleCount()).isEqualTo(2);
+            assertThat(neighbors.getCurrentOrder()).isNull();
+            assertThat(neighbors.getHeadIndex()).isEqualTo(ScheduleIndex.of(-10L));
+            assertThat(neighbors.getTailIndex()).isEqualTo(ScheduleIndex.of(10L));
+            assertThat(neighbors.getPreviousIndex()).isEqualTo(ScheduleIndex.of(10L));
+            assertThat(neighbors.getTargetIndex()).isNull();
+        }
+
+        @DisplayName("빈 임시보관함 -> 갯수 0, 순서값 없음")
+        @Test
+        void emptyTest() {
+            // given
+            Long tripperId = setupTripperId();
+            Trip trip = setupUndecidedTrip(tripperId);
+            flushAndClear();
+
+            // when
+            ScheduleMoveNeighbors neighbors = scheduleRepositoryImpl.findScheduleMoveNeighbors(trip.getId(), null, 1L, 0);
+
+            // then
+            assertThat(neighbors.getScheduleCount()).isZero();
+            assertThat(neighbors.getCurrentOrder()).isNull();
+            assertThat(neighbors.getHeadIndex()).isNull();
+            assertThat(neighbors.getTailIndex()).isNull();
+            assertThat(neighbors.generateHeadIndex()).isEqualTo(ScheduleIndex.ZERO_INDEX);
+        }
+    }
+
+    @Nested
+    class UpdateSchedulePositionsTest {
+
+        @DisplayName("여행의 일정마다 현재 속한 Day id 조회 -> 임시보관함의 일정은 null")
+        @Test
+        void findScheduleDayIdsTest() {
+            // given
+            Long tripperId = setupTripperId();
+            Trip trip = setupDecidedTrip(tripperId, LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 1));
+            Day day = trip.getDays().get(0);
+            Schedule daySchedule = setupDaySchedule(trip, day, 0L);
+            Schedule temporarySchedule = setupTemporarySchedule(trip, 0L);
+
+            Trip otherTrip = setupUndecidedTrip(tripperId);
+            setupTemporarySchedule(otherTrip, 0L);
+            flushAndClear();
+
+            // when
+            Map<Long, Long> dayIdBySchedule = scheduleRepositoryImpl.findScheduleDayIds(trip.getId());
+
+            // then
+            assertThat(dayIdBySchedule).hasSize(2);
+            assertThat(dayIdBySchedule.get(daySchedule.getId())).isEqualTo(day.getId());
+            assertThat(dayIdBySchedule).containsKey(temporarySchedule.getId());
+            assertThat(dayIdBySchedule.get(temporarySchedule.getId())).isNull();
+        }
+
+        @DisplayName("일정들의 Day와 순서값을 한 번에 변경 -> 순서 키는 비워지고, 다른 여행의 일정은 변경되지 않음")
+        @Test
+        void updateTest() {
+            // given
+            Long tripperId = setupTripperId();
+            Trip trip = setupDecidedTrip(tripperId, LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 1));
+            Day day = trip.getDays().get(0);
+            Schedule schedule1 = setupDaySchedule(trip, day, 0L);
+            Schedule schedule2 = setupTemporarySchedule(trip, 0L);
+
+            Trip otherTrip = setupUndecidedTrip(tripperId);
+            Schedule otherTripSchedule = setupTemporarySchedule(otherTrip, 0L);
+            flushAndClear();
+            em.createNativeQuery("UPDATE schedules SET schedule_order_key = 'i' WHERE schedule_id = :scheduleId")
+                    .setParameter("scheduleId", schedule1.getId())
+                    .executeUpdate();
+
+            // when : 임시보관함 [2, 1], 다른 여행의 일정은 여행 id가 달라서 무시됨
+            int updatedCount = scheduleRepositoryImpl.updateSchedulePositions(trip.getId(), List.of(
+                    SchedulePosition.of(schedule2.getId(), null, 0),
+                    SchedulePosition.of(schedule1.getId(), null, 1),
+                    SchedulePosition.of(otherTripSchedule.getId(), day.getId(), 0)));
+            em.clear();
+
+            // then
+            Schedule findSchedule1 = em.find(Schedule.class, schedule1.getId());
+            Schedule findSchedule2 = em.find(Schedule.class, schedule2.getId());
+            Schedule findOtherTripSchedule = em.find(Schedule.class, otherTripSchedule.getId());
+
+            assertThat(updatedCount).isEqualTo(2);
+            assertThat(findSchedule1.getDay()).isNull();
+            assertThat(findSchedule1.getScheduleIndex()).isEqualTo(ScheduleIndex.of(DEFAULT_SEQUENCE_GAP));
+            assertThat(findSchedule2.getScheduleIndex()).isEqualTo(ScheduleIndex.ZERO_INDEX);
+            assertThat(findOtherTripSchedule.getDay()).isNull();
+        }
+    }
+
     @Nested
     class deleteAllByTripIdsTest {
         @Test
@@ -0,0 +1,83 @@
+package com.cosain.trilo.unit.trip.infra.repository;
+
+import com.cosain.trilo.support.RepositoryTest;
+import com.cosain.trilo.trip.domain.entity.Trip;
+import com.cosain.trilo.trip.infra.repository.TripLikeRepositoryImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TripLikeRepositoryImpl 테스트")
+public class TripLikeRepositoryImplTest extends RepositoryTest {
+
+    @Autowired
+    private TripLikeRepositoryImpl tripLikeRepositoryImpl;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("같은 사용자가 같은 여행에 두 번 좋아요 하면 두 번째는 등록되지 않는다")
+    void save_twice() {
+        // given
+        Long tripperId = setupTripperId();
+        Trip trip = setupUndecidedTrip(tripperId);
+        em.flush();
+
+        // when
+        boolean first = tripLikeRepositoryImpl.save(trip.getId(), 10L);
+        boolean second = tripLikeRepositoryImpl.save(trip.getId(), 10L);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(countLikes(trip.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("좋아요를 삭제하면 true, 좋아요 하지 않은 여행이면 false 를 반환한다")
+    void delete() {
+        // given
+        Long tripperId = setupTripperId();
+        Trip trip = setupUndecidedTrip(tripperId);
+        em.flush();
+        tripLikeRepositoryImpl.save(trip.getId(), 10L);
+
+        // when & then
+        assertThat(tripLikeRepositoryImpl.delete(trip.getId(), 10L)).isTrue();
+        assertThat(tripLikeRepositoryImpl.delete(trip.getId(), 10L)).isFalse();
+        assertThat(countLikes(trip.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 여행의 좋아요를 한 번에 삭제한다")
+    void deleteAllByTripIds() {
+        // given
+        Long tripperId = setupTripperId();
+        Trip trip1 = setupUndecidedTrip(tripperId);
+        Trip trip2 = setupUndecidedTrip(tripperId);
+        Trip trip3 = setupUndecidedTrip(tripperId);
+        em.flush();
+        tripLikeRepositoryImpl.save(trip1.getId(), 10L);
+        tripLikeRepositoryImpl.save(trip2.getId(), 10L);
+        tripLikeRepositoryImpl.save(trip2.getId(), 11L);
+        tripLikeRepositoryImpl.save(trip3.getId(), 10L);
+
+        // when
+        tripLikeRepositoryImpl.deleteAllByTripIds(List.of(trip1.getId(), trip2.getId()));
+
+        // then
+        assertThat(countLikes(trip1.getId())).isZero();
+        assertThat(countLikes(trip2.getId())).isZero();
+        assertThat(countLikes(trip3.getId())).isEqualTo(1);
+    }
+
+    private int countLikes(Long tripId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM trip_like WHERE trip_id = ?", Integer.class, tripId);
+    }
+}
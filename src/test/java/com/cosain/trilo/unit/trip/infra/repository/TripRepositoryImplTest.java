@@ -157,4 +157,83 @@ public class TripRepositoryImplTest extends RepositoryTest {
             assertThat(trips).isEmpty();
         }
     }
+
+    @Test
+    @DisplayName("increaseVersion -> 여행의 버전이 1 증가하고, 다른 여행의 버전은 그대로")
+    void testIncreaseVersion() {
+        // given
+        Long tripperId = setupTripperId();
+        Trip trip = setupUndecidedTrip(tripperId);
+        Trip otherTrip = setupUndecidedTrip(tripperId);
+        flushAndClear();
+
+        // when
+        tripRepositoryImpl.increaseVersion(trip.getId());
+        tripRepositoryImpl.increaseVersion(trip.getId());
+        flushAndClear();
+
+        // then
+        assertThat(tripRepositoryImpl.findById(trip.getId()).orElseThrow().getVersion()).isEqualTo(2L);
+        assertThat(tripRepositoryImpl.findById(otherTrip.getId()).orElseThrow().getVersion()).isZero();
+    }
+
+    @Test
+    @DisplayName("increaseVersion(기대 버전) -> 기대한 버전일 때만 1 증가하고, 이미 바뀌었으면 false")
+    void testIncreaseVersionIfMatches() {
+        // given
+        Long tripperId = setupTripperId();
+        Trip trip = setupUndecidedTrip(tripperId);
+        flushAndClear();
+
+        // when
+        boolean firstResult = tripRepositoryImpl.increaseVersion(trip.getId(), 0L);
+        boolean staleResult = tripRepositoryImpl.increaseVersion(trip.getId(), 0L);
+        flushAndClear();
+
+        // then
+        assertThat(firstResult).isTrue();
+        assertThat(staleResult).isFalse();
+        assertThat(tripRepositoryImpl.findById(trip.getId()).orElseThrow().getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("increaseScheduleCount -> 최대 일정 수보다 작을 때만 1 증가하고, 가득 차면 false")
+    void testIncreaseScheduleCount() {
+        // given : 일정 수가 최대보다 1 작은 여행
+        Long tripperId = setupTripperId();
+        Trip trip = setupUndecidedTrip(tripperId);
+        em.createNativeQuery("UPDATE trip SET trip_schedule_count = :count WHERE trip_id = :tripId")
+                .setParameter("count", Trip.MAX_TRIP_SCHEDULE_COUNT - 1)
+                .setParameter("tripId", trip.getId())
+                .executeUpdate();
+        flushAndClear();
+
+        // when
+        boolean firstResult = tripRepositoryImpl.increaseScheduleCount(trip.getId());
+        boolean fullResult = tripRepositoryImpl.increaseScheduleCount(trip.getId());
+        flushAndClear();
+
+        // then
+        assertThat(firstResult).isTrue();
+        assertThat(fullResult).isFalse();
+        assertThat(tripRepositoryImpl.findById(trip.getId()).orElseThrow().getScheduleCount()).isEqualTo(Trip.MAX_TRIP_SCHEDULE_COUNT);
+    }
+
+    @Test
+    @DisplayName("decreaseScheduleCount -> 1 감소하고, 0 아래로는 내려가지 않음")
+    void testDecreaseScheduleCount() {
+        // given
+        Long tripperId = setupTripperId();
+        Trip trip = setupUndecidedTrip(tripperId);
+        flushAndClear();
+        tripRepositoryImpl.increaseScheduleCount(trip.getId());
+
+        // when
+        tripRepositoryImpl.decreaseScheduleCount(trip.getId());
+        tripRepositoryImpl.decreaseScheduleCount(trip.getId());
+        flushAndClear();
+
+        // then
+        assertThat(tripRepositoryImpl.findById(trip.getId()).orElseThrow().getScheduleCount()).isZero();
+    }
 }
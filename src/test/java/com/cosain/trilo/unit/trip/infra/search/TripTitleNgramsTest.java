@@ -0,0 +1,38 @@
+package com.cosain.trilo.unit.trip.infra.search;
+
+import com.cosain.trilo.trip.infra.search.TripTitleNgrams;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TripTitleNgrams 테스트")
+class TripTitleNgramsTest {
+
+    @Test
+    @DisplayName("제목을 글자 단위로 겹쳐 2글자씩 자른다")
+    void bigrams() {
+        assertThat(TripTitleNgrams.bigrams("제주도 여행")).containsExactly("제주", "주도", "도 ", " 여", "여행");
+    }
+
+    @Test
+    @DisplayName("중복된 bigram 은 한 번만 포함된다")
+    void bigrams_distinct() {
+        assertThat(TripTitleNgrams.bigrams("하하하하")).containsExactly("하하");
+    }
+
+    @Test
+    @DisplayName("2글자 미만이면 빈 집합을 반환하고 색인 대상이 아니다")
+    void too_short() {
+        assertThat(TripTitleNgrams.bigrams("제")).isEmpty();
+        assertThat(TripTitleNgrams.bigrams(null)).isEmpty();
+        assertThat(TripTitleNgrams.isIndexable("제")).isFalse();
+        assertThat(TripTitleNgrams.isIndexable("제주")).isTrue();
+    }
+
+    @Test
+    @DisplayName("보조 문자(이모지)는 한 글자로 취급한다")
+    void surrogate_pair() {
+        assertThat(TripTitleNgrams.bigrams("🍊제주")).containsExactly("🍊제", "제주");
+    }
+}
@@ -0,0 +1,133 @@
+package com.cosain.trilo.unit.trip.infra.search;
+
+import com.cosain.trilo.fixture.TripFixture;
+import com.cosain.trilo.support.RepositoryTest;
+import com.cosain.trilo.trip.domain.entity.Trip;
+import com.cosain.trilo.trip.domain.vo.TripTitle;
+import com.cosain.trilo.trip.infra.repository.TripRepositoryImpl;
+import com.cosain.trilo.trip.infra.search.TripTitleSearchIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TripTitleSearchIndex 테스트")
+public class TripTitleSearchIndexTest extends RepositoryTest {
+
+    @Autowired
+    private TripTitleSearchIndex tripTitleSearchIndex;
+
+    @Autowired
+    private TripRepositoryImpl tripRepositoryImpl;
+
+    @Test
+    @DisplayName("여행을 저장하면 제목의 bigram 을 모두 가진 여행이 후보로 조회된다")
+    void index_on_persist() {
+        // given
+        Long tripperId = setupTripperId();
+        Trip trip1 = setupTrip(tripperId, "제주도 여행");
+        Trip trip2 = setupTrip(tripperId, "재미있는 제주 1박 2일!");
+        setupTrip(tripperId, "부산 여행");
+        em.flush();
+
+        // when
+        List<Long> candidates = tripTitleSearchIndex.findCandidateTripIds("제주", null, 10);
+
+        // then
+        assertThat(candidates).containsExactly(trip2.getId(), trip1.getId());
+    }
+
+    @Test
+    @DisplayName("커서(tripId) 미만의 후보만 limit 개 조회된다")
+    void cursor_and_limit() {
+        // given
+        Long tripperId = setupTripperId();
+        Trip trip1 = setupTrip(tripperId, "제주 여행 1");
+        Trip trip2 = setupTrip(tripperId, "제주 여행 2");
+        Trip trip3 = setupTrip(tripperId, "제주 여행 3");
+        setupTrip(tripperId, "제주 여행 4");
+        em.flush();
+
+        // when
+        List<Long> candidates = tripTitleSearchIndex.findCandidateTripIds("제주 여행", trip3.getId() + 1, 2);
+
+        // then
+        assertThat(candidates).containsExactly(trip3.getId(), trip2.getId());
+        assertThat(tripTitleSearchIndex.findCandidateTripIds("제주 여행", trip2.getId(), 10)).containsExactly(trip1.getId());
+    }
+
+    @Test
+    @DisplayName("제목이 변경되면 이전 제목으로는 조회되지 않고 새 제목으로 조회된다")
+    void reindex_on_title_change() {
+        // given
+        Long tripperId = setupTripperId();
+        Trip trip = setupTrip(tripperId, "제주도 여행");
+        em.flush();
+
+        // when
+        trip.changeTitle(TripTitle.of("강릉 바다"));
+        em.flush();
+
+        // then
+        assertThat(tripTitleSearchIndex.findCandidateTripIds("제주", null, 10)).isEmpty();
+        assertThat(tripTitleSearchIndex.findCandidateTripIds("강릉", null, 10)).containsExactly(trip.getId());
+    }
+
+    @Test
+    @DisplayName("여행을 삭제하면 색인에서도 제거된다")
+    void remove_on_delete() {
+        // given
+        Long tripperId = setupTripperId();
+        Trip trip = setupTrip(tripperId, "제주도 여행");
+        em.flush();
+
+        // when
+        em.remove(trip);
+        em.flush();
+
+        // then
+        assertThat(tripTitleSearchIndex.findCandidateTripIds("제주", null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사용자의 여행을 벌크 삭제하면 해당 사용자 여행의 색인만 제거된다")
+    void remove_on_bulk_delete() {
+        // given
+        Long tripperId = setupTripperId();
+        Long otherTripperId = setupTripperId();
+        setupTrip(tripperId, "제주도 여행");
+        Trip otherTrip = setupTrip(otherTripperId, "제주 한달 살기");
+        em.flush();
+
+        // when
+        tripRepositoryImpl.deleteAllByTripperId(tripperId);
+
+        // then
+        assertThat(tripTitleSearchIndex.findCandidateTripIds("제주", null, 10)).containsExactly(otherTrip.getId());
+    }
+
+    @Test
+    @DisplayName("재구성하면 색인이 없던 여행도 조회된다")
+    void rebuild() {
+        // given
+        Long tripperId = setupTripperId();
+        Trip trip = setupTrip(tripperId, "제주도 여행");
+        em.flush();
+        tripTitleSearchIndex.remove(trip.getId());
+
+        // when
+        tripTitleSearchIndex.rebuild();
+
+        // then
+        assertThat(tripTitleSearchIndex.findCandidateTripIds("제주", null, 10)).containsExactly(trip.getId());
+    }
+
+    private Trip setupTrip(Long tripperId, String title) {
+        Trip trip = TripFixture.undecided_nullId_Title(tripperId, title);
+        em.persist(trip);
+        return trip;
+    }
+}
@@ -0,0 +1,151 @@
+package com.cosain.trilo.unit.trip.infra.statistics;
+
+import com.cosain.trilo.support.RepositoryTest;
+import com.cosain.trilo.trip.domain.entity.Trip;
+import com.cosain.trilo.trip.domain.vo.TripPeriod;
+import com.cosain.trilo.trip.infra.dao.querydsl.QuerydslTripQueryRepository;
+import com.cosain.trilo.trip.infra.dto.TripStatistics;
+import com.cosain.trilo.trip.infra.repository.TripRepositoryImpl;
+import com.cosain.trilo.trip.infra.statistics.TripStatisticsStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TripStatisticsStore 테스트")
+public class TripStatisticsStoreTest extends RepositoryTest {
+
+    /**
+     * 테스트용 Clock 의 오늘 날짜 (통계 행의 기준일)
+     */
+    private static final LocalDate TODAY = LocalDate.of(2023, 4, 28);
+
+    @Autowired
+    private TripStatisticsStore tripStatisticsStore;
+
+    @Autowired
+    private QuerydslTripQueryRepository querydslTripQueryRepository;
+
+    @Autowired
+    private TripRepositoryImpl tripRepositoryImpl;
+
+    @Test
+    @DisplayName("여행 생성/기간 변경/삭제 후 증감된 통계는 trip 테이블을 다시 센 결과와 같다")
+    void incremental_statistics_match_full_recount() {
+        // given
+        Long tripperId = setupTripperId();
+        Long otherTripperId = setupTripperId();
+        setupDecidedTrip(tripperId, TODAY.minusDays(5), TODAY.minusDays(3));
+        setupDecidedTrip(tripperId, TODAY.plusDays(1), TODAY.plusDays(2));
+        Trip becomesTerminatedTrip = setupUndecidedTrip(tripperId);
+        Trip deletedTerminatedTrip = setupDecidedTrip(tripperId, TODAY.minusDays(2), TODAY.minusDays(1));
+        Trip deletedUndecidedTrip = setupUndecidedTrip(tripperId);
+        setupDecidedTrip(otherTripperId, TODAY.minusDays(5), TODAY.minusDays(3));
+        em.flush();
+
+        becomesTerminatedTrip.changePeriod(TripPeriod.of(TODAY.minusDays(9), TODAY.minusDays(8)))
+                .getCreatedDays()
+                .forEach(em::persist);
+        deletedTerminatedTrip.getDays().forEach(em::remove);
+        em.remove(deletedTerminatedTrip);
+        em.remove(deletedUndecidedTrip);
+        em.flush();
+
+        // when
+        TripStatistics incremental = tripStatisticsStore.find(tripperId, TODAY).orElseThrow();
+        TripStatistics recounted = querydslTripQueryRepository.findTripStaticsByTripperId(tripperId, TODAY);
+        tripStatisticsStore.reconcile(TODAY);
+        TripStatistics reconciled = tripStatisticsStore.find(tripperId, TODAY).orElseThrow();
+
+        // then
+        assertThat(incremental.getTotalTripCnt()).isEqualTo(3L);
+        assertThat(incremental.getTerminatedTripCnt()).isEqualTo(2L);
+        assertThat(recounted.getTotalTripCnt()).isEqualTo(incremental.getTotalTripCnt());
+        assertThat(recounted.getTerminatedTripCnt()).isEqualTo(incremental.getTerminatedTripCnt());
+        assertThat(reconciled.getTotalTripCnt()).isEqualTo(incremental.getTotalTripCnt());
+        assertThat(reconciled.getTerminatedTripCnt()).isEqualTo(incremental.getTerminatedTripCnt());
+        assertThat(tripStatisticsStore.find(otherTripperId, TODAY).orElseThrow().getTotalTripCnt()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("기준일 이후 날짜로 조회하면 그 사이에 끝난 여행까지 종료된 여행으로 센다")
+    void find_after_terminated_as_of() {
+        // given
+        Long tripperId = setupTripperId();
+        setupDecidedTrip(tripperId, TODAY.minusDays(2), TODAY.minusDays(1));
+        setupDecidedTrip(tripperId, TODAY, TODAY);
+        setupDecidedTrip(tripperId, TODAY, TODAY.plusDays(1));
+        setupDecidedTrip(tripperId, TODAY.plusDays(3), TODAY.plusDays(4));
+        em.flush();
+
+        // when
+        TripStatistics statistics = tripStatisticsStore.find(tripperId, TODAY.plusDays(2)).orElseThrow();
+
+        // then
+        assertThat(statistics.getTotalTripCnt()).isEqualTo(4L);
+        assertThat(statistics.getTerminatedTripCnt()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("통계 행이 없는 사용자가 여행을 만들면, 기존 여행까지 다시 세어 통계를 만든다")
+    void increase_without_statistics_row_recounts_existing_trips() {
+        // given : 통계 도입 전에 만들어진 여행 2개
+        Long tripperId = setupTripperId();
+        setupDecidedTrip(tripperId, TODAY.minusDays(5), TODAY.minusDays(3));
+        setupUndecidedTrip(tripperId);
+        em.flush();
+        em.createNativeQuery("DELETE FROM trip_statistics WHERE tripper_id = ?")
+                .setParameter(1, tripperId)
+                .executeUpdate();
+
+        // when
+        setupDecidedTrip(tripperId, TODAY.plusDays(1), TODAY.plusDays(2));
+        em.flush();
+
+        // then
+        TripStatistics statistics = tripStatisticsStore.find(tripperId, TODAY).orElseThrow();
+        assertThat(statistics.getTotalTripCnt()).isEqualTo(3L);
+        assertThat(statistics.getTerminatedTripCnt()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("기준일을 옮기면 그 사이에 끝난 여행이 누적되고, 같은 날짜로 다시 옮겨도 결과가 같다")
+    void roll_over_is_idempotent() {
+        // given
+        Long tripperId = setupTripperId();
+        setupDecidedTrip(tripperId, TODAY.minusDays(2), TODAY.minusDays(1));
+        setupDecidedTrip(tripperId, TODAY, TODAY);
+        setupDecidedTrip(tripperId, TODAY.plusDays(3), TODAY.plusDays(4));
+        em.flush();
+        LocalDate nextDay = TODAY.plusDays(1);
+
+        // when
+        int firstRolledOver = tripStatisticsStore.rollOver(nextDay);
+        int secondRolledOver = tripStatisticsStore.rollOver(nextDay);
+        TripStatistics statistics = tripStatisticsStore.find(tripperId, nextDay).orElseThrow();
+
+        // then
+        assertThat(firstRolledOver).isPositive();
+        assertThat(secondRolledOver).isZero();
+        assertThat(statistics.getTotalTripCnt()).isEqualTo(3L);
+        assertThat(statistics.getTerminatedTripCnt()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("사용자의 여행을 벌크 삭제하면 통계도 제거된다")
+    void remove_on_bulk_delete() {
+        // given
+        Long tripperId = setupTripperId();
+        setupUndecidedTrip(tripperId);
+        em.flush();
+
+        // when
+        tripRepositoryImpl.deleteAllByTripperId(tripperId);
+
+        // then
+        assertThat(tripStatisticsStore.find(tripperId, TODAY)).isEmpty();
+    }
+}
@@ -0,0 +1,203 @@
+package com.cosain.trilo.unit.trip.presentation.schedule;
+
+import com.cosain.trilo.support.RestControllerTest;
+import com.cosain.trilo.trip.application.schedule.service.schedule_reorder.ScheduleReorderCommand;
+import com.cosain.trilo.trip.application.schedule.service.schedule_reorder.ScheduleReorderPlace;
+import com.cosain.trilo.trip.application.schedule.service.schedule_reorder.ScheduleReorderResult;
+import com.cosain.trilo.trip.application.schedule.service.schedule_reorder.ScheduleReorderService;
+import com.cosain.trilo.trip.presentation.schedule.ScheduleReorderController;
+import com.cosain.trilo.trip.presentation.schedule.dto.request.ScheduleReorderRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 일정 일괄 이동을 담당하는 Controller({@link ScheduleReorderController})의 테스트 코드 클래스입니다.
+ * @see ScheduleReorderController
+ */
+@DisplayName("일정 일괄 이동 API 테스트")
+@WebMvcTest(ScheduleReorderController.class)
+public class ScheduleReorderControllerTest extends RestControllerTest {
+
+    /**
+     * {@link ScheduleReorderController}의 의존성
+     */
+    @MockBean
+    private ScheduleReorderService scheduleReorderService;
+
+    /**
+     * 테스트에서 사용할 가짜 Authorization Header 값
+     */
+    private final static String ACCESS_TOKEN = "Bearer accessToken";
+
+    /**
+     * <p>일정 일괄 이동 요청을 했을 때, 컨트롤러 내부적으로 의도한 대로 동작하는 지 검증합니다.</p>
+     * <ul>
+     *     <li>일정 일괄 이동 성공 응답이 와야합니다. (200 OK, 본문 있음)</li>
+     *     <li>내부 의존성이 호출되어야 합니다</li>
+     * </ul>
+     */
+    @Test
+    @DisplayName("인증된 사용자의 올바른 요청 -> 일정 일괄 이동됨")
+    public void reorderSchedules_with_authorizedUser() throws Exception {
+        long requestTripperId = 1L;
+        mockingForLoginUserAnnotation(requestTripperId);
+        Long tripId = 1L;
+
+        var request = new ScheduleReorderRequest(List.of(
+                new ScheduleReorderRequest.Place(2L, List.of(3L, 1L)),
+                new ScheduleReorderRequest.Place(null, List.of(2L))));
+        var command = ScheduleReorderCommand.of(tripId, requestTripperId, List.of(
+                ScheduleReorderPlace.of(2L, List.of(3L, 1L)),
+                ScheduleReorderPlace.of(null, List.of(2L))));
+
+        given(scheduleReorderService.reorderSchedules(eq(command)))
+                .willReturn(ScheduleReorderResult.of(tripId, 3));
+
+        // when
+        ResultActions resultActions = runTest(tripId, createJson(request)); // 정상적으로 사용자가 일정 일괄 이동 요청했을 때
+
+        // then
+        resultActions
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tripId").value(tripId))
+                .andExpect(jsonPath("$.reorderedScheduleCount").value(3)); // 상태코드 및 응답 필드 검증
+
+        verify(scheduleReorderService, times(1)).reorderSchedules(eq(command)); // 내부 의존성 호출 검증
+    }
+
+    /**
+     * <p>Authorization Header에 토큰을 담지 않은 사용자가 요청하면 인증 실패 오류가 발생함을 검증합니다.</p>
+     * <ul>
+     *     <li>에러 응답이 와야합니다. (401 UnAuthorized, 토큰 없음)</li>
+     *     <li>내부 의존성이 호출되지 않아야합니다.</li>
+     * </ul>
+     */
+    @Test
+    @DisplayName("토큰 없는 사용자 요청 -> 인증 실패 401")
+    public void reorderSchedules_withoutToken() throws Exception {
+        Long tripId = 1L;
+        var request = new ScheduleReorderRequest(List.of(new ScheduleReorderRequest.Place(2L, List.of(3L, 1L))));
+
+        // when
+        ResultActions resultActions = mockMvc.perform(put("/api/trips/{tripId}/schedules/positions", tripId)
+                .content(createJson(request))
+                .characterEncoding(StandardCharsets.UTF_8)
+                .contentType(MediaType.APPLICATION_JSON)); // 토큰 없는 사용자의 요청
+
+        // then
+        resultActions
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.errorCode").value("auth-0001"))
+                .andExpect(jsonPath("$.errorMessage").exists())
+                .andExpect(jsonPath("$.errorDetail").exists()); // 상태 코드 및 에러 응답 검증
+
+        verify(scheduleReorderService, times(0)).reorderSchedules(any(ScheduleReorderCommand.class)); // 서비스 호출 안 함 검증
+    }
+
+    /**
+     * <p>같은 일정 id가 두 번 포함된 요청 시, 입력 검증 예외가 발생하는 지 검증합니다.</p>
+     * <ul>
+     *     <li>에러 응답이 와야합니다. (400 Bad Request, 입력 검증 에러)</li>
+     *     <li>내부 의존성이 호출되지 않아야합니다.</li>
+     * </ul>
+     */
+    @Test
+    @DisplayName("중복된 일정 id -> 입력 검증 예외 400")
+    public void reorderSchedules_with_duplicatedScheduleId() throws Exception {
+        long requestTripperId = 1L;
+        mockingForLoginUserAnnotation(requestTripperId);
+        Long tripId = 1L;
+
+        var request = new ScheduleReorderRequest(List.of(
+                new ScheduleReorderRequest.Place(2L, List.of(3L, 1L)),
+                new ScheduleReorderRequest.Place(null, List.of(1L))));
+
+        // when
+        ResultActions resultActions = runTest(tripId, createJson(request));
+
+        // then
+        resultActions
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("request-0003"))
+                .andExpect(jsonPath("$.errorMessage").exists())
+                .andExpect(jsonPath("$.errorDetail").exists())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].errorCode").value("schedule-0013"))
+                .andExpect(jsonPath("$.errors[0].errorMessage").exists())
+                .andExpect(jsonPath("$.errors[0].errorDetail").exists());
+
+        verify(scheduleReorderService, times(0)).reorderSchedules(any(ScheduleReorderCommand.class));
+    }
+
+    /**
+     * 형식이 올바르지 않은 본문을 바디에 담아 요청할 때 에러가 발생함을 검증합니다.
+     * <ul>
+     *     <li>에러 응답이 와야합니다. (400 BadRequest, 형식이 올바르지 않은 바디 관련 에러)</li>
+     *     <li>내부 의존성이 호출되지 않아야합니다.</li>
+     * </ul>
+     */
+    @Test
+    @DisplayName("타입이 올바르지 않은 요청 데이터 -> 올바르지 않은 요청 데이터 형식으로 간주하고 400 예외")
+    public void reorderSchedules_with_invalidType() throws Exception {
+        long requestTripperId = 1L;
+        mockingForLoginUserAnnotation(requestTripperId);
+        Long tripId = 1L;
+        String invalidTypeContent = """
+                {
+                    "places": [
+                        { "dayId": 1, "scheduleIds": ["숫자가 아닌 값"] }
+                    ]
+                }
+                """;
+
+        // when
+        ResultActions resultActions = runTest(tripId, invalidTypeContent);
+
+        // then
+        resultActions
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("request-0001"))
+                .andExpect(jsonPath("$.errorMessage").exists())
+                .andExpect(jsonPath("$.errorDetail").exists());
+
+        verify(scheduleReorderService, times(0)).reorderSchedules(any(ScheduleReorderCommand.class));
+    }
+
+    /**
+     * 인증된 사용자의 요청을 mocking하여 수행하고, 그 결과를 객체로 얻어옵니다.
+     * @param tripId : 여행 식별자(id)
+     * @param content : 요청 본문(body)
+     * @return 실제 요청 실행 결과
+     */
+    private ResultActions runTest(Object tripId, String content) throws Exception {
+        return mockMvc.perform(put("/api/trips/{tripId}/schedules/positions", tripId)
+                .header(HttpHeaders.AUTHORIZATION, ACCESS_TOKEN)
+                .content(content)
+                .characterEncoding(StandardCharsets.UTF_8)
+                .contentType(MediaType.APPLICATION_JSON)
+        );
+    }
+}
@@ -0,0 +1,150 @@
+package com.cosain.trilo.unit.trip.presentation.schedule.docs;
+
+import com.cosain.trilo.support.RestDocsTestSupport;
+import com.cosain.trilo.trip.application.schedule.service.schedule_reorder.ScheduleReorderCommand;
+import com.cosain.trilo.trip.application.schedule.service.schedule_reorder.ScheduleReorderPlace;
+import com.cosain.trilo.trip.application.schedule.service.schedule_reorder.ScheduleReorderResult;
+import com.cosain.trilo.trip.application.schedule.service.schedule_reorder.ScheduleReorderService;
+import com.cosain.trilo.trip.presentation.schedule.ScheduleReorderController;
+import com.cosain.trilo.trip.presentation.schedule.dto.request.ScheduleReorderRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.put;
+import static org.springframework.restdocs.payload.JsonFieldType.ARRAY;
+import static org.springframework.restdocs.payload.JsonFieldType.NUMBER;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.snippet.Attributes.key;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 일정 일괄 이동을 담당하는 Controller({@link ScheduleReorderController})의 문서화 테스트 코드 클래스입니다.
+ * @see ScheduleReorderController
+ */
+@WebMvcTest(ScheduleReorderController.class)
+@DisplayName("일정 일괄 이동 API DOCS 테스트")
+public class ScheduleReorderControllerDocsTest extends RestDocsTestSupport {
+
+    /**
+     * ScheduleReorderController의 의존성
+     */
+    @MockBean
+    private ScheduleReorderService scheduleReorderService;
+
+    /**
+     * 테스트에서 사용할 가짜 Authorization Header 값
+     */
+    private static final String ACCESS_TOKEN = "Bearer accessToken";
+
+    /**
+     * <p>일정 일괄 이동 요청을 했을 때, 컨트롤러 내부적으로 의도한 대로 동작하는 지 검증하고, 해당 API를 문서화합니다.</p>
+     * <ul>
+     *     <li>일정 일괄 이동이 성공됐다는 응답이 와야합니다. (200 OK, 본문 있음)</li>
+     *     <li>내부 의존성이 호출되어야 합니다</li>
+     * </ul>
+     */
+    @Test
+    @DisplayName("인증된 사용자의 일정 일괄 이동 요청 -> 성공")
+    void scheduleReorderDocTest() throws Exception {
+        // given
+        long requestTripperId = 1L;
+        mockingForLoginUserAnnotation(requestTripperId);
+
+        Long tripId = 1L;
+        var request = new ScheduleReorderRequest(List.of(
+                new ScheduleReorderRequest.Place(2L, List.of(3L, 1L)),
+                new ScheduleReorderRequest.Place(null, List.of(2L))));
+        var command = ScheduleReorderCommand.of(tripId, requestTripperId, List.of(
+                ScheduleReorderPlace.of(2L, List.of(3L, 1L)),
+                ScheduleReorderPlace.of(null, List.of(2L))));
+
+        given(scheduleReorderService.reorderSchedules(eq(command))).willReturn(ScheduleReorderResult.of(tripId, 3));
+
+        // when
+        ResultActions resultActions = runTest(tripId, createJson(request));
+
+        // then
+
+        // 응답 메시지 검증
+        resultActions
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tripId").value(tripId))
+                .andExpect(jsonPath("$.reorderedScheduleCount").value(3));
+
+        // 내부 의존성 호출 검증
+        verify(scheduleReorderService, times(1)).reorderSchedules(eq(command));
+
+        // 문서화
+        resultActions
+                .andDo(restDocs.document(
+                        // 요청 헤더 문서화
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION)
+                                        .description("Bearer 타입 AccessToken")
+                        ),
+                        // 요청 경로변수 문서화
+                        pathParameters(
+                                parameterWithName("tripId")
+                                        .description("일정들이 속한 여행 식별자(id)")
+                        ),
+                        // 요청 필드 문서화
+                        requestFields(
+                                fieldWithPath("places")
+                                        .type(ARRAY)
+                                        .description("도착지(Day 또는 임시보관함)별 일정 순서 목록")
+                                        .attributes(key("constraints").value("null이거나 비어있을 수 없고, 같은 도착지를 두 번 포함할 수 없음")),
+                                fieldWithPath("places[].dayId")
+                                        .type(NUMBER)
+                                        .description("도착지 Day 식별자(null일 경우 임시보관함)")
+                                        .optional(),
+                                fieldWithPath("places[].scheduleIds")
+                                        .type(ARRAY)
+                                        .description("도착지에 놓일 일정 식별자(id) 목록, 앞에서부터 순서대로")
+                                        .attributes(key("constraints").value("같은 일정을 두 번 포함할 수 없고, 도착지에 원래 있던 일정을 모두 포함해야 함. Day에는 최대 10개"))
+                        ),
+                        // 응답 필드 문서화
+                        responseFields(
+                                fieldWithPath("tripId")
+                                        .type(NUMBER)
+                                        .description("여행의 식별자(id)"),
+                                fieldWithPath("reorderedScheduleCount")
+                                        .type(NUMBER)
+                                        .description("위치가 새로 지정된 일정의 갯수")
+                        )
+                ));
+    }
+
+    /**
+     * 인증된 사용자의 요청을 mocking하여 수행하고, 그 결과를 객체로 얻어옵니다.
+     * @param tripId 여행 식별자(id)
+     * @param content 요청 본문(body)
+     * @return 실제 요청 실행 결과
+     */
+    private ResultActions runTest(Object tripId, String content) throws Exception {
+        return mockMvc.perform(put("/api/trips/{tripId}/schedules/positions", tripId)
+                .header(HttpHeaders.AUTHORIZATION, ACCESS_TOKEN)
+                .content(content)
+                .characterEncoding(StandardCharsets.UTF_8)
+                .contentType(MediaType.APPLICATION_JSON)
+        );
+    }
+}
@@ -4,6 +4,7 @@ import com.cosain.trilo.support.RestControllerTest;
 import com.cosain.trilo.trip.application.trip.service.trip_detail_search.TripDetailSearchService;
 import com.cosain.trilo.trip.domain.vo.TripStatus;
 import com.cosain.trilo.trip.application.trip.service.trip_detail_search.TripDetail;
+import com.cosain.trilo.trip.infra.dto.TripVersion;
 import com.cosain.trilo.trip.presentation.trip.SingleTripQueryController;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,12 +15,16 @@ import org.springframework.http.MediaType;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -63,4 +68,38 @@ class SingleTripQueryControllerTest extends RestControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("If-None-Match 가 현재 여행 버전의 ETag 와 같음 -> 조회 없이 304")
+    public void findSingleTrip_with_matchingETag() throws Exception {
+        // given
+        given(tripVersionQueryDAO.findVersionByTripId(1L)).willReturn(Optional.of(new TripVersion(1L, 3L)));
+
+        // when & then
+        mockMvc.perform(get("/api/trips/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"trip-1-v3\""))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"trip-1-v3\""))
+                .andExpect(content().string(""));
+
+        verify(tripDetailSearchService, never()).searchTripDetail(anyLong());
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 이전 버전의 ETag -> 200 및 현재 버전의 ETag")
+    public void findSingleTrip_with_staleETag() throws Exception {
+        // given
+        given(tripVersionQueryDAO.findVersionByTripId(1L)).willReturn(Optional.of(new TripVersion(1L, 4L)));
+        TripDetail tripDetail = new TripDetail(1L, 2L, "여행 제목", TripStatus.DECIDED, LocalDate.of(2023, 4, 4), LocalDate.of(2023, 4, 5));
+        given(tripDetailSearchService.searchTripDetail(anyLong())).willReturn(tripDetail);
+
+        // when & then
+        mockMvc.perform(get("/api/trips/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"trip-1-v3\""))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"trip-1-v4\""))
+                .andExpect(jsonPath("$.tripId").value(tripDetail.getTripId()));
+    }
+
 }
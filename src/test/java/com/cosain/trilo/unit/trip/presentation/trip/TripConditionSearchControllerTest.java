@@ -17,8 +17,12 @@ import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 
+import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(TripConditionSearchController.class)
@@ -38,8 +42,8 @@ public class TripConditionSearchControllerTest extends RestControllerTest {
         Long tripId = 1L;
         String imageURL = "https://.../image.jpg";
         TripSearchRequest.SortType sortType = TripSearchRequest.SortType.RECENT;
-        TripSearchResponse.TripSummary tripSummary1 = new TripSearchResponse.TripSummary(2L, 1L, LocalDate.of(2023, 4, 4), LocalDate.of(2023, 4, 10), "제주도 여행", imageURL);
-        TripSearchResponse.TripSummary tripSummary2 = new TripSearchResponse.TripSummary(1L, 1L, LocalDate.of(2023, 4, 4), LocalDate.of(2023, 4, 10), "제주 가보자", imageURL);
+        TripSearchResponse.TripSummary tripSummary1 = new TripSearchResponse.TripSummary(2L, 1L, LocalDate.of(2023, 4, 4), LocalDate.of(2023, 4, 10), "제주도 여행", imageURL, 12);
+        TripSearchResponse.TripSummary tripSummary2 = new TripSearchResponse.TripSummary(1L, 1L, LocalDate.of(2023, 4, 4), LocalDate.of(2023, 4, 10), "제주 가보자", imageURL, 7);
         TripSearchResponse tripSearchResponse = new TripSearchResponse(true, List.of(tripSummary1, tripSummary2));
 
         given(tripConditionSearchService.findBySearchConditions(any(TripSearchRequest.class))).willReturn(tripSearchResponse);
@@ -63,8 +67,8 @@ public class TripConditionSearchControllerTest extends RestControllerTest {
         String query = "제주";
         Long tripId = 1L;
         String imageURL = "https://.../image.jpg";
-        TripSearchResponse.TripSummary tripSummary1 = new TripSearchResponse.TripSummary(2L, 1L, LocalDate.of(2023, 4, 4), LocalDate.of(2023, 4, 10), "제주도 여행", imageURL);
-        TripSearchResponse.TripSummary tripSummary2 = new TripSearchResponse.TripSummary(1L, 1L, LocalDate.of(2023, 4, 4), LocalDate.of(2023, 4, 10), "제주 가보자", imageURL);
+        TripSearchResponse.TripSummary tripSummary1 = new TripSearchResponse.TripSummary(2L, 1L, LocalDate.of(2023, 4, 4), LocalDate.of(2023, 4, 10), "제주도 여행", imageURL, 12);
+        TripSearchResponse.TripSummary tripSummary2 = new TripSearchResponse.TripSummary(1L, 1L, LocalDate.of(2023, 4, 4), LocalDate.of(2023, 4, 10), "제주 가보자", imageURL, 7);
         TripSearchResponse tripSearchResponse = new TripSearchResponse(true, List.of(tripSummary1, tripSummary2));
 
         given(tripConditionSearchService.findBySearchConditions(any(TripSearchRequest.class))).willReturn(tripSearchResponse);
@@ -87,8 +91,8 @@ public class TripConditionSearchControllerTest extends RestControllerTest {
         Long tripId = 1L;
         String imageURL = "https://.../image.jpg";
         TripSearchRequest.SortType sortType = TripSearchRequest.SortType.RECENT;
-        TripSearchResponse.TripSummary tripSummary1 = new TripSearchResponse.TripSummary(2L, 1L, LocalDate.of(2023, 4, 4), LocalDate.of(2023, 4, 10), "제주도 여행", imageURL);
-        TripSearchResponse.TripSummary tripSummary2 = new TripSearchResponse.TripSummary(1L, 1L, LocalDate.of(2023, 4, 4), LocalDate.of(2023, 4, 10), "제주 가보자", imageURL);
+        TripSearchResponse.TripSummary tripSummary1 = new TripSearchResponse.TripSummary(2L, 1L, LocalDate.of(2023, 4, 4), LocalDate.of(2023, 4, 10), "제주도 여행", imageURL, 12);
+        TripSearchResponse.TripSummary tripSummary2 = new TripSearchResponse.TripSummary(1L, 1L, LocalDate.of(2023, 4, 4), LocalDate.of(2023, 4, 10), "제주 가보자", imageURL, 7);
         TripSearchResponse tripSearchResponse = new TripSearchResponse(true, List.of(tripSummary1, tripSummary2));
 
         given(tripConditionSearchService.findBySearchConditions(any(TripSearchRequest.class))).willReturn(tripSearchResponse);
@@ -112,8 +116,8 @@ public class TripConditionSearchControllerTest extends RestControllerTest {
         Long tripId = 1L;
         String imageURL = "https://.../image.jpg";
         TripSearchRequest.SortType sortType = TripSearchRequest.SortType.RECENT;
-        TripSearchResponse.TripSummary tripSummary1 = new TripSearchResponse.TripSummary(2L, 1L, LocalDate.of(2023, 4, 4), LocalDate.of(2023, 4, 10), "제주도 여행", imageURL);
-        TripSearchResponse.TripSummary tripSummary2 = new TripSearchResponse.TripSummary(1L, 1L, LocalDate.of(2023, 4, 4), LocalDate.of(2023, 4, 10), "제주 가보자", imageURL);
+        TripSearchResponse.TripSummary tripSummary1 = new TripSearchResponse.TripSummary(2L, 1L, LocalDate.of(2023, 4, 4), LocalDate.of(2023, 4, 10), "제주도 여행", imageURL, 12);
+        TripSearchResponse.TripSummary tripSummary2 = new TripSearchResponse.TripSummary(1L, 1L, LocalDate.of(2023, 4, 4), LocalDate.of(2023, 4, 10), "제주 가보자", imageURL, 7);
         TripSearchResponse tripSearchResponse = new TripSearchResponse(true, List.of(tripSummary1, tripSummary2));
 
         given(tripConditionSearchService.findBySearchConditions(any(TripSearchRequest.class))).willReturn(tripSearchResponse);
@@ -128,5 +132,36 @@ public class TripConditionSearchControllerTest extends RestControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isBadRequest());
     }
-}
 
+    @ParameterizedTest
+    @ValueSource(strings = {"tripId", "likeCount"})
+    void 좋아요_순_조회에서_커서를_하나만_보낼_경우_400(String cursorParam) throws Exception {
+        // when & then : tripId 와 likeCount 중 하나만 보내면 첫 페이지를 다시 조회하게 되므로 거절
+        mockMvc.perform(RestDocumentationRequestBuilders.get(BASE_URL)
+                        .param("sortType", "LIKE")
+                        .param(cursorParam, "3")
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("request-0003"))
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].errorCode").value("trip-0012"));
+
+        then(tripConditionSearchService).should(never()).findBySearchConditions(any(TripSearchRequest.class));
+    }
+
+    @Test
+    void 좋아요_순_조회에서_커서를_함께_보낼_경우_200() throws Exception {
+        // given
+        given(tripConditionSearchService.findBySearchConditions(any(TripSearchRequest.class))).willReturn(new TripSearchResponse(false, List.of()));
+
+        // when & then
+        mockMvc.perform(RestDocumentationRequestBuilders.get(BASE_URL)
+                        .param("sortType", "LIKE")
+                        .param("tripId", "10")
+                        .param("likeCount", "3")
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+    }
+}
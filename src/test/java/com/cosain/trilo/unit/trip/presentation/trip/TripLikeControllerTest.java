@@ -0,0 +1,124 @@
+package com.cosain.trilo.unit.trip.presentation.trip;
+
+import com.cosain.trilo.common.exception.trip.TripNotFoundException;
+import com.cosain.trilo.support.RestControllerTest;
+import com.cosain.trilo.trip.application.trip.service.trip_like.TripLikeService;
+import com.cosain.trilo.trip.presentation.trip.TripLikeController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 여행 좋아요를 담당하는 Controller({@link TripLikeController})의 테스트 코드 클래스입니다.
+ * @see TripLikeController
+ */
+@DisplayName("여행 좋아요 API 테스트")
+@WebMvcTest(TripLikeController.class)
+class TripLikeControllerTest extends RestControllerTest {
+
+    @MockBean
+    private TripLikeService tripLikeService;
+
+    private final static String ACCESS_TOKEN = "Bearer accessToken";
+
+    @Test
+    @DisplayName("인증된 사용자의 좋아요 요청 -> 성공 204")
+    public void likeTrip_with_authorizedUser() throws Exception {
+        // given
+        long requestUserId = 2L;
+        mockingForLoginUserAnnotation(requestUserId);
+
+        // when & then
+        mockMvc.perform(post("/api/trips/{tripId}/likes", 1L)
+                        .header(HttpHeaders.AUTHORIZATION, ACCESS_TOKEN)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isNoContent())
+                .andExpect(jsonPath("$").doesNotExist());
+
+        verify(tripLikeService, times(1)).like(eq(1L), eq(requestUserId));
+    }
+
+    @Test
+    @DisplayName("인증된 사용자의 좋아요 취소 요청 -> 성공 204")
+    public void unlikeTrip_with_authorizedUser() throws Exception {
+        // given
+        long requestUserId = 2L;
+        mockingForLoginUserAnnotation(requestUserId);
+
+        // when & then
+        mockMvc.perform(delete("/api/trips/{tripId}/likes", 1L)
+                        .header(HttpHeaders.AUTHORIZATION, ACCESS_TOKEN)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isNoContent());
+
+        verify(tripLikeService, times(1)).unlike(eq(1L), eq(requestUserId));
+    }
+
+    @Test
+    @DisplayName("미인증 사용자 요청 -> 인증 실패 401")
+    public void likeTrip_with_unauthorizedUser() throws Exception {
+        mockMvc.perform(post("/api/trips/{tripId}/likes", 1L)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.errorCode").exists());
+
+        verify(tripLikeService, times(0)).like(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 여행에 좋아요 요청 -> 404")
+    public void likeTrip_notExistTrip() throws Exception {
+        // given
+        mockingForLoginUserAnnotation(2L);
+        willThrow(new TripNotFoundException()).given(tripLikeService).like(eq(1L), eq(2L));
+
+        // when & then
+        mockMvc.perform(post("/api/trips/{tripId}/likes", 1L)
+                        .header(HttpHeaders.AUTHORIZATION, ACCESS_TOKEN)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorCode").value("trip-0001"));
+    }
+
+    @Test
+    @DisplayName("tripId으로 숫자가 아닌 문자열 주입 -> 올바르지 않은 경로 변수 타입 400 에러")
+    public void likeTrip_with_stringTripId() throws Exception {
+        // given
+        mockingForLoginUserAnnotation(2L);
+
+        // when & then
+        mockMvc.perform(post("/api/trips/{tripId}/likes", "가가가")
+                        .header(HttpHeaders.AUTHORIZATION, ACCESS_TOKEN)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("request-0004"));
+
+        verify(tripLikeService, times(0)).like(anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,100 @@
+package com.cosain.trilo.unit.trip.presentation.trip;
+
+import com.cosain.trilo.common.exception.trip.TripNotFoundException;
+import com.cosain.trilo.support.RestControllerTest;
+import com.cosain.trilo.trip.application.day.service.day_search.DayScheduleDetail;
+import com.cosain.trilo.trip.application.day.service.day_search.ScheduleSummary;
+import com.cosain.trilo.trip.application.trip.service.trip_detail_search.TripDetail;
+import com.cosain.trilo.trip.application.trip.service.trip_snapshot_search.TripSnapshot;
+import com.cosain.trilo.trip.application.trip.service.trip_snapshot_search.TripSnapshotSearchService;
+import com.cosain.trilo.trip.domain.vo.DayColor;
+import com.cosain.trilo.trip.domain.vo.TripStatus;
+import com.cosain.trilo.trip.presentation.trip.TripSnapshotQueryController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("여행 스냅샷 조회 API 테스트")
+@WebMvcTest(TripSnapshotQueryController.class)
+class TripSnapshotQueryControllerTest extends RestControllerTest {
+
+    @MockBean
+    private TripSnapshotSearchService tripSnapshotSearchService;
+    private final String ACCESS_TOKEN = "Bearer accessToken";
+
+    @Test
+    @DisplayName("인증된 사용자의 요청 -> 여행, Day 별 일정, 임시보관함이 한 번에 조회됨")
+    public void findTripSnapshot_with_authorizedUser() throws Exception {
+        // given
+        mockingForLoginUserAnnotation();
+        TripDetail tripDetail = new TripDetail(1L, 2L, "여행 제목", TripStatus.DECIDED, LocalDate.of(2023, 5, 13), LocalDate.of(2023, 5, 14));
+        ScheduleSummary daySchedule = new ScheduleSummary(10L, "일정 제목", "장소 이름", "장소 식별자", 33.33, 126.5);
+        ScheduleSummary temporarySchedule = new ScheduleSummary(11L, "임시 일정", "장소 이름", "장소 식별자", 37.5, 127.0);
+        List<DayScheduleDetail> days = List.of(
+                new DayScheduleDetail(3L, 1L, LocalDate.of(2023, 5, 13), DayColor.BLACK, List.of(daySchedule)),
+                new DayScheduleDetail(4L, 1L, LocalDate.of(2023, 5, 14), DayColor.RED, List.of()));
+        given(tripSnapshotSearchService.searchTripSnapshot(anyLong())).willReturn(TripSnapshot.of(tripDetail, days, List.of(temporarySchedule)));
+
+        // when & then
+        mockMvc.perform(get("/api/trips/1/snapshot")
+                        .header(HttpHeaders.AUTHORIZATION, ACCESS_TOKEN)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.trip.tripId").value(tripDetail.getTripId()))
+                .andExpect(jsonPath("$.trip.title").value(tripDetail.getTitle()))
+                .andExpect(jsonPath("$.trip.startDate").value(tripDetail.getStartDate().toString()))
+                .andExpect(jsonPath("$.days.length()").value(2))
+                .andExpect(jsonPath("$.days[0].date").value("2023-05-13"))
+                .andExpect(jsonPath("$.days[0].dayColor.name").value(DayColor.BLACK.name()))
+                .andExpect(jsonPath("$.days[0].schedules[0].scheduleId").value(daySchedule.getScheduleId()))
+                .andExpect(jsonPath("$.days[1].schedules.length()").value(0))
+                .andExpect(jsonPath("$.temporarySchedules[0].scheduleId").value(temporarySchedule.getScheduleId()))
+                .andExpect(jsonPath("$.temporarySchedules[0].coordinate.latitude").value(37.5));
+
+        verify(tripSnapshotSearchService).searchTripSnapshot(anyLong());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 여행 -> 404")
+    public void findTripSnapshot_with_notExistTrip() throws Exception {
+        // given
+        given(tripSnapshotSearchService.searchTripSnapshot(anyLong())).willThrow(new TripNotFoundException());
+
+        // when & then
+        mockMvc.perform(get("/api/trips/1/snapshot"))
+                .andDo(print())
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("미인증 사용자 요청 -> 200")
+    public void findTripSnapshot_with_unauthorizedUser() throws Exception {
+        // given
+        TripDetail tripDetail = new TripDetail(1L, 2L, "여행 제목", TripStatus.UNDECIDED, null, null);
+        given(tripSnapshotSearchService.searchTripSnapshot(anyLong())).willReturn(TripSnapshot.of(tripDetail, List.of(), List.of()));
+
+        // when & then
+        mockMvc.perform(get("/api/trips/1/snapshot"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.days.length()").value(0));
+    }
+}
@@ -40,8 +40,8 @@ public class TripConditionSearchControllerDocsTest extends RestDocsTestSupport {
         Long tripId = 1L;
         String imageURL = "https://.../image.jpg";
         TripSearchRequest.SortType sortType = TripSearchRequest.SortType.RECENT;
-        TripSearchResponse.TripSummary tripSummary1 = new TripSearchResponse.TripSummary(2L, 1L, LocalDate.of(2023, 4, 4), LocalDate.of(2023, 4, 10), "제주도 여행", imageURL);
-        TripSearchResponse.TripSummary tripSummary2 = new TripSearchResponse.TripSummary(1L, 1L, LocalDate.of(2023, 4, 4), LocalDate.of(2023, 4, 10), "제주 가보자", imageURL);
+        TripSearchResponse.TripSummary tripSummary1 = new TripSearchResponse.TripSummary(2L, 1L, LocalDate.of(2023, 4, 4), LocalDate.of(2023, 4, 10), "제주도 여행", imageURL, 12);
+        TripSearchResponse.TripSummary tripSummary2 = new TripSearchResponse.TripSummary(1L, 1L, LocalDate.of(2023, 4, 4), LocalDate.of(2023, 4, 10), "제주 가보자", imageURL, 7);
         TripSearchResponse tripSearchResponse = new TripSearchResponse(true, List.of(tripSummary1, tripSummary2));
 
         given(tripConditionSearchService.findBySearchConditions(any(TripSearchRequest.class))).willReturn(tripSearchResponse);
@@ -57,7 +57,8 @@ public class TripConditionSearchControllerDocsTest extends RestDocsTestSupport {
                 .andExpect(status().isOk())
                 .andDo(restDocs.document(
                         queryParameters(
-                                parameterWithName("tripId").optional().description("최신순 조회 시 기준이 되는 여행 ID"),
+                                parameterWithName("tripId").optional().description("커서, 직전 페이지 마지막 여행 ID"),
+                                parameterWithName("likeCount").optional().description("좋아요순 조회 시 커서, 직전 페이지 마지막 여행의 좋아요 수 (tripId 와 함께 전달)"),
                                 parameterWithName("size").optional().description("가져올 데이터의 개수, 기본값 : 8"),
                                 parameterWithName("sortType").optional().description("정렬 기준 RECENT(기본값), LIKE"),
                                 parameterWithName("query").optional().description("검색어")
@@ -72,7 +73,8 @@ public class TripConditionSearchControllerDocsTest extends RestDocsTestSupport {
                                 fieldWithPath("tripperId").type(NUMBER).description("여행자 ID"),
                                 fieldWithPath("title").type(STRING).description("여행 제목"),
                                 fieldWithPath("period").type(NUMBER).description("여행 기간"),
-                                fieldWithPath("imageURL").type(STRING).description("이미지가 저장된 URL(경로)")
+                                fieldWithPath("imageURL").type(STRING).description("이미지가 저장된 URL(경로)"),
+                                fieldWithPath("likeCount").type(NUMBER).description("좋아요 수 (최대 몇 초 늦게 반영될 수 있음)")
                         )
                 ));
     }
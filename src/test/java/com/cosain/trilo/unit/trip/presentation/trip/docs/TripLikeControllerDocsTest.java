@@ -0,0 +1,67 @@
+package com.cosain.trilo.unit.trip.presentation.trip.docs;
+
+import com.cosain.trilo.support.RestDocsTestSupport;
+import com.cosain.trilo.trip.application.trip.service.trip_like.TripLikeService;
+import com.cosain.trilo.trip.presentation.trip.TripLikeController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 여행 좋아요를 담당하는 Controller({@link TripLikeController})의 문서화 테스트 코드 클래스입니다.
+ * @see TripLikeController
+ */
+@WebMvcTest(TripLikeController.class)
+@DisplayName("여행 좋아요 API DOCS 테스트")
+public class TripLikeControllerDocsTest extends RestDocsTestSupport {
+
+    @MockBean
+    private TripLikeService tripLikeService;
+
+    private final String ACCESS_TOKEN = "Bearer accessToken";
+
+    @Test
+    @DisplayName("인증된 사용자의 여행 좋아요 요청 -> 성공")
+    void tripLikeDocTest() throws Exception {
+        // given
+        long requestUserId = 2L;
+        mockingForLoginUserAnnotation(requestUserId);
+        long tripId = 1L;
+
+        // when & then
+        mockMvc.perform(post("/api/trips/{tripId}/likes", tripId)
+                        .header(HttpHeaders.AUTHORIZATION, ACCESS_TOKEN)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isNoContent())
+                .andDo(restDocs.document(
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION)
+                                        .description("Bearer 타입 AccessToken")
+                        ),
+                        pathParameters(
+                                parameterWithName("tripId")
+                                        .description("좋아요 할 여행 식별자(id)")
+                        )
+                ));
+
+        verify(tripLikeService, times(1)).like(eq(tripId), eq(requestUserId));
+    }
+}
@@ -0,0 +1,86 @@
+package com.cosain.trilo.unit.trip.presentation.trip.docs;
+
+import com.cosain.trilo.support.RestDocsTestSupport;
+import com.cosain.trilo.trip.application.day.service.day_search.DayScheduleDetail;
+import com.cosain.trilo.trip.application.day.service.day_search.ScheduleSummary;
+import com.cosain.trilo.trip.application.trip.service.trip_detail_search.TripDetail;
+import com.cosain.trilo.trip.application.trip.service.trip_snapshot_search.TripSnapshot;
+import com.cosain.trilo.trip.application.trip.service.trip_snapshot_search.TripSnapshotSearchService;
+import com.cosain.trilo.trip.domain.vo.DayColor;
+import com.cosain.trilo.trip.domain.vo.TripStatus;
+import com.cosain.trilo.trip.presentation.trip.TripSnapshotQueryController;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.payload.JsonFieldType.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TripSnapshotQueryController.class)
+public class TripSnapshotQueryControllerDocsTest extends RestDocsTestSupport {
+
+    @MockBean
+    private TripSnapshotSearchService tripSnapshotSearchService;
+    private final String ACCESS_TOKEN = "Bearer accessToken";
+
+    @Test
+    void 여행_스냅샷_조회() throws Exception {
+        Long tripId = 1L;
+        mockingForLoginUserAnnotation();
+        TripDetail tripDetail = new TripDetail(tripId, 2L, "여행 제목", TripStatus.DECIDED, LocalDate.of(2023, 5, 13), LocalDate.of(2023, 5, 13));
+        ScheduleSummary daySchedule = new ScheduleSummary(1L, "제목", "장소 이름", "장소 식별자", 33.33, 33.33);
+        ScheduleSummary temporarySchedule = new ScheduleSummary(2L, "제목", "장소 이름", "장소 식별자", 33.33, 33.33);
+        DayScheduleDetail dayScheduleDetail = new DayScheduleDetail(1L, tripId, LocalDate.of(2023, 5, 13), DayColor.BLACK, List.of(daySchedule));
+
+        given(tripSnapshotSearchService.searchTripSnapshot(tripId)).willReturn(TripSnapshot.of(tripDetail, List.of(dayScheduleDetail), List.of(temporarySchedule)));
+
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/api/trips/{tripId}/snapshot", tripId)
+                        .header(HttpHeaders.AUTHORIZATION, ACCESS_TOKEN)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andDo(restDocs.document(
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION)
+                                        .description("Bearer 타입 AccessToken")
+                        ),
+                        pathParameters(
+                                parameterWithName("tripId").description("조회할 여행 ID")
+                        ),
+                        responseFields(
+                                subsectionWithPath("trip").type("Trip").description("여행 정보 (하단 표 참고)"),
+                                subsectionWithPath("days").type(ARRAY).description("Day 목록 (날짜 오름차순, Trip 의 Day 목록 조회와 같은 형식)"),
+                                subsectionWithPath("temporarySchedules").type("Schedule[]").description("임시보관함 일정 전체 (순서 오름차순, 하단 표 참고)")
+                        ),
+                        responseFields(beneathPath("trip").withSubsectionId("trip"),
+                                fieldWithPath("tripId").type(NUMBER).description("여행 ID"),
+                                fieldWithPath("tripperId").type(NUMBER).description("여행자 ID"),
+                                fieldWithPath("title").type(STRING).description("여행 제목"),
+                                fieldWithPath("status").type(STRING).description("여행 상태"),
+                                fieldWithPath("startDate").type(STRING).description("여행 시작 날짜"),
+                                fieldWithPath("endDate").type(STRING).description("여행 끝 날짜")
+                        ),
+                        responseFields(beneathPath("temporarySchedules").withSubsectionId("temporarySchedules"),
+                                fieldWithPath("[].scheduleId").type(NUMBER).description("일정 ID"),
+                                fieldWithPath("[].title").type(STRING).description("일정 제목"),
+                                fieldWithPath("[].placeName").type(STRING).description("장소 이름"),
+                                fieldWithPath("[].placeId").type(STRING).description("장소 ID"),
+                                fieldWithPath("[].coordinate.latitude").type(NUMBER).description("위도"),
+                                fieldWithPath("[].coordinate.longitude").type(NUMBER).description("경도")
+                        )
+                ));
+    }
+}
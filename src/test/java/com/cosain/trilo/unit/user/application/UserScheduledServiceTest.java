@@ -1,7 +1,7 @@
 package com.cosain.trilo.unit.user.application;
 
 import com.cosain.trilo.user.application.UserScheduledService;
-import com.cosain.trilo.user.domain.UserRepository;
+import com.cosain.trilo.user.infra.WithdrawnUserPurgeJob;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -17,14 +17,14 @@ public class UserScheduledServiceTest {
     @InjectMocks
     private UserScheduledService userScheduledService;
     @Mock
-    private UserRepository userRepository;
+    private WithdrawnUserPurgeJob withdrawnUserPurgeJob;
 
     @Test
-    void 정해진_시간에_회원_벌크_삭제_실행(){
+    void 정해진_시간에_탈퇴_회원_삭제_작업_실행(){
         // when
         userScheduledService.deleteAllUserWithDelFlag();
 
         // then
-        verify(userRepository, times(1)).deleteAllWhereIsDelTrue();
+        verify(withdrawnUserPurgeJob, times(1)).run();
     }
 }
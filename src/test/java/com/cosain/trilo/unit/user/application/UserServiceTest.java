@@ -69,34 +69,18 @@ public class UserServiceTest {
         }
 
         @Test
-        void 신규_회원일_경우_저장(){
+        void 이메일_기준_upsert_후_사용자_id를_반환한다(){
             // given
-            User user = mock(User.class);
-            given(userRepository.findByEmail(eq(email))).willReturn(Optional.empty());
-            given(userRepository.save(any(User.class))).willReturn(user);
+            given(userRepository.upsert(any(User.class))).willReturn(1L);
 
             // when
             Long userId = userService.createOrUpdate(oAuthProfileDto);
 
             // then
-            assertThat(userId).isEqualTo(user.getId());
-            verify(userRepository, times(1)).save(any(User.class));
-        }
-
-        @Test
-        void 기존_회원일_경우_업데이트_후_저장(){
-            // given
-            User user = mock(User.class);
-            given(userRepository.findByEmail(eq(email))).willReturn(Optional.ofNullable(user));
-            given(userRepository.save(any(User.class))).willReturn(user);
-
-            // when
-            Long userId = userService.createOrUpdate(oAuthProfileDto);
-
-            // then
-            assertThat(userId).isEqualTo(user.getId());
-            verify(user, times(1)).updateUserByOauthProfile(any());
-            verify(userRepository, times(1)).save(eq(user));
+            assertThat(userId).isEqualTo(1L);
+            verify(userRepository, times(1)).upsert(argThat(user ->
+                    user.getEmail().equals(email) && user.getNickName().equals("김규성") && !user.isDeleted()));
+            verify(userRepository, never()).findByEmail(any());
         }
     }
 
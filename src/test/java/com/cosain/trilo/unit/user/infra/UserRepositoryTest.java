@@ -83,4 +83,63 @@ class UserRepositoryTest extends RepositoryTest {
         assertThat(optionalUserB.isEmpty()).isTrue();
         assertThat(optionalUserC.isPresent()).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    void 신규_이메일로_upsert하면_사용자를_생성한다(){
+        // given
+        User user = UserFixture.kakaoUser_NullId();
+
+        // when
+        Long userId = userRepository.upsert(user);
+        em.clear();
+
+        // then
+        User findUser = userRepository.findById(userId).orElseThrow();
+        assertThat(findUser.getEmail()).isEqualTo(user.getEmail());
+        assertThat(findUser.isDeleted()).isFalse();
+    }
+
+    @Test
+    void 기존_이메일로_upsert하면_프로필을_갱신하고_탈퇴를_취소한다(){
+        // given
+        User existingUser = UserFixture.kakaoUser_NullId();
+        existingUser.proceedWithdrawal();
+        userRepository.save(existingUser);
+        em.flush();
+        em.clear();
+
+        User loginUser = User.builder()
+                .nickName("새닉네임")
+                .email(existingUser.getEmail())
+                .profileImageUrl("new-profile-image-url")
+                .authProvider(existingUser.getAuthProvider())
+                .role(existingUser.getRole())
+                .build();
+
+        // when
+        Long userId = userRepository.upsert(loginUser);
+        em.clear();
+
+        // then
+        assertThat(userId).isEqualTo(existingUser.getId());
+        User findUser = userRepository.findById(userId).orElseThrow();
+        assertThat(findUser.getNickName()).isEqualTo("새닉네임");
+        assertThat(findUser.getProfileImageURL()).isEqualTo("new-profile-image-url");
+        assertThat(findUser.isDeleted()).isFalse();
+    }
+
+    @Test
+    void 변경사항이_없는_upsert도_기존_사용자_id를_반환한다(){
+        // given
+        User existingUser = UserFixture.kakaoUser_NullId();
+        userRepository.save(existingUser);
+        em.flush();
+        em.clear();
+
+        // when
+        Long userId = userRepository.upsert(existingUser);
+
+        // then
+        assertThat(userId).isEqualTo(existingUser.getId());
+    }
+}